@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index;
+
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.mapper.DocumentMapper;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.ParsedDocument;
+import org.opensearch.index.mapper.SourceToParse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to parse a batch of documents into Lucene documents with the mapping of their corpus.
+ */
+@Warmup(iterations = 5)
+@Measurement(iterations = 7)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class DocumentParserBenchmark {
+
+    @Param({ "LOGS", "METRICS" })
+    private IndexingCorpus corpus;
+
+    @Param({ "1000" })
+    private int numDocs;
+
+    private MapperService mapperService;
+    private DocumentMapper documentMapper;
+    private List<BytesReference> documents;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapperService = IndexingFixtures.mapperService(IndexingFixtures.indexSettings(Settings.EMPTY), corpus);
+        documentMapper = mapperService.documentMapper();
+        documents = corpus.documents(numDocs, 42L);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        mapperService.close();
+    }
+
+    @Benchmark
+    public void parse(Blackhole bh) {
+        for (int i = 0; i < documents.size(); i++) {
+            ParsedDocument doc = documentMapper.parse(
+                new SourceToParse(
+                    IndexingFixtures.INDEX_NAME,
+                    MapperService.SINGLE_MAPPING_NAME,
+                    Integer.toString(i),
+                    documents.get(i),
+                    XContentType.JSON
+                )
+            );
+            bh.consume(doc);
+        }
+    }
+}
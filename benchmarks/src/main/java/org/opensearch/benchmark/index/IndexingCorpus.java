@@ -0,0 +1,255 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index;
+
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic document corpora that are shaped like the log and metrics data that is typically indexed: a handful of keyword
+ * fields with a low cardinality, a timestamp that increases from document to document, some numbers and, for logs, a free
+ * text message. The documents are generated from a seed so that the same corpus is indexed by all the runs of a benchmark.
+ */
+public enum IndexingCorpus {
+    /**
+     * Web server access logs and application logs.
+     */
+    LOGS {
+        @Override
+        void mapping(XContentBuilder builder) throws IOException {
+            builder.startObject("properties");
+            field(builder, "@timestamp", "date");
+            object(builder, "host", "name", "keyword");
+            field(builder, "service", "keyword");
+            object(builder, "log", "level", "keyword");
+            field(builder, "message", "text");
+            builder.startObject("http").startObject("properties");
+            field(builder, "method", "keyword");
+            field(builder, "status", "short");
+            field(builder, "bytes", "long");
+            builder.endObject().endObject();
+            object(builder, "url", "path", "keyword");
+            object(builder, "client", "ip", "ip");
+            field(builder, "duration_ms", "long");
+            builder.endObject();
+        }
+
+        @Override
+        void document(XContentBuilder builder, Random random, long timestamp) throws IOException {
+            final String method = HTTP_METHODS[random.nextInt(HTTP_METHODS.length)];
+            final String path = URL_PATHS[random.nextInt(URL_PATHS.length)] + "/" + random.nextInt(10000);
+            final int status = HTTP_STATUSES[random.nextInt(HTTP_STATUSES.length)];
+            final long bytes = random.nextInt(100000);
+            final String ip = "10." + random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(256);
+            final String level = status >= 500 ? "error" : status >= 400 ? "warn" : "info";
+            final StringBuilder message = new StringBuilder();
+            message.append(ip).append(" - - \"").append(method).append(' ').append(path).append(" HTTP/1.1\" ")
+                .append(status).append(' ').append(bytes);
+            final int words = 5 + random.nextInt(20);
+            for (int i = 0; i < words; i++) {
+                message.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+            }
+
+            builder.startObject();
+            builder.field("@timestamp", Instant.ofEpochMilli(timestamp).toString());
+            builder.startObject("host").field("name", "host-" + random.nextInt(50)).endObject();
+            builder.field("service", SERVICES[random.nextInt(SERVICES.length)]);
+            builder.startObject("log").field("level", level).endObject();
+            builder.field("message", message.toString());
+            builder.startObject("http").field("method", method).field("status", status).field("bytes", bytes).endObject();
+            builder.startObject("url").field("path", path).endObject();
+            builder.startObject("client").field("ip", ip).endObject();
+            builder.field("duration_ms", random.nextInt(5000));
+            builder.endObject();
+        }
+    },
+    /**
+     * Host metrics, as sampled periodically by an agent.
+     */
+    METRICS {
+        @Override
+        void mapping(XContentBuilder builder) throws IOException {
+            builder.startObject("properties");
+            field(builder, "@timestamp", "date");
+            object(builder, "host", "name", "keyword");
+            object(builder, "metricset", "name", "keyword");
+            builder.startObject("system").startObject("properties");
+            builder.startObject("cpu").startObject("properties");
+            field(builder, "user_pct", "float");
+            field(builder, "system_pct", "float");
+            field(builder, "idle_pct", "float");
+            field(builder, "cores", "integer");
+            builder.endObject().endObject();
+            builder.startObject("memory").startObject("properties");
+            field(builder, "total_bytes", "long");
+            field(builder, "used_bytes", "long");
+            field(builder, "used_pct", "float");
+            builder.endObject().endObject();
+            builder.startObject("diskio").startObject("properties");
+            field(builder, "read_bytes", "long");
+            field(builder, "write_bytes", "long");
+            field(builder, "iops", "long");
+            builder.endObject().endObject();
+            builder.endObject().endObject();
+            field(builder, "tags", "keyword");
+            builder.endObject();
+        }
+
+        @Override
+        void document(XContentBuilder builder, Random random, long timestamp) throws IOException {
+            final float user = random.nextFloat() * 0.7f;
+            final float system = random.nextFloat() * (1f - user) * 0.5f;
+            final long totalMemory = (8L + random.nextInt(4) * 8L) << 30;
+            final long usedMemory = (long) (totalMemory * random.nextDouble());
+
+            builder.startObject();
+            builder.field("@timestamp", Instant.ofEpochMilli(timestamp).toString());
+            builder.startObject("host").field("name", "host-" + random.nextInt(50)).endObject();
+            builder.startObject("metricset").field("name", METRICSETS[random.nextInt(METRICSETS.length)]).endObject();
+            builder.startObject("system");
+            builder.startObject("cpu")
+                .field("user_pct", user)
+                .field("system_pct", system)
+                .field("idle_pct", 1f - user - system)
+                .field("cores", 4 << random.nextInt(4))
+                .endObject();
+            builder.startObject("memory")
+                .field("total_bytes", totalMemory)
+                .field("used_bytes", usedMemory)
+                .field("used_pct", usedMemory / (float) totalMemory)
+                .endObject();
+            builder.startObject("diskio")
+                .field("read_bytes", random.nextInt(1 << 30))
+                .field("write_bytes", random.nextInt(1 << 30))
+                .field("iops", random.nextInt(10000))
+                .endObject();
+            builder.endObject();
+            builder.startArray("tags");
+            final int tags = 1 + random.nextInt(3);
+            for (int i = 0; i < tags; i++) {
+                builder.value(TAGS[random.nextInt(TAGS.length)]);
+            }
+            builder.endArray();
+            builder.endObject();
+        }
+    };
+
+    private static final String[] HTTP_METHODS = { "GET", "GET", "GET", "GET", "POST", "POST", "PUT", "DELETE", "HEAD" };
+    private static final int[] HTTP_STATUSES = { 200, 200, 200, 200, 200, 200, 201, 204, 301, 304, 400, 403, 404, 404, 500, 503 };
+    private static final String[] URL_PATHS = {
+        "/api/v1/products",
+        "/api/v1/orders",
+        "/api/v1/users",
+        "/api/v2/search",
+        "/static/css",
+        "/static/js",
+        "/images",
+        "/login",
+        "/checkout" };
+    private static final String[] SERVICES = { "frontend", "checkout", "payment", "inventory", "search", "auth", "shipping" };
+    private static final String[] METRICSETS = { "cpu", "memory", "diskio", "load", "network" };
+    private static final String[] TAGS = { "production", "staging", "eu-west-1", "us-east-1", "ap-south-1", "canary", "k8s" };
+    private static final String[] WORDS = {
+        "request",
+        "completed",
+        "failed",
+        "user",
+        "session",
+        "timeout",
+        "connection",
+        "retry",
+        "cache",
+        "miss",
+        "hit",
+        "upstream",
+        "response",
+        "latency",
+        "exceeded",
+        "threshold",
+        "queued",
+        "processed",
+        "rejected",
+        "authenticated",
+        "token",
+        "expired",
+        "database",
+        "query",
+        "slow",
+        "payload",
+        "invalid",
+        "checksum",
+        "worker",
+        "started" };
+
+    // 2021-01-01T00:00:00Z
+    private static final long START_TIMESTAMP = 1609459200000L;
+
+    /**
+     * Writes the mapping of the documents of this corpus, without the type, to the given builder.
+     */
+    abstract void mapping(XContentBuilder builder) throws IOException;
+
+    /**
+     * Writes a document of this corpus to the given builder.
+     */
+    abstract void document(XContentBuilder builder, Random random, long timestamp) throws IOException;
+
+    /**
+     * The mapping of the documents of this corpus, for the given type.
+     */
+    public String mapping(String type) {
+        try {
+            XContentBuilder builder = XContentFactory.jsonBuilder();
+            builder.startObject().startObject(type);
+            mapping(builder);
+            builder.endObject().endObject();
+            return BytesReference.bytes(builder).utf8ToString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Generates the JSON sources of the given number of documents of this corpus.
+     */
+    public List<BytesReference> documents(int count, long seed) {
+        final Random random = new Random(seed);
+        final List<BytesReference> documents = new ArrayList<>(count);
+        long timestamp = START_TIMESTAMP;
+        try {
+            for (int i = 0; i < count; i++) {
+                XContentBuilder builder = XContentFactory.jsonBuilder();
+                document(builder, random, timestamp);
+                documents.add(BytesReference.bytes(builder));
+                timestamp += random.nextInt(100);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return documents;
+    }
+
+    private static void field(XContentBuilder builder, String name, String type) throws IOException {
+        builder.startObject(name).field("type", type).endObject();
+    }
+
+    private static void object(XContentBuilder builder, String name, String field, String type) throws IOException {
+        builder.startObject(name).startObject("properties");
+        field(builder, field, type);
+        builder.endObject().endObject();
+    }
+}
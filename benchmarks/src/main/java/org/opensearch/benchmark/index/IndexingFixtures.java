@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.compress.CompressedXContent;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.env.ShardLock;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.analysis.AnalyzerScope;
+import org.opensearch.index.analysis.IndexAnalyzers;
+import org.opensearch.index.analysis.NamedAnalyzer;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.indices.IndicesModule;
+
+import java.io.IOException;
+import java.util.Collections;
+
+/**
+ * Builds the index level components that the indexing benchmarks need, without a node.
+ */
+public final class IndexingFixtures {
+
+    public static final String INDEX_NAME = "benchmark";
+
+    private IndexingFixtures() {}
+
+    /**
+     * The settings of a single shard index without replicas, with the given additional index settings.
+     */
+    public static IndexSettings indexSettings(Settings settings) {
+        final IndexMetadata indexMetadata = IndexMetadata.builder(INDEX_NAME)
+            .settings(
+                Settings.builder()
+                    .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                    .put(IndexMetadata.SETTING_INDEX_UUID, UUIDs.randomBase64UUID())
+                    .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                    .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                    .put(settings)
+            )
+            .build();
+        return new IndexSettings(indexMetadata, Settings.EMPTY);
+    }
+
+    /**
+     * A mapper service that has the mapping of the given corpus.
+     */
+    public static MapperService mapperService(IndexSettings indexSettings, IndexingCorpus corpus) throws IOException {
+        final NamedAnalyzer defaultAnalyzer = new NamedAnalyzer("default", AnalyzerScope.INDEX, new StandardAnalyzer());
+        final IndexAnalyzers indexAnalyzers = new IndexAnalyzers(
+            Collections.singletonMap("default", defaultAnalyzer),
+            Collections.emptyMap(),
+            Collections.emptyMap()
+        );
+        final MapperService mapperService = new MapperService(
+            indexSettings,
+            indexAnalyzers,
+            NamedXContentRegistry.EMPTY,
+            new SimilarityService(indexSettings, null, Collections.emptyMap()),
+            new IndicesModule(Collections.emptyList()).getMapperRegistry(),
+            () -> null,
+            () -> false,
+            null
+        );
+        mapperService.merge(
+            MapperService.SINGLE_MAPPING_NAME,
+            new CompressedXContent(corpus.mapping(MapperService.SINGLE_MAPPING_NAME)),
+            MapperService.MergeReason.MAPPING_UPDATE
+        );
+        return mapperService;
+    }
+
+    /**
+     * A shard lock that doesn't lock anything, as the benchmarks own their shard directories.
+     */
+    public static ShardLock noopShardLock(ShardId shardId) {
+        return new ShardLock(shardId) {
+            @Override
+            protected void closeInternal() {}
+        };
+    }
+}
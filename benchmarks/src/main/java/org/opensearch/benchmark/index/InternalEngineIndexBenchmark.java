@@ -0,0 +1,202 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.lucene.uid.Versions;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.VersionType;
+import org.opensearch.index.codec.CodecService;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.engine.EngineConfig;
+import org.opensearch.index.engine.InternalEngine;
+import org.opensearch.index.mapper.IdFieldMapper;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.ParsedDocument;
+import org.opensearch.index.mapper.SourceToParse;
+import org.opensearch.index.mapper.Uid;
+import org.opensearch.index.seqno.RetentionLeases;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.Store;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.index.translog.TranslogConfig;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.threadpool.ThreadPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time for an {@link InternalEngine} to index a batch of already parsed documents into an in-memory directory,
+ * which includes the version map, the sequence numbers, the translog and the Lucene index writer. Each batch is indexed into a
+ * new engine so that the cost doesn't depend on how many batches were indexed before.
+ */
+@Warmup(iterations = 5)
+@Measurement(iterations = 7)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class InternalEngineIndexBenchmark {
+
+    private static final long PRIMARY_TERM = 1L;
+
+    @Param({ "LOGS", "METRICS" })
+    private IndexingCorpus corpus;
+
+    @Param({ "10000" })
+    private int numDocs;
+
+    /**
+     * Whether the documents are indexed like documents with auto-generated ids, which skips the version lookups.
+     */
+    @Param({ "true", "false" })
+    private boolean autoGeneratedIds;
+
+    private ThreadPool threadPool;
+    private IndexSettings indexSettings;
+    private MapperService mapperService;
+    private List<ParsedDocument> documents;
+
+    private Path translogPath;
+    private InternalEngine engine;
+
+    @Setup
+    public void setUp() throws IOException {
+        threadPool = new ThreadPool(Settings.builder().put("node.name", "benchmark").build());
+        indexSettings = IndexingFixtures.indexSettings(Settings.EMPTY);
+        mapperService = IndexingFixtures.mapperService(indexSettings, corpus);
+        final List<BytesReference> sources = corpus.documents(numDocs, 42L);
+        documents = new ArrayList<>(numDocs);
+        for (int i = 0; i < numDocs; i++) {
+            documents.add(
+                mapperService.documentMapper()
+                    .parse(
+                        new SourceToParse(
+                            IndexingFixtures.INDEX_NAME,
+                            MapperService.SINGLE_MAPPING_NAME,
+                            Integer.toString(i),
+                            sources.get(i),
+                            XContentType.JSON
+                        )
+                    )
+            );
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        IOUtils.close(mapperService);
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+    }
+
+    @Setup(Level.Invocation)
+    public void createEngine() throws IOException {
+        final ShardId shardId = new ShardId(indexSettings.getIndex(), 0);
+        final Store store = new Store(shardId, indexSettings, new ByteBuffersDirectory(), IndexingFixtures.noopShardLock(shardId));
+        translogPath = Files.createTempDirectory("translog");
+        store.createEmpty(indexSettings.getIndexVersionCreated().luceneVersion);
+        final String translogUUID = Translog.createEmptyTranslog(translogPath, SequenceNumbers.NO_OPS_PERFORMED, shardId, PRIMARY_TERM);
+        store.associateIndexWithNewTranslog(translogUUID);
+        final EngineConfig config = new EngineConfig(
+            shardId,
+            threadPool,
+            indexSettings,
+            null,
+            store,
+            indexSettings.getMergePolicy(),
+            mapperService.indexAnalyzer(),
+            IndexSearcher.getDefaultSimilarity(),
+            new CodecService(null, LogManager.getLogger(InternalEngineIndexBenchmark.class)),
+            new Engine.EventListener() {
+            },
+            IndexSearcher.getDefaultQueryCache(),
+            IndexSearcher.getDefaultQueryCachingPolicy(),
+            new TranslogConfig(shardId, translogPath, indexSettings, BigArrays.NON_RECYCLING_INSTANCE),
+            TimeValue.timeValueMinutes(5),
+            Collections.emptyList(),
+            Collections.emptyList(),
+            null,
+            new NoneCircuitBreakerService(),
+            () -> SequenceNumbers.NO_OPS_PERFORMED,
+            () -> RetentionLeases.EMPTY,
+            () -> PRIMARY_TERM,
+            new EngineConfig.TombstoneDocSupplier() {
+                @Override
+                public ParsedDocument newDeleteTombstoneDoc(String type, String id) {
+                    throw new UnsupportedOperationException("the benchmark only indexes documents");
+                }
+
+                @Override
+                public ParsedDocument newNoopTombstoneDoc(String reason) {
+                    throw new UnsupportedOperationException("the benchmark only indexes documents");
+                }
+            }
+        );
+        engine = new InternalEngine(config);
+        engine.recoverFromTranslog((recoveringEngine, snapshot) -> 0, Long.MAX_VALUE);
+    }
+
+    @TearDown(Level.Invocation)
+    public void closeEngine() throws IOException {
+        IOUtils.close(engine, engine.config().getStore());
+        IOUtils.rm(translogPath);
+    }
+
+    @Benchmark
+    public void index(Blackhole bh) throws IOException {
+        for (ParsedDocument document : documents) {
+            final Engine.Index operation = new Engine.Index(
+                new Term(IdFieldMapper.NAME, Uid.encodeId(document.id())),
+                document,
+                SequenceNumbers.UNASSIGNED_SEQ_NO,
+                PRIMARY_TERM,
+                Versions.MATCH_ANY,
+                VersionType.INTERNAL,
+                Engine.Operation.Origin.PRIMARY,
+                System.nanoTime(),
+                autoGeneratedIds ? System.currentTimeMillis() : IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP,
+                false,
+                SequenceNumbers.UNASSIGNED_SEQ_NO,
+                0
+            );
+            bh.consume(engine.index(operation));
+        }
+    }
+}
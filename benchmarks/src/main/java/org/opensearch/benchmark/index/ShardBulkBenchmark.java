@@ -0,0 +1,228 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index;
+
+import org.apache.lucene.store.FSDirectory;
+import org.opensearch.Version;
+import org.opensearch.action.bulk.BulkItemRequest;
+import org.opensearch.action.bulk.BulkShardRequest;
+import org.opensearch.action.bulk.BulkShardResponse;
+import org.opensearch.action.bulk.TransportShardBulkAction;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.action.support.replication.TransportReplicationAction;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodeRole;
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
+import org.opensearch.cluster.routing.RecoverySource;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.UnassignedInfo;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.transport.TransportAddress;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.cache.IndexCache;
+import org.opensearch.index.cache.query.DisabledQueryCache;
+import org.opensearch.index.engine.InternalEngineFactory;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.seqno.RetentionLeaseSyncer;
+import org.opensearch.index.shard.IndexEventListener;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.shard.ShardPath;
+import org.opensearch.index.similarity.SimilarityService;
+import org.opensearch.index.store.Store;
+import org.opensearch.indices.breaker.NoneCircuitBreakerService;
+import org.opensearch.indices.recovery.RecoveryState;
+import org.opensearch.indices.replication.checkpoint.SegmentReplicationCheckpointPublisher;
+import org.opensearch.threadpool.ThreadPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the execution of the items of a bulk shard request on a started primary shard, like the write thread pool does it:
+ * each item is parsed with the mapping of the shard and indexed into its engine, on disk. The mapping of the corpus is complete
+ * so that no item needs a mapping update.
+ * <p>
+ * The shard isn't refreshed while it is measured. It is refreshed between iterations so that the version map of the engine
+ * doesn't grow indefinitely when the documents have explicit ids.
+ */
+@Warmup(iterations = 5)
+@Measurement(iterations = 7)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class ShardBulkBenchmark {
+
+    private static final String NODE_ID = "benchmark";
+
+    @Param({ "LOGS", "METRICS" })
+    private IndexingCorpus corpus;
+
+    @Param({ "100", "1000" })
+    private int bulkSize;
+
+    @Param({ "true", "false" })
+    private boolean autoGeneratedIds;
+
+    private ThreadPool threadPool;
+    private Path dataPath;
+    private MapperService mapperService;
+    private Store store;
+    private IndexShard shard;
+    private List<BytesReference> sources;
+    private long nextDocument;
+
+    @Setup
+    public void setUp() throws IOException {
+        threadPool = new ThreadPool(Settings.builder().put("node.name", NODE_ID).build());
+        dataPath = Files.createTempDirectory("shard");
+        sources = corpus.documents(10000, 42L);
+
+        final IndexSettings indexSettings = IndexingFixtures.indexSettings(Settings.EMPTY);
+        final ShardId shardId = new ShardId(indexSettings.getIndex(), 0);
+        final Path shardDataPath = dataPath.resolve(indexSettings.getUUID()).resolve(Integer.toString(shardId.id()));
+        final ShardPath shardPath = new ShardPath(false, shardDataPath, shardDataPath, shardId);
+        mapperService = IndexingFixtures.mapperService(indexSettings, corpus);
+        store = new Store(
+            shardId,
+            indexSettings,
+            FSDirectory.open(Files.createDirectories(shardPath.resolveIndex())),
+            IndexingFixtures.noopShardLock(shardId)
+        );
+
+        final ShardRouting routing = ShardRouting.newUnassigned(
+            shardId,
+            true,
+            RecoverySource.EmptyStoreRecoverySource.INSTANCE,
+            new UnassignedInfo(UnassignedInfo.Reason.INDEX_CREATED, "benchmark")
+        ).initialize(NODE_ID, null, -1);
+        shard = new IndexShard(
+            routing,
+            indexSettings,
+            shardPath,
+            store,
+            () -> null,
+            new IndexCache(indexSettings, new DisabledQueryCache(indexSettings), null),
+            mapperService,
+            new SimilarityService(indexSettings, null, Collections.emptyMap()),
+            new InternalEngineFactory(),
+            null,
+            new IndexEventListener() {
+            },
+            null,
+            threadPool,
+            BigArrays.NON_RECYCLING_INSTANCE,
+            reader -> {},
+            Collections.emptyList(),
+            Collections.emptyList(),
+            () -> {},
+            RetentionLeaseSyncer.EMPTY,
+            SegmentReplicationCheckpointPublisher.EMPTY,
+            null,
+            new NoneCircuitBreakerService()
+        );
+
+        final DiscoveryNode localNode = new DiscoveryNode(
+            NODE_ID,
+            NODE_ID,
+            new TransportAddress(InetAddress.getLoopbackAddress(), 9300),
+            Collections.emptyMap(),
+            DiscoveryNodeRole.BUILT_IN_ROLES,
+            Version.CURRENT
+        );
+        shard.markAsRecovering("store", new RecoveryState(routing, localNode, null));
+        final PlainActionFuture<Boolean> recovered = PlainActionFuture.newFuture();
+        shard.recoverFromStore(recovered);
+        recovered.actionGet();
+        final ShardRouting started = routing.moveToStarted();
+        shard.updateShardState(
+            started,
+            shard.getPendingPrimaryTerm(),
+            null,
+            1L,
+            Collections.singleton(started.allocationId().getId()),
+            new IndexShardRoutingTable.Builder(shardId).addShard(started).build()
+        );
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try {
+            IOUtils.close(() -> shard.close("benchmark", false), store, mapperService);
+            IOUtils.rm(dataPath);
+        } finally {
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void refresh() {
+        shard.refresh("benchmark");
+    }
+
+    @Benchmark
+    public BulkShardResponse performOnPrimary() {
+        final BulkItemRequest[] items = new BulkItemRequest[bulkSize];
+        for (int i = 0; i < bulkSize; i++) {
+            final long document = nextDocument++;
+            final IndexRequest request = new IndexRequest(IndexingFixtures.INDEX_NAME).source(
+                sources.get((int) (document % sources.size())),
+                XContentType.JSON
+            );
+            if (autoGeneratedIds) {
+                request.process(Version.CURRENT, null, IndexingFixtures.INDEX_NAME);
+            } else {
+                request.id(Long.toString(document));
+            }
+            items[i] = new BulkItemRequest(i, request);
+        }
+        final BulkShardRequest bulkShardRequest = new BulkShardRequest(shard.shardId(), WriteRequest.RefreshPolicy.NONE, items);
+        final PlainActionFuture<TransportReplicationAction.PrimaryResult<BulkShardRequest, BulkShardResponse>> future = PlainActionFuture
+            .newFuture();
+        TransportShardBulkAction.performOnPrimary(
+            bulkShardRequest,
+            shard,
+            null,
+            threadPool::absoluteTimeInMillis,
+            (update, shardId, type, listener) -> listener.onFailure(
+                new IllegalStateException("unexpected mapping update for [" + type + "]: " + update)
+            ),
+            listener -> listener.onFailure(new IllegalStateException("unexpected wait for a mapping update")),
+            future,
+            threadPool,
+            ThreadPool.Names.WRITE
+        );
+        return future.actionGet().finalResponseIfSuccessful;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.index.mapper.Uid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the operations of the {@link LiveVersionMap} that the engine performs when documents are indexed with explicit ids:
+ * the lookup of the current version of a document and the put of its new version, under the lock of its uid. The map is
+ * refreshed periodically, like it is when the engine refreshes, so that its size stays realistic.
+ * <p>
+ * This benchmark is in the package of the engine because the version map is package-private.
+ */
+@Warmup(iterations = 5)
+@Measurement(iterations = 7)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1)
+public class LiveVersionMapBenchmark {
+
+    @Param({ "10000" })
+    private int numUids;
+
+    @Param({ "1000", "100000" })
+    private int refreshInterval;
+
+    @Param({ "false", "true" })
+    private boolean packed;
+
+    private LiveVersionMap versionMap;
+    private BytesRef[] uids;
+    private long seqNo;
+    private int sinceRefresh;
+
+    @Setup
+    public void setUp() {
+        versionMap = new LiveVersionMap(packed);
+        versionMap.enforceSafeAccess();
+        final Random random = new Random(42L);
+        uids = new BytesRef[numUids];
+        for (int i = 0; i < numUids; i++) {
+            uids[i] = Uid.encodeId(UUIDs.randomBase64UUID(random));
+        }
+    }
+
+    @Benchmark
+    public void put() throws IOException {
+        for (BytesRef uid : uids) {
+            try (Releasable ignored = versionMap.acquireLock(uid)) {
+                versionMap.putIndexUnderLock(uid, new IndexVersionValue(null, 1, seqNo++, 1));
+            }
+            maybeRefresh();
+        }
+    }
+
+    @Benchmark
+    public void getAndPut(Blackhole bh) throws IOException {
+        for (BytesRef uid : uids) {
+            try (Releasable ignored = versionMap.acquireLock(uid)) {
+                final VersionValue current = versionMap.getUnderLock(uid);
+                bh.consume(current);
+                final long version = current == null ? 1 : current.version + 1;
+                versionMap.putIndexUnderLock(uid, new IndexVersionValue(null, version, seqNo++, 1));
+            }
+            maybeRefresh();
+        }
+    }
+
+    private void maybeRefresh() throws IOException {
+        if (++sinceRefresh >= refreshInterval) {
+            versionMap.beforeRefresh();
+            versionMap.afterRefresh(true);
+            sinceRefresh = 0;
+        }
+    }
+}
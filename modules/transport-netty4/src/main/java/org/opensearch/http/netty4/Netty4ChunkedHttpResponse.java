@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http.netty4;
+
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import org.opensearch.http.HttpResponse;
+import org.opensearch.rest.ChunkedRestResponseBody;
+import org.opensearch.rest.RestStatus;
+
+/**
+ * A response that is sent with a chunked transfer encoding: the {@link Netty4HttpPipeliningHandler} writes its headers, then encodes
+ * and writes the chunks of its body while the channel is writable.
+ */
+public class Netty4ChunkedHttpResponse extends DefaultHttpResponse implements HttpResponse {
+
+    private final HttpHeaders requestHeaders;
+    private final ChunkedRestResponseBody body;
+
+    Netty4ChunkedHttpResponse(HttpHeaders requestHeaders, HttpVersion version, RestStatus status, ChunkedRestResponseBody body) {
+        super(version, HttpResponseStatus.valueOf(status.getStatus()));
+        this.requestHeaders = requestHeaders;
+        this.body = body;
+        HttpUtil.setTransferEncodingChunked(this, true);
+    }
+
+    public ChunkedRestResponseBody body() {
+        return body;
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        headers().add(name, value);
+    }
+
+    @Override
+    public boolean containsHeader(String name) {
+        return headers().contains(name);
+    }
+
+    public HttpHeaders requestHeaders() {
+        return requestHeaders;
+    }
+}
@@ -35,22 +35,45 @@ package org.opensearch.http.netty4;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.LastHttpContent;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.http.HttpPipelinedRequest;
 import org.opensearch.http.HttpPipelinedResponse;
 import org.opensearch.http.HttpPipeliningAggregator;
+import org.opensearch.http.HttpResponse;
+import org.opensearch.rest.ChunkedRestResponseBody;
+import org.opensearch.transport.netty4.Netty4Utils;
 
 import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * Implements HTTP pipelining ordering, ensuring that responses are completely served in the same order as their corresponding requests.
+ * <p>
+ * The chunks of a {@link Netty4ChunkedHttpResponse} are encoded on an executor, one at a time, and written on the event loop while the
+ * channel is writable. The responses that follow it are held until its last chunk is written. If the executor rejects the encoding of a
+ * chunk, the response is failed like if the encoding failed.
  */
 public class Netty4HttpPipeliningHandler extends ChannelDuplexHandler {
 
     private final Logger logger;
     private final HttpPipeliningAggregator<ChannelPromise> aggregator;
+    private final BigArrays bigArrays;
+    private final Executor chunkEncoder;
+
+    // the responses that are ready to be written, in order
+    private final ArrayDeque<Tuple<HttpPipelinedResponse, ChannelPromise>> queuedResponses = new ArrayDeque<>();
+    // the chunked response whose chunks are being written, if any
+    private ChunkedWrite currentChunkedWrite;
 
     /**
      * Construct a new pipelining handler; this handler should be used downstream of HTTP decoding/aggregation.
@@ -60,8 +83,23 @@ public class Netty4HttpPipeliningHandler extends ChannelDuplexHandler {
      *                      required as events cannot queue up indefinitely
      */
     public Netty4HttpPipeliningHandler(Logger logger, final int maxEventsHeld) {
+        this(logger, maxEventsHeld, BigArrays.NON_RECYCLING_INSTANCE, OpenSearchExecutors.newDirectExecutorService());
+    }
+
+    /**
+     * Construct a new pipelining handler; this handler should be used downstream of HTTP decoding/aggregation.
+     *
+     * @param logger        for logging unexpected errors
+     * @param maxEventsHeld the maximum number of channel events that will be retained prior to aborting the channel connection; this is
+     *                      required as events cannot queue up indefinitely
+     * @param bigArrays     to allocate the pages of the chunks of chunked responses
+     * @param chunkEncoder  to encode the chunks of chunked responses, so that the event loop only writes them
+     */
+    public Netty4HttpPipeliningHandler(Logger logger, final int maxEventsHeld, BigArrays bigArrays, Executor chunkEncoder) {
         this.logger = logger;
         this.aggregator = new HttpPipeliningAggregator<>(maxEventsHeld);
+        this.bigArrays = bigArrays;
+        this.chunkEncoder = chunkEncoder;
     }
 
     @Override
@@ -78,10 +116,9 @@ public class Netty4HttpPipeliningHandler extends ChannelDuplexHandler {
         boolean success = false;
         try {
             List<Tuple<HttpPipelinedResponse, ChannelPromise>> readyResponses = aggregator.write(response, promise);
-            for (Tuple<HttpPipelinedResponse, ChannelPromise> readyResponse : readyResponses) {
-                ctx.write(readyResponse.v1().getDelegateRequest(), readyResponse.v2());
-            }
+            queuedResponses.addAll(readyResponses);
             success = true;
+            writeQueuedResponses(ctx);
         } catch (IllegalStateException e) {
             ctx.channel().close();
         } finally {
@@ -91,8 +128,133 @@ public class Netty4HttpPipeliningHandler extends ChannelDuplexHandler {
         }
     }
 
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) {
+        if (ctx.channel().isWritable()) {
+            writeQueuedResponses(ctx);
+            ctx.flush();
+        }
+        ctx.fireChannelWritabilityChanged();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        failQueuedResponses();
+        ctx.fireChannelInactive();
+    }
+
+    private void writeQueuedResponses(ChannelHandlerContext ctx) {
+        while (true) {
+            if (currentChunkedWrite != null) {
+                if (currentChunkedWrite.encoding) {
+                    // the responses are written again once the chunk is encoded
+                    return;
+                }
+                if (ctx.channel().isWritable() == false) {
+                    // the chunks are written again once the channel becomes writable
+                    ctx.flush();
+                    return;
+                }
+                if (currentChunkedWrite.body.isDone()) {
+                    ctx.write(LastHttpContent.EMPTY_LAST_CONTENT, currentChunkedWrite.promise);
+                    currentChunkedWrite = null;
+                } else {
+                    encodeNextChunk(ctx, currentChunkedWrite);
+                }
+            } else if (queuedResponses.isEmpty() == false) {
+                final Tuple<HttpPipelinedResponse, ChannelPromise> queuedResponse = queuedResponses.poll();
+                final HttpResponse response = queuedResponse.v1().getDelegateRequest();
+                if (response instanceof Netty4ChunkedHttpResponse) {
+                    ctx.write(response);
+                    currentChunkedWrite = new ChunkedWrite(((Netty4ChunkedHttpResponse) response).body(), queuedResponse.v2());
+                } else {
+                    ctx.write(response, queuedResponse.v2());
+                }
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void encodeNextChunk(ChannelHandlerContext ctx, ChunkedWrite chunkedWrite) {
+        chunkedWrite.encoding = true;
+        ctx.flush();
+        chunkEncoder.execute(new AbstractRunnable() {
+            @Override
+            protected void doRun() throws Exception {
+                final ReleasableBytesReference chunk = chunkedWrite.body.encodeChunk(ChunkedRestResponseBody.CHUNK_SIZE_HINT, bigArrays);
+                boolean success = false;
+                try {
+                    ctx.executor().execute(() -> onChunkEncoded(ctx, chunkedWrite, chunk));
+                    success = true;
+                } finally {
+                    if (success == false) {
+                        chunk.close();
+                    }
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                logger.warn("failed to encode a chunk of an http response", e);
+                ctx.executor().execute(() -> onChunkEncodingFailure(ctx, chunkedWrite, e));
+            }
+
+            @Override
+            public void onRejection(Exception e) {
+                // the executor is overloaded, the response is failed rather than queueing more work or blocking the event loop
+                logger.debug("rejected the encoding of a chunk of an http response", e);
+                ctx.executor().execute(() -> onChunkEncodingFailure(ctx, chunkedWrite, e));
+            }
+        });
+    }
+
+    private void onChunkEncoded(ChannelHandlerContext ctx, ChunkedWrite chunkedWrite, ReleasableBytesReference chunk) {
+        chunkedWrite.encoding = false;
+        if (chunkedWrite != currentChunkedWrite) {
+            // the channel was closed while the chunk was encoded
+            chunk.close();
+            return;
+        }
+        ctx.write(new DefaultHttpContent(Netty4Utils.toByteBuf(chunk))).addListener(future -> chunk.close());
+        writeQueuedResponses(ctx);
+        ctx.flush();
+    }
+
+    private void onChunkEncodingFailure(ChannelHandlerContext ctx, ChunkedWrite chunkedWrite, Exception e) {
+        chunkedWrite.encoding = false;
+        if (chunkedWrite != currentChunkedWrite) {
+            return;
+        }
+        currentChunkedWrite = null;
+        chunkedWrite.promise.tryFailure(e);
+        // the status and the headers of the response were sent already, so closing the channel is the only way to fail it
+        ctx.channel().close();
+    }
+
+    private void failQueuedResponses() {
+        final List<ChannelPromise> promises = new ArrayList<>();
+        if (currentChunkedWrite != null) {
+            promises.add(currentChunkedWrite.promise);
+            currentChunkedWrite = null;
+        }
+        for (Tuple<HttpPipelinedResponse, ChannelPromise> queuedResponse : queuedResponses) {
+            promises.add(queuedResponse.v2());
+        }
+        queuedResponses.clear();
+        final ClosedChannelException closedChannelException = new ClosedChannelException();
+        for (ChannelPromise promise : promises) {
+            try {
+                promise.tryFailure(closedChannelException);
+            } catch (RuntimeException e) {
+                logger.error("unexpected error while releasing queued http responses", e);
+            }
+        }
+    }
+
     @Override
     public void close(ChannelHandlerContext ctx, ChannelPromise promise) {
+        failQueuedResponses();
         List<Tuple<HttpPipelinedResponse, ChannelPromise>> inflightResponses = aggregator.removeAllInflightResponses();
 
         if (inflightResponses.isEmpty() == false) {
@@ -107,4 +269,16 @@ public class Netty4HttpPipeliningHandler extends ChannelDuplexHandler {
         }
         ctx.close(promise);
     }
+
+    private static final class ChunkedWrite {
+        private final ChunkedRestResponseBody body;
+        private final ChannelPromise promise;
+        // whether a chunk of the body is being encoded, only accessed on the event loop
+        private boolean encoding;
+
+        private ChunkedWrite(ChunkedRestResponseBody body, ChannelPromise promise) {
+            this.body = body;
+            this.promise = promise;
+        }
+    }
 }
@@ -334,7 +334,9 @@ public class Netty4HttpServerTransport extends AbstractHttpServerTransport {
             }
             ch.pipeline().addLast("request_creator", requestCreator);
             ch.pipeline().addLast("response_creator", responseCreator);
-            ch.pipeline().addLast("pipelining", new Netty4HttpPipeliningHandler(logger, transport.pipeliningMaxEvents));
+            ch.pipeline().addLast("pipelining",
+                new Netty4HttpPipeliningHandler(logger, transport.pipeliningMaxEvents, transport.bigArrays,
+                    transport.threadPool.executor(ThreadPool.Names.SEARCH)));
             ch.pipeline().addLast("handler", requestHandler);
             transport.serverAcceptedChannel(nettyHttpChannel);
         }
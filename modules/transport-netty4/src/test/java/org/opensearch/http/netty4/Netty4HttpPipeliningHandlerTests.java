@@ -39,18 +39,26 @@ import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.codec.http.QueryStringDecoder;
 import org.opensearch.common.Randomness;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
 import org.opensearch.http.HttpPipelinedRequest;
 import org.opensearch.http.HttpPipelinedResponse;
 import org.opensearch.http.HttpResponse;
+import org.opensearch.rest.ChunkedRestResponseBody;
 import org.opensearch.rest.RestStatus;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.After;
 
+import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -61,11 +69,15 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static io.netty.handler.codec.http.HttpHeaderNames.CONTENT_LENGTH;
 import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.core.Is.is;
 
 public class Netty4HttpPipeliningHandlerTests extends OpenSearchTestCase {
@@ -218,6 +230,92 @@ public class Netty4HttpPipeliningHandlerTests extends OpenSearchTestCase {
     }
 
 
+    public void testEncodesChunksOffTheEventLoop() {
+        final List<Runnable> encodings = new ArrayList<>();
+        final EmbeddedChannel embeddedChannel =
+            new EmbeddedChannel(new Netty4HttpPipeliningHandler(logger, 1, BigArrays.NON_RECYCLING_INSTANCE, encodings::add));
+        embeddedChannel.writeInbound(createHttpRequest("/0"));
+        final HttpPipelinedRequest request = embeddedChannel.readInbound();
+
+        final List<String> chunks = randomList(1, 5, () -> randomAlphaOfLength(10));
+        final ChannelPromise promise = embeddedChannel.newPromise();
+        embeddedChannel.writeAndFlush(request.createChunkedResponse(RestStatus.OK, new TestChunkedBody(chunks, chunks.size())), promise);
+        assertThat(embeddedChannel.outboundMessages().poll(), instanceOf(Netty4ChunkedHttpResponse.class));
+        for (String chunk : chunks) {
+            // nothing is written until the executor encodes the next chunk
+            assertNull(embeddedChannel.outboundMessages().poll());
+            assertThat(encodings, hasSize(1));
+            encodings.remove(0).run();
+            embeddedChannel.runPendingTasks();
+            final HttpContent content = (HttpContent) embeddedChannel.outboundMessages().poll();
+            assertThat(content, not(instanceOf(LastHttpContent.class)));
+            assertEquals(chunk, content.content().toString(StandardCharsets.UTF_8));
+        }
+        assertThat(embeddedChannel.outboundMessages().poll(), instanceOf(LastHttpContent.class));
+        assertTrue(promise.isSuccess());
+        assertTrue(encodings.isEmpty());
+        assertTrue(embeddedChannel.isOpen());
+    }
+
+    public void testClosesChannelWhenChunkEncodingFails() {
+        final List<Runnable> encodings = new ArrayList<>();
+        final EmbeddedChannel embeddedChannel =
+            new EmbeddedChannel(new Netty4HttpPipeliningHandler(logger, 2, BigArrays.NON_RECYCLING_INSTANCE, encodings::add));
+        embeddedChannel.writeInbound(createHttpRequest("/0"));
+        embeddedChannel.writeInbound(createHttpRequest("/1"));
+        final HttpPipelinedRequest chunkedRequest = embeddedChannel.readInbound();
+        final HttpPipelinedRequest nextRequest = embeddedChannel.readInbound();
+
+        final List<String> chunks = randomList(2, 5, () -> randomAlphaOfLength(10));
+        final int failingChunk = randomIntBetween(1, chunks.size() - 1);
+        final ChannelPromise chunkedPromise = embeddedChannel.newPromise();
+        embeddedChannel.writeAndFlush(chunkedRequest.createChunkedResponse(RestStatus.OK, new TestChunkedBody(chunks, failingChunk)),
+            chunkedPromise);
+        final ChannelPromise nextPromise = embeddedChannel.newPromise();
+        embeddedChannel.writeAndFlush(nextRequest.createResponse(RestStatus.OK, BytesArray.EMPTY), nextPromise);
+        for (int i = 0; i <= failingChunk; i++) {
+            assertThat(encodings, hasSize(1));
+            encodings.remove(0).run();
+            embeddedChannel.runPendingTasks();
+        }
+
+        // the status and the headers were sent already, so the response is failed by closing the channel
+        assertFalse(embeddedChannel.isOpen());
+        assertThat(chunkedPromise.cause(), instanceOf(IOException.class));
+        assertThat(nextPromise.cause(), instanceOf(ClosedChannelException.class));
+        assertTrue(encodings.isEmpty());
+    }
+
+    public void testClosesChannelWhenChunkEncodingIsRejected() {
+        final List<Runnable> encodings = new ArrayList<>();
+        final AtomicBoolean reject = new AtomicBoolean();
+        final EmbeddedChannel embeddedChannel = new EmbeddedChannel(new Netty4HttpPipeliningHandler(logger, 1,
+            BigArrays.NON_RECYCLING_INSTANCE, runnable -> {
+                if (reject.get()) {
+                    // like a thread pool executor whose queue is full
+                    ((AbstractRunnable) runnable).onRejection(new OpenSearchRejectedExecutionException("simulated"));
+                } else {
+                    encodings.add(runnable);
+                }
+            }));
+        embeddedChannel.writeInbound(createHttpRequest("/0"));
+        final HttpPipelinedRequest request = embeddedChannel.readInbound();
+
+        final List<String> chunks = randomList(2, 5, () -> randomAlphaOfLength(10));
+        final ChannelPromise promise = embeddedChannel.newPromise();
+        embeddedChannel.writeAndFlush(request.createChunkedResponse(RestStatus.OK, new TestChunkedBody(chunks, chunks.size())), promise);
+        assertThat(embeddedChannel.outboundMessages().poll(), instanceOf(Netty4ChunkedHttpResponse.class));
+        assertThat(encodings, hasSize(1));
+        reject.set(true);
+        encodings.remove(0).run();
+        embeddedChannel.runPendingTasks();
+        embeddedChannel.runPendingTasks();
+
+        assertFalse(embeddedChannel.isOpen());
+        assertThat(promise.cause(), instanceOf(OpenSearchRejectedExecutionException.class));
+        assertTrue(encodings.isEmpty());
+    }
+
     private void assertReadHttpMessageHasContent(EmbeddedChannel embeddedChannel, String expectedContent) {
         FullHttpResponse response = (FullHttpResponse) embeddedChannel.outboundMessages().poll();
         assertNotNull("Expected response to exist, maybe you did not wait long enough?", response);
@@ -230,6 +328,39 @@ public class Netty4HttpPipeliningHandlerTests extends OpenSearchTestCase {
         return new Netty4HttpRequest(new DefaultFullHttpRequest(HTTP_1_1, HttpMethod.GET, uri));
     }
 
+    /**
+     * A body with one chunk per string, whose encoding fails at the given chunk.
+     */
+    private static class TestChunkedBody implements ChunkedRestResponseBody {
+
+        private final List<String> chunks;
+        private final int failingChunk;
+        private int nextChunk;
+
+        TestChunkedBody(List<String> chunks, int failingChunk) {
+            this.chunks = chunks;
+            this.failingChunk = failingChunk;
+        }
+
+        @Override
+        public boolean isDone() {
+            return nextChunk == chunks.size();
+        }
+
+        @Override
+        public ReleasableBytesReference encodeChunk(int sizeHint, BigArrays bigArrays) throws IOException {
+            if (nextChunk == failingChunk) {
+                throw new IOException("simulated");
+            }
+            return new ReleasableBytesReference(new BytesArray(chunks.get(nextChunk++)), () -> {});
+        }
+
+        @Override
+        public String getResponseContentTypeString() {
+            return "text/plain";
+        }
+    }
+
     private class WorkEmulatorHandler extends SimpleChannelInboundHandler<HttpPipelinedRequest> {
 
         @Override
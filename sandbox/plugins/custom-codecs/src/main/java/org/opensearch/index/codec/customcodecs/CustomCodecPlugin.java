@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.customcodecs;
+
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.index.IndexModule;
+import org.opensearch.index.engine.EngineConfig;
+import org.opensearch.plugins.Plugin;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Adds the {@code ZSTD} and {@code ZSTDNODICT} values of {@code index.codec}, which compress stored fields with zstd at the
+ * level given by {@code index.codec.compression_level}.
+ */
+public class CustomCodecPlugin extends Plugin {
+
+    /**
+     * The zstd compression level of the stored fields of the indices that use one of the zstd codecs. Higher levels compress
+     * better but index more slowly, the level doesn't change how fast documents are read back.
+     */
+    public static final Setting<Integer> INDEX_CODEC_COMPRESSION_LEVEL_SETTING = Setting.intSetting(
+        "index.codec.compression_level",
+        Lucene87CustomCodec.DEFAULT_COMPRESSION_LEVEL,
+        1,
+        22,
+        Property.IndexScope
+    );
+
+    @Override
+    public List<Setting<?>> getSettings() {
+        return Collections.singletonList(INDEX_CODEC_COMPRESSION_LEVEL_SETTING);
+    }
+
+    @Override
+    public void onIndexModule(IndexModule indexModule) {
+        final String codec = EngineConfig.INDEX_CODEC_SETTING.get(indexModule.getSettings());
+        if (ZstdCodec.NAME.equals(codec) || ZstdNoDictCodec.NAME.equals(codec)) {
+            indexModule.setCodecServiceFactory(new CustomCodecServiceFactory());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.customcodecs;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.lucene87.Lucene87Codec;
+import org.opensearch.index.codec.CodecService;
+import org.opensearch.index.codec.CodecServiceConfig;
+import org.opensearch.index.codec.CodecServiceFactory;
+import org.opensearch.index.codec.PerFieldMappingPostingFormatCodec;
+import org.opensearch.index.mapper.MapperService;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Creates the {@link CodecService} of the indices that use one of the zstd codecs, whose codecs write with the
+ * compression level of the index and keep the per-field formats of its mappings.
+ */
+public class CustomCodecServiceFactory implements CodecServiceFactory {
+
+    @Override
+    public CodecService createCodecService(CodecServiceConfig config) {
+        final MapperService mapperService = config.getMapperService();
+        final Logger logger = config.getLogger();
+        final int compressionLevel = CustomCodecPlugin.INDEX_CODEC_COMPRESSION_LEVEL_SETTING.get(config.getIndexSettings().getSettings());
+        final Map<String, Codec> codecs = new HashMap<>();
+        codecs.put(ZstdCodec.NAME, new ZstdCodec(compressionLevel, delegate(mapperService, logger)));
+        codecs.put(ZstdNoDictCodec.NAME, new ZstdNoDictCodec(compressionLevel, delegate(mapperService, logger)));
+        return new CodecService(mapperService, logger, codecs);
+    }
+
+    private static Codec delegate(MapperService mapperService, Logger logger) {
+        if (mapperService == null) {
+            return new Lucene87Codec();
+        }
+        return new PerFieldMappingPostingFormatCodec(Lucene87Codec.Mode.BEST_SPEED, mapperService, logger);
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.customcodecs;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.FilterCodec;
+import org.apache.lucene.codecs.StoredFieldsFormat;
+import org.apache.lucene.codecs.lucene87.Lucene87Codec;
+
+/**
+ * The base of the codecs that compress stored fields with zstd and delegate every other format. Lucene instantiates them
+ * through SPI with the default compression level to read segments, the level only matters when writing, so the instances
+ * that write are created by {@link CustomCodecServiceFactory} with the level of the index.
+ */
+public abstract class Lucene87CustomCodec extends FilterCodec {
+
+    public static final int DEFAULT_COMPRESSION_LEVEL = 3;
+
+    /** The compression modes of the stored fields. */
+    public enum Mode {
+        /** zstd with a preset dictionary shared by the sub-blocks of a block */
+        ZSTD,
+        /** zstd without a dictionary */
+        ZSTD_NO_DICT
+    }
+
+    private final Lucene87CustomStoredFieldsFormat storedFieldsFormat;
+
+    Lucene87CustomCodec(String name, Mode mode) {
+        this(name, mode, DEFAULT_COMPRESSION_LEVEL, new Lucene87Codec());
+    }
+
+    Lucene87CustomCodec(String name, Mode mode, int compressionLevel, Codec delegate) {
+        super(name, delegate);
+        this.storedFieldsFormat = new Lucene87CustomStoredFieldsFormat(mode, compressionLevel);
+    }
+
+    @Override
+    public StoredFieldsFormat storedFieldsFormat() {
+        return storedFieldsFormat;
+    }
+
+    public int getCompressionLevel() {
+        return storedFieldsFormat.getCompressionLevel();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.customcodecs;
+
+import org.apache.lucene.codecs.StoredFieldsFormat;
+import org.apache.lucene.codecs.StoredFieldsReader;
+import org.apache.lucene.codecs.StoredFieldsWriter;
+import org.apache.lucene.codecs.compressing.CompressingStoredFieldsFormat;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * A {@link StoredFieldsFormat} that compresses blocks of stored fields with zstd. The mode a segment was written with is
+ * recorded in its attributes, so that segments can be read back whatever the mode of the codec that opens them.
+ */
+public class Lucene87CustomStoredFieldsFormat extends StoredFieldsFormat {
+
+    /** The segment attribute that records the {@link Lucene87CustomCodec.Mode} of the stored fields. */
+    public static final String MODE_KEY = Lucene87CustomStoredFieldsFormat.class.getSimpleName() + ".mode";
+
+    // the block sizes of Lucene's best compression mode, with larger blocks the dictionary pays off
+    private static final int BLOCK_LENGTH = 10 * 48 * 1024;
+    private static final int MAX_DOCS_PER_BLOCK = 4096;
+    private static final int BLOCK_SHIFT = 10;
+
+    private final Lucene87CustomCodec.Mode mode;
+    private final int compressionLevel;
+
+    public Lucene87CustomStoredFieldsFormat(Lucene87CustomCodec.Mode mode, int compressionLevel) {
+        this.mode = Objects.requireNonNull(mode);
+        this.compressionLevel = compressionLevel;
+    }
+
+    @Override
+    public StoredFieldsReader fieldsReader(Directory directory, SegmentInfo si, FieldInfos fn, IOContext context) throws IOException {
+        final String value = si.getAttribute(MODE_KEY);
+        if (value == null) {
+            throw new IllegalStateException("missing value for " + MODE_KEY + " for segment: " + si.name);
+        }
+        return impl(Lucene87CustomCodec.Mode.valueOf(value)).fieldsReader(directory, si, fn, context);
+    }
+
+    @Override
+    public StoredFieldsWriter fieldsWriter(Directory directory, SegmentInfo si, IOContext context) throws IOException {
+        final String previous = si.putAttribute(MODE_KEY, mode.name());
+        if (previous != null && previous.equals(mode.name()) == false) {
+            throw new IllegalStateException(
+                "found existing value for " + MODE_KEY + " for segment: " + si.name + " old=" + previous + ", new=" + mode.name()
+            );
+        }
+        return impl(mode).fieldsWriter(directory, si, context);
+    }
+
+    private StoredFieldsFormat impl(Lucene87CustomCodec.Mode mode) {
+        switch (mode) {
+            case ZSTD:
+                return new CompressingStoredFieldsFormat(
+                    "CustomStoredFieldsZstd",
+                    new ZstdCompressionMode(compressionLevel),
+                    BLOCK_LENGTH,
+                    MAX_DOCS_PER_BLOCK,
+                    BLOCK_SHIFT
+                );
+            case ZSTD_NO_DICT:
+                return new CompressingStoredFieldsFormat(
+                    "CustomStoredFieldsZstdNoDict",
+                    new ZstdNoDictCompressionMode(compressionLevel),
+                    BLOCK_LENGTH,
+                    MAX_DOCS_PER_BLOCK,
+                    BLOCK_SHIFT
+                );
+            default:
+                throw new AssertionError("unknown mode: " + mode);
+        }
+    }
+
+    Lucene87CustomCodec.Mode getMode() {
+        return mode;
+    }
+
+    int getCompressionLevel() {
+        return compressionLevel;
+    }
+}
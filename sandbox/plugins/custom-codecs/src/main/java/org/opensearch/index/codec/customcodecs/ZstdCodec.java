@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.customcodecs;
+
+import org.apache.lucene.codecs.Codec;
+
+/**
+ * The {@code ZSTD} codec, which compresses stored fields with zstd with a preset dictionary per block, see {@link ZstdCompressionMode}.
+ */
+public class ZstdCodec extends Lucene87CustomCodec {
+
+    public static final String NAME = "ZSTD";
+
+    public ZstdCodec() {
+        super(NAME, Mode.ZSTD);
+    }
+
+    public ZstdCodec(int compressionLevel, Codec delegate) {
+        super(NAME, Mode.ZSTD, compressionLevel, delegate);
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.customcodecs;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdDecompressCtx;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.util.Native;
+import org.apache.lucene.codecs.compressing.CompressionMode;
+import org.apache.lucene.codecs.compressing.Compressor;
+import org.apache.lucene.codecs.compressing.Decompressor;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+
+import java.io.IOException;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+
+/**
+ * A {@link CompressionMode} that compresses blocks with zstd. Like Lucene's high compression mode, the first
+ * {@value #DICT_SIZE_FACTOR}th of each block is compressed on its own and then used as a preset dictionary for the
+ * {@value #NUM_SUB_BLOCKS} sub-blocks that the rest of the block is split in, so that a document can be read without
+ * decompressing the whole block.
+ */
+public class ZstdCompressionMode extends CompressionMode {
+
+    private static final int NUM_SUB_BLOCKS = 10;
+    private static final int DICT_SIZE_FACTOR = 6;
+
+    static {
+        ensureNativeLibraryLoaded();
+    }
+
+    /**
+     * zstd-jni extracts and loads its native library on first use, which needs permissions that the code that writes and
+     * reads segments doesn't have.
+     */
+    static void ensureNativeLibraryLoaded() {
+        AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+            Native.load();
+            return null;
+        });
+    }
+
+    private final int compressionLevel;
+
+    /** Creates a compression mode with the default compression level, the level doesn't matter for decompression. */
+    public ZstdCompressionMode() {
+        this(Lucene87CustomCodec.DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    public ZstdCompressionMode(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    @Override
+    public Compressor newCompressor() {
+        return new ZstdCompressor(compressionLevel);
+    }
+
+    @Override
+    public Decompressor newDecompressor() {
+        return new ZstdDecompressor();
+    }
+
+    @Override
+    public String toString() {
+        return "ZSTD(level=" + compressionLevel + ")";
+    }
+
+    private static final class ZstdCompressor extends Compressor {
+
+        private final int compressionLevel;
+        private byte[] compressedBuffer = BytesRef.EMPTY_BYTES;
+
+        ZstdCompressor(int compressionLevel) {
+            this.compressionLevel = compressionLevel;
+        }
+
+        private void compress(ZstdCompressCtx compressCtx, byte[] bytes, int offset, int length, DataOutput out) throws IOException {
+            if (length == 0) {
+                out.writeVInt(0);
+                return;
+            }
+            compressedBuffer = ArrayUtil.grow(compressedBuffer, (int) Zstd.compressBound(length));
+            final int compressedLength = compressCtx.compressByteArray(
+                compressedBuffer,
+                0,
+                compressedBuffer.length,
+                bytes,
+                offset,
+                length
+            );
+            out.writeVInt(compressedLength);
+            out.writeBytes(compressedBuffer, compressedLength);
+        }
+
+        @Override
+        public void compress(byte[] bytes, int offset, int length, DataOutput out) throws IOException {
+            final int dictLength = length / (NUM_SUB_BLOCKS * DICT_SIZE_FACTOR);
+            final int blockLength = (length - dictLength + NUM_SUB_BLOCKS - 1) / NUM_SUB_BLOCKS;
+            out.writeVInt(dictLength);
+            out.writeVInt(blockLength);
+
+            final int end = offset + length;
+            // blocks that are too small to have a dictionary are compressed without one
+            try (
+                ZstdCompressCtx compressCtx = new ZstdCompressCtx();
+                ZstdDictCompress dict = dictLength == 0 ? null : new ZstdDictCompress(bytes, offset, dictLength, compressionLevel)
+            ) {
+                compressCtx.setLevel(compressionLevel);
+                compress(compressCtx, bytes, offset, dictLength, out);
+                if (dict != null) {
+                    compressCtx.loadDict(dict);
+                }
+                for (int start = offset + dictLength; start < end; start += blockLength) {
+                    compress(compressCtx, bytes, start, Math.min(blockLength, end - start), out);
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {}
+    }
+
+    private static final class ZstdDecompressor extends Decompressor {
+
+        private byte[] compressedBuffer = BytesRef.EMPTY_BYTES;
+
+        private void decompress(DataInput in, ZstdDecompressCtx decompressCtx, int length, BytesRef bytes) throws IOException {
+            final int compressedLength = in.readVInt();
+            if (compressedLength == 0) {
+                return;
+            }
+            compressedBuffer = ArrayUtil.grow(compressedBuffer, compressedLength);
+            in.readBytes(compressedBuffer, 0, compressedLength);
+            bytes.bytes = ArrayUtil.grow(bytes.bytes, bytes.length + length);
+            final int decompressedLength = decompressCtx.decompressByteArray(
+                bytes.bytes,
+                bytes.length,
+                length,
+                compressedBuffer,
+                0,
+                compressedLength
+            );
+            if (decompressedLength != length) {
+                throw new CorruptIndexException("expected " + length + " decompressed bytes, got " + decompressedLength, in);
+            }
+            bytes.length += decompressedLength;
+        }
+
+        @Override
+        public void decompress(DataInput in, int originalLength, int offset, int length, BytesRef bytes) throws IOException {
+            assert offset + length <= originalLength;
+            if (length == 0) {
+                bytes.length = 0;
+                return;
+            }
+            final int dictLength = in.readVInt();
+            final int blockLength = in.readVInt();
+            bytes.bytes = ArrayUtil.grow(bytes.bytes, dictLength);
+            bytes.offset = bytes.length = 0;
+
+            try (ZstdDecompressCtx decompressCtx = new ZstdDecompressCtx()) {
+                // the dictionary is needed for every sub-block
+                decompress(in, decompressCtx, dictLength, bytes);
+                if (dictLength >= offset + length) {
+                    bytes.offset = offset;
+                    bytes.length = length;
+                    return;
+                }
+
+                try (ZstdDictDecompress dict = dictLength == 0 ? null : new ZstdDictDecompress(bytes.bytes, 0, dictLength)) {
+                    if (dict != null) {
+                        decompressCtx.loadDict(dict);
+                    }
+                    int offsetInBlock = dictLength;
+                    int offsetInBytesRef = offset;
+                    // skip the sub-blocks before the requested range
+                    while (offsetInBlock + blockLength <= offset) {
+                        in.skipBytes(in.readVInt());
+                        offsetInBlock += blockLength;
+                        offsetInBytesRef -= blockLength;
+                    }
+                    // the sub-blocks are appended after the dictionary, the returned range starts past it
+                    while (offsetInBlock < offset + length) {
+                        final int subBlockLength = Math.min(blockLength, originalLength - offsetInBlock);
+                        decompress(in, decompressCtx, subBlockLength, bytes);
+                        offsetInBlock += blockLength;
+                    }
+                    bytes.offset = offsetInBytesRef;
+                    bytes.length = length;
+                }
+            }
+        }
+
+        @Override
+        public Decompressor clone() {
+            return new ZstdDecompressor();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.customcodecs;
+
+import org.apache.lucene.codecs.Codec;
+
+/**
+ * The {@code ZSTDNODICT} codec, which compresses stored fields with zstd without a dictionary, see {@link ZstdNoDictCompressionMode}.
+ */
+public class ZstdNoDictCodec extends Lucene87CustomCodec {
+
+    public static final String NAME = "ZSTDNODICT";
+
+    public ZstdNoDictCodec() {
+        super(NAME, Mode.ZSTD_NO_DICT);
+    }
+
+    public ZstdNoDictCodec(int compressionLevel, Codec delegate) {
+        super(NAME, Mode.ZSTD_NO_DICT, compressionLevel, delegate);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.customcodecs;
+
+import org.apache.lucene.codecs.compressing.CompressionMode;
+import org.apache.lucene.codecs.compressing.Compressor;
+import org.apache.lucene.codecs.compressing.Decompressor;
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.Matchers.lessThan;
+
+/**
+ * Round trips bytes through the compressor and decompressor of a {@link CompressionMode}.
+ */
+public abstract class AbstractCompressorTests extends OpenSearchTestCase {
+
+    abstract CompressionMode compressionMode(int compressionLevel);
+
+    public void testEmpty() throws IOException {
+        doTest(new byte[0]);
+    }
+
+    public void testShortLiterals() throws IOException {
+        doTest(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 });
+    }
+
+    public void testRandom() throws IOException {
+        final byte[] bytes = new byte[randomIntBetween(1, 1 << 17)];
+        random().nextBytes(bytes);
+        doTest(bytes);
+    }
+
+    public void testLowEntropy() throws IOException {
+        final byte[] bytes = new byte[randomIntBetween(1, 1 << 17)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) randomIntBetween(0, 3);
+        }
+        doTest(bytes);
+    }
+
+    public void testCompressesRepetitions() throws IOException {
+        final StringBuilder builder = new StringBuilder();
+        final int numDocs = randomIntBetween(1000, 2000);
+        for (int i = 0; i < numDocs; i++) {
+            builder.append("{\"user\":\"").append(randomFrom("kimchy", "opensearch", "lucene")).append("\",\"count\":").append(i);
+            builder.append(",\"message\":\"trying out the zstd codec\"}");
+        }
+        final byte[] bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+        final byte[] compressed = compress(compressionMode(randomIntBetween(1, 6)), bytes);
+        assertThat(compressed.length, lessThan(bytes.length / 2));
+        doTest(bytes);
+    }
+
+    private static byte[] compress(CompressionMode mode, byte[] bytes) throws IOException {
+        final ByteBuffersDataOutput out = new ByteBuffersDataOutput();
+        try (Compressor compressor = mode.newCompressor()) {
+            compressor.compress(bytes, 0, bytes.length, out);
+        }
+        return out.toArrayCopy();
+    }
+
+    private void doTest(byte[] bytes) throws IOException {
+        final int length = bytes.length;
+        final byte[] compressed = compress(compressionMode(randomIntBetween(1, 6)), bytes);
+        // the level doesn't matter for decompression, which is how segments are read back with the codecs that Lucene loads
+        final Decompressor decompressor = compressionMode(Lucene87CustomCodec.DEFAULT_COMPRESSION_LEVEL).newDecompressor();
+
+        final BytesRef restored = new BytesRef();
+        decompressor.decompress(new ByteArrayDataInput(compressed), length, 0, length, restored);
+        assertEquals(new BytesRef(bytes), restored);
+
+        // documents are read from the middle of blocks
+        for (int i = 0; i < 10 && length > 0; i++) {
+            final int offset = randomIntBetween(0, length - 1);
+            final int rangeLength = randomIntBetween(0, length - offset);
+            final BytesRef range = new BytesRef();
+            decompressor.clone().decompress(new ByteArrayDataInput(compressed), length, offset, rangeLength, range);
+            assertEquals(new BytesRef(bytes, offset, rangeLength), range);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.customcodecs;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentInfo;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexService;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.engine.EngineConfig;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardTestCase;
+import org.opensearch.plugins.Plugin;
+import org.opensearch.test.OpenSearchSingleNodeTestCase;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+
+public class CustomCodecPluginTests extends OpenSearchSingleNodeTestCase {
+
+    @Override
+    protected Collection<Class<? extends Plugin>> getPlugins() {
+        return Collections.singletonList(CustomCodecPlugin.class);
+    }
+
+    public void testZstdCodecs() {
+        final String codecName = randomFrom(ZstdCodec.NAME, ZstdNoDictCodec.NAME);
+        final int compressionLevel = randomIntBetween(1, 6);
+        final IndexService indexService = createIndex(
+            "test",
+            Settings.builder()
+                .put(EngineConfig.INDEX_CODEC_SETTING.getKey(), codecName)
+                .put(CustomCodecPlugin.INDEX_CODEC_COMPRESSION_LEVEL_SETTING.getKey(), compressionLevel)
+                .build()
+        );
+        final int numDocs = randomIntBetween(1, 50);
+        for (int i = 0; i < numDocs; i++) {
+            client().prepareIndex("test", "_doc", Integer.toString(i)).setSource("field", "value " + i).get();
+        }
+        client().admin().indices().prepareFlush("test").get();
+
+        final IndexShard shard = indexService.getShard(0);
+        final Codec codec = IndexShardTestCase.getEngine(shard).config().getCodec();
+        assertThat(codec, instanceOf(Lucene87CustomCodec.class));
+        assertEquals(codecName, codec.getName());
+        assertEquals(compressionLevel, ((Lucene87CustomCodec) codec).getCompressionLevel());
+
+        try (Engine.Searcher searcher = shard.acquireSearcher("test")) {
+            assertFalse(searcher.getIndexReader().leaves().isEmpty());
+            for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                final SegmentInfo info = Lucene.segmentReader(leaf.reader()).getSegmentInfo().info;
+                assertEquals(codecName, info.getCodec().getName());
+            }
+        }
+        for (int i = 0; i < numDocs; i++) {
+            assertEquals("value " + i, client().prepareGet("test", "_doc", Integer.toString(i)).get().getSourceAsMap().get("field"));
+        }
+    }
+
+    public void testOtherCodecsAreUnchanged() {
+        final IndexService indexService = createIndex("test");
+        final Codec codec = IndexShardTestCase.getEngine(indexService.getShard(0)).config().getCodec();
+        assertThat(codec, not(instanceOf(Lucene87CustomCodec.class)));
+    }
+
+    public void testInvalidCompressionLevel() {
+        final IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> createIndex(
+                "test",
+                Settings.builder()
+                    .put(EngineConfig.INDEX_CODEC_SETTING.getKey(), ZstdCodec.NAME)
+                    .put(CustomCodecPlugin.INDEX_CODEC_COMPRESSION_LEVEL_SETTING.getKey(), 23)
+                    .build()
+            )
+        );
+        assertThat(e.getMessage(), containsString("index.codec.compression_level"));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.customcodecs;
+
+import org.apache.lucene.codecs.lucene87.Lucene87Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.store.Directory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+public class Lucene87CustomCodecTests extends OpenSearchTestCase {
+
+    public void testZstd() throws IOException {
+        doTestRoundTrip(new ZstdCodec(randomIntBetween(1, 6), new Lucene87Codec()), Lucene87CustomCodec.Mode.ZSTD);
+    }
+
+    public void testZstdNoDict() throws IOException {
+        doTestRoundTrip(new ZstdNoDictCodec(randomIntBetween(1, 6), new Lucene87Codec()), Lucene87CustomCodec.Mode.ZSTD_NO_DICT);
+    }
+
+    private void doTestRoundTrip(Lucene87CustomCodec codec, Lucene87CustomCodec.Mode mode) throws IOException {
+        final Map<String, String> values = new HashMap<>();
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig().setCodec(codec))) {
+                final int numDocs = randomIntBetween(1, 5000);
+                for (int i = 0; i < numDocs; i++) {
+                    final String id = Integer.toString(i);
+                    final String value = randomBoolean() ? randomAlphaOfLengthBetween(0, 100) : randomFrom("foo", "bar", "baz");
+                    values.put(id, value);
+                    final Document doc = new Document();
+                    doc.add(new StringField("id", id, Field.Store.YES));
+                    doc.add(new StoredField("field", value));
+                    writer.addDocument(doc);
+                    if (rarely()) {
+                        writer.commit();
+                    }
+                }
+                if (randomBoolean()) {
+                    writer.forceMerge(1);
+                }
+            }
+
+            // the reader loads the codec through SPI, with the default compression level
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                for (LeafReaderContext leaf : reader.leaves()) {
+                    final SegmentInfo info = ((SegmentReader) leaf.reader()).getSegmentInfo().info;
+                    assertEquals(codec.getName(), info.getCodec().getName());
+                    assertEquals(mode.name(), info.getAttribute(Lucene87CustomStoredFieldsFormat.MODE_KEY));
+                }
+                assertEquals(values.size(), reader.numDocs());
+                for (int i = 0; i < reader.maxDoc(); i++) {
+                    final Document doc = reader.document(i);
+                    assertEquals(values.get(doc.get("id")), doc.get("field"));
+                }
+            }
+        }
+    }
+}
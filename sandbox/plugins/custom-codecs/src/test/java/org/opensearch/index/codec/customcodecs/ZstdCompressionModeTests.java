@@ -0,0 +1,19 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.customcodecs;
+
+import org.apache.lucene.codecs.compressing.CompressionMode;
+
+public class ZstdCompressionModeTests extends AbstractCompressorTests {
+
+    @Override
+    CompressionMode compressionMode(int compressionLevel) {
+        return new ZstdCompressionMode(compressionLevel);
+    }
+}
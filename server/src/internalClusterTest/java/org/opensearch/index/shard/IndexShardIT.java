@@ -89,6 +89,7 @@ import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.indices.breaker.CircuitBreakerStats;
 import org.opensearch.indices.recovery.RecoveryState;
+import org.opensearch.indices.replication.checkpoint.SegmentReplicationCheckpointPublisher;
 import org.opensearch.plugins.Plugin;
 import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.builder.SearchSourceBuilder;
@@ -678,6 +679,7 @@ public class IndexShardIT extends OpenSearchSingleNodeTestCase {
                 indexService.mapperService(),
                 indexService.similarityService(),
                 shard.getEngineFactory(),
+                null,
                 indexService.getIndexEventListener(),
                 wrapper,
                 indexService.getThreadPool(),
@@ -687,6 +689,8 @@ public class IndexShardIT extends OpenSearchSingleNodeTestCase {
                 Arrays.asList(listeners),
                 () -> {},
                 RetentionLeaseSyncer.EMPTY,
+                SegmentReplicationCheckpointPublisher.EMPTY,
+                null,
                 cbs);
     }
 
@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.indices.replication.common.ReplicationType;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertHitCount;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertNoFailures;
+
+@OpenSearchIntegTestCase.ClusterScope(scope = OpenSearchIntegTestCase.Scope.TEST, numDataNodes = 0)
+public class SegmentReplicationIT extends OpenSearchIntegTestCase {
+
+    private static final String INDEX_NAME = "test-idx-1";
+
+    private void createSegmentReplicatedIndex() {
+        internalCluster().startMasterOnlyNode();
+        internalCluster().startDataOnlyNodes(2);
+        createIndex(INDEX_NAME, Settings.builder()
+            .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+            .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 1)
+            .put(IndexMetadata.SETTING_REPLICATION_TYPE, ReplicationType.SEGMENT.toString())
+            .put("index.refresh_interval", -1)
+            .build());
+        ensureGreen(INDEX_NAME);
+    }
+
+    public void testReplicatesSegments() throws Exception {
+        createSegmentReplicatedIndex();
+        int numDocs = 0;
+        final int rounds = randomIntBetween(2, 5);
+        for (int round = 0; round < rounds; round++) {
+            final int batch = randomIntBetween(1, 50);
+            for (int i = 0; i < batch; i++) {
+                client().prepareIndex(INDEX_NAME, "_doc", Integer.toString(numDocs++)).setSource("field", "value" + i).get();
+            }
+            refresh(INDEX_NAME);
+            if (randomBoolean()) {
+                flush(INDEX_NAME);
+            }
+            final long expectedHits = numDocs;
+            assertBusy(() -> assertHitCount(searchReplica(), expectedHits));
+        }
+    }
+
+    public void testSearchesReplicaWhileSegmentsAreSwapped() throws Exception {
+        createSegmentReplicatedIndex();
+        final AtomicBoolean stop = new AtomicBoolean();
+        final List<Exception> failures = new CopyOnWriteArrayList<>();
+        final Thread searcher = new Thread(() -> {
+            while (stop.get() == false) {
+                try {
+                    assertNoFailures(searchReplica());
+                } catch (Exception | AssertionError e) {
+                    failures.add(e instanceof Exception ? (Exception) e : new Exception(e));
+                }
+            }
+        });
+        searcher.start();
+        int numDocs = 0;
+        try {
+            final int rounds = randomIntBetween(5, 10);
+            for (int round = 0; round < rounds; round++) {
+                final int batch = randomIntBetween(1, 20);
+                for (int i = 0; i < batch; i++) {
+                    client().prepareIndex(INDEX_NAME, "_doc", Integer.toString(numDocs++)).setSource("field", "value" + i).get();
+                }
+                refresh(INDEX_NAME);
+                if (randomBoolean()) {
+                    // merges away the segments that the replica searches
+                    client().admin().indices().prepareForceMerge(INDEX_NAME).setMaxNumSegments(1).setFlush(randomBoolean()).get();
+                    refresh(INDEX_NAME);
+                }
+            }
+        } finally {
+            stop.set(true);
+            searcher.join();
+        }
+        assertTrue("searches of the replica failed: " + failures, failures.isEmpty());
+        final long expectedHits = numDocs;
+        assertBusy(() -> assertHitCount(searchReplica(), expectedHits));
+    }
+
+    private SearchResponse searchReplica() {
+        final ShardRouting replica = clusterService().state().routingTable().index(INDEX_NAME).shard(0).replicaShards().get(0);
+        return client().prepareSearch(INDEX_NAME)
+            .setPreference("_only_nodes:" + replica.currentNodeId())
+            .setQuery(QueryBuilders.matchAllQuery())
+            .get();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.snapshots;
+
+import org.opensearch.action.admin.cluster.snapshots.restore.RestoreSnapshotResponse;
+import org.opensearch.action.admin.indices.recovery.RecoveryResponse;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexModule;
+import org.opensearch.index.store.snapshot.SnapshotDirectoryFactory;
+import org.opensearch.indices.recovery.RecoveryState;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertBlocked;
+import static org.hamcrest.Matchers.equalTo;
+
+@OpenSearchIntegTestCase.ClusterScope(scope = OpenSearchIntegTestCase.Scope.TEST, numDataNodes = 0)
+public class SearchableSnapshotIT extends AbstractSnapshotIntegTestCase {
+
+    public void testMountSnapshot() throws Exception {
+        internalCluster().startMasterOnlyNode();
+        internalCluster().startDataOnlyNode();
+
+        final String indexName = "test-mount-snapshot";
+        createIndex(indexName, indexSettingsNoReplicas(randomIntBetween(1, 3)).build());
+        final int numDocs = scaledRandomIntBetween(10, 1_000);
+        indexRandomDocs(indexName, numDocs);
+
+        final String repositoryName = "repository";
+        createRepository(repositoryName, "fs");
+        final String snapshotName = "snapshot";
+        createFullSnapshot(repositoryName, snapshotName);
+        assertAcked(client().admin().indices().prepareDelete(indexName));
+
+        final String mountedIndexName = "mounted-" + indexName;
+        final RestoreSnapshotResponse restoreSnapshotResponse = clusterAdmin().prepareRestoreSnapshot(repositoryName, snapshotName)
+            .setIndices(indexName)
+            .setRenamePattern(indexName)
+            .setRenameReplacement(mountedIndexName)
+            .setIndexSettings(Settings.builder().put(IndexModule.INDEX_STORE_TYPE_SETTING.getKey(), SnapshotDirectoryFactory.STORE_TYPE))
+            .setWaitForCompletion(true)
+            .get();
+        assertThat(restoreSnapshotResponse.getRestoreInfo().failedShards(), equalTo(0));
+        ensureGreen(mountedIndexName);
+
+        assertThat(getCountForIndex(mountedIndexName), equalTo((long) numDocs));
+
+        // the files of the snapshot are read when they're accessed rather than copied when the shards recover
+        final RecoveryResponse recoveryResponse = client().admin().indices().prepareRecoveries(mountedIndexName).get();
+        for (RecoveryState recoveryState : recoveryResponse.shardRecoveryStates().get(mountedIndexName)) {
+            assertThat(recoveryState.getIndex().recoveredBytes(), equalTo(0L));
+        }
+
+        assertBlocked(client().prepareIndex(mountedIndexName, "_doc").setSource("field1", "bar"), IndexMetadata.INDEX_WRITE_BLOCK);
+    }
+}
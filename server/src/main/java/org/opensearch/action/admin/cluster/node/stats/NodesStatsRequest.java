@@ -238,7 +238,9 @@ public class NodesStatsRequest extends BaseNodesRequest<NodesStatsRequest> {
         INGEST("ingest"),
         ADAPTIVE_SELECTION("adaptive_selection"),
         SCRIPT_CACHE("script_cache"),
-        INDEXING_PRESSURE("indexing_pressure"),;
+        INDEXING_PRESSURE("indexing_pressure"),
+        TRANSLOG_GROUP_COMMIT("translog_group_commit"),
+        SEARCH_BACKPRESSURE("search_backpressure"),;
 
         private String metricName;
 
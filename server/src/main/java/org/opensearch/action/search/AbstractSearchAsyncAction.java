@@ -56,6 +56,8 @@ import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.Scheduler;
 import org.opensearch.transport.Transport;
 
 import java.util.ArrayDeque;
@@ -111,6 +113,8 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
     private final int maxConcurrentRequestsPerNode;
     private final Map<String, PendingExecutions> pendingExecutionsPerNode = new ConcurrentHashMap<>();
     private final boolean throttleConcurrentRequests;
+    @Nullable
+    private final ShardRequestHedging hedging;
 
     private final List<Releasable> releasables = new ArrayList<>();
 
@@ -123,7 +127,23 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
                               TransportSearchAction.SearchTimeProvider timeProvider, ClusterState clusterState,
                               SearchTask task, SearchPhaseResults<Result> resultConsumer, int maxConcurrentRequestsPerNode,
                               SearchResponse.Clusters clusters) {
+        this(name, logger, searchTransportService, nodeIdToConnection, aliasFilter, concreteIndexBoosts, indexRoutings, executor,
+            request, listener, shardsIts, timeProvider, clusterState, task, resultConsumer, maxConcurrentRequestsPerNode, clusters, null);
+    }
+
+    AbstractSearchAsyncAction(String name, Logger logger, SearchTransportService searchTransportService,
+                              BiFunction<String, String, Transport.Connection> nodeIdToConnection,
+                              Map<String, AliasFilter> aliasFilter, Map<String, Float> concreteIndexBoosts,
+                              Map<String, Set<String>> indexRoutings,
+                              Executor executor, SearchRequest request,
+                              ActionListener<SearchResponse> listener, GroupShardsIterator<SearchShardIterator> shardsIts,
+                              TransportSearchAction.SearchTimeProvider timeProvider, ClusterState clusterState,
+                              SearchTask task, SearchPhaseResults<Result> resultConsumer, int maxConcurrentRequestsPerNode,
+                              SearchResponse.Clusters clusters, @Nullable ShardRequestHedging hedging) {
         super(name);
+        if (hedging != null && supportsHedging() == false) {
+            throw new IllegalArgumentException("phase [" + name + "] doesn't support hedged requests");
+        }
         final List<SearchShardIterator> toSkipIterators = new ArrayList<>();
         final List<SearchShardIterator> iterators = new ArrayList<>();
         for (final SearchShardIterator iterator : shardsIts) {
@@ -157,6 +177,7 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
         this.indexRoutings = indexRoutings;
         this.results = resultConsumer;
         this.clusters = clusters;
+        this.hedging = hedging;
     }
 
     @Override
@@ -252,8 +273,12 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
                 : null;
             Runnable r = () -> {
                 final Thread thread = Thread.currentThread();
+                if (hedging != null) {
+                    new HedgedShardRequest(shardIndex, shardIt).start(shard, () -> executeNext(pendingExecutions, thread));
+                    return;
+                }
                 try {
-                    executePhaseOnShard(shardIt, shard,
+                    executePhaseOnShard(shardIt, shard, getTask(),
                         new SearchActionListener<Result>(shard, shardIndex) {
                             @Override
                             public void innerOnResponse(Result result) {
@@ -297,12 +322,210 @@ abstract class AbstractSearchAsyncAction<Result extends SearchPhaseResult> exten
      * Sends the request to the actual shard.
      * @param shardIt the shards iterator
      * @param shard the shard routing to send the request for
+     * @param parentTask the task to send the request as a child of, which is the search task unless the request is hedged, see
+     *                   {@link ShardRequestHedging}
      * @param listener the listener to notify on response
      */
     protected abstract void executePhaseOnShard(SearchShardIterator shardIt,
                                                 SearchShardTarget shard,
+                                                Task parentTask,
                                                 SearchActionListener<Result> listener);
 
+    /**
+     * Returns whether the requests of this phase can be hedged, in which case the phase must send its requests as children of the
+     * parent task given to {@link #executePhaseOnShard(SearchShardIterator, SearchShardTarget, Task, SearchActionListener)}. This is
+     * checked when the phase is constructed with a {@link ShardRequestHedging}, so it must not depend on the state of the phase.
+     */
+    protected boolean supportsHedging() {
+        return false;
+    }
+
+    /**
+     * The requests that are sent to the copies of a shard when hedging, see {@link ShardRequestHedging}. A request is first sent to a
+     * single copy, and to the next copy of the iterator if it doesn't respond before the hedging delay. The first successful response
+     * is used, the other requests are cancelled and their results released. A copy that fails while another one is still working on
+     * the request is recorded as a failure, and the next copy is only tried once all the requests that are in flight failed.
+     */
+    private final class HedgedShardRequest {
+        private final int shardIndex;
+        private final SearchShardIterator shardIt;
+        private final List<HedgedShardAttempt> inFlight = new ArrayList<>(2);
+        private boolean done;
+        private Scheduler.Cancellable hedgeTimer;
+
+        HedgedShardRequest(int shardIndex, SearchShardIterator shardIt) {
+            this.shardIndex = shardIndex;
+            this.shardIt = shardIt;
+        }
+
+        void start(SearchShardTarget shard, Runnable onCompleted) {
+            final HedgedShardAttempt attempt;
+            try {
+                attempt = new HedgedShardAttempt(shard, hedging.startAttempt(task));
+            } catch (Exception e) {
+                try {
+                    fork(() -> onShardFailure(shardIndex, shard, shardIt, e));
+                } finally {
+                    onCompleted.run();
+                }
+                return;
+            }
+            synchronized (this) {
+                inFlight.add(attempt);
+            }
+            send(attempt, onCompleted);
+            synchronized (this) {
+                if (done == false && shardIt.remaining() > 0) {
+                    hedgeTimer = hedging.scheduleHedge(this::hedge);
+                }
+            }
+        }
+
+        private void hedge() {
+            final ShardRequestHedging.Attempt attemptTask;
+            try {
+                attemptTask = hedging.startAttempt(task);
+            } catch (Exception e) {
+                logger.debug(() -> new ParameterizedMessage("{}: failed to start a hedged request", shardIt.shardId()), e);
+                return;
+            }
+            final HedgedShardAttempt attempt;
+            synchronized (this) {
+                final SearchShardTarget shard = done ? null : shardIt.nextOrNull();
+                if (shard == null) {
+                    attempt = null;
+                } else {
+                    attempt = new HedgedShardAttempt(shard, attemptTask);
+                    inFlight.add(attempt);
+                }
+            }
+            if (attempt == null) {
+                hedging.finishAttempt(attemptTask);
+                return;
+            }
+            logger.trace("{}: no response after [{}], sending a hedged request to [{}]", shardIt.shardId(), hedging.getDelay(),
+                attempt.shard);
+            // hedged requests aren't throttled, they are only sent for the few shards that are slow to respond
+            send(attempt, () -> {});
+        }
+
+        private void send(HedgedShardAttempt attempt, Runnable onCompleted) {
+            try {
+                executePhaseOnShard(shardIt, attempt.shard, attempt.task, new SearchActionListener<Result>(attempt.shard, shardIndex) {
+                    @Override
+                    public void innerOnResponse(Result result) {
+                        try {
+                            onAttemptResponse(attempt, result);
+                        } finally {
+                            onCompleted.run();
+                        }
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        try {
+                            onAttemptFailure(attempt, e);
+                        } finally {
+                            onCompleted.run();
+                        }
+                    }
+                });
+            } catch (final Exception e) {
+                try {
+                    fork(() -> onAttemptFailure(attempt, e));
+                } finally {
+                    onCompleted.run();
+                }
+            }
+        }
+
+        private void onAttemptResponse(HedgedShardAttempt attempt, Result result) {
+            final List<HedgedShardAttempt> losers;
+            synchronized (this) {
+                inFlight.remove(attempt);
+                if (done) {
+                    losers = null;
+                } else {
+                    done = true;
+                    losers = new ArrayList<>(inFlight);
+                    inFlight.clear();
+                    cancelHedgeTimer();
+                }
+            }
+            hedging.finishAttempt(attempt.task);
+            if (losers == null) {
+                // another copy of the shard responded first
+                releaseLateResult(result);
+                return;
+            }
+            for (HedgedShardAttempt loser : losers) {
+                hedging.cancelAttempt(loser.task);
+            }
+            // the copies that lost the race are done with, like the ones that failed
+            totalOps.addAndGet(losers.size());
+            onShardResult(result, shardIt);
+        }
+
+        private void onAttemptFailure(HedgedShardAttempt attempt, Exception e) {
+            final boolean stale;
+            final boolean lastAttempt;
+            synchronized (this) {
+                inFlight.remove(attempt);
+                stale = done;
+                lastAttempt = inFlight.isEmpty();
+                if (done == false) {
+                    if (lastAttempt) {
+                        done = true;
+                        cancelHedgeTimer();
+                    } else {
+                        // another copy is still working on the request, the next copy is only tried if it fails too. The failure is
+                        // recorded under the lock so that it can't be recorded after another copy responded and cleared the failures
+                        // of the shard.
+                        logger.debug(() -> new ParameterizedMessage("{}: Failed to execute [{}] while a hedged request is in flight",
+                            attempt.shard, request), e);
+                        onShardFailure(shardIndex, attempt.shard, e);
+                        final int totalOps = AbstractSearchAsyncAction.this.totalOps.incrementAndGet();
+                        assert totalOps < expectedTotalOps : "unexpected total ops [" + totalOps + "] with a request in flight";
+                    }
+                }
+            }
+            hedging.finishAttempt(attempt.task);
+            if (stale == false && lastAttempt) {
+                onShardFailure(shardIndex, attempt.shard, shardIt, e);
+            }
+        }
+
+        private void cancelHedgeTimer() {
+            assert Thread.holdsLock(this);
+            if (hedgeTimer != null) {
+                hedgeTimer.cancel();
+                hedgeTimer = null;
+            }
+        }
+
+        private void releaseLateResult(Result result) {
+            if (result.getContextId() != null) {
+                final SearchShardTarget target = result.getSearchShardTarget();
+                try {
+                    sendReleaseSearchContext(result.getContextId(), getConnection(target.getClusterAlias(), target.getNodeId()),
+                        target.getOriginalIndices());
+                } catch (Exception e) {
+                    logger.trace("failed to release the context of a hedged request", e);
+                }
+            }
+        }
+    }
+
+    private static final class HedgedShardAttempt {
+        private final SearchShardTarget shard;
+        private final ShardRequestHedging.Attempt task;
+
+        HedgedShardAttempt(SearchShardTarget shard, ShardRequestHedging.Attempt task) {
+            this.shard = shard;
+            this.task = task;
+        }
+    }
+
     private void fork(final Runnable runnable) {
         executor.execute(new AbstractRunnable() {
             @Override
@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.search.SearchResponse.Clusters;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.InternalAggregations;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link SearchProgressListener} for searches that run in the background, which keeps their progress and the results of their
+ * latest partial reduce so that they can be retrieved with the tasks API, in the {@link SearchTask#getStatus() status} of the task,
+ * while the search is running.
+ */
+final class BackgroundSearchProgressListener extends SearchProgressListener {
+
+    private volatile int totalShards = -1;
+    private volatile int skippedShards;
+    private final AtomicInteger successfulShards = new AtomicInteger();
+    private final AtomicInteger failedShards = new AtomicInteger();
+    private volatile Reduce latestReduce;
+
+    @Override
+    protected void onListShards(List<SearchShard> shards, List<SearchShard> skippedShards, Clusters clusters, boolean fetchPhase) {
+        this.skippedShards = skippedShards.size();
+        this.totalShards = shards.size() + skippedShards.size();
+    }
+
+    @Override
+    protected void onQueryResult(int shardIndex) {
+        successfulShards.incrementAndGet();
+    }
+
+    @Override
+    protected void onQueryFailure(int shardIndex, SearchShardTarget shardTarget, Exception exc) {
+        failedShards.incrementAndGet();
+    }
+
+    @Override
+    protected void onPartialReduce(List<SearchShard> shards, TotalHits totalHits, InternalAggregations aggs, int reducePhase) {
+        updateLatestReduce(new Reduce(totalHits, aggs, reducePhase));
+    }
+
+    @Override
+    protected void onFinalReduce(List<SearchShard> shards, TotalHits totalHits, InternalAggregations aggs, int reducePhase) {
+        // the final aggregations are in the response of the search, which is stored with the status of the task
+        updateLatestReduce(new Reduce(totalHits, null, reducePhase));
+    }
+
+    private synchronized void updateLatestReduce(Reduce reduce) {
+        // the partial reduces may complete out of order if they run concurrently
+        if (latestReduce == null || latestReduce.reducePhase < reduce.reducePhase) {
+            latestReduce = reduce;
+        }
+    }
+
+    SearchTask.Status status() {
+        final Reduce reduce = latestReduce;
+        return new SearchTask.Status(
+            totalShards,
+            skippedShards,
+            successfulShards.get(),
+            failedShards.get(),
+            reduce == null ? -1 : reduce.reducePhase,
+            reduce == null ? null : reduce.totalHits,
+            reduce == null ? null : reduce.aggregations
+        );
+    }
+
+    private static final class Reduce {
+        private final TotalHits totalHits;
+        private final InternalAggregations aggregations;
+        private final int reducePhase;
+
+        private Reduce(TotalHits totalHits, InternalAggregations aggregations, int reducePhase) {
+            this.totalHits = totalHits;
+            this.aggregations = aggregations;
+            this.reducePhase = reducePhase;
+        }
+    }
+}
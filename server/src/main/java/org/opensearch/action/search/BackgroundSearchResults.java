@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.DocWriteResponse;
+import org.opensearch.action.TaskOperationFailure;
+import org.opensearch.action.admin.cluster.node.tasks.cancel.CancelTasksRequest;
+import org.opensearch.action.admin.cluster.node.tasks.cancel.CancelTasksResponse;
+import org.opensearch.action.delete.DeleteRequest;
+import org.opensearch.client.Client;
+import org.opensearch.client.OriginSettingClient;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.LoggingTaskListener;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.tasks.TaskListener;
+import org.opensearch.tasks.TaskResultsService;
+import org.opensearch.threadpool.ThreadPool;
+
+import static org.opensearch.action.admin.cluster.node.tasks.get.GetTaskAction.TASKS_ORIGIN;
+
+/**
+ * Expires and deletes the searches that run in the background, and the responses that they store in the tasks index once they
+ * completed.
+ * <p>
+ * A background search is cancelled if it is still running once its keep alive elapsed, and its stored response is deleted at that
+ * point. The deletion is scheduled on the node that coordinated the search, so the responses of the searches whose node left the
+ * cluster before their keep alive elapsed have to be {@link #delete deleted} explicitly.
+ */
+public class BackgroundSearchResults {
+
+    private static final Logger logger = LogManager.getLogger(BackgroundSearchResults.class);
+
+    /**
+     * The reason of the cancellation of the background searches that are deleted, whose response must not be kept once stored.
+     */
+    public static final String DELETED_REASON = "background search deleted";
+
+    /**
+     * The keep alive of the background searches that don't set one.
+     */
+    public static final TimeValue DEFAULT_KEEP_ALIVE = TimeValue.timeValueDays(5);
+
+    private final NodeClient nodeClient;
+    private final Client client;
+
+    public BackgroundSearchResults(NodeClient client) {
+        this.nodeClient = client;
+        this.client = new OriginSettingClient(client, TASKS_ORIGIN);
+    }
+
+    /**
+     * Runs the given search in the background on the local node, stores its response in the tasks index once it completes, and
+     * expires it after the given keep alive.
+     *
+     * @return the task of the search
+     */
+    public Task execute(SearchRequest searchRequest, TimeValue keepAlive) {
+        searchRequest.setShouldStoreResult(true);
+        if (searchRequest.getCancelAfterTimeInterval() == null || searchRequest.getCancelAfterTimeInterval().compareTo(keepAlive) > 0) {
+            searchRequest.setCancelAfterTimeInterval(keepAlive);
+        }
+        return nodeClient.executeLocally(SearchAction.INSTANCE, searchRequest, new TaskListener<SearchResponse>() {
+            @Override
+            public void onResponse(Task task, SearchResponse response) {
+                LoggingTaskListener.<SearchResponse>instance().onResponse(task, response);
+                onCompletion(task, keepAlive);
+            }
+
+            @Override
+            public void onFailure(Task task, Exception e) {
+                LoggingTaskListener.<SearchResponse>instance().onFailure(task, e);
+                onCompletion(task, keepAlive);
+            }
+        });
+    }
+
+    /**
+     * Called once the response of the search is stored, or failed to be stored.
+     */
+    private void onCompletion(Task task, TimeValue keepAlive) {
+        final TaskId taskId = new TaskId(nodeClient.getLocalNodeId(), task.getId());
+        final ActionListener<Boolean> listener = ActionListener.wrap(
+            deleted -> logger.debug("deleted the response of background search [{}]", taskId),
+            e -> logger.warn(() -> new ParameterizedMessage("failed to delete the response of background search [{}]", taskId), e)
+        );
+        if (task instanceof CancellableTask && DELETED_REASON.equals(((CancellableTask) task).getReasonCancelled())) {
+            // the search was deleted while it was running, and its response might have been stored after the deletion
+            deleteResult(taskId, true, listener);
+            return;
+        }
+        final long remainingNanos = keepAlive.nanos() - (System.nanoTime() - task.getStartTimeNanos());
+        nodeClient.threadPool().schedule(
+            () -> deleteResult(taskId, false, listener),
+            TimeValue.timeValueNanos(Math.max(0L, remainingNanos)),
+            ThreadPool.Names.GENERIC
+        );
+    }
+
+    /**
+     * Deletes the given background search: cancels it if it is still running, and deletes its response from the tasks index.
+     *
+     * @param listener notified with whether the search was running or had a stored response
+     */
+    public void delete(TaskId taskId, ActionListener<Boolean> listener) {
+        final CancelTasksRequest cancelRequest = new CancelTasksRequest();
+        cancelRequest.setTaskId(taskId);
+        cancelRequest.setActions(SearchAction.NAME);
+        cancelRequest.setReason(DELETED_REASON);
+        // the response is stored once the task completed, so it must be deleted afterwards
+        cancelRequest.setWaitForCompletion(true);
+        client.admin().cluster().cancelTasks(cancelRequest, ActionListener.wrap(response -> {
+            final Exception failure = cancellationFailure(response);
+            if (failure != null) {
+                listener.onFailure(failure);
+            } else {
+                deleteResult(taskId, response.getTasks().isEmpty() == false, listener);
+            }
+        }, e -> {
+            if (ExceptionsHelper.unwrapCause(e) instanceof ResourceNotFoundException) {
+                deleteResult(taskId, false, listener);
+            } else {
+                listener.onFailure(e);
+            }
+        }));
+    }
+
+    /**
+     * Returns the failure to cancel a task, unless it failed because the task is not running.
+     */
+    private static Exception cancellationFailure(CancelTasksResponse response) {
+        for (TaskOperationFailure failure : response.getTaskFailures()) {
+            if (ExceptionsHelper.unwrapCause(failure.getCause()) instanceof ResourceNotFoundException == false) {
+                return failure.getCause();
+            }
+        }
+        for (Exception failure : response.getNodeFailures()) {
+            if (ExceptionsHelper.unwrapCause(failure) instanceof ResourceNotFoundException == false) {
+                return failure;
+            }
+        }
+        return null;
+    }
+
+    private void deleteResult(TaskId taskId, boolean cancelled, ActionListener<Boolean> listener) {
+        final DeleteRequest deleteRequest = new DeleteRequest(TaskResultsService.TASK_INDEX, taskId.toString());
+        client.delete(deleteRequest, ActionListener.wrap(
+            response -> listener.onResponse(cancelled || response.getResult() == DocWriteResponse.Result.DELETED),
+            e -> {
+                if (ExceptionsHelper.unwrapCause(e) instanceof IndexNotFoundException) {
+                    listener.onResponse(cancelled);
+                } else {
+                    listener.onFailure(e);
+                }
+            }
+        ));
+    }
+}
@@ -44,8 +44,10 @@ import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.sort.FieldSortBuilder;
 import org.opensearch.search.sort.MinAndMax;
 import org.opensearch.search.sort.SortOrder;
+import org.opensearch.tasks.Task;
 import org.opensearch.transport.Transport;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -96,10 +98,10 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
     }
 
     @Override
-    protected void executePhaseOnShard(SearchShardIterator shardIt, SearchShardTarget shard,
+    protected void executePhaseOnShard(SearchShardIterator shardIt, SearchShardTarget shard, Task parentTask,
                                        SearchActionListener<CanMatchResponse> listener) {
         getSearchTransport().sendCanMatch(getConnection(shard.getClusterAlias(), shard.getNodeId()),
-            buildShardSearchRequest(shardIt), getTask(), listener);
+            buildShardSearchRequest(shardIt), parentTask, listener);
     }
 
     @Override
@@ -117,9 +119,21 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
             // to produce a valid search result with all the aggs etc.
             possibleMatches.set(0);
         }
+        // the shards that were skipped before this phase weren't asked whether they can match, so the results are indexed by the
+        // position of the shard among the ones that were asked
+        final List<SearchShardIterator> askedShardsIts = new ArrayList<>(shardsIts.size());
+        final List<SearchShardIterator> skippedShardsIts = new ArrayList<>();
+        for (SearchShardIterator iter : shardsIts) {
+            if (iter.skip()) {
+                iter.resetAndSkip();
+                skippedShardsIts.add(iter);
+            } else {
+                askedShardsIts.add(iter);
+            }
+        }
         SearchSourceBuilder source = getRequest().source();
         int i = 0;
-        for (SearchShardIterator iter : shardsIts) {
+        for (SearchShardIterator iter : askedShardsIts) {
             if (possibleMatches.get(i++)) {
                 iter.reset();
             } else {
@@ -130,7 +144,10 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
             return shardsIts;
         }
         FieldSortBuilder fieldSort = FieldSortBuilder.getPrimaryFieldSortOrNull(source);
-        return new GroupShardsIterator<>(sortShards(shardsIts, results.minAndMaxes, fieldSort.order()));
+        List<SearchShardIterator> sortedShardsIts = new ArrayList<>(
+            sortShards(new GroupShardsIterator<>(askedShardsIts), results.minAndMaxes, fieldSort.order()));
+        sortedShardsIts.addAll(skippedShardsIts);
+        return new GroupShardsIterator<>(sortedShardsIts);
     }
 
     private static List<SearchShardIterator> sortShards(GroupShardsIterator<SearchShardIterator> shardsIts,
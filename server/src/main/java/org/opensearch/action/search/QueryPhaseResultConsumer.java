@@ -54,7 +54,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -66,6 +68,12 @@ import java.util.function.Consumer;
  * in the {@link CircuitBreaker#REQUEST} circuit breaker. Before any partial or final reduce, the memory
  * needed to reduce the aggregations is estimated and a {@link CircuitBreakingException} is thrown if it
  * exceeds the maximum memory allowed in this breaker.
+ * <p>
+ * Up to {@code maxConcurrentPartialReduces} partial reduces can run concurrently on the executor. Each partial reduce
+ * merges a batch of shard results with the results of the partial reduces that completed before it started, so the
+ * partial results are merged as a tree rather than one after another when many shards respond at the same time. The
+ * {@link SearchProgressListener} is only notified of the partial reduces that merged all the results reduced so far, so
+ * the partial results that it sees only grow.
  */
 public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhaseResult> implements Releasable {
     private static final Logger logger = LogManager.getLogger(QueryPhaseResultConsumer.class);
@@ -81,6 +89,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
     private final boolean hasTopDocs;
     private final boolean hasAggs;
     private final boolean performFinalReduce;
+    private final int maxConcurrentPartialReduces;
 
     private final PendingMerges pendingMerges;
     private final Consumer<Exception> onPartialMergeFailure;
@@ -97,7 +106,28 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                                     NamedWriteableRegistry namedWriteableRegistry,
                                     int expectedResultSize,
                                     Consumer<Exception> onPartialMergeFailure) {
+        this(request, executor, circuitBreaker, controller, progressListener, namedWriteableRegistry, expectedResultSize, 1,
+            onPartialMergeFailure);
+    }
+
+    /**
+     * Creates a {@link QueryPhaseResultConsumer} that incrementally reduces aggregation results
+     * as shard results are consumed, with up to <code>maxConcurrentPartialReduces</code> partial reduces
+     * running concurrently.
+     */
+    public QueryPhaseResultConsumer(SearchRequest request,
+                                    Executor executor,
+                                    CircuitBreaker circuitBreaker,
+                                    SearchPhaseController controller,
+                                    SearchProgressListener progressListener,
+                                    NamedWriteableRegistry namedWriteableRegistry,
+                                    int expectedResultSize,
+                                    int maxConcurrentPartialReduces,
+                                    Consumer<Exception> onPartialMergeFailure) {
         super(expectedResultSize);
+        if (maxConcurrentPartialReduces < 1) {
+            throw new IllegalArgumentException("maxConcurrentPartialReduces must be >= 1 but was " + maxConcurrentPartialReduces);
+        }
         this.executor = executor;
         this.circuitBreaker = circuitBreaker;
         this.controller = controller;
@@ -107,6 +137,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         this.topNSize = SearchPhaseController.getTopDocsSize(request);
         this.performFinalReduce = request.isFinalReduce();
         this.onPartialMergeFailure = onPartialMergeFailure;
+        this.maxConcurrentPartialReduces = maxConcurrentPartialReduces;
 
         SearchSourceBuilder source = request.source();
         this.hasTopDocs = source == null || source.size() != 0;
@@ -162,20 +193,14 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
 
     private MergeResult partialReduce(QuerySearchResult[] toConsume,
                                       List<SearchShard> emptyResults,
-                                      SearchPhaseController.TopDocsStats topDocsStats,
-                                      MergeResult lastMerge,
-                                      int numReducePhases) {
+                                      List<MergeResult> lastMerges) {
         // ensure consistent ordering
         Arrays.sort(toConsume, Comparator.comparingInt(QuerySearchResult::getShardIndex));
 
-        for (QuerySearchResult result : toConsume) {
-            topDocsStats.add(result.topDocs(), result.searchTimedOut(), result.terminatedEarly());
-        }
-
         final TopDocs newTopDocs;
         if (hasTopDocs) {
             List<TopDocs> topDocsList = new ArrayList<>();
-            if (lastMerge != null) {
+            for (MergeResult lastMerge : lastMerges) {
                 topDocsList.add(lastMerge.reducedTopDocs);
             }
             for (QuerySearchResult result : toConsume) {
@@ -193,7 +218,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         final InternalAggregations newAggs;
         if (hasAggs) {
             List<InternalAggregations> aggsList = new ArrayList<>();
-            if (lastMerge != null) {
+            for (MergeResult lastMerge : lastMerges) {
                 aggsList.add(lastMerge.reducedAggs);
             }
             for (QuerySearchResult result : toConsume) {
@@ -204,14 +229,13 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             newAggs = null;
         }
         List<SearchShard> processedShards = new ArrayList<>(emptyResults);
-        if (lastMerge != null) {
+        for (MergeResult lastMerge : lastMerges) {
             processedShards.addAll(lastMerge.processedShards);
         }
         for (QuerySearchResult result : toConsume) {
             SearchShardTarget target = result.getSearchShardTarget();
             processedShards.add(new SearchShard(target.getClusterAlias(), target.getShardId()));
         }
-        progressListener.notifyPartialReduce(processedShards, topDocsStats.getTotalHits(), newAggs, numReducePhases);
         // we leave the results un-serialized because serializing is slow but we compute the serialized
         // size as an estimate of the memory used by the newly reduced aggregations.
         long serializedSize = hasAggs ? newAggs.getSerializedSize() : 0;
@@ -233,11 +257,12 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         private volatile long maxAggsCurrentBufferSize = 0;
 
         private final ArrayDeque<MergeTask> queue = new ArrayDeque<>();
-        private final AtomicReference<MergeTask> runningTask = new AtomicReference<>();
+        private final Set<MergeTask> runningTasks = new HashSet<>();
         private final AtomicReference<Exception> failure = new AtomicReference<>();
 
         private final SearchPhaseController.TopDocsStats topDocsStats;
-        private volatile MergeResult mergeResult;
+        // the results of the partial reduces that completed and that were not merged by another partial reduce yet
+        private final List<MergeResult> mergeResults = new ArrayList<>();
         private volatile boolean hasPartialReduce;
         private volatile int numReducePhases;
 
@@ -266,8 +291,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             return failure.get() != null;
         }
 
-        boolean hasPendingMerges() {
-            return queue.isEmpty() == false || runningTask.get() != null;
+        synchronized boolean hasPendingMerges() {
+            return queue.isEmpty() == false || runningTasks.isEmpty() == false;
         }
 
         void sortBuffer() {
@@ -277,6 +302,10 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         }
 
         synchronized long addWithoutBreaking(long size) {
+            if (hasFailure()) {
+                // the memory of this consumer was released when it failed
+                return circuitBreakerBytes;
+            }
             circuitBreaker.addWithoutBreaking(size);
             circuitBreakerBytes += size;
             maxAggsCurrentBufferSize = Math.max(maxAggsCurrentBufferSize, circuitBreakerBytes);
@@ -284,6 +313,10 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         }
 
         synchronized long addEstimateAndMaybeBreak(long estimatedSize) {
+            if (hasFailure()) {
+                // the memory of this consumer was released when it failed
+                return circuitBreakerBytes;
+            }
             circuitBreaker.addEstimateBytesAndMaybeBreak(estimatedSize, "<reduce_aggs>");
             circuitBreakerBytes += estimatedSize;
             maxAggsCurrentBufferSize = Math.max(maxAggsCurrentBufferSize, circuitBreakerBytes);
@@ -363,16 +396,12 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 circuitBreakerBytes = 0;
             }
             failure.compareAndSet(null, exc);
-            MergeTask task = runningTask.get();
-            runningTask.compareAndSet(task, null);
+            List<MergeTask> toCancels = new ArrayList<>(runningTasks);
+            runningTasks.clear();
             onPartialMergeFailure.accept(exc);
-            List<MergeTask> toCancels = new ArrayList<>();
-            if (task != null) {
-                toCancels.add(task);
-            }
             queue.stream().forEach(toCancels::add);
             queue.clear();
-            mergeResult = null;
+            mergeResults.clear();
             for (MergeTask toCancel : toCancels) {
                 toCancel.cancel();
             }
@@ -383,37 +412,59 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 if (hasFailure()) {
                     return;
                 }
-                runningTask.compareAndSet(task, null);
-                mergeResult = newResult;
+                runningTasks.remove(task);
+                mergeResults.add(newResult);
                 if (hasAggs) {
                     // Update the circuit breaker to remove the size of the source aggregations
                     // and replace the estimation with the serialized size of the newly reduced result.
-                    long newSize = mergeResult.estimatedSize - estimatedSize;
+                    long newSize = newResult.estimatedSize - estimatedSize;
                     addWithoutBreaking(newSize);
                     logger.trace("aggs partial reduction [{}->{}] max [{}]",
-                        estimatedSize, mergeResult.estimatedSize, maxAggsCurrentBufferSize);
+                        estimatedSize, newResult.estimatedSize, maxAggsCurrentBufferSize);
+                }
+                ++ numReducePhases;
+                // Only the partial reduces that merged all the results reduced so far are notified, under the lock so that the
+                // listener sees them in order. A partial reduce that ran concurrently with another one only covers part of the
+                // results, and would make the progress go backwards.
+                if (runningTasks.isEmpty() && mergeResults.size() == 1) {
+                    progressListener.notifyPartialReduce(newResult.processedShards, topDocsStats.getTotalHits(),
+                        newResult.reducedAggs, numReducePhases);
                 }
-                task.consumeListener();
             }
+            task.consumeListener();
         }
 
         private void tryExecuteNext() {
-            final MergeTask task;
-            synchronized (this) {
-                if (queue.isEmpty()
-                        || hasFailure()
-                        || runningTask.get() != null) {
-                    return;
+            while (true) {
+                final MergeTask task;
+                final List<MergeResult> lastMerges;
+                synchronized (this) {
+                    if (queue.isEmpty()
+                            || hasFailure()
+                            || runningTasks.size() >= maxConcurrentPartialReduces) {
+                        return;
+                    }
+                    task = queue.poll();
+                    runningTasks.add(task);
+                    // the task also merges the results of the partial reduces that completed so far
+                    lastMerges = new ArrayList<>(mergeResults);
+                    mergeResults.clear();
+                    for (QuerySearchResult result : task.buffer) {
+                        topDocsStats.add(result.topDocs(), result.searchTimedOut(), result.terminatedEarly());
+                    }
                 }
-                task = queue.poll();
-                runningTask.compareAndSet(null, task);
+                execute(task, lastMerges);
             }
+        }
 
+        private void execute(MergeTask task, List<MergeResult> lastMerges) {
             executor.execute(new AbstractRunnable() {
                 @Override
                 protected void doRun() {
-                    final MergeResult thisMergeResult = mergeResult;
-                    long estimatedTotalSize = (thisMergeResult != null ? thisMergeResult.estimatedSize : 0) + task.aggsBufferSize;
+                    long estimatedTotalSize = task.aggsBufferSize;
+                    for (MergeResult lastMerge : lastMerges) {
+                        estimatedTotalSize += lastMerge.estimatedSize;
+                    }
                     final MergeResult newMerge;
                     try {
                         final QuerySearchResult[] toConsume = task.consumeBuffer();
@@ -423,8 +474,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                         long estimatedMergeSize = estimateRamBytesUsedForReduce(estimatedTotalSize);
                         addEstimateAndMaybeBreak(estimatedMergeSize);
                         estimatedTotalSize += estimatedMergeSize;
-                        ++ numReducePhases;
-                        newMerge = partialReduce(toConsume, task.emptyResults, topDocsStats, thisMergeResult, numReducePhases);
+                        newMerge = partialReduce(toConsume, task.emptyResults, lastMerges);
                     } catch (Exception t) {
                         onMergeFailure(t);
                         return;
@@ -452,7 +502,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 return Collections.emptyList();
             }
             List<TopDocs> topDocsList = new ArrayList<>();
-            if (mergeResult != null) {
+            for (MergeResult mergeResult : mergeResults) {
                 topDocsList.add(mergeResult.reducedTopDocs);
             }
             for (QuerySearchResult result : buffer) {
@@ -468,7 +518,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 return Collections.emptyList();
             }
             List<InternalAggregations> aggsList = new ArrayList<>();
-            if (mergeResult != null) {
+            for (MergeResult mergeResult : mergeResults) {
                 aggsList.add(mergeResult.reducedAggs);
             }
             for (QuerySearchResult result : buffer) {
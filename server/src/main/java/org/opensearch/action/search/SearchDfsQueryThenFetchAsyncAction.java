@@ -41,6 +41,7 @@ import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.dfs.AggregatedDfs;
 import org.opensearch.search.dfs.DfsSearchResult;
 import org.opensearch.search.internal.AliasFilter;
+import org.opensearch.tasks.Task;
 import org.opensearch.transport.Transport;
 
 import java.util.List;
@@ -78,10 +79,10 @@ final class SearchDfsQueryThenFetchAsyncAction extends AbstractSearchAsyncAction
     }
 
     @Override
-    protected void executePhaseOnShard(final SearchShardIterator shardIt, final SearchShardTarget shard,
+    protected void executePhaseOnShard(final SearchShardIterator shardIt, final SearchShardTarget shard, final Task parentTask,
                                        final SearchActionListener<DfsSearchResult> listener) {
         getSearchTransport().sendExecuteDfs(getConnection(shard.getClusterAlias(), shard.getNodeId()),
-            buildShardSearchRequest(shardIt) , getTask(), listener);
+            buildShardSearchRequest(shardIt) , parentTask, listener);
     }
 
     @Override
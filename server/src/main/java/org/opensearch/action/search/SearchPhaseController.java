@@ -616,8 +616,22 @@ public final class SearchPhaseController {
                                                    SearchRequest request,
                                                    int numShards,
                                                    Consumer<Exception> onPartialMergeFailure) {
+        return newSearchPhaseResults(executor, circuitBreaker, listener, request, numShards, 1, onPartialMergeFailure);
+    }
+
+    /**
+     * Returns a new {@link QueryPhaseResultConsumer} instance that reduces search responses incrementally,
+     * with up to <code>maxConcurrentPartialReduces</code> partial reduces running concurrently on the executor.
+     */
+    QueryPhaseResultConsumer newSearchPhaseResults(Executor executor,
+                                                   CircuitBreaker circuitBreaker,
+                                                   SearchProgressListener listener,
+                                                   SearchRequest request,
+                                                   int numShards,
+                                                   int maxConcurrentPartialReduces,
+                                                   Consumer<Exception> onPartialMergeFailure) {
         return new QueryPhaseResultConsumer(request, executor, circuitBreaker,
-            this,  listener, namedWriteableRegistry, numShards, onPartialMergeFailure);
+            this,  listener, namedWriteableRegistry, numShards, maxConcurrentPartialReduces, onPartialMergeFailure);
     }
 
     static final class TopDocsStats {
@@ -86,12 +86,13 @@ public abstract class SearchProgressListener {
 
     /**
      * Executed when a partial reduce is created. The number of partial reduce can be controlled via
-     * {@link SearchRequest#setBatchedReduceSize(int)}.
+     * {@link SearchRequest#setBatchedReduceSize(int)}. Each notified partial reduce includes the shards of the previous ones,
+     * but partial reduces that run concurrently with others are not notified.
      *
      * @param shards The list of shards that are part of this reduce.
      * @param totalHits The total number of hits in this reduce.
      * @param aggs The partial result for aggregations.
-     * @param reducePhase The version number for this reduce.
+     * @param reducePhase The version number for this reduce, which increases with every notification but may skip numbers.
      */
     protected void onPartialReduce(List<SearchShard> shards, TotalHits totalHits, InternalAggregations aggs, int reducePhase) {}
 
@@ -117,6 +117,9 @@ public class SearchRequest extends ActionRequest implements IndicesRequest.Repla
 
     private TimeValue cancelAfterTimeInterval;
 
+    // only applies to the node that coordinates the search, so it is not serialized
+    private boolean shouldStoreResult;
+
     public SearchRequest() {
         this.localClusterAlias = null;
         this.absoluteStartMillis = DEFAULT_ABSOLUTE_START_MILLIS;
@@ -689,9 +692,26 @@ public class SearchRequest extends ActionRequest implements IndicesRequest.Repla
         return cancelAfterTimeInterval;
     }
 
+    /**
+     * Should this search store its response in the tasks index once it completed? Such searches run in the background, and their
+     * task reports the progress and the partial results of the search while it is running.
+     */
+    public void setShouldStoreResult(boolean shouldStoreResult) {
+        this.shouldStoreResult = shouldStoreResult;
+    }
+
+    @Override
+    public boolean getShouldStoreResult() {
+        return shouldStoreResult;
+    }
+
     @Override
     public SearchTask createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
-        return new SearchTask(id, type, action, this::buildDescription, parentTaskId, headers, cancelAfterTimeInterval);
+        final SearchTask task = new SearchTask(id, type, action, this::buildDescription, parentTaskId, headers, cancelAfterTimeInterval);
+        if (shouldStoreResult) {
+            task.setProgressListener(new BackgroundSearchProgressListener());
+        }
+        return task;
     }
 
     public final String buildDescription() {
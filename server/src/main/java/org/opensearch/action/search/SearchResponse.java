@@ -43,6 +43,7 @@ import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.StatusToXContentObject;
+import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentParser;
@@ -60,6 +61,8 @@ import org.opensearch.search.suggest.Suggest;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -276,6 +279,34 @@ public class SearchResponse extends ActionResponse implements StatusToXContentOb
     }
 
     public XContentBuilder innerToXContent(XContentBuilder builder, Params params) throws IOException {
+        headerToXContent(builder, params);
+        internalResponse.toXContent(builder, params);
+        return builder;
+    }
+
+    /**
+     * Returns the xcontent of this response in chunks that render the same content as {@link #toXContent} when they are rendered one
+     * after another: the start of the response up to its hits, each hit, then the rest of the response. This allows to serialize a
+     * response with many hits incrementally.
+     */
+    public Iterator<ToXContent> toXContentChunks() {
+        final SearchHits hits = getHits();
+        final List<ToXContent> chunks = new ArrayList<>(hits.getHits().length + 2);
+        chunks.add((builder, params) -> {
+            builder.startObject();
+            headerToXContent(builder, params);
+            return hits.startHitsXContent(builder, params);
+        });
+        Collections.addAll(chunks, hits.getHits());
+        chunks.add((builder, params) -> {
+            hits.endHitsXContent(builder);
+            internalResponse.toXContentAfterHits(builder, params);
+            return builder.endObject();
+        });
+        return chunks.iterator();
+    }
+
+    private void headerToXContent(XContentBuilder builder, Params params) throws IOException {
         if (scrollId != null) {
             builder.field(SCROLL_ID.getPreferredName(), scrollId);
         }
@@ -293,8 +324,6 @@ public class SearchResponse extends ActionResponse implements StatusToXContentOb
         RestActions.buildBroadcastShardsHeader(builder, params, getTotalShards(), getSuccessfulShards(), getSkippedShards(),
             getFailedShards(), getShardFailures());
         clusters.toXContent(builder, params);
-        internalResponse.toXContent(builder, params);
-        return builder;
     }
 
     public static SearchResponse fromXContent(XContentParser parser) throws IOException {
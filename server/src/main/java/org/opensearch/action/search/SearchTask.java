@@ -32,11 +32,24 @@
 
 package org.opensearch.action.search;
 
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.Version;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.Strings;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.VersionedNamedWriteable;
+import org.opensearch.common.lucene.Lucene;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
 import org.opensearch.tasks.TaskId;
 
+import java.io.IOException;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Supplier;
 
 import static org.opensearch.search.SearchService.NO_TIMEOUT;
@@ -79,8 +92,176 @@ public class SearchTask extends CancellableTask {
         return progressListener;
     }
 
+    /**
+     * Returns the progress of the search, with its latest partial results, if it runs in the background and keeps them with a
+     * {@link BackgroundSearchProgressListener}, and null otherwise.
+     */
+    @Override
+    public Status getStatus() {
+        if (progressListener instanceof BackgroundSearchProgressListener) {
+            return ((BackgroundSearchProgressListener) progressListener).status();
+        }
+        return null;
+    }
+
     @Override
     public boolean shouldCancelChildrenOnCancellation() {
         return true;
     }
+
+    /**
+     * The progress of a search that runs in the background: how many shards it queried, and the hits and aggregations of its
+     * latest partial reduce. Nodes before 1.1.0 don't know about it, so it is not sent to them.
+     */
+    public static class Status implements Task.Status, VersionedNamedWriteable {
+        public static final String NAME = "search";
+
+        private final int totalShards;
+        private final int skippedShards;
+        private final int successfulShards;
+        private final int failedShards;
+        private final int reducePhase;
+        @Nullable
+        private final TotalHits totalHits;
+        @Nullable
+        private final InternalAggregations aggregations;
+
+        public Status(int totalShards, int skippedShards, int successfulShards, int failedShards, int reducePhase,
+                      @Nullable TotalHits totalHits, @Nullable InternalAggregations aggregations) {
+            this.totalShards = totalShards;
+            this.skippedShards = skippedShards;
+            this.successfulShards = successfulShards;
+            this.failedShards = failedShards;
+            this.reducePhase = reducePhase;
+            this.totalHits = totalHits;
+            this.aggregations = aggregations;
+        }
+
+        public Status(StreamInput in) throws IOException {
+            totalShards = in.readVInt();
+            skippedShards = in.readVInt();
+            successfulShards = in.readVInt();
+            failedShards = in.readVInt();
+            reducePhase = in.readInt();
+            totalHits = in.readBoolean() ? Lucene.readTotalHits(in) : null;
+            aggregations = in.readOptionalWriteable(InternalAggregations::readFrom);
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVInt(totalShards);
+            out.writeVInt(skippedShards);
+            out.writeVInt(successfulShards);
+            out.writeVInt(failedShards);
+            out.writeInt(reducePhase);
+            out.writeBoolean(totalHits != null);
+            if (totalHits != null) {
+                Lucene.writeTotalHits(out, totalHits);
+            }
+            out.writeOptionalWriteable(aggregations);
+        }
+
+        @Override
+        public String getWriteableName() {
+            return NAME;
+        }
+
+        @Override
+        public Version getMinimalSupportedVersion() {
+            return Version.V_1_1_0;
+        }
+
+        /**
+         * The number of shards that the search queries, or -1 if it didn't resolve them yet.
+         */
+        public int getTotalShards() {
+            return totalShards;
+        }
+
+        public int getSkippedShards() {
+            return skippedShards;
+        }
+
+        /**
+         * The number of shards that returned the results of their query phase.
+         */
+        public int getSuccessfulShards() {
+            return successfulShards;
+        }
+
+        public int getFailedShards() {
+            return failedShards;
+        }
+
+        /**
+         * The version of the latest reduce of the results of the shards, or -1 if there wasn't any yet.
+         */
+        public int getReducePhase() {
+            return reducePhase;
+        }
+
+        /**
+         * The total hits of the latest partial reduce, or null if there wasn't any yet.
+         */
+        @Nullable
+        public TotalHits getTotalHits() {
+            return totalHits;
+        }
+
+        /**
+         * The aggregations of the latest partial reduce, or null if there wasn't any yet or if the search completed, in which
+         * case they are in its response.
+         */
+        @Nullable
+        public InternalAggregations getAggregations() {
+            return aggregations;
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field("total_shards", totalShards);
+            builder.field("skipped_shards", skippedShards);
+            builder.field("successful_shards", successfulShards);
+            builder.field("failed_shards", failedShards);
+            builder.field("reduce_phase", reducePhase);
+            if (totalHits != null) {
+                builder.startObject("total_hits");
+                builder.field("value", totalHits.value);
+                builder.field("relation", totalHits.relation == TotalHits.Relation.EQUAL_TO ? "eq" : "gte");
+                builder.endObject();
+            }
+            if (aggregations != null) {
+                aggregations.toXContent(builder, params);
+            }
+            builder.endObject();
+            return builder;
+        }
+
+        @Override
+        public String toString() {
+            return Strings.toString(this);
+        }
+
+        // Implements equals and hashcode for testing
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == null || obj.getClass() != SearchTask.Status.class) {
+                return false;
+            }
+            SearchTask.Status other = (Status) obj;
+            return totalShards == other.totalShards
+                && skippedShards == other.skippedShards
+                && successfulShards == other.successfulShards
+                && failedShards == other.failedShards
+                && reducePhase == other.reducePhase
+                && Objects.equals(totalHits, other.totalHits)
+                && Objects.equals(aggregations, other.aggregations);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(totalShards, skippedShards, successfulShards, failedShards, reducePhase, totalHits, aggregations);
+        }
+    }
 }
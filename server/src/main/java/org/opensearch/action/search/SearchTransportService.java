@@ -45,7 +45,9 @@ import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.index.shard.ShardId;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.dfs.DfsSearchResult;
@@ -60,6 +62,7 @@ import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.query.QuerySearchRequest;
 import org.opensearch.search.query.QuerySearchResult;
 import org.opensearch.search.query.ScrollQuerySearchResult;
+import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.RemoteClusterService;
 import org.opensearch.transport.Transport;
@@ -93,6 +96,7 @@ public class SearchTransportService {
     public static final String FETCH_ID_SCROLL_ACTION_NAME = "indices:data/read/search[phase/fetch/id/scroll]";
     public static final String FETCH_ID_ACTION_NAME = "indices:data/read/search[phase/fetch/id]";
     public static final String QUERY_CAN_MATCH_NAME = "indices:data/read/search[can_match]";
+    public static final String OPEN_READER_CONTEXT_ACTION_NAME = "indices:data/read/search[open_reader_context]";
 
     private final TransportService transportService;
     private final BiFunction<Transport.Connection, SearchActionListener, ActionListener> responseWrapper;
@@ -131,6 +135,15 @@ public class SearchTransportService {
             TransportRequestOptions.EMPTY, new ActionListenerResponseHandler<>(listener, SearchService.CanMatchResponse::new));
     }
 
+    /**
+     * Used by {@link TransportOpenPointInTimeAction} to open the reader context of a shard for a point in time.
+     */
+    void sendOpenReaderContext(Transport.Connection connection, final ShardOpenReaderRequest request, SearchTask task,
+                               final ActionListener<SearchPhaseResult> listener) {
+        transportService.sendChildRequest(connection, OPEN_READER_CONTEXT_ACTION_NAME, request, task,
+                new ConnectionCountingHandler<>(listener, ShardOpenReaderResponse::new, clientConnections, connection.getNode().getId()));
+    }
+
     public void sendClearAllScrollContexts(Transport.Connection connection, final ActionListener<TransportResponse> listener) {
         transportService.sendRequest(connection, CLEAR_SCROLL_CONTEXTS_ACTION_NAME, TransportRequest.Empty.INSTANCE,
             TransportRequestOptions.EMPTY, new ActionListenerResponseHandler<>(listener, (in) -> TransportResponse.Empty.INSTANCE));
@@ -142,7 +155,7 @@ public class SearchTransportService {
                 new ConnectionCountingHandler<>(listener, DfsSearchResult::new, clientConnections, connection.getNode().getId()));
     }
 
-    public void sendExecuteQuery(Transport.Connection connection, final ShardSearchRequest request, SearchTask task,
+    public void sendExecuteQuery(Transport.Connection connection, final ShardSearchRequest request, Task task,
                                  final SearchActionListener<SearchPhaseResult> listener) {
         // we optimize this and expect a QueryFetchSearchResult if we only have a single shard in the search request
         // this used to be the QUERY_AND_FETCH which doesn't exist anymore.
@@ -272,6 +285,67 @@ public class SearchTransportService {
 
         }
 
+    static class ShardOpenReaderRequest extends TransportRequest implements IndicesRequest {
+        private final ShardId shardId;
+        private final OriginalIndices originalIndices;
+        private final TimeValue keepAlive;
+
+        ShardOpenReaderRequest(ShardId shardId, OriginalIndices originalIndices, TimeValue keepAlive) {
+            this.shardId = Objects.requireNonNull(shardId);
+            this.originalIndices = Objects.requireNonNull(originalIndices);
+            this.keepAlive = Objects.requireNonNull(keepAlive);
+        }
+
+        ShardOpenReaderRequest(StreamInput in) throws IOException {
+            super(in);
+            shardId = new ShardId(in);
+            originalIndices = OriginalIndices.readOriginalIndices(in);
+            keepAlive = in.readTimeValue();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            shardId.writeTo(out);
+            OriginalIndices.writeOriginalIndices(originalIndices, out);
+            out.writeTimeValue(keepAlive);
+        }
+
+        public ShardId getShardId() {
+            return shardId;
+        }
+
+        public TimeValue getKeepAlive() {
+            return keepAlive;
+        }
+
+        @Override
+        public String[] indices() {
+            return originalIndices.indices();
+        }
+
+        @Override
+        public IndicesOptions indicesOptions() {
+            return originalIndices.indicesOptions();
+        }
+    }
+
+    static class ShardOpenReaderResponse extends SearchPhaseResult {
+        ShardOpenReaderResponse(ShardSearchContextId contextId) {
+            this.contextId = Objects.requireNonNull(contextId);
+        }
+
+        ShardOpenReaderResponse(StreamInput in) throws IOException {
+            super(in);
+            contextId = new ShardSearchContextId(in);
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            contextId.writeTo(out);
+        }
+    }
+
     public static class SearchFreeContextResponse extends TransportResponse {
 
         private boolean freed;
@@ -377,6 +451,15 @@ public class SearchTransportService {
                 searchService.canMatch(request, new ChannelActionListener<>(channel, QUERY_CAN_MATCH_NAME, request));
             });
         TransportActionProxy.registerProxyAction(transportService, QUERY_CAN_MATCH_NAME, SearchService.CanMatchResponse::new);
+
+        transportService.registerRequestHandler(OPEN_READER_CONTEXT_ACTION_NAME, ThreadPool.Names.SAME, ShardOpenReaderRequest::new,
+            (request, channel, task) -> {
+                final ActionListener<ShardOpenReaderResponse> listener =
+                    new ChannelActionListener<>(channel, OPEN_READER_CONTEXT_ACTION_NAME, request);
+                searchService.openReaderContext(request.getShardId(), request.getKeepAlive(),
+                    ActionListener.map(listener, ShardOpenReaderResponse::new));
+            });
+        TransportActionProxy.registerProxyAction(transportService, OPEN_READER_CONTEXT_ACTION_NAME, ShardOpenReaderResponse::new);
     }
 
 
@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskAwareRequest;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.Map;
+
+/**
+ * Sends the shard level request of a search to another copy of the shard when the copy that it was first sent to takes longer than
+ * a delay to respond, so that a single slow node doesn't set the latency of the whole search. The first response wins, and the
+ * requests that lose the race are cancelled. Each request is sent as the child of its own {@link Attempt} task, so that the loser
+ * can be cancelled without cancelling the search.
+ */
+final class ShardRequestHedging {
+
+    static final String ATTEMPT_ACTION_NAME = SearchTransportService.QUERY_ACTION_NAME + "[hedged]";
+
+    private final TimeValue delay;
+    private final ThreadPool threadPool;
+    private final TaskManager taskManager;
+    private final DiscoveryNode localNode;
+
+    ShardRequestHedging(TimeValue delay, ThreadPool threadPool, TaskManager taskManager, DiscoveryNode localNode) {
+        this.delay = delay;
+        this.threadPool = threadPool;
+        this.taskManager = taskManager;
+        this.localNode = localNode;
+    }
+
+    /**
+     * How long to wait for a response before sending the request to another copy of the shard.
+     */
+    TimeValue getDelay() {
+        return delay;
+    }
+
+    Scheduler.ScheduledCancellable scheduleHedge(Runnable hedge) {
+        return threadPool.schedule(hedge, delay, ThreadPool.Names.GENERIC);
+    }
+
+    /**
+     * Registers the task to send a shard level request of the given search with. It must be released with
+     * {@link #finishAttempt(Attempt)} once the request completed.
+     */
+    Attempt startAttempt(SearchTask searchTask) {
+        final TaskId parentTaskId = new TaskId(localNode.getId(), searchTask.getId());
+        // the attempt runs on this node, which must receive the ban if the search is cancelled so that the attempt is cancelled too
+        final Releasable childNodeRegistration = taskManager.registerChildNode(searchTask.getId(), localNode);
+        boolean success = false;
+        try {
+            final Attempt attempt = (Attempt) taskManager.register("transport", ATTEMPT_ACTION_NAME, new TaskAwareRequest() {
+                @Override
+                public void setParentTask(TaskId taskId) {
+                    throw new UnsupportedOperationException("the parent of an attempt is the search task");
+                }
+
+                @Override
+                public TaskId getParentTask() {
+                    return parentTaskId;
+                }
+
+                @Override
+                public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+                    return new Attempt(id, type, action, parentTaskId, headers, childNodeRegistration);
+                }
+            });
+            success = true;
+            return attempt;
+        } finally {
+            if (success == false) {
+                childNodeRegistration.close();
+            }
+        }
+    }
+
+    void finishAttempt(Attempt attempt) {
+        try {
+            taskManager.unregister(attempt);
+        } finally {
+            Releasables.close(attempt.childNodeRegistration);
+        }
+    }
+
+    /**
+     * Cancels the request that was sent with the given attempt, because another copy of the shard responded first.
+     */
+    void cancelAttempt(Attempt attempt) {
+        taskManager.cancelTaskAndDescendants(attempt, "another copy of the shard responded first", false, ActionListener.wrap(() -> {}));
+    }
+
+    /**
+     * The task that a single shard level request of a hedged search is sent with.
+     */
+    static final class Attempt extends CancellableTask {
+
+        private final Releasable childNodeRegistration;
+
+        Attempt(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers,
+                Releasable childNodeRegistration) {
+            super(id, type, action, "", parentTaskId, headers);
+            this.childNodeRegistration = childNodeRegistration;
+        }
+
+        @Override
+        public boolean shouldCancelChildrenOnCancellation() {
+            return true;
+        }
+    }
+}
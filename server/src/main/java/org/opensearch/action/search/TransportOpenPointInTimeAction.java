@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Opens a point in time: the reader context of each shard of the indices is opened and kept until the point in time is closed or its
+ * keep alive elapses, unlike the contexts of scrolls which are bound to a single search. The id of the point in time is a
+ * {@link SearchContextId} of these reader contexts.
+ */
+public class TransportOpenPointInTimeAction extends HandledTransportAction<OpenPointInTimeRequest, OpenPointInTimeResponse> {
+
+    private final TransportSearchAction transportSearchAction;
+    private final SearchTransportService searchTransportService;
+
+    @Inject
+    public TransportOpenPointInTimeAction(TransportService transportService, ActionFilters actionFilters,
+                                          TransportSearchAction transportSearchAction, SearchTransportService searchTransportService) {
+        super(OpenPointInTimeAction.NAME, transportService, actionFilters, OpenPointInTimeRequest::new);
+        this.transportSearchAction = transportSearchAction;
+        this.searchTransportService = searchTransportService;
+    }
+
+    @Override
+    protected void doExecute(Task task, OpenPointInTimeRequest request, ActionListener<OpenPointInTimeResponse> listener) {
+        final SearchRequest searchRequest = new SearchRequest()
+            .indices(request.indices())
+            .indicesOptions(request.indicesOptions())
+            .preference(request.preference())
+            .routing(request.routing())
+            .allowPartialSearchResults(false);
+        searchRequest.setCcsMinimizeRoundtrips(false);
+        transportSearchAction.executeRequest(task, searchRequest, OpenPointInTimeAction.NAME, true,
+            (searchTask, shardTarget, connection, phaseListener) -> {
+                final SearchTransportService.ShardOpenReaderRequest shardRequest = new SearchTransportService.ShardOpenReaderRequest(
+                    shardTarget.getShardId(), shardTarget.getOriginalIndices(), request.keepAlive());
+                searchTransportService.sendOpenReaderContext(connection, shardRequest, searchTask, phaseListener);
+            },
+            ActionListener.map(listener, response -> new OpenPointInTimeResponse(response.pointInTimeId())));
+    }
+}
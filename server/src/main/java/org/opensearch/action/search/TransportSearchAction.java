@@ -48,6 +48,7 @@ import org.opensearch.client.node.NodeClient;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.block.ClusterBlockException;
 import org.opensearch.cluster.block.ClusterBlockLevel;
+import org.opensearch.cluster.metadata.IndexAbstraction;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.node.DiscoveryNode;
@@ -59,15 +60,25 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.Strings;
 import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.time.DateFormatter;
+import org.opensearch.common.time.DateMathParser;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.common.util.concurrent.CountDown;
 import org.opensearch.index.Index;
+import org.opensearch.index.mapper.DateFieldFormat;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.ConstantScoreQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.RangeQueryBuilder;
 import org.opensearch.index.query.Rewriteable;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.indices.breaker.CircuitBreakerService;
@@ -92,6 +103,7 @@ import org.opensearch.transport.RemoteTransportException;
 import org.opensearch.transport.Transport;
 import org.opensearch.transport.TransportService;
 
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -99,6 +111,8 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
@@ -130,6 +144,33 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         Setting.timeSetting(SEARCH_CANCEL_AFTER_TIME_INTERVAL_SETTING_KEY, SearchService.NO_TIMEOUT, Setting.Property.Dynamic,
             Setting.Property.NodeScope);
 
+    /**
+     * The maximum number of partial reduces of the shard results of a single search request that can run concurrently on the
+     * coordinating node. Partial reduces run one after another by default.
+     */
+    public static final Setting<Integer> MAX_CONCURRENT_PARTIAL_REDUCES_SETTING = Setting.intSetting(
+            "search.max_concurrent_partial_reduces", 1, 1, Property.Dynamic, Property.NodeScope);
+
+    /**
+     * Whether the query phase of a search sends the request to another copy of a shard when the copy that it was first sent to is
+     * slow to respond, see {@link ShardRequestHedging}.
+     */
+    public static final Setting<Boolean> HEDGED_REQUESTS_ENABLED_SETTING = Setting.boolSetting(
+            "search.hedged_requests.enabled", false, Property.Dynamic, Property.NodeScope);
+
+    /**
+     * The percentile of the recent shard response times that a shard must take longer than to respond before the request is sent to
+     * another copy.
+     */
+    public static final Setting<Double> HEDGED_REQUESTS_DELAY_PERCENTILE_SETTING = Setting.doubleSetting(
+            "search.hedged_requests.delay_percentile", 95d, 0d, 100d, Property.Dynamic, Property.NodeScope);
+
+    /**
+     * The minimum time that a shard must take to respond before the request is sent to another copy.
+     */
+    public static final Setting<TimeValue> HEDGED_REQUESTS_MIN_DELAY_SETTING = Setting.timeSetting(
+            "search.hedged_requests.min_delay", TimeValue.timeValueMillis(20), TimeValue.ZERO, Property.Dynamic, Property.NodeScope);
+
     private final NodeClient client;
     private final ThreadPool threadPool;
     private final ClusterService clusterService;
@@ -280,7 +321,7 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                     indexRoutings, executor, searchRequest, listener, shardsIts, timeProvider, clusterState, task,
                     new ArraySearchPhaseResults<>(shardsIts.size()), 1, clusters) {
                     @Override
-                    protected void executePhaseOnShard(SearchShardIterator shardIt, SearchShardTarget shard,
+                    protected void executePhaseOnShard(SearchShardIterator shardIt, SearchShardTarget shard, Task parentTask,
                                                        SearchActionListener<SearchPhaseResult> listener) {
                         final Transport.Connection connection = getConnection(shard.getClusterAlias(), shard.getNodeId());
                         phaseSearchAction.executeOnShardTarget(task, shard, connection, listener);
@@ -678,6 +719,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
             aliasFilter = buildPerIndexAliasFilter(searchRequest, clusterState, indices, remoteAliasMap);
             indexRoutings = routingMap;
         }
+        skipShardsOutsideOfTimestampRange(clusterState, searchRequest.source(), localShardIterators, remoteShardIterators.isEmpty(),
+            timeProvider::getAbsoluteStartMillis);
         final GroupShardsIterator<SearchShardIterator> shardIterators = mergeShardsIterators(localShardIterators, remoteShardIterators);
 
         failIfOverShardCountLimit(clusterService, shardIterators.size());
@@ -773,6 +816,105 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         return false;
     }
 
+    /**
+     * Skips the shards of the backing indices of data streams whose timestamps, as reported by their shards when they started, are all
+     * outside of the range that the query requires the timestamps of the matching documents to be in, so that no request, not even a
+     * can_match one, is sent to them. The timestamp range of an index is only known if it blocks writes, see
+     * {@link IndexMetadata#getTimestampRange()}.
+     *
+     * @param keepOneShard whether at least one shard must not be skipped, so that the response can be built from its results
+     */
+    static void skipShardsOutsideOfTimestampRange(ClusterState clusterState, SearchSourceBuilder source,
+                                                  List<SearchShardIterator> localShardIterators, boolean keepOneShard,
+                                                  LongSupplier nowInMillis) {
+        if (localShardIterators.isEmpty() || SearchService.canRewriteToMatchNone(source) == false) {
+            return;
+        }
+        final Map<String, IndexAbstraction> indicesLookup = clusterState.metadata().getIndicesLookup();
+        final Map<Tuple<String, DateFieldFormat>, Optional<long[]>> requiredRanges = new HashMap<>();
+        final List<SearchShardIterator> toSkip = new ArrayList<>();
+        for (SearchShardIterator iterator : localShardIterators) {
+            final String indexName = iterator.shardId().getIndexName();
+            final IndexMetadata indexMetadata = clusterState.metadata().index(indexName);
+            final IndexAbstraction indexAbstraction = indicesLookup.get(indexName);
+            // the values of the timestamp field in the query can only be parsed with the mapped format of the field
+            if (indexMetadata == null || indexAbstraction == null || indexAbstraction.getParentDataStream() == null
+                || indexMetadata.getTimestampRange().isComplete() == false || indexMetadata.getTimestampRange().getFormat() == null) {
+                continue;
+            }
+            final String timestampField = indexAbstraction.getParentDataStream().getDataStream().getTimeStampField().getName();
+            final Optional<long[]> requiredRange = requiredRanges.computeIfAbsent(
+                Tuple.tuple(timestampField, indexMetadata.getTimestampRange().getFormat()),
+                key -> Optional.ofNullable(requiredTimestampRange(source.query(), key.v2().toFieldType(key.v1()), nowInMillis)));
+            if (requiredRange.isPresent()
+                && indexMetadata.getTimestampRange().intersects(requiredRange.get()[0], requiredRange.get()[1]) == false) {
+                toSkip.add(iterator);
+            }
+        }
+        if (keepOneShard && toSkip.size() == localShardIterators.size()) {
+            toSkip.remove(toSkip.size() - 1);
+        }
+        for (SearchShardIterator iterator : toSkip) {
+            iterator.resetAndSkip();
+        }
+    }
+
+    /**
+     * Returns the inclusive range, in milliseconds since the epoch, that the given timestamp field of the documents matching the query
+     * must be in, or null if the query doesn't restrict it. The bounds of the query are parsed with the mapped format and resolution
+     * of the field, like the shards do.
+     */
+    @Nullable
+    static long[] requiredTimestampRange(QueryBuilder query, DateFieldMapper.DateFieldType timestampField, LongSupplier nowInMillis) {
+        final long[] range = new long[] { Long.MIN_VALUE, Long.MAX_VALUE };
+        try {
+            return narrowToRequiredRange(query, timestampField, nowInMillis, range) ? range : null;
+        } catch (RuntimeException e) {
+            // the shards will report the failure to parse the range
+            return null;
+        }
+    }
+
+    private static boolean narrowToRequiredRange(QueryBuilder query, DateFieldMapper.DateFieldType fieldType, LongSupplier nowInMillis,
+                                                 long[] range) {
+        if (query instanceof RangeQueryBuilder) {
+            final RangeQueryBuilder rangeQuery = (RangeQueryBuilder) query;
+            if (rangeQuery.fieldName().equals(fieldType.name()) == false) {
+                return false;
+            }
+            final DateMathParser parser = Strings.hasText(rangeQuery.format())
+                ? DateFormatter.forPattern(rangeQuery.format()).withLocale(fieldType.dateTimeFormatter().locale()).toDateMathParser()
+                : null;
+            final ZoneId timeZone = rangeQuery.timeZone() == null ? null : ZoneId.of(rangeQuery.timeZone());
+            final DateFieldMapper.Resolution resolution = fieldType.resolution();
+            // exclusive bounds are treated as inclusive ones, which may keep shards that can't match but never skips one that can.
+            // Bounds are rounded down to the millisecond like the range of the shards is.
+            if (rangeQuery.from() != null) {
+                final long from = fieldType.parseToLong(rangeQuery.from(), rangeQuery.includeLower() == false, timeZone, parser,
+                    nowInMillis);
+                range[0] = Math.max(range[0], resolution.toInstant(from).toEpochMilli());
+            }
+            if (rangeQuery.to() != null) {
+                final long to = fieldType.parseToLong(rangeQuery.to(), rangeQuery.includeUpper(), timeZone, parser, nowInMillis);
+                range[1] = Math.min(range[1], resolution.toInstant(to).toEpochMilli());
+            }
+            return true;
+        } else if (query instanceof BoolQueryBuilder) {
+            final BoolQueryBuilder boolQuery = (BoolQueryBuilder) query;
+            boolean narrowed = false;
+            for (QueryBuilder clause : boolQuery.filter()) {
+                narrowed |= narrowToRequiredRange(clause, fieldType, nowInMillis, range);
+            }
+            for (QueryBuilder clause : boolQuery.must()) {
+                narrowed |= narrowToRequiredRange(clause, fieldType, nowInMillis, range);
+            }
+            return narrowed;
+        } else if (query instanceof ConstantScoreQueryBuilder) {
+            return narrowToRequiredRange(((ConstantScoreQueryBuilder) query).innerQuery(), fieldType, nowInMillis, range);
+        }
+        return false;
+    }
+
     static GroupShardsIterator<SearchShardIterator> mergeShardsIterators(List<SearchShardIterator> localShardIterators,
                                                                          List<SearchShardIterator> remoteShardIterators) {
         List<SearchShardIterator> shards = new ArrayList<>(remoteShardIterators);
@@ -831,8 +973,10 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 };
             }, clusters);
         } else {
+            final int maxConcurrentPartialReduces = clusterService.getClusterSettings().get(MAX_CONCURRENT_PARTIAL_REDUCES_SETTING);
             final QueryPhaseResultConsumer queryResultConsumer = searchPhaseController.newSearchPhaseResults(executor,
-                circuitBreaker, task.getProgressListener(), searchRequest, shardIterators.size(), exc -> cancelTask(task, exc));
+                circuitBreaker, task.getProgressListener(), searchRequest, shardIterators.size(), maxConcurrentPartialReduces,
+                exc -> cancelTask(task, exc));
             AbstractSearchAsyncAction<? extends SearchPhaseResult> searchAsyncAction;
             switch (searchRequest.searchType()) {
                 case DFS_QUERY_THEN_FETCH:
@@ -843,7 +987,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 case QUERY_THEN_FETCH:
                     searchAsyncAction = new SearchQueryThenFetchAsyncAction(logger, searchTransportService, connectionLookup,
                         aliasFilter, concreteIndexBoosts, indexRoutings, searchPhaseController, executor, queryResultConsumer,
-                        searchRequest, listener, shardIterators, timeProvider, clusterState, task, clusters);
+                        searchRequest, listener, shardIterators, timeProvider, clusterState, task, clusters,
+                        shardRequestHedging(searchRequest));
                     break;
                 default:
                     throw new IllegalStateException("Unknown search type: [" + searchRequest.searchType() + "]");
@@ -852,6 +997,26 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         }
     }
 
+    /**
+     * Returns how the shard requests of the given search are hedged, or null if they aren't. Requests are only hedged once enough
+     * shards responded to this node to know which response times are slow.
+     */
+    @Nullable
+    private ShardRequestHedging shardRequestHedging(SearchRequest searchRequest) {
+        final ClusterSettings clusterSettings = clusterService.getClusterSettings();
+        if (clusterSettings.get(HEDGED_REQUESTS_ENABLED_SETTING) == false
+            || searchRequest.scroll() != null || searchRequest.pointInTimeBuilder() != null) {
+            return null;
+        }
+        final OptionalLong responseTime = searchService.getResponseCollectorService()
+            .getResponseTimePercentile(clusterSettings.get(HEDGED_REQUESTS_DELAY_PERCENTILE_SETTING));
+        if (responseTime.isPresent() == false) {
+            return null;
+        }
+        final long delayNanos = Math.max(clusterSettings.get(HEDGED_REQUESTS_MIN_DELAY_SETTING).nanos(), responseTime.getAsLong());
+        return new ShardRequestHedging(TimeValue.timeValueNanos(delayNanos), threadPool, taskManager, clusterService.localNode());
+    }
+
     private void cancelTask(SearchTask task, Exception exc) {
         String errorMsg = exc.getMessage() != null ? exc.getMessage() : "";
         CancelTasksRequest req = new CancelTasksRequest()
@@ -38,6 +38,7 @@ import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.opensearch.LegacyESVersion;
 import org.opensearch.OpenSearchException;
 import org.opensearch.ExceptionsHelper;
+import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
 import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterState;
@@ -48,7 +49,9 @@ import org.opensearch.cluster.ClusterStateTaskListener;
 import org.opensearch.cluster.MasterNodeChangePredicate;
 import org.opensearch.cluster.NotMasterException;
 import org.opensearch.cluster.coordination.FailedToCommitClusterStateException;
+import org.opensearch.cluster.metadata.IndexLongFieldRange;
 import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.routing.RerouteService;
 import org.opensearch.cluster.routing.ShardRouting;
@@ -63,7 +66,9 @@ import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.Index;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.shard.ShardLongFieldRange;
 import org.opensearch.node.NodeClosedException;
 import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ThreadPool;
@@ -533,15 +538,33 @@ public class ShardStateAction {
                              final long primaryTerm,
                              final String message,
                              final ActionListener<Void> listener) {
-        shardStarted(shardRouting, primaryTerm, message, listener, clusterService.state());
+        shardStarted(shardRouting, primaryTerm, message, ShardLongFieldRange.UNKNOWN, listener);
     }
 
     public void shardStarted(final ShardRouting shardRouting,
                              final long primaryTerm,
                              final String message,
+                             final ShardLongFieldRange timestampRange,
+                             final ActionListener<Void> listener) {
+        shardStarted(shardRouting, primaryTerm, message, timestampRange, listener, clusterService.state());
+    }
+
+    public void shardStarted(final ShardRouting shardRouting,
+                             final long primaryTerm,
+                             final String message,
+                             final ActionListener<Void> listener,
+                             final ClusterState currentState) {
+        shardStarted(shardRouting, primaryTerm, message, ShardLongFieldRange.UNKNOWN, listener, currentState);
+    }
+
+    public void shardStarted(final ShardRouting shardRouting,
+                             final long primaryTerm,
+                             final String message,
+                             final ShardLongFieldRange timestampRange,
                              final ActionListener<Void> listener,
                              final ClusterState currentState) {
-        StartedShardEntry entry = new StartedShardEntry(shardRouting.shardId(), shardRouting.allocationId().getId(), primaryTerm, message);
+        StartedShardEntry entry = new StartedShardEntry(shardRouting.shardId(), shardRouting.allocationId().getId(), primaryTerm, message,
+            timestampRange);
         sendShardAction(SHARD_STARTED_ACTION_NAME, currentState, entry, listener);
     }
 
@@ -640,6 +663,7 @@ public class ShardStateAction {
             ClusterState maybeUpdatedState = currentState;
             try {
                 maybeUpdatedState = allocationService.applyStartedShards(currentState, shardRoutingsToBeApplied);
+                maybeUpdatedState = updateTimestampRanges(maybeUpdatedState, tasksToBeApplied);
                 builder.successes(tasksToBeApplied);
             } catch (Exception e) {
                 logger.warn(() -> new ParameterizedMessage("failed to apply started shards {}", shardRoutingsToBeApplied), e);
@@ -649,6 +673,36 @@ public class ShardStateAction {
             return builder.build(maybeUpdatedState);
         }
 
+        /**
+         * Folds the timestamp ranges reported by the started shards into the timestamp ranges of their indices. The ranges are only
+         * known if the indices still block writes, otherwise the shards may have been written to since they computed their range.
+         */
+        private static ClusterState updateTimestampRanges(ClusterState state, List<StartedShardEntry> startedShards) {
+            Metadata.Builder metadataBuilder = null;
+            for (StartedShardEntry startedShard : startedShards) {
+                if (ShardLongFieldRange.UNKNOWN.equals(startedShard.timestampRange)) {
+                    continue;
+                }
+                final Index index = startedShard.shardId.getIndex();
+                final IndexMetadata indexMetadata = metadataBuilder == null
+                    ? state.metadata().index(index)
+                    : metadataBuilder.get(index.getName());
+                if (indexMetadata == null || IndexMetadata.isWriteBlocked(indexMetadata.getSettings()) == false) {
+                    continue;
+                }
+                final IndexLongFieldRange currentRange = indexMetadata.getTimestampRange();
+                final IndexLongFieldRange newRange = currentRange.extendWithShardRange(startedShard.shardId.id(),
+                    indexMetadata.getNumberOfShards(), startedShard.timestampRange);
+                if (newRange != currentRange) {
+                    if (metadataBuilder == null) {
+                        metadataBuilder = Metadata.builder(state.metadata());
+                    }
+                    metadataBuilder.put(IndexMetadata.builder(indexMetadata).timestampRange(newRange));
+                }
+            }
+            return metadataBuilder == null ? state : ClusterState.builder(state).metadata(metadataBuilder).build();
+        }
+
         @Override
         public void onFailure(String source, Exception e) {
             if (e instanceof FailedToCommitClusterStateException || e instanceof NotMasterException) {
@@ -671,6 +725,7 @@ public class ShardStateAction {
         final String allocationId;
         final long primaryTerm;
         final String message;
+        final ShardLongFieldRange timestampRange;
 
         StartedShardEntry(StreamInput in) throws IOException {
             super(in);
@@ -689,13 +744,24 @@ public class ShardStateAction {
                 final Exception ex = in.readException();
                 assert ex == null : "started shard must not have failure [" + ex + "]";
             }
+            if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+                timestampRange = ShardLongFieldRange.readFrom(in);
+            } else {
+                timestampRange = ShardLongFieldRange.UNKNOWN;
+            }
         }
 
         public StartedShardEntry(final ShardId shardId, final String allocationId, final long primaryTerm, final String message) {
+            this(shardId, allocationId, primaryTerm, message, ShardLongFieldRange.UNKNOWN);
+        }
+
+        public StartedShardEntry(final ShardId shardId, final String allocationId, final long primaryTerm, final String message,
+                                 final ShardLongFieldRange timestampRange) {
             this.shardId = shardId;
             this.allocationId = allocationId;
             this.primaryTerm = primaryTerm;
             this.message = message;
+            this.timestampRange = timestampRange;
         }
 
         @Override
@@ -712,12 +778,16 @@ public class ShardStateAction {
             if (out.getVersion().before(LegacyESVersion.V_6_3_0)) {
                 out.writeException(null);
             }
+            if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+                timestampRange.writeTo(out);
+            }
         }
 
         @Override
         public String toString() {
-            return String.format(Locale.ROOT,  "StartedShardEntry{shardId [%s], allocationId [%s], primary term [%d], message [%s]}",
-                shardId, allocationId, primaryTerm, message);
+            return String.format(Locale.ROOT,
+                "StartedShardEntry{shardId [%s], allocationId [%s], primary term [%d], message [%s], timestamp range [%s]}",
+                shardId, allocationId, primaryTerm, message, timestampRange);
         }
     }
 
@@ -0,0 +1,225 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.metadata;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.index.mapper.DateFieldFormat;
+import org.opensearch.index.shard.ShardLongFieldRange;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The inclusive range of the values of a long field, like the timestamp field of a data stream, in the documents of an index. The
+ * range is built from the {@link ShardLongFieldRange}s that the shards report when they start, and it can only be relied on once
+ * every shard of the index reported its range, see {@link #isComplete()}. The range of a date field comes with the mapped format of
+ * the field, see {@link #getFormat()}.
+ */
+public final class IndexLongFieldRange implements Writeable, ToXContentFragment {
+
+    /**
+     * No shard reported its range yet.
+     */
+    public static final IndexLongFieldRange NO_SHARDS = new IndexLongFieldRange(new int[0], Long.MAX_VALUE, Long.MIN_VALUE, null);
+
+    /**
+     * Every shard reported its range, and at least one of them doesn't know it, so the index may contain any value.
+     */
+    public static final IndexLongFieldRange UNKNOWN = new IndexLongFieldRange(null, Long.MIN_VALUE, Long.MAX_VALUE, null);
+
+    /**
+     * Every shard reported that it contains no value.
+     */
+    public static final IndexLongFieldRange EMPTY = new IndexLongFieldRange(null, Long.MAX_VALUE, Long.MIN_VALUE, null);
+
+    private static final String SHARDS_FIELD = "shards";
+    private static final String MIN_FIELD = "min";
+    private static final String MAX_FIELD = "max";
+    private static final String FORMAT_FIELD = "format";
+
+    /**
+     * The sorted ids of the shards that reported their range, or null if all the shards of the index did.
+     */
+    @Nullable
+    private final int[] shards;
+    private final long min;
+    private final long max;
+    @Nullable
+    private final DateFieldFormat format;
+
+    private IndexLongFieldRange(@Nullable int[] shards, long min, long max, @Nullable DateFieldFormat format) {
+        this.shards = shards;
+        this.min = min;
+        this.max = max;
+        this.format = format;
+    }
+
+    public static IndexLongFieldRange readFrom(StreamInput in) throws IOException {
+        final int[] shards = in.readBoolean() ? in.readVIntArray() : null;
+        return new IndexLongFieldRange(shards, in.readZLong(), in.readZLong(), in.readOptionalWriteable(DateFieldFormat::new));
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeBoolean(shards != null);
+        if (shards != null) {
+            out.writeVIntArray(shards);
+        }
+        out.writeZLong(min);
+        out.writeZLong(max);
+        out.writeOptionalWriteable(format);
+    }
+
+    /**
+     * Returns whether every shard of the index reported its range.
+     */
+    public boolean isComplete() {
+        return shards == null;
+    }
+
+    /**
+     * The minimum value of the field in the shards that reported their range, or {@link Long#MAX_VALUE} if they contain no value.
+     */
+    public long getMin() {
+        return min;
+    }
+
+    /**
+     * The maximum value of the field in the shards that reported their range, or {@link Long#MIN_VALUE} if they contain no value.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * The mapped format of the field if it is a date field, which the min and max are then the milliseconds since the epoch of, or
+     * null if it isn't or no shard reported a value. The values of the field in queries must be parsed with this format to be
+     * compared with the range.
+     */
+    @Nullable
+    public DateFieldFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Returns whether a document of the index may have a value of the field within the given inclusive bounds. This must only be
+     * called once the range is complete.
+     */
+    public boolean intersects(long from, long to) {
+        assert isComplete() : "the range of the index isn't known until all its shards reported it";
+        return min <= max && from <= max && to >= min;
+    }
+
+    /**
+     * Returns the range that also includes the range reported by the given shard.
+     */
+    public IndexLongFieldRange extendWithShardRange(int shardId, int numberOfShards, ShardLongFieldRange shardRange) {
+        assert shardId >= 0 && shardId < numberOfShards : shardId + " not in [0, " + numberOfShards + ")";
+        final long newMin = Math.min(min, shardRange.getMin());
+        final long newMax = Math.max(max, shardRange.getMax());
+        // the format of a field can't be updated, so every shard reports the same one
+        final DateFieldFormat newFormat = format == null ? shardRange.getFormat() : format;
+        final int[] newShards;
+        if (shards == null || Arrays.binarySearch(shards, shardId) >= 0) {
+            newShards = shards;
+        } else {
+            final int[] extendedShards = Arrays.copyOf(shards, shards.length + 1);
+            extendedShards[shards.length] = shardId;
+            Arrays.sort(extendedShards);
+            newShards = extendedShards.length == numberOfShards ? null : extendedShards;
+        }
+        if (newShards == shards && newMin == min && newMax == max && newFormat == format) {
+            return this;
+        }
+        return new IndexLongFieldRange(newShards, newMin, newMax, newFormat);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        if (shards != null) {
+            builder.array(SHARDS_FIELD, shards);
+        }
+        builder.field(MIN_FIELD, min);
+        builder.field(MAX_FIELD, max);
+        if (format != null) {
+            builder.startObject(FORMAT_FIELD);
+            format.toXContent(builder, params);
+            builder.endObject();
+        }
+        return builder;
+    }
+
+    public static IndexLongFieldRange fromXContent(XContentParser parser) throws IOException {
+        int[] shards = null;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        DateFieldFormat format = null;
+        String currentFieldName = null;
+        XContentParser.Token token;
+        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+            if (token == XContentParser.Token.FIELD_NAME) {
+                currentFieldName = parser.currentName();
+            } else if (token == XContentParser.Token.START_ARRAY) {
+                if (SHARDS_FIELD.equals(currentFieldName)) {
+                    final List<Integer> shardIds = new ArrayList<>();
+                    while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
+                        shardIds.add(parser.intValue());
+                    }
+                    shards = shardIds.stream().mapToInt(Integer::intValue).sorted().toArray();
+                } else {
+                    throw new IllegalArgumentException("Unexpected field for an array " + currentFieldName);
+                }
+            } else if (token == XContentParser.Token.START_OBJECT) {
+                if (FORMAT_FIELD.equals(currentFieldName)) {
+                    format = DateFieldFormat.fromXContent(parser);
+                } else {
+                    throw new IllegalArgumentException("Unexpected field for an object " + currentFieldName);
+                }
+            } else if (token.isValue()) {
+                if (MIN_FIELD.equals(currentFieldName)) {
+                    min = parser.longValue();
+                } else if (MAX_FIELD.equals(currentFieldName)) {
+                    max = parser.longValue();
+                } else {
+                    throw new IllegalArgumentException("Unexpected field [" + currentFieldName + "]");
+                }
+            } else {
+                throw new IllegalArgumentException("Unexpected token " + token);
+            }
+        }
+        return new IndexLongFieldRange(shards, min, max, format);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IndexLongFieldRange that = (IndexLongFieldRange) o;
+        return min == that.min && max == that.max && Arrays.equals(shards, that.shards) && Objects.equals(format, that.format);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(min, max, format) + Arrays.hashCode(shards);
+    }
+
+    @Override
+    public String toString() {
+        return "IndexLongFieldRange{shards=" + Arrays.toString(shards) + ", min=" + min + ", max=" + max + ", format=" + format + "}";
+    }
+}
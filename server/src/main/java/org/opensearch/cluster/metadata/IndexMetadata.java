@@ -70,6 +70,7 @@ import org.opensearch.index.Index;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.indices.replication.common.ReplicationType;
 import org.opensearch.rest.RestStatus;
 
 import java.io.IOException;
@@ -345,6 +346,15 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
     public static final Setting<Boolean> INDEX_HIDDEN_SETTING =
         Setting.boolSetting(SETTING_INDEX_HIDDEN, false, Property.Dynamic, Property.IndexScope);
 
+    public static final String SETTING_REPLICATION_TYPE = "index.replication.type";
+    /**
+     * How the operations of the primary shards of the index are replicated to their replicas, which can't be changed after
+     * the index is created.
+     */
+    public static final Setting<ReplicationType> INDEX_REPLICATION_TYPE_SETTING =
+        new Setting<>(SETTING_REPLICATION_TYPE, ReplicationType.DOCUMENT.toString(), ReplicationType::parseString,
+            Property.IndexScope, Property.Final);
+
     /**
      * an internal index format description, allowing us to find out if this index is upgraded or needs upgrading
      */
@@ -364,11 +374,13 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
     static final String KEY_ALIASES = "aliases";
     static final String KEY_ROLLOVER_INFOS = "rollover_info";
     static final String KEY_SYSTEM = "system";
+    static final String KEY_TIMESTAMP_RANGE = "timestamp_range";
     public static final String KEY_PRIMARY_TERMS = "primary_terms";
 
     public static final String INDEX_STATE_FILE_PREFIX = "state-";
 
     static final Version SYSTEM_INDEX_FLAG_ADDED = LegacyESVersion.V_7_10_0;
+    static final Version TIMESTAMP_RANGE_ADDED = Version.V_1_1_0;
 
     private final int routingNumShards;
     private final int routingFactor;
@@ -413,6 +425,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
     private final ActiveShardCount waitForActiveShards;
     private final ImmutableOpenMap<String, RolloverInfo> rolloverInfos;
     private final boolean isSystem;
+    private final IndexLongFieldRange timestampRange;
 
     private IndexMetadata(
             final Index index,
@@ -439,7 +452,8 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
             final int routingPartitionSize,
             final ActiveShardCount waitForActiveShards,
             final ImmutableOpenMap<String, RolloverInfo> rolloverInfos,
-            final boolean isSystem) {
+            final boolean isSystem,
+            final IndexLongFieldRange timestampRange) {
 
         this.index = index;
         this.version = version;
@@ -472,6 +486,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         this.waitForActiveShards = waitForActiveShards;
         this.rolloverInfos = rolloverInfos;
         this.isSystem = isSystem;
+        this.timestampRange = timestampRange;
         assert numberOfShards * routingFactor == routingNumShards :  routingNumShards + " must be a multiple of " + numberOfShards;
     }
 
@@ -660,6 +675,21 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         return rolloverInfos;
     }
 
+    /**
+     * Returns the range of the timestamp field of the index, which its shards report when they start if the index is a read-only
+     * backing index of a data stream, see {@link IndexLongFieldRange}.
+     */
+    public IndexLongFieldRange getTimestampRange() {
+        return timestampRange;
+    }
+
+    /**
+     * Returns whether the given index settings block writes, in which case the documents of the index can't change.
+     */
+    public static boolean isWriteBlocked(Settings settings) {
+        return INDEX_BLOCKS_WRITE_SETTING.get(settings) || INDEX_READ_ONLY_SETTING.get(settings);
+    }
+
     public Set<String> inSyncAllocationIds(int shardId) {
         assert shardId >= 0 && shardId < numberOfShards;
         return inSyncAllocationIds.get(shardId);
@@ -736,6 +766,9 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         if (isSystem != that.isSystem) {
             return false;
         }
+        if (timestampRange.equals(that.timestampRange) == false) {
+            return false;
+        }
         return true;
     }
 
@@ -754,6 +787,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         result = 31 * result + inSyncAllocationIds.hashCode();
         result = 31 * result + rolloverInfos.hashCode();
         result = 31 * result + Boolean.hashCode(isSystem);
+        result = 31 * result + timestampRange.hashCode();
         return result;
     }
 
@@ -794,6 +828,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         private final Diff<ImmutableOpenIntMap<Set<String>>> inSyncAllocationIds;
         private final Diff<ImmutableOpenMap<String, RolloverInfo>> rolloverInfos;
         private final boolean isSystem;
+        private final IndexLongFieldRange timestampRange;
 
         IndexMetadataDiff(IndexMetadata before, IndexMetadata after) {
             index = after.index.getName();
@@ -812,6 +847,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
                 DiffableUtils.getVIntKeySerializer(), DiffableUtils.StringSetValueSerializer.getInstance());
             rolloverInfos = DiffableUtils.diff(before.rolloverInfos, after.rolloverInfos, DiffableUtils.getStringKeySerializer());
             isSystem = after.isSystem;
+            timestampRange = after.timestampRange;
         }
 
         private static final DiffableUtils.DiffableValueReader<String, AliasMetadata> ALIAS_METADATA_DIFF_VALUE_READER =
@@ -857,6 +893,11 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
             } else {
                 isSystem = false;
             }
+            if (in.getVersion().onOrAfter(TIMESTAMP_RANGE_ADDED)) {
+                timestampRange = IndexLongFieldRange.readFrom(in);
+            } else {
+                timestampRange = IndexLongFieldRange.NO_SHARDS;
+            }
         }
 
         @Override
@@ -886,6 +927,9 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
             if (out.getVersion().onOrAfter(SYSTEM_INDEX_FLAG_ADDED)) {
                 out.writeBoolean(isSystem);
             }
+            if (out.getVersion().onOrAfter(TIMESTAMP_RANGE_ADDED)) {
+                timestampRange.writeTo(out);
+            }
         }
 
         @Override
@@ -905,6 +949,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
             builder.inSyncAllocationIds.putAll(inSyncAllocationIds.apply(part.inSyncAllocationIds));
             builder.rolloverInfos.putAll(rolloverInfos.apply(part.rolloverInfos));
             builder.system(part.isSystem);
+            builder.timestampRange(timestampRange);
             return builder.build();
         }
     }
@@ -962,6 +1007,9 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         if (in.getVersion().onOrAfter(SYSTEM_INDEX_FLAG_ADDED)) {
             builder.system(in.readBoolean());
         }
+        if (in.getVersion().onOrAfter(TIMESTAMP_RANGE_ADDED)) {
+            builder.timestampRange(IndexLongFieldRange.readFrom(in));
+        }
         return builder.build();
     }
 
@@ -1013,6 +1061,9 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         if (out.getVersion().onOrAfter(SYSTEM_INDEX_FLAG_ADDED)) {
             out.writeBoolean(isSystem);
         }
+        if (out.getVersion().onOrAfter(TIMESTAMP_RANGE_ADDED)) {
+            timestampRange.writeTo(out);
+        }
     }
 
     public boolean isSystem() {
@@ -1044,6 +1095,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         private final ImmutableOpenMap.Builder<String, RolloverInfo> rolloverInfos;
         private Integer routingNumShards;
         private boolean isSystem;
+        private IndexLongFieldRange timestampRange = IndexLongFieldRange.NO_SHARDS;
 
         public Builder(String index) {
             this.index = index;
@@ -1071,6 +1123,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
             this.inSyncAllocationIds = ImmutableOpenIntMap.builder(indexMetadata.inSyncAllocationIds);
             this.rolloverInfos = ImmutableOpenMap.builder(indexMetadata.rolloverInfos);
             this.isSystem = indexMetadata.isSystem;
+            this.timestampRange = indexMetadata.timestampRange;
         }
 
         public Builder index(String index) {
@@ -1279,6 +1332,15 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
             return isSystem;
         }
 
+        public Builder timestampRange(IndexLongFieldRange timestampRange) {
+            this.timestampRange = timestampRange;
+            return this;
+        }
+
+        public IndexLongFieldRange getTimestampRange() {
+            return timestampRange;
+        }
+
         public IndexMetadata build() {
             ImmutableOpenMap.Builder<String, AliasMetadata> tmpAliases = aliases;
             Settings tmpSettings = settings;
@@ -1392,7 +1454,8 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
                     routingPartitionSize,
                     waitForActiveShards,
                     rolloverInfos.build(),
-                    isSystem);
+                    isSystem,
+                    timestampRange);
         }
 
         public static void toXContent(IndexMetadata indexMetadata, XContentBuilder builder, ToXContent.Params params) throws IOException {
@@ -1492,6 +1555,11 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
             }
             builder.endObject();
             builder.field(KEY_SYSTEM, indexMetadata.isSystem);
+            if (indexMetadata.timestampRange.equals(IndexLongFieldRange.NO_SHARDS) == false) {
+                builder.startObject(KEY_TIMESTAMP_RANGE);
+                indexMetadata.timestampRange.toXContent(builder, params);
+                builder.endObject();
+            }
 
             builder.endObject();
         }
@@ -1566,6 +1634,8 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
                                 throw new IllegalArgumentException("Unexpected token: " + token);
                             }
                         }
+                    } else if (KEY_TIMESTAMP_RANGE.equals(currentFieldName)) {
+                        builder.timestampRange(IndexLongFieldRange.fromXContent(parser));
                     } else if ("warmers".equals(currentFieldName)) {
                         // TODO: do this in 6.0:
                         // throw new IllegalArgumentException("Warmers are not supported anymore - are you upgrading from 1.x?");
@@ -84,6 +84,7 @@ import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.MapperService.MergeReason;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.index.shard.IndexSettingProvider;
+import org.opensearch.index.store.snapshot.SnapshotDirectoryFactory;
 import org.opensearch.indices.IndexCreationException;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.InvalidIndexNameException;
@@ -783,6 +784,7 @@ public class MetadataCreateIndexService {
                     "Please do not specify value for setting [index.soft_deletes.enabled] of index [" + request.index() + "].");
         }
         validateTranslogRetentionSettings(indexSettings);
+        validateStoreTypeSettings(indexSettings);
         return indexSettings;
     }
 
@@ -1245,6 +1247,16 @@ public class MetadataCreateIndexService {
         }
     }
 
+    /**
+     * Validates that the index isn't mounted from a snapshot, since the snapshot of such an index is set when the index is restored.
+     */
+    static void validateStoreTypeSettings(Settings indexSettings) {
+        if (SnapshotDirectoryFactory.isSnapshotStore(indexSettings)) {
+            throw new IllegalArgumentException("store type [" + SnapshotDirectoryFactory.STORE_TYPE
+                + "] can only be set when restoring a snapshot");
+        }
+    }
+
     public static void validateTranslogRetentionSettings(Settings indexSettings) {
         if (IndexSettings.INDEX_SOFT_DELETES_SETTING.get(indexSettings) &&
             (IndexSettings.INDEX_TRANSLOG_RETENTION_AGE_SETTING.exists(indexSettings)
@@ -261,6 +261,10 @@ public class MetadataUpdateSettingsService {
                         changed = true;
                         final IndexMetadata.Builder builder = IndexMetadata.builder(metadataBuilder.get(index));
                         builder.settingsVersion(1 + builder.settingsVersion());
+                        if (IndexMetadata.isWriteBlocked(metadataBuilder.get(index).getSettings()) == false) {
+                            // the shards may be written to again, so the range of their timestamps is no longer known
+                            builder.timestampRange(IndexLongFieldRange.NO_SHARDS);
+                        }
                         metadataBuilder.put(builder);
                     }
                 }
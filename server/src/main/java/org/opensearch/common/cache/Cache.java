@@ -80,7 +80,7 @@ import java.util.function.ToLongBiFunction;
  * @param <K> The type of the keys
  * @param <V> The type of the values
  */
-public class Cache<K, V> {
+public class Cache<K, V> implements ICache<K, V> {
 
     // positive if entries have an expiration
     private long expireAfterAccessNanos = -1;
@@ -369,6 +369,7 @@ public class Cache<K, V> {
      * @param key the key whose associated value is to be returned
      * @return the value to which the specified key is mapped, or null if this map contains no mapping for the key
      */
+    @Override
     public V get(K key) {
         return get(key, now(), e -> {});
     }
@@ -398,6 +399,7 @@ public class Cache<K, V> {
      * @return the current (existing or computed) non-null value associated with the specified key
      * @throws ExecutionException thrown if loader throws an exception or returns a null value
      */
+    @Override
     public V computeIfAbsent(K key, CacheLoader<K, V> loader) throws ExecutionException {
         long now = now();
         // we have to eagerly evict expired entries or our putIfAbsent call below will fail
@@ -480,6 +482,7 @@ public class Cache<K, V> {
      * @param key   key with which the specified value is to be associated
      * @param value value to be associated with the specified key
      */
+    @Override
     public void put(K key, V value) {
         long now = now();
         put(key, value, now);
@@ -522,6 +525,7 @@ public class Cache<K, V> {
      *
      * @param key the key whose mapping is to be invalidated from the cache
      */
+    @Override
     public void invalidate(K key) {
         CacheSegment<K, V> segment = getCacheSegment(key);
         segment.remove(key, invalidationConsumer);
@@ -535,6 +539,7 @@ public class Cache<K, V> {
      * @param key the key whose mapping is to be invalidated from the cache
      * @param value the expected value that should be associated with the key
      */
+    @Override
     public void invalidate(K key, V value) {
         CacheSegment<K, V> segment = getCacheSegment(key);
         segment.remove(key, value, invalidationConsumer);
@@ -544,6 +549,7 @@ public class Cache<K, V> {
      * Invalidate all cache entries. A removal notification will be issued for invalidated entries with
      * {@link org.opensearch.common.cache.RemovalNotification.RemovalReason} INVALIDATED.
      */
+    @Override
     public void invalidateAll() {
         Entry<K, V> h;
 
@@ -581,6 +587,7 @@ public class Cache<K, V> {
     /**
      * Force any outstanding size-based and time-based evictions to occur
      */
+    @Override
     public void refresh() {
         long now = now();
         try (ReleasableLock ignored = lruLock.acquire()) {
@@ -593,6 +600,7 @@ public class Cache<K, V> {
      *
      * @return the number of entries in the cache
      */
+    @Override
     public int count() {
         return count;
     }
@@ -602,6 +610,7 @@ public class Cache<K, V> {
      *
      * @return the weight of the entries in the cache
      */
+    @Override
     public long weight() {
         return weight;
     }
@@ -613,6 +622,7 @@ public class Cache<K, V> {
      *
      * @return an LRU-ordered {@link Iterable} over the keys in the cache
      */
+    @Override
     public Iterable<K> keys() {
         return () -> new Iterator<K>() {
             private CacheIterator iterator = new CacheIterator(head);
@@ -641,6 +651,7 @@ public class Cache<K, V> {
      *
      * @return an LRU-ordered {@link Iterable} over the values in the cache
      */
+    @Override
     public Iterable<V> values() {
         return () -> new Iterator<V>() {
             private CacheIterator iterator = new CacheIterator(head);
@@ -703,6 +714,7 @@ public class Cache<K, V> {
      *
      * @return the current cache statistics
      */
+    @Override
     public CacheStats stats() {
         long hits = 0;
         long misses = 0;
@@ -719,11 +731,17 @@ public class Cache<K, V> {
         private long hits;
         private long misses;
         private long evictions;
+        private long rejections;
 
         public CacheStats(long hits, long misses, long evictions) {
+            this(hits, misses, evictions, 0);
+        }
+
+        public CacheStats(long hits, long misses, long evictions, long rejections) {
             this.hits = hits;
             this.misses = misses;
             this.evictions = evictions;
+            this.rejections = rejections;
         }
 
         public long getHits() {
@@ -737,6 +755,14 @@ public class Cache<K, V> {
         public long getEvictions() {
             return evictions;
         }
+
+        /**
+         * The number of new entries that were evicted right away because the admission policy of the cache considered them
+         * less valuable than the entries that they would have replaced. These evictions are included in {@link #getEvictions()}.
+         */
+        public long getRejections() {
+            return rejections;
+        }
     }
 
     private boolean promote(Entry<K, V> entry, long now) {
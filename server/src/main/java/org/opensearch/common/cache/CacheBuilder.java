@@ -103,6 +103,21 @@ public class CacheBuilder<K, V> {
         return this;
     }
 
+    /**
+     * Builds a cache that uses the given policy to choose the entries to evict when it exceeds its maximum weight.
+     */
+    public ICache<K, V> build(ICache.EvictionPolicy evictionPolicy) {
+        switch (evictionPolicy) {
+            case LRU:
+                return build();
+            case TINY_LFU:
+                return new TinyLfuCache<>(maximumWeight, expireAfterAccessNanos, expireAfterWriteNanos,
+                    weigher == null ? (k, v) -> 1 : weigher, removalListener == null ? notification -> {} : removalListener);
+            default:
+                throw new IllegalArgumentException("unknown cache eviction policy [" + evictionPolicy + "]");
+        }
+    }
+
     public Cache<K, V> build() {
         Cache<K, V> cache = new Cache<>();
         if (maximumWeight != -1) {
@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A cache whose entries are weighted and evicted once their total weight exceeds a maximum weight or once they expire. The
+ * entries to evict are chosen according to the {@link EvictionPolicy} of the cache, use {@link CacheBuilder} to construct
+ * one.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+public interface ICache<K, V> {
+
+    /**
+     * Returns the value to which the specified key is mapped, or null if this map contains no mapping for the key.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or null if this map contains no mapping for the key
+     */
+    V get(K key);
+
+    /**
+     * If the specified key is not already associated with a value (or is mapped to null), attempts to compute its
+     * value using the given mapping function and enters it into this map unless null. The load method for a given key
+     * will be invoked at most once.
+     *
+     * @param key    the key whose associated value is to be returned or computed for if non-existent
+     * @param loader the function to compute a value given a key
+     * @return the current (existing or computed) non-null value associated with the specified key
+     * @throws ExecutionException thrown if loader throws an exception or returns a null value
+     */
+    V computeIfAbsent(K key, CacheLoader<K, V> loader) throws ExecutionException;
+
+    /**
+     * Associates the specified value with the specified key in this map. If the map previously contained a mapping for
+     * the key, the old value is replaced.
+     *
+     * @param key   key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     */
+    void put(K key, V value);
+
+    /**
+     * Invalidate the association for the specified key. A removal notification will be issued for invalidated
+     * entries with {@link org.opensearch.common.cache.RemovalNotification.RemovalReason} INVALIDATED.
+     *
+     * @param key the key whose mapping is to be invalidated from the cache
+     */
+    void invalidate(K key);
+
+    /**
+     * Invalidate the entry for the specified key and value. If the value provided is not equal to the value in
+     * the cache, no removal will occur. A removal notification will be issued for invalidated
+     * entries with {@link org.opensearch.common.cache.RemovalNotification.RemovalReason} INVALIDATED.
+     *
+     * @param key the key whose mapping is to be invalidated from the cache
+     * @param value the expected value that should be associated with the key
+     */
+    void invalidate(K key, V value);
+
+    /**
+     * Invalidate all cache entries. A removal notification will be issued for invalidated entries with
+     * {@link org.opensearch.common.cache.RemovalNotification.RemovalReason} INVALIDATED.
+     */
+    void invalidateAll();
+
+    /**
+     * Force any outstanding size-based and time-based evictions to occur
+     */
+    void refresh();
+
+    /**
+     * The number of entries in the cache.
+     *
+     * @return the number of entries in the cache
+     */
+    int count();
+
+    /**
+     * The weight of the entries in the cache.
+     *
+     * @return the weight of the entries in the cache
+     */
+    long weight();
+
+    /**
+     * The keys in the cache, in an order that depends on the eviction policy of the cache. The keys can be removed with
+     * {@link java.util.Iterator#remove()}.
+     *
+     * @return an {@link Iterable} over the keys in the cache
+     */
+    Iterable<K> keys();
+
+    /**
+     * The values in the cache, in an order that depends on the eviction policy of the cache.
+     *
+     * @return an {@link Iterable} over the values in the cache
+     */
+    Iterable<V> values();
+
+    /**
+     * The cache statistics tracking hits, misses and evictions. These are taken on a best-effort basis meaning that
+     * they could be out-of-date mid-flight.
+     *
+     * @return the current cache statistics
+     */
+    Cache.CacheStats stats();
+
+    /**
+     * The policy that a cache uses to choose the entries to evict when it exceeds its maximum weight.
+     */
+    enum EvictionPolicy {
+        /**
+         * Evicts the least recently used entries, see {@link Cache}.
+         */
+        LRU,
+        /**
+         * Admits new entries only if they are accessed more frequently than the entries they would replace, see
+         * {@link TinyLfuCache}.
+         */
+        TINY_LFU;
+
+        public static EvictionPolicy parse(String value) {
+            switch (value) {
+                case "lru":
+                    return LRU;
+                case "tiny_lfu":
+                    return TINY_LFU;
+                default:
+                    throw new IllegalArgumentException("unknown cache eviction policy [" + value + "], must be one of [lru, tiny_lfu]");
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+}
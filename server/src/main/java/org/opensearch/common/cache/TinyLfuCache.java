@@ -0,0 +1,780 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * A concurrent cache with a W-TinyLFU eviction policy.
+ * <p>
+ * The entries of the cache are stored in a {@link ConcurrentHashMap}, so reads never take a lock. The eviction policy needs
+ * to know the order in which entries are accessed, but instead of updating this order on every access under a lock like
+ * {@link Cache} does, accesses are recorded in buffers that a single thread at a time applies under the eviction lock:
+ * reads are recorded in lossy striped ring buffers, and writes in a queue. Threads that access the cache only try to
+ * acquire the eviction lock to drain these buffers, so the lock never blocks them.
+ * <p>
+ * New entries are added to a small LRU window, which holds 1% of the maximum weight of the cache. The entries that leave
+ * the window are candidates to enter the main space of the cache, where they are only admitted if their keys were accessed
+ * more frequently than the keys of the entries they would replace. The frequency of the keys is estimated with a count-min
+ * sketch whose counters are periodically halved, so that the cache adapts to changes of the working set. The main space
+ * is a segmented LRU: admitted entries enter its probation segment, and are promoted to its protected segment, which
+ * holds 80% of the main space, when they are accessed again. This protects frequently accessed entries from scans and
+ * bursts of entries that are only accessed once, which would flush a plain LRU cache.
+ * <p>
+ * Since accesses are applied asynchronously, evictions and {@link #weight()} are eventually consistent. {@link #refresh()}
+ * applies all the recorded accesses, and the evictions that follow. Iteration order is unspecified.
+ *
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ */
+public class TinyLfuCache<K, V> implements ICache<K, V> {
+
+    // the share of the maximum weight of the cache that is used by the window
+    private static final double WINDOW_RATIO = 0.01;
+
+    // the share of the main space of the cache that is used by the protected segment
+    private static final double PROTECTED_RATIO = 0.8;
+
+    // the status of the draining of the buffers
+    private static final int IDLE = 0;
+    private static final int REQUIRED = 1;
+    private static final int PROCESSING = 2;
+
+    private final long maximumWeight;
+    private final long maximumWindowWeight;
+    private final long maximumProtectedWeight;
+    private final long expireAfterAccessNanos;
+    private final long expireAfterWriteNanos;
+    private final boolean entriesExpireAfterAccess;
+    private final boolean entriesExpireAfterWrite;
+    private final ToLongBiFunction<K, V> weigher;
+    private final RemovalListener<K, V> removalListener;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    // the loads of computeIfAbsent that are in progress
+    private final ConcurrentHashMap<K, CompletableFuture<V>> loads = new ConcurrentHashMap<>();
+
+    private final ReadBuffer<Node<K, V>> readBuffer = new ReadBuffer<>();
+    private final Queue<Runnable> writeBuffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger drainStatus = new AtomicInteger(IDLE);
+
+    // lock protecting the eviction policy, everything below is only accessed under this lock
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AccessOrderDeque<K, V> window = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> probation = new AccessOrderDeque<>();
+    private final AccessOrderDeque<K, V> protectedSegment = new AccessOrderDeque<>();
+    private final FrequencySketch sketch = new FrequencySketch();
+    private long windowWeight;
+    private long protectedWeight;
+    // only modified under the eviction lock, but read without it
+    private volatile long weight;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    // use CacheBuilder to construct
+    TinyLfuCache(long maximumWeight, long expireAfterAccessNanos, long expireAfterWriteNanos, ToLongBiFunction<K, V> weigher,
+                 RemovalListener<K, V> removalListener) {
+        this.maximumWeight = maximumWeight;
+        if (maximumWeight == -1) {
+            this.maximumWindowWeight = Long.MAX_VALUE;
+            this.maximumProtectedWeight = Long.MAX_VALUE;
+        } else {
+            this.maximumWindowWeight = maximumWeight - (long) ((1 - WINDOW_RATIO) * maximumWeight);
+            this.maximumProtectedWeight = (long) (PROTECTED_RATIO * (maximumWeight - maximumWindowWeight));
+        }
+        this.expireAfterAccessNanos = expireAfterAccessNanos;
+        this.entriesExpireAfterAccess = expireAfterAccessNanos != -1;
+        this.expireAfterWriteNanos = expireAfterWriteNanos;
+        this.entriesExpireAfterWrite = expireAfterWriteNanos != -1;
+        this.weigher = Objects.requireNonNull(weigher);
+        this.removalListener = Objects.requireNonNull(removalListener);
+    }
+
+    /**
+     * The relative time used to track time-based evictions.
+     *
+     * @return the current relative time
+     */
+    protected long now() {
+        // System.nanoTime takes non-negligible time, so we only use it if we need it
+        return entriesExpireAfterAccess || entriesExpireAfterWrite ? System.nanoTime() : 0;
+    }
+
+    // pkg-private for testing
+    long getExpireAfterAccessNanos() {
+        return expireAfterAccessNanos;
+    }
+
+    // pkg-private for testing
+    long getExpireAfterWriteNanos() {
+        return expireAfterWriteNanos;
+    }
+
+    @Override
+    public V get(K key) {
+        Node<K, V> node = getNode(key, now(), false);
+        return node == null ? null : node.value;
+    }
+
+    private Node<K, V> getNode(K key, long now, boolean evictIfExpired) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        if (isExpired(node, now)) {
+            misses.increment();
+            if (evictIfExpired && data.remove(key, node)) {
+                evictions.increment();
+                afterWrite(() -> unlink(node));
+                removalListener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalNotification.RemovalReason.EVICTED));
+            }
+            return null;
+        }
+        hits.increment();
+        if (entriesExpireAfterAccess) {
+            node.accessTime = now;
+        }
+        if (readBuffer.offer(node) || drainStatus.get() == REQUIRED) {
+            scheduleDrain();
+        }
+        return node;
+    }
+
+    /**
+     * If the specified key is not already associated with a value, computes its value using the given loader and enters it
+     * into this cache unless it is null. The loader is invoked at most once for a given key at a time: the callers that
+     * request the same key concurrently wait for the result of the first loader, including its exceptions.
+     *
+     * @param key    the key whose associated value is to be returned or computed for if non-existent
+     * @param loader the function to compute a value given a key
+     * @return the current (existing or computed) non-null value associated with the specified key
+     * @throws ExecutionException thrown if loader throws an exception or returns a null value
+     */
+    @Override
+    public V computeIfAbsent(K key, CacheLoader<K, V> loader) throws ExecutionException {
+        long now = now();
+        Node<K, V> node = getNode(key, now, true);
+        if (node != null) {
+            return node.value;
+        }
+        // the loader is not invoked under a lock, since it may load other keys of this cache; instead, the first caller
+        // registers a future that the other callers for the same key wait for
+        CompletableFuture<V> load = new CompletableFuture<>();
+        CompletableFuture<V> ongoingLoad = loads.putIfAbsent(key, load);
+        if (ongoingLoad != null) {
+            try {
+                return ongoingLoad.get();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        try {
+            // another caller may have loaded the value after our lookup but before we registered our load
+            Node<K, V> loaded = data.get(key);
+            V value = loaded == null || isExpired(loaded, now) ? null : loaded.value;
+            if (value == null) {
+                try {
+                    value = loader.load(key);
+                } catch (Exception e) {
+                    load.completeExceptionally(e);
+                    throw new ExecutionException(e);
+                }
+                if (value == null) {
+                    NullPointerException npe = new NullPointerException("loader returned a null value");
+                    load.completeExceptionally(npe);
+                    throw new ExecutionException(npe);
+                }
+                put(key, value, now);
+            }
+            load.complete(value);
+            return value;
+        } finally {
+            loads.remove(key, load);
+        }
+    }
+
+    @Override
+    public void put(K key, V value) {
+        put(key, value, now());
+    }
+
+    private void put(K key, V value, long now) {
+        Node<K, V> node = new Node<>(key, value, weigher.applyAsLong(key, value), now);
+        Node<K, V> existing = data.put(key, node);
+        writeBuffer.add(() -> link(node));
+        if (existing != null) {
+            writeBuffer.add(() -> unlink(existing));
+        }
+        scheduleDrain();
+        if (existing != null) {
+            removalListener.onRemoval(new RemovalNotification<>(existing.key, existing.value,
+                RemovalNotification.RemovalReason.REPLACED));
+        }
+    }
+
+    @Override
+    public void invalidate(K key) {
+        Node<K, V> node = data.remove(key);
+        if (node != null) {
+            onInvalidation(node);
+        }
+    }
+
+    @Override
+    public void invalidate(K key, V value) {
+        Node<K, V> node = data.get(key);
+        if (node != null && Objects.equals(value, node.value) && data.remove(key, node)) {
+            onInvalidation(node);
+        }
+    }
+
+    private void onInvalidation(Node<K, V> node) {
+        afterWrite(() -> unlink(node));
+        removalListener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalNotification.RemovalReason.INVALIDATED));
+    }
+
+    @Override
+    public void invalidateAll() {
+        List<Node<K, V>> invalidated = new ArrayList<>();
+        evictionLock.lock();
+        try {
+            for (Node<K, V> node : data.values()) {
+                if (data.remove(node.key, node)) {
+                    unlink(node);
+                    invalidated.add(node);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+        for (Node<K, V> node : invalidated) {
+            removalListener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalNotification.RemovalReason.INVALIDATED));
+        }
+        drainBuffers();
+    }
+
+    /**
+     * Applies all the recorded accesses to the eviction policy, and forces any outstanding size-based and time-based
+     * evictions to occur.
+     */
+    @Override
+    public void refresh() {
+        List<Node<K, V>> evicted;
+        evictionLock.lock();
+        try {
+            evicted = maintenance(now());
+        } finally {
+            evictionLock.unlock();
+        }
+        notifyEvicted(evicted);
+        drainBuffers();
+    }
+
+    @Override
+    public int count() {
+        return data.size();
+    }
+
+    @Override
+    public long weight() {
+        return weight;
+    }
+
+    /**
+     * The keys of the cache, in no particular order. Removing a key through the iterator invalidates its entry.
+     */
+    @Override
+    public Iterable<K> keys() {
+        return () -> new NodeIterator<>(node -> node.key);
+    }
+
+    /**
+     * The values of the cache, in no particular order. Removing a value through the iterator invalidates its entry.
+     */
+    @Override
+    public Iterable<V> values() {
+        return () -> new NodeIterator<>(node -> node.value);
+    }
+
+    private class NodeIterator<T> implements Iterator<T> {
+        private final Iterator<Node<K, V>> iterator = data.values().iterator();
+        private final Function<Node<K, V>, T> mapper;
+        private Node<K, V> current;
+
+        NodeIterator(Function<Node<K, V>, T> mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public T next() {
+            current = iterator.next();
+            return mapper.apply(current);
+        }
+
+        @Override
+        public void remove() {
+            Node<K, V> node = current;
+            if (node != null) {
+                current = null;
+                if (data.remove(node.key, node)) {
+                    onInvalidation(node);
+                }
+            }
+        }
+    }
+
+    /**
+     * The cache statistics tracking hits, misses, evictions and the evictions of new entries that were rejected by the
+     * admission policy. These are taken on a best-effort basis meaning that they could be out-of-date mid-flight.
+     *
+     * @return the current cache statistics
+     */
+    @Override
+    public Cache.CacheStats stats() {
+        return new Cache.CacheStats(hits.sum(), misses.sum(), evictions.sum(), rejections.sum());
+    }
+
+    private boolean isExpired(Node<K, V> node, long now) {
+        return (entriesExpireAfterAccess && now - node.accessTime > expireAfterAccessNanos) ||
+            (entriesExpireAfterWrite && now - node.writeTime > expireAfterWriteNanos);
+    }
+
+    private void afterWrite(Runnable task) {
+        writeBuffer.add(task);
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        drainStatus.set(REQUIRED);
+        drainBuffers();
+    }
+
+    /**
+     * Drains the buffers if needed and if no other thread is draining them. A thread that records an access while the
+     * buffers are being drained sets the status back to required, which makes the draining thread drain them again.
+     */
+    private void drainBuffers() {
+        while (drainStatus.get() == REQUIRED && evictionLock.tryLock()) {
+            List<Node<K, V>> evicted;
+            try {
+                evicted = maintenance(now());
+            } finally {
+                evictionLock.unlock();
+            }
+            notifyEvicted(evicted);
+        }
+    }
+
+    private List<Node<K, V>> maintenance(long now) {
+        assert evictionLock.isHeldByCurrentThread();
+        drainStatus.set(PROCESSING);
+        try {
+            sketch.ensureCapacity(data.size());
+            readBuffer.drainTo(this::onAccess);
+            Runnable task;
+            while ((task = writeBuffer.poll()) != null) {
+                task.run();
+            }
+            List<Node<K, V>> evicted = new ArrayList<>(0);
+            expire(now, evicted);
+            evict(evicted);
+            return evicted;
+        } finally {
+            drainStatus.compareAndSet(PROCESSING, IDLE);
+        }
+    }
+
+    private void notifyEvicted(List<Node<K, V>> evicted) {
+        for (Node<K, V> node : evicted) {
+            removalListener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalNotification.RemovalReason.EVICTED));
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        assert evictionLock.isHeldByCurrentThread();
+        sketch.increment(node.key);
+        if (node.queue == null) {
+            // the entry was removed, or its insertion was not applied yet
+            return;
+        }
+        switch (node.queue) {
+            case WINDOW:
+                window.moveToBack(node);
+                break;
+            case PROBATION:
+                probation.remove(node);
+                protectedSegment.addLast(node);
+                node.queue = QueueType.PROTECTED;
+                protectedWeight += node.weight;
+                // make room in the protected segment by demoting its least recently used entries
+                while (protectedWeight > maximumProtectedWeight) {
+                    Node<K, V> demoted = protectedSegment.peekFirst();
+                    protectedSegment.remove(demoted);
+                    protectedWeight -= demoted.weight;
+                    probation.addLast(demoted);
+                    demoted.queue = QueueType.PROBATION;
+                }
+                break;
+            case PROTECTED:
+                protectedSegment.moveToBack(node);
+                break;
+        }
+    }
+
+    private void link(Node<K, V> node) {
+        assert evictionLock.isHeldByCurrentThread();
+        if (node.removed) {
+            // the entry was removed before its insertion was applied
+            return;
+        }
+        sketch.increment(node.key);
+        window.addLast(node);
+        node.queue = QueueType.WINDOW;
+        windowWeight += node.weight;
+        weight += node.weight;
+    }
+
+    private void unlink(Node<K, V> node) {
+        assert evictionLock.isHeldByCurrentThread();
+        if (node.queue != null) {
+            switch (node.queue) {
+                case WINDOW:
+                    window.remove(node);
+                    windowWeight -= node.weight;
+                    break;
+                case PROBATION:
+                    probation.remove(node);
+                    break;
+                case PROTECTED:
+                    protectedSegment.remove(node);
+                    protectedWeight -= node.weight;
+                    break;
+            }
+            node.queue = null;
+            weight -= node.weight;
+        }
+        node.removed = true;
+    }
+
+    private void evictEntry(Node<K, V> node, List<Node<K, V>> evicted) {
+        unlink(node);
+        // the entry may have been concurrently removed or replaced, in which case it is not evicted
+        if (data.remove(node.key, node)) {
+            evictions.increment();
+            evicted.add(node);
+        }
+    }
+
+    private void expire(long now, List<Node<K, V>> evicted) {
+        if (entriesExpireAfterAccess || entriesExpireAfterWrite) {
+            for (AccessOrderDeque<K, V> deque : Arrays.asList(window, probation, protectedSegment)) {
+                Node<K, V> node;
+                while ((node = deque.peekFirst()) != null && isExpired(node, now)) {
+                    evictEntry(node, evicted);
+                }
+            }
+        }
+    }
+
+    private void evict(List<Node<K, V>> evicted) {
+        if (maximumWeight == -1) {
+            return;
+        }
+        // the entries that overflow the window are moved to the back of the probation segment, where they are candidates to
+        // stay in the cache
+        Node<K, V> candidate = null;
+        while (windowWeight > maximumWindowWeight) {
+            Node<K, V> node = window.peekFirst();
+            window.remove(node);
+            windowWeight -= node.weight;
+            probation.addLast(node);
+            node.queue = QueueType.PROBATION;
+            if (candidate == null) {
+                candidate = node;
+            }
+        }
+        // each candidate competes with the least recently used entry of the probation segment, and the one whose key is the
+        // least frequently accessed is evicted
+        while (weight > maximumWeight) {
+            Node<K, V> victim = probation.peekFirst();
+            if (victim == null) {
+                victim = protectedSegment.peekFirst();
+            }
+            if (victim == null) {
+                victim = window.peekFirst();
+            }
+            if (candidate == null || candidate == victim) {
+                if (candidate == victim) {
+                    candidate = candidate.next;
+                }
+                evictEntry(victim, evicted);
+            } else if (candidate.weight <= maximumWeight && sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                candidate = candidate.next;
+                evictEntry(victim, evicted);
+            } else {
+                Node<K, V> rejected = candidate;
+                candidate = candidate.next;
+                rejections.increment();
+                evictEntry(rejected, evicted);
+            }
+        }
+    }
+
+    // the segment of the cache that an entry belongs to
+    enum QueueType {
+        WINDOW, PROBATION, PROTECTED
+    }
+
+    static final class Node<K, V> {
+        final K key;
+        final V value;
+        final long weight;
+        final long writeTime;
+        volatile long accessTime;
+
+        // guarded by the eviction lock
+        Node<K, V> prev;
+        Node<K, V> next;
+        QueueType queue;
+        boolean removed;
+
+        Node(K key, V value, long weight, long writeTime) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+            this.writeTime = this.accessTime = writeTime;
+        }
+    }
+
+    /**
+     * A doubly-linked list of entries, from the least recently used to the most recently used.
+     */
+    static final class AccessOrderDeque<K, V> {
+        private Node<K, V> head;
+        private Node<K, V> tail;
+
+        Node<K, V> peekFirst() {
+            return head;
+        }
+
+        void addLast(Node<K, V> node) {
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+        }
+
+        void moveToBack(Node<K, V> node) {
+            if (node != tail) {
+                remove(node);
+                addLast(node);
+            }
+        }
+    }
+
+    /**
+     * Striped ring buffers that record the entries that were read. Each thread records its reads in the stripe of its
+     * thread id. Reads are dropped when the stripe is full or contended: they are only used to estimate the frequency and
+     * recency of the accesses, so losing some of them is fine, while waiting for the buffers to be drained is not.
+     */
+    static final class ReadBuffer<E> {
+        static final int BUFFER_SIZE = 16;
+        static final int NUMBER_OF_STRIPES = ceilingPowerOfTwo(Math.min(4 * Runtime.getRuntime().availableProcessors(), 64));
+
+        private final Stripe<E>[] stripes;
+
+        @SuppressWarnings("unchecked")
+        ReadBuffer() {
+            stripes = new Stripe[NUMBER_OF_STRIPES];
+            for (int i = 0; i < stripes.length; i++) {
+                stripes[i] = new Stripe<>();
+            }
+        }
+
+        /**
+         * Records a read, and returns <code>true</code> if the stripe of the current thread is full and should be drained.
+         */
+        boolean offer(E e) {
+            Stripe<E> stripe = stripes[spread(Long.hashCode(Thread.currentThread().getId())) & (stripes.length - 1)];
+            long head = stripe.readCounter;
+            long tail = stripe.writeCounter.get();
+            long size = tail - head;
+            if (size >= BUFFER_SIZE) {
+                return true;
+            }
+            if (stripe.writeCounter.compareAndSet(tail, tail + 1)) {
+                stripe.buffer.lazySet((int) (tail & (BUFFER_SIZE - 1)), e);
+                return size + 1 >= BUFFER_SIZE;
+            }
+            return false;
+        }
+
+        /**
+         * Drains the recorded reads, must only be called by one thread at a time.
+         */
+        void drainTo(Consumer<E> consumer) {
+            for (Stripe<E> stripe : stripes) {
+                long head = stripe.readCounter;
+                long tail = stripe.writeCounter.get();
+                for (; head < tail; head++) {
+                    int index = (int) (head & (BUFFER_SIZE - 1));
+                    E e = stripe.buffer.get(index);
+                    if (e == null) {
+                        // the read was counted but not recorded yet, it will be drained next time
+                        break;
+                    }
+                    stripe.buffer.lazySet(index, null);
+                    consumer.accept(e);
+                }
+                stripe.readCounter = head;
+            }
+        }
+
+        private static final class Stripe<E> {
+            final AtomicReferenceArray<E> buffer = new AtomicReferenceArray<>(BUFFER_SIZE);
+            final AtomicLong writeCounter = new AtomicLong();
+            volatile long readCounter;
+        }
+    }
+
+    /**
+     * A count-min sketch that estimates how frequently keys were accessed, using four 4-bit counters per key. When the
+     * number of increments reaches ten times the size of the sketch, all counters are halved, so that the estimated
+     * frequencies favor the recent accesses.
+     */
+    static final class FrequencySketch {
+        private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+        private static final long RESET_MASK = 0x7777777777777777L;
+        private static final long ONE_MASK = 0x1111111111111111L;
+        private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+        private long[] table = new long[1];
+        private int sampleSize = 10;
+        private int size;
+
+        /**
+         * Grows the sketch so that it can estimate the frequency of the given number of keys accurately. Growing the sketch
+         * resets all the frequencies.
+         */
+        void ensureCapacity(int capacity) {
+            int maximum = Math.min(Math.max(capacity, 1), MAXIMUM_CAPACITY);
+            if (table.length >= maximum) {
+                return;
+            }
+            table = new long[ceilingPowerOfTwo(maximum)];
+            sampleSize = 10 * maximum;
+            size = 0;
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                int index = indexOf(hash, i);
+                int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                added |= incrementAt(indexOf(hash, i), start + i);
+            }
+            if (added && ++size == sampleSize) {
+                reset();
+            }
+        }
+
+        private boolean incrementAt(int index, int counter) {
+            int offset = counter << 2;
+            long mask = 0xfL << offset;
+            if ((table[index] & mask) != mask) {
+                table[index] += 1L << offset;
+                return true;
+            }
+            return false;
+        }
+
+        private void reset() {
+            int count = 0;
+            for (int i = 0; i < table.length; i++) {
+                count += Long.bitCount(table[i] & ONE_MASK);
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            size = (size >>> 1) - (count >>> 2);
+        }
+
+        private int indexOf(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            h += h >>> 32;
+            return ((int) h) & (table.length - 1);
+        }
+    }
+
+    // applies a supplemental hash function to defend against poor quality hash functions
+    static int spread(int x) {
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+
+    static int ceilingPowerOfTwo(int x) {
+        return x <= 1 ? 1 : Integer.highestOneBit(x - 1) << 1;
+    }
+}
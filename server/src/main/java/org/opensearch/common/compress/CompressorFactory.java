@@ -38,11 +38,52 @@ import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 public class CompressorFactory {
 
+    public static final String DEFLATE = "deflate";
+    public static final String LZ4 = "lz4";
+
+    /**
+     * The default compressor, which is used for everything that is persisted or published to the whole cluster.
+     */
     public static final Compressor COMPRESSOR = new DeflateCompressor();
+    public static final Compressor LZ4_COMPRESSOR = new Lz4Compressor();
+
+    // all the compressors by name, compressed bytes are detected from the header that each compressor writes
+    private static final Map<String, Compressor> COMPRESSORS;
+
+    static {
+        final Map<String, Compressor> compressors = new LinkedHashMap<>();
+        compressors.put(DEFLATE, COMPRESSOR);
+        compressors.put(LZ4, LZ4_COMPRESSOR);
+        COMPRESSORS = Collections.unmodifiableMap(compressors);
+    }
+
+    /**
+     * Returns the compressor with the given name.
+     *
+     * @throws IllegalArgumentException if there is no compressor with this name
+     */
+    public static Compressor getCompressor(String name) {
+        final Compressor compressor = COMPRESSORS.get(name);
+        if (compressor == null) {
+            throw new IllegalArgumentException("unknown compressor [" + name + "], must be one of " + COMPRESSORS.keySet());
+        }
+        return compressor;
+    }
+
+    /**
+     * Returns the names of all the compressors, whose compressed bytes can be decompressed by this node.
+     */
+    public static Set<String> getCompressorNames() {
+        return COMPRESSORS.keySet();
+    }
 
     public static boolean isCompressed(BytesReference bytes) {
         return compressor(bytes) != null;
@@ -50,13 +91,15 @@ public class CompressorFactory {
 
     @Nullable
     public static Compressor compressor(BytesReference bytes) {
-            if (COMPRESSOR.isCompressed(bytes)) {
+        for (Compressor compressor : COMPRESSORS.values()) {
+            if (compressor.isCompressed(bytes)) {
                 // bytes should be either detected as compressed or as xcontent,
                 // if we have bytes that can be either detected as compressed or
                 // as a xcontent, we have a problem
                 assert XContentHelper.xContentType(bytes) == null;
-                return COMPRESSOR;
+                return compressor;
             }
+        }
 
         XContentType contentType = XContentHelper.xContentType(bytes);
         if (contentType == null) {
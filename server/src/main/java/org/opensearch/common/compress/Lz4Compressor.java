@@ -0,0 +1,299 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.compress;
+
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.apache.lucene.store.ByteArrayDataOutput;
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.store.InputStreamDataInput;
+import org.apache.lucene.store.OutputStreamDataOutput;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.compress.LZ4;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.Streams;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * {@link Compressor} implementation based on the LZ4 compression algorithm, which compresses less than DEFLATE but is
+ * much cheaper to compress and decompress.
+ * <p>
+ * The compressed stream starts with a header, followed by blocks of at most {@link #BLOCK_SIZE} uncompressed bytes that are
+ * compressed independently. Each block is written as its uncompressed length and its compressed length as vInts, followed by
+ * the compressed bytes, and the stream ends with an uncompressed length of 0.
+ */
+public class Lz4Compressor implements Compressor {
+
+    // An arbitrary header that we use to identify compressed streams
+    // It needs to be different from other compressors and to not be specific
+    // enough so that no stream starting with these bytes could be detected as
+    // a XContent
+    private static final byte[] HEADER = new byte[]{'L', 'Z', '4', '\0'};
+    // the maximum number of uncompressed bytes in a block
+    public static final int BLOCK_SIZE = 64 * 1024;
+    // the initial size of the buffers, which only grow up to the block size for large contents
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+
+    @Override
+    public boolean isCompressed(BytesReference bytes) {
+        if (bytes.length() < HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < HEADER.length; ++i) {
+            if (bytes.get(i) != HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int headerLength() {
+        return HEADER.length;
+    }
+
+    /**
+     * Returns the maximum number of compressed bytes of a block of the given uncompressed length.
+     */
+    public static int maxCompressedLength(int uncompressedLength) {
+        return uncompressedLength + uncompressedLength / 255 + 16;
+    }
+
+    /**
+     * Decompresses a block of the given compressed and uncompressed lengths into the given array.
+     */
+    public static void decompressBlock(DataInput compressed, int uncompressedLength, byte[] dest) throws IOException {
+        final int decompressed = LZ4.decompress(compressed, uncompressedLength, dest, 0);
+        if (decompressed != uncompressedLength) {
+            throw new IOException("Corrupted LZ4 block: expected [" + uncompressedLength + "] bytes but got [" + decompressed + "]");
+        }
+    }
+
+    /**
+     * Checks the lengths of a block that is about to be decompressed, to fail on corrupted streams rather than allocate
+     * arbitrary amounts of memory.
+     */
+    public static void checkBlockLengths(int uncompressedLength, int compressedLength) throws IOException {
+        if (uncompressedLength < 0 || uncompressedLength > BLOCK_SIZE
+            || compressedLength < 0 || compressedLength > maxCompressedLength(uncompressedLength)) {
+            throw new IOException("Corrupted LZ4 block: uncompressed length [" + uncompressedLength + "], compressed length ["
+                + compressedLength + "]");
+        }
+    }
+
+    @Override
+    public InputStream threadLocalInputStream(InputStream in) throws IOException {
+        final byte[] headerBytes = new byte[HEADER.length];
+        int len = 0;
+        while (len < headerBytes.length) {
+            final int read = in.read(headerBytes, len, headerBytes.length - len);
+            if (read == -1) {
+                break;
+            }
+            len += read;
+        }
+        if (len != HEADER.length || Arrays.equals(headerBytes, HEADER) == false) {
+            throw new IllegalArgumentException("Input stream is not compressed with LZ4!");
+        }
+        return new Lz4InputStream(in);
+    }
+
+    @Override
+    public OutputStream threadLocalOutputStream(OutputStream out) throws IOException {
+        out.write(HEADER);
+        return new Lz4OutputStream(out);
+    }
+
+    @Override
+    public BytesReference uncompress(BytesReference bytesReference) throws IOException {
+        final BytesStreamOutput buffer = new BytesStreamOutput();
+        try (InputStream in = threadLocalInputStream(bytesReference.streamInput())) {
+            Streams.copy(in, buffer);
+        }
+        return buffer.bytes();
+    }
+
+    @Override
+    public BytesReference compress(BytesReference bytesReference) throws IOException {
+        final BytesStreamOutput buffer = new BytesStreamOutput();
+        try (OutputStream out = threadLocalOutputStream(buffer)) {
+            bytesReference.writeTo(out);
+        }
+        return buffer.bytes();
+    }
+
+    private static final class Lz4OutputStream extends OutputStream {
+
+        private final OutputStream out;
+        private final DataOutput dataOut;
+        private final LZ4.FastCompressionHashTable hashTable = new LZ4.FastCompressionHashTable();
+        private final ByteArrayDataOutput compressedOut = new ByteArrayDataOutput();
+        private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+        private byte[] compressed = BytesRef.EMPTY_BYTES;
+        private int length;
+        private boolean closed;
+
+        Lz4OutputStream(OutputStream out) {
+            this.out = out;
+            this.dataOut = new OutputStreamDataOutput(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (length == buffer.length) {
+                ensureCapacity(length + 1);
+            }
+            buffer[length++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                ensureCapacity(length + len);
+                final int toCopy = Math.min(len, buffer.length - length);
+                System.arraycopy(b, off, buffer, length, toCopy);
+                length += toCopy;
+                off += toCopy;
+                len -= toCopy;
+            }
+        }
+
+        // grows the buffer up to the block size, or writes the current block if it is full
+        private void ensureCapacity(int minCapacity) throws IOException {
+            if (length == BLOCK_SIZE) {
+                writeBlock();
+            } else if (minCapacity > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.min(ArrayUtil.oversize(minCapacity, Byte.BYTES), BLOCK_SIZE));
+            }
+        }
+
+        private void writeBlock() throws IOException {
+            if (length == 0) {
+                return;
+            }
+            final int maxCompressedLength = maxCompressedLength(length);
+            if (compressed.length < maxCompressedLength) {
+                compressed = new byte[ArrayUtil.oversize(maxCompressedLength, Byte.BYTES)];
+            }
+            compressedOut.reset(compressed);
+            LZ4.compress(buffer, 0, length, compressedOut, hashTable);
+            dataOut.writeVInt(length);
+            dataOut.writeVInt(compressedOut.getPosition());
+            dataOut.writeBytes(compressed, 0, compressedOut.getPosition());
+            length = 0;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writeBlock();
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                writeBlock();
+                // end of stream marker
+                dataOut.writeVInt(0);
+            } finally {
+                out.close();
+            }
+        }
+    }
+
+    private static final class Lz4InputStream extends InputStream {
+
+        private final InputStream in;
+        private final DataInput dataIn;
+        private final ByteArrayDataInput compressedIn = new ByteArrayDataInput();
+        private byte[] buffer = BytesRef.EMPTY_BYTES;
+        private byte[] compressed = BytesRef.EMPTY_BYTES;
+        private int offset;
+        private int length;
+        private boolean eos;
+
+        Lz4InputStream(InputStream in) {
+            this.in = in;
+            this.dataIn = new InputStreamDataInput(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (offset == length && readBlock() == false) {
+                return -1;
+            }
+            return buffer[offset++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (offset == length && readBlock() == false) {
+                return -1;
+            }
+            final int toCopy = Math.min(len, length - offset);
+            System.arraycopy(buffer, offset, b, off, toCopy);
+            offset += toCopy;
+            return toCopy;
+        }
+
+        @Override
+        public int available() {
+            return length - offset;
+        }
+
+        private boolean readBlock() throws IOException {
+            if (eos) {
+                return false;
+            }
+            final int uncompressedLength;
+            try {
+                uncompressedLength = dataIn.readVInt();
+            } catch (EOFException e) {
+                throw new EOFException("Unexpected end of LZ4 stream");
+            }
+            if (uncompressedLength == 0) {
+                eos = true;
+                return false;
+            }
+            final int compressedLength = dataIn.readVInt();
+            checkBlockLengths(uncompressedLength, compressedLength);
+            if (compressed.length < compressedLength) {
+                compressed = new byte[ArrayUtil.oversize(compressedLength, Byte.BYTES)];
+            }
+            dataIn.readBytes(compressed, 0, compressedLength);
+            if (buffer.length < uncompressedLength) {
+                buffer = new byte[ArrayUtil.oversize(uncompressedLength, Byte.BYTES)];
+            }
+            compressedIn.reset(compressed, 0, compressedLength);
+            decompressBlock(compressedIn, uncompressedLength, buffer);
+            offset = 0;
+            length = uncompressedLength;
+            return true;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
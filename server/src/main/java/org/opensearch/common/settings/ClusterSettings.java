@@ -103,6 +103,8 @@ import org.opensearch.http.HttpTransportSettings;
 import org.opensearch.index.IndexModule;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.IndexingPressure;
+import org.opensearch.index.store.snapshot.BlockCache;
+import org.opensearch.index.translog.TranslogGroupCommitService;
 import org.opensearch.indices.IndexingMemoryController;
 import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.IndicesRequestCache;
@@ -131,9 +133,11 @@ import org.opensearch.script.ScriptService;
 import org.opensearch.search.SearchModule;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.aggregations.MultiBucketConsumerService;
+import org.opensearch.search.backpressure.SearchBackpressureService;
 import org.opensearch.search.fetch.subphase.highlight.FastVectorHighlighter;
 import org.opensearch.snapshots.InternalSnapshotsInfoService;
 import org.opensearch.snapshots.SnapshotsService;
+import org.opensearch.tasks.TaskManager;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.ProxyConnectionStrategy;
 import org.opensearch.transport.RemoteClusterService;
@@ -241,6 +245,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
             IndicesQueryCache.INDICES_CACHE_QUERY_SIZE_SETTING,
             IndicesQueryCache.INDICES_CACHE_QUERY_COUNT_SETTING,
             IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING,
+            IndicesQueryCache.INDICES_QUERIES_CACHE_COST_AWARE_SETTING,
             IndicesService.INDICES_ID_FIELD_DATA_ENABLED_SETTING,
             IndicesService.WRITE_DANGLING_INDICES_INFO_SETTING,
             MappingUpdatedAction.INDICES_MAPPING_DYNAMIC_TIMEOUT_SETTING,
@@ -346,6 +351,10 @@ public final class ClusterSettings extends AbstractScopedSettings {
             ElectMasterService.DISCOVERY_ZEN_MINIMUM_MASTER_NODES_SETTING,
             TransportSearchAction.SHARD_COUNT_LIMIT_SETTING,
             TransportSearchAction.SEARCH_CANCEL_AFTER_TIME_INTERVAL_SETTING,
+            TransportSearchAction.MAX_CONCURRENT_PARTIAL_REDUCES_SETTING,
+            TransportSearchAction.HEDGED_REQUESTS_ENABLED_SETTING,
+            TransportSearchAction.HEDGED_REQUESTS_DELAY_PERCENTILE_SETTING,
+            TransportSearchAction.HEDGED_REQUESTS_MIN_DELAY_SETTING,
             RemoteClusterService.REMOTE_CLUSTER_SKIP_UNAVAILABLE,
             RemoteClusterService.SEARCH_REMOTE_CLUSTER_SKIP_UNAVAILABLE,
             SniffConnectionStrategy.REMOTE_CONNECTIONS_PER_CLUSTER,
@@ -387,6 +396,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
             TransportSettings.PUBLISH_PORT_PROFILE,
             TransportSettings.OLD_TRANSPORT_COMPRESS,
             TransportSettings.TRANSPORT_COMPRESS,
+            TransportSettings.TRANSPORT_COMPRESSION_SCHEME,
             TransportSettings.PING_SCHEDULE,
             TransportSettings.TCP_CONNECT_TIMEOUT,
             TransportSettings.CONNECT_TIMEOUT,
@@ -438,6 +448,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
             IndexSettings.QUERY_STRING_ALLOW_LEADING_WILDCARD,
             ScriptService.SCRIPT_GENERAL_CACHE_SIZE_SETTING,
             ScriptService.SCRIPT_GENERAL_CACHE_EXPIRE_SETTING,
+            ScriptService.SCRIPT_CACHE_EVICTION_POLICY_SETTING,
             ScriptService.SCRIPT_GENERAL_MAX_COMPILATIONS_RATE_SETTING,
             ScriptService.SCRIPT_CACHE_SIZE_SETTING,
             ScriptService.SCRIPT_CACHE_EXPIRE_SETTING,
@@ -448,8 +459,11 @@ public final class ClusterSettings extends AbstractScopedSettings {
             ScriptService.CONTEXTS_ALLOWED_SETTING,
             IndicesService.INDICES_CACHE_CLEAN_INTERVAL_SETTING,
             IndicesFieldDataCache.INDICES_FIELDDATA_CACHE_SIZE_KEY,
+            IndicesFieldDataCache.INDICES_FIELDDATA_CACHE_EVICTION_POLICY,
             IndicesRequestCache.INDICES_CACHE_QUERY_SIZE,
             IndicesRequestCache.INDICES_CACHE_QUERY_EXPIRE,
+            IndicesRequestCache.INDICES_CACHE_QUERY_EVICTION_POLICY,
+            IndicesRequestCache.INDICES_CACHE_QUERY_OFF_HEAP_SIZE,
             HunspellService.HUNSPELL_LAZY_LOAD,
             HunspellService.HUNSPELL_IGNORE_CASE,
             HunspellService.HUNSPELL_DICTIONARY_OPTIONS,
@@ -511,6 +525,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
             Loggers.LOG_LEVEL_SETTING,
             NodeEnvironment.MAX_LOCAL_STORAGE_NODES_SETTING,
             NodeEnvironment.ENABLE_LUCENE_SEGMENT_INFOS_TRACE_SETTING,
+            BlockCache.SIZE_SETTING,
+            BlockCache.BLOCK_SIZE_SETTING,
             OsService.REFRESH_INTERVAL_SETTING,
             ProcessService.REFRESH_INTERVAL_SETTING,
             JvmService.REFRESH_INTERVAL_SETTING,
@@ -580,7 +596,19 @@ public final class ClusterSettings extends AbstractScopedSettings {
             FsHealthService.REFRESH_INTERVAL_SETTING,
             FsHealthService.SLOW_PATH_LOGGING_THRESHOLD_SETTING,
             TransportMainAction.OVERRIDE_MAIN_RESPONSE_VERSION,
-            IndexingPressure.MAX_INDEXING_BYTES)));
+            IndexingPressure.MAX_INDEXING_BYTES,
+            TranslogGroupCommitService.TRANSLOG_GROUP_COMMIT_ENABLED_SETTING,
+            TranslogGroupCommitService.TRANSLOG_GROUP_COMMIT_QUEUE_SIZE_SETTING,
+            TranslogGroupCommitService.TRANSLOG_GROUP_COMMIT_MAX_CONCURRENT_FSYNCS_SETTING,
+            SearchBackpressureService.MODE_SETTING,
+            SearchBackpressureService.INTERVAL_SETTING,
+            SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING,
+            SearchBackpressureService.CPU_THRESHOLD_SETTING,
+            SearchBackpressureService.HEAP_THRESHOLD_SETTING,
+            SearchBackpressureService.TASK_CPU_TIME_THRESHOLD_SETTING,
+            SearchBackpressureService.TASK_HEAP_ALLOCATION_THRESHOLD_SETTING,
+            SearchBackpressureService.MAX_CANCELLATIONS_PER_INTERVAL_SETTING,
+            TaskManager.TASK_RESOURCE_TRACKING_ENABLED_SETTING)));
 
     public static List<SettingUpgrader<?>> BUILT_IN_SETTING_UPGRADERS = Collections.unmodifiableList(Arrays.asList(
             SniffConnectionStrategy.SEARCH_REMOTE_CLUSTER_SEEDS_UPGRADER,
@@ -55,6 +55,7 @@ import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.similarity.SimilarityService;
 import org.opensearch.index.store.FsDirectoryFactory;
 import org.opensearch.index.store.Store;
+import org.opensearch.index.store.snapshot.SnapshotDirectoryFactory;
 import org.opensearch.indices.IndicesRequestCache;
 
 import java.util.Arrays;
@@ -95,6 +96,7 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
         IndexMetadata.INDEX_DATA_PATH_SETTING,
         IndexMetadata.INDEX_FORMAT_SETTING,
         IndexMetadata.INDEX_HIDDEN_SETTING,
+        IndexMetadata.INDEX_REPLICATION_TYPE_SETTING,
         SearchSlowLog.INDEX_SEARCH_SLOWLOG_THRESHOLD_FETCH_DEBUG_SETTING,
         SearchSlowLog.INDEX_SEARCH_SLOWLOG_THRESHOLD_FETCH_WARN_SETTING,
         SearchSlowLog.INDEX_SEARCH_SLOWLOG_THRESHOLD_FETCH_INFO_SETTING,
@@ -126,6 +128,8 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
         IndexSortConfig.INDEX_SORT_MODE_SETTING,
         IndexSettings.INDEX_TRANSLOG_DURABILITY_SETTING,
         IndexSettings.INDEX_WARMER_ENABLED_SETTING,
+        IndexSettings.INDEX_WARMER_USED_GLOBAL_ORDINALS_SETTING,
+        IndexSettings.INDEX_WARMER_USED_GLOBAL_ORDINALS_KEEP_ALIVE_SETTING,
         IndexSettings.INDEX_REFRESH_INTERVAL_SETTING,
         IndexSettings.MAX_RESULT_WINDOW_SETTING,
         IndexSettings.MAX_INNER_RESULT_WINDOW_SETTING,
@@ -151,6 +155,9 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
         IndexSettings.INDEX_SOFT_DELETES_SETTING,
         IndexSettings.INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING,
         IndexSettings.INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING,
+        IndexSettings.STAR_TREE_DIMENSIONS_SETTING,
+        IndexSettings.STAR_TREE_METRICS_SETTING,
+        IndexSettings.STAR_TREE_CACHE_SIZE_SETTING,
         IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING,
         UnassignedInfo.INDEX_DELAYED_NODE_LEFT_TIMEOUT_SETTING,
         EnableAllocationDecider.INDEX_ROUTING_REBALANCE_ENABLE_SETTING,
@@ -162,6 +169,7 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
         IndexSettings.INDEX_TRANSLOG_RETENTION_SIZE_SETTING,
         IndexSettings.INDEX_SEARCH_IDLE_AFTER,
         IndexSettings.INDEX_SEARCH_THROTTLED,
+        IndexSettings.INDEX_CONCURRENT_SEGMENT_SEARCH_SETTING,
         IndexFieldDataService.INDEX_FIELDDATA_CACHE_KEY,
         FieldMapper.IGNORE_MALFORMED_SETTING,
         FieldMapper.COERCE_SETTING,
@@ -178,9 +186,15 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
         IndexModule.INDEX_RECOVERY_TYPE_SETTING,
         IndexModule.INDEX_QUERY_CACHE_ENABLED_SETTING,
         FsDirectoryFactory.INDEX_LOCK_FACTOR_SETTING,
+        SnapshotDirectoryFactory.REPOSITORY_SETTING,
+        SnapshotDirectoryFactory.SNAPSHOT_NAME_SETTING,
+        SnapshotDirectoryFactory.SNAPSHOT_UUID_SETTING,
+        SnapshotDirectoryFactory.INDEX_NAME_SETTING,
+        SnapshotDirectoryFactory.INDEX_ID_SETTING,
         Store.FORCE_RAM_TERM_DICT,
         EngineConfig.INDEX_CODEC_SETTING,
         EngineConfig.INDEX_OPTIMIZE_AUTO_GENERATED_IDS,
+        EngineConfig.INDEX_PACKED_VERSION_MAP_SETTING,
         IndexMetadata.SETTING_WAIT_FOR_ACTIVE_SHARDS,
         IndexSettings.DEFAULT_PIPELINE,
         IndexSettings.FINAL_PIPELINE,
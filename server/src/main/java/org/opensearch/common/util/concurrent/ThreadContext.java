@@ -40,6 +40,7 @@ import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
@@ -449,6 +450,17 @@ public final class ThreadContext implements Writeable {
         return new ContextPreservingRunnable(command);
     }
 
+    /**
+     * Starts to account the resources that the current thread uses to the task of the current context, if it has one. Work that is
+     * forked with {@link #preserveContext(Runnable)} is accounted to the task of the context that forked it this way.
+     *
+     * @see org.opensearch.tasks.TaskManager#taskExecutionStarted(Task)
+     */
+    private Releasable trackTaskResourceUsage() {
+        final Task task = getTransient(Task.TASK_TRANSIENT);
+        return task == null ? () -> {} : task.trackResourceUsage();
+    }
+
     /**
      * Unwraps a command that was previously wrapped by {@link #preserveContext(Runnable)}.
      */
@@ -694,7 +706,9 @@ public final class ThreadContext implements Writeable {
         public void run() {
             try (ThreadContext.StoredContext ignore = stashContext()){
                 ctx.restore();
-                in.run();
+                try (Releasable ignored = trackTaskResourceUsage()) {
+                    in.run();
+                }
             }
         }
 
@@ -717,6 +731,7 @@ public final class ThreadContext implements Writeable {
         private final ThreadContext.StoredContext creatorsContext;
 
         private ThreadContext.StoredContext threadsOriginalContext = null;
+        private Releasable taskResourceTracking = null;
 
         private ContextPreservingAbstractRunnable(AbstractRunnable in) {
             creatorsContext = newStoredContext(false);
@@ -733,6 +748,9 @@ public final class ThreadContext implements Writeable {
             try {
                 in.onAfter();
             } finally {
+                if (taskResourceTracking != null) {
+                    taskResourceTracking.close();
+                }
                 if (threadsOriginalContext != null) {
                     threadsOriginalContext.restore();
                 }
@@ -753,6 +771,7 @@ public final class ThreadContext implements Writeable {
         protected void doRun() throws Exception {
             threadsOriginalContext = stashContext();
             creatorsContext.restore();
+            taskResourceTracking = trackTaskResourceUsage();
             in.doRun();
         }
 
@@ -0,0 +1,217 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.xcontent.support;
+
+import org.apache.lucene.util.automaton.Automata;
+import org.apache.lucene.util.automaton.CharacterRunAutomaton;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Filters an object while it is parsed, with the same include and exclude rules as
+ * {@link XContentMapValues#filter(String[], String[])}, and writes the values that match straight to a builder. The values that
+ * fully match are copied token by token, and the objects and arrays that partially match are only started in the output once one
+ * of their inner values matches, so that filtering a large object doesn't need to build its map. Unlike the map based filter, the
+ * filtered fields keep the order they have in the parsed object.
+ */
+public final class StreamingXContentFilter {
+
+    private final CharacterRunAutomaton matchAllAutomaton;
+    private final CharacterRunAutomaton includeAutomaton;
+    private final CharacterRunAutomaton excludeAutomaton;
+
+    public StreamingXContentFilter(String[] includes, String[] excludes) {
+        this.matchAllAutomaton = new CharacterRunAutomaton(Automata.makeAnyString());
+        this.includeAutomaton = XContentMapValues.includeAutomaton(includes, matchAllAutomaton);
+        this.excludeAutomaton = XContentMapValues.excludeAutomaton(excludes);
+    }
+
+    /**
+     * Reads the object that the parser is positioned on, or that starts at its next token if it wasn't read yet, and writes the
+     * filtered object to the builder.
+     */
+    public void filter(XContentParser parser, XContentBuilder builder) throws IOException {
+        XContentParser.Token token = parser.currentToken() == null ? parser.nextToken() : parser.currentToken();
+        if (token != XContentParser.Token.START_OBJECT) {
+            throw new IllegalArgumentException("Expected an object to filter but got [" + token + "]");
+        }
+        builder.startObject();
+        new Copy(parser, builder).filterObject(includeAutomaton, 0, 0);
+        builder.endObject();
+    }
+
+    /**
+     * The state of the copy of a single object.
+     */
+    private final class Copy {
+        private final XContentParser parser;
+        private final XContentBuilder builder;
+        // the objects and arrays that the parser is in, the first startedDepth of them are also started in the builder
+        private final List<Structure> structures = new ArrayList<>();
+        private int startedDepth;
+
+        Copy(XContentParser parser, XContentBuilder builder) {
+            this.parser = parser;
+            this.builder = builder;
+        }
+
+        /**
+         * Filters the fields of the object that the parser is in, see {@link XContentMapValues} for the map based version.
+         */
+        private void filterObject(CharacterRunAutomaton includeAutomaton, int initialIncludeState,
+                                  int initialExcludeState) throws IOException {
+            while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+                final String key = parser.currentName();
+
+                final int includeState = XContentMapValues.step(includeAutomaton, key, initialIncludeState);
+                if (includeState == -1) {
+                    skipValue();
+                    continue;
+                }
+
+                int excludeState = XContentMapValues.step(excludeAutomaton, key, initialExcludeState);
+                if (excludeState != -1 && excludeAutomaton.isAccept(excludeState)) {
+                    skipValue();
+                    continue;
+                }
+
+                CharacterRunAutomaton subIncludeAutomaton = includeAutomaton;
+                int subIncludeState = includeState;
+                final boolean included = includeAutomaton.isAccept(includeState);
+                if (included) {
+                    if (excludeState == -1 || excludeAutomaton.step(excludeState, '.') == -1) {
+                        // the exclude has no chances to match inner properties, copy the field and its value as-is
+                        startStructures();
+                        builder.copyCurrentStructure(parser);
+                        continue;
+                    } else {
+                        // the object matched, so consider that the include matches every inner property
+                        // we only care about excludes now
+                        subIncludeAutomaton = matchAllAutomaton;
+                        subIncludeState = 0;
+                    }
+                }
+
+                final XContentParser.Token token = parser.nextToken();
+                if (token == XContentParser.Token.START_OBJECT) {
+                    subIncludeState = subIncludeAutomaton.step(subIncludeState, '.');
+                    if (subIncludeState == -1) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    if (excludeState != -1) {
+                        excludeState = excludeAutomaton.step(excludeState, '.');
+                    }
+                    structures.add(new Structure(key, false));
+                    filterObject(subIncludeAutomaton, subIncludeState, excludeState);
+                    endStructure(included);
+                } else if (token == XContentParser.Token.START_ARRAY) {
+                    structures.add(new Structure(key, true));
+                    filterArray(subIncludeAutomaton, subIncludeState, excludeState);
+                    endStructure(included);
+                } else if (included) {
+                    // leaf property, the exclude can't match it since it can only match inner properties
+                    startStructures();
+                    builder.field(key);
+                    builder.copyCurrentStructure(parser);
+                }
+            }
+        }
+
+        /**
+         * Filters the values of the array that the parser is in, objects and arrays that end up empty are removed from it.
+         */
+        private void filterArray(CharacterRunAutomaton includeAutomaton, int initialIncludeState,
+                                 int initialExcludeState) throws IOException {
+            final boolean isInclude = includeAutomaton.isAccept(initialIncludeState);
+            XContentParser.Token token;
+            while ((token = parser.nextToken()) != XContentParser.Token.END_ARRAY) {
+                if (token == XContentParser.Token.START_OBJECT) {
+                    final int includeState = includeAutomaton.step(initialIncludeState, '.');
+                    if (includeState == -1) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    int excludeState = initialExcludeState;
+                    if (excludeState != -1) {
+                        excludeState = excludeAutomaton.step(excludeState, '.');
+                    }
+                    structures.add(new Structure(null, false));
+                    filterObject(includeAutomaton, includeState, excludeState);
+                    endStructure(false);
+                } else if (token == XContentParser.Token.START_ARRAY) {
+                    structures.add(new Structure(null, true));
+                    filterArray(includeAutomaton, initialIncludeState, initialExcludeState);
+                    endStructure(false);
+                } else if (isInclude) {
+                    // only accept this array value if the key we are on is accepted
+                    startStructures();
+                    builder.copyCurrentStructure(parser);
+                }
+            }
+        }
+
+        private void skipValue() throws IOException {
+            parser.nextToken();
+            parser.skipChildren();
+        }
+
+        /**
+         * Starts the objects and arrays that the parser is in and that weren't written to the builder yet, before writing a value
+         * that matched into them.
+         */
+        private void startStructures() throws IOException {
+            for (; startedDepth < structures.size(); startedDepth++) {
+                final Structure structure = structures.get(startedDepth);
+                if (structure.fieldName != null) {
+                    builder.field(structure.fieldName);
+                }
+                if (structure.array) {
+                    builder.startArray();
+                } else {
+                    builder.startObject();
+                }
+            }
+        }
+
+        /**
+         * Ends the object or array that the parser just left. It is only written to the builder if one of its values was, or if it
+         * must be kept even when it ends up empty.
+         */
+        private void endStructure(boolean keepIfEmpty) throws IOException {
+            if (keepIfEmpty) {
+                startStructures();
+            }
+            final Structure structure = structures.remove(structures.size() - 1);
+            if (startedDepth > structures.size()) {
+                startedDepth--;
+                if (structure.array) {
+                    builder.endArray();
+                } else {
+                    builder.endObject();
+                }
+            }
+        }
+    }
+
+    private static final class Structure {
+        // the name of the field that the structure is the value of, or null if it is a value of an array
+        private final String fieldName;
+        private final boolean array;
+
+        Structure(String fieldName, boolean array) {
+            this.fieldName = fieldName;
+            this.array = array;
+        }
+    }
+}
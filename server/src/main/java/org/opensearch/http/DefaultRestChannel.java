@@ -36,6 +36,8 @@ import org.opensearch.action.ActionListener;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
 import org.opensearch.common.lease.Releasable;
@@ -44,11 +46,15 @@ import org.opensearch.common.network.CloseableChannel;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.rest.AbstractRestChannel;
+import org.opensearch.rest.ChunkedRestResponse;
+import org.opensearch.rest.ChunkedRestResponseBody;
 import org.opensearch.rest.RestChannel;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.RestResponse;
 import org.opensearch.rest.RestStatus;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -110,22 +116,37 @@ public class DefaultRestChannel extends AbstractRestChannel implements RestChann
         String opaque = null;
         String contentLength = null;
         try {
-            final BytesReference content = restResponse.content();
-            if (content instanceof Releasable) {
-                toClose.add((Releasable) content);
-            }
-
-            BytesReference finalContent = content;
-            try {
-                if (request.method() == RestRequest.Method.HEAD) {
-                    finalContent = BytesArray.EMPTY;
+            HttpResponse httpResponse = null;
+            final BytesReference content;
+            if (restResponse instanceof ChunkedRestResponse && isHeadRequest(restResponse) == false) {
+                // the first chunk is encoded right away: the response is only sent in chunks if it doesn't hold the whole content
+                final ChunkedRestResponseBody body = ((ChunkedRestResponse) restResponse).chunkedContent();
+                final ReleasableBytesReference firstChunk = body.encodeChunk(ChunkedRestResponseBody.CHUNK_SIZE_HINT, bigArrays);
+                toClose.add(firstChunk);
+                if (body.isDone()) {
+                    content = firstChunk;
+                } else {
+                    httpResponse = httpRequest.createChunkedResponse(restResponse.status(), startingWith(firstChunk, body));
+                    if (httpResponse == null) {
+                        // the http implementation can't send chunks, so the remaining chunks are encoded at once
+                        final ReleasableBytesReference remainingChunks = body.encodeChunk(Integer.MAX_VALUE, bigArrays);
+                        toClose.add(remainingChunks);
+                        content = CompositeBytesReference.of(firstChunk, remainingChunks);
+                    } else {
+                        content = null;
+                    }
+                }
+            } else {
+                content = restResponse.content();
+                if (content instanceof Releasable) {
+                    toClose.add((Releasable) content);
                 }
-            } catch (IllegalArgumentException ignored) {
-                assert restResponse.status() == RestStatus.METHOD_NOT_ALLOWED :
-                    "request HTTP method is unsupported but HTTP status is not METHOD_NOT_ALLOWED(405)";
             }
-
-            final HttpResponse httpResponse = httpRequest.createResponse(restResponse.status(), finalContent);
+            if (httpResponse == null) {
+                final BytesReference finalContent = isHeadRequest(restResponse) ? BytesArray.EMPTY : content;
+                httpResponse = httpRequest.createResponse(restResponse.status(), finalContent);
+                contentLength = String.valueOf(content.length());
+            }
 
             corsHandler.setCorsResponseHeaders(httpRequest, httpResponse);
 
@@ -140,9 +161,10 @@ public class DefaultRestChannel extends AbstractRestChannel implements RestChann
 
             // If our response doesn't specify a content-type header, set one
             setHeaderField(httpResponse, CONTENT_TYPE, restResponse.contentType(), false);
-            // If our response has no content-length, calculate and set one
-            contentLength = String.valueOf(restResponse.content().length());
-            setHeaderField(httpResponse, CONTENT_LENGTH, contentLength, false);
+            // If our response has no content-length, calculate and set one, unless it is sent in chunks
+            if (contentLength != null) {
+                setHeaderField(httpResponse, CONTENT_LENGTH, contentLength, false);
+            }
 
             addCookies(httpResponse);
 
@@ -154,6 +176,8 @@ public class DefaultRestChannel extends AbstractRestChannel implements RestChann
             ActionListener<Void> listener = ActionListener.wrap(() -> Releasables.close(toClose));
             httpChannel.sendResponse(httpResponse, listener);
             success = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         } finally {
             if (success == false) {
                 Releasables.close(toClose);
@@ -164,6 +188,45 @@ public class DefaultRestChannel extends AbstractRestChannel implements RestChann
         }
     }
 
+    private boolean isHeadRequest(RestResponse restResponse) {
+        try {
+            return request.method() == RestRequest.Method.HEAD;
+        } catch (IllegalArgumentException ignored) {
+            assert restResponse.status() == RestStatus.METHOD_NOT_ALLOWED :
+                "request HTTP method is unsupported but HTTP status is not METHOD_NOT_ALLOWED(405)";
+            return false;
+        }
+    }
+
+    /**
+     * Returns a body that starts with the given chunk, which is already encoded, and continues with the chunks of the given body.
+     */
+    private static ChunkedRestResponseBody startingWith(ReleasableBytesReference firstChunk, ChunkedRestResponseBody body) {
+        return new ChunkedRestResponseBody() {
+            private boolean firstChunkEncoded;
+
+            @Override
+            public boolean isDone() {
+                return firstChunkEncoded && body.isDone();
+            }
+
+            @Override
+            public ReleasableBytesReference encodeChunk(int sizeHint, BigArrays bigArrays) throws IOException {
+                if (firstChunkEncoded == false) {
+                    firstChunkEncoded = true;
+                    // the http layer releases the chunks that it wrote, and the first chunk is also released with the response
+                    return firstChunk.retain();
+                }
+                return body.encodeChunk(sizeHint, bigArrays);
+            }
+
+            @Override
+            public String getResponseContentTypeString() {
+                return body.getResponseContentTypeString();
+            }
+        };
+    }
+
     private void setHeaderField(HttpResponse response, String headerField, String value) {
         setHeaderField(response, headerField, value, true);
     }
@@ -33,6 +33,7 @@
 package org.opensearch.http;
 
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.rest.ChunkedRestResponseBody;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.RestStatus;
 
@@ -89,6 +90,12 @@ public class HttpPipelinedRequest implements HttpRequest, HttpPipelinedMessage {
         return new HttpPipelinedResponse(sequence, delegate.createResponse(status, content));
     }
 
+    @Override
+    public HttpPipelinedResponse createChunkedResponse(RestStatus status, ChunkedRestResponseBody content) {
+        final HttpResponse response = delegate.createChunkedResponse(status, content);
+        return response == null ? null : new HttpPipelinedResponse(sequence, response);
+    }
+
     @Override
     public void release() {
         delegate.release();
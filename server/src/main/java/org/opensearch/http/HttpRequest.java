@@ -34,6 +34,7 @@ package org.opensearch.http;
 
 import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.rest.ChunkedRestResponseBody;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.RestStatus;
 
@@ -99,6 +100,15 @@ public interface HttpRequest {
      */
     HttpResponse createResponse(RestStatus status, BytesReference content);
 
+    /**
+     * Create an http response from this request and the supplied status and content, whose chunks are encoded while the
+     * response is written to the channel. Returns {@code null} if the http implementation can only send complete contents.
+     */
+    @Nullable
+    default HttpResponse createChunkedResponse(RestStatus status, ChunkedRestResponseBody content) {
+        return null;
+    }
+
     @Nullable
     Exception getInboundException();
 
@@ -46,6 +46,7 @@ import org.opensearch.common.unit.ByteSizeUnit;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.translog.Translog;
+import org.opensearch.indices.replication.common.ReplicationType;
 import org.opensearch.ingest.IngestService;
 import org.opensearch.node.Node;
 
@@ -92,6 +93,19 @@ public final class IndexSettings {
             (value) -> Translog.Durability.valueOf(value.toUpperCase(Locale.ROOT)), Property.Dynamic, Property.IndexScope);
     public static final Setting<Boolean> INDEX_WARMER_ENABLED_SETTING =
         Setting.boolSetting("index.warmer.enabled", true, Property.Dynamic, Property.IndexScope);
+    /**
+     * Whether the warmer also rebuilds, on refresh, the global ordinals of the fields that searches built them for, as if these
+     * fields had {@code eager_global_ordinals} enabled.
+     */
+    public static final Setting<Boolean> INDEX_WARMER_USED_GLOBAL_ORDINALS_SETTING =
+        Setting.boolSetting("index.warmer.used_global_ordinals", false, Property.Dynamic, Property.IndexScope);
+    /**
+     * How long the warmer keeps rebuilding the global ordinals of a field that searches stopped using, see
+     * {@link #INDEX_WARMER_USED_GLOBAL_ORDINALS_SETTING}.
+     */
+    public static final Setting<TimeValue> INDEX_WARMER_USED_GLOBAL_ORDINALS_KEEP_ALIVE_SETTING =
+        Setting.timeSetting("index.warmer.used_global_ordinals_keep_alive", TimeValue.timeValueHours(1), TimeValue.ZERO,
+            Property.Dynamic, Property.IndexScope);
     public static final Setting<String> INDEX_CHECK_ON_STARTUP =
         new Setting<>("index.shard.check_on_startup", "false", (s) -> {
             switch (s) {
@@ -310,6 +324,30 @@ public final class IndexSettings {
                     Property.Dynamic,
                     Property.IndexScope);
 
+    /**
+     * The keyword fields by which the {@link #STAR_TREE_METRICS_SETTING metric fields} are pre-aggregated in a star tree whenever a
+     * segment is written, so that aggregations on all the docs of the index can read the statistics of the segments rather than
+     * collect their docs.
+     */
+    public static final Setting<List<String>> STAR_TREE_DIMENSIONS_SETTING =
+        Setting.listSetting("index.star_tree.dimensions", Collections.emptyList(), Function.identity(),
+            Property.IndexScope, Property.Final);
+
+    /**
+     * The numeric fields whose count, sum, min and max are pre-aggregated in a star tree by the
+     * {@link #STAR_TREE_DIMENSIONS_SETTING dimension fields}.
+     */
+    public static final Setting<List<String>> STAR_TREE_METRICS_SETTING =
+        Setting.listSetting("index.star_tree.metrics", Collections.emptyList(), Function.identity(),
+            Property.IndexScope, Property.Final);
+
+    /**
+     * The maximum number of bytes of the star trees that each shard keeps in memory, see
+     * {@link org.opensearch.index.codec.startree.StarTreeCache}. The trees of the least recently used segments are evicted first.
+     */
+    public static final Setting<ByteSizeValue> STAR_TREE_CACHE_SIZE_SETTING =
+        Setting.byteSizeSetting("index.star_tree.cache.size", new ByteSizeValue(10, ByteSizeUnit.MB), Property.IndexScope);
+
     /**
      * The maximum number of refresh listeners allows on this shard.
      */
@@ -348,6 +386,14 @@ public final class IndexSettings {
     public static final Setting<Boolean> INDEX_SEARCH_THROTTLED = Setting.boolSetting("index.search.throttled", false,
         Property.IndexScope, Property.PrivateIndex, Property.Dynamic);
 
+    /**
+     * Marks an index to be searched concurrently across the segments of each shard. When enabled, eligible queries split the leaves of
+     * a shard into slices that are searched in parallel on the {@link org.opensearch.threadpool.ThreadPool.Names#INDEX_SEARCHER}
+     * thread-pool, and the per-slice top docs are merged before they are returned to the coordinating node.
+     */
+    public static final Setting<Boolean> INDEX_CONCURRENT_SEGMENT_SEARCH_SETTING =
+        Setting.boolSetting("index.search.concurrent_segment_search.enabled", false, Property.IndexScope, Property.Dynamic);
+
     /**
      * Determines a balance between file-based and operations-based peer recoveries. The number of operations that will be used in an
      * operations-based peer recovery is limited to this proportion of the total number of documents in the shard (including deleted
@@ -389,6 +435,7 @@ public final class IndexSettings {
     private final IndexScopedSettings scopedSettings;
     private long gcDeletesInMillis = DEFAULT_GC_DELETES.millis();
     private final boolean softDeleteEnabled;
+    private final ReplicationType replicationType;
     private volatile long softDeleteRetentionOperations;
 
     private volatile long retentionLeaseMillis;
@@ -407,6 +454,8 @@ public final class IndexSettings {
     }
 
     private volatile boolean warmerEnabled;
+    private volatile boolean warmUsedGlobalOrdinals;
+    private volatile TimeValue warmUsedGlobalOrdinalsKeepAlive;
     private volatile int maxResultWindow;
     private volatile int maxInnerResultWindow;
     private volatile int maxAdjacencyMatrixFilters;
@@ -422,6 +471,7 @@ public final class IndexSettings {
     private volatile String defaultPipeline;
     private volatile String requiredPipeline;
     private volatile boolean searchThrottled;
+    private volatile boolean concurrentSegmentSearchEnabled;
     private volatile long mappingNestedFieldsLimit;
     private volatile long mappingNestedDocsLimit;
     private volatile long mappingTotalFieldsLimit;
@@ -511,6 +561,7 @@ public final class IndexSettings {
         numberOfShards = settings.getAsInt(IndexMetadata.SETTING_NUMBER_OF_SHARDS, null);
 
         this.searchThrottled = INDEX_SEARCH_THROTTLED.get(settings);
+        this.concurrentSegmentSearchEnabled = scopedSettings.get(INDEX_CONCURRENT_SEGMENT_SEARCH_SETTING);
         this.queryStringLenient = QUERY_STRING_LENIENT_SETTING.get(settings);
         this.queryStringAnalyzeWildcard = QUERY_STRING_ANALYZE_WILDCARD.get(nodeSettings);
         this.queryStringAllowLeadingWildcard = QUERY_STRING_ALLOW_LEADING_WILDCARD.get(nodeSettings);
@@ -525,9 +576,12 @@ public final class IndexSettings {
         mergeSchedulerConfig = new MergeSchedulerConfig(this);
         gcDeletesInMillis = scopedSettings.get(INDEX_GC_DELETES_SETTING).getMillis();
         softDeleteEnabled = version.onOrAfter(LegacyESVersion.V_6_5_0) && scopedSettings.get(INDEX_SOFT_DELETES_SETTING);
+        replicationType = scopedSettings.get(IndexMetadata.INDEX_REPLICATION_TYPE_SETTING);
         softDeleteRetentionOperations = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING);
         retentionLeaseMillis = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING).millis();
         warmerEnabled = scopedSettings.get(INDEX_WARMER_ENABLED_SETTING);
+        warmUsedGlobalOrdinals = scopedSettings.get(INDEX_WARMER_USED_GLOBAL_ORDINALS_SETTING);
+        warmUsedGlobalOrdinalsKeepAlive = scopedSettings.get(INDEX_WARMER_USED_GLOBAL_ORDINALS_KEEP_ALIVE_SETTING);
         maxResultWindow = scopedSettings.get(MAX_RESULT_WINDOW_SETTING);
         maxInnerResultWindow = scopedSettings.get(MAX_INNER_RESULT_WINDOW_SETTING);
         maxAdjacencyMatrixFilters = scopedSettings.get(MAX_ADJACENCY_MATRIX_FILTERS_SETTING);
@@ -585,6 +639,9 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(MAX_NGRAM_DIFF_SETTING, this::setMaxNgramDiff);
         scopedSettings.addSettingsUpdateConsumer(MAX_SHINGLE_DIFF_SETTING, this::setMaxShingleDiff);
         scopedSettings.addSettingsUpdateConsumer(INDEX_WARMER_ENABLED_SETTING, this::setEnableWarmer);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_WARMER_USED_GLOBAL_ORDINALS_SETTING, this::setWarmUsedGlobalOrdinals);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_WARMER_USED_GLOBAL_ORDINALS_KEEP_ALIVE_SETTING,
+            this::setWarmUsedGlobalOrdinalsKeepAlive);
         scopedSettings.addSettingsUpdateConsumer(INDEX_GC_DELETES_SETTING, this::setGCDeletes);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING, this::setTranslogFlushThresholdSize);
         scopedSettings.addSettingsUpdateConsumer(INDEX_FLUSH_AFTER_MERGE_THRESHOLD_SIZE_SETTING, this::setFlushAfterMergeThresholdSize);
@@ -605,6 +662,7 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(FINAL_PIPELINE, this::setRequiredPipeline);
         scopedSettings.addSettingsUpdateConsumer(INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING, this::setSoftDeleteRetentionOperations);
         scopedSettings.addSettingsUpdateConsumer(INDEX_SEARCH_THROTTLED, this::setSearchThrottled);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_CONCURRENT_SEGMENT_SEARCH_SETTING, this::setConcurrentSegmentSearchEnabled);
         scopedSettings.addSettingsUpdateConsumer(INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING, this::setRetentionLeaseMillis);
         scopedSettings.addSettingsUpdateConsumer(INDEX_MAPPING_NESTED_FIELDS_LIMIT_SETTING, this::setMappingNestedFieldsLimit);
         scopedSettings.addSettingsUpdateConsumer(INDEX_MAPPING_NESTED_DOCS_LIMIT_SETTING, this::setMappingNestedDocsLimit);
@@ -793,6 +851,28 @@ public final class IndexSettings {
         this.warmerEnabled = enableWarmer;
     }
 
+    /**
+     * Returns true if the warmer rebuilds the global ordinals of the fields that searches used them for.
+     */
+    public boolean isWarmUsedGlobalOrdinals() {
+        return warmUsedGlobalOrdinals;
+    }
+
+    private void setWarmUsedGlobalOrdinals(boolean warmUsedGlobalOrdinals) {
+        this.warmUsedGlobalOrdinals = warmUsedGlobalOrdinals;
+    }
+
+    /**
+     * Returns how long the warmer keeps rebuilding the global ordinals of a field after searches last used them.
+     */
+    public TimeValue getWarmUsedGlobalOrdinalsKeepAlive() {
+        return warmUsedGlobalOrdinalsKeepAlive;
+    }
+
+    private void setWarmUsedGlobalOrdinalsKeepAlive(TimeValue warmUsedGlobalOrdinalsKeepAlive) {
+        this.warmUsedGlobalOrdinalsKeepAlive = warmUsedGlobalOrdinalsKeepAlive;
+    }
+
     /**
      * Returns the translog sync interval. This is the interval in which the transaction log is asynchronously fsynced unless
      * the transaction log is fsyncing on every operations
@@ -1078,6 +1158,21 @@ public final class IndexSettings {
         return softDeleteEnabled;
     }
 
+    /**
+     * Returns the replication type of the index.
+     */
+    public ReplicationType getReplicationType() {
+        return replicationType;
+    }
+
+    /**
+     * Returns <code>true</code> if the replicas of the index copy the segments of their primary instead of indexing the
+     * operations themselves.
+     */
+    public boolean isSegRepEnabled() {
+        return replicationType == ReplicationType.SEGMENT;
+    }
+
     private void setSoftDeleteRetentionOperations(long ops) {
         this.softDeleteRetentionOperations = ops;
     }
@@ -1101,6 +1196,18 @@ public final class IndexSettings {
         this.searchThrottled = searchThrottled;
     }
 
+    /**
+     * Returns true if the shards of this index should be searched concurrently across their segments using the
+     * {@link org.opensearch.threadpool.ThreadPool.Names#INDEX_SEARCHER} thread-pool
+     */
+    public boolean isConcurrentSegmentSearchEnabled() {
+        return concurrentSegmentSearchEnabled;
+    }
+
+    private void setConcurrentSegmentSearchEnabled(boolean concurrentSegmentSearchEnabled) {
+        this.concurrentSegmentSearchEnabled = concurrentSegmentSearchEnabled;
+    }
+
     public long getMappingNestedFieldsLimit() {
         return mappingNestedFieldsLimit;
     }
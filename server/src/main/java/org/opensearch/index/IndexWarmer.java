@@ -39,6 +39,8 @@ import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.IndexFieldDataService;
+import org.opensearch.index.fielddata.IndexOrdinalsFieldData;
+import org.opensearch.index.fielddata.ordinals.GlobalOrdinalsBuilder;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.shard.IndexShard;
@@ -50,6 +52,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
@@ -132,9 +135,13 @@ public final class IndexWarmer {
         public TerminationHandle warmReader(final IndexShard indexShard, final OpenSearchDirectoryReader reader) {
             final MapperService mapperService = indexShard.mapperService();
             final Map<String, MappedFieldType> warmUpGlobalOrdinals = new HashMap<>();
+            // also keep the global ordinals that searches built up to date, so that the next search doesn't have to rebuild them
+            final Set<String> usedGlobalOrdinals = indexShard.indexSettings().isWarmUsedGlobalOrdinals()
+                ? indexFieldDataService.getGlobalOrdinalsFields(indexShard.indexSettings().getWarmUsedGlobalOrdinalsKeepAlive())
+                : Collections.emptySet();
             for (MappedFieldType fieldType : mapperService.fieldTypes()) {
                 final String indexName = fieldType.name();
-                if (fieldType.eagerGlobalOrdinals() == false) {
+                if (fieldType.eagerGlobalOrdinals() == false && usedGlobalOrdinals.contains(indexName) == false) {
                     continue;
                 }
                 warmUpGlobalOrdinals.put(indexName, fieldType);
@@ -144,11 +151,16 @@ public final class IndexWarmer {
                 executor.execute(() -> {
                     try {
                         final long start = System.nanoTime();
-                        IndexFieldData.Global<?> ifd = indexFieldDataService.getForField(fieldType,
+                        IndexFieldData.Global<?> ifd = indexFieldDataService.getForWarming(fieldType,
                             indexFieldDataService.index().getName(),
                             () -> {
                                 throw new UnsupportedOperationException("search lookup not available when warming an index");
                             });
+                        if (ifd instanceof IndexOrdinalsFieldData && reader.leaves().size() > 1) {
+                            // load the field data of the segments in parallel, building the global ordinals then only has to
+                            // merge their terms, which still happens sequentially
+                            GlobalOrdinalsBuilder.loadSegments(reader, (IndexOrdinalsFieldData) ifd, executor);
+                        }
                         IndexFieldData<?> global = ifd.loadGlobal(reader);
                         if (reader.leaves().isEmpty() == false) {
                             global.load(reader.leaves().get(0));
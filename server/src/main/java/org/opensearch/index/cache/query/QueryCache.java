@@ -32,6 +32,8 @@
 
 package org.opensearch.index.cache.query;
 
+import org.apache.lucene.search.QueryCachingPolicy;
+import org.apache.lucene.search.UsageTrackingQueryCachingPolicy;
 import org.opensearch.index.IndexComponent;
 
 import java.io.Closeable;
@@ -39,4 +41,11 @@ import java.io.Closeable;
 public interface QueryCache extends IndexComponent, Closeable, org.apache.lucene.search.QueryCache {
 
     void clear(String reason);
+
+    /**
+     * Creates the policy that a shard of the index uses to decide which queries to cache.
+     */
+    default QueryCachingPolicy newCachingPolicy() {
+        return new UsageTrackingQueryCachingPolicy();
+    }
 }
@@ -33,6 +33,7 @@
 package org.opensearch.index.cache.query;
 
 import org.apache.lucene.search.DocIdSet;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -42,6 +43,10 @@ import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
 
 public class QueryCacheStats implements Writeable, ToXContentFragment {
 
@@ -50,6 +55,7 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
     private long missCount;
     private long cacheCount;
     private long cacheSize;
+    private final Map<String, QueryShapeCacheStats> shapes = new HashMap<>();
 
     public QueryCacheStats() {
     }
@@ -60,6 +66,9 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         missCount = in.readLong();
         cacheCount = in.readLong();
         cacheSize = in.readLong();
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            shapes.putAll(in.readMap(StreamInput::readString, QueryShapeCacheStats::new));
+        }
     }
 
     public QueryCacheStats(long ramBytesUsed, long hitCount, long missCount, long cacheCount, long cacheSize) {
@@ -70,12 +79,21 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         this.cacheSize = cacheSize;
     }
 
+    public QueryCacheStats(long ramBytesUsed, long hitCount, long missCount, long cacheCount, long cacheSize,
+                           Map<String, QueryShapeCacheStats> shapes) {
+        this(ramBytesUsed, hitCount, missCount, cacheCount, cacheSize);
+        this.shapes.putAll(shapes);
+    }
+
     public void add(QueryCacheStats stats) {
         ramBytesUsed += stats.ramBytesUsed;
         hitCount += stats.hitCount;
         missCount += stats.missCount;
         cacheCount += stats.cacheCount;
         cacheSize += stats.cacheSize;
+        for (Map.Entry<String, QueryShapeCacheStats> shape : stats.shapes.entrySet()) {
+            shapes.computeIfAbsent(shape.getKey(), k -> new QueryShapeCacheStats()).add(shape.getValue());
+        }
     }
 
     public long getMemorySizeInBytes() {
@@ -128,6 +146,13 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         return cacheCount - cacheSize;
     }
 
+    /**
+     * The statistics of the queries in the cache by query shape, like the point range queries or the term queries.
+     */
+    public Map<String, QueryShapeCacheStats> getShapes() {
+        return Collections.unmodifiableMap(shapes);
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeLong(ramBytesUsed);
@@ -135,6 +160,9 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         out.writeLong(missCount);
         out.writeLong(cacheCount);
         out.writeLong(cacheSize);
+        if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+            out.writeMap(shapes, StreamOutput::writeString, (o, shape) -> shape.writeTo(o));
+        }
     }
 
     @Override
@@ -147,6 +175,13 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.CACHE_SIZE, getCacheSize());
         builder.field(Fields.CACHE_COUNT, getCacheCount());
         builder.field(Fields.EVICTIONS, getEvictions());
+        if (shapes.isEmpty() == false) {
+            builder.startObject(Fields.SHAPES);
+            for (Map.Entry<String, QueryShapeCacheStats> shape : new TreeMap<>(shapes).entrySet()) {
+                builder.field(shape.getKey(), shape.getValue(), params);
+            }
+            builder.endObject();
+        }
         builder.endObject();
         return builder;
     }
@@ -161,6 +196,7 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         static final String CACHE_SIZE = "cache_size";
         static final String CACHE_COUNT = "cache_count";
         static final String EVICTIONS = "evictions";
+        static final String SHAPES = "shapes";
     }
 
 }
@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.cache.query;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContentObject;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * The query cache statistics of the queries of a given shape, like all the point range queries, see {@link QueryCacheStats#getShapes()}.
+ */
+public class QueryShapeCacheStats implements Writeable, ToXContentObject {
+
+    private long hitCount;
+    private long missCount;
+    private long cacheCount;
+    private long cachedBytes;
+    private long buildTimeNanos;
+
+    public QueryShapeCacheStats() {
+    }
+
+    public QueryShapeCacheStats(StreamInput in) throws IOException {
+        hitCount = in.readVLong();
+        missCount = in.readVLong();
+        cacheCount = in.readVLong();
+        cachedBytes = in.readVLong();
+        buildTimeNanos = in.readVLong();
+    }
+
+    public QueryShapeCacheStats(long hitCount, long missCount, long cacheCount, long cachedBytes, long buildTimeNanos) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.cacheCount = cacheCount;
+        this.cachedBytes = cachedBytes;
+        this.buildTimeNanos = buildTimeNanos;
+    }
+
+    public void add(QueryShapeCacheStats stats) {
+        hitCount += stats.hitCount;
+        missCount += stats.missCount;
+        cacheCount += stats.cacheCount;
+        cachedBytes += stats.cachedBytes;
+        buildTimeNanos += stats.buildTimeNanos;
+    }
+
+    /**
+     * The number of successful lookups in the cache.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * The number of lookups in the cache that failed to retrieve a {@link org.apache.lucene.search.DocIdSet}.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * The number of {@link org.apache.lucene.search.DocIdSet}s that have been cached.
+     */
+    public long getCacheCount() {
+        return cacheCount;
+    }
+
+    /**
+     * The total size of the {@link org.apache.lucene.search.DocIdSet}s that have been cached, including the evicted ones.
+     */
+    public ByteSizeValue getCachedSize() {
+        return new ByteSizeValue(cachedBytes);
+    }
+
+    /**
+     * The total time spent building the {@link org.apache.lucene.search.DocIdSet}s that have been cached.
+     */
+    public TimeValue getBuildTime() {
+        return TimeValue.timeValueNanos(buildTimeNanos);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(hitCount);
+        out.writeVLong(missCount);
+        out.writeVLong(cacheCount);
+        out.writeVLong(cachedBytes);
+        out.writeVLong(buildTimeNanos);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field(Fields.HIT_COUNT, hitCount);
+        builder.field(Fields.MISS_COUNT, missCount);
+        builder.field(Fields.CACHE_COUNT, cacheCount);
+        builder.humanReadableField(Fields.CACHED_SIZE_IN_BYTES, Fields.CACHED_SIZE, getCachedSize());
+        builder.humanReadableField(Fields.BUILD_TIME_IN_MILLIS, Fields.BUILD_TIME, getBuildTime());
+        return builder.endObject();
+    }
+
+    static final class Fields {
+        static final String HIT_COUNT = "hit_count";
+        static final String MISS_COUNT = "miss_count";
+        static final String CACHE_COUNT = "cache_count";
+        static final String CACHED_SIZE = "cached_size";
+        static final String CACHED_SIZE_IN_BYTES = "cached_size_in_bytes";
+        static final String BUILD_TIME = "build_time";
+        static final String BUILD_TIME_IN_MILLIS = "build_time_in_millis";
+    }
+}
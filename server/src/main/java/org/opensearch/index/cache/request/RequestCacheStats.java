@@ -32,6 +32,7 @@
 
 package org.opensearch.index.cache.request;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -47,6 +48,9 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
     private long evictions;
     private long hitCount;
     private long missCount;
+    private long offHeapCount;
+    private long offHeapSize;
+    private long offHeapEvictions;
 
     public RequestCacheStats() {
     }
@@ -56,13 +60,26 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         evictions = in.readVLong();
         hitCount = in.readVLong();
         missCount = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            offHeapCount = in.readVLong();
+            offHeapSize = in.readVLong();
+            offHeapEvictions = in.readVLong();
+        }
     }
 
     public RequestCacheStats(long memorySize, long evictions, long hitCount, long missCount) {
+        this(memorySize, evictions, hitCount, missCount, 0, 0, 0);
+    }
+
+    public RequestCacheStats(long memorySize, long evictions, long hitCount, long missCount, long offHeapCount, long offHeapSize,
+                             long offHeapEvictions) {
         this.memorySize = memorySize;
         this.evictions = evictions;
         this.hitCount = hitCount;
         this.missCount = missCount;
+        this.offHeapCount = offHeapCount;
+        this.offHeapSize = offHeapSize;
+        this.offHeapEvictions = offHeapEvictions;
     }
 
     public void add(RequestCacheStats stats) {
@@ -70,6 +87,9 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         this.evictions += stats.evictions;
         this.hitCount += stats.hitCount;
         this.missCount += stats.missCount;
+        this.offHeapCount += stats.offHeapCount;
+        this.offHeapSize += stats.offHeapSize;
+        this.offHeapEvictions += stats.offHeapEvictions;
     }
 
     public long getMemorySizeInBytes() {
@@ -92,12 +112,39 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         return this.missCount;
     }
 
+    /**
+     * The number of entries of the off-heap tier of the request cache.
+     */
+    public long getOffHeapCount() {
+        return this.offHeapCount;
+    }
+
+    public long getOffHeapSizeInBytes() {
+        return this.offHeapSize;
+    }
+
+    public ByteSizeValue getOffHeapSize() {
+        return new ByteSizeValue(offHeapSize);
+    }
+
+    /**
+     * The number of entries that the off-heap tier evicted to make room for other entries.
+     */
+    public long getOffHeapEvictions() {
+        return this.offHeapEvictions;
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeVLong(memorySize);
         out.writeVLong(evictions);
         out.writeVLong(hitCount);
         out.writeVLong(missCount);
+        if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+            out.writeVLong(offHeapCount);
+            out.writeVLong(offHeapSize);
+            out.writeVLong(offHeapEvictions);
+        }
     }
 
     @Override
@@ -107,6 +154,11 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.EVICTIONS, getEvictions());
         builder.field(Fields.HIT_COUNT, getHitCount());
         builder.field(Fields.MISS_COUNT, getMissCount());
+        builder.startObject(Fields.OFF_HEAP);
+        builder.field(Fields.COUNT, getOffHeapCount());
+        builder.humanReadableField(Fields.MEMORY_SIZE_IN_BYTES, Fields.MEMORY_SIZE, getOffHeapSize());
+        builder.field(Fields.EVICTIONS, getOffHeapEvictions());
+        builder.endObject();
         builder.endObject();
         return builder;
     }
@@ -118,5 +170,7 @@ public class RequestCacheStats implements Writeable, ToXContentFragment {
         static final String EVICTIONS = "evictions";
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+        static final String OFF_HEAP = "off_heap";
+        static final String COUNT = "count";
     }
 }
@@ -45,9 +45,13 @@ public final class ShardRequestCache {
     final CounterMetric totalMetric = new CounterMetric();
     final CounterMetric hitCount = new CounterMetric();
     final CounterMetric missCount = new CounterMetric();
+    final CounterMetric offHeapCount = new CounterMetric();
+    final CounterMetric offHeapSize = new CounterMetric();
+    final CounterMetric offHeapEvictions = new CounterMetric();
 
     public RequestCacheStats stats() {
-        return new RequestCacheStats(totalMetric.count(), evictionsMetric.count(), hitCount.count(), missCount.count());
+        return new RequestCacheStats(totalMetric.count(), evictionsMetric.count(), hitCount.count(), missCount.count(),
+            offHeapCount.count(), offHeapSize.count(), offHeapEvictions.count());
     }
 
     public void onHit() {
@@ -75,4 +79,17 @@ public final class ShardRequestCache {
         }
         totalMetric.dec(dec);
     }
+
+    public void onOffHeapCached(int length) {
+        offHeapCount.inc();
+        offHeapSize.inc(length);
+    }
+
+    public void onOffHeapRemoval(int length, boolean evicted) {
+        if (evicted) {
+            offHeapEvictions.inc();
+        }
+        offHeapCount.dec();
+        offHeapSize.dec(length);
+    }
 }
@@ -40,6 +40,7 @@ import org.opensearch.common.Nullable;
 import org.opensearch.common.collect.MapBuilder;
 import org.opensearch.index.mapper.MapperService;
 
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -58,6 +59,17 @@ public class CodecService {
     public static final String LUCENE_DEFAULT_CODEC = "lucene_default";
 
     public CodecService(@Nullable MapperService mapperService, Logger logger) {
+        this(mapperService, logger, Collections.emptyMap());
+    }
+
+    /**
+     * Creates a codec service that also exposes the given codecs, which take precedence over the codecs that are registered
+     * with Lucene under the same name. Each additional codec must be registered with Lucene under its name, which is the one
+     * {@code index.codec} accepts, so that the segments it writes can be read back. This is typically a
+     * {@link org.apache.lucene.codecs.FilterCodec} over {@link PerFieldMappingPostingFormatCodec} that only overrides the
+     * stored fields format, which gets the per-field postings formats of the mappings when it is created here.
+     */
+    public CodecService(@Nullable MapperService mapperService, Logger logger, Map<String, Codec> additionalCodecs) {
         final MapBuilder<String, Codec> codecs = MapBuilder.<String, Codec>newMapBuilder();
         if (mapperService == null) {
             codecs.put(DEFAULT_CODEC, new Lucene87Codec());
@@ -72,6 +84,13 @@ public class CodecService {
         for (String codec : Codec.availableCodecs()) {
             codecs.put(codec, Codec.forName(codec));
         }
+        for (Map.Entry<String, Codec> additionalCodec : additionalCodecs.entrySet()) {
+            final String name = additionalCodec.getKey();
+            if (DEFAULT_CODEC.equals(name) || BEST_COMPRESSION_CODEC.equals(name) || LUCENE_DEFAULT_CODEC.equals(name)) {
+                throw new IllegalArgumentException("codec [" + name + "] conflicts with a built-in codec");
+            }
+            codecs.put(name, additionalCodec.getValue());
+        }
         this.codecs = codecs.immutableMap();
     }
 
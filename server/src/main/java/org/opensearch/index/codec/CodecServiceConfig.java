@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec;
+
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.Nullable;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.mapper.MapperService;
+
+import java.util.Objects;
+
+/**
+ * The parameters a {@link CodecServiceFactory} creates the {@link CodecService} of a shard with.
+ */
+public final class CodecServiceConfig {
+    private final IndexSettings indexSettings;
+    private final MapperService mapperService;
+    private final Logger logger;
+
+    public CodecServiceConfig(IndexSettings indexSettings, @Nullable MapperService mapperService, Logger logger) {
+        this.indexSettings = Objects.requireNonNull(indexSettings);
+        this.mapperService = mapperService;
+        this.logger = Objects.requireNonNull(logger);
+    }
+
+    public IndexSettings getIndexSettings() {
+        return indexSettings;
+    }
+
+    @Nullable
+    public MapperService getMapperService() {
+        return mapperService;
+    }
+
+    public Logger getLogger() {
+        return logger;
+    }
+}
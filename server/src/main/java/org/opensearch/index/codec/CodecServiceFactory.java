@@ -0,0 +1,20 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec;
+
+/**
+ * A factory for the {@link CodecService} of the shards of an index. Plugins can register one through
+ * {@link org.opensearch.index.IndexModule#setCodecServiceFactory(CodecServiceFactory)} in order to expose additional codecs,
+ * for instance stored fields compressed with another algorithm, that can then be selected with the {@code index.codec} setting.
+ */
+@FunctionalInterface
+public interface CodecServiceFactory {
+
+    CodecService createCodecService(CodecServiceConfig config);
+}
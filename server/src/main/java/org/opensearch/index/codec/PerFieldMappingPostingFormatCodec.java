@@ -38,10 +38,21 @@ import org.apache.lucene.codecs.DocValuesFormat;
 import org.apache.lucene.codecs.PostingsFormat;
 import org.apache.lucene.codecs.lucene80.Lucene80DocValuesFormat;
 import org.apache.lucene.codecs.lucene87.Lucene87Codec;
+import org.apache.lucene.document.HalfFloatPoint;
+import org.apache.lucene.util.NumericUtils;
 import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.codec.startree.StarTreeDocValuesFormat;
 import org.opensearch.index.mapper.CompletionFieldMapper;
+import org.opensearch.index.mapper.DateFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.mapper.NumberFieldMapper;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.LongToDoubleFunction;
 
 /**
  * {@link PerFieldMappingPostingFormatCodec This postings format} is the default
@@ -55,6 +66,9 @@ public class PerFieldMappingPostingFormatCodec extends Lucene87Codec {
     private final Logger logger;
     private final MapperService mapperService;
     private final DocValuesFormat dvFormat = new Lucene80DocValuesFormat(Lucene80DocValuesFormat.Mode.BEST_COMPRESSION);
+    // the fields of the star tree of the index, if it has one
+    private final Set<String> starTreeFields = new HashSet<>();
+    private final DocValuesFormat starTreeFormat;
 
     static {
         assert Codec.forName(Lucene.LATEST_CODEC).getClass().isAssignableFrom(PerFieldMappingPostingFormatCodec.class) :
@@ -65,6 +79,18 @@ public class PerFieldMappingPostingFormatCodec extends Lucene87Codec {
         super(compressionMode);
         this.mapperService = mapperService;
         this.logger = logger;
+        final Settings settings = mapperService.getIndexSettings().getSettings();
+        final Set<String> dimensions = new HashSet<>(IndexSettings.STAR_TREE_DIMENSIONS_SETTING.get(settings));
+        final Set<String> metrics = new HashSet<>(IndexSettings.STAR_TREE_METRICS_SETTING.get(settings));
+        if (dimensions.isEmpty()) {
+            this.starTreeFormat = null;
+        } else {
+            starTreeFields.addAll(dimensions);
+            starTreeFields.addAll(metrics);
+            // the mappings are resolved when the segments are written, since the fields may be mapped after the index is created
+            this.starTreeFormat = new StarTreeDocValuesFormat(dvFormat, dimensions,
+                field -> metrics.contains(field) ? metricDecoder(mapperService.fieldType(field)) : null);
+        }
     }
 
     @Override
@@ -80,6 +106,37 @@ public class PerFieldMappingPostingFormatCodec extends Lucene87Codec {
 
     @Override
     public DocValuesFormat getDocValuesFormatForField(String field) {
+        if (starTreeFields.contains(field)) {
+            return starTreeFormat;
+        }
         return dvFormat;
     }
+
+    /**
+     * Returns the function that converts the doc values of the given field to the values that aggregations read, or null if the
+     * star tree can't pre-aggregate the field.
+     */
+    private static LongToDoubleFunction metricDecoder(MappedFieldType fieldType) {
+        if (fieldType instanceof NumberFieldMapper.NumberFieldType) {
+            switch (((NumberFieldMapper.NumberFieldType) fieldType).numericType()) {
+                case HALF_FLOAT:
+                    return value -> HalfFloatPoint.sortableShortToHalfFloat((short) value);
+                case FLOAT:
+                    return value -> NumericUtils.sortableIntToFloat((int) value);
+                case DOUBLE:
+                    return NumericUtils::sortableLongToDouble;
+                case BYTE:
+                case SHORT:
+                case INT:
+                case LONG:
+                    return value -> value;
+                default:
+                    return null;
+            }
+        } else if (fieldType instanceof DateFieldMapper.DateFieldType
+            && ((DateFieldMapper.DateFieldType) fieldType).resolution() == DateFieldMapper.Resolution.MILLISECONDS) {
+            return value -> value;
+        }
+        return null;
+    }
 }
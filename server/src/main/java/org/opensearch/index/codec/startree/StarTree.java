@@ -0,0 +1,393 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.codecs.perfield.PerFieldDocValuesFormat;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.index.SortedDocValues;
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.lucene.Lucene;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The statistics of the metric fields of a segment, pre-aggregated when the segment is written by the {@link StarTreeDocValuesFormat}.
+ * <p>
+ * The root of the tree is the star node, which holds the statistics of all the docs of the segment. Below it, each dimension field
+ * has a node per value, which holds the statistics of the docs that have that value and a star for all the other dimensions. This
+ * answers aggregations that group all the docs of a segment by a single dimension, or that don't group them at all, in
+ * {@code O(values)} rather than {@code O(docs)}.
+ */
+public final class StarTree implements Accountable {
+
+    private static final long BASE_RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(StarTree.class);
+
+    private final Map<String, MetricStats> starNode;
+    private final Map<String, Dimension> dimensions;
+
+    StarTree(Map<String, MetricStats> starNode, Map<String, Dimension> dimensions) {
+        this.starNode = Collections.unmodifiableMap(starNode);
+        this.dimensions = Collections.unmodifiableMap(dimensions);
+    }
+
+    /**
+     * Returns the statistics of the given metric field over all the docs of the segment, or null if it is not a metric of this tree.
+     */
+    @Nullable
+    public MetricStats metric(String field) {
+        return starNode.get(field);
+    }
+
+    /**
+     * Returns the nodes of the given dimension field, or null if it is not a dimension of this tree.
+     */
+    @Nullable
+    public Dimension dimension(String field) {
+        return dimensions.get(field);
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        long ramBytesUsed = BASE_RAM_BYTES_USED + starNode.size() * MetricStats.RAM_BYTES_USED;
+        for (Dimension dimension : dimensions.values()) {
+            ramBytesUsed += dimension.ramBytesUsed();
+        }
+        return ramBytesUsed;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeVInt(starNode.size());
+        for (Map.Entry<String, MetricStats> metric : starNode.entrySet()) {
+            out.writeString(metric.getKey());
+            metric.getValue().writeTo(out);
+        }
+        out.writeVInt(dimensions.size());
+        for (Map.Entry<String, Dimension> dimension : dimensions.entrySet()) {
+            out.writeString(dimension.getKey());
+            dimension.getValue().writeTo(out);
+        }
+    }
+
+    static StarTree readFrom(DataInput in) throws IOException {
+        final int numMetrics = in.readVInt();
+        final Map<String, MetricStats> starNode = new LinkedHashMap<>();
+        for (int i = 0; i < numMetrics; i++) {
+            starNode.put(in.readString(), MetricStats.readFrom(in));
+        }
+        final int numDimensions = in.readVInt();
+        final Map<String, Dimension> dimensions = new LinkedHashMap<>();
+        for (int i = 0; i < numDimensions; i++) {
+            dimensions.put(in.readString(), Dimension.readFrom(in, starNode.keySet().toArray(new String[0])));
+        }
+        return new StarTree(starNode, dimensions);
+    }
+
+    /**
+     * Returns the star tree of the segment of the given reader, if the given field is one of its dimension or metric fields, and
+     * null otherwise. The tree holds the statistics of all the docs of the segment, so it must only be used if none of them are
+     * deleted.
+     *
+     * @param cache the cache of the trees of the shard of the segment
+     */
+    @Nullable
+    public static StarTree fromLeaf(StarTreeCache cache, LeafReader reader, String field) throws IOException {
+        // a filtered reader may hide the field
+        if (reader.getFieldInfos().fieldInfo(field) == null) {
+            return null;
+        }
+        final SegmentReader segmentReader;
+        try {
+            segmentReader = Lucene.segmentReader(reader);
+        } catch (IllegalStateException e) {
+            return null;
+        }
+        final FieldInfo fieldInfo = segmentReader.getFieldInfos().fieldInfo(field);
+        if (fieldInfo == null
+            || StarTreeDocValuesFormat.NAME.equals(fieldInfo.getAttribute(PerFieldDocValuesFormat.PER_FIELD_FORMAT_KEY)) == false) {
+            return null;
+        }
+        return cache.starTree(segmentReader, fieldInfo);
+    }
+
+    /**
+     * Returns a tree that only holds the statistics of the docs of the segment whose value of the given dimension is within the
+     * given range: its star node sums up the nodes of the dimension that are in the range, and the dimension only keeps these
+     * nodes. The other dimensions are dropped since their nodes can't be filtered by the value of another dimension.
+     * <p>
+     * Returns null if the given field is not a dimension of this tree, or if some docs of the segment have several values for it,
+     * as the nodes of these values would count them several times.
+     *
+     * @param reader the reader of the segment of this tree
+     * @param lower the lower bound of the range, or null if the range is unbounded below
+     * @param upper the upper bound of the range, or null if the range is unbounded above
+     */
+    @Nullable
+    public StarTree filter(
+        LeafReader reader,
+        String dimension,
+        @Nullable BytesRef lower,
+        @Nullable BytesRef upper,
+        boolean includeLower,
+        boolean includeUpper
+    ) throws IOException {
+        final Dimension nodes = dimensions.get(dimension);
+        if (nodes == null) {
+            return null;
+        }
+        final SortedDocValues values = DocValues.unwrapSingleton(DocValues.getSortedSet(reader, dimension));
+        if (values == null) {
+            return null;
+        }
+        long minOrd = 0;
+        if (lower != null) {
+            final long ord = values.lookupTerm(lower);
+            minOrd = ord >= 0 ? (includeLower ? ord : ord + 1) : -1 - ord;
+        }
+        long maxOrd = values.getValueCount() - 1;
+        if (upper != null) {
+            final long ord = values.lookupTerm(upper);
+            maxOrd = ord >= 0 ? (includeUpper ? ord : ord - 1) : -2 - ord;
+        }
+        final Dimension filteredNodes = nodes.filter(minOrd, maxOrd);
+        final Map<String, MetricStats> filteredStarNode = new LinkedHashMap<>();
+        for (String metric : starNode.keySet()) {
+            final MetricStats stats = new MetricStats();
+            for (int node = 0; node < filteredNodes.size(); node++) {
+                stats.add(filteredNodes.metric(metric, node));
+            }
+            filteredStarNode.put(metric, stats);
+        }
+        return new StarTree(filteredStarNode, Collections.singletonMap(dimension, filteredNodes));
+    }
+
+    /**
+     * The nodes of a dimension field: one per value of the field in the segment, sorted by the ordinal of the value in the sorted
+     * set doc values of the field.
+     */
+    public static final class Dimension implements Accountable {
+
+        private final long[] ords;
+        private final long[] docCounts;
+        private final Map<String, MetricStats[]> metrics;
+
+        Dimension(long[] ords, long[] docCounts, Map<String, MetricStats[]> metrics) {
+            assert ords.length == docCounts.length;
+            this.ords = ords;
+            this.docCounts = docCounts;
+            this.metrics = metrics;
+        }
+
+        /**
+         * The number of values of the dimension.
+         */
+        public int size() {
+            return ords.length;
+        }
+
+        /**
+         * The ordinal of the value of the given node in the sorted set doc values of the segment.
+         */
+        public long ord(int node) {
+            return ords[node];
+        }
+
+        /**
+         * The number of docs that have the value of the given node.
+         */
+        public long docCount(int node) {
+            return docCounts[node];
+        }
+
+        /**
+         * The statistics of the given metric field over the docs that have the value of the given node, or null if it is not a
+         * metric of the tree.
+         */
+        @Nullable
+        public MetricStats metric(String field, int node) {
+            final MetricStats[] stats = metrics.get(field);
+            return stats == null ? null : stats[node];
+        }
+
+        /**
+         * Returns the nodes whose ordinal is within the given bounds, inclusive.
+         */
+        private Dimension filter(long minOrd, long maxOrd) {
+            int from = Arrays.binarySearch(ords, minOrd);
+            from = from >= 0 ? from : -1 - from;
+            int to = Arrays.binarySearch(ords, maxOrd);
+            // the range is empty if the bounds are inverted
+            to = Math.max(from, to >= 0 ? to + 1 : -1 - to);
+            final Map<String, MetricStats[]> filteredMetrics = new LinkedHashMap<>();
+            for (Map.Entry<String, MetricStats[]> metric : metrics.entrySet()) {
+                filteredMetrics.put(metric.getKey(), Arrays.copyOfRange(metric.getValue(), from, to));
+            }
+            return new Dimension(Arrays.copyOfRange(ords, from, to), Arrays.copyOfRange(docCounts, from, to), filteredMetrics);
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return RamUsageEstimator.sizeOf(ords) + RamUsageEstimator.sizeOf(docCounts) + metrics.size() * (long) ords.length
+                * MetricStats.RAM_BYTES_USED;
+        }
+
+        private void writeTo(DataOutput out) throws IOException {
+            out.writeVInt(ords.length);
+            long previousOrd = 0;
+            for (int node = 0; node < ords.length; node++) {
+                out.writeVLong(ords[node] - previousOrd);
+                previousOrd = ords[node];
+                out.writeVLong(docCounts[node]);
+            }
+            // the metrics are written in the order of the star node
+            for (MetricStats[] stats : metrics.values()) {
+                for (MetricStats nodeStats : stats) {
+                    nodeStats.writeTo(out);
+                }
+            }
+        }
+
+        private static Dimension readFrom(DataInput in, String[] metricFields) throws IOException {
+            final int size = in.readVInt();
+            final long[] ords = new long[size];
+            final long[] docCounts = new long[size];
+            long ord = 0;
+            for (int node = 0; node < size; node++) {
+                ord += in.readVLong();
+                ords[node] = ord;
+                docCounts[node] = in.readVLong();
+            }
+            final Map<String, MetricStats[]> metrics = new LinkedHashMap<>();
+            for (String metricField : metricFields) {
+                final MetricStats[] stats = new MetricStats[size];
+                for (int node = 0; node < size; node++) {
+                    stats[node] = MetricStats.readFrom(in);
+                }
+                metrics.put(metricField, stats);
+            }
+            return new Dimension(ords, docCounts, metrics);
+        }
+
+        @Override
+        public String toString() {
+            return "Dimension[ords=" + Arrays.toString(ords) + ", docCounts=" + Arrays.toString(docCounts) + "]";
+        }
+    }
+
+    /**
+     * The statistics of the values of a metric field over a set of docs.
+     */
+    public static final class MetricStats {
+
+        private static final long RAM_BYTES_USED = RamUsageEstimator.shallowSizeOfInstance(MetricStats.class);
+
+        private long count;
+        private double sum;
+        // the correction term of the Kahan summation of the sum, which is only used while the tree is built
+        private double compensation;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+
+        MetricStats() {}
+
+        private MetricStats(long count, double sum, double min, double max) {
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+        }
+
+        void add(double value) {
+            count++;
+            if (Double.isFinite(value) == false) {
+                sum += value;
+            } else if (Double.isFinite(sum)) {
+                final double corrected = value - compensation;
+                final double newSum = sum + corrected;
+                compensation = (newSum - sum) - corrected;
+                sum = newSum;
+            }
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        void add(MetricStats other) {
+            count += other.count;
+            if (Double.isFinite(other.sum) == false) {
+                sum += other.sum;
+            } else if (Double.isFinite(sum)) {
+                final double corrected = other.sum - compensation;
+                final double newSum = sum + corrected;
+                compensation = (newSum - sum) - corrected;
+                sum = newSum;
+            }
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+
+        /**
+         * The number of values.
+         */
+        public long count() {
+            return count;
+        }
+
+        /**
+         * The sum of the values.
+         */
+        public double sum() {
+            return sum;
+        }
+
+        /**
+         * The minimum value, or {@link Double#POSITIVE_INFINITY} if there are no values.
+         */
+        public double min() {
+            return min;
+        }
+
+        /**
+         * The maximum value, or {@link Double#NEGATIVE_INFINITY} if there are no values.
+         */
+        public double max() {
+            return max;
+        }
+
+        private void writeTo(DataOutput out) throws IOException {
+            out.writeVLong(count);
+            out.writeLong(Double.doubleToLongBits(sum));
+            out.writeLong(Double.doubleToLongBits(min));
+            out.writeLong(Double.doubleToLongBits(max));
+        }
+
+        private static MetricStats readFrom(DataInput in) throws IOException {
+            final long count = in.readVLong();
+            final double sum = Double.longBitsToDouble(in.readLong());
+            final double min = Double.longBitsToDouble(in.readLong());
+            final double max = Double.longBitsToDouble(in.readLong());
+            return new MetricStats(count, sum, min, max);
+        }
+
+        @Override
+        public String toString() {
+            return "MetricStats[count=" + count + ", sum=" + sum + ", min=" + min + ", max=" + max + "]";
+        }
+    }
+}
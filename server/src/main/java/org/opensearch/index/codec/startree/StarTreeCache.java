@@ -0,0 +1,103 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.SegmentReader;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.CircuitBreakingException;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Caches the {@link StarTree}s of the segments of a shard until their cores are closed, see
+ * {@link org.opensearch.index.IndexSettings#STAR_TREE_CACHE_SIZE_SETTING}. The trees are accounted against the given breaker,
+ * typically the {@link CircuitBreaker#FIELDDATA} breaker, as they live as long as the segments. If the breaker trips, the tree
+ * isn't cached and the aggregations collect the docs of the segment instead.
+ */
+public final class StarTreeCache implements IndexReader.ClosedListener, RemovalListener<IndexReader.CacheKey, StarTree>, Closeable {
+
+    private static final Logger logger = LogManager.getLogger(StarTreeCache.class);
+
+    private final Cache<IndexReader.CacheKey, StarTree> cache;
+    private final CircuitBreaker breaker;
+
+    public StarTreeCache(long maxSizeInBytes, CircuitBreaker breaker) {
+        this.cache = CacheBuilder.<IndexReader.CacheKey, StarTree>builder()
+            .setMaximumWeight(maxSizeInBytes)
+            .weigher((key, starTree) -> starTree.ramBytesUsed())
+            .removalListener(this)
+            .build();
+        this.breaker = breaker;
+    }
+
+    /**
+     * Returns the star tree of the given segment, which wrote the given field with the {@link StarTreeDocValuesFormat}, or null if
+     * the doc values of the field were updated since the segment was written, as the tree doesn't reflect the updates, or if the
+     * breaker doesn't allow to load the tree.
+     */
+    @Nullable
+    StarTree starTree(SegmentReader reader, FieldInfo fieldInfo) throws IOException {
+        if (fieldInfo.getDocValuesGen() != -1) {
+            return null;
+        }
+        final IndexReader.CacheHelper cacheHelper = reader.getCoreCacheHelper();
+        try {
+            return cache.computeIfAbsent(cacheHelper.getKey(), key -> {
+                final StarTree starTree = StarTreeReader.readStarTree(reader, fieldInfo);
+                breaker.addEstimateBytesAndMaybeBreak(starTree.ramBytesUsed(), "star_tree");
+                // evicts the tree of a segment once its core is closed, the listeners of a core are a set
+                cacheHelper.addClosedListener(this);
+                return starTree;
+            });
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CircuitBreakingException) {
+                logger.debug("not loading the star tree of a segment", e.getCause());
+                return null;
+            }
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw ExceptionsHelper.convertToRuntime((Exception) e.getCause());
+        }
+    }
+
+    @Override
+    public void onClose(IndexReader.CacheKey key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void onRemoval(RemovalNotification<IndexReader.CacheKey, StarTree> notification) {
+        breaker.addWithoutBreaking(-notification.getValue().ramBytesUsed());
+    }
+
+    /**
+     * Returns the number of bytes that the cached trees use.
+     */
+    public long getMemorySizeInBytes() {
+        return cache.weight();
+    }
+
+    @Override
+    public void close() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.codecs.DocValuesConsumer;
+import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.IOUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * Writes the doc values of the fields of the {@link StarTreeDocValuesFormat} with a delegate consumer, and builds the {@link StarTree}
+ * of the segment once all the fields were written.
+ * <p>
+ * The values of the dimension and metric fields are spilled to temporary files of the segment as they are written, rather than
+ * buffered in heap, since a merged segment can have billions of them. The nodes of a dimension are then built by streaming its
+ * file along with the files of the metrics, which are all in the order of the docs, so that only the nodes are held in heap.
+ */
+final class StarTreeDocValuesConsumer extends DocValuesConsumer {
+
+    private final DocValuesConsumer delegate;
+    private final SegmentWriteState state;
+    private final Set<String> dimensions;
+    private final Function<String, LongToDoubleFunction> metricDecoders;
+
+    // the values of the dimension and metric fields, sorted by name so that the tree doesn't depend on the order of the fields
+    private final Map<String, SpilledValues> dimensionValues = new TreeMap<>();
+    private final Map<String, SpilledValues> metricValues = new TreeMap<>();
+    private final Map<String, StarTree.MetricStats> starNode = new TreeMap<>();
+    private final Map<String, LongToDoubleFunction> decoders = new HashMap<>();
+    private final List<String> tempFiles = new ArrayList<>();
+
+    StarTreeDocValuesConsumer(
+        DocValuesConsumer delegate,
+        SegmentWriteState state,
+        Set<String> dimensions,
+        Function<String, LongToDoubleFunction> metricDecoders
+    ) {
+        this.delegate = delegate;
+        this.state = state;
+        this.dimensions = dimensions;
+        this.metricDecoders = metricDecoders;
+    }
+
+    @Override
+    public void addNumericField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addNumericField(field, valuesProducer);
+    }
+
+    @Override
+    public void addBinaryField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addBinaryField(field, valuesProducer);
+    }
+
+    @Override
+    public void addSortedField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addSortedField(field, valuesProducer);
+    }
+
+    @Override
+    public void addSortedNumericField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addSortedNumericField(field, valuesProducer);
+        final LongToDoubleFunction decoder = metricDecoders.apply(field.name);
+        if (decoder != null) {
+            // the star node is computed right away, the nodes of the dimensions need to join the values with the dimensions
+            final StarTree.MetricStats stats = new StarTree.MetricStats();
+            final SortedNumericDocValues docValues = valuesProducer.getSortedNumeric(field);
+            try (SpilledValues.Writer writer = spill(field, 0)) {
+                for (int doc = docValues.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = docValues.nextDoc()) {
+                    for (int i = 0, count = docValues.docValueCount(); i < count; i++) {
+                        final long value = docValues.nextValue();
+                        writer.add(doc, value);
+                        stats.add(decoder.applyAsDouble(value));
+                    }
+                }
+                metricValues.put(field.name, writer.values);
+            }
+            starNode.put(field.name, stats);
+            decoders.put(field.name, decoder);
+        }
+    }
+
+    @Override
+    public void addSortedSetField(FieldInfo field, DocValuesProducer valuesProducer) throws IOException {
+        delegate.addSortedSetField(field, valuesProducer);
+        if (dimensions.contains(field.name)) {
+            final SortedSetDocValues docValues = valuesProducer.getSortedSet(field);
+            try (SpilledValues.Writer writer = spill(field, docValues.getValueCount())) {
+                for (int doc = docValues.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = docValues.nextDoc()) {
+                    for (long ord = docValues.nextOrd(); ord != SortedSetDocValues.NO_MORE_ORDS; ord = docValues.nextOrd()) {
+                        writer.add(doc, ord);
+                    }
+                }
+                dimensionValues.put(field.name, writer.values);
+            }
+        }
+    }
+
+    private SpilledValues.Writer spill(FieldInfo field, long valueCount) throws IOException {
+        final IndexOutput out = state.directory.createTempOutput(state.segmentInfo.name, "stt_" + field.number, state.context);
+        tempFiles.add(out.getName());
+        return new SpilledValues.Writer(out, valueCount);
+    }
+
+    @Override
+    public void close() throws IOException {
+        boolean success = false;
+        try {
+            writeStarTree(buildStarTree());
+            success = true;
+        } finally {
+            if (success) {
+                IOUtils.close(() -> IOUtils.deleteFiles(state.directory, tempFiles), delegate);
+            } else {
+                IOUtils.deleteFilesIgnoringExceptions(state.directory, tempFiles);
+                IOUtils.closeWhileHandlingException(delegate);
+            }
+        }
+    }
+
+    private StarTree buildStarTree() throws IOException {
+        final Map<String, StarTree.Dimension> dimensions = new LinkedHashMap<>();
+        for (Map.Entry<String, SpilledValues> dimension : dimensionValues.entrySet()) {
+            dimensions.put(dimension.getKey(), buildDimension(dimension.getValue()));
+        }
+        return new StarTree(new LinkedHashMap<>(starNode), dimensions);
+    }
+
+    private StarTree.Dimension buildDimension(SpilledValues dimension) throws IOException {
+        final int valueCount = Math.toIntExact(dimension.valueCount);
+        final long[] docCounts = new long[valueCount];
+        final StarTree.MetricStats[][] stats = new StarTree.MetricStats[metricValues.size()][valueCount];
+        final Cursor[] metricCursors = new Cursor[metricValues.size()];
+        Cursor dimensionCursor = null;
+        try {
+            int m = 0;
+            for (Map.Entry<String, SpilledValues> metric : metricValues.entrySet()) {
+                metricCursors[m++] = new Cursor(state.directory, metric.getValue(), decoders.get(metric.getKey()));
+            }
+            dimensionCursor = new Cursor(state.directory, dimension, null);
+
+            // joins the ordinals of each doc with the values of its metrics, the docs are in the same order in all the files
+            long[] ords = new long[8];
+            double[] docMetricValues = new double[8];
+            while (dimensionCursor.doc != DocIdSetIterator.NO_MORE_DOCS) {
+                final int doc = dimensionCursor.doc;
+                int numOrds = 0;
+                while (dimensionCursor.doc == doc) {
+                    ords = ArrayUtil.grow(ords, numOrds + 1);
+                    ords[numOrds++] = dimensionCursor.value;
+                    dimensionCursor.next();
+                }
+                for (int i = 0; i < numOrds; i++) {
+                    docCounts[(int) ords[i]]++;
+                }
+                for (m = 0; m < metricCursors.length; m++) {
+                    final Cursor metricCursor = metricCursors[m];
+                    while (metricCursor.doc < doc) {
+                        metricCursor.next();
+                    }
+                    int numValues = 0;
+                    while (metricCursor.doc == doc) {
+                        docMetricValues = ArrayUtil.grow(docMetricValues, numValues + 1);
+                        docMetricValues[numValues++] = metricCursor.decoder.applyAsDouble(metricCursor.value);
+                        metricCursor.next();
+                    }
+                    for (int i = 0; i < numOrds; i++) {
+                        final int ord = (int) ords[i];
+                        if (stats[m][ord] == null) {
+                            stats[m][ord] = new StarTree.MetricStats();
+                        }
+                        for (int j = 0; j < numValues; j++) {
+                            stats[m][ord].add(docMetricValues[j]);
+                        }
+                    }
+                }
+            }
+        } finally {
+            IOUtils.close(dimensionCursor, () -> IOUtils.close(metricCursors));
+        }
+
+        // only the values that docs have get a node
+        int numNodes = 0;
+        for (long docCount : docCounts) {
+            if (docCount > 0) {
+                numNodes++;
+            }
+        }
+        final long[] nodeOrds = new long[numNodes];
+        final long[] nodeDocCounts = new long[numNodes];
+        final StarTree.MetricStats[][] nodeStats = new StarTree.MetricStats[metricCursors.length][numNodes];
+        int node = 0;
+        for (int ord = 0; ord < valueCount; ord++) {
+            if (docCounts[ord] > 0) {
+                nodeOrds[node] = ord;
+                nodeDocCounts[node] = docCounts[ord];
+                for (int m = 0; m < metricCursors.length; m++) {
+                    // a node whose docs have no value for the metric still has empty stats
+                    nodeStats[m][node] = stats[m][ord] == null ? new StarTree.MetricStats() : stats[m][ord];
+                }
+                node++;
+            }
+        }
+        final Map<String, StarTree.MetricStats[]> metrics = new LinkedHashMap<>();
+        int m = 0;
+        for (String metric : metricValues.keySet()) {
+            metrics.put(metric, nodeStats[m++]);
+        }
+        return new StarTree.Dimension(nodeOrds, nodeDocCounts, metrics);
+    }
+
+    private void writeStarTree(StarTree starTree) throws IOException {
+        final String fileName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix,
+            StarTreeDocValuesFormat.EXTENSION);
+        try (IndexOutput out = state.directory.createOutput(fileName, state.context)) {
+            CodecUtil.writeIndexHeader(out, StarTreeDocValuesFormat.CODEC_NAME, StarTreeDocValuesFormat.VERSION_CURRENT,
+                state.segmentInfo.getId(), state.segmentSuffix);
+            starTree.writeTo(out);
+            CodecUtil.writeFooter(out);
+        }
+    }
+
+    /**
+     * The values of a field, spilled to a temporary file as pairs of a doc and a value in the order of the docs.
+     */
+    private static final class SpilledValues {
+
+        private final String fileName;
+        private final long valueCount;
+        private long size;
+
+        SpilledValues(String fileName, long valueCount) {
+            this.fileName = fileName;
+            this.valueCount = valueCount;
+        }
+
+        /**
+         * Writes the pairs as the delta of the doc with the doc of the previous pair, and the zig-zag encoded value.
+         */
+        static final class Writer implements Closeable {
+
+            private final IndexOutput out;
+            private final SpilledValues values;
+            private int previousDoc;
+
+            Writer(IndexOutput out, long valueCount) {
+                this.out = out;
+                this.values = new SpilledValues(out.getName(), valueCount);
+            }
+
+            void add(int doc, long value) throws IOException {
+                out.writeVInt(doc - previousDoc);
+                out.writeZLong(value);
+                previousDoc = doc;
+                values.size++;
+            }
+
+            @Override
+            public void close() throws IOException {
+                out.close();
+            }
+        }
+    }
+
+    /**
+     * Iterates over the pairs of a doc and a value of a field.
+     */
+    private static final class Cursor implements Closeable {
+
+        private final IndexInput in;
+        private final LongToDoubleFunction decoder;
+        private long remaining;
+        private int doc;
+        private long value;
+
+        Cursor(Directory directory, SpilledValues values, LongToDoubleFunction decoder) throws IOException {
+            this.in = directory.openInput(values.fileName, IOContext.READONCE);
+            this.decoder = decoder;
+            this.remaining = values.size;
+            next();
+        }
+
+        void next() throws IOException {
+            if (remaining > 0) {
+                remaining--;
+                doc += in.readVInt();
+                value = in.readZLong();
+            } else {
+                doc = DocIdSetIterator.NO_MORE_DOCS;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.codecs.DocValuesConsumer;
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.codecs.lucene80.Lucene80DocValuesFormat;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentWriteState;
+import org.opensearch.index.IndexSettings;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongToDoubleFunction;
+
+/**
+ * A {@link DocValuesFormat} for the dimension and metric fields of the {@link IndexSettings#STAR_TREE_DIMENSIONS_SETTING} and
+ * {@link IndexSettings#STAR_TREE_METRICS_SETTING} settings. It writes the doc values of the fields with the
+ * {@link Lucene80DocValuesFormat}, and a {@link StarTree} that pre-aggregates the metrics by dimension whenever a segment is
+ * flushed or merged.
+ * <p>
+ * The dimensions must be sorted set fields, like keyword fields, and the metrics must be sorted numeric fields. The
+ * {@link #StarTreeDocValuesFormat() no-arg constructor} is the one that reads the segments, it can't write them.
+ */
+public final class StarTreeDocValuesFormat extends DocValuesFormat {
+
+    public static final String NAME = "StarTree";
+
+    static final String EXTENSION = "stt";
+    static final String CODEC_NAME = "StarTree";
+    static final int VERSION_START = 0;
+    static final int VERSION_CURRENT = VERSION_START;
+
+    private final DocValuesFormat delegate;
+    private final Set<String> dimensions;
+    private final Function<String, LongToDoubleFunction> metricDecoders;
+
+    /**
+     * Creates a format that can only read segments, which is the one that is loaded by name.
+     */
+    public StarTreeDocValuesFormat() {
+        this(new Lucene80DocValuesFormat(), Collections.emptySet(), field -> null);
+    }
+
+    /**
+     * Creates a format that writes the doc values with the given format, and pre-aggregates the metrics by the given dimensions.
+     *
+     * @param metricDecoders returns the function that converts the doc values of a metric field to the values to aggregate, or null
+     *                       if the field is not a metric
+     */
+    public StarTreeDocValuesFormat(
+        DocValuesFormat delegate,
+        Set<String> dimensions,
+        Function<String, LongToDoubleFunction> metricDecoders
+    ) {
+        super(NAME);
+        this.delegate = delegate;
+        this.dimensions = dimensions;
+        this.metricDecoders = metricDecoders;
+    }
+
+    @Override
+    public DocValuesConsumer fieldsConsumer(SegmentWriteState state) throws IOException {
+        return new StarTreeDocValuesConsumer(delegate.fieldsConsumer(state), state, dimensions, metricDecoders);
+    }
+
+    @Override
+    public DocValuesProducer fieldsProducer(SegmentReadState state) throws IOException {
+        // the star tree isn't read with the doc values, see StarTreeReader
+        return delegate.fieldsProducer(state);
+    }
+}
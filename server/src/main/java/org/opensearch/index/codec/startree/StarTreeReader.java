@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.codecs.perfield.PerFieldDocValuesFormat;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.store.ChecksumIndexInput;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+
+import java.io.IOException;
+
+/**
+ * Reads the {@link StarTree} of a segment from the file that the {@link StarTreeDocValuesFormat} wrote next to its doc values,
+ * see {@link StarTreeCache}. The doc values of the segment are read with the delegate format of the star tree format, which
+ * doesn't know about the tree.
+ */
+final class StarTreeReader {
+
+    private StarTreeReader() {}
+
+    /**
+     * Reads the star tree of the given segment, which wrote the given field with the {@link StarTreeDocValuesFormat}.
+     */
+    static StarTree readStarTree(SegmentReader reader, FieldInfo fieldInfo) throws IOException {
+        final SegmentInfo segmentInfo = reader.getSegmentInfo().info;
+        // all the fields of a per field format share the suffix of the files of the format, and there is no doc values generation
+        // to prepend to it since the field was not updated
+        final String segmentSuffix = StarTreeDocValuesFormat.NAME + "_"
+            + fieldInfo.getAttribute(PerFieldDocValuesFormat.PER_FIELD_SUFFIX_KEY);
+        final String fileName = IndexFileNames.segmentFileName(segmentInfo.name, segmentSuffix, StarTreeDocValuesFormat.EXTENSION);
+        if (segmentInfo.getUseCompoundFile()) {
+            try (
+                Directory cfs = segmentInfo.getCodec().compoundFormat().getCompoundReader(reader.directory(), segmentInfo, IOContext.READ)
+            ) {
+                return readStarTree(cfs, fileName, segmentInfo, segmentSuffix);
+            }
+        }
+        return readStarTree(reader.directory(), fileName, segmentInfo, segmentSuffix);
+    }
+
+    private static StarTree readStarTree(Directory directory, String fileName, SegmentInfo segmentInfo, String segmentSuffix)
+        throws IOException {
+        try (ChecksumIndexInput in = directory.openChecksumInput(fileName, IOContext.READONCE)) {
+            Throwable priorE = null;
+            StarTree starTree = null;
+            try {
+                CodecUtil.checkIndexHeader(in, StarTreeDocValuesFormat.CODEC_NAME, StarTreeDocValuesFormat.VERSION_START,
+                    StarTreeDocValuesFormat.VERSION_CURRENT, segmentInfo.getId(), segmentSuffix);
+                starTree = StarTree.readFrom(in);
+            } catch (Throwable t) {
+                priorE = t;
+            } finally {
+                CodecUtil.checkFooter(in, priorE);
+            }
+            return starTree;
+        }
+    }
+}
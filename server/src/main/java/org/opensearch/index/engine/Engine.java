@@ -1131,6 +1131,12 @@ public abstract class Engine implements Closeable {
      */
     public abstract SafeCommitInfo getSafeCommitInfo();
 
+    /**
+     * Snapshots the segments of the most recently refreshed reader of this engine, so that they can be copied to the replicas
+     * when segment replication is enabled. The files of these segments are not deleted until the returned handle is closed.
+     */
+    public abstract SegmentInfosRef acquireLatestSegmentInfos() throws EngineException;
+
     /**
      * If the specified throwable contains a fatal error in the throwable graph, such a fatal error will be thrown. Callers should ensure
      * that there are no catch statements that would catch an error in the stack as the fatal error here should go uncaught and be handled
@@ -1848,6 +1854,37 @@ public abstract class Engine implements Closeable {
         }
     }
 
+    public static class SegmentInfosRef implements Closeable {
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final CheckedRunnable<IOException> onClose;
+        private final SegmentInfos segmentInfos;
+        private final long refreshedCheckpoint;
+
+        public SegmentInfosRef(SegmentInfos segmentInfos, long refreshedCheckpoint, CheckedRunnable<IOException> onClose) {
+            this.segmentInfos = segmentInfos;
+            this.refreshedCheckpoint = refreshedCheckpoint;
+            this.onClose = onClose;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed.compareAndSet(false, true)) {
+                onClose.run();
+            }
+        }
+
+        public SegmentInfos getSegmentInfos() {
+            return segmentInfos;
+        }
+
+        /**
+         * All the operations up to this sequence number are included in the segments.
+         */
+        public long getRefreshedCheckpoint() {
+            return refreshedCheckpoint;
+        }
+    }
+
     public void onSettingsChanged(TimeValue translogRetentionAge, ByteSizeValue translogRetentionSize, long softDeletesRetentionOps) {
 
     }
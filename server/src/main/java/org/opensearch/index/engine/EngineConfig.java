@@ -138,6 +138,14 @@ public final class EngineConfig {
     public static final Setting<Boolean> INDEX_OPTIMIZE_AUTO_GENERATED_IDS = Setting.boolSetting("index.optimize_auto_generated_id", true,
         Property.IndexScope, Property.Dynamic);
 
+    /**
+     * Configures the engine of an index to pack the uids and versions of its version map in big arrays rather than to store them as
+     * objects. This reduces the heap usage of the version map, and thus the refreshes that it triggers, when many documents are
+     * indexed with explicit ids between refreshes. The default is <code>false</code>
+     */
+    public static final Setting<Boolean> INDEX_PACKED_VERSION_MAP_SETTING = Setting.boolSetting("index.packed_version_map", false,
+        Property.IndexScope);
+
     private final TranslogConfig translogConfig;
 
     /**
@@ -359,6 +367,13 @@ public final class EngineConfig {
         return indexSettings.getValue(INDEX_OPTIMIZE_AUTO_GENERATED_IDS);
     }
 
+    /**
+     * returns true if the version map of the engine should pack its entries in big arrays
+     */
+    public boolean isPackedVersionMapEnabled() {
+        return INDEX_PACKED_VERSION_MAP_SETTING.get(indexSettings.getSettings());
+    }
+
     /**
      * Return the sort order of this index, or null if the index has no sort.
      */
@@ -37,6 +37,7 @@ import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FilterDirectoryReader;
 import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
@@ -48,6 +49,7 @@ import org.apache.lucene.index.SegmentCommitInfo;
 import org.apache.lucene.index.SegmentInfos;
 import org.apache.lucene.index.ShuffleForcedMergePolicy;
 import org.apache.lucene.index.SoftDeletesRetentionMergePolicy;
+import org.apache.lucene.index.StandardDirectoryReader;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
@@ -155,7 +157,7 @@ public class InternalEngine extends Engine {
 
     // A uid (in the form of BytesRef) to the version map
     // we use the hashed variant since we iterate over it and check removal and additions on existing keys
-    private final LiveVersionMap versionMap = new LiveVersionMap();
+    private final LiveVersionMap versionMap;
 
     private volatile SegmentInfos lastCommittedSegmentInfos;
 
@@ -221,6 +223,7 @@ public class InternalEngine extends Engine {
     InternalEngine(EngineConfig engineConfig, int maxDocs, BiFunction<Long, Long, LocalCheckpointTracker> localCheckpointTrackerSupplier) {
         super(engineConfig);
         this.maxDocs = maxDocs;
+        this.versionMap = new LiveVersionMap(engineConfig.isPackedVersionMapEnabled());
         if (engineConfig.isAutoGeneratedIDsOptimizationEnabled() == false) {
             updateAutoIdTimestamp(Long.MAX_VALUE, true);
         }
@@ -2136,6 +2139,45 @@ public class InternalEngine extends Engine {
         return combinedDeletionPolicy.getSafeCommitInfo();
     }
 
+    @Override
+    public SegmentInfosRef acquireLatestSegmentInfos() throws EngineException {
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            store.incRef();
+            boolean success = false;
+            try {
+                // the checkpoint is read before the reader is acquired, so that all the operations up to it are in its segments
+                final long refreshedCheckpoint = lastRefreshedCheckpoint();
+                final SegmentInfos segmentInfos;
+                final OpenSearchDirectoryReader reader = internalReaderManager.acquire();
+                try {
+                    segmentInfos = ((StandardDirectoryReader) FilterDirectoryReader.unwrap(reader)).getSegmentInfos().clone();
+                    // prevents the writer from deleting the files of these segments if they get merged away in the meantime
+                    indexWriter.incRefDeleter(segmentInfos);
+                } finally {
+                    internalReaderManager.release(reader);
+                }
+                final SegmentInfosRef segmentInfosRef = new SegmentInfosRef(segmentInfos, refreshedCheckpoint, () -> {
+                    try {
+                        indexWriter.decRefDeleter(segmentInfos);
+                    } catch (AlreadyClosedException ignored) {
+                        // That's ok, we'll clean up unused files the next time it's opened.
+                    } finally {
+                        store.decRef();
+                    }
+                });
+                success = true;
+                return segmentInfosRef;
+            } finally {
+                if (success == false) {
+                    store.decRef();
+                }
+            }
+        } catch (IOException e) {
+            throw new EngineException(shardId, "failed to acquire the latest segment infos", e);
+        }
+    }
+
     private boolean failOnTragicEvent(AlreadyClosedException ex) {
         final boolean engineFailed;
         // if we are already closed due to some tragic exception
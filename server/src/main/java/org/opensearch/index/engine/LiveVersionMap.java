@@ -51,15 +51,14 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
 
     private final KeyedLock<BytesRef> keyedLock = new KeyedLock<>();
 
-    private static final class VersionLookup {
+    private abstract static class VersionLookup {
 
         /** Tracks bytes used by current map, i.e. what is freed on refresh. For deletes, which are also added to tombstones,
          *  we only account for the CHM entry here, and account for BytesRef/VersionValue against the tombstones, since refresh would not
          *  clear this RAM. */
         final AtomicLong ramBytesUsed = new AtomicLong();
 
-        private static final VersionLookup EMPTY = new VersionLookup(Collections.emptyMap());
-        private final Map<BytesRef, VersionValue> map;
+        private static final VersionLookup EMPTY = new MapVersionLookup(Collections.emptyMap());
 
         // each version map has a notion of safe / unsafe which allows us to apply certain optimization in the auto-generated ID usecase
         // where we know that documents can't have any duplicates so we can skip the version map entirely. This reduces
@@ -77,43 +76,151 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         // the tombstone
         private final AtomicLong minDeleteTimestamp = new AtomicLong(Long.MAX_VALUE);
 
-        private VersionLookup(Map<BytesRef, VersionValue> map) {
+        abstract VersionValue get(BytesRef key);
+
+        /**
+         * Puts the version of the given uid, and returns by how many bytes the RAM usage of this lookup changed.
+         */
+        abstract long put(BytesRef key, IndexVersionValue value);
+
+        /**
+         * Removes the version of the given uid, and returns by how many bytes the RAM usage of this lookup changed.
+         */
+        abstract long remove(BytesRef uid);
+
+        abstract boolean isEmpty();
+
+        abstract int size();
+
+        /**
+         * Returns all the versions of this lookup.
+         */
+        abstract Map<BytesRef, VersionValue> getAll();
+
+        /**
+         * Creates an empty lookup of the same kind as this one, to replace it on refresh.
+         */
+        abstract VersionLookup newLookup();
+
+        boolean isUnsafe() {
+            return unsafe;
+        }
+
+        void markAsUnsafe() {
+            unsafe = true;
+        }
+
+        public void updateMinDeletedTimestamp(DeleteVersionValue delete) {
+            long time = delete.time;
+            minDeleteTimestamp.updateAndGet(prev -> Math.min(time, prev));
+        }
+
+    }
+
+    /**
+     * A lookup that keeps the uids and their versions as objects in a concurrent map.
+     */
+    private static final class MapVersionLookup extends VersionLookup {
+
+        private final Map<BytesRef, VersionValue> map;
+
+        private MapVersionLookup(Map<BytesRef, VersionValue> map) {
             this.map = map;
         }
 
+        @Override
         VersionValue get(BytesRef key) {
             return map.get(key);
         }
 
-        VersionValue put(BytesRef key, VersionValue value) {
-            return map.put(key, value);
+        @Override
+        long put(BytesRef key, IndexVersionValue value) {
+            long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + key.bytes.length;
+            long ramAccounting = BASE_BYTES_PER_CHM_ENTRY + value.ramBytesUsed() + uidRAMBytesUsed;
+            VersionValue previousValue = map.put(key, value);
+            ramAccounting += previousValue == null ? 0 : -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
+            return ramAccounting;
         }
 
+        @Override
+        long remove(BytesRef uid) {
+            VersionValue previousValue = map.remove(uid);
+            if (previousValue != null) {
+                long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
+                return -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
+            }
+            return 0;
+        }
+
+        @Override
         boolean isEmpty() {
             return map.isEmpty();
         }
 
+        @Override
         int size() {
             return map.size();
         }
 
-        boolean isUnsafe() {
-            return unsafe;
+        @Override
+        Map<BytesRef, VersionValue> getAll() {
+            return map;
         }
 
-        void markAsUnsafe() {
-            unsafe = true;
+        @Override
+        VersionLookup newLookup() {
+            return new MapVersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(map.size()));
         }
+    }
+
+    /**
+     * A lookup that packs the uids and their versions in the pages of big arrays, see {@link PackedIndexVersionMap}. Its RAM usage
+     * is the size of these pages.
+     */
+    private static final class PackedVersionLookup extends VersionLookup {
 
-        public VersionValue remove(BytesRef uid) {
-            return map.remove(uid);
+        private final PackedIndexVersionMap map;
+
+        private PackedVersionLookup(int expectedSize) {
+            this.map = new PackedIndexVersionMap(expectedSize);
         }
 
-        public void updateMinDeletedTimestamp(DeleteVersionValue delete) {
-            long time = delete.time;
-            minDeleteTimestamp.updateAndGet(prev -> Math.min(time, prev));
+        @Override
+        VersionValue get(BytesRef key) {
+            return map.get(key);
+        }
+
+        @Override
+        long put(BytesRef key, IndexVersionValue value) {
+            return map.put(key, value);
+        }
+
+        @Override
+        long remove(BytesRef uid) {
+            // the memory of the entry is only released with the whole lookup
+            map.remove(uid);
+            return 0;
+        }
+
+        @Override
+        boolean isEmpty() {
+            return map.size() == 0;
+        }
+
+        @Override
+        int size() {
+            return map.size();
+        }
+
+        @Override
+        Map<BytesRef, VersionValue> getAll() {
+            return map.snapshot();
         }
 
+        @Override
+        VersionLookup newLookup() {
+            return new PackedVersionLookup(map.size());
+        }
     }
 
     private static final class Maps {
@@ -136,9 +243,8 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             this.previousMapsNeededSafeAccess = previousMapsNeededSafeAccess;
         }
 
-        Maps() {
-            this(new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency()),
-                VersionLookup.EMPTY, false);
+        Maps(VersionLookup current) {
+            this(current, VersionLookup.EMPTY, false);
         }
 
         boolean isSafeAccessMode() {
@@ -156,8 +262,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          * Builds a new map for the refresh transition this should be called in beforeRefresh()
          */
         Maps buildTransitionMap() {
-            return new Maps(new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(current.size())), current,
-                shouldInheritSafeAccess());
+            return new Maps(current.newLookup(), current, shouldInheritSafeAccess());
         }
 
         /**
@@ -167,12 +272,8 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             return new Maps(current, VersionLookup.EMPTY, previousMapsNeededSafeAccess);
         }
 
-        void put(BytesRef uid, VersionValue version) {
-            long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-            long ramAccounting = BASE_BYTES_PER_CHM_ENTRY + version.ramBytesUsed() + uidRAMBytesUsed;
-            VersionValue previousValue = current.put(uid, version);
-            ramAccounting += previousValue == null ? 0 : -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
-            adjustRam(ramAccounting);
+        void put(BytesRef uid, IndexVersionValue version) {
+            adjustRam(current.put(uid, version));
         }
 
         void adjustRam(long value) {
@@ -183,12 +284,9 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         }
 
         void remove(BytesRef uid, DeleteVersionValue deleted) {
-            VersionValue previousValue = current.remove(uid);
+            long ramAccounting = current.remove(uid);
             current.updateMinDeletedTimestamp(deleted);
-            if (previousValue != null) {
-                long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-                adjustRam(-(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed));
-            }
+            adjustRam(ramAccounting);
             if (old != VersionLookup.EMPTY) {
                 // we also need to remove it from the old map here to make sure we don't read this stale value while
                 // we are in the middle of a refresh. Most of the time the old map is an empty map so we can skip it there.
@@ -204,10 +302,35 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
     // All deletes also go here, and delete "tombstones" are retained after refresh:
     private final Map<BytesRef, DeleteVersionValue> tombstones = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
 
-    private volatile Maps maps = new Maps();
+    // whether the versions are packed in big arrays instead of being stored as objects
+    private final boolean packed;
+
+    private volatile Maps maps;
     // we maintain a second map that only receives the updates that we skip on the actual map (unsafe ops)
     // this map is only maintained if assertions are enabled
-    private volatile Maps unsafeKeysMap = new Maps();
+    private volatile Maps unsafeKeysMap = new Maps(newMapVersionLookup());
+
+    LiveVersionMap() {
+        this(false);
+    }
+
+    /**
+     * @param packed whether to pack the uids and their versions in big arrays, see {@link PackedIndexVersionMap}, rather than to store
+     *               them as objects. This reduces the RAM usage and the garbage collection churn of the version map when many
+     *               documents are indexed with explicit ids between refreshes, but it makes each lookup a bit slower.
+     */
+    LiveVersionMap(boolean packed) {
+        this.packed = packed;
+        this.maps = newMaps();
+    }
+
+    private Maps newMaps() {
+        return new Maps(packed ? new PackedVersionLookup(0) : newMapVersionLookup());
+    }
+
+    private static VersionLookup newMapVersionLookup() {
+        return new MapVersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency());
+    }
 
     /**
      * Bytes consumed for each BytesRef UID:
@@ -428,7 +551,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Called when this index is closed.
      */
     synchronized void clear() {
-        maps = new Maps();
+        maps = newMaps();
         tombstones.clear();
         // NOTE: we can't zero this here, because a refresh thread could be calling InternalEngine.pruneDeletedTombstones at the same time,
         // and this will lead to an assert trip.  Presumably it's fine if our ramBytesUsedTombstones is non-zero after clear since the
@@ -467,7 +590,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Returns the current internal versions as a point in time snapshot
      */
     Map<BytesRef, VersionValue> getAllCurrent() {
-        return maps.current.map;
+        return maps.current.getAll();
     }
 
     /** Iterates over all deleted versions, including new ones (not yet exposed via reader) and old ones
@@ -0,0 +1,610 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.search.ReferenceManager;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.common.util.concurrent.ReleasableLock;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.seqno.LocalCheckpointTracker;
+import org.opensearch.index.seqno.SeqNoStats;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.index.translog.TranslogCorruptedException;
+import org.opensearch.index.translog.TranslogDeletionPolicy;
+import org.opensearch.index.translog.TranslogStats;
+import org.opensearch.search.suggest.completion.CompletionStats;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * The engine of a replica shard of an index that uses segment replication. Operations are not indexed but only added to
+ * the translog, so that they can be replayed if the replica is promoted, while the segments are copied from the primary
+ * shard and made searchable with {@link #updateSegments(SegmentInfos, long)}. The copied segments are committed whenever
+ * the primary shard commits, which allows to trim the translog up to the operations that they contain.
+ */
+public class NRTReplicationEngine extends Engine {
+
+    private volatile SegmentInfos lastCommittedSegmentInfos;
+    private final NRTReplicationReaderManager readerManager;
+    private final CompletionStatsCache completionStatsCache;
+    private final LocalCheckpointTracker localCheckpointTracker;
+    private final TranslogDeletionPolicy translogDeletionPolicy;
+    private final Translog translog;
+    private final AtomicLong maxSeqNoOfUpdatesOrDeletes;
+    private final String translogUUID;
+    // the generation of the last commit of the primary shard, the copied segments are committed when it changes
+    private volatile long lastReceivedPrimaryGen;
+    // all the operations up to this sequence number are in the copied segments
+    private volatile long lastReceivedSeqNo;
+    // deletes the files of the copied segments once neither the last commit nor a reader nor a copy references them
+    private final ReplicaFileTracker fileTracker;
+
+    public NRTReplicationEngine(EngineConfig engineConfig) {
+        super(engineConfig);
+        store.incRef();
+        NRTReplicationReaderManager readerManager = null;
+        Translog translog = null;
+        boolean success = false;
+        try {
+            lastCommittedSegmentInfos = store.readLastCommittedSegmentsInfo();
+            fileTracker = new ReplicaFileTracker(store::deleteQuiet);
+            fileTracker.incRef(lastCommittedSegmentInfos.files(true));
+            final Map<String, String> userData = lastCommittedSegmentInfos.getUserData();
+            final SequenceNumbers.CommitInfo commitInfo = SequenceNumbers.loadSeqNoInfoFromLuceneCommit(userData.entrySet());
+            localCheckpointTracker = new LocalCheckpointTracker(commitInfo.maxSeqNo, commitInfo.localCheckpoint);
+            lastReceivedPrimaryGen = lastCommittedSegmentInfos.getGeneration();
+            lastReceivedSeqNo = commitInfo.localCheckpoint;
+
+            translogUUID = Objects.requireNonNull(userData.get(Translog.TRANSLOG_UUID_KEY));
+            translogDeletionPolicy = new TranslogDeletionPolicy(
+                engineConfig.getIndexSettings().getTranslogRetentionSize().getBytes(),
+                engineConfig.getIndexSettings().getTranslogRetentionAge().getMillis(),
+                engineConfig.getIndexSettings().getTranslogRetentionTotalFiles()
+            );
+            translogDeletionPolicy.setLocalCheckpointOfSafeCommit(
+                Math.min(commitInfo.localCheckpoint, engineConfig.getGlobalCheckpointSupplier().getAsLong()));
+            translog = new Translog(engineConfig.getTranslogConfig(), translogUUID, translogDeletionPolicy,
+                engineConfig.getGlobalCheckpointSupplier(), engineConfig.getPrimaryTermSupplier(),
+                localCheckpointTracker::markSeqNoAsPersisted);
+            this.translog = translog;
+            maxSeqNoOfUpdatesOrDeletes = new AtomicLong(
+                SequenceNumbers.max(localCheckpointTracker.getMaxSeqNo(), translog.getMaxSeqNo()));
+
+            readerManager = new NRTReplicationReaderManager(store.directory(), shardId,
+                engineConfig.getIndexSettings().isSoftDeleteEnabled(), lastCommittedSegmentInfos.clone(), fileTracker,
+                new RamAccountingRefreshListener(engineConfig.getCircuitBreakerService()));
+            this.readerManager = readerManager;
+            for (ReferenceManager.RefreshListener listener : engineConfig.getExternalRefreshListener()) {
+                readerManager.addListener(listener);
+            }
+            for (ReferenceManager.RefreshListener listener : engineConfig.getInternalRefreshListener()) {
+                readerManager.addListener(listener);
+            }
+            completionStatsCache = new CompletionStatsCache(() -> acquireSearcher("completion_stats"));
+            readerManager.addListener(completionStatsCache);
+            success = true;
+        } catch (IOException | TranslogCorruptedException e) {
+            throw new EngineCreationFailureException(shardId, "failed to create engine", e);
+        } finally {
+            if (success == false) {
+                IOUtils.closeWhileHandlingException(readerManager, translog);
+                if (isClosed.get() == false) {
+                    // failure we need to dec the store reference
+                    store.decRef();
+                }
+            }
+        }
+        logger.trace("created new NRTReplicationEngine");
+    }
+
+    /**
+     * Makes the given segments, which were copied from the primary shard, searchable. All the operations up to the given
+     * sequence number must be in these segments. The segments are committed if the primary shard committed since the
+     * previous segments were received.
+     */
+    public void updateSegments(final SegmentInfos infos, long seqNo) throws IOException {
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            synchronized (this) {
+                final long incomingGeneration = infos.getGeneration();
+                final SegmentInfos previousInfos = readerManager.getSegmentInfos();
+                readerManager.updateSegments(infos);
+                try {
+                    readerManager.maybeRefreshBlocking();
+                } catch (Exception e) {
+                    // the latest segments are the ones of the current reader, whose files are referenced
+                    readerManager.updateSegments(previousInfos);
+                    throw e;
+                }
+                lastReceivedSeqNo = Math.max(lastReceivedSeqNo, seqNo);
+                if (incomingGeneration != lastReceivedPrimaryGen) {
+                    commitSegmentInfos();
+                    lastReceivedPrimaryGen = incomingGeneration;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the segments that were copied last from the primary shard.
+     */
+    public SegmentInfos getLatestSegmentInfos() {
+        return readerManager.getSegmentInfos();
+    }
+
+    /**
+     * Commits the segments that are currently searchable, with the user data of the commit of the primary shard except
+     * the translog UUID, which is specific to every copy, and the sequence numbers of the operations in these segments.
+     * The files of the previous commit are deleted once no reader and no copy references them anymore.
+     */
+    private synchronized void commitSegmentInfos() throws IOException {
+        final SegmentInfos infos = readerManager.getSegmentInfos().clone();
+        final long localCheckpoint = lastReceivedSeqNo;
+        final Map<String, String> userData = new HashMap<>(infos.getUserData());
+        userData.put(Translog.TRANSLOG_UUID_KEY, translogUUID);
+        userData.put(SequenceNumbers.LOCAL_CHECKPOINT_KEY, Long.toString(localCheckpoint));
+        userData.put(SequenceNumbers.MAX_SEQ_NO, Long.toString(Math.max(localCheckpoint, localCheckpointTracker.getMaxSeqNo())));
+        infos.setUserData(userData, false);
+        final long lastCommittedGeneration = lastCommittedSegmentInfos.getGeneration();
+        if (infos.getGeneration() <= lastCommittedGeneration) {
+            // the primary shard commits independently of this copy, so the generations may collide
+            infos.setNextWriteGeneration(lastCommittedGeneration + 1);
+        }
+        store.commitSegmentInfos(infos);
+        fileTracker.incRef(infos.files(true));
+        final SegmentInfos previousCommit = lastCommittedSegmentInfos;
+        lastCommittedSegmentInfos = infos;
+        fileTracker.decRef(previousCommit.files(true));
+
+        translog.rollGeneration();
+        final long safeCheckpoint = Math.min(localCheckpoint, translog.getLastSyncedGlobalCheckpoint());
+        if (safeCheckpoint > translogDeletionPolicy.getLocalCheckpointOfSafeCommit()) {
+            translogDeletionPolicy.setLocalCheckpointOfSafeCommit(safeCheckpoint);
+        }
+        translog.trimUnreferencedReaders();
+    }
+
+    @Override
+    protected SegmentInfos getLastCommittedSegmentInfos() {
+        return lastCommittedSegmentInfos;
+    }
+
+    @Override
+    public String getHistoryUUID() {
+        return lastCommittedSegmentInfos.getUserData().get(Engine.HISTORY_UUID_KEY);
+    }
+
+    @Override
+    public long getWritingBytes() {
+        return 0;
+    }
+
+    @Override
+    public CompletionStats completionStats(String... fieldNamePatterns) {
+        return completionStatsCache.get(fieldNamePatterns);
+    }
+
+    @Override
+    public long getIndexThrottleTimeInMillis() {
+        return 0;
+    }
+
+    @Override
+    public boolean isThrottled() {
+        return false;
+    }
+
+    @Override
+    public void trimOperationsFromTranslog(long belowTerm, long aboveSeqNo) throws EngineException {
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            translog.trimOperations(belowTerm, aboveSeqNo);
+        } catch (Exception e) {
+            maybeFailEngine("translog operations trimming", e);
+            throw new EngineException(shardId, "failed to trim translog operations", e);
+        }
+    }
+
+    @Override
+    public IndexResult index(Index index) throws IOException {
+        assert index.origin().isFromTranslog() || index.origin() == Operation.Origin.REPLICA
+            || index.origin() == Operation.Origin.PEER_RECOVERY : "unexpected origin " + index.origin();
+        final IndexResult indexResult = new IndexResult(index.version(), index.primaryTerm(), index.seqNo(), false);
+        return addOperation(index, indexResult, () -> new Translog.Index(index, indexResult));
+    }
+
+    @Override
+    public DeleteResult delete(Delete delete) throws IOException {
+        final DeleteResult deleteResult = new DeleteResult(delete.version(), delete.primaryTerm(), delete.seqNo(), true);
+        return addOperation(delete, deleteResult, () -> new Translog.Delete(delete, deleteResult));
+    }
+
+    @Override
+    public NoOpResult noOp(NoOp noOp) throws IOException {
+        final NoOpResult noOpResult = new NoOpResult(noOp.primaryTerm(), noOp.seqNo());
+        return addOperation(noOp, noOpResult, () -> new Translog.NoOp(noOp.seqNo(), noOp.primaryTerm(), noOp.reason()));
+    }
+
+    /**
+     * Adds the given operation to the translog, unless it is replayed from the translog, without indexing it since the
+     * segments that contain it are copied from the primary shard.
+     */
+    private <T extends Result> T addOperation(Operation operation, T result,
+                                              Supplier<Translog.Operation> translogOperation) throws IOException {
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            final long seqNo = operation.seqNo();
+            assert seqNo != SequenceNumbers.UNASSIGNED_SEQ_NO : "operation is not assigned seq_no";
+            if (operation.origin().isFromTranslog() == false) {
+                result.setTranslogLocation(translog.add(translogOperation.get()));
+            }
+            localCheckpointTracker.markSeqNoAsProcessed(seqNo);
+            if (result.getTranslogLocation() == null) {
+                // the operation is already in the translog
+                localCheckpointTracker.markSeqNoAsPersisted(seqNo);
+            }
+            result.setTook(System.nanoTime() - operation.startTime());
+            result.freeze();
+            return result;
+        }
+    }
+
+    @Override
+    public SyncedFlushResult syncFlush(String syncId, CommitId expectedCommitId) throws EngineException {
+        // the commits of a replica that copies segments differ from the ones of its primary shard
+        return SyncedFlushResult.COMMIT_MISMATCH;
+    }
+
+    @Override
+    public GetResult get(Get get, BiFunction<String, SearcherScope, Searcher> searcherFactory) throws EngineException {
+        return getFromSearcher(get, searcherFactory, SearcherScope.EXTERNAL);
+    }
+
+    @Override
+    protected ReferenceManager<OpenSearchDirectoryReader> getReferenceManager(SearcherScope scope) {
+        return readerManager;
+    }
+
+    @Override
+    public boolean isTranslogSyncNeeded() {
+        return translog.syncNeeded();
+    }
+
+    @Override
+    public boolean ensureTranslogSynced(Stream<Translog.Location> locations) throws IOException {
+        return translog.ensureSynced(locations);
+    }
+
+    @Override
+    public void syncTranslog() throws IOException {
+        translog.sync();
+    }
+
+    @Override
+    public Closeable acquireHistoryRetentionLock(HistorySource historySource) {
+        return translog.acquireRetentionLock();
+    }
+
+    @Override
+    public Translog.Snapshot newChangesSnapshot(String source, MapperService mapperService, long fromSeqNo, long toSeqNo,
+                                                boolean requiredFullRange) throws IOException {
+        return translog.newSnapshot(fromSeqNo, toSeqNo);
+    }
+
+    @Override
+    public Translog.Snapshot readHistoryOperations(String reason, HistorySource historySource,
+                                                   MapperService mapperService, long startingSeqNo) throws IOException {
+        return translog.newSnapshot(startingSeqNo, Long.MAX_VALUE);
+    }
+
+    @Override
+    public int estimateNumberOfHistoryOperations(String reason, HistorySource historySource,
+                                                 MapperService mapperService, long startingSeqNo) {
+        return translog.estimateTotalOperationsFromMinSeq(startingSeqNo);
+    }
+
+    @Override
+    public boolean hasCompleteOperationHistory(String reason, HistorySource historySource,
+                                               MapperService mapperService, long startingSeqNo) throws IOException {
+        final long currentLocalCheckpoint = localCheckpointTracker.getProcessedCheckpoint();
+        // avoid scanning translog if not necessary
+        if (startingSeqNo > currentLocalCheckpoint) {
+            return true;
+        }
+        final LocalCheckpointTracker tracker = new LocalCheckpointTracker(startingSeqNo, startingSeqNo - 1);
+        try (Translog.Snapshot snapshot = translog.newSnapshot(startingSeqNo, Long.MAX_VALUE)) {
+            Translog.Operation operation;
+            while ((operation = snapshot.next()) != null) {
+                if (operation.seqNo() != SequenceNumbers.UNASSIGNED_SEQ_NO) {
+                    tracker.markSeqNoAsProcessed(operation.seqNo());
+                }
+            }
+        }
+        return tracker.getProcessedCheckpoint() >= currentLocalCheckpoint;
+    }
+
+    @Override
+    public long getMinRetainedSeqNo() {
+        return localCheckpointTracker.getProcessedCheckpoint() + 1;
+    }
+
+    @Override
+    public TranslogStats getTranslogStats() {
+        return translog.stats();
+    }
+
+    @Override
+    public Translog.Location getTranslogLastWriteLocation() {
+        return translog.getLastWriteLocation();
+    }
+
+    public long getProcessedLocalCheckpoint() {
+        return localCheckpointTracker.getProcessedCheckpoint();
+    }
+
+    @Override
+    public long getPersistedLocalCheckpoint() {
+        return localCheckpointTracker.getPersistedCheckpoint();
+    }
+
+    @Override
+    public SeqNoStats getSeqNoStats(long globalCheckpoint) {
+        return localCheckpointTracker.getStats(globalCheckpoint);
+    }
+
+    @Override
+    public long getLastSyncedGlobalCheckpoint() {
+        return translog.getLastSyncedGlobalCheckpoint();
+    }
+
+    @Override
+    public long getIndexBufferRAMBytesUsed() {
+        return 0;
+    }
+
+    @Override
+    public List<Segment> segments(boolean verbose) {
+        return Arrays.asList(getSegmentInfo(readerManager.getSegmentInfos(), verbose));
+    }
+
+    @Override
+    public void refresh(String source) throws EngineException {
+        // the segments are refreshed when they are copied from the primary shard
+    }
+
+    @Override
+    public boolean maybeRefresh(String source) throws EngineException {
+        return false;
+    }
+
+    @Override
+    public void writeIndexingBuffer() throws EngineException {
+    }
+
+    @Override
+    public boolean refreshNeeded() {
+        return false;
+    }
+
+    @Override
+    public boolean shouldPeriodicallyFlush() {
+        return false;
+    }
+
+    @Override
+    public CommitId flush(boolean force, boolean waitIfOngoing) throws EngineException {
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            if (force || readerManager.getSegmentInfos().getVersion() != lastCommittedSegmentInfos.getVersion()) {
+                commitSegmentInfos();
+            }
+        } catch (AlreadyClosedException e) {
+            throw e;
+        } catch (Exception e) {
+            maybeFailEngine("flush", e);
+            throw new FlushFailedEngineException(shardId, e);
+        }
+        return new CommitId(lastCommittedSegmentInfos.getId());
+    }
+
+    @Override
+    public void trimUnreferencedTranslogFiles() throws EngineException {
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            translog.trimUnreferencedReaders();
+        } catch (Exception e) {
+            maybeFailEngine("translog trimming", e);
+            throw new EngineException(shardId, "failed to trim translog", e);
+        }
+    }
+
+    @Override
+    public boolean shouldRollTranslogGeneration() {
+        return translog.shouldRollGeneration();
+    }
+
+    @Override
+    public void rollTranslogGeneration() throws EngineException {
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            translog.rollGeneration();
+            translog.trimUnreferencedReaders();
+        } catch (Exception e) {
+            maybeFailEngine("translog rolling", e);
+            throw new EngineException(shardId, "failed to roll translog", e);
+        }
+    }
+
+    @Override
+    public void forceMerge(boolean flush, int maxNumSegments, boolean onlyExpungeDeletes,
+                           boolean upgrade, boolean upgradeOnlyAncientSegments, String forceMergeUUID) throws EngineException {
+        // the merged segments are copied from the primary shard
+    }
+
+    @Override
+    public IndexCommitRef acquireLastIndexCommit(boolean flushFirst) throws EngineException {
+        if (flushFirst) {
+            flush(false, true);
+        }
+        store.incRef();
+        boolean success = false;
+        try {
+            final IndexCommitRef commitRef;
+            synchronized (this) {
+                // the files of the commit are kept until it is released, even if the replica commits again in the meantime
+                final SegmentInfos committed = lastCommittedSegmentInfos;
+                final Collection<String> files = committed.files(true);
+                final IndexCommit indexCommit = Lucene.getIndexCommit(committed, store.directory());
+                fileTracker.incRef(files);
+                commitRef = new IndexCommitRef(indexCommit, () -> {
+                    try {
+                        fileTracker.decRef(files);
+                    } finally {
+                        store.decRef();
+                    }
+                });
+            }
+            success = true;
+            return commitRef;
+        } catch (IOException e) {
+            throw new EngineException(shardId, "failed to acquire the last commit", e);
+        } finally {
+            if (success == false) {
+                store.decRef();
+            }
+        }
+    }
+
+    @Override
+    public IndexCommitRef acquireSafeIndexCommit() throws EngineException {
+        return acquireLastIndexCommit(false);
+    }
+
+    @Override
+    public SegmentInfosRef acquireLatestSegmentInfos() throws EngineException {
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            store.incRef();
+            synchronized (this) {
+                // the segments of the current reader, which a replica being promoted serves to the other replicas
+                final SegmentInfos infos = readerManager.getSegmentInfos().clone();
+                final Collection<String> files = infos.files(false);
+                fileTracker.incRef(files);
+                return new SegmentInfosRef(infos, lastReceivedSeqNo, () -> {
+                    try {
+                        fileTracker.decRef(files);
+                    } finally {
+                        store.decRef();
+                    }
+                });
+            }
+        }
+    }
+
+    @Override
+    public SafeCommitInfo getSafeCommitInfo() {
+        return new SafeCommitInfo(
+            Long.parseLong(lastCommittedSegmentInfos.getUserData().get(SequenceNumbers.LOCAL_CHECKPOINT_KEY)),
+            lastCommittedSegmentInfos.totalMaxDoc());
+    }
+
+    @Override
+    protected void closeNoLock(String reason, CountDownLatch closedLatch) {
+        if (isClosed.compareAndSet(false, true)) {
+            try {
+                // the files that the readers release from now on belong to the next engine
+                fileTracker.close();
+                IOUtils.close(readerManager, translog);
+            } catch (Exception e) {
+                logger.warn("failed to close engine", e);
+            } finally {
+                try {
+                    store.decRef();
+                    logger.debug("engine closed [{}]", reason);
+                } finally {
+                    closedLatch.countDown();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void activateThrottling() {
+    }
+
+    @Override
+    public void deactivateThrottling() {
+    }
+
+    @Override
+    public int restoreLocalHistoryFromTranslog(TranslogRecoveryRunner translogRecoveryRunner) throws IOException {
+        return 0;
+    }
+
+    @Override
+    public int fillSeqNoGaps(long primaryTerm) throws IOException {
+        return 0;
+    }
+
+    @Override
+    public Engine recoverFromTranslog(TranslogRecoveryRunner translogRecoveryRunner, long recoverUpToSeqNo) throws IOException {
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            final long localCheckpoint = localCheckpointTracker.getProcessedCheckpoint();
+            if (localCheckpoint < recoverUpToSeqNo) {
+                try (Translog.Snapshot snapshot = translog.newSnapshot(localCheckpoint + 1, recoverUpToSeqNo)) {
+                    translogRecoveryRunner.run(this, snapshot);
+                } catch (Exception e) {
+                    throw new EngineException(shardId, "failed to recover from translog", e);
+                }
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public void skipTranslogRecovery() {
+    }
+
+    @Override
+    public void maybePruneDeletes() {
+    }
+
+    @Override
+    public void updateMaxUnsafeAutoIdTimestamp(long newTimestamp) {
+    }
+
+    @Override
+    public long getMaxSeqNoOfUpdatesOrDeletes() {
+        return maxSeqNoOfUpdatesOrDeletes.get();
+    }
+
+    @Override
+    public void advanceMaxSeqNoOfUpdatesOrDeletes(long maxSeqNoOfUpdatesOnPrimary) {
+        maxSeqNoOfUpdatesOrDeletes.updateAndGet(curr -> Math.max(curr, maxSeqNoOfUpdatesOnPrimary));
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FilterDirectoryReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.SoftDeletesDirectoryReaderWrapper;
+import org.apache.lucene.index.StandardDirectoryReader;
+import org.apache.lucene.search.ReferenceManager;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.index.shard.ShardId;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link ReferenceManager} of the readers of a replica that copies the segments of its primary with segment replication.
+ * Readers are not opened from a commit or an index writer, but from the segment infos that were copied from the primary,
+ * see {@link #updateSegments(SegmentInfos)}. The segment readers that are shared with the previous reader are reused.
+ */
+final class NRTReplicationReaderManager extends ReferenceManager<OpenSearchDirectoryReader> {
+
+    private final Directory directory;
+    private final ShardId shardId;
+    private final boolean softDeletesEnabled;
+    private final ReplicaFileTracker fileTracker;
+    private final BiConsumer<OpenSearchDirectoryReader, OpenSearchDirectoryReader> refreshListener;
+    private volatile SegmentInfos currentInfos;
+
+    NRTReplicationReaderManager(Directory directory, ShardId shardId, boolean softDeletesEnabled, SegmentInfos infos,
+                                ReplicaFileTracker fileTracker,
+                                BiConsumer<OpenSearchDirectoryReader, OpenSearchDirectoryReader> refreshListener) throws IOException {
+        this.directory = directory;
+        this.shardId = shardId;
+        this.softDeletesEnabled = softDeletesEnabled;
+        this.fileTracker = fileTracker;
+        this.refreshListener = refreshListener;
+        this.currentInfos = infos;
+        this.current = open(null);
+        refreshListener.accept(current, null);
+    }
+
+    /**
+     * Replaces the segments that the readers of this manager are opened on. The new segments are visible after the next
+     * refresh of this manager.
+     */
+    void updateSegments(SegmentInfos infos) {
+        currentInfos = infos;
+    }
+
+    /**
+     * Returns the segments of the most recent reader of this manager.
+     */
+    SegmentInfos getSegmentInfos() {
+        return currentInfos;
+    }
+
+    @Override
+    protected OpenSearchDirectoryReader refreshIfNeeded(OpenSearchDirectoryReader referenceToRefresh) throws IOException {
+        final StandardDirectoryReader previous = (StandardDirectoryReader) FilterDirectoryReader.unwrap(referenceToRefresh);
+        if (previous.getSegmentInfos().getVersion() == currentInfos.getVersion()) {
+            return null;
+        }
+        final OpenSearchDirectoryReader reader = open(previous);
+        refreshListener.accept(reader, referenceToRefresh);
+        return reader;
+    }
+
+    private OpenSearchDirectoryReader open(StandardDirectoryReader previous) throws IOException {
+        final List<LeafReader> subs = new ArrayList<>();
+        if (previous != null) {
+            for (LeafReaderContext ctx : previous.leaves()) {
+                subs.add(ctx.reader());
+            }
+        }
+        // the files of the segments are kept until the reader is closed, even if newer segments don't reference them anymore
+        final Collection<String> files = currentInfos.files(false);
+        fileTracker.incRef(files);
+        boolean success = false;
+        try {
+            DirectoryReader reader = StandardDirectoryReader.open(directory, currentInfos, subs);
+            if (softDeletesEnabled) {
+                reader = new SoftDeletesDirectoryReaderWrapper(reader, Lucene.SOFT_DELETES_FIELD);
+            }
+            final OpenSearchDirectoryReader openSearchReader = OpenSearchDirectoryReader.wrap(reader, shardId);
+            OpenSearchDirectoryReader.addReaderCloseListener(openSearchReader, key -> fileTracker.decRef(files));
+            success = true;
+            return openSearchReader;
+        } finally {
+            if (success == false) {
+                fileTracker.decRef(files);
+            }
+        }
+    }
+
+    @Override
+    protected boolean tryIncRef(OpenSearchDirectoryReader reference) {
+        return reference.tryIncRef();
+    }
+
+    @Override
+    protected int getRefCount(OpenSearchDirectoryReader reference) {
+        return reference.getRefCount();
+    }
+
+    @Override
+    protected void decRef(OpenSearchDirectoryReader reference) throws IOException {
+        reference.decRef();
+    }
+}
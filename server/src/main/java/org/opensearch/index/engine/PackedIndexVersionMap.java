@@ -0,0 +1,304 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.ByteArray;
+import org.opensearch.common.util.IntArray;
+import org.opensearch.common.util.LongArray;
+import org.opensearch.index.translog.Translog;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps the uids of documents to their {@link IndexVersionValue}s, like the maps of the {@link LiveVersionMap}, but stores the uids,
+ * versions, sequence numbers, terms and translog locations in the pages of {@link BigArrays} rather than in objects. An entry costs
+ * a few dozens of bytes in addition to its uid instead of several objects, and its memory is accounted precisely: the RAM usage
+ * of this map is the size of its arrays.
+ * <p>
+ * The entries are spread over segments, which are hash tables with open addressing and linear probing that are guarded by their
+ * own lock. The values are built when they are read, so that callers can keep them like the values of the other maps. The memory
+ * of a removed entry is not reclaimed: its slot is reused if its uid is put again, and the whole map is released when the version
+ * map doesn't need it anymore, after a refresh.
+ */
+final class PackedIndexVersionMap {
+
+    private static final int SEGMENT_BITS = 4;
+    private static final int NUM_SEGMENTS = 1 << SEGMENT_BITS;
+    private static final int MIN_SEGMENT_CAPACITY = 16;
+    // the load factor of the hash tables of the segments, which must stay low with linear probing
+    private static final float MAX_LOAD_FACTOR = 0.5f;
+
+    // the states of the entries
+    private static final byte WITH_LOCATION = 0;
+    private static final byte NO_LOCATION = 1;
+    private static final byte REMOVED = 2;
+
+    private final Segment[] segments = new Segment[NUM_SEGMENTS];
+
+    /**
+     * @param expectedSize the number of entries that this map is expected to hold, to size its segments
+     */
+    PackedIndexVersionMap(int expectedSize) {
+        final int segmentCapacity = Math.max(MIN_SEGMENT_CAPACITY, (int) (expectedSize / NUM_SEGMENTS / MAX_LOAD_FACTOR));
+        for (int i = 0; i < NUM_SEGMENTS; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
+    }
+
+    private Segment segment(int hash) {
+        return segments[hash >>> (Integer.SIZE - SEGMENT_BITS)];
+    }
+
+    /**
+     * Returns the version of the given uid, if any, as a new value that later changes of this map don't affect.
+     */
+    IndexVersionValue get(BytesRef uid) {
+        final int hash = uid.hashCode();
+        return segment(hash).get(uid, hash);
+    }
+
+    /**
+     * Puts the version of the given uid, and returns by how many bytes the RAM usage of this map changed.
+     */
+    long put(BytesRef uid, IndexVersionValue value) {
+        final int hash = uid.hashCode();
+        return segment(hash).put(uid, hash, value);
+    }
+
+    /**
+     * Removes the version of the given uid, if any.
+     */
+    void remove(BytesRef uid) {
+        final int hash = uid.hashCode();
+        segment(hash).remove(uid, hash);
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    long ramBytesUsed() {
+        long ramBytesUsed = 0;
+        for (Segment segment : segments) {
+            ramBytesUsed += segment.ramBytesUsed();
+        }
+        return ramBytesUsed;
+    }
+
+    /**
+     * Returns a copy of the entries of this map.
+     */
+    Map<BytesRef, VersionValue> snapshot() {
+        final Map<BytesRef, VersionValue> snapshot = new HashMap<>();
+        for (Segment segment : segments) {
+            segment.copyTo(snapshot);
+        }
+        return snapshot;
+    }
+
+    private static final class Segment {
+
+        private static final long SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(Segment.class);
+
+        private final BigArrays bigArrays = BigArrays.NON_RECYCLING_INSTANCE;
+        private final int initialCapacity;
+        private final BytesRef spare = new BytesRef();
+
+        // the id + 1 of the entry of each slot of the hash table, or 0 if the slot is empty
+        private IntArray slots;
+        private int mask;
+        // the number of ids that were allocated, including the removed entries
+        private int numIds;
+        private int maxIds;
+        private int size;
+        private long ramBytesUsed;
+
+        // the uids, which are stored one after another, with the offset of their start per id and the offset of their end at id + 1
+        private ByteArray uidBytes;
+        private LongArray uidOffsets;
+        private IntArray hashes;
+
+        private LongArray versions;
+        private LongArray seqNos;
+        private LongArray terms;
+        private LongArray locationGenerations;
+        private LongArray locationOffsets;
+        private IntArray locationSizes;
+        // the state of each entry: WITH_LOCATION, NO_LOCATION or REMOVED
+        private ByteArray states;
+
+        Segment(int initialCapacity) {
+            this.initialCapacity = Integer.highestOneBit(initialCapacity - 1) << 1;
+        }
+
+        synchronized IndexVersionValue get(BytesRef uid, int hash) {
+            final int id = find(uid, hash);
+            if (id == -1 || states.get(id) == REMOVED) {
+                return null;
+            }
+            return value(id);
+        }
+
+        synchronized long put(BytesRef uid, int hash, IndexVersionValue value) {
+            final long previousRamBytesUsed = ramBytesUsed;
+            if (slots == null) {
+                allocate();
+            }
+            int id = find(uid, hash);
+            if (id == -1) {
+                if (numIds >= maxIds) {
+                    rehash(slots.size() << 1);
+                }
+                id = numIds++;
+                appendUid(id, uid, hash);
+                insert(id, hash);
+                size++;
+            } else if (states.get(id) == REMOVED) {
+                size++;
+            }
+            versions.set(id, value.version);
+            seqNos.set(id, value.seqNo);
+            terms.set(id, value.term);
+            final Translog.Location location = value.getLocation();
+            if (location == null) {
+                states.set(id, NO_LOCATION);
+            } else {
+                states.set(id, WITH_LOCATION);
+                locationGenerations.set(id, location.generation);
+                locationOffsets.set(id, location.translogLocation);
+                locationSizes.set(id, location.size);
+            }
+            return ramBytesUsed - previousRamBytesUsed;
+        }
+
+        synchronized void remove(BytesRef uid, int hash) {
+            final int id = find(uid, hash);
+            if (id != -1 && states.get(id) != REMOVED) {
+                states.set(id, REMOVED);
+                size--;
+            }
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized long ramBytesUsed() {
+            return ramBytesUsed;
+        }
+
+        synchronized void copyTo(Map<BytesRef, VersionValue> snapshot) {
+            for (int id = 0; id < numIds; id++) {
+                if (states.get(id) != REMOVED) {
+                    snapshot.put(BytesRef.deepCopyOf(uid(id)), value(id));
+                }
+            }
+        }
+
+        private IndexVersionValue value(int id) {
+            final Translog.Location location = states.get(id) == NO_LOCATION
+                ? null
+                : new Translog.Location(locationGenerations.get(id), locationOffsets.get(id), locationSizes.get(id));
+            return new IndexVersionValue(location, versions.get(id), seqNos.get(id), terms.get(id));
+        }
+
+        private int find(BytesRef uid, int hash) {
+            if (slots == null) {
+                return -1;
+            }
+            for (int slot = hash & mask;; slot = (slot + 1) & mask) {
+                final int idPlusOne = slots.get(slot);
+                if (idPlusOne == 0) {
+                    return -1;
+                }
+                final int id = idPlusOne - 1;
+                if (hashes.get(id) == hash && uid.bytesEquals(uid(id))) {
+                    return id;
+                }
+            }
+        }
+
+        private void insert(int id, int hash) {
+            for (int slot = hash & mask;; slot = (slot + 1) & mask) {
+                if (slots.get(slot) == 0) {
+                    slots.set(slot, id + 1);
+                    return;
+                }
+            }
+        }
+
+        private BytesRef uid(int id) {
+            final long start = uidOffsets.get(id);
+            uidBytes.get(start, (int) (uidOffsets.get(id + 1) - start), spare);
+            return spare;
+        }
+
+        private void appendUid(int id, BytesRef uid, int hash) {
+            final long start = uidOffsets.get(id);
+            uidBytes = bigArrays.grow(uidBytes, start + uid.length);
+            uidBytes.set(start, uid.bytes, uid.offset, uid.length);
+            uidOffsets = bigArrays.grow(uidOffsets, id + 2);
+            uidOffsets.set(id + 1, start + uid.length);
+            hashes = bigArrays.grow(hashes, id + 1);
+            hashes.set(id, hash);
+            // growing is a no-op for the arrays that are large enough already
+            versions = bigArrays.grow(versions, id + 1);
+            seqNos = bigArrays.grow(seqNos, id + 1);
+            terms = bigArrays.grow(terms, id + 1);
+            locationGenerations = bigArrays.grow(locationGenerations, id + 1);
+            locationOffsets = bigArrays.grow(locationOffsets, id + 1);
+            locationSizes = bigArrays.grow(locationSizes, id + 1);
+            states = bigArrays.grow(states, id + 1);
+            updateRamBytesUsed();
+        }
+
+        private void allocate() {
+            final int capacity = initialCapacity;
+            final int ids = (int) (capacity * MAX_LOAD_FACTOR);
+            // the uids of document ids are usually around 16 bytes long
+            uidBytes = bigArrays.newByteArray(ids * 16L, false);
+            uidOffsets = bigArrays.newLongArray(ids + 1, false);
+            uidOffsets.set(0, 0);
+            hashes = bigArrays.newIntArray(ids, false);
+            versions = bigArrays.newLongArray(ids, false);
+            seqNos = bigArrays.newLongArray(ids, false);
+            terms = bigArrays.newLongArray(ids, false);
+            locationGenerations = bigArrays.newLongArray(ids, false);
+            locationOffsets = bigArrays.newLongArray(ids, false);
+            locationSizes = bigArrays.newIntArray(ids, false);
+            states = bigArrays.newByteArray(ids, false);
+            rehash(capacity);
+        }
+
+        private void rehash(int capacity) {
+            slots = bigArrays.newIntArray(capacity, true);
+            mask = capacity - 1;
+            maxIds = (int) (capacity * MAX_LOAD_FACTOR);
+            for (int id = 0; id < numIds; id++) {
+                insert(id, hashes.get(id));
+            }
+            updateRamBytesUsed();
+        }
+
+        private void updateRamBytesUsed() {
+            ramBytesUsed = SHALLOW_SIZE + slots.ramBytesUsed() + uidBytes.ramBytesUsed() + uidOffsets.ramBytesUsed()
+                + hashes.ramBytesUsed() + versions.ramBytesUsed() + seqNos.ramBytesUsed() + terms.ramBytesUsed()
+                + locationGenerations.ramBytesUsed() + locationOffsets.ramBytesUsed() + locationSizes.ramBytesUsed()
+                + states.ramBytesUsed();
+        }
+    }
+}
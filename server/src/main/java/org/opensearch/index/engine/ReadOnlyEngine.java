@@ -433,6 +433,13 @@ public class ReadOnlyEngine extends Engine {
         return safeCommitInfo;
     }
 
+    @Override
+    public SegmentInfosRef acquireLatestSegmentInfos() {
+        // the segments of the commit this engine was opened on, whose files are not deleted while it is open
+        store.incRef();
+        return new SegmentInfosRef(lastCommittedSegmentInfos.clone(), seqNoStats.getLocalCheckpoint(), store::decRef);
+    }
+
     @Override
     public void activateThrottling() {
     }
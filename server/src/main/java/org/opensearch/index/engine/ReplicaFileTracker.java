@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Counts the references to the files of a replica that copies the segments of its primary with segment replication. Its last
+ * commit, the readers that are open on the copied segments and the segments that are acquired to be copied all reference
+ * their files, which are deleted once they are not referenced anymore, so that a file is never deleted while it is in use.
+ */
+final class ReplicaFileTracker {
+
+    private final Map<String, Integer> refCounts = new HashMap<>();
+    private final Consumer<String> fileDeleter;
+    private boolean closed;
+
+    ReplicaFileTracker(Consumer<String> fileDeleter) {
+        this.fileDeleter = fileDeleter;
+    }
+
+    synchronized void incRef(Collection<String> files) {
+        for (String file : files) {
+            refCounts.merge(file, 1, Integer::sum);
+        }
+    }
+
+    synchronized void decRef(Collection<String> files) {
+        for (String file : files) {
+            final Integer refCount = refCounts.get(file);
+            assert refCount != null && refCount > 0 : "file [" + file + "] is not referenced";
+            if (refCount == 1) {
+                refCounts.remove(file);
+                if (closed == false) {
+                    fileDeleter.accept(file);
+                }
+            } else {
+                refCounts.put(file, refCount - 1);
+            }
+        }
+    }
+
+    synchronized int refCount(String file) {
+        return refCounts.getOrDefault(file, 0);
+    }
+
+    /**
+     * Stops deleting the files that are not referenced anymore, which belong to the next engine that is opened on the store
+     * once this one is closed.
+     */
+    synchronized void close() {
+        closed = true;
+    }
+}
@@ -36,6 +36,8 @@ import org.apache.lucene.util.Accountable;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.index.AbstractIndexComponent;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.mapper.MappedFieldType;
@@ -49,9 +51,14 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
 public class IndexFieldDataService extends AbstractIndexComponent implements Closeable {
@@ -84,11 +91,21 @@ public class IndexFieldDataService extends AbstractIndexComponent implements Clo
         }
     };
     private volatile IndexFieldDataCache.Listener listener = DEFAULT_NOOP_LISTENER;
+    // the fields that global ordinals were built for, which the warmer can keep up to date on refresh, with the relative time in
+    // nanos at which searches last used them
+    private final ConcurrentMap<String, Long> globalOrdinalsFields = ConcurrentCollections.newConcurrentMap();
+    private final LongSupplier relativeNanos;
 
 
     public IndexFieldDataService(IndexSettings indexSettings, IndicesFieldDataCache indicesFieldDataCache,
                                  CircuitBreakerService circuitBreakerService, MapperService mapperService) {
+        this(indexSettings, indicesFieldDataCache, circuitBreakerService, mapperService, System::nanoTime);
+    }
+
+    IndexFieldDataService(IndexSettings indexSettings, IndicesFieldDataCache indicesFieldDataCache,
+                          CircuitBreakerService circuitBreakerService, MapperService mapperService, LongSupplier relativeNanos) {
         super(indexSettings);
+        this.relativeNanos = relativeNanos;
         this.indicesFieldDataCache = indicesFieldDataCache;
         this.circuitBreakerService = circuitBreakerService;
         this.mapperService = mapperService;
@@ -129,6 +146,20 @@ public class IndexFieldDataService extends AbstractIndexComponent implements Clo
     public <IFD extends IndexFieldData<?>> IFD getForField(MappedFieldType fieldType,
                                                            String fullyQualifiedIndexName,
                                                            Supplier<SearchLookup> searchLookup) {
+        final IFD fieldData = getForWarming(fieldType, fullyQualifiedIndexName, searchLookup);
+        // only searches keep the global ordinals of the field warm, the warmer itself doesn't
+        globalOrdinalsFields.replace(fieldType.name(), relativeNanos.getAsLong());
+        return fieldData;
+    }
+
+    /**
+     * Returns fielddata for the provided field type like {@link #getForField}, but doesn't count as a use of the global ordinals of
+     * the field, so that warming them doesn't keep them in the {@link #getGlobalOrdinalsFields used fields}.
+     */
+    @SuppressWarnings("unchecked")
+    public <IFD extends IndexFieldData<?>> IFD getForWarming(MappedFieldType fieldType,
+                                                             String fullyQualifiedIndexName,
+                                                             Supplier<SearchLookup> searchLookup) {
         final String fieldName = fieldType.name();
         IndexFieldData.Builder builder = fieldType.fielddataBuilder(fullyQualifiedIndexName, searchLookup);
 
@@ -138,7 +169,8 @@ public class IndexFieldDataService extends AbstractIndexComponent implements Clo
             if (cache == null) {
                 String cacheType = indexSettings.getValue(INDEX_FIELDDATA_CACHE_KEY);
                 if (FIELDDATA_CACHE_VALUE_NODE.equals(cacheType)) {
-                    cache = indicesFieldDataCache.buildIndexFieldDataCache(listener, index(), fieldName);
+                    cache = indicesFieldDataCache.buildIndexFieldDataCache(new GlobalOrdinalsTrackingListener(listener), index(),
+                        fieldName);
                 } else if ("none".equals(cacheType)){
                     cache = new IndexFieldDataCache.None();
                 } else {
@@ -167,8 +199,50 @@ public class IndexFieldDataService extends AbstractIndexComponent implements Clo
         this.listener = listener;
     }
 
+    /**
+     * Returns the names of the fields that global ordinals were built and cached for, and that searches used within the given keep
+     * alive. The fields that searches didn't use for longer are forgotten until their global ordinals are built again.
+     */
+    public Set<String> getGlobalOrdinalsFields(TimeValue keepAlive) {
+        final long now = relativeNanos.getAsLong();
+        final Set<String> fields = new HashSet<>();
+        for (Map.Entry<String, Long> entry : globalOrdinalsFields.entrySet()) {
+            if (now - entry.getValue() > keepAlive.nanos()) {
+                globalOrdinalsFields.remove(entry.getKey(), entry.getValue());
+            } else {
+                fields.add(entry.getKey());
+            }
+        }
+        return Collections.unmodifiableSet(fields);
+    }
+
     @Override
     public void close() throws IOException {
         clear();
     }
+
+    /**
+     * Records the fields that global ordinals are cached for before passing the events on to the listener of the index.
+     */
+    private class GlobalOrdinalsTrackingListener implements IndexFieldDataCache.Listener {
+
+        private final IndexFieldDataCache.Listener delegate;
+
+        GlobalOrdinalsTrackingListener(IndexFieldDataCache.Listener delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onCache(ShardId shardId, String fieldName, Accountable ramUsage) {
+            if (ramUsage instanceof IndexFieldData.Global) {
+                globalOrdinalsFields.putIfAbsent(fieldName, relativeNanos.getAsLong());
+            }
+            delegate.onCache(shardId, fieldName, ramUsage);
+        }
+
+        @Override
+        public void onRemoval(ShardId shardId, String fieldName, boolean wasEvicted, long sizeInBytes) {
+            delegate.onRemoval(shardId, fieldName, wasEvicted, sizeInBytes);
+        }
+    }
 }
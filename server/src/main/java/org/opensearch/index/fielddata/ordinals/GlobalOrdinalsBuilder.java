@@ -35,12 +35,16 @@ package org.opensearch.index.fielddata.ordinals;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.OrdinalMap;
 import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.ThreadInterruptedException;
 import org.apache.lucene.util.packed.PackedInts;
+import org.opensearch.ExceptionsHelper;
 import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.index.fielddata.IndexOrdinalsFieldData;
 import org.opensearch.index.fielddata.LeafOrdinalsFieldData;
 import org.opensearch.index.fielddata.ScriptDocValues;
@@ -50,7 +54,13 @@ import org.opensearch.indices.breaker.CircuitBreakerService;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 /**
@@ -68,10 +78,10 @@ public enum GlobalOrdinalsBuilder {
         assert indexReader.leaves().size() > 1;
         long startTimeNS = System.nanoTime();
 
-        final LeafOrdinalsFieldData[] atomicFD = new LeafOrdinalsFieldData[indexReader.leaves().size()];
+        final LeafOrdinalsFieldData[] atomicFD =
+            loadSegments(indexReader, indexFieldData, OpenSearchExecutors.newDirectExecutorService());
         final SortedSetDocValues[] subs = new SortedSetDocValues[indexReader.leaves().size()];
         for (int i = 0; i < indexReader.leaves().size(); ++i) {
-            atomicFD[i] = indexFieldData.load(indexReader.leaves().get(i));
             subs[i] = atomicFD[i].getOrdinalsValues();
         }
         final OrdinalMap ordinalMap = OrdinalMap.build(null, subs, PackedInts.DEFAULT);
@@ -91,6 +101,52 @@ public enum GlobalOrdinalsBuilder {
         );
     }
 
+    /**
+     * Loads the field data of all the segments of the provided {@link IndexReader}. Only the loading of the segments is parallel,
+     * which dominates for fields whose field data is built in memory: the {@link OrdinalMap} that merges the terms of the segments
+     * is still built sequentially, and is most of the cost for fields with doc values. The segments are loaded concurrently by the
+     * calling thread and by tasks forked to the given executor. Since the field data of a segment is cached, only the segments that
+     * were added since the global ordinals were last built are actually loaded again. The calling thread loads the segments that no
+     * task picked up, so this never waits on a busy executor.
+     */
+    public static LeafOrdinalsFieldData[] loadSegments(IndexReader indexReader, IndexOrdinalsFieldData indexFieldData,
+                                                       Executor executor) {
+        final List<LeafReaderContext> leaves = indexReader.leaves();
+        final LeafOrdinalsFieldData[] atomicFD = new LeafOrdinalsFieldData[leaves.size()];
+        final AtomicInteger nextLeaf = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(leaves.size());
+        final List<RuntimeException> failures = new CopyOnWriteArrayList<>();
+        final Runnable loader = () -> {
+            int leaf;
+            while ((leaf = nextLeaf.getAndIncrement()) < leaves.size()) {
+                try {
+                    atomicFD[leaf] = indexFieldData.load(leaves.get(leaf));
+                } catch (RuntimeException e) {
+                    failures.add(e);
+                } finally {
+                    latch.countDown();
+                }
+            }
+        };
+        for (int i = 1; i < leaves.size() && nextLeaf.get() < leaves.size(); i++) {
+            try {
+                executor.execute(loader);
+            } catch (RejectedExecutionException e) {
+                // the calling thread loads the remaining segments
+                break;
+            }
+        }
+        loader.run();
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ThreadInterruptedException(e);
+        }
+        ExceptionsHelper.rethrowAndSuppress(failures);
+        return atomicFD;
+    }
+
     public static IndexOrdinalsFieldData buildEmpty(IndexReader indexReader, IndexOrdinalsFieldData indexFieldData) throws IOException {
         assert indexReader.leaves().size() > 1;
 
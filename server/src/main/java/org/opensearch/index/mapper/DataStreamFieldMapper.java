@@ -117,6 +117,17 @@ public class DataStreamFieldMapper extends MetadataFieldMapper {
         this.timestampField = timestampField;
     }
 
+    /**
+     * Returns whether the index is a backing index of a data stream, whose documents must have a timestamp field.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public TimestampField getTimestampField() {
+        return timestampField;
+    }
+
     @Override
     protected String contentType() {
         return CONTENT_TYPE;
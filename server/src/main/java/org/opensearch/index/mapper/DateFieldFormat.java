@@ -0,0 +1,120 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.mapper;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.time.DateFormatter;
+import org.opensearch.common.util.LocaleUtils;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentParser;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * The mapped format, locale and resolution of a date field, which is all that is needed to parse the values of the field in queries
+ * the same way the shards do, without the mappings of the index.
+ */
+public final class DateFieldFormat implements Writeable, ToXContentFragment {
+
+    private static final String PATTERN_FIELD = "format";
+    private static final String LOCALE_FIELD = "locale";
+    private static final String RESOLUTION_FIELD = "resolution";
+
+    private final String pattern;
+    private final Locale locale;
+    private final DateFieldMapper.Resolution resolution;
+
+    public DateFieldFormat(String pattern, Locale locale, DateFieldMapper.Resolution resolution) {
+        this.pattern = Objects.requireNonNull(pattern);
+        this.locale = Objects.requireNonNull(locale);
+        this.resolution = Objects.requireNonNull(resolution);
+    }
+
+    public DateFieldFormat(StreamInput in) throws IOException {
+        this(in.readString(), LocaleUtils.parse(in.readString()), in.readEnum(DateFieldMapper.Resolution.class));
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(pattern);
+        out.writeString(locale.toString());
+        out.writeEnum(resolution);
+    }
+
+    public static DateFieldFormat of(DateFieldMapper.DateFieldType fieldType) {
+        return new DateFieldFormat(fieldType.dateTimeFormatter().pattern(), fieldType.dateTimeFormatter().locale(),
+            fieldType.resolution());
+    }
+
+    /**
+     * Returns a field type for the given field name that parses values like the mapped field.
+     */
+    public DateFieldMapper.DateFieldType toFieldType(String name) {
+        return new DateFieldMapper.DateFieldType(name, true, false, true, DateFormatter.forPattern(pattern).withLocale(locale),
+            resolution, null, Collections.emptyMap());
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.field(PATTERN_FIELD, pattern);
+        builder.field(LOCALE_FIELD, locale.toString());
+        builder.field(RESOLUTION_FIELD, resolution.name());
+        return builder;
+    }
+
+    public static DateFieldFormat fromXContent(XContentParser parser) throws IOException {
+        String pattern = null;
+        Locale locale = null;
+        DateFieldMapper.Resolution resolution = null;
+        String currentFieldName = null;
+        XContentParser.Token token;
+        while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
+            if (token == XContentParser.Token.FIELD_NAME) {
+                currentFieldName = parser.currentName();
+            } else if (token.isValue()) {
+                if (PATTERN_FIELD.equals(currentFieldName)) {
+                    pattern = parser.text();
+                } else if (LOCALE_FIELD.equals(currentFieldName)) {
+                    locale = LocaleUtils.parse(parser.text());
+                } else if (RESOLUTION_FIELD.equals(currentFieldName)) {
+                    resolution = DateFieldMapper.Resolution.valueOf(parser.text());
+                } else {
+                    throw new IllegalArgumentException("Unexpected field [" + currentFieldName + "]");
+                }
+            } else {
+                throw new IllegalArgumentException("Unexpected token " + token);
+            }
+        }
+        return new DateFieldFormat(pattern, locale, resolution);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        DateFieldFormat that = (DateFieldFormat) o;
+        return pattern.equals(that.pattern) && locale.equals(that.locale) && resolution == that.resolution;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(pattern, locale, resolution);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + pattern + "][" + locale + "][" + resolution + "]";
+    }
+}
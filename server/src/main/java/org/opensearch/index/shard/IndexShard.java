@@ -40,6 +40,7 @@ import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.FilterDirectoryReader;
 import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.PointValues;
 import org.apache.lucene.index.SegmentInfos;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.Query;
@@ -72,6 +73,7 @@ import org.opensearch.common.CheckedConsumer;
 import org.opensearch.common.CheckedFunction;
 import org.opensearch.common.CheckedRunnable;
 import org.opensearch.common.Nullable;
+import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lease.Releasable;
@@ -101,12 +103,16 @@ import org.opensearch.index.cache.IndexCache;
 import org.opensearch.index.cache.bitset.ShardBitsetFilterCache;
 import org.opensearch.index.cache.request.ShardRequestCache;
 import org.opensearch.index.codec.CodecService;
+import org.opensearch.index.codec.CodecServiceConfig;
+import org.opensearch.index.codec.CodecServiceFactory;
+import org.opensearch.index.codec.startree.StarTreeCache;
 import org.opensearch.index.engine.CommitStats;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.Engine.GetResult;
 import org.opensearch.index.engine.EngineConfig;
 import org.opensearch.index.engine.EngineException;
 import org.opensearch.index.engine.EngineFactory;
+import org.opensearch.index.engine.NRTReplicationEngine;
 import org.opensearch.index.engine.ReadOnlyEngine;
 import org.opensearch.index.engine.RefreshFailedEngineException;
 import org.opensearch.index.engine.SafeCommitInfo;
@@ -117,9 +123,13 @@ import org.opensearch.index.fielddata.ShardFieldData;
 import org.opensearch.index.flush.FlushStats;
 import org.opensearch.index.get.GetStats;
 import org.opensearch.index.get.ShardGetService;
+import org.opensearch.index.mapper.DataStreamFieldMapper;
+import org.opensearch.index.mapper.DateFieldFormat;
+import org.opensearch.index.mapper.DateFieldMapper;
 import org.opensearch.index.mapper.DocumentMapper;
 import org.opensearch.index.mapper.DocumentMapperForType;
 import org.opensearch.index.mapper.IdFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperParsingException;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.Mapping;
@@ -147,6 +157,7 @@ import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.index.store.StoreStats;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.index.translog.TranslogConfig;
+import org.opensearch.index.translog.TranslogGroupCommitService;
 import org.opensearch.index.translog.TranslogStats;
 import org.opensearch.index.warmer.ShardIndexWarmerService;
 import org.opensearch.index.warmer.WarmerStats;
@@ -159,6 +170,8 @@ import org.opensearch.indices.recovery.PeerRecoveryTargetService;
 import org.opensearch.indices.recovery.RecoveryFailedException;
 import org.opensearch.indices.recovery.RecoveryState;
 import org.opensearch.indices.recovery.RecoveryTarget;
+import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
+import org.opensearch.indices.replication.checkpoint.SegmentReplicationCheckpointPublisher;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.repositories.Repository;
 import org.opensearch.rest.RestStatus;
@@ -194,6 +207,7 @@ import java.util.function.Function;
 import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static org.opensearch.index.seqno.RetentionLeaseActions.RETAIN_ALL;
@@ -212,6 +226,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final ShardRequestCache requestCacheStats;
     private final ShardFieldData shardFieldData;
     private final ShardBitsetFilterCache shardBitsetFilterCache;
+    private final StarTreeCache starTreeCache;
     private final Object mutex = new Object();
     private final String checkIndexOnStartup;
     private final CodecService codecService;
@@ -247,6 +262,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     }
 
     private final RetentionLeaseSyncer retentionLeaseSyncer;
+    private final SegmentReplicationCheckpointPublisher checkpointPublisher;
+    // the checkpoint of the segments that this replica copied last from its primary when the index uses segment replication
+    private volatile ReplicationCheckpoint latestReplicationCheckpoint;
 
     @Nullable
     private volatile RecoveryState recoveryState;
@@ -300,6 +318,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             final MapperService mapperService,
             final SimilarityService similarityService,
             final @Nullable EngineFactory engineFactory,
+            final @Nullable CodecServiceFactory codecServiceFactory,
             final IndexEventListener indexEventListener,
             final CheckedFunction<DirectoryReader, DirectoryReader, IOException> indexReaderWrapper,
             final ThreadPool threadPool,
@@ -309,12 +328,18 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             final List<IndexingOperationListener> listeners,
             final Runnable globalCheckpointSyncer,
             final RetentionLeaseSyncer retentionLeaseSyncer,
+            final SegmentReplicationCheckpointPublisher checkpointPublisher,
+            final @Nullable TranslogGroupCommitService translogGroupCommitService,
             final CircuitBreakerService circuitBreakerService) throws IOException {
         super(shardRouting.shardId(), indexSettings);
         assert shardRouting.initializing();
         this.shardRouting = shardRouting;
         final Settings settings = indexSettings.getSettings();
-        this.codecService = new CodecService(mapperService, logger);
+        if (codecServiceFactory == null) {
+            this.codecService = new CodecService(mapperService, logger);
+        } else {
+            this.codecService = codecServiceFactory.createCodecService(new CodecServiceConfig(indexSettings, mapperService, logger));
+        }
         this.warmer = warmer;
         this.similarityService = similarityService;
         Objects.requireNonNull(store, "Store must be provided to the index shard");
@@ -324,6 +349,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         this.indexEventListener = indexEventListener;
         this.threadPool = threadPool;
         this.translogSyncProcessor = createTranslogSyncProcessor(logger, threadPool.getThreadContext(), this::getEngine);
+        this.translogGroupCommitService = translogGroupCommitService;
+        this.translogSyncTarget = locations -> ensureTranslogSynced(logger, this::getEngine, locations);
         this.mapperService = mapperService;
         this.indexCache = indexCache;
         this.internalIndexingStats = new InternalIndexingStats();
@@ -332,6 +359,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         this.indexingOperationListeners = new IndexingOperationListener.CompositeListener(listenersList, logger);
         this.globalCheckpointSyncer = globalCheckpointSyncer;
         this.retentionLeaseSyncer = Objects.requireNonNull(retentionLeaseSyncer);
+        this.checkpointPublisher = Objects.requireNonNull(checkpointPublisher);
         final List<SearchOperationListener> searchListenersList = new ArrayList<>(searchOperationListener);
         searchListenersList.add(searchStats);
         this.searchOperationListener = new SearchOperationListener.CompositeListener(searchListenersList, logger);
@@ -343,6 +371,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         state = IndexShardState.CREATED;
         this.path = path;
         this.circuitBreakerService = circuitBreakerService;
+        this.starTreeCache = new StarTreeCache(indexSettings.getValue(IndexSettings.STAR_TREE_CACHE_SIZE_SETTING).getBytes(),
+            circuitBreakerService.getBreaker(CircuitBreaker.FIELDDATA));
         /* create engine config */
         logger.debug("state: [CREATED]");
 
@@ -379,6 +409,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                     return true;
                 }
             };
+        } else if (indexCache != null) {
+            cachingPolicy = indexCache.query().newCachingPolicy();
         } else {
             cachingPolicy = new UsageTrackingQueryCachingPolicy();
         }
@@ -414,6 +446,10 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return shardBitsetFilterCache;
     }
 
+    public StarTreeCache starTreeCache() {
+        return starTreeCache;
+    }
+
     public MapperService mapperService() {
         return mapperService;
     }
@@ -573,6 +609,11 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                                  * primary/replica re-sync completes successfully and we are now being promoted, we have to restore
                                  * the reverted operations on this shard by replaying the translog to avoid losing acknowledged writes.
                                  */
+                                if (getEngine() instanceof NRTReplicationEngine) {
+                                    // this replica copied the segments of the previous primary, it needs to index operations from
+                                    // now on, starting from the last segments that it committed and the operations of its translog
+                                    resetEngineToGlobalCheckpoint();
+                                }
                                 final Engine engine = getEngine();
                                 engine.restoreLocalHistoryFromTranslog((resettingEngine, snapshot) ->
                                     runTranslogRecovery(resettingEngine, snapshot, Engine.Operation.Origin.LOCAL_RESET, () -> {}));
@@ -1026,6 +1067,45 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return getEngine().getSeqNoStats(replicationTracker.getGlobalCheckpoint());
     }
 
+    /**
+     * Returns the range of the timestamp field of the documents in this shard, in milliseconds since the epoch, if the shard belongs to
+     * a backing index of a data stream that blocks writes, so that the range can't change. The range comes with the mapped format of
+     * the field, which queries must be parsed with to be compared with it. Returns {@link ShardLongFieldRange#UNKNOWN} otherwise, or if
+     * the range can't be read.
+     */
+    public ShardLongFieldRange getTimestampRange() {
+        if (IndexMetadata.isWriteBlocked(indexSettings.getSettings()) == false) {
+            return ShardLongFieldRange.UNKNOWN;
+        }
+        final DocumentMapper documentMapper = mapperService.documentMapper();
+        if (documentMapper == null) {
+            return ShardLongFieldRange.UNKNOWN;
+        }
+        final DataStreamFieldMapper dataStreamFieldMapper = documentMapper.metadataMapper(DataStreamFieldMapper.class);
+        if (dataStreamFieldMapper == null || dataStreamFieldMapper.isEnabled() == false) {
+            return ShardLongFieldRange.UNKNOWN;
+        }
+        final MappedFieldType fieldType = mapperService.fieldType(dataStreamFieldMapper.getTimestampField().getName());
+        if (fieldType instanceof DateFieldMapper.DateFieldType == false) {
+            return ShardLongFieldRange.UNKNOWN;
+        }
+        final DateFieldMapper.Resolution resolution = ((DateFieldMapper.DateFieldType) fieldType).resolution();
+        // the reader must not be wrapped, since a wrapper could hide documents from the range
+        try (Engine.Searcher searcher = getEngine().acquireSearcher("timestamp_range", Engine.SearcherScope.INTERNAL)) {
+            final byte[] minPackedValue = PointValues.getMinPackedValue(searcher.getIndexReader(), fieldType.name());
+            final byte[] maxPackedValue = PointValues.getMaxPackedValue(searcher.getIndexReader(), fieldType.name());
+            if (minPackedValue == null || maxPackedValue == null) {
+                return ShardLongFieldRange.EMPTY;
+            }
+            // nanosecond timestamps are rounded down to the millisecond, which they match with
+            return ShardLongFieldRange.of(resolution.parsePointAsMillis(minPackedValue), resolution.parsePointAsMillis(maxPackedValue),
+                DateFieldFormat.of((DateFieldMapper.DateFieldType) fieldType));
+        } catch (IOException | AlreadyClosedException | EngineException e) {
+            logger.debug("failed to read the timestamp range of the shard", e);
+            return ShardLongFieldRange.UNKNOWN;
+        }
+    }
+
     public IndexingStats indexingStats(String... types) {
         Engine engine = getEngineOrNull();
         final boolean throttled;
@@ -1380,7 +1460,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 } finally {
                     // playing safe here and close the engine even if the above succeeds - close can be called multiple times
                     // Also closing refreshListeners to prevent us from accumulating any more listeners
-                    IOUtils.close(engine, globalCheckpointListeners, refreshListeners, pendingReplicationActions);
+                    IOUtils.close(engine, globalCheckpointListeners, refreshListeners, pendingReplicationActions, starTreeCache);
                     indexShardOperationPermits.close();
                 }
             }
@@ -1664,7 +1744,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             assert currentEngineReference.get() == null : "engine is running";
             verifyNotClosed();
             // we must create a new engine under mutex (see IndexShard#snapshotStoreMetadata).
-            final Engine newEngine = engineFactory.newReadWriteEngine(config);
+            final Engine newEngine = newEngine(config);
             onNewEngine(newEngine);
             currentEngineReference.set(newEngine);
             // We set active because we are now writing operations to the engine; this way,
@@ -1678,6 +1758,17 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         recoveryState.validateCurrentStage(RecoveryState.Stage.TRANSLOG);
     }
 
+    /**
+     * Creates the engine of this shard. The replicas of an index that uses segment replication don't index operations but
+     * copy the segments of their primary, which requires a dedicated engine.
+     */
+    private Engine newEngine(EngineConfig config) {
+        if (indexSettings.isSegRepEnabled() && shardRouting.primary() == false) {
+            return new NRTReplicationEngine(config);
+        }
+        return engineFactory.newReadWriteEngine(config);
+    }
+
     private boolean assertSequenceNumbersInCommit() throws IOException {
         final Map<String, String> userData = SegmentInfos.readLatestCommit(store.directory()).getUserData();
         assert userData.containsKey(SequenceNumbers.LOCAL_CHECKPOINT_KEY) : "commit point doesn't contains a local checkpoint";
@@ -2803,11 +2894,19 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 indexCache != null ? indexCache.query() : null, cachingPolicy, translogConfig,
                 IndexingMemoryController.SHARD_INACTIVE_TIME_SETTING.get(indexSettings.getSettings()),
                 Arrays.asList(refreshListeners, refreshPendingLocationListener),
-                Collections.singletonList(new RefreshMetricUpdater(refreshMetric)),
+                internalRefreshListeners(),
                 indexSort, circuitBreakerService, globalCheckpointSupplier, replicationTracker::getRetentionLeases,
                 () -> getOperationPrimaryTerm(), tombstoneDocSupplier());
     }
 
+    private List<ReferenceManager.RefreshListener> internalRefreshListeners() {
+        final RefreshMetricUpdater refreshMetricUpdater = new RefreshMetricUpdater(refreshMetric);
+        if (indexSettings.isSegRepEnabled() && shardRouting.primary()) {
+            return Arrays.asList(refreshMetricUpdater, new CheckpointRefreshListener());
+        }
+        return Collections.singletonList(refreshMetricUpdater);
+    }
+
     /**
      * Acquire a primary operation permit whenever the shard is ready for indexing. If a permit is directly available, the provided
      * ActionListener will be called on the calling thread. During relocation hand-off, permit acquisition can be delayed. The provided
@@ -3113,25 +3212,34 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     }
 
     private final AsyncIOProcessor<Translog.Location> translogSyncProcessor;
+    @Nullable
+    private final TranslogGroupCommitService translogGroupCommitService;
+    private final TranslogGroupCommitService.SyncTarget translogSyncTarget;
 
     private static AsyncIOProcessor<Translog.Location> createTranslogSyncProcessor(Logger logger, ThreadContext threadContext,
                                                                                    Supplier<Engine> engineSupplier) {
         return new AsyncIOProcessor<Translog.Location>(logger, 1024, threadContext) {
             @Override
             protected void write(List<Tuple<Translog.Location, Consumer<Exception>>> candidates) throws IOException {
-                try {
-                    engineSupplier.get().ensureTranslogSynced(candidates.stream().map(Tuple::v1));
-                } catch (AlreadyClosedException ex) {
-                    // that's fine since we already synced everything on engine close - this also is conform with the methods
-                    // documentation
-                } catch (IOException ex) { // if this fails we are in deep shit - fail the request
-                    logger.debug("failed to sync translog", ex);
-                    throw ex;
-                }
+                ensureTranslogSynced(logger, engineSupplier, candidates.stream().map(Tuple::v1));
             }
         };
     }
 
+    private static boolean ensureTranslogSynced(Logger logger, Supplier<Engine> engineSupplier,
+                                                Stream<Translog.Location> locations) throws IOException {
+        try {
+            return engineSupplier.get().ensureTranslogSynced(locations);
+        } catch (AlreadyClosedException ex) {
+            // that's fine since we already synced everything on engine close - this also is conform with the methods
+            // documentation
+            return false;
+        } catch (IOException ex) { // if this fails we are in deep shit - fail the request
+            logger.debug("failed to sync translog", ex);
+            throw ex;
+        }
+    }
+
     /**
      * Syncs the given location with the underlying storage unless already synced. This method might return immediately without
      * actually fsyncing the location until the sync listener is called. Yet, unless there is already another thread fsyncing
@@ -3140,10 +3248,16 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
      * one thread blocking on the sync an all others can continue indexing.
      * NOTE: if the syncListener throws an exception when it's processed the exception will only be logged. Users should make sure that the
      * listener handles all exception cases internally.
+     * If the node uses a {@link TranslogGroupCommitService}, the location is synced together with the locations of the other shards
+     * of the same data path.
      */
     public final void sync(Translog.Location location, Consumer<Exception> syncListener) {
         verifyNotClosed();
-        translogSyncProcessor.put(location, syncListener);
+        if (translogGroupCommitService != null) {
+            translogGroupCommitService.sync(path.getRootDataPath(), translogSyncTarget, location, syncListener);
+        } else {
+            translogSyncProcessor.put(location, syncListener);
+        }
     }
 
     public void sync() throws IOException {
@@ -3411,6 +3525,24 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         }
     }
 
+    /**
+     * Publishes the checkpoint of the segments of a primary shard after every refresh that changed them, so that the replicas
+     * of an index that uses segment replication copy them.
+     */
+    private class CheckpointRefreshListener implements ReferenceManager.RefreshListener {
+
+        @Override
+        public void beforeRefresh() {
+        }
+
+        @Override
+        public void afterRefresh(boolean didRefresh) {
+            if (didRefresh && state == IndexShardState.STARTED && replicationTracker.isPrimaryMode()) {
+                checkpointPublisher.publish(IndexShard.this);
+            }
+        }
+    }
+
     private static class RefreshMetricUpdater implements ReferenceManager.RefreshListener {
 
         private final MeanMetric refreshMetric;
@@ -3516,7 +3648,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                     }
                 };
             IOUtils.close(currentEngineReference.getAndSet(readOnlyEngine));
-            newEngineReference.set(engineFactory.newReadWriteEngine(newEngineConfig(replicationTracker)));
+            newEngineReference.set(newEngine(newEngineConfig(replicationTracker)));
             onNewEngine(newEngineReference.get());
         }
         final Engine.TranslogRecoveryRunner translogRunner = (engine, snapshot) -> runTranslogRecovery(
@@ -3581,4 +3713,56 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     RetentionLeaseSyncer getRetentionLeaseSyncer() {
         return retentionLeaseSyncer;
     }
+
+    /**
+     * Acquires the latest segments of this shard, including the ones that are not committed yet: the segments that a primary
+     * shard serves to its replicas, or the ones that a replica copied last and compares with the segments of its primary.
+     * The files of the segments are not deleted until the returned reference is closed.
+     */
+    public Engine.SegmentInfosRef acquireLatestSegmentInfos() {
+        return getEngine().acquireLatestSegmentInfos();
+    }
+
+    /**
+     * Returns the checkpoint of the given segments of this primary shard.
+     */
+    public ReplicationCheckpoint getReplicationCheckpoint(Engine.SegmentInfosRef segmentInfosRef) {
+        final SegmentInfos segmentInfos = segmentInfosRef.getSegmentInfos();
+        return new ReplicationCheckpoint(shardId, getOperationPrimaryTerm(), segmentInfos.getGeneration(), segmentInfos.getVersion(),
+            segmentInfosRef.getRefreshedCheckpoint());
+    }
+
+    /**
+     * Returns the checkpoint of the latest segments of this shard: the segments that a replica copied last from its primary
+     * when the index uses segment replication, or the latest segments of a primary shard.
+     */
+    public ReplicationCheckpoint getLatestReplicationCheckpoint() throws IOException {
+        if (getEngine() instanceof NRTReplicationEngine) {
+            final ReplicationCheckpoint checkpoint = latestReplicationCheckpoint;
+            return checkpoint == null ? ReplicationCheckpoint.empty(shardId) : checkpoint;
+        }
+        try (Engine.SegmentInfosRef segmentInfosRef = acquireLatestSegmentInfos()) {
+            return getReplicationCheckpoint(segmentInfosRef);
+        }
+    }
+
+    /**
+     * Makes the given segments, which this replica copied from its primary, searchable.
+     *
+     * @param segmentInfos the copied segments, whose files must all be in the store of this shard
+     * @param checkpoint the checkpoint of the copied segments
+     */
+    public void finalizeReplication(SegmentInfos segmentInfos, ReplicationCheckpoint checkpoint) throws IOException {
+        getNRTReplicationEngine().updateSegments(segmentInfos, checkpoint.getSeqNo());
+        latestReplicationCheckpoint = checkpoint;
+    }
+
+    private NRTReplicationEngine getNRTReplicationEngine() {
+        final Engine engine = getEngine();
+        if (engine instanceof NRTReplicationEngine == false) {
+            throw new IllegalStateException("shard " + shardId + " does not copy the segments of its primary, its engine is ["
+                + engine.getClass().getSimpleName() + "]");
+        }
+        return (NRTReplicationEngine) engine;
+    }
 }
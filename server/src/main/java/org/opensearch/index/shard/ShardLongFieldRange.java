@@ -0,0 +1,121 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.index.mapper.DateFieldFormat;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * The inclusive range of the values of a long field, like the timestamp field of a data stream, in the documents of a shard. A shard
+ * reports this range to the master when it starts, see {@link org.opensearch.cluster.metadata.IndexLongFieldRange}, along with the
+ * format of the field if it is a date field, so that the values of the field in queries can be parsed like the shard does.
+ */
+public final class ShardLongFieldRange implements Writeable {
+
+    /**
+     * The range is unknown, so the shard may contain any value.
+     */
+    public static final ShardLongFieldRange UNKNOWN = new ShardLongFieldRange(Long.MIN_VALUE, Long.MAX_VALUE, null);
+
+    /**
+     * The shard contains no value.
+     */
+    public static final ShardLongFieldRange EMPTY = new ShardLongFieldRange(Long.MAX_VALUE, Long.MIN_VALUE, null);
+
+    private final long min;
+    private final long max;
+    @Nullable
+    private final DateFieldFormat format;
+
+    private ShardLongFieldRange(long min, long max, @Nullable DateFieldFormat format) {
+        this.min = min;
+        this.max = max;
+        this.format = format;
+    }
+
+    public static ShardLongFieldRange of(long min, long max) {
+        return of(min, max, null);
+    }
+
+    public static ShardLongFieldRange of(long min, long max, @Nullable DateFieldFormat format) {
+        assert min <= max : min + " > " + max;
+        return new ShardLongFieldRange(min, max, format);
+    }
+
+    public static ShardLongFieldRange readFrom(StreamInput in) throws IOException {
+        final long min = in.readZLong();
+        final long max = in.readZLong();
+        final DateFieldFormat format = in.readOptionalWriteable(DateFieldFormat::new);
+        if (min == UNKNOWN.min && max == UNKNOWN.max) {
+            return UNKNOWN;
+        } else if (min == EMPTY.min && max == EMPTY.max) {
+            return EMPTY;
+        }
+        return of(min, max, format);
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeZLong(min);
+        out.writeZLong(max);
+        out.writeOptionalWriteable(format);
+    }
+
+    /**
+     * The minimum value of the field in the shard, or {@link Long#MAX_VALUE} if the shard contains no value.
+     */
+    public long getMin() {
+        return min;
+    }
+
+    /**
+     * The maximum value of the field in the shard, or {@link Long#MIN_VALUE} if the shard contains no value.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * The format of the field if it is a date field, which the min and max are then the milliseconds since the epoch of, or null if it
+     * isn't or the shard contains no value.
+     */
+    @Nullable
+    public DateFieldFormat getFormat() {
+        return format;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ShardLongFieldRange that = (ShardLongFieldRange) o;
+        return min == that.min && max == that.max && Objects.equals(format, that.format);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(min, max, format);
+    }
+
+    @Override
+    public String toString() {
+        if (this == UNKNOWN) {
+            return "UNKNOWN";
+        } else if (this == EMPTY) {
+            return "EMPTY";
+        }
+        return "[" + min + "-" + max + "]" + (format == null ? "" : format);
+    }
+}
@@ -62,6 +62,7 @@ import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.index.snapshots.IndexShardRestoreFailedException;
 import org.opensearch.index.store.Store;
+import org.opensearch.index.store.snapshot.SnapshotDirectoryFactory;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.indices.recovery.RecoveryState;
 import org.opensearch.repositories.IndexId;
@@ -520,8 +521,16 @@ final class StoreRecovery {
                 indexIdListener.onResponse(indexId);
             }
             assert indexShard.getEngineOrNull() == null;
-            indexIdListener.whenComplete(idx -> repository.restoreShard(indexShard.store(), restoreSource.snapshot().getSnapshotId(),
-                idx, snapshotShardId, indexShard.recoveryState(), restoreListener), restoreListener::onFailure);
+            indexIdListener.whenComplete(idx -> {
+                if (SnapshotDirectoryFactory.isSnapshotStore(indexShard.indexSettings().getSettings())) {
+                    // the shard is mounted from the snapshot, its directory reads the files of the snapshot when they're accessed
+                    indexShard.recoveryState().getIndex().setFileDetailsComplete();
+                    restoreListener.onResponse(null);
+                } else {
+                    repository.restoreShard(indexShard.store(), restoreSource.snapshot().getSnapshotId(),
+                        idx, snapshotShardId, indexShard.recoveryState(), restoreListener);
+                }
+            }, restoreListener::onFailure);
         } catch (Exception e) {
             restoreListener.onFailure(e);
         }
@@ -308,6 +308,48 @@ public class Store extends AbstractIndexShardComponent implements Closeable, Ref
         }
     }
 
+    /**
+     * Returns a new MetadataSnapshot of the files of the given segments, which don't need to be committed. The snapshot
+     * doesn't include any segments file.
+     *
+     * Note that the caller must make sure that the files of these segments are not deleted concurrently.
+     *
+     * @throws CorruptIndexException      if the lucene index is corrupted. This can be caused by a checksum mismatch.
+     * @throws FileNotFoundException      if one or more files referenced by the segments are not present.
+     * @throws NoSuchFileException        if one or more files referenced by the segments are not present.
+     */
+    public MetadataSnapshot getSegmentMetadata(SegmentInfos segmentInfos) throws IOException {
+        ensureOpen();
+        failIfCorrupted();
+        metadataLock.readLock().lock();
+        try {
+            final MetadataSnapshot.LoadedMetadata loadedMetadata = MetadataSnapshot.loadMetadata(segmentInfos, directory, logger, false);
+            return new MetadataSnapshot(loadedMetadata.fileMetadata, loadedMetadata.userData, loadedMetadata.numDocs);
+        } catch (CorruptIndexException | IndexFormatTooOldException | IndexFormatTooNewException ex) {
+            markStoreCorrupted(ex);
+            throw ex;
+        } finally {
+            metadataLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Commits the given segments, which a replica copied from its primary with segment replication. Unlike a commit of an
+     * {@link IndexWriter}, this doesn't sync the files of the segments, which must have been synced when they were copied,
+     * and doesn't delete the files of the previous commit, which the replica deletes once they are not in use anymore.
+     *
+     * @param segmentInfos the segments to commit
+     */
+    public void commitSegmentInfos(SegmentInfos segmentInfos) throws IOException {
+        ensureOpen();
+        metadataLock.writeLock().lock();
+        try {
+            segmentInfos.commit(directory);
+        } finally {
+            metadataLock.writeLock().unlock();
+        }
+    }
+
     /**
      * Renames all the given files from the key of the map to the
      * value of the map. All successfully renamed files are removed from the map in-place.
@@ -854,34 +896,8 @@ public class Store extends AbstractIndexShardComponent implements Closeable, Ref
         }
 
         static LoadedMetadata loadMetadata(IndexCommit commit, Directory directory, Logger logger) throws IOException {
-            long numDocs;
-            Map<String, StoreFileMetadata> builder = new HashMap<>();
-            Map<String, String> commitUserDataBuilder = new HashMap<>();
             try {
-                final SegmentInfos segmentCommitInfos = Store.readSegmentsInfo(commit, directory);
-                numDocs = Lucene.getNumDocs(segmentCommitInfos);
-                commitUserDataBuilder.putAll(segmentCommitInfos.getUserData());
-                // we don't know which version was used to write so we take the max version.
-                Version maxVersion = segmentCommitInfos.getMinSegmentLuceneVersion();
-                for (SegmentCommitInfo info : segmentCommitInfos) {
-                    final Version version = info.info.getVersion();
-                    if (version == null) {
-                        // version is written since 3.1+: we should have already hit IndexFormatTooOld.
-                        throw new IllegalArgumentException("expected valid version value: " + info.info.toString());
-                    }
-                    if (version.onOrAfter(maxVersion)) {
-                        maxVersion = version;
-                    }
-                    for (String file : info.files()) {
-                        checksumFromLuceneFile(directory, file, builder, logger, version,
-                            SEGMENT_INFO_EXTENSION.equals(IndexFileNames.getExtension(file)));
-                    }
-                }
-                if (maxVersion == null) {
-                    maxVersion = org.opensearch.Version.CURRENT.minimumIndexCompatibilityVersion().luceneVersion;
-                }
-                final String segmentsFile = segmentCommitInfos.getSegmentsFileName();
-                checksumFromLuceneFile(directory, segmentsFile, builder, logger, maxVersion, true);
+                return loadMetadata(Store.readSegmentsInfo(commit, directory), directory, logger, true);
             } catch (CorruptIndexException | IndexNotFoundException | IndexFormatTooOldException | IndexFormatTooNewException ex) {
                 // we either know the index is corrupted or it's just not there
                 throw ex;
@@ -903,6 +919,40 @@ public class Store extends AbstractIndexShardComponent implements Closeable, Ref
                 }
                 throw ex;
             }
+        }
+
+        /**
+         * Loads the metadata of the files of the given segments, and of their segments file if <code>includeSegmentsFile</code>
+         * is <code>true</code>.
+         */
+        static LoadedMetadata loadMetadata(SegmentInfos segmentInfos, Directory directory, Logger logger,
+                                           boolean includeSegmentsFile) throws IOException {
+            final Map<String, StoreFileMetadata> builder = new HashMap<>();
+            final long numDocs = Lucene.getNumDocs(segmentInfos);
+            final Map<String, String> commitUserDataBuilder = new HashMap<>(segmentInfos.getUserData());
+            // we don't know which version was used to write so we take the max version.
+            Version maxVersion = segmentInfos.getMinSegmentLuceneVersion();
+            for (SegmentCommitInfo info : segmentInfos) {
+                final Version version = info.info.getVersion();
+                if (version == null) {
+                    // version is written since 3.1+: we should have already hit IndexFormatTooOld.
+                    throw new IllegalArgumentException("expected valid version value: " + info.info.toString());
+                }
+                if (version.onOrAfter(maxVersion)) {
+                    maxVersion = version;
+                }
+                for (String file : info.files()) {
+                    checksumFromLuceneFile(directory, file, builder, logger, version,
+                        SEGMENT_INFO_EXTENSION.equals(IndexFileNames.getExtension(file)));
+                }
+            }
+            if (includeSegmentsFile) {
+                if (maxVersion == null) {
+                    maxVersion = org.opensearch.Version.CURRENT.minimumIndexCompatibilityVersion().luceneVersion;
+                }
+                final String segmentsFile = segmentInfos.getSegmentsFileName();
+                checksumFromLuceneFile(directory, segmentsFile, builder, logger, maxVersion, true);
+            }
             return new LoadedMetadata(unmodifiableMap(builder), unmodifiableMap(commitUserDataBuilder), numDocs);
         }
 
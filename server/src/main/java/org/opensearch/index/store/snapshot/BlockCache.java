@@ -0,0 +1,268 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.snapshot;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.util.concurrent.AbstractRefCounted;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.env.NodeEnvironment;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A cache of the blocks of remote blobs on the local disk of the node, which evicts the least recently used blocks once the blocks
+ * exceed the size of the cache. Each cached block is a file in the directory of the cache, which is emptied when the node starts
+ * since the blocks of a previous run of the node are not tracked anymore.
+ * <p>
+ * The file of a cached block is kept open until the block is evicted and no read of the block is in flight anymore, so that the
+ * block is not opened again on every read. The node holds as many open files as it caches blocks, which is bounded by the size of
+ * the cache divided by the size of the blocks.
+ */
+public final class BlockCache implements Closeable {
+
+    private static final Logger logger = LogManager.getLogger(BlockCache.class);
+
+    public static final Setting<ByteSizeValue> SIZE_SETTING = Setting.byteSizeSetting(
+        "node.snapshot_cache.size",
+        new ByteSizeValue(10, ByteSizeUnit.GB),
+        Property.NodeScope
+    );
+
+    public static final Setting<ByteSizeValue> BLOCK_SIZE_SETTING = Setting.byteSizeSetting(
+        "node.snapshot_cache.block_size",
+        new ByteSizeValue(1, ByteSizeUnit.MB),
+        new ByteSizeValue(4, ByteSizeUnit.KB),
+        new ByteSizeValue(16, ByteSizeUnit.MB),
+        Property.NodeScope
+    );
+
+    static final String CACHE_FOLDER = "snapshot_cache";
+
+    /**
+     * Reads a range of bytes of a remote blob.
+     */
+    @FunctionalInterface
+    public interface BlobReader {
+        /**
+         * Writes the given number of bytes of the blob, starting at the given position, to the given stream.
+         */
+        void read(long position, int length, OutputStream out) throws IOException;
+    }
+
+    private final Path path;
+    private final int blockSize;
+    private final Cache<Key, Block> cache;
+
+    public BlockCache(Path path, long size, int blockSize) throws IOException {
+        if (size < blockSize) {
+            throw new IllegalArgumentException("the size of the cache [" + size + "] must be at least the block size [" + blockSize + "]");
+        }
+        this.path = path;
+        this.blockSize = blockSize;
+        IOUtils.rm(path);
+        Files.createDirectories(path);
+        this.cache = CacheBuilder.<Key, Block>builder()
+            .setMaximumWeight(size)
+            .weigher((key, block) -> block.length)
+            .removalListener(notification -> notification.getValue().decRef())
+            .build();
+    }
+
+    /**
+     * Creates the block cache of the node, in the first data path of the node.
+     */
+    public static BlockCache create(Settings settings, NodeEnvironment nodeEnvironment) throws IOException {
+        return new BlockCache(
+            nodeEnvironment.nodeDataPaths()[0].resolve(CACHE_FOLDER),
+            SIZE_SETTING.get(settings).getBytes(),
+            Math.toIntExact(BLOCK_SIZE_SETTING.get(settings).getBytes())
+        );
+    }
+
+    public int blockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Returns the number of cached blocks.
+     */
+    public int count() {
+        return cache.count();
+    }
+
+    /**
+     * Returns the number of bytes of the cached blocks.
+     */
+    public long weight() {
+        return cache.weight();
+    }
+
+    /**
+     * Reads the bytes of a blob that start at the given position into the given buffer, until the buffer is full or the end of the
+     * block that holds the position is reached. The block is read from the blob with the given reader if it isn't cached already.
+     *
+     * @param blob       a unique identifier of the blob
+     * @param blobLength the length of the blob
+     * @param reader     reads the bytes of the blob
+     * @param position   the position of the first byte to read in the blob
+     * @param buffer     the buffer to read the bytes into
+     * @return the number of bytes that were read
+     */
+    public int read(String blob, long blobLength, BlobReader reader, long position, ByteBuffer buffer) throws IOException {
+        if (position < 0 || position >= blobLength) {
+            throw new EOFException("read past EOF of [" + blob + "] at position [" + position + "]");
+        }
+        final Key key = new Key(blob, position / blockSize);
+        final int offset = Math.toIntExact(position % blockSize);
+        while (true) {
+            final Block block = getOrLoad(key, blobLength, reader);
+            if (block.tryIncRef() == false) {
+                // the block was evicted and closed after it was looked up, so it has to be loaded again
+                cache.invalidate(key, block);
+                continue;
+            }
+            final int length = Math.min(buffer.remaining(), block.length - offset);
+            final int limit = buffer.limit();
+            buffer.limit(buffer.position() + length);
+            try {
+                long filePosition = offset;
+                while (buffer.hasRemaining()) {
+                    final int read = block.channel.read(buffer, filePosition);
+                    if (read < 0) {
+                        throw new EOFException("unexpected end of cached block [" + key + "]");
+                    }
+                    filePosition += read;
+                }
+                return length;
+            } finally {
+                buffer.limit(limit);
+                block.decRef();
+            }
+        }
+    }
+
+    private Block getOrLoad(Key key, long blobLength, BlobReader reader) throws IOException {
+        try {
+            return cache.computeIfAbsent(key, k -> load(k, blobLength, reader));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("failed to load block [" + key + "]", e.getCause());
+        }
+    }
+
+    private Block load(Key key, long blobLength, BlobReader reader) throws IOException {
+        final long position = key.block * blockSize;
+        final int length = Math.toIntExact(Math.min(blockSize, blobLength - position));
+        final Path file = path.resolve(UUIDs.randomBase64UUID());
+        boolean success = false;
+        try {
+            try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.CREATE_NEW)) {
+                reader.read(position, length, out);
+            }
+            final long size = Files.size(file);
+            if (size != length) {
+                throw new EOFException("read [" + size + "] bytes of block [" + key + "] but expected [" + length + "]");
+            }
+            final Block block = new Block(file, FileChannel.open(file, StandardOpenOption.READ), length);
+            success = true;
+            return block;
+        } finally {
+            if (success == false) {
+                IOUtils.deleteFilesIgnoringExceptions(file);
+            }
+        }
+    }
+
+    /**
+     * Evicts all the cached blocks, whose files are closed and deleted once the reads in flight complete.
+     */
+    @Override
+    public void close() {
+        cache.invalidateAll();
+    }
+
+    private static final class Key {
+        private final String blob;
+        private final long block;
+
+        private Key(String blob, long block) {
+            this.blob = blob;
+            this.block = block;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return block == key.block && blob.equals(key.blob);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(blob, block);
+        }
+
+        @Override
+        public String toString() {
+            return blob + "[" + block + "]";
+        }
+    }
+
+    /**
+     * A cached block, whose file is closed and deleted once it is evicted and its last read completes.
+     */
+    private static final class Block extends AbstractRefCounted {
+        private final Path path;
+        private final FileChannel channel;
+        private final int length;
+
+        private Block(Path path, FileChannel channel, int length) {
+            super("cached block");
+            this.path = path;
+            this.channel = channel;
+            this.length = length;
+        }
+
+        @Override
+        protected void closeInternal() {
+            try {
+                IOUtils.close(channel, () -> Files.deleteIfExists(path));
+            } catch (IOException e) {
+                logger.warn(() -> new ParameterizedMessage("failed to delete cached block [{}]", path), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.snapshot;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FilterDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link Directory} over the files of a shard in a snapshot of a blob store repository, which reads the files lazily through the
+ * {@link BlockCache} of the node rather than restoring them first. The files that are written after the shard is mounted, like the
+ * commit that starts the new history of the shard, are written to the local directory that this directory wraps.
+ *
+ * The files of the snapshot are never modified: deleting one of them only hides it from this directory.
+ */
+public final class SnapshotDirectory extends FilterDirectory {
+
+    /**
+     * Files whose contents are stored in their metadata instead of a blob, see {@code BlobStoreRepository}.
+     */
+    private static final String VIRTUAL_DATA_BLOB_PREFIX = "v__";
+
+    private final Supplier<Tuple<BlobContainer, BlobStoreIndexShardSnapshot>> snapshotLoader;
+    private final BlockCache cache;
+    private final Set<String> deletedFiles = ConcurrentCollections.newConcurrentSet();
+    private volatile BlobContainer blobContainer;
+    private volatile Map<String, FileInfo> snapshotFiles;
+
+    /**
+     * @param in             the local directory of the shard
+     * @param snapshotLoader loads the container of the shard in the repository and the files of the shard in the snapshot, which
+     *                       is only called once the files are first accessed
+     * @param cache          the block cache of the node
+     */
+    public SnapshotDirectory(Directory in, Supplier<Tuple<BlobContainer, BlobStoreIndexShardSnapshot>> snapshotLoader, BlockCache cache) {
+        super(in);
+        this.snapshotLoader = snapshotLoader;
+        this.cache = cache;
+    }
+
+    private Map<String, FileInfo> snapshotFiles() {
+        Map<String, FileInfo> files = snapshotFiles;
+        if (files == null) {
+            synchronized (this) {
+                files = snapshotFiles;
+                if (files == null) {
+                    final Tuple<BlobContainer, BlobStoreIndexShardSnapshot> snapshot = snapshotLoader.get();
+                    files = new HashMap<>();
+                    for (FileInfo fileInfo : snapshot.v2().indexFiles()) {
+                        files.put(fileInfo.physicalName(), fileInfo);
+                    }
+                    blobContainer = snapshot.v1();
+                    snapshotFiles = files = Collections.unmodifiableMap(files);
+                }
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Returns the file of the snapshot with the given name, or {@code null} if the snapshot has no such file or it was deleted.
+     */
+    private FileInfo snapshotFile(String name) {
+        final FileInfo fileInfo = snapshotFiles().get(name);
+        return fileInfo == null || deletedFiles.contains(name) ? null : fileInfo;
+    }
+
+    @Override
+    public String[] listAll() throws IOException {
+        final Set<String> files = new TreeSet<>();
+        Collections.addAll(files, in.listAll());
+        for (String name : snapshotFiles().keySet()) {
+            if (deletedFiles.contains(name) == false) {
+                files.add(name);
+            }
+        }
+        return files.toArray(new String[0]);
+    }
+
+    @Override
+    public void deleteFile(String name) throws IOException {
+        if (snapshotFiles().containsKey(name) && deletedFiles.add(name)) {
+            return;
+        }
+        in.deleteFile(name);
+    }
+
+    @Override
+    public long fileLength(String name) throws IOException {
+        final FileInfo fileInfo = snapshotFile(name);
+        return fileInfo == null ? in.fileLength(name) : fileInfo.length();
+    }
+
+    @Override
+    public IndexOutput createOutput(String name, IOContext context) throws IOException {
+        if (snapshotFile(name) != null) {
+            throw new FileAlreadyExistsException("file [" + name + "] already exists in the snapshot");
+        }
+        return in.createOutput(name, context);
+    }
+
+    @Override
+    public void sync(Collection<String> names) throws IOException {
+        // the files of the snapshot are durable already
+        in.sync(names.stream().filter(name -> snapshotFile(name) == null).collect(Collectors.toList()));
+    }
+
+    @Override
+    public void rename(String source, String dest) throws IOException {
+        if (snapshotFile(source) != null) {
+            throw new UnsupportedOperationException("file [" + source + "] of the snapshot can't be renamed");
+        }
+        if (snapshotFile(dest) != null) {
+            throw new FileAlreadyExistsException("file [" + dest + "] already exists in the snapshot");
+        }
+        in.rename(source, dest);
+    }
+
+    @Override
+    public IndexInput openInput(String name, IOContext context) throws IOException {
+        final FileInfo fileInfo = snapshotFile(name);
+        if (fileInfo == null) {
+            return in.openInput(name, context);
+        }
+        final String resourceDescription = "SnapshotIndexInput(path=\"" + name + "\")";
+        if (fileInfo.name().startsWith(VIRTUAL_DATA_BLOB_PREFIX)) {
+            final BytesRef hash = fileInfo.metadata().hash();
+            return new ByteArrayIndexInput(resourceDescription, hash.bytes, hash.offset, hash.length);
+        }
+        return new SnapshotIndexInput(resourceDescription, fileInfo, blobContainer, cache);
+    }
+
+    @Override
+    public String toString() {
+        return "SnapshotDirectory(" + in + ")";
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.snapshot;
+
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexModule;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.shard.ShardPath;
+import org.opensearch.index.store.FsDirectoryFactory;
+import org.opensearch.plugins.IndexStorePlugin;
+import org.opensearch.repositories.IndexId;
+import org.opensearch.repositories.RepositoriesService;
+import org.opensearch.repositories.Repository;
+import org.opensearch.repositories.blobstore.BlobStoreRepository;
+import org.opensearch.snapshots.SnapshotId;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * The factory of the directories of the indices that are mounted from a snapshot of a blob store repository, with the
+ * {@code snapshot} store type. The snapshot of such an index is set in its private {@code index.store.snapshot.*} settings when it is
+ * restored with the {@code snapshot} store type.
+ */
+public final class SnapshotDirectoryFactory implements IndexStorePlugin.DirectoryFactory {
+
+    public static final String STORE_TYPE = "snapshot";
+
+    public static final Setting<String> REPOSITORY_SETTING = Setting.simpleString(
+        "index.store.snapshot.repository",
+        Property.IndexScope,
+        Property.PrivateIndex,
+        Property.Final
+    );
+
+    public static final Setting<String> SNAPSHOT_NAME_SETTING = Setting.simpleString(
+        "index.store.snapshot.snapshot_name",
+        Property.IndexScope,
+        Property.PrivateIndex,
+        Property.Final
+    );
+
+    public static final Setting<String> SNAPSHOT_UUID_SETTING = Setting.simpleString(
+        "index.store.snapshot.snapshot_uuid",
+        Property.IndexScope,
+        Property.PrivateIndex,
+        Property.Final
+    );
+
+    public static final Setting<String> INDEX_NAME_SETTING = Setting.simpleString(
+        "index.store.snapshot.index_name",
+        Property.IndexScope,
+        Property.PrivateIndex,
+        Property.Final
+    );
+
+    public static final Setting<String> INDEX_ID_SETTING = Setting.simpleString(
+        "index.store.snapshot.index_id",
+        Property.IndexScope,
+        Property.PrivateIndex,
+        Property.Final
+    );
+
+    private final Supplier<RepositoriesService> repositoriesService;
+    private final BlockCache cache;
+
+    public SnapshotDirectoryFactory(Supplier<RepositoriesService> repositoriesService, BlockCache cache) {
+        this.repositoriesService = repositoriesService;
+        this.cache = cache;
+    }
+
+    /**
+     * Returns whether the index with the given settings is mounted from a snapshot.
+     */
+    public static boolean isSnapshotStore(Settings indexSettings) {
+        return STORE_TYPE.equals(IndexModule.INDEX_STORE_TYPE_SETTING.get(indexSettings));
+    }
+
+    /**
+     * Returns the settings that mount an index from the given snapshot.
+     */
+    public static Settings mountSettings(String repository, SnapshotId snapshotId, IndexId indexId) {
+        return Settings.builder()
+            .put(REPOSITORY_SETTING.getKey(), repository)
+            .put(SNAPSHOT_NAME_SETTING.getKey(), snapshotId.getName())
+            .put(SNAPSHOT_UUID_SETTING.getKey(), snapshotId.getUUID())
+            .put(INDEX_NAME_SETTING.getKey(), indexId.getName())
+            .put(INDEX_ID_SETTING.getKey(), indexId.getId())
+            .build();
+    }
+
+    /**
+     * Returns the names of the indices that are mounted from the snapshots of the given repository, or only from the given snapshots
+     * of the repository if they are set. The repository and the snapshots must not be removed while such indices exist, since the
+     * indices read their files from the snapshots.
+     */
+    public static Set<String> mountedIndices(Metadata metadata, String repository, @Nullable Collection<SnapshotId> snapshotIds) {
+        final Set<String> indices = new TreeSet<>();
+        for (IndexMetadata indexMetadata : metadata) {
+            final Settings settings = indexMetadata.getSettings();
+            if (isSnapshotStore(settings) == false || repository.equals(REPOSITORY_SETTING.get(settings)) == false) {
+                continue;
+            }
+            final String snapshotUUID = SNAPSHOT_UUID_SETTING.get(settings);
+            if (snapshotIds == null || snapshotIds.stream().anyMatch(snapshotId -> snapshotId.getUUID().equals(snapshotUUID))) {
+                indices.add(indexMetadata.getIndex().getName());
+            }
+        }
+        return indices;
+    }
+
+    /**
+     * Returns the blob store repository with the given name, which holds the snapshots that can be mounted.
+     */
+    public static BlobStoreRepository blobStoreRepository(RepositoriesService repositoriesService, String name) {
+        final Repository repository = repositoriesService.repository(name);
+        if (repository instanceof BlobStoreRepository == false) {
+            throw new IllegalArgumentException("snapshots of repository [" + name + "] can't be mounted, it isn't a blob store repository");
+        }
+        return (BlobStoreRepository) repository;
+    }
+
+    @Override
+    public Directory newDirectory(IndexSettings indexSettings, ShardPath path) throws IOException {
+        final Settings settings = indexSettings.getSettings();
+        final String repositoryName = REPOSITORY_SETTING.get(settings);
+        final SnapshotId snapshotId = new SnapshotId(SNAPSHOT_NAME_SETTING.get(settings), SNAPSHOT_UUID_SETTING.get(settings));
+        final IndexId indexId = new IndexId(INDEX_NAME_SETTING.get(settings), INDEX_ID_SETTING.get(settings));
+        final int shardId = path.getShardId().id();
+
+        final Path location = path.resolveIndex();
+        Files.createDirectories(location);
+        final Directory local = FSDirectory.open(location, indexSettings.getValue(FsDirectoryFactory.INDEX_LOCK_FACTOR_SETTING));
+        return new SnapshotDirectory(local, () -> {
+            // the repository is resolved lazily, when the shard recovers, since it isn't available on the cluster applier thread
+            final BlobStoreRepository repository = blobStoreRepository(repositoriesService.get(), repositoryName);
+            final BlobContainer blobContainer = repository.shardContainer(indexId, shardId);
+            return Tuple.tuple(blobContainer, repository.loadShardSnapshot(blobContainer, snapshotId));
+        }, cache);
+    }
+}
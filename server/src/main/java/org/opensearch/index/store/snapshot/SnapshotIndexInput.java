@@ -0,0 +1,116 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.snapshot;
+
+import org.apache.lucene.store.BufferedIndexInput;
+import org.apache.lucene.store.IndexInput;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.core.internal.io.Streams;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link IndexInput} over a file of a snapshot, which reads the blocks of the file through the {@link BlockCache} of the node. The
+ * blocks that aren't cached are read from the parts of the file in the repository with {@link BlobContainer#readBlob(String, long, long)}.
+ */
+final class SnapshotIndexInput extends BufferedIndexInput {
+
+    private final FileInfo fileInfo;
+    private final BlobContainer blobContainer;
+    private final BlockCache cache;
+    private final String cacheKey;
+    private final long offset;
+    private final long length;
+
+    SnapshotIndexInput(String resourceDescription, FileInfo fileInfo, BlobContainer blobContainer, BlockCache cache) {
+        this(resourceDescription, fileInfo, blobContainer, cache, 0L, fileInfo.length());
+    }
+
+    private SnapshotIndexInput(
+        String resourceDescription,
+        FileInfo fileInfo,
+        BlobContainer blobContainer,
+        BlockCache cache,
+        long offset,
+        long length
+    ) {
+        super(resourceDescription, cache.blockSize());
+        this.fileInfo = fileInfo;
+        this.blobContainer = blobContainer;
+        this.cache = cache;
+        this.cacheKey = blobContainer.path().buildAsString() + fileInfo.name();
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    protected void readInternal(ByteBuffer b) throws IOException {
+        long position = getFilePointer();
+        if (position + b.remaining() > length) {
+            throw new EOFException("read past EOF: " + this);
+        }
+        while (b.hasRemaining()) {
+            position += cache.read(cacheKey, fileInfo.length(), this::readFromRepository, offset + position, b);
+        }
+    }
+
+    /**
+     * Reads a range of bytes of the file from the repository, where the range may span several parts of the file.
+     */
+    private void readFromRepository(long position, int length, OutputStream out) throws IOException {
+        final long partSize = fileInfo.partBytes(0);
+        long remaining = length;
+        while (remaining > 0) {
+            final int part = Math.toIntExact(position / partSize);
+            final long partPosition = position % partSize;
+            final long partLength = Math.min(remaining, fileInfo.partBytes(part) - partPosition);
+            try (InputStream in = blobContainer.readBlob(fileInfo.partName(part), partPosition, partLength)) {
+                final long copied = Streams.copy(in, out, false);
+                if (copied != partLength) {
+                    throw new EOFException("read [" + copied + "] bytes of [" + fileInfo.partName(part) + "] but expected [" + partLength
+                        + "]");
+                }
+            }
+            position += partLength;
+            remaining -= partLength;
+        }
+    }
+
+    @Override
+    protected void seekInternal(long pos) throws IOException {
+        if (pos > length) {
+            throw new EOFException("seek past EOF: pos=" + pos + " vs length=" + length + ": " + this);
+        }
+    }
+
+    @Override
+    public IndexInput slice(String sliceDescription, long offset, long length) throws IOException {
+        if (offset < 0 || length < 0 || offset + length > this.length) {
+            throw new IllegalArgumentException("slice() " + sliceDescription + " out of bounds: offset=" + offset + ",length="
+                + length + ",fileLength=" + this.length + ": " + this);
+        }
+        return new SnapshotIndexInput(getFullSliceDescription(sliceDescription), fileInfo, blobContainer, cache,
+            this.offset + offset, length);
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public void close() {
+        // nothing to close, the blocks are read from the cache
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.metrics.MeanMetric;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.AsyncIOProcessor;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.ThreadContext;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Coalesces the translog syncs that are requested by the shards of a node, when they use the
+ * {@link org.opensearch.index.translog.Translog.Durability#REQUEST request} durability. Instead of a sync queue per shard, the
+ * shards that are stored on the same data path share a queue: a single writer drains it and fsyncs the translog of each shard
+ * that has pending locations once, then notifies all the listeners of the batch together. The translogs of a batch are fsynced
+ * concurrently, by the writer and by up to {@link #TRANSLOG_GROUP_COMMIT_MAX_CONCURRENT_FSYNCS_SETTING} - 1 threads of the
+ * given executor, so that a batch doesn't take as long as the sum of its fsyncs. The shards of the other data paths are
+ * synced independently.
+ * <p>
+ * A failure to sync the translog of a shard only fails the listeners of that shard.
+ */
+public class TranslogGroupCommitService {
+
+    private static final Logger logger = LogManager.getLogger(TranslogGroupCommitService.class);
+
+    public static final Setting<Boolean> TRANSLOG_GROUP_COMMIT_ENABLED_SETTING =
+        Setting.boolSetting("indices.translog.group_commit.enabled", false, Property.NodeScope);
+    public static final Setting<Integer> TRANSLOG_GROUP_COMMIT_QUEUE_SIZE_SETTING =
+        Setting.intSetting("indices.translog.group_commit.queue_size", 4096, 1, Property.NodeScope);
+    public static final Setting<Integer> TRANSLOG_GROUP_COMMIT_MAX_CONCURRENT_FSYNCS_SETTING =
+        Setting.intSetting("indices.translog.group_commit.max_concurrent_fsyncs", 4, 1, Property.NodeScope);
+
+    /**
+     * The translog of a shard, as seen by this service. The same instance must be used for all the syncs of a shard, so that
+     * they are coalesced.
+     */
+    @FunctionalInterface
+    public interface SyncTarget {
+
+        /**
+         * Syncs the translog up to the last of the given locations, unless it is already synced.
+         *
+         * @return <code>true</code> if this call fsynced the translog
+         */
+        boolean ensureSynced(Stream<Translog.Location> locations) throws IOException;
+    }
+
+    private final ThreadContext threadContext;
+    private final Executor executor;
+    private final int queueSize;
+    private final int maxConcurrentFsyncs;
+    private final ConcurrentMap<Path, AsyncIOProcessor<SyncRequest>> processors = ConcurrentCollections.newConcurrentMap();
+    // the number of requests per batch, and the time per fsync
+    private final MeanMetric batchMetric = new MeanMetric();
+    private final MeanMetric fsyncMetric = new MeanMetric();
+
+    /**
+     * @param executor the executor that fsyncs the translogs of a batch besides the writer of the batch, which waits for them
+     */
+    public TranslogGroupCommitService(Settings settings, ThreadContext threadContext, Executor executor) {
+        this.threadContext = threadContext;
+        this.executor = executor;
+        this.queueSize = TRANSLOG_GROUP_COMMIT_QUEUE_SIZE_SETTING.get(settings);
+        this.maxConcurrentFsyncs = TRANSLOG_GROUP_COMMIT_MAX_CONCURRENT_FSYNCS_SETTING.get(settings);
+    }
+
+    /**
+     * Syncs the translog of a shard up to the given location, and notifies the listener once it is synced. Like
+     * {@link AsyncIOProcessor#put(Object, Consumer)}, the caller might be hijacked to sync the pending locations of all the
+     * shards of the given data path.
+     *
+     * @param dataPath the root data path of the shard
+     */
+    public void sync(Path dataPath, SyncTarget target, Translog.Location location, Consumer<Exception> listener) {
+        final SyncRequest request = new SyncRequest(target, location);
+        processors.computeIfAbsent(dataPath, path -> new AsyncIOProcessor<SyncRequest>(logger, queueSize, threadContext) {
+            @Override
+            protected void write(List<Tuple<SyncRequest, Consumer<Exception>>> candidates) {
+                syncAll(candidates);
+            }
+        }).put(request, e -> listener.accept(e == null ? request.failure : e));
+    }
+
+    private void syncAll(List<Tuple<SyncRequest, Consumer<Exception>>> candidates) {
+        final Map<SyncTarget, List<Translog.Location>> locationsPerTarget = new IdentityHashMap<>();
+        for (Tuple<SyncRequest, Consumer<Exception>> candidate : candidates) {
+            locationsPerTarget.computeIfAbsent(candidate.v1().target, target -> new ArrayList<>()).add(candidate.v1().location);
+        }
+        final List<Map.Entry<SyncTarget, List<Translog.Location>>> entries = new ArrayList<>(locationsPerTarget.entrySet());
+        final Map<SyncTarget, Exception> failures = Collections.synchronizedMap(new IdentityHashMap<>());
+        // the writer and the forked threads take the next target to sync until all of them are synced
+        final AtomicInteger nextEntry = new AtomicInteger();
+        final Runnable syncEntries = () -> {
+            for (int i = nextEntry.getAndIncrement(); i < entries.size(); i = nextEntry.getAndIncrement()) {
+                final Map.Entry<SyncTarget, List<Translog.Location>> entry = entries.get(i);
+                final long startNanos = System.nanoTime();
+                try {
+                    if (entry.getKey().ensureSynced(entry.getValue().stream())) {
+                        fsyncMetric.inc(System.nanoTime() - startNanos);
+                    }
+                } catch (Exception e) {
+                    logger.debug("failed to sync translog", e);
+                    failures.put(entry.getKey(), e);
+                }
+            }
+        };
+        final int forks = Math.min(maxConcurrentFsyncs, entries.size()) - 1;
+        final CountDownLatch forksDone = new CountDownLatch(forks);
+        for (int i = 0; i < forks; i++) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        syncEntries.run();
+                    } finally {
+                        forksDone.countDown();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // the writer syncs the targets that this fork would have synced
+                forksDone.countDown();
+            }
+        }
+        syncEntries.run();
+        // the listeners of the batch must not be notified before all its targets are synced
+        boolean interrupted = false;
+        while (true) {
+            try {
+                forksDone.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failures.isEmpty() == false) {
+            for (Tuple<SyncRequest, Consumer<Exception>> candidate : candidates) {
+                candidate.v1().failure = failures.get(candidate.v1().target);
+            }
+        }
+        batchMetric.inc(candidates.size());
+    }
+
+    public TranslogGroupCommitStats stats() {
+        return new TranslogGroupCommitStats(batchMetric.count(), batchMetric.sum(), fsyncMetric.count(), fsyncMetric.sum());
+    }
+
+    private static final class SyncRequest {
+        final SyncTarget target;
+        final Translog.Location location;
+        // set by the writer of the batch before the listener is notified, on the same thread
+        Exception failure;
+
+        SyncRequest(SyncTarget target, Translog.Location location) {
+            this.target = target;
+            this.location = location;
+        }
+    }
+}
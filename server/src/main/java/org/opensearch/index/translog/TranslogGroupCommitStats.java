@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The stats of the {@link TranslogGroupCommitService} of a node.
+ */
+public class TranslogGroupCommitStats implements Writeable, ToXContentFragment {
+
+    private final long batches;
+    private final long requests;
+    private final long fsyncs;
+    private final long fsyncTimeInNanos;
+
+    public TranslogGroupCommitStats(long batches, long requests, long fsyncs, long fsyncTimeInNanos) {
+        this.batches = batches;
+        this.requests = requests;
+        this.fsyncs = fsyncs;
+        this.fsyncTimeInNanos = fsyncTimeInNanos;
+    }
+
+    public TranslogGroupCommitStats(StreamInput in) throws IOException {
+        batches = in.readVLong();
+        requests = in.readVLong();
+        fsyncs = in.readVLong();
+        fsyncTimeInNanos = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(batches);
+        out.writeVLong(requests);
+        out.writeVLong(fsyncs);
+        out.writeVLong(fsyncTimeInNanos);
+    }
+
+    /**
+     * The number of batches of sync requests that were processed.
+     */
+    public long getBatches() {
+        return batches;
+    }
+
+    /**
+     * The number of sync requests that were processed.
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * The number of fsyncs of translogs that the batches caused.
+     */
+    public long getFsyncs() {
+        return fsyncs;
+    }
+
+    public TimeValue getFsyncTime() {
+        return new TimeValue(fsyncTimeInNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("translog_group_commit");
+        builder.field("batches", batches);
+        builder.field("requests", requests);
+        builder.field("average_batch_size", batches == 0 ? 0 : requests / (double) batches);
+        builder.field("fsyncs", fsyncs);
+        builder.humanReadableField("fsync_time_in_millis", "fsync_time", new TimeValue(fsyncTimeInNanos, TimeUnit.NANOSECONDS));
+        builder.humanReadableField("average_fsync_time_in_millis", "average_fsync_time",
+            new TimeValue(fsyncs == 0 ? 0 : fsyncTimeInNanos / fsyncs, TimeUnit.NANOSECONDS));
+        return builder.endObject();
+    }
+}
@@ -67,4 +67,14 @@ abstract class AbstractIndexShardCacheEntity implements IndicesRequestCache.Cach
         stats().onRemoval(notification.getKey(), notification.getValue(),
                 notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED);
     }
+
+    @Override
+    public final void onOffHeapCached(IndicesRequestCache.Key key, int length) {
+        stats().onOffHeapCached(length);
+    }
+
+    @Override
+    public final void onOffHeapRemoval(IndicesRequestCache.Key key, int length, boolean evicted) {
+        stats().onOffHeapRemoval(length, evicted);
+    }
 }
@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.UsageTrackingQueryCachingPolicy;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A {@link UsageTrackingQueryCachingPolicy} that scales the number of times a query must have been used before it gets cached by
+ * the measured benefit of caching the queries of its shape, see {@link IndicesQueryCache#relativeCachingBenefit(Query)}. Queries
+ * whose doc id sets are expensive to build and often reused get cached sooner, while cheap queries need to be used more often, so
+ * that they don't evict the expensive ones from the cache.
+ */
+final class CostAwareQueryCachingPolicy extends UsageTrackingQueryCachingPolicy {
+
+    /**
+     * The maximum factor that the minimum frequency of a query is multiplied by when its shape is cheap to cache.
+     */
+    static final int MAX_FREQUENCY_FACTOR = 4;
+
+    private final ToDoubleFunction<Query> relativeCachingBenefit;
+
+    CostAwareQueryCachingPolicy(ToDoubleFunction<Query> relativeCachingBenefit) {
+        this.relativeCachingBenefit = relativeCachingBenefit;
+    }
+
+    @Override
+    protected int minFrequencyToCache(Query query) {
+        final int minFrequency = super.minFrequencyToCache(query);
+        final double benefit = Math.max(relativeCachingBenefit.applyAsDouble(query), 1d / MAX_FREQUENCY_FACTOR);
+        return (int) Math.max(1L, Math.min(minFrequency * MAX_FREQUENCY_FACTOR, Math.round(minFrequency / benefit)));
+    }
+}
@@ -36,14 +36,18 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BoostQuery;
 import org.apache.lucene.search.BulkScorer;
+import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
 import org.apache.lucene.search.LRUQueryCache;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryCache;
 import org.apache.lucene.search.QueryCachingPolicy;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.ScorerSupplier;
+import org.apache.lucene.search.UsageTrackingQueryCachingPolicy;
 import org.apache.lucene.search.Weight;
 import org.opensearch.common.lucene.ShardCoreKeyMap;
 import org.opensearch.common.settings.Setting;
@@ -51,6 +55,7 @@ import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.index.cache.query.QueryCacheStats;
+import org.opensearch.index.cache.query.QueryShapeCacheStats;
 import org.opensearch.index.shard.ShardId;
 
 import java.io.Closeable;
@@ -76,10 +81,23 @@ public class IndicesQueryCache implements QueryCache, Closeable {
     // enables caching on all segments instead of only the larger ones, for testing only
     public static final Setting<Boolean> INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING =
             Setting.boolSetting("indices.queries.cache.all_segments", false, Property.NodeScope);
+    // weighs the measured build cost, size and hit rate of the cached doc id sets of each query shape when deciding what to cache
+    public static final Setting<Boolean> INDICES_QUERIES_CACHE_COST_AWARE_SETTING =
+            Setting.boolSetting("indices.queries.cache.cost_aware", false, Property.NodeScope);
+
+    /**
+     * The number of doc id sets of a query shape that must have been cached before its measured costs are trusted.
+     */
+    static final int MIN_COST_SAMPLES = 16;
 
     private final LRUQueryCache cache;
     private final ShardCoreKeyMap shardKeyMap = new ShardCoreKeyMap();
     private final Map<ShardId, Stats> shardStats = new ConcurrentHashMap<>();
+    // the statistics of all the shards by query shape, which the cost aware caching policy relies on
+    private final Map<String, ShapeStats> shapeStats = new ConcurrentHashMap<>();
+    // the query whose weight is building a scorer on the current thread, which the doc id set that gets cached is accounted to
+    private final ThreadLocal<ScorerBuild> currentScorerBuild = new ThreadLocal<>();
+    private final boolean costAware;
     private volatile long sharedRamBytesUsed;
 
     // This is a hack for the fact that the close listener for the
@@ -97,9 +115,83 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         } else {
             cache = new OpenSearchLRUQueryCache(count, size.getBytes());
         }
+        costAware = INDICES_QUERIES_CACHE_COST_AWARE_SETTING.get(settings);
         sharedRamBytesUsed = 0;
     }
 
+    /**
+     * Creates the policy that a shard uses to decide which queries to cache. It tracks the queries that the shard uses, and when
+     * {@link #INDICES_QUERIES_CACHE_COST_AWARE_SETTING} is enabled it also requires the queries whose shape is cheap to build or
+     * rarely reused to be used more often before they get cached, so that they don't evict the expensive ones.
+     */
+    public QueryCachingPolicy newCachingPolicy() {
+        return costAware ? new CostAwareQueryCachingPolicy(this::relativeCachingBenefit) : new UsageTrackingQueryCachingPolicy();
+    }
+
+    /**
+     * Returns how much the cached doc id sets of the shape of the given query are worth compared to the average shape, where the
+     * worth of a shape is the build time that its cached doc id sets save per byte of heap that they use. Returns 1 if the costs of
+     * the shape haven't been measured enough times yet.
+     */
+    double relativeCachingBenefit(Query query) {
+        final ShapeStats stats = shapeStats.get(queryShape(query));
+        if (stats == null || stats.cacheCount < MIN_COST_SAMPLES) {
+            return 1d;
+        }
+        double totalBenefit = 0;
+        int shapes = 0;
+        for (ShapeStats shape : shapeStats.values()) {
+            if (shape.cacheCount >= MIN_COST_SAMPLES) {
+                totalBenefit += shape.cachingBenefit();
+                shapes++;
+            }
+        }
+        final double averageBenefit = totalBenefit / shapes;
+        return averageBenefit > 0 ? stats.cachingBenefit() / averageBenefit : 1d;
+    }
+
+    /**
+     * Returns the shape of the query that the cache statistics are grouped by, which is the type of the query once the wrappers
+     * that don't change how it matches are removed.
+     */
+    static String queryShape(Query query) {
+        while (true) {
+            if (query instanceof ConstantScoreQuery) {
+                query = ((ConstantScoreQuery) query).getQuery();
+            } else if (query instanceof BoostQuery) {
+                query = ((BoostQuery) query).getQuery();
+            } else if (query instanceof IndexOrDocValuesQuery) {
+                query = ((IndexOrDocValuesQuery) query).getIndexQuery();
+            } else {
+                break;
+            }
+        }
+        final Class<?> clazz = query.getClass();
+        return clazz.isAnonymousClass() ? clazz.getName() : clazz.getSimpleName();
+    }
+
+    private ShapeStats getOrCreateShapeStats(String shape) {
+        return shapeStats.computeIfAbsent(shape, k -> new ShapeStats());
+    }
+
+    /**
+     * Starts to build a scorer for the given query on the current thread. Returns the build that was already in progress on the
+     * thread, like the one of a parent query, which must be passed to {@link #endScorerBuild(ScorerBuild)} once the scorer is built.
+     */
+    private ScorerBuild startScorerBuild(Query query) {
+        final ScorerBuild previous = currentScorerBuild.get();
+        currentScorerBuild.set(new ScorerBuild(query, System.nanoTime()));
+        return previous;
+    }
+
+    private void endScorerBuild(ScorerBuild previous) {
+        if (previous == null) {
+            currentScorerBuild.remove();
+        } else {
+            currentScorerBuild.set(previous);
+        }
+    }
+
     /** Get usage statistics for the given shard. */
     public QueryCacheStats getStats(ShardId shard) {
         final Map<ShardId, QueryCacheStats> stats = new HashMap<>();
@@ -161,19 +253,55 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         @Override
         public Scorer scorer(LeafReaderContext context) throws IOException {
             shardKeyMap.add(context.reader());
-            return in.scorer(context);
+            final ScorerBuild previous = startScorerBuild(in.getQuery());
+            try {
+                return in.scorer(context);
+            } finally {
+                endScorerBuild(previous);
+            }
         }
 
         @Override
         public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
             shardKeyMap.add(context.reader());
-            return in.scorerSupplier(context);
+            final ScorerSupplier supplier;
+            final ScorerBuild previous = startScorerBuild(in.getQuery());
+            try {
+                supplier = in.scorerSupplier(context);
+            } finally {
+                endScorerBuild(previous);
+            }
+            if (supplier == null) {
+                return null;
+            }
+            // the doc id set may only be cached when the scorer is pulled from the supplier
+            return new ScorerSupplier() {
+                @Override
+                public Scorer get(long leadCost) throws IOException {
+                    final ScorerBuild previous = startScorerBuild(in.getQuery());
+                    try {
+                        return supplier.get(leadCost);
+                    } finally {
+                        endScorerBuild(previous);
+                    }
+                }
+
+                @Override
+                public long cost() {
+                    return supplier.cost();
+                }
+            };
         }
 
         @Override
         public BulkScorer bulkScorer(LeafReaderContext context) throws IOException {
             shardKeyMap.add(context.reader());
-            return in.bulkScorer(context);
+            final ScorerBuild previous = startScorerBuild(in.getQuery());
+            try {
+                return in.bulkScorer(context);
+            } finally {
+                endScorerBuild(previous);
+            }
         }
 
         @Override
@@ -210,9 +338,48 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         cache.clear();
     }
 
+    private static class ScorerBuild {
+        final Query query;
+        final long startTimeNanos;
+
+        ScorerBuild(Query query, long startTimeNanos) {
+            this.query = query;
+            this.startTimeNanos = startTimeNanos;
+        }
+    }
+
+    private static class ShapeStats {
+        volatile long hitCount;
+        volatile long missCount;
+        volatile long cacheCount;
+        volatile long cachedBytes;
+        volatile long buildTimeNanos;
+
+        void onDocIdSetCache(long ramBytesUsed, long buildTimeNanos) {
+            this.cacheCount += 1;
+            this.cachedBytes += ramBytesUsed;
+            this.buildTimeNanos += buildTimeNanos;
+        }
+
+        /**
+         * The build time that the cached doc id sets of the shape save per byte of heap that they use, given how often they are hit.
+         */
+        double cachingBenefit() {
+            final double averageBuildTimeNanos = (double) buildTimeNanos / cacheCount;
+            final double averageBytes = Math.max(1d, (double) cachedBytes / cacheCount);
+            final double hitsPerEntry = (double) hitCount / cacheCount;
+            return averageBuildTimeNanos * (1 + hitsPerEntry) / averageBytes;
+        }
+
+        QueryShapeCacheStats toQueryShapeCacheStats() {
+            return new QueryShapeCacheStats(hitCount, missCount, cacheCount, cachedBytes, buildTimeNanos);
+        }
+    }
+
     private static class Stats implements Cloneable {
 
         final ShardId shardId;
+        final Map<String, ShapeStats> shapeStats = new ConcurrentHashMap<>();
         volatile long ramBytesUsed;
         volatile long hitCount;
         volatile long missCount;
@@ -223,8 +390,16 @@ public class IndicesQueryCache implements QueryCache, Closeable {
             this.shardId = shardId;
         }
 
+        ShapeStats getOrCreateShapeStats(String shape) {
+            return shapeStats.computeIfAbsent(shape, k -> new ShapeStats());
+        }
+
         QueryCacheStats toQueryCacheStats() {
-            return new QueryCacheStats(ramBytesUsed, hitCount, missCount, cacheCount, cacheSize);
+            final Map<String, QueryShapeCacheStats> shapes = new HashMap<>();
+            for (Map.Entry<String, ShapeStats> shape : shapeStats.entrySet()) {
+                shapes.put(shape.getKey(), shape.getValue().toQueryShapeCacheStats());
+            }
+            return new QueryCacheStats(ramBytesUsed, hitCount, missCount, cacheCount, cacheSize, shapes);
         }
 
         @Override
@@ -329,6 +504,15 @@ public class IndicesQueryCache implements QueryCache, Closeable {
                 stats2.put(readerCoreKey, statsAndCount);
             }
             statsAndCount.count += 1;
+
+            // the doc id set was built by the scorer that is being built on this thread, see CachingWeightWrapper
+            final ScorerBuild scorerBuild = currentScorerBuild.get();
+            if (scorerBuild != null) {
+                final String shape = queryShape(scorerBuild.query);
+                final long buildTimeNanos = System.nanoTime() - scorerBuild.startTimeNanos;
+                shardStats.getOrCreateShapeStats(shape).onDocIdSetCache(ramBytesUsed, buildTimeNanos);
+                getOrCreateShapeStats(shape).onDocIdSetCache(ramBytesUsed, buildTimeNanos);
+            }
         }
 
         @Override
@@ -359,6 +543,9 @@ public class IndicesQueryCache implements QueryCache, Closeable {
             super.onHit(readerCoreKey, filter);
             final Stats shardStats = getStats(readerCoreKey);
             shardStats.hitCount += 1;
+            final String shape = queryShape(filter);
+            shardStats.getOrCreateShapeStats(shape).hitCount += 1;
+            getOrCreateShapeStats(shape).hitCount += 1;
         }
 
         @Override
@@ -366,6 +553,9 @@ public class IndicesQueryCache implements QueryCache, Closeable {
             super.onMiss(readerCoreKey, filter);
             final Stats shardStats = getOrCreateStats(readerCoreKey);
             shardStats.missCount += 1;
+            final String shape = queryShape(filter);
+            shardStats.getOrCreateShapeStats(shape).missCount += 1;
+            getOrCreateShapeStats(shape).missCount += 1;
         }
     }
 }
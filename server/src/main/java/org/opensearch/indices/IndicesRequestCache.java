@@ -41,10 +41,11 @@ import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesReference;
-import org.opensearch.common.cache.Cache;
 import org.opensearch.common.cache.CacheBuilder;
 import org.opensearch.common.cache.CacheLoader;
+import org.opensearch.common.cache.ICache;
 import org.opensearch.common.cache.RemovalListener;
 import org.opensearch.common.cache.RemovalNotification;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
@@ -54,6 +55,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.monitor.jvm.JvmInfo;
 
 import java.io.Closeable;
 import java.io.IOException;
@@ -74,6 +76,9 @@ import java.util.concurrent.ConcurrentMap;
  * Currently, the cache is only enabled for count requests, and can only be opted in on an index
  * level setting that can be dynamically changed and defaults to false.
  * <p>
+ * The entries that are evicted from the heap can be kept in a larger {@link OffHeapCacheTier off-heap tier}, configured with
+ * {@link #INDICES_CACHE_QUERY_OFF_HEAP_SIZE}, from which they are moved back to the heap when they are requested again.
+ * <p>
  * There are still several TODOs left in this class, some easily addressable, some more complex, but the support
  * is functional.
  */
@@ -91,12 +96,19 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
         Setting.memorySizeSetting("indices.requests.cache.size", "1%", Property.NodeScope);
     public static final Setting<TimeValue> INDICES_CACHE_QUERY_EXPIRE =
         Setting.positiveTimeSetting("indices.requests.cache.expire", new TimeValue(0), Property.NodeScope);
+    public static final Setting<ICache.EvictionPolicy> INDICES_CACHE_QUERY_EVICTION_POLICY =
+        new Setting<>("indices.requests.cache.eviction_policy", ICache.EvictionPolicy.LRU.toString(), ICache.EvictionPolicy::parse,
+            Property.NodeScope);
+    public static final Setting<ByteSizeValue> INDICES_CACHE_QUERY_OFF_HEAP_SIZE =
+        Setting.byteSizeSetting("indices.requests.cache.off_heap.size", new ByteSizeValue(0), Property.NodeScope);
 
     private final ConcurrentMap<CleanupKey, Boolean> registeredClosedListeners = ConcurrentCollections.newConcurrentMap();
     private final Set<CleanupKey> keysToClean = ConcurrentCollections.newConcurrentSet();
     private final ByteSizeValue size;
     private final TimeValue expire;
-    private final Cache<Key, BytesReference> cache;
+    private final ICache<Key, BytesReference> cache;
+    @Nullable
+    private final OffHeapCacheTier<Key> offHeapTier;
 
     IndicesRequestCache(Settings settings) {
         this.size = INDICES_CACHE_QUERY_SIZE.get(settings);
@@ -107,12 +119,39 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
         if (expire != null) {
             cacheBuilder.setExpireAfterAccess(expire);
         }
-        cache = cacheBuilder.build();
+        cache = cacheBuilder.build(INDICES_CACHE_QUERY_EVICTION_POLICY.get(settings));
+        final ByteSizeValue offHeapSize = INDICES_CACHE_QUERY_OFF_HEAP_SIZE.get(settings);
+        if (offHeapSize.getBytes() > 0) {
+            if (expire != null) {
+                // expired entries are notified as evicted, so they would be moved to the off-heap tier
+                throw new IllegalArgumentException("[" + INDICES_CACHE_QUERY_OFF_HEAP_SIZE.getKey() + "] can't be used with ["
+                    + INDICES_CACHE_QUERY_EXPIRE.getKey() + "]");
+            }
+            validateOffHeapSize(offHeapSize, JvmInfo.jvmInfo().getMem().getDirectMemoryMax());
+            offHeapTier = new OffHeapCacheTier<>(offHeapSize.getBytes(), new OffHeapTierListener());
+        } else {
+            offHeapTier = null;
+        }
+    }
+
+    /**
+     * Checks that the off-heap tier fits in half of the direct memory of the JVM, whose other half is left to the buffers of
+     * the networking layer.
+     */
+    static void validateOffHeapSize(ByteSizeValue offHeapSize, ByteSizeValue directMemoryMax) {
+        // the maximum direct memory is 0 if the JVM doesn't expose it
+        if (directMemoryMax.getBytes() > 0 && offHeapSize.getBytes() > directMemoryMax.getBytes() / 2) {
+            throw new IllegalArgumentException("[" + INDICES_CACHE_QUERY_OFF_HEAP_SIZE.getKey() + "] must be at most half of the "
+                + "maximum direct memory of the JVM [" + directMemoryMax + "] but was [" + offHeapSize + "]");
+        }
     }
 
     @Override
     public void close() {
         cache.invalidateAll();
+        if (offHeapTier != null) {
+            offHeapTier.close();
+        }
     }
 
     void clear(CacheEntity entity) {
@@ -122,14 +161,22 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
 
     @Override
     public void onRemoval(RemovalNotification<Key, BytesReference> notification) {
-        notification.getKey().entity.onRemoval(notification);
+        final Key key = notification.getKey();
+        key.entity.onRemoval(notification);
+        if (offHeapTier != null && notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED && key.entity.isOpen()) {
+            try {
+                offHeapTier.put(key, notification.getValue());
+            } catch (IOException e) {
+                logger.debug("failed to move an evicted entry of the request cache off-heap", e);
+            }
+        }
     }
 
     BytesReference getOrCompute(CacheEntity cacheEntity, CheckedSupplier<BytesReference, IOException> loader,
                                 DirectoryReader reader, BytesReference cacheKey) throws Exception {
         assert reader.getReaderCacheHelper() != null;
         final Key key =  new Key(cacheEntity, reader.getReaderCacheHelper().getKey(), cacheKey);
-        Loader cacheLoader = new Loader(cacheEntity, loader);
+        Loader cacheLoader = new Loader(cacheEntity, loader, offHeapTier);
         BytesReference value = cache.computeIfAbsent(key, cacheLoader);
         if (cacheLoader.isLoaded()) {
             key.entity.onMiss();
@@ -155,18 +202,25 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
      */
     void invalidate(CacheEntity cacheEntity, DirectoryReader reader, BytesReference cacheKey) {
         assert reader.getReaderCacheHelper() != null;
-        cache.invalidate(new Key(cacheEntity, reader.getReaderCacheHelper().getKey(), cacheKey));
+        final Key key = new Key(cacheEntity, reader.getReaderCacheHelper().getKey(), cacheKey);
+        cache.invalidate(key);
+        if (offHeapTier != null) {
+            offHeapTier.remove(key);
+        }
     }
 
     private static class Loader implements CacheLoader<Key, BytesReference> {
 
         private final CacheEntity entity;
         private final CheckedSupplier<BytesReference, IOException> loader;
+        @Nullable
+        private final OffHeapCacheTier<Key> offHeapTier;
         private boolean loaded;
 
-        Loader(CacheEntity entity, CheckedSupplier<BytesReference, IOException> loader) {
+        Loader(CacheEntity entity, CheckedSupplier<BytesReference, IOException> loader, @Nullable OffHeapCacheTier<Key> offHeapTier) {
             this.entity = entity;
             this.loader = loader;
+            this.offHeapTier = offHeapTier;
         }
 
         public boolean isLoaded() {
@@ -175,9 +229,13 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
 
         @Override
         public BytesReference load(Key key) throws Exception {
-            BytesReference value = loader.get();
+            // an entry that is moved back from the off-heap tier counts as a hit
+            BytesReference value = offHeapTier == null ? null : offHeapTier.take(key);
+            if (value == null) {
+                value = loader.get();
+                loaded = true;
+            }
             entity.onCached(key, value);
-            loaded = true;
             return value;
         }
     }
@@ -218,6 +276,29 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
          * Called when this entity instance is removed
          */
         void onRemoval(RemovalNotification<Key, BytesReference> notification);
+
+        /**
+         * Called after a value of the given length was moved to the off-heap tier.
+         */
+        void onOffHeapCached(Key key, int length);
+
+        /**
+         * Called when a value of the given length is removed from the off-heap tier.
+         */
+        void onOffHeapRemoval(Key key, int length, boolean evicted);
+    }
+
+    private static final class OffHeapTierListener implements OffHeapCacheTier.Listener<Key> {
+
+        @Override
+        public void onStored(Key key, int length) {
+            key.entity.onOffHeapCached(key, length);
+        }
+
+        @Override
+        public void onRemoved(Key key, int length, boolean evicted) {
+            key.entity.onOffHeapRemoval(key, length, evicted);
+        }
     }
 
     static class Key implements Accountable {
@@ -319,6 +400,10 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
             }
         }
         if (!currentKeysToClean.isEmpty() || !currentFullClean.isEmpty()) {
+            if (offHeapTier != null) {
+                offHeapTier.removeIf(key -> currentFullClean.contains(key.entity.getCacheIdentity())
+                    || currentKeysToClean.contains(new CleanupKey(key.entity, key.readerCacheKey)));
+            }
             for (Iterator<Key> iterator = cache.keys().iterator(); iterator.hasNext(); ) {
                 Key key = iterator.next();
                 if (currentFullClean.contains(key.entity.getCacheIdentity())) {
@@ -342,6 +427,13 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
         return cache.count();
     }
 
+    /**
+     * Returns the number of entries of the off-heap tier of the cache
+     */
+    int offHeapCount() {
+        return offHeapTier == null ? 0 : offHeapTier.count();
+    }
+
     int numRegisteredCloseListeners() { // for testing
         return registeredClosedListeners.size();
     }
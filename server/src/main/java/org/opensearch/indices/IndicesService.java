@@ -109,6 +109,7 @@ import org.opensearch.index.engine.EngineConfig;
 import org.opensearch.index.engine.EngineFactory;
 import org.opensearch.index.engine.InternalEngineFactory;
 import org.opensearch.index.engine.NoOpEngine;
+import org.opensearch.index.engine.ReadOnlyEngine;
 import org.opensearch.index.fielddata.IndexFieldDataCache;
 import org.opensearch.index.flush.FlushStats;
 import org.opensearch.index.get.GetStats;
@@ -130,12 +131,16 @@ import org.opensearch.index.shard.IndexShardState;
 import org.opensearch.index.shard.IndexingOperationListener;
 import org.opensearch.index.shard.IndexingStats;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.snapshot.SnapshotDirectoryFactory;
+import org.opensearch.index.translog.TranslogGroupCommitService;
+import org.opensearch.index.translog.TranslogGroupCommitStats;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
 import org.opensearch.indices.mapper.MapperRegistry;
 import org.opensearch.indices.recovery.PeerRecoveryTargetService;
 import org.opensearch.indices.recovery.RecoveryState;
+import org.opensearch.indices.replication.checkpoint.SegmentReplicationCheckpointPublisher;
 import org.opensearch.node.Node;
 import org.opensearch.plugins.IndexStorePlugin;
 import org.opensearch.plugins.PluginsService;
@@ -219,6 +224,8 @@ public class IndicesService extends AbstractLifecycleComponent
     private final CacheCleaner cacheCleaner;
     private final ThreadPool threadPool;
     private final CircuitBreakerService circuitBreakerService;
+    @Nullable
+    private final TranslogGroupCommitService translogGroupCommitService;
     private final BigArrays bigArrays;
     private final ScriptService scriptService;
     private final ClusterService clusterService;
@@ -273,6 +280,8 @@ public class IndicesService extends AbstractLifecycleComponent
         this.indexNameExpressionResolver = indexNameExpressionResolver;
         this.indicesRequestCache = new IndicesRequestCache(settings);
         this.indicesQueryCache = new IndicesQueryCache(settings);
+        this.translogGroupCommitService = TranslogGroupCommitService.TRANSLOG_GROUP_COMMIT_ENABLED_SETTING.get(settings)
+            ? new TranslogGroupCommitService(settings, threadPool.getThreadContext(), threadPool.generic()) : null;
         this.mapperRegistry = mapperRegistry;
         this.namedWriteableRegistry = namedWriteableRegistry;
         indexingMemoryController = new IndexingMemoryController(settings, threadPool,
@@ -682,7 +691,8 @@ public class IndicesService extends AbstractLifecycleComponent
                 indicesFieldDataCache,
                 namedWriteableRegistry,
                 this::isIdFieldDataEnabled,
-                valuesSourceRegistry
+                valuesSourceRegistry,
+                translogGroupCommitService
         );
     }
 
@@ -692,6 +702,10 @@ public class IndicesService extends AbstractLifecycleComponent
             // NoOpEngine takes precedence as long as the index is closed
             return NoOpEngine::new;
         }
+        if (SnapshotDirectoryFactory.isSnapshotStore(idxSettings.getSettings())) {
+            // the files of an index that is mounted from a snapshot are never modified
+            return config -> new ReadOnlyEngine(config, null, null, true, Function.identity(), false);
+        }
 
         final List<Optional<EngineFactory>> engineFactories =
                 engineFactoryProviders
@@ -770,6 +784,7 @@ public class IndicesService extends AbstractLifecycleComponent
             final Consumer<IndexShard.ShardFailure> onShardFailure,
             final Consumer<ShardId> globalCheckpointSyncer,
             final RetentionLeaseSyncer retentionLeaseSyncer,
+            final SegmentReplicationCheckpointPublisher checkpointPublisher,
             final DiscoveryNode targetNode,
             final DiscoveryNode sourceNode) throws IOException {
         Objects.requireNonNull(retentionLeaseSyncer);
@@ -777,7 +792,8 @@ public class IndicesService extends AbstractLifecycleComponent
         IndexService indexService = indexService(shardRouting.index());
         assert indexService != null;
         RecoveryState recoveryState = indexService.createRecoveryState(shardRouting, targetNode, sourceNode);
-        IndexShard indexShard = indexService.createShard(shardRouting, globalCheckpointSyncer, retentionLeaseSyncer);
+        IndexShard indexShard = indexService.createShard(shardRouting, globalCheckpointSyncer, retentionLeaseSyncer,
+            checkpointPublisher);
         indexShard.addShardFailureCallback(onShardFailure);
         indexShard.startRecovery(recoveryState, recoveryTargetService, recoveryListener, repositoriesService,
             (type, mapping) -> {
@@ -838,6 +854,14 @@ public class IndicesService extends AbstractLifecycleComponent
         return indicesQueryCache;
     }
 
+    /**
+     * Returns the stats of the group commit of translog syncs, or <code>null</code> if it is disabled on this node.
+     */
+    @Nullable
+    public TranslogGroupCommitStats getTranslogGroupCommitStats() {
+        return translogGroupCommitService == null ? null : translogGroupCommitService.stats();
+    }
+
     static class OldShardsStats implements IndexEventListener {
 
         final SearchStats searchStats = new SearchStats();
@@ -0,0 +1,328 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefIterator;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * A second tier for the entries of a cache, which stores their bytes outside of the JVM heap so that a much larger cache
+ * doesn't take space on the heap. The entries that the first tier evicts are put in this tier, and an entry of this tier is
+ * taken back to the first tier, as a copy on the heap, when it is requested again.
+ * <p>
+ * The bytes are stored in fixed-size pages that are carved out of large slabs of direct memory. Slabs are allocated lazily,
+ * up to the capacity of the tier, and the pages of the removed entries are reused rather than released, so the tier doesn't
+ * allocate direct memory once it is full. The slabs are not freed explicitly though: like all direct buffers, their memory is
+ * only reclaimed once the tier is closed and the garbage collector collects them. When there are not enough free pages for a
+ * new entry, the least recently used entries are evicted.
+ * <p>
+ * The entries are partitioned by key into stripes, each with its own share of the capacity, its own slabs and its own lock,
+ * so that the threads that miss the first tier or that move the entries it evicts don't all contend on a single lock. An
+ * entry that is larger than the capacity of a stripe is not stored.
+ */
+final class OffHeapCacheTier<K> implements Closeable {
+
+    static final int PAGE_SIZE = 4096;
+    private static final int MAX_SLAB_SIZE = 1 << 25;
+    // tiers are only striped if each stripe can hold at least this many pages, so that a small tier still stores large entries
+    private static final int MIN_PAGES_PER_STRIPE = 256;
+    private static final int MAX_STRIPES = 16;
+
+    /**
+     * Notified of the entries that are stored in and removed from the tier, while the lock of their stripe is held.
+     */
+    interface Listener<K> {
+
+        /**
+         * Called when a value of the given length is stored for the given key.
+         */
+        void onStored(K key, int length);
+
+        /**
+         * Called when the value of the given length of the given key is removed, either because it is evicted to make room for
+         * another entry, or because it is taken, replaced, removed or the tier is closed.
+         */
+        void onRemoved(K key, int length, boolean evicted);
+    }
+
+    private final Stripe<K>[] stripes;
+
+    OffHeapCacheTier(long capacityInBytes, Listener<K> listener) {
+        this(capacityInBytes, defaultNumberOfStripes(capacityInBytes), listener);
+    }
+
+    @SuppressWarnings("unchecked")
+    OffHeapCacheTier(long capacityInBytes, int numberOfStripes, Listener<K> listener) {
+        if (capacityInBytes / numberOfStripes < PAGE_SIZE) {
+            throw new IllegalArgumentException("the capacity of the off-heap cache tier must be at least [" + PAGE_SIZE
+                + "] bytes per stripe but was [" + capacityInBytes + "] bytes for [" + numberOfStripes + "] stripes");
+        }
+        this.stripes = new Stripe[numberOfStripes];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe<>(capacityInBytes / numberOfStripes, listener);
+        }
+    }
+
+    private static int defaultNumberOfStripes(long capacityInBytes) {
+        final long minStripeSizeInBytes = (long) MIN_PAGES_PER_STRIPE * PAGE_SIZE;
+        return (int) Math.max(1, Math.min(MAX_STRIPES, capacityInBytes / minStripeSizeInBytes));
+    }
+
+    private Stripe<K> stripe(K key) {
+        final int hash = key.hashCode();
+        return stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)];
+    }
+
+    /**
+     * Copies the given value to this tier, evicting the least recently used entries of its stripe if needed. The value is not
+     * stored if it is larger than the capacity of a stripe.
+     */
+    void put(K key, BytesReference value) throws IOException {
+        stripe(key).put(key, value);
+    }
+
+    /**
+     * Removes the entry for the given key from this tier, and returns a copy of its value on the heap, or <code>null</code>
+     * if this tier doesn't have an entry for the key.
+     */
+    BytesReference take(K key) {
+        return stripe(key).take(key);
+    }
+
+    /**
+     * Removes the entry for the given key from this tier, if any.
+     */
+    void remove(K key) {
+        stripe(key).remove(key);
+    }
+
+    /**
+     * Removes all the entries whose key matches the given predicate.
+     */
+    void removeIf(Predicate<K> predicate) {
+        for (Stripe<K> stripe : stripes) {
+            stripe.removeIf(predicate);
+        }
+    }
+
+    int count() {
+        int count = 0;
+        for (Stripe<K> stripe : stripes) {
+            count += stripe.count();
+        }
+        return count;
+    }
+
+    /**
+     * The number of bytes of the values of the entries of this tier.
+     */
+    long sizeInBytes() {
+        long sizeInBytes = 0;
+        for (Stripe<K> stripe : stripes) {
+            sizeInBytes += stripe.sizeInBytes();
+        }
+        return sizeInBytes;
+    }
+
+    /**
+     * The number of entries that were evicted to make room for new entries.
+     */
+    long evictions() {
+        long evictions = 0;
+        for (Stripe<K> stripe : stripes) {
+            evictions += stripe.evictions();
+        }
+        return evictions;
+    }
+
+    int numberOfStripes() {
+        return stripes.length;
+    }
+
+    @Override
+    public void close() {
+        for (Stripe<K> stripe : stripes) {
+            stripe.close();
+        }
+    }
+
+    /**
+     * A share of the capacity of the tier, whose operations are serialized.
+     */
+    private static final class Stripe<K> {
+
+        private final int pagesPerSlab;
+        private final ByteBuffer[] slabs;
+        private final int[] freePages;
+        private final Listener<K> listener;
+        private int numFreePages;
+        private int numAllocatedPages;
+        // the entries in access order, from the least recently used
+        private final LinkedHashMap<K, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long sizeInBytes;
+        private long evictions;
+        private boolean closed;
+
+        Stripe(long capacityInBytes, Listener<K> listener) {
+            final int maxPages = (int) Math.min(capacityInBytes / PAGE_SIZE, Integer.MAX_VALUE - 8);
+            assert maxPages > 0 : "stripes must hold at least one page";
+            this.pagesPerSlab = Math.min(maxPages, MAX_SLAB_SIZE / PAGE_SIZE);
+            this.slabs = new ByteBuffer[(maxPages + pagesPerSlab - 1) / pagesPerSlab];
+            this.freePages = new int[maxPages];
+            this.listener = listener;
+        }
+
+        synchronized void put(K key, BytesReference value) throws IOException {
+            if (closed) {
+                return;
+            }
+            remove(key);
+            final int numPages = (value.length() + PAGE_SIZE - 1) / PAGE_SIZE;
+            if (numPages > freePages.length) {
+                return;
+            }
+            Iterator<Map.Entry<K, Entry>> lru = entries.entrySet().iterator();
+            while (numFreePages + (freePages.length - numAllocatedPages) < numPages) {
+                Map.Entry<K, Entry> evicted = lru.next();
+                lru.remove();
+                release(evicted.getKey(), evicted.getValue(), true);
+                evictions++;
+            }
+            final Entry entry = new Entry(allocate(numPages), value.length());
+            final BytesRefIterator iterator = value.iterator();
+            int offset = 0;
+            BytesRef ref;
+            while ((ref = iterator.next()) != null) {
+                int copied = 0;
+                while (copied < ref.length) {
+                    final ByteBuffer page = page(entry.pages[offset / PAGE_SIZE], offset % PAGE_SIZE);
+                    final int length = Math.min(ref.length - copied, page.remaining());
+                    page.put(ref.bytes, ref.offset + copied, length);
+                    copied += length;
+                    offset += length;
+                }
+            }
+            entries.put(key, entry);
+            sizeInBytes += value.length();
+            listener.onStored(key, value.length());
+        }
+
+        synchronized BytesReference take(K key) {
+            final Entry entry = entries.remove(key);
+            if (entry == null) {
+                return null;
+            }
+            final byte[] bytes = new byte[entry.length];
+            int offset = 0;
+            while (offset < bytes.length) {
+                final ByteBuffer page = page(entry.pages[offset / PAGE_SIZE], 0);
+                final int length = Math.min(bytes.length - offset, PAGE_SIZE);
+                page.get(bytes, offset, length);
+                offset += length;
+            }
+            release(key, entry, false);
+            return new BytesArray(bytes);
+        }
+
+        synchronized void remove(K key) {
+            final Entry entry = entries.remove(key);
+            if (entry != null) {
+                release(key, entry, false);
+            }
+        }
+
+        synchronized void removeIf(Predicate<K> predicate) {
+            for (Iterator<Map.Entry<K, Entry>> iterator = entries.entrySet().iterator(); iterator.hasNext(); ) {
+                Map.Entry<K, Entry> entry = iterator.next();
+                if (predicate.test(entry.getKey())) {
+                    iterator.remove();
+                    release(entry.getKey(), entry.getValue(), false);
+                }
+            }
+        }
+
+        synchronized int count() {
+            return entries.size();
+        }
+
+        synchronized long sizeInBytes() {
+            return sizeInBytes;
+        }
+
+        synchronized long evictions() {
+            return evictions;
+        }
+
+        synchronized void close() {
+            if (closed == false) {
+                closed = true;
+                removeIf(key -> true);
+                // the direct memory of the slabs is released once they are garbage collected
+                for (int i = 0; i < slabs.length; i++) {
+                    slabs[i] = null;
+                }
+            }
+        }
+
+        private int[] allocate(int numPages) {
+            assert Thread.holdsLock(this);
+            final int[] pages = new int[numPages];
+            for (int i = 0; i < numPages; i++) {
+                if (numFreePages > 0) {
+                    pages[i] = freePages[--numFreePages];
+                } else {
+                    final int page = numAllocatedPages++;
+                    if (page % pagesPerSlab == 0) {
+                        final int remainingPages = freePages.length - page;
+                        slabs[page / pagesPerSlab] = ByteBuffer.allocateDirect(Math.min(pagesPerSlab, remainingPages) * PAGE_SIZE);
+                    }
+                    pages[i] = page;
+                }
+            }
+            return pages;
+        }
+
+        private void release(K key, Entry entry, boolean evicted) {
+            assert Thread.holdsLock(this);
+            for (int page : entry.pages) {
+                freePages[numFreePages++] = page;
+            }
+            sizeInBytes -= entry.length;
+            listener.onRemoved(key, entry.length, evicted);
+        }
+
+        private ByteBuffer page(int page, int offset) {
+            final ByteBuffer slab = slabs[page / pagesPerSlab].duplicate();
+            final int position = (page % pagesPerSlab) * PAGE_SIZE;
+            slab.limit(position + PAGE_SIZE);
+            slab.position(position + offset);
+            return slab;
+        }
+    }
+
+    private static final class Entry {
+        final int[] pages;
+        final int length;
+
+        Entry(int[] pages, int length) {
+            this.pages = pages;
+            this.length = length;
+        }
+    }
+}
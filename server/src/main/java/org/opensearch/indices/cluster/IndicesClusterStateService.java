@@ -74,6 +74,7 @@ import org.opensearch.index.shard.IndexShardState;
 import org.opensearch.index.shard.PrimaryReplicaSyncer;
 import org.opensearch.index.shard.PrimaryReplicaSyncer.ResyncTask;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.shard.ShardLongFieldRange;
 import org.opensearch.index.shard.ShardNotFoundException;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.flush.SyncedFlushService;
@@ -81,6 +82,9 @@ import org.opensearch.indices.recovery.PeerRecoverySourceService;
 import org.opensearch.indices.recovery.PeerRecoveryTargetService;
 import org.opensearch.indices.recovery.RecoveryFailedException;
 import org.opensearch.indices.recovery.RecoveryState;
+import org.opensearch.indices.replication.SegmentReplicationSourceService;
+import org.opensearch.indices.replication.SegmentReplicationTargetService;
+import org.opensearch.indices.replication.checkpoint.SegmentReplicationCheckpointPublisher;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.search.SearchService;
 import org.opensearch.snapshots.SnapshotShardsService;
@@ -132,6 +136,7 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
     private final PrimaryReplicaSyncer primaryReplicaSyncer;
     private final Consumer<ShardId> globalCheckpointSyncer;
     private final RetentionLeaseSyncer retentionLeaseSyncer;
+    private final SegmentReplicationCheckpointPublisher checkpointPublisher;
 
     @Inject
     public IndicesClusterStateService(
@@ -149,7 +154,10 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
             final SnapshotShardsService snapshotShardsService,
             final PrimaryReplicaSyncer primaryReplicaSyncer,
             final GlobalCheckpointSyncAction globalCheckpointSyncAction,
-            final RetentionLeaseSyncer retentionLeaseSyncer) {
+            final RetentionLeaseSyncer retentionLeaseSyncer,
+            final SegmentReplicationSourceService segmentReplicationSourceService,
+            final SegmentReplicationTargetService segmentReplicationTargetService,
+            final SegmentReplicationCheckpointPublisher checkpointPublisher) {
         this(
                 settings,
                 indicesService,
@@ -165,7 +173,10 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
                 snapshotShardsService,
                 primaryReplicaSyncer,
                 globalCheckpointSyncAction::updateGlobalCheckpointForShard,
-                retentionLeaseSyncer);
+                retentionLeaseSyncer,
+                segmentReplicationSourceService,
+                segmentReplicationTargetService,
+                checkpointPublisher);
     }
 
     // for tests
@@ -184,12 +195,17 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
             final SnapshotShardsService snapshotShardsService,
             final PrimaryReplicaSyncer primaryReplicaSyncer,
             final Consumer<ShardId> globalCheckpointSyncer,
-            final RetentionLeaseSyncer retentionLeaseSyncer) {
+            final RetentionLeaseSyncer retentionLeaseSyncer,
+            final SegmentReplicationSourceService segmentReplicationSourceService,
+            final SegmentReplicationTargetService segmentReplicationTargetService,
+            final SegmentReplicationCheckpointPublisher checkpointPublisher) {
         this.settings = settings;
         this.buildInIndexListener =
                 Arrays.asList(
                         peerRecoverySourceService,
                         recoveryTargetService,
+                        segmentReplicationSourceService,
+                        segmentReplicationTargetService,
                         searchService,
                         syncedFlushService,
                         snapshotShardsService);
@@ -203,6 +219,7 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
         this.primaryReplicaSyncer = primaryReplicaSyncer;
         this.globalCheckpointSyncer = globalCheckpointSyncer;
         this.retentionLeaseSyncer = Objects.requireNonNull(retentionLeaseSyncer);
+        this.checkpointPublisher = Objects.requireNonNull(checkpointPublisher);
         this.sendRefreshMapping = settings.getAsBoolean("indices.cluster.send_refresh_mapping", true);
     }
 
@@ -611,6 +628,7 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
                     failedShardHandler,
                     globalCheckpointSyncer,
                     retentionLeaseSyncer,
+                    checkpointPublisher,
                     nodes.getLocalNode(),
                     sourceNode);
         } catch (Exception e) {
@@ -650,7 +668,7 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
             if (nodes.getMasterNode() != null) {
                 shardStateAction.shardStarted(shardRouting, primaryTerm, "master " + nodes.getMasterNode() +
                         " marked shard as initializing, but shard state is [" + state + "], mark shard as started",
-                    SHARD_STATE_ACTION_LISTENER, clusterState);
+                    shard.getTimestampRange(), SHARD_STATE_ACTION_LISTENER, clusterState);
             }
         }
     }
@@ -705,7 +723,10 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
 
         @Override
         public void onRecoveryDone(final RecoveryState state) {
-            shardStateAction.shardStarted(shardRouting, primaryTerm, "after " + state.getRecoverySource(), SHARD_STATE_ACTION_LISTENER);
+            final Shard shard = indicesService.getShardOrNull(shardRouting.shardId());
+            final ShardLongFieldRange timestampRange = shard == null ? ShardLongFieldRange.UNKNOWN : shard.getTimestampRange();
+            shardStateAction.shardStarted(shardRouting, primaryTerm, "after " + state.getRecoverySource(), timestampRange,
+                SHARD_STATE_ACTION_LISTENER);
         }
 
         @Override
@@ -797,6 +818,11 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
          */
         RecoveryState recoveryState();
 
+        /**
+         * Returns the range of the timestamp field of the documents in this shard, if it can't change.
+         */
+        ShardLongFieldRange getTimestampRange();
+
         /**
          * Updates the shard state based on an incoming cluster state:
          * - Updates and persists the new routing value.
@@ -908,6 +934,7 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
          * @param onShardFailure         a callback when this shard fails
          * @param globalCheckpointSyncer a callback when this shard syncs the global checkpoint
          * @param retentionLeaseSyncer   a callback when this shard syncs retention leases
+         * @param checkpointPublisher    a callback when this primary shard publishes the checkpoint of its segments
          * @param targetNode             the node where this shard will be recovered
          * @param sourceNode             the source node to recover this shard from (it might be null)
          * @return a new shard
@@ -921,6 +948,7 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
                 Consumer<IndexShard.ShardFailure> onShardFailure,
                 Consumer<ShardId> globalCheckpointSyncer,
                 RetentionLeaseSyncer retentionLeaseSyncer,
+                SegmentReplicationCheckpointPublisher checkpointPublisher,
                 DiscoveryNode targetNode,
                 @Nullable DiscoveryNode sourceNode) throws IOException;
 
@@ -42,8 +42,8 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.IndexReader.CacheKey;
 import org.apache.lucene.util.Accountable;
 import org.opensearch.common.Nullable;
-import org.opensearch.common.cache.Cache;
 import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.ICache;
 import org.opensearch.common.cache.RemovalListener;
 import org.opensearch.common.cache.RemovalNotification;
 import org.opensearch.common.lease.Releasable;
@@ -70,8 +70,11 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
 
     public static final Setting<ByteSizeValue> INDICES_FIELDDATA_CACHE_SIZE_KEY =
         Setting.memorySizeSetting("indices.fielddata.cache.size", new ByteSizeValue(-1), Property.NodeScope);
+    public static final Setting<ICache.EvictionPolicy> INDICES_FIELDDATA_CACHE_EVICTION_POLICY =
+        new Setting<>("indices.fielddata.cache.eviction_policy", ICache.EvictionPolicy.LRU.toString(), ICache.EvictionPolicy::parse,
+            Property.NodeScope);
     private final IndexFieldDataCache.Listener indicesFieldDataCacheListener;
-    private final Cache<Key, Accountable> cache;
+    private final ICache<Key, Accountable> cache;
 
     public IndicesFieldDataCache(Settings settings, IndexFieldDataCache.Listener indicesFieldDataCacheListener) {
         this.indicesFieldDataCacheListener = indicesFieldDataCacheListener;
@@ -81,7 +84,7 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
         if (sizeInBytes > 0) {
             cacheBuilder.setMaximumWeight(sizeInBytes).weigher(new FieldDataWeigher());
         }
-        cache = cacheBuilder.build();
+        cache = cacheBuilder.build(INDICES_FIELDDATA_CACHE_EVICTION_POLICY.get(settings));
     }
 
     @Override
@@ -93,7 +96,7 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
         return new IndexFieldCache(logger, cache, index, fieldName, indicesFieldDataCacheListener, listener);
     }
 
-    public Cache<Key, Accountable> getCache() {
+    public ICache<Key, Accountable> getCache() {
         return cache;
     }
 
@@ -131,10 +134,10 @@ public class IndicesFieldDataCache implements RemovalListener<IndicesFieldDataCa
         private final Logger logger;
         final Index index;
         final String fieldName;
-        private final Cache<Key, Accountable> cache;
+        private final ICache<Key, Accountable> cache;
         private final Listener[] listeners;
 
-        IndexFieldCache(Logger logger,final Cache<Key, Accountable> cache, Index index, String fieldName, Listener... listeners) {
+        IndexFieldCache(Logger logger,final ICache<Key, Accountable> cache, Index index, String fieldName, Listener... listeners) {
             this.logger = logger;
             this.listeners = listeners;
             this.index = index;
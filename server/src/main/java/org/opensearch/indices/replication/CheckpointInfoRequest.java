@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.index.shard.ShardId;
+
+import java.io.IOException;
+
+/**
+ * Asks the primary shard for its latest segments, which it keeps until the replica releases them.
+ */
+public class CheckpointInfoRequest extends SegmentReplicationTransportRequest {
+
+    private final DiscoveryNode targetNode;
+
+    public CheckpointInfoRequest(StreamInput in) throws IOException {
+        super(in);
+        targetNode = new DiscoveryNode(in);
+    }
+
+    public CheckpointInfoRequest(ShardId shardId, String targetAllocationId, DiscoveryNode targetNode) {
+        super(shardId, targetAllocationId);
+        this.targetNode = targetNode;
+    }
+
+    public DiscoveryNode targetNode() {
+        return targetNode;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        targetNode.writeTo(out);
+    }
+
+    @Override
+    public String toString() {
+        return "CheckpointInfoRequest{shardId=" + shardId() + ", targetAllocationId=" + targetAllocationId() + "}";
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.index.store.Store;
+import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
+import org.opensearch.transport.TransportResponse;
+
+import java.io.IOException;
+
+/**
+ * The latest segments of a primary shard: their checkpoint, the metadata of their files and their serialized segment infos.
+ */
+public class CheckpointInfoResponse extends TransportResponse {
+
+    private final ReplicationCheckpoint checkpoint;
+    private final Store.MetadataSnapshot snapshot;
+    private final byte[] infosBytes;
+
+    public CheckpointInfoResponse(StreamInput in) throws IOException {
+        super(in);
+        checkpoint = new ReplicationCheckpoint(in);
+        snapshot = new Store.MetadataSnapshot(in);
+        infosBytes = in.readByteArray();
+    }
+
+    public CheckpointInfoResponse(ReplicationCheckpoint checkpoint, Store.MetadataSnapshot snapshot, byte[] infosBytes) {
+        this.checkpoint = checkpoint;
+        this.snapshot = snapshot;
+        this.infosBytes = infosBytes;
+    }
+
+    public ReplicationCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+
+    public Store.MetadataSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public byte[] getInfosBytes() {
+        return infosBytes;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        checkpoint.writeTo(out);
+        snapshot.writeTo(out);
+        out.writeByteArray(infosBytes);
+    }
+}
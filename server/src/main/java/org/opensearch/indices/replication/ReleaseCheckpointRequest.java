@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.index.shard.ShardId;
+
+import java.io.IOException;
+
+/**
+ * Tells the primary shard that the replica is done copying the segments that it kept for it.
+ */
+public class ReleaseCheckpointRequest extends SegmentReplicationTransportRequest {
+
+    public ReleaseCheckpointRequest(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public ReleaseCheckpointRequest(ShardId shardId, String targetAllocationId) {
+        super(shardId, targetAllocationId);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.index.shard.ShardId;
+
+import java.io.IOException;
+
+/**
+ * Asks the primary shard for a chunk of a file of the segments that it keeps for the replica.
+ */
+public class SegmentFileChunkRequest extends SegmentReplicationTransportRequest {
+
+    private final String fileName;
+    private final long position;
+    private final int length;
+
+    public SegmentFileChunkRequest(StreamInput in) throws IOException {
+        super(in);
+        fileName = in.readString();
+        position = in.readVLong();
+        length = in.readVInt();
+    }
+
+    public SegmentFileChunkRequest(ShardId shardId, String targetAllocationId, String fileName, long position, int length) {
+        super(shardId, targetAllocationId);
+        this.fileName = fileName;
+        this.position = position;
+        this.length = length;
+    }
+
+    public String fileName() {
+        return fileName;
+    }
+
+    public long position() {
+        return position;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(fileName);
+        out.writeVLong(position);
+        out.writeVInt(length);
+    }
+
+    @Override
+    public String toString() {
+        return shardId() + ": name='" + fileName + '\'' +
+            ", position=" + position +
+            ", length=" + length;
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.apache.lucene.store.ByteBuffersIndexOutput;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.RateLimiter;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.shard.IndexEventListener;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.Store;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.recovery.RecoverySettings;
+import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportChannel;
+import org.opensearch.transport.TransportRequestHandler;
+import org.opensearch.transport.TransportResponse;
+import org.opensearch.transport.TransportService;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * The service of the primary shards of the indices that use segment replication, which serves their latest segments to the
+ * replicas that copy them. The segments that a replica copies are kept until it releases them, or leaves the cluster, or
+ * the primary shard is closed.
+ */
+public class SegmentReplicationSourceService implements IndexEventListener, ClusterStateListener {
+
+    private static final Logger logger = LogManager.getLogger(SegmentReplicationSourceService.class);
+
+    public static class Actions {
+        public static final String GET_CHECKPOINT_INFO = "internal:index/shard/replication/get_checkpoint_info";
+        public static final String GET_FILE_CHUNK = "internal:index/shard/replication/get_file_chunk";
+        public static final String RELEASE_CHECKPOINT = "internal:index/shard/replication/release_checkpoint";
+    }
+
+    private final IndicesService indicesService;
+    private final RecoverySettings recoverySettings;
+    // the segments that are being copied, per allocation id of the replica that copies them
+    private final Map<String, CopyState> ongoingCopies = ConcurrentCollections.newConcurrentMap();
+
+    public SegmentReplicationSourceService(TransportService transportService, IndicesService indicesService,
+                                           ClusterService clusterService, RecoverySettings recoverySettings) {
+        this.indicesService = indicesService;
+        this.recoverySettings = recoverySettings;
+        transportService.registerRequestHandler(Actions.GET_CHECKPOINT_INFO, ThreadPool.Names.GENERIC, CheckpointInfoRequest::new,
+            new CheckpointInfoRequestHandler());
+        transportService.registerRequestHandler(Actions.GET_FILE_CHUNK, ThreadPool.Names.GENERIC, SegmentFileChunkRequest::new,
+            new SegmentFileChunkRequestHandler());
+        transportService.registerRequestHandler(Actions.RELEASE_CHECKPOINT, ThreadPool.Names.GENERIC, ReleaseCheckpointRequest::new,
+            new ReleaseCheckpointRequestHandler());
+        if (DiscoveryNode.isDataNode(clusterService.getSettings())) {
+            clusterService.addListener(this);
+        }
+    }
+
+    @Override
+    public void beforeIndexShardClosed(ShardId shardId, @Nullable IndexShard indexShard, Settings indexSettings) {
+        ongoingCopies.values().removeIf(copyState -> {
+            if (copyState.shardId.equals(shardId)) {
+                copyState.close();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    @Override
+    public void clusterChanged(ClusterChangedEvent event) {
+        if (event.nodesRemoved()) {
+            for (DiscoveryNode removedNode : event.nodesDelta().removedNodes()) {
+                ongoingCopies.values().removeIf(copyState -> {
+                    if (copyState.targetNode.equals(removedNode)) {
+                        copyState.close();
+                        return true;
+                    }
+                    return false;
+                });
+            }
+        }
+    }
+
+    CheckpointInfoResponse getCheckpointInfo(CheckpointInfoRequest request) throws IOException {
+        final IndexShard shard = indicesService.indexServiceSafe(request.shardId().getIndex()).getShard(request.shardId().id());
+        final ShardRouting routingEntry = shard.routingEntry();
+        if (routingEntry.primary() == false || routingEntry.active() == false) {
+            throw new IllegalStateException("source shard [" + routingEntry + "] is not an active primary");
+        }
+        final CopyState copyState = new CopyState(request.shardId(), request.targetNode(), shard.acquireLatestSegmentInfos());
+        try {
+            final SegmentInfos segmentInfos = copyState.segmentInfosRef.getSegmentInfos();
+            final ReplicationCheckpoint checkpoint = shard.getReplicationCheckpoint(copyState.segmentInfosRef);
+            final Store.MetadataSnapshot snapshot = shard.store().getSegmentMetadata(segmentInfos);
+            final ByteBuffersDataOutput buffer = new ByteBuffersDataOutput();
+            try (ByteBuffersIndexOutput indexOutput = new ByteBuffersIndexOutput(buffer, "segment infos", "segment infos")) {
+                segmentInfos.write(shard.store().directory(), indexOutput);
+            }
+            copyState.snapshot = snapshot;
+            copyState.store = shard.store();
+            final CopyState previous = ongoingCopies.put(request.targetAllocationId(), copyState);
+            if (previous != null) {
+                // the replica started a new copy without releasing the previous one, which failed
+                previous.close();
+            }
+            logger.trace("{} serving segments {} to [{}]", request.shardId(), checkpoint, request.targetAllocationId());
+            return new CheckpointInfoResponse(checkpoint, snapshot, buffer.toArrayCopy());
+        } catch (Exception e) {
+            copyState.close();
+            throw e;
+        }
+    }
+
+    SegmentFileChunkResponse getFileChunk(SegmentFileChunkRequest request) throws IOException {
+        final CopyState copyState = ongoingCopies.get(request.targetAllocationId());
+        if (copyState == null || copyState.shardId.equals(request.shardId()) == false) {
+            throw new IllegalStateException("no segments are being copied by [" + request.targetAllocationId() + "] for shard "
+                + request.shardId());
+        }
+        final StoreFileMetadata metadata = copyState.snapshot.get(request.fileName());
+        if (metadata == null) {
+            throw new IllegalArgumentException("file [" + request.fileName() + "] is not part of the copied segments of shard "
+                + request.shardId());
+        }
+        if (request.position() < 0 || request.length() < 0 || request.position() + request.length() > metadata.length()) {
+            throw new IllegalArgumentException("invalid chunk [" + request.position() + ", " + request.length() + "] of file ["
+                + metadata.name() + "] of length [" + metadata.length() + "]");
+        }
+        final RateLimiter rateLimiter = recoverySettings.rateLimiter();
+        if (rateLimiter != null) {
+            rateLimiter.pause(request.length());
+        }
+        final byte[] content = new byte[request.length()];
+        try (IndexInput indexInput = copyState.store.directory().openInput(metadata.name(), IOContext.READONCE)) {
+            indexInput.seek(request.position());
+            indexInput.readBytes(content, 0, content.length);
+        }
+        return new SegmentFileChunkResponse(new BytesArray(content));
+    }
+
+    void releaseCheckpoint(ReleaseCheckpointRequest request) {
+        final CopyState copyState = ongoingCopies.remove(request.targetAllocationId());
+        if (copyState != null) {
+            copyState.close();
+        }
+    }
+
+    class CheckpointInfoRequestHandler implements TransportRequestHandler<CheckpointInfoRequest> {
+        @Override
+        public void messageReceived(final CheckpointInfoRequest request, final TransportChannel channel, Task task) throws Exception {
+            channel.sendResponse(getCheckpointInfo(request));
+        }
+    }
+
+    class SegmentFileChunkRequestHandler implements TransportRequestHandler<SegmentFileChunkRequest> {
+        @Override
+        public void messageReceived(final SegmentFileChunkRequest request, final TransportChannel channel, Task task) throws Exception {
+            channel.sendResponse(getFileChunk(request));
+        }
+    }
+
+    class ReleaseCheckpointRequestHandler implements TransportRequestHandler<ReleaseCheckpointRequest> {
+        @Override
+        public void messageReceived(final ReleaseCheckpointRequest request, final TransportChannel channel, Task task) throws Exception {
+            releaseCheckpoint(request);
+            channel.sendResponse(TransportResponse.Empty.INSTANCE);
+        }
+    }
+
+    // exposed for testing
+    final int numberOfOngoingCopies() {
+        return ongoingCopies.size();
+    }
+
+    /**
+     * The segments of a primary shard that a replica is copying, whose files are kept until they are released.
+     */
+    private static final class CopyState implements Closeable {
+
+        private final ShardId shardId;
+        private final DiscoveryNode targetNode;
+        private final Engine.SegmentInfosRef segmentInfosRef;
+        private volatile Store store;
+        private volatile Store.MetadataSnapshot snapshot;
+
+        CopyState(ShardId shardId, DiscoveryNode targetNode, Engine.SegmentInfosRef segmentInfosRef) {
+            this.shardId = shardId;
+            this.targetNode = targetNode;
+            this.segmentInfosRef = segmentInfosRef;
+        }
+
+        @Override
+        public void close() {
+            try {
+                IOUtils.close(segmentInfosRef);
+            } catch (IOException e) {
+                logger.debug(new ParameterizedMessage("{} failed to release the segments copied by [{}]", shardId, targetNode), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.BufferedChecksumIndexInput;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.shard.IndexEventListener;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardState;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.Store;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.indices.recovery.MultiFileWriter;
+import org.opensearch.indices.recovery.RecoverySettings;
+import org.opensearch.indices.recovery.RecoveryState;
+import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.EmptyTransportResponseHandler;
+import org.opensearch.transport.TransportRequestOptions;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The service of the replicas of the indices that use segment replication, which copy the latest segments of their primary
+ * shard when they are notified of a new checkpoint and when they start. A replica only copies the files that it doesn't have
+ * yet, one chunk at a time, and there is at most one copy per shard at a time: a checkpoint that is received during a copy
+ * triggers another copy once it completes.
+ */
+public class SegmentReplicationTargetService implements IndexEventListener {
+
+    private static final Logger logger = LogManager.getLogger(SegmentReplicationTargetService.class);
+
+    private final ThreadPool threadPool;
+    private final TransportService transportService;
+    private final ClusterService clusterService;
+    private final RecoverySettings recoverySettings;
+
+    // the shards that are copying the segments of their primary, and the ones that need another copy once it completes
+    private final Set<ShardId> ongoingReplications = new HashSet<>();
+    private final Set<ShardId> pendingReplications = new HashSet<>();
+
+    public SegmentReplicationTargetService(ThreadPool threadPool, TransportService transportService, ClusterService clusterService,
+                                           RecoverySettings recoverySettings) {
+        this.threadPool = threadPool;
+        this.transportService = transportService;
+        this.clusterService = clusterService;
+        this.recoverySettings = recoverySettings;
+    }
+
+    @Override
+    public void afterIndexShardStarted(IndexShard indexShard) {
+        if (isReplicationTarget(indexShard)) {
+            // catch up with the segments that the primary shard refreshed since this replica recovered
+            startReplication(indexShard);
+        }
+    }
+
+    @Override
+    public synchronized void beforeIndexShardClosed(ShardId shardId, @Nullable IndexShard indexShard, Settings indexSettings) {
+        pendingReplications.remove(shardId);
+    }
+
+    /**
+     * Copies the segments of the primary shard of the given replica if the given checkpoint is ahead of the segments that it
+     * copied last.
+     */
+    public void onNewCheckpoint(ReplicationCheckpoint checkpoint, IndexShard indexShard) throws IOException {
+        if (isReplicationTarget(indexShard) && checkpoint.isAheadOf(indexShard.getLatestReplicationCheckpoint())) {
+            startReplication(indexShard);
+        }
+    }
+
+    private static boolean isReplicationTarget(IndexShard indexShard) {
+        return indexShard.indexSettings().isSegRepEnabled()
+            && indexShard.routingEntry().primary() == false
+            && indexShard.state() == IndexShardState.STARTED;
+    }
+
+    private void startReplication(IndexShard indexShard) {
+        final ShardId shardId = indexShard.shardId();
+        synchronized (this) {
+            if (ongoingReplications.add(shardId) == false) {
+                pendingReplications.add(shardId);
+                return;
+            }
+        }
+        threadPool.generic().execute(new AbstractRunnable() {
+            @Override
+            public void onFailure(Exception e) {
+                onReplicationDone(indexShard, e);
+            }
+
+            @Override
+            protected void doRun() {
+                final DiscoveryNode sourceNode = getPrimaryNode(shardId);
+                new SegmentReplicationTarget(indexShard, sourceNode).start(new ActionListener<Void>() {
+                    @Override
+                    public void onResponse(Void aVoid) {
+                        onReplicationDone(indexShard, null);
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        onReplicationDone(indexShard, e);
+                    }
+                });
+            }
+        });
+    }
+
+    private void onReplicationDone(IndexShard indexShard, @Nullable Exception e) {
+        final ShardId shardId = indexShard.shardId();
+        if (e != null) {
+            if (ExceptionsHelper.unwrapCorruption(e) != null || e instanceof DivergedFilesException) {
+                // peer recovery replaces the local files once the shard is closed
+                indexShard.failShard("segment replication failed", e);
+            } else if (indexShard.state() == IndexShardState.STARTED) {
+                // the next checkpoint will trigger another copy
+                logger.warn(new ParameterizedMessage("{} segment replication failed", shardId), e);
+            }
+        }
+        final boolean pending;
+        synchronized (this) {
+            ongoingReplications.remove(shardId);
+            pending = pendingReplications.remove(shardId);
+        }
+        if (pending && isReplicationTarget(indexShard)) {
+            startReplication(indexShard);
+        }
+    }
+
+    private DiscoveryNode getPrimaryNode(ShardId shardId) {
+        final ClusterState state = clusterService.state();
+        final ShardRouting primaryShard = state.routingTable().shardRoutingTable(shardId).primaryShard();
+        final DiscoveryNode primaryNode = primaryShard == null || primaryShard.active() == false
+            ? null : state.nodes().get(primaryShard.currentNodeId());
+        if (primaryNode == null) {
+            throw new IllegalStateException("no active primary shard to copy segments from for shard " + shardId);
+        }
+        return primaryNode;
+    }
+
+    /**
+     * A copy of the latest segments of a primary shard to one of its replicas.
+     */
+    private final class SegmentReplicationTarget {
+
+        private final IndexShard indexShard;
+        private final Store store;
+        private final DiscoveryNode sourceNode;
+        private final String targetAllocationId;
+        private final TransportRequestOptions requestOptions;
+        private ActionListener<Void> listener;
+        // the segments that this replica copied last, whose files are compared with the ones of the primary
+        private Engine.SegmentInfosRef localSegments;
+        private CheckpointInfoResponse checkpointInfo;
+        private MultiFileWriter multiFileWriter;
+        private Iterator<StoreFileMetadata> remainingFiles;
+        private StoreFileMetadata currentFile;
+        private long currentPosition;
+
+        SegmentReplicationTarget(IndexShard indexShard, DiscoveryNode sourceNode) {
+            this.indexShard = indexShard;
+            this.store = indexShard.store();
+            this.sourceNode = sourceNode;
+            this.targetAllocationId = indexShard.routingEntry().allocationId().getId();
+            this.requestOptions = TransportRequestOptions.builder()
+                .withType(TransportRequestOptions.Type.RECOVERY)
+                .withTimeout(recoverySettings.internalActionTimeout())
+                .build();
+        }
+
+        void start(ActionListener<Void> listener) {
+            store.incRef();
+            this.listener = ActionListener.runAfter(listener, this::cleanUp);
+            transportService.sendRequest(sourceNode, SegmentReplicationSourceService.Actions.GET_CHECKPOINT_INFO,
+                new CheckpointInfoRequest(indexShard.shardId(), targetAllocationId, clusterService.localNode()), requestOptions,
+                new ActionListenerResponseHandler<>(ActionListener.wrap(this::onCheckpointInfo, this::onFailure),
+                    CheckpointInfoResponse::new, ThreadPool.Names.GENERIC));
+        }
+
+        private void onCheckpointInfo(CheckpointInfoResponse response) throws IOException {
+            checkpointInfo = response;
+            if (response.getCheckpoint().isAheadOf(indexShard.getLatestReplicationCheckpoint()) == false) {
+                logger.trace("{} already copied segments {}", indexShard.shardId(), response.getCheckpoint());
+                finish();
+                return;
+            }
+            localSegments = indexShard.acquireLatestSegmentInfos();
+            final Store.MetadataSnapshot localSnapshot = store.getSegmentMetadata(localSegments.getSegmentInfos());
+            final List<StoreFileMetadata> filesToFetch = getFilesToFetch(response.getSnapshot(), localSnapshot);
+            logger.trace("{} copying {} files of segments {}", indexShard.shardId(), filesToFetch.size(), response.getCheckpoint());
+
+            final RecoveryState.Index indexState = new RecoveryState.Index();
+            for (StoreFileMetadata file : filesToFetch) {
+                indexState.addFileDetail(file.name(), file.length(), false);
+            }
+            multiFileWriter = new MultiFileWriter(store, indexState, "replication." + UUIDs.randomBase64UUID() + ".", logger, () -> {});
+            remainingFiles = filesToFetch.iterator();
+            fetchNextChunk();
+        }
+
+        /**
+         * Returns the files of the segments of the primary that this replica doesn't have. The copied files never replace
+         * local files, which the readers of older segments may still use, so the copy fails if a local file differs from the
+         * file of the primary with the same name, which happens if another primary wrote the local segments.
+         */
+        private List<StoreFileMetadata> getFilesToFetch(Store.MetadataSnapshot sourceSnapshot,
+                                                        Store.MetadataSnapshot localSnapshot) throws IOException {
+            final Set<String> localFiles = new HashSet<>(Arrays.asList(store.directory().listAll()));
+            final List<StoreFileMetadata> filesToFetch = new ArrayList<>();
+            final List<String> divergedFiles = new ArrayList<>();
+            for (StoreFileMetadata file : sourceSnapshot) {
+                final StoreFileMetadata localFile = localSnapshot.get(file.name());
+                if (localFile != null) {
+                    if (localFile.isSame(file) == false) {
+                        divergedFiles.add(file.name());
+                    }
+                } else if (localFiles.contains(file.name())) {
+                    // a file of older segments, which is reused if it has the same content
+                    if (isSameLocalFile(file) == false) {
+                        divergedFiles.add(file.name());
+                    }
+                } else {
+                    filesToFetch.add(file);
+                }
+            }
+            if (divergedFiles.isEmpty() == false) {
+                throw new DivergedFilesException(indexShard.shardId(), divergedFiles);
+            }
+            return filesToFetch;
+        }
+
+        private boolean isSameLocalFile(StoreFileMetadata file) throws IOException {
+            try (IndexInput input = store.directory().openInput(file.name(), IOContext.READONCE)) {
+                return input.length() == file.length() && Store.digestToString(CodecUtil.retrieveChecksum(input)).equals(file.checksum());
+            } catch (CorruptIndexException e) {
+                // the local file is truncated or has no valid footer
+                return false;
+            }
+        }
+
+        private void fetchNextChunk() throws IOException {
+            if (currentFile == null || currentPosition == currentFile.length()) {
+                if (remainingFiles.hasNext() == false) {
+                    finalizeReplication();
+                    return;
+                }
+                currentFile = remainingFiles.next();
+                currentPosition = 0;
+            }
+            final int length = (int) Math.min(recoverySettings.getChunkSize().getBytes(), currentFile.length() - currentPosition);
+            transportService.sendRequest(sourceNode, SegmentReplicationSourceService.Actions.GET_FILE_CHUNK,
+                new SegmentFileChunkRequest(indexShard.shardId(), targetAllocationId, currentFile.name(), currentPosition, length),
+                requestOptions,
+                new ActionListenerResponseHandler<>(ActionListener.wrap(this::onFileChunk, this::onFailure),
+                    SegmentFileChunkResponse::new, ThreadPool.Names.GENERIC));
+        }
+
+        private void onFileChunk(SegmentFileChunkResponse response) throws IOException {
+            final long position = currentPosition;
+            currentPosition += response.content().length();
+            multiFileWriter.writeFileChunk(currentFile, position, response.content(), currentPosition == currentFile.length());
+            fetchNextChunk();
+        }
+
+        private void finalizeReplication() throws IOException {
+            multiFileWriter.renameAllTempFiles();
+            final ReplicationCheckpoint checkpoint = checkpointInfo.getCheckpoint();
+            final SegmentInfos infos = SegmentInfos.readCommit(store.directory(),
+                new BufferedChecksumIndexInput(new ByteArrayIndexInput("segment infos", checkpointInfo.getInfosBytes())),
+                checkpoint.getSegmentsGen());
+            indexShard.finalizeReplication(infos, checkpoint);
+            logger.trace("{} copied segments {}", indexShard.shardId(), checkpoint);
+            finish();
+        }
+
+        private void finish() {
+            release();
+            listener.onResponse(null);
+        }
+
+        private void onFailure(Exception e) {
+            release();
+            listener.onFailure(e);
+        }
+
+        private void release() {
+            transportService.sendRequest(sourceNode, SegmentReplicationSourceService.Actions.RELEASE_CHECKPOINT,
+                new ReleaseCheckpointRequest(indexShard.shardId(), targetAllocationId), requestOptions,
+                EmptyTransportResponseHandler.INSTANCE_SAME);
+        }
+
+        private void cleanUp() {
+            try {
+                if (multiFileWriter != null) {
+                    // deletes the temporary files of a failed copy
+                    multiFileWriter.close();
+                }
+                IOUtils.close(localSegments);
+            } catch (IOException e) {
+                logger.debug(new ParameterizedMessage("{} failed to release the local segments", indexShard.shardId()), e);
+            } finally {
+                store.decRef();
+            }
+        }
+    }
+
+    /**
+     * Thrown when a replica has files of the same name as the files of the segments of its primary but with a different
+     * content, which it can't replace while they are open, so it recovers from its primary again.
+     */
+    static final class DivergedFilesException extends IllegalStateException {
+        DivergedFilesException(ShardId shardId, List<String> files) {
+            super("shard " + shardId + " has local files that differ from the files of its primary: " + files);
+        }
+    }
+}
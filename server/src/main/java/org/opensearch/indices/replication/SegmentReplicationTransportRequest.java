@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+
+/**
+ * A request that a replica sends to its primary shard to copy its segments, identified by the allocation id of the replica.
+ */
+public abstract class SegmentReplicationTransportRequest extends TransportRequest {
+
+    private final ShardId shardId;
+    private final String targetAllocationId;
+
+    SegmentReplicationTransportRequest(StreamInput in) throws IOException {
+        super(in);
+        shardId = new ShardId(in);
+        targetAllocationId = in.readString();
+    }
+
+    SegmentReplicationTransportRequest(ShardId shardId, String targetAllocationId) {
+        this.shardId = shardId;
+        this.targetAllocationId = targetAllocationId;
+    }
+
+    public ShardId shardId() {
+        return shardId;
+    }
+
+    public String targetAllocationId() {
+        return targetAllocationId;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        shardId.writeTo(out);
+        out.writeString(targetAllocationId);
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication.checkpoint;
+
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.ActiveShardCount;
+import org.opensearch.action.support.replication.ReplicationRequest;
+import org.opensearch.action.support.replication.ReplicationResponse;
+import org.opensearch.action.support.replication.ReplicationTask;
+import org.opensearch.action.support.replication.TransportReplicationAction;
+import org.opensearch.cluster.action.shard.ShardStateAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardClosedException;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.replication.SegmentReplicationTargetService;
+import org.opensearch.node.NodeClosedException;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportException;
+import org.opensearch.transport.TransportResponseHandler;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Replication action that publishes the checkpoint of the latest segments of a primary shard to its replicas, which then copy
+ * these segments when the index uses segment replication. Replicas respond as soon as they are notified, without waiting for
+ * the copy.
+ */
+public class PublishCheckpointAction extends TransportReplicationAction<
+        PublishCheckpointAction.Request,
+        PublishCheckpointAction.Request,
+        ReplicationResponse> {
+
+    public static final String ACTION_NAME = "indices:admin/publishCheckpoint";
+
+    private final SegmentReplicationTargetService replicationService;
+
+    @Inject
+    public PublishCheckpointAction(
+            final Settings settings,
+            final TransportService transportService,
+            final ClusterService clusterService,
+            final IndicesService indicesService,
+            final ThreadPool threadPool,
+            final ShardStateAction shardStateAction,
+            final ActionFilters actionFilters,
+            final SegmentReplicationTargetService targetService) {
+        super(
+                settings,
+                ACTION_NAME,
+                transportService,
+                clusterService,
+                indicesService,
+                threadPool,
+                shardStateAction,
+                actionFilters,
+                Request::new,
+                Request::new,
+                ThreadPool.Names.REFRESH);
+        this.replicationService = targetService;
+    }
+
+    @Override
+    protected void doExecute(Task task, Request request, ActionListener<ReplicationResponse> listener) {
+        assert false : "use PublishCheckpointAction#publish";
+    }
+
+    final void publish(IndexShard indexShard) {
+        final ReplicationCheckpoint checkpoint;
+        try {
+            checkpoint = indexShard.getLatestReplicationCheckpoint();
+        } catch (Exception e) {
+            logger.debug(new ParameterizedMessage("{} failed to read the latest replication checkpoint", indexShard.shardId()), e);
+            return;
+        }
+        final String primaryAllocationId = indexShard.routingEntry().allocationId().getId();
+        final long primaryTerm = indexShard.getPendingPrimaryTerm();
+        final ThreadContext threadContext = threadPool.getThreadContext();
+        try (ThreadContext.StoredContext ignore = threadContext.stashContext()) {
+            // we have to execute under the system context so that if security is enabled the publication is authorized
+            threadContext.markAsSystemContext();
+            final Request request = new Request(checkpoint);
+            final ReplicationTask task = (ReplicationTask) taskManager.register("transport", "segrep_publish_checkpoint", request);
+            transportService.sendChildRequest(clusterService.localNode(), transportPrimaryAction,
+                new ConcreteShardRequest<>(request, primaryAllocationId, primaryTerm),
+                task,
+                transportOptions,
+                new TransportResponseHandler<ReplicationResponse>() {
+                    @Override
+                    public ReplicationResponse read(StreamInput in) throws IOException {
+                        return newResponseInstance(in);
+                    }
+
+                    @Override
+                    public String executor() {
+                        return ThreadPool.Names.SAME;
+                    }
+
+                    @Override
+                    public void handleResponse(ReplicationResponse response) {
+                        task.setPhase("finished");
+                        taskManager.unregister(task);
+                    }
+
+                    @Override
+                    public void handleException(TransportException e) {
+                        task.setPhase("finished");
+                        taskManager.unregister(task);
+                        if (ExceptionsHelper.unwrap(e, NodeClosedException.class) != null) {
+                            // node shutting down
+                            return;
+                        }
+                        if (ExceptionsHelper.unwrap(e,
+                                                    IndexNotFoundException.class,
+                                                    AlreadyClosedException.class,
+                                                    IndexShardClosedException.class) != null) {
+                            // the index was deleted or the shard is closed
+                            return;
+                        }
+                        logger.warn(new ParameterizedMessage("{} segment replication checkpoint publishing failed",
+                            indexShard.shardId()), e);
+                    }
+                });
+        }
+    }
+
+    @Override
+    protected void shardOperationOnPrimary(
+            final Request request,
+            final IndexShard primary, ActionListener<PrimaryResult<Request, ReplicationResponse>> listener) {
+        ActionListener.completeWith(listener, () -> new PrimaryResult<>(request, new ReplicationResponse()));
+    }
+
+    @Override
+    protected void shardOperationOnReplica(Request request, IndexShard replica, ActionListener<ReplicaResult> listener) {
+        ActionListener.completeWith(listener, () -> {
+            Objects.requireNonNull(request);
+            Objects.requireNonNull(replica);
+            replicationService.onNewCheckpoint(request.getCheckpoint(), replica);
+            return new ReplicaResult();
+        });
+    }
+
+    public static final class Request extends ReplicationRequest<Request> {
+
+        private final ReplicationCheckpoint checkpoint;
+
+        public ReplicationCheckpoint getCheckpoint() {
+            return checkpoint;
+        }
+
+        public Request(StreamInput in) throws IOException {
+            super(in);
+            checkpoint = new ReplicationCheckpoint(in);
+        }
+
+        public Request(final ReplicationCheckpoint checkpoint) {
+            super(checkpoint.getShardId());
+            this.checkpoint = checkpoint;
+            waitForActiveShards(ActiveShardCount.NONE);
+        }
+
+        @Override
+        public void writeTo(final StreamOutput out) throws IOException {
+            super.writeTo(Objects.requireNonNull(out));
+            checkpoint.writeTo(out);
+        }
+
+        @Override
+        public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+            return new ReplicationTask(id, type, action, "segrep_publish_checkpoint shardId=" + shardId, parentTaskId, headers);
+        }
+
+        @Override
+        public String toString() {
+            return "PublishCheckpointAction.Request{" +
+                    "checkpoint=" + checkpoint +
+                    ", shardId=" + shardId +
+                    ", timeout=" + timeout +
+                    ", index='" + index + '\'' +
+                    ", waitForActiveShards=" + waitForActiveShards +
+                    '}';
+        }
+    }
+
+    @Override
+    protected ReplicationResponse newResponseInstance(StreamInput in) throws IOException {
+        return new ReplicationResponse(in);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication.checkpoint;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.index.shard.ShardId;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Identifies a point-in-time view of the segments of a primary shard, which its replicas copy when they are using segment
+ * replication.
+ */
+public class ReplicationCheckpoint implements Writeable {
+
+    private final ShardId shardId;
+    private final long primaryTerm;
+    private final long segmentsGen;
+    private final long segmentInfosVersion;
+    private final long seqNo;
+
+    public ReplicationCheckpoint(ShardId shardId, long primaryTerm, long segmentsGen, long segmentInfosVersion, long seqNo) {
+        this.shardId = Objects.requireNonNull(shardId);
+        this.primaryTerm = primaryTerm;
+        this.segmentsGen = segmentsGen;
+        this.segmentInfosVersion = segmentInfosVersion;
+        this.seqNo = seqNo;
+    }
+
+    public ReplicationCheckpoint(StreamInput in) throws IOException {
+        shardId = new ShardId(in);
+        primaryTerm = in.readLong();
+        segmentsGen = in.readLong();
+        segmentInfosVersion = in.readLong();
+        seqNo = in.readZLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        shardId.writeTo(out);
+        out.writeLong(primaryTerm);
+        out.writeLong(segmentsGen);
+        out.writeLong(segmentInfosVersion);
+        out.writeZLong(seqNo);
+    }
+
+    /**
+     * A checkpoint that is behind every checkpoint of the given shard, used by replicas that didn't copy any segments yet.
+     */
+    public static ReplicationCheckpoint empty(ShardId shardId) {
+        return new ReplicationCheckpoint(shardId, 0, 0, 0, SequenceNumbers.NO_OPS_PERFORMED);
+    }
+
+    public ShardId getShardId() {
+        return shardId;
+    }
+
+    /**
+     * The primary term of the primary shard that the segments were copied from.
+     */
+    public long getPrimaryTerm() {
+        return primaryTerm;
+    }
+
+    /**
+     * The generation of the last commit of the primary shard when the segments were refreshed.
+     */
+    public long getSegmentsGen() {
+        return segmentsGen;
+    }
+
+    /**
+     * The version of the segment infos, which increases with every change of the segments of a primary shard.
+     */
+    public long getSegmentInfosVersion() {
+        return segmentInfosVersion;
+    }
+
+    /**
+     * All the operations up to this sequence number are included in the segments.
+     */
+    public long getSeqNo() {
+        return seqNo;
+    }
+
+    /**
+     * Returns <code>true</code> if this checkpoint is more recent than the given one, meaning that it was created by a
+     * primary shard with a higher primary term, or by the same primary shard after more changes.
+     */
+    public boolean isAheadOf(@Nullable ReplicationCheckpoint other) {
+        return other == null
+            || primaryTerm > other.primaryTerm
+            || (primaryTerm == other.primaryTerm && segmentInfosVersion > other.segmentInfosVersion);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReplicationCheckpoint that = (ReplicationCheckpoint) o;
+        return primaryTerm == that.primaryTerm
+            && segmentsGen == that.segmentsGen
+            && segmentInfosVersion == that.segmentInfosVersion
+            && seqNo == that.seqNo
+            && shardId.equals(that.shardId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(shardId, primaryTerm, segmentsGen, segmentInfosVersion, seqNo);
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicationCheckpoint{" +
+            "shardId=" + shardId +
+            ", primaryTerm=" + primaryTerm +
+            ", segmentsGen=" + segmentsGen +
+            ", segmentInfosVersion=" + segmentInfosVersion +
+            ", seqNo=" + seqNo +
+            '}';
+    }
+}
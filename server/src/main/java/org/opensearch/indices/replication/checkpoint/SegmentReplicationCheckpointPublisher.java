@@ -0,0 +1,45 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication.checkpoint;
+
+import org.opensearch.common.inject.Inject;
+import org.opensearch.index.shard.IndexShard;
+
+import java.util.Objects;
+
+/**
+ * Publishes the checkpoint of the latest segments of a primary shard to its replicas, which copy these segments when the
+ * index uses segment replication.
+ */
+public class SegmentReplicationCheckpointPublisher {
+
+    private final PublishAction publishAction;
+
+    @Inject
+    public SegmentReplicationCheckpointPublisher(PublishCheckpointAction publishAction) {
+        this(publishAction::publish);
+    }
+
+    public SegmentReplicationCheckpointPublisher(PublishAction publishAction) {
+        this.publishAction = Objects.requireNonNull(publishAction);
+    }
+
+    public static final SegmentReplicationCheckpointPublisher EMPTY = new SegmentReplicationCheckpointPublisher(indexShard -> {});
+
+    public void publish(IndexShard indexShard) {
+        publishAction.publish(indexShard);
+    }
+
+    /**
+     * Represents an action that is invoked to publish the latest checkpoint of a primary shard to its replicas.
+     */
+    public interface PublishAction {
+        void publish(IndexShard indexShard);
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication.common;
+
+import java.util.Locale;
+
+/**
+ * The way the operations that are indexed on a primary shard are replicated to its replicas.
+ */
+public enum ReplicationType {
+
+    /**
+     * Every operation is sent to the replicas, which index it like the primary did.
+     */
+    DOCUMENT,
+
+    /**
+     * Operations are only indexed on the primary and written to the translog of the replicas, which copy the
+     * Lucene segments of the primary after every refresh instead.
+     */
+    SEGMENT;
+
+    public static ReplicationType parseString(String replicationType) {
+        try {
+            return ReplicationType.valueOf(replicationType.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown replication type [" + replicationType + "], must be one of "
+                + "[document, segment]", e);
+        }
+    }
+}
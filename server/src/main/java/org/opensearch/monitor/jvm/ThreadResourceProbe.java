@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.monitor.jvm;
+
+import org.opensearch.common.SuppressForbidden;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures the CPU time and the heap allocated by the threads of the JVM, which can be measured while the threads run.
+ */
+@SuppressForbidden(reason = "the heap allocated by a thread is only exposed by com.sun.management.ThreadMXBean")
+public class ThreadResourceProbe {
+
+    private static final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    /**
+     * The bean that measures the heap allocated by the threads, or null if the JVM doesn't support it.
+     */
+    private static final com.sun.management.ThreadMXBean allocatedBytesMXBean;
+    private static final boolean threadCpuTimeSupported;
+
+    static {
+        allocatedBytesMXBean = getAllocatedBytesMXBean();
+        threadCpuTimeSupported = isThreadCpuTimeSupported();
+    }
+
+    private static class ThreadResourceProbeHolder {
+        private static final ThreadResourceProbe INSTANCE = new ThreadResourceProbe();
+    }
+
+    public static ThreadResourceProbe getInstance() {
+        return ThreadResourceProbeHolder.INSTANCE;
+    }
+
+    private ThreadResourceProbe() {
+    }
+
+    /**
+     * Returns the CPU time (in nanoseconds) used by the thread with the given id, or -1 if not supported or the thread isn't alive.
+     */
+    public long getThreadCpuTime(long threadId) {
+        if (threadCpuTimeSupported == false) {
+            return -1;
+        }
+        try {
+            return threadMXBean.getThreadCpuTime(threadId);
+        } catch (Exception t) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the CPU time (in nanoseconds) used by the current thread, or -1 if not supported.
+     */
+    public long getCurrentThreadCpuTime() {
+        if (threadCpuTimeSupported == false) {
+            return -1;
+        }
+        try {
+            return threadMXBean.getCurrentThreadCpuTime();
+        } catch (Exception t) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the bytes allocated on the heap by the thread with the given id, or -1 if not supported or the thread isn't alive.
+     */
+    public long getThreadAllocatedBytes(long threadId) {
+        if (allocatedBytesMXBean == null) {
+            return -1;
+        }
+        try {
+            return allocatedBytesMXBean.getThreadAllocatedBytes(threadId);
+        } catch (Exception t) {
+            return -1;
+        }
+    }
+
+    /**
+     * Returns the bytes allocated on the heap by the current thread, or -1 if not supported.
+     */
+    public long getCurrentThreadAllocatedBytes() {
+        // the bean only has a variant for the current thread from Java 14 on
+        return getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static boolean isThreadCpuTimeSupported() {
+        try {
+            return threadMXBean.isThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+        } catch (Exception t) {
+            return false;
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean getAllocatedBytesMXBean() {
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean == false) {
+            return null;
+        }
+        final com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threadMXBean;
+        try {
+            return bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled() ? bean : null;
+        } catch (Exception t) {
+            return null;
+        }
+    }
+}
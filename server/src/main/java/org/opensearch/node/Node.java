@@ -123,6 +123,8 @@ import org.opensearch.index.IndexSettings;
 import org.opensearch.index.IndexingPressure;
 import org.opensearch.index.analysis.AnalysisRegistry;
 import org.opensearch.index.engine.EngineFactory;
+import org.opensearch.index.store.snapshot.BlockCache;
+import org.opensearch.index.store.snapshot.SnapshotDirectoryFactory;
 import org.opensearch.indices.IndicesModule;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.ShardLimitValidator;
@@ -137,6 +139,8 @@ import org.opensearch.indices.cluster.IndicesClusterStateService;
 import org.opensearch.indices.recovery.PeerRecoverySourceService;
 import org.opensearch.indices.recovery.PeerRecoveryTargetService;
 import org.opensearch.indices.recovery.RecoverySettings;
+import org.opensearch.indices.replication.SegmentReplicationSourceService;
+import org.opensearch.indices.replication.SegmentReplicationTargetService;
 import org.opensearch.indices.store.IndicesStore;
 import org.opensearch.ingest.IngestService;
 import org.opensearch.monitor.MonitorService;
@@ -174,6 +178,7 @@ import org.opensearch.script.ScriptService;
 import org.opensearch.search.SearchModule;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.aggregations.support.AggregationUsageService;
+import org.opensearch.search.backpressure.SearchBackpressureService;
 import org.opensearch.search.fetch.FetchPhase;
 import org.opensearch.snapshots.InternalSnapshotsInfoService;
 import org.opensearch.snapshots.RestoreService;
@@ -508,6 +513,14 @@ public class Node implements Closeable {
                             .map(IndexStorePlugin::getDirectoryFactories)
                             .flatMap(m -> m.entrySet().stream())
                             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            // the snapshots of blob store repositories can be mounted as read-only indices with the snapshot store type
+            final BlockCache blockCache = BlockCache.create(settings, nodeEnvironment);
+            resourcesToClose.add(blockCache);
+            final IndexStorePlugin.DirectoryFactory snapshotDirectoryFactory = new SnapshotDirectoryFactory(
+                repositoriesServiceReference::get, blockCache);
+            if (indexStoreFactories.putIfAbsent(SnapshotDirectoryFactory.STORE_TYPE, snapshotDirectoryFactory) != null) {
+                throw new IllegalStateException("store type [" + SnapshotDirectoryFactory.STORE_TYPE + "] is already registered");
+            }
 
             final Map<String, IndexStorePlugin.RecoveryStateFactory> recoveryStateFactories =
                 pluginsService.filterPlugins(IndexStorePlugin.class)
@@ -600,6 +613,8 @@ public class Node implements Closeable {
                 SearchExecutionStatsCollector.makeWrapper(responseCollectorService));
             final HttpServerTransport httpServerTransport = newHttpTransport(networkModule);
             final IndexingPressure indexingLimits = new IndexingPressure(settings);
+            final SearchBackpressureService searchBackpressureService = new SearchBackpressureService(settings,
+                clusterService.getClusterSettings(), threadPool, transportService.getTaskManager());
 
             final RecoverySettings recoverySettings = new RecoverySettings(settings, settingsModule.getClusterSettings());
             RepositoriesModule repositoriesModule = new RepositoriesModule(this.environment,
@@ -628,7 +643,8 @@ public class Node implements Closeable {
             this.nodeService = new NodeService(settings, threadPool, monitorService, discoveryModule.getDiscovery(),
                 transportService, indicesService, pluginsService, circuitBreakerService, scriptService,
                 httpServerTransport, ingestService, clusterService, settingsModule.getSettingsFilter(), responseCollectorService,
-                searchTransportService, indexingLimits, searchModule.getValuesSourceRegistry().getUsageService());
+                searchTransportService, indexingLimits, searchModule.getValuesSourceRegistry().getUsageService(),
+                searchBackpressureService);
 
             final SearchService searchService = newSearchService(clusterService, indicesService,
                 threadPool, scriptService, bigArrays, searchModule.getFetchPhase(),
@@ -694,6 +710,10 @@ public class Node implements Closeable {
                                 indicesService, recoverySettings));
                         b.bind(PeerRecoveryTargetService.class).toInstance(new PeerRecoveryTargetService(threadPool,
                                 transportService, recoverySettings, clusterService));
+                        b.bind(SegmentReplicationSourceService.class).toInstance(new SegmentReplicationSourceService(
+                                transportService, indicesService, clusterService, recoverySettings));
+                        b.bind(SegmentReplicationTargetService.class).toInstance(new SegmentReplicationTargetService(threadPool,
+                                transportService, clusterService, recoverySettings));
                     }
                     b.bind(HttpServerTransport.class).toInstance(httpServerTransport);
                     pluginComponents.stream().forEach(p -> b.bind((Class) p.getClass()).toInstance(p));
@@ -708,6 +728,8 @@ public class Node implements Closeable {
                     b.bind(RerouteService.class).toInstance(rerouteService);
                     b.bind(ShardLimitValidator.class).toInstance(shardLimitValidator);
                     b.bind(FsHealthService.class).toInstance(fsHealthService);
+                    b.bind(SearchBackpressureService.class).toInstance(searchBackpressureService);
+                    b.bind(BlockCache.class).toInstance(blockCache);
                     b.bind(SystemIndices.class).toInstance(systemIndices);
                 }
             );
@@ -804,6 +826,7 @@ public class Node implements Closeable {
         injector.getInstance(RepositoriesService.class).start();
         injector.getInstance(SearchService.class).start();
         injector.getInstance(FsHealthService.class).start();
+        injector.getInstance(SearchBackpressureService.class).start();
         nodeService.getMonitorService().start();
 
         final ClusterService clusterService = injector.getInstance(ClusterService.class);
@@ -941,6 +964,7 @@ public class Node implements Closeable {
         injector.getInstance(ClusterService.class).stop();
         injector.getInstance(NodeConnectionsService.class).stop();
         injector.getInstance(FsHealthService.class).stop();
+        injector.getInstance(SearchBackpressureService.class).stop();
         nodeService.getMonitorService().stop();
         injector.getInstance(GatewayService.class).stop();
         injector.getInstance(SearchService.class).stop();
@@ -987,6 +1011,8 @@ public class Node implements Closeable {
         toClose.add(injector.getInstance(IndicesClusterStateService.class));
         toClose.add(() -> stopWatch.stop().start("indices"));
         toClose.add(injector.getInstance(IndicesService.class));
+        // the cached blocks are closed once the shards of the mounted indices are closed
+        toClose.add(injector.getInstance(BlockCache.class));
         // close filter/fielddata caches after indices
         toClose.add(injector.getInstance(IndicesStore.class));
         toClose.add(injector.getInstance(PeerRecoverySourceService.class));
@@ -1000,6 +1026,8 @@ public class Node implements Closeable {
         toClose.add(nodeService.getMonitorService());
         toClose.add(() -> stopWatch.stop().start("fsHealth"));
         toClose.add(injector.getInstance(FsHealthService.class));
+        toClose.add(() -> stopWatch.stop().start("search_backpressure"));
+        toClose.add(injector.getInstance(SearchBackpressureService.class));
         toClose.add(() -> stopWatch.stop().start("gateway"));
         toClose.add(injector.getInstance(GatewayService.class));
         toClose.add(() -> stopWatch.stop().start("search"));
@@ -32,6 +32,8 @@
 
 package org.opensearch.node;
 
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
 import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterStateListener;
 import org.opensearch.cluster.node.DiscoveryNode;
@@ -47,7 +49,9 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Collects statistics about queue size, response time, and service time of
@@ -60,6 +64,16 @@ public final class ResponseCollectorService implements ClusterStateListener {
 
     private final ConcurrentMap<String, NodeStatistics> nodeIdToStats = ConcurrentCollections.newConcurrentMap();
 
+    /**
+     * The number of search response times that the percentiles of {@link #getResponseTimePercentile(double)} are computed from.
+     */
+    static final int RESPONSE_TIME_WINDOW = 1000;
+
+    private final Recorder responseTimeRecorder = new Recorder(2);
+    private final AtomicInteger responseTimesInWindow = new AtomicInteger();
+    // the response times of the last complete window, guarded by this
+    private Histogram lastResponseTimeWindow;
+
     public ResponseCollectorService(ClusterService clusterService) {
         clusterService.addListener(this);
     }
@@ -92,6 +106,30 @@ public final class ResponseCollectorService implements ClusterStateListener {
         });
     }
 
+    /**
+     * Records the time it took to receive the response of a shard level search request, regardless of the node it was sent to.
+     */
+    public void addResponseTime(long responseTimeNanos) {
+        responseTimeRecorder.recordValue(Math.max(0L, responseTimeNanos));
+        if (responseTimesInWindow.incrementAndGet() == RESPONSE_TIME_WINDOW) {
+            synchronized (this) {
+                lastResponseTimeWindow = responseTimeRecorder.getIntervalHistogram();
+            }
+            responseTimesInWindow.addAndGet(-RESPONSE_TIME_WINDOW);
+        }
+    }
+
+    /**
+     * Returns the given percentile of the response times of the last {@link #RESPONSE_TIME_WINDOW} shard level search requests, in
+     * nanoseconds, or an empty optional if not enough response times were recorded yet.
+     */
+    public synchronized OptionalLong getResponseTimePercentile(double percentile) {
+        if (lastResponseTimeWindow == null) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(lastResponseTimeWindow.getValueAtPercentile(percentile));
+    }
+
     public Map<String, ComputedNodeStats> getAllNodeStatistics() {
         final int clientNum = nodeIdToStats.size();
         // Transform the mutable object internally used for accounting into the computed version
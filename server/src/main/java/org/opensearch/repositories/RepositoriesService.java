@@ -62,6 +62,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.store.snapshot.SnapshotDirectoryFactory;
 import org.opensearch.repositories.blobstore.MeteredBlobStoreRepository;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
@@ -247,6 +248,7 @@ public class RepositoriesService extends AbstractLifecycleComponent implements C
                         for (RepositoryMetadata repositoryMetadata : repositories.repositories()) {
                             if (Regex.simpleMatch(request.name(), repositoryMetadata.name())) {
                                 ensureRepositoryNotInUse(currentState, repositoryMetadata.name());
+                                ensureRepositoryNotMounted(currentState, repositoryMetadata.name());
                                 logger.info("delete repository [{}]", repositoryMetadata.name());
                                 changed = true;
                             } else {
@@ -539,6 +541,14 @@ public class RepositoriesService extends AbstractLifecycleComponent implements C
         }
     }
 
+    private static void ensureRepositoryNotMounted(ClusterState clusterState, String repository) {
+        final Set<String> mountedIndices = SnapshotDirectoryFactory.mountedIndices(clusterState.metadata(), repository, null);
+        if (mountedIndices.isEmpty() == false) {
+            throw new IllegalStateException("trying to unregister repository [" + repository + "] that indices " + mountedIndices
+                + " are mounted from");
+        }
+    }
+
     /**
      * Checks if a repository is currently in use by one of the snapshots
      *
@@ -0,0 +1,66 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest;
+
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.util.BigArrays;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * A response whose content is encoded chunk by chunk while it is sent, when the http layer supports it. Otherwise its content is
+ * encoded at once, like the content of a {@link BytesRestResponse}.
+ */
+public class ChunkedRestResponse extends RestResponse {
+
+    private final RestStatus status;
+    private final ChunkedRestResponseBody body;
+    private BytesReference content;
+
+    public ChunkedRestResponse(RestStatus status, ChunkedRestResponseBody body) {
+        this.status = status;
+        this.body = body;
+    }
+
+    /**
+     * Returns the body of this response, to encode it chunk by chunk. The body can only be encoded once, so this must not be
+     * called once {@link #content()} was called.
+     */
+    public ChunkedRestResponseBody chunkedContent() {
+        assert content == null : "the content of the response was encoded already";
+        return body;
+    }
+
+    @Override
+    public String contentType() {
+        return body.getResponseContentTypeString();
+    }
+
+    /**
+     * Encodes the whole body of this response, for the channels that can't send it chunk by chunk.
+     */
+    @Override
+    public synchronized BytesReference content() {
+        if (content == null) {
+            try {
+                content = body.encodeChunk(Integer.MAX_VALUE, BigArrays.NON_RECYCLING_INSTANCE);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            assert body.isDone();
+        }
+        return content;
+    }
+
+    @Override
+    public RestStatus status() {
+        return status;
+    }
+}
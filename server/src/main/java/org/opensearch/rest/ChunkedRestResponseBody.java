@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest;
+
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.xcontent.ToXContent;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+/**
+ * The body of a {@link ChunkedRestResponse}, which is encoded chunk by chunk while it is written to the channel, so that the
+ * whole response never needs to be held in memory at once.
+ */
+public interface ChunkedRestResponseBody {
+
+    /**
+     * The size of the chunks that the http layer encodes, which is only a hint: a chunk can be larger.
+     */
+    int CHUNK_SIZE_HINT = 256 * 1024;
+
+    /**
+     * @return true once the whole body has been encoded
+     */
+    boolean isDone();
+
+    /**
+     * Encodes the next chunk of this body, until it is about <code>sizeHint</code> bytes long, in pages from the given
+     * {@link BigArrays}. The caller must release the returned chunk once it has been written.
+     */
+    ReleasableBytesReference encodeChunk(int sizeHint, BigArrays bigArrays) throws IOException;
+
+    /**
+     * @return the content type of the response
+     */
+    String getResponseContentTypeString();
+
+    /**
+     * Creates a body that renders the given chunks of xcontent one after another, with a builder from the given channel.
+     */
+    static ChunkedRestResponseBody fromXContent(Iterator<? extends ToXContent> chunks, ToXContent.Params params, RestChannel channel)
+        throws IOException {
+        return new ChunkedRestResponseBody() {
+
+            // the stream that the builder writes to, which is redirected to the output of the chunk that is encoded
+            private final ChunkOutputStream chunkStream = new ChunkOutputStream();
+            private final XContentBuilder builder = channel.newBuilder(channel.request().getXContentType(), null, true, chunkStream);
+
+            @Override
+            public boolean isDone() {
+                return chunks.hasNext() == false;
+            }
+
+            @Override
+            public ReleasableBytesReference encodeChunk(int sizeHint, BigArrays bigArrays) throws IOException {
+                final ReleasableBytesStreamOutput chunk = new ReleasableBytesStreamOutput(bigArrays);
+                boolean success = false;
+                chunkStream.target = chunk;
+                try {
+                    while (chunks.hasNext() && chunk.size() < sizeHint) {
+                        chunks.next().toXContent(builder, params);
+                        builder.flush();
+                    }
+                    if (chunks.hasNext() == false) {
+                        builder.close();
+                    }
+                    final ReleasableBytesReference result = new ReleasableBytesReference(chunk.bytes(), chunk);
+                    success = true;
+                    return result;
+                } finally {
+                    chunkStream.target = null;
+                    if (success == false) {
+                        chunk.close();
+                    }
+                }
+            }
+
+            @Override
+            public String getResponseContentTypeString() {
+                return builder.contentType().mediaType();
+            }
+        };
+    }
+
+    /**
+     * An output stream that writes to the output of the current chunk, and that is never closed.
+     */
+    final class ChunkOutputStream extends OutputStream {
+
+        private OutputStream target;
+
+        @Override
+        public void write(int b) throws IOException {
+            target.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            target.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (target != null) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public void close() {
+            // the chunks are released by the http layer
+        }
+    }
+}
@@ -35,9 +35,11 @@ package org.opensearch.rest;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentType;
 
 import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * A channel used to construct bytes / builder based outputs, and send responses.
@@ -53,6 +55,22 @@ public interface RestChannel {
     XContentBuilder newBuilder(@Nullable XContentType xContentType, @Nullable XContentType responseContentType,
             boolean useFiltering) throws IOException;
 
+    /**
+     * Creates a new {@link XContentBuilder} like {@link #newBuilder(XContentType, XContentType, boolean)}, but that writes to the
+     * given stream rather than to the {@link #bytesOutput()} of this channel.
+     * <p>
+     * The default implementation only picks the content type of the builder, and ignores the formatting parameters of the request
+     * like {@code pretty} or {@code filter_path}, which {@link AbstractRestChannel} applies.
+     */
+    default XContentBuilder newBuilder(@Nullable XContentType xContentType, @Nullable XContentType responseContentType,
+            boolean useFiltering, OutputStream outputStream) throws IOException {
+        XContentType contentType = responseContentType != null ? responseContentType : xContentType;
+        if (contentType == null) {
+            contentType = XContentType.JSON;
+        }
+        return new XContentBuilder(XContentFactory.xContent(contentType), outputStream);
+    }
+
     BytesStreamOutput bytesOutput();
 
     RestRequest request();
@@ -0,0 +1,62 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.search;
+
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.action.search.BackgroundSearchResults;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.rest.action.RestActionListener;
+import org.opensearch.tasks.TaskId;
+
+import java.io.IOException;
+import java.util.List;
+
+import static java.util.Collections.singletonList;
+import static org.opensearch.rest.RestRequest.Method.DELETE;
+
+/**
+ * Deletes a search that was sent with {@code wait_for_completion=false}: cancels it if it is still running, and deletes its
+ * response from the tasks index.
+ */
+public class RestDeleteBackgroundSearchAction extends BaseRestHandler {
+
+    @Override
+    public String getName() {
+        return "delete_background_search";
+    }
+
+    @Override
+    public List<Route> routes() {
+        return singletonList(new Route(DELETE, "/_search/background/{task_id}"));
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient client) throws IOException {
+        final TaskId taskId = new TaskId(request.param("task_id"));
+        return channel -> new BackgroundSearchResults(client).delete(taskId, new RestActionListener<Boolean>(channel) {
+            @Override
+            protected void processResponse(Boolean found) throws IOException {
+                if (found == false) {
+                    throw new ResourceNotFoundException("background search [{}] is not found", taskId);
+                }
+                try (XContentBuilder builder = channel.newBuilder()) {
+                    builder.startObject();
+                    builder.field("acknowledged", true);
+                    builder.endObject();
+                    channel.sendResponse(new BytesRestResponse(RestStatus.OK, builder));
+                }
+            }
+        });
+    }
+}
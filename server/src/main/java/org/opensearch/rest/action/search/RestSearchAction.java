@@ -34,22 +34,31 @@ package org.opensearch.rest.action.search;
 
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.search.BackgroundSearchResults;
 import org.opensearch.action.search.SearchAction;
 import org.opensearch.action.search.SearchContextId;
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.client.node.NodeClient;
 import org.opensearch.common.Booleans;
 import org.opensearch.common.Strings;
 import org.opensearch.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.common.logging.DeprecationLogger;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.ChunkedRestResponse;
+import org.opensearch.rest.ChunkedRestResponseBody;
 import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.rest.RestStatus;
 import org.opensearch.rest.action.RestActions;
 import org.opensearch.rest.action.RestCancellableNodeClient;
-import org.opensearch.rest.action.RestStatusToXContentListener;
+import org.opensearch.rest.action.RestResponseListener;
 import org.opensearch.search.Scroll;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.fetch.StoredFieldsContext;
@@ -58,6 +67,7 @@ import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.sort.SortOrder;
 import org.opensearch.search.suggest.SuggestBuilder;
 import org.opensearch.search.suggest.term.TermSuggestionBuilder.SuggestMode;
+import org.opensearch.tasks.Task;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -129,9 +139,36 @@ public class RestSearchAction extends BaseRestHandler {
         request.withContentOrSourceParamParserOrNull(parser ->
             parseSearchRequest(searchRequest, request, parser, client.getNamedWriteableRegistry(), setSize));
 
+        if (request.paramAsBoolean("wait_for_completion", true) == false) {
+            /*
+             * The search runs in the background, independently of the http channel, and its response is stored in the tasks
+             * index once it completed. Its progress and partial results can be retrieved in the meantime with the tasks API,
+             * until its keep alive elapses.
+             */
+            final TimeValue keepAlive = request.paramAsTime("keep_alive", BackgroundSearchResults.DEFAULT_KEEP_ALIVE);
+            return channel -> {
+                Task task = new BackgroundSearchResults(client).execute(searchRequest, keepAlive);
+                try (XContentBuilder builder = channel.newBuilder()) {
+                    builder.startObject();
+                    builder.field("task", client.getLocalNodeId() + ":" + task.getId());
+                    builder.endObject();
+                    channel.sendResponse(new BytesRestResponse(RestStatus.OK, builder));
+                }
+            };
+        }
+
         return channel -> {
             RestCancellableNodeClient cancelClient = new RestCancellableNodeClient(client, request.getHttpChannel());
-            cancelClient.execute(SearchAction.INSTANCE, searchRequest, new RestStatusToXContentListener<>(channel));
+            cancelClient.execute(SearchAction.INSTANCE, searchRequest, new RestResponseListener<SearchResponse>(channel) {
+                @Override
+                public RestResponse buildResponse(SearchResponse response) throws Exception {
+                    // the hits are serialized chunk by chunk while the response is sent, rather than all at once
+                    return new ChunkedRestResponse(
+                        response.status(),
+                        ChunkedRestResponseBody.fromXContent(response.toXContentChunks(), channel.request(), channel)
+                    );
+                }
+            });
         };
     }
 
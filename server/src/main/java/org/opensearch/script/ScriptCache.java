@@ -36,8 +36,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.breaker.CircuitBreakingException;
-import org.opensearch.common.cache.Cache;
 import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.ICache;
 import org.opensearch.common.cache.RemovalListener;
 import org.opensearch.common.cache.RemovalNotification;
 import org.opensearch.common.collect.Tuple;
@@ -57,7 +57,7 @@ public class ScriptCache {
 
     public static final CompilationRate UNLIMITED_COMPILATION_RATE = new CompilationRate(0, TimeValue.ZERO);
 
-    private final Cache<CacheKey, Object> cache;
+    private final ICache<CacheKey, Object> cache;
     private final ScriptMetrics scriptMetrics;
     final AtomicReference<TokenBucketState> tokenBucketState;
 
@@ -73,12 +73,22 @@ public class ScriptCache {
             TimeValue cacheExpire,
             CompilationRate maxCompilationRate,
             String contextRateSetting
+    ) {
+        this(cacheMaxSize, cacheExpire, maxCompilationRate, contextRateSetting, ICache.EvictionPolicy.LRU);
+    }
+
+    ScriptCache(
+            int cacheMaxSize,
+            TimeValue cacheExpire,
+            CompilationRate maxCompilationRate,
+            String contextRateSetting,
+            ICache.EvictionPolicy evictionPolicy
     ) {
         this.cacheSize = cacheMaxSize;
         this.cacheExpire = cacheExpire;
         this.contextRateSetting = contextRateSetting;
 
-        CacheBuilder<CacheKey, Object> cacheBuilder = CacheBuilder.builder();
+        CacheBuilder<CacheKey, Object> cacheBuilder = CacheBuilder.<CacheKey, Object>builder();
         if (this.cacheSize >= 0) {
             cacheBuilder.setMaximumWeight(this.cacheSize);
         }
@@ -87,8 +97,9 @@ public class ScriptCache {
             cacheBuilder.setExpireAfterAccess(this.cacheExpire);
         }
 
-        logger.debug("using script cache with max_size [{}], expire [{}]", this.cacheSize, this.cacheExpire);
-        this.cache = cacheBuilder.removalListener(new ScriptCacheRemovalListener()).build();
+        logger.debug("using script cache with max_size [{}], expire [{}], eviction policy [{}]", this.cacheSize, this.cacheExpire,
+            evictionPolicy);
+        this.cache = cacheBuilder.removalListener(new ScriptCacheRemovalListener()).build(evictionPolicy);
 
         this.rate = maxCompilationRate;
         this.compilesAllowedPerNano = ((double) rate.count) / rate.time.nanos();
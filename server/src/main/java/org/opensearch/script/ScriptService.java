@@ -47,6 +47,7 @@ import org.opensearch.cluster.ClusterStateApplier;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Strings;
+import org.opensearch.common.cache.ICache;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
@@ -86,6 +87,9 @@ public class ScriptService implements Closeable, ClusterStateApplier {
         Setting.intSetting("script.cache.max_size", 100, 0, Property.NodeScope, Property.Deprecated);
     public static final Setting<TimeValue> SCRIPT_GENERAL_CACHE_EXPIRE_SETTING =
         Setting.positiveTimeSetting("script.cache.expire", TimeValue.timeValueMillis(0), Property.NodeScope, Property.Deprecated);
+    public static final Setting<ICache.EvictionPolicy> SCRIPT_CACHE_EVICTION_POLICY_SETTING =
+        new Setting<>("script.cache.eviction_policy", ICache.EvictionPolicy.LRU.toString(), ICache.EvictionPolicy::parse,
+            Property.NodeScope);
     public static final Setting<Integer> SCRIPT_MAX_SIZE_IN_BYTES =
         Setting.intSetting("script.max_size_in_bytes", 65535, 0, Property.Dynamic, Property.NodeScope);
     public static final Setting<ScriptCache.CompilationRate> SCRIPT_GENERAL_MAX_COMPILATIONS_RATE_SETTING =
@@ -136,6 +140,7 @@ public class ScriptService implements Closeable, ClusterStateApplier {
 
     private final Map<String, ScriptEngine> engines;
     private final Map<String, ScriptContext<?>> contexts;
+    private final ICache.EvictionPolicy cacheEvictionPolicy;
 
     private ClusterState clusterState;
 
@@ -147,6 +152,7 @@ public class ScriptService implements Closeable, ClusterStateApplier {
     public ScriptService(Settings settings, Map<String, ScriptEngine> engines, Map<String, ScriptContext<?>> contexts) {
         this.engines = Objects.requireNonNull(engines);
         this.contexts = Objects.requireNonNull(contexts);
+        this.cacheEvictionPolicy = SCRIPT_CACHE_EVICTION_POLICY_SETTING.get(settings);
 
         if (Strings.hasLength(settings.get(DISABLE_DYNAMIC_SCRIPTING_SETTING))) {
             throw new IllegalArgumentException(DISABLE_DYNAMIC_SCRIPTING_SETTING + " is not a supported setting, replace with " +
@@ -599,7 +605,8 @@ public class ScriptService implements Closeable, ClusterStateApplier {
 
     CacheHolder generalCacheHolder(Settings settings) {
         return new CacheHolder(SCRIPT_GENERAL_CACHE_SIZE_SETTING.get(settings), SCRIPT_GENERAL_CACHE_EXPIRE_SETTING.get(settings),
-            SCRIPT_GENERAL_MAX_COMPILATIONS_RATE_SETTING.get(settings), SCRIPT_GENERAL_MAX_COMPILATIONS_RATE_SETTING.getKey());
+            SCRIPT_GENERAL_MAX_COMPILATIONS_RATE_SETTING.get(settings), SCRIPT_GENERAL_MAX_COMPILATIONS_RATE_SETTING.getKey(),
+            cacheEvictionPolicy);
     }
 
     CacheHolder contextCacheHolder(Settings settings) {
@@ -627,7 +634,7 @@ public class ScriptService implements Closeable, ClusterStateApplier {
             rate = new ScriptCache.CompilationRate(context.maxCompilationRateDefault);
         }
 
-        return new ScriptCache(cacheSize, cacheExpire, rate, rateSetting.getKey());
+        return new ScriptCache(cacheSize, cacheExpire, rate, rateSetting.getKey(), cacheEvictionPolicy);
     }
 
     /**
@@ -639,9 +646,10 @@ public class ScriptService implements Closeable, ClusterStateApplier {
         final ScriptCache general;
         final Map<String, AtomicReference<ScriptCache>> contextCache;
 
-        CacheHolder(int cacheMaxSize, TimeValue cacheExpire, ScriptCache.CompilationRate maxCompilationRate, String contextRateSetting) {
+        CacheHolder(int cacheMaxSize, TimeValue cacheExpire, ScriptCache.CompilationRate maxCompilationRate, String contextRateSetting,
+                    ICache.EvictionPolicy evictionPolicy) {
             contextCache = null;
-            general = new ScriptCache(cacheMaxSize, cacheExpire, maxCompilationRate, contextRateSetting);
+            general = new ScriptCache(cacheMaxSize, cacheExpire, maxCompilationRate, contextRateSetting, evictionPolicy);
         }
 
         CacheHolder(Map<String, ScriptCache> context) {
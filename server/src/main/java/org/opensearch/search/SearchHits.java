@@ -208,6 +208,17 @@ public final class SearchHits implements Writeable, ToXContentFragment, Iterable
 
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        startHitsXContent(builder, params);
+        for (SearchHit hit : hits) {
+            hit.toXContent(builder, params);
+        }
+        return endHitsXContent(builder);
+    }
+
+    /**
+     * Renders the start of these hits, up to the start of the array of hits, to render the hits one by one.
+     */
+    public XContentBuilder startHitsXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject(Fields.HITS);
         boolean totalHitAsInt = params.paramAsBoolean(RestSearchAction.TOTAL_HITS_AS_INT_PARAM, false);
         if (totalHitAsInt) {
@@ -226,9 +237,13 @@ public final class SearchHits implements Writeable, ToXContentFragment, Iterable
         }
         builder.field(Fields.HITS);
         builder.startArray();
-        for (SearchHit hit : hits) {
-            hit.toXContent(builder, params);
-        }
+        return builder;
+    }
+
+    /**
+     * Renders the end of these hits, after the array of hits, see {@link #startHitsXContent(XContentBuilder, Params)}.
+     */
+    public XContentBuilder endHitsXContent(XContentBuilder builder) throws IOException {
         builder.endArray();
         builder.endObject();
         return builder;
@@ -69,8 +69,15 @@ public class AggregationPhase {
                 }
                 context.aggregations().aggregators(aggregators);
                 if (!collectors.isEmpty()) {
-                    Collector collector = MultiBucketCollector.wrap(collectors);
-                    ((BucketCollector)collector).preCollection();
+                    BucketCollector bucketCollector = MultiBucketCollector.wrap(collectors);
+                    bucketCollector.preCollection();
+                    if (bucketCollector.scoreMode().needsScores() == false) {
+                        // the aggregators are handed blocks of docs, which they can collect in tight loops
+                        BatchingBucketCollector batchingCollector = new BatchingBucketCollector(bucketCollector);
+                        context.aggregations().batchingCollector(batchingCollector);
+                        bucketCollector = batchingCollector;
+                    }
+                    Collector collector = bucketCollector;
                     if (context.getProfilers() != null) {
                         collector = new InternalProfileCollector(collector, CollectorResult.REASON_AGGREGATION,
                                 // TODO: report on child aggs as well
@@ -95,6 +102,12 @@ public class AggregationPhase {
             return;
         }
 
+        try {
+            context.aggregations().flushBatchedDocs();
+        } catch (IOException e) {
+            throw new AggregationExecutionException("Failed to collect the last docs of the aggregators", e);
+        }
+
         Aggregator[] aggregators = context.aggregations().aggregators();
         List<Aggregator> globals = new ArrayList<>();
         for (int i = 0; i < aggregators.length; i++) {
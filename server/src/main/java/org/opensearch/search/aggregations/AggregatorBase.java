@@ -32,10 +32,16 @@
 package org.opensearch.search.aggregations;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TermRangeQuery;
 import org.opensearch.common.breaker.CircuitBreaker;
 import org.opensearch.common.breaker.CircuitBreakingException;
+import org.opensearch.index.codec.startree.StarTree;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
@@ -141,6 +147,50 @@ public abstract class AggregatorBase extends Aggregator {
         return config.getPointReaderOrNull();
     }
 
+    /**
+     * Returns the star tree of the given segment if it's safe to read the statistics that it pre-aggregated for the given field
+     * instead of collecting the docs of the segment. Generally, this means that the query matches all docs, or all the docs with a
+     * term or a range of terms of a single valued dimension of the tree, the aggregation is top level, and no doc of the segment
+     * is deleted. If the query filters on a dimension, the returned tree only holds the statistics of the docs that it matches,
+     * see {@link StarTree#filter}.
+     *
+     * If those conditions aren't met, or the segment has no star tree for the field, return <code>null</code>.
+     *
+     * @param field The field that the aggregation reads, or <code>null</code> if its values don't come from a single field.
+     */
+    protected final StarTree starTreeIfAvailable(LeafReaderContext ctx, String field) throws IOException {
+        if (field == null || parent != null) {
+            return null;
+        }
+        if (context.minimumScore() != null || context.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER) {
+            return null;
+        }
+        if (ctx.reader().hasDeletions()) {
+            return null;
+        }
+        Query query = context.query() == null ? new MatchAllDocsQuery() : context.query();
+        // the scores of the docs don't matter to the aggregations that read the tree
+        while (query instanceof ConstantScoreQuery || query instanceof BoostQuery) {
+            query = query instanceof ConstantScoreQuery ? ((ConstantScoreQuery) query).getQuery() : ((BoostQuery) query).getQuery();
+        }
+        if (query.getClass() == MatchAllDocsQuery.class) {
+            return StarTree.fromLeaf(context.indexShard().starTreeCache(), ctx.reader(), field);
+        }
+        if (query.getClass() == TermQuery.class) {
+            final TermQuery termQuery = (TermQuery) query;
+            final StarTree starTree = StarTree.fromLeaf(context.indexShard().starTreeCache(), ctx.reader(), field);
+            return starTree == null ? null : starTree.filter(ctx.reader(), termQuery.getTerm().field(), termQuery.getTerm().bytes(),
+                termQuery.getTerm().bytes(), true, true);
+        }
+        if (query.getClass() == TermRangeQuery.class) {
+            final TermRangeQuery rangeQuery = (TermRangeQuery) query;
+            final StarTree starTree = StarTree.fromLeaf(context.indexShard().starTreeCache(), ctx.reader(), field);
+            return starTree == null ? null : starTree.filter(ctx.reader(), rangeQuery.getField(), rangeQuery.getLowerTerm(),
+                rangeQuery.getUpperTerm(), rangeQuery.includesLower(), rangeQuery.includesUpper());
+        }
+        return null;
+    }
+
     /**
      * Increment or decrement the number of bytes that have been allocated to service
      * this request and potentially trigger a {@link CircuitBreakingException}. The
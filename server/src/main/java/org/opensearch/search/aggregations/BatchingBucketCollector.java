@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Scorable;
+import org.apache.lucene.search.ScoreMode;
+
+import java.io.IOException;
+
+/**
+ * A {@link BucketCollector} that buffers the docs that are collected at the top level, and hands them to the wrapped collector in
+ * blocks through {@link LeafBucketCollector#collect(int[], int, long)}.
+ * <p>
+ * It can only wrap collectors that don't need scores, since the scorer has moved on by the time the docs of a block are collected.
+ * The docs of a segment are flushed before the wrapped collector moves to the next segment, and the docs of the last segment must
+ * be flushed with {@link #flush()} before the wrapped aggregators are post-collected.
+ */
+final class BatchingBucketCollector extends BucketCollector {
+
+    static final int BATCH_SIZE = 128;
+
+    private final BucketCollector in;
+    private BatchingLeafBucketCollector current;
+
+    BatchingBucketCollector(BucketCollector in) {
+        assert in.scoreMode().needsScores() == false : "can't batch the docs of a collector that needs scores";
+        this.in = in;
+    }
+
+    @Override
+    public LeafBucketCollector getLeafCollector(LeafReaderContext ctx) throws IOException {
+        // the previous segment must be fully collected before the wrapped collector moves on
+        flush();
+        final LeafBucketCollector leafCollector = in.getLeafCollector(ctx);
+        if (leafCollector == LeafBucketCollector.NO_OP_COLLECTOR) {
+            return leafCollector;
+        }
+        current = new BatchingLeafBucketCollector(leafCollector);
+        return current;
+    }
+
+    /**
+     * Collects the docs that are still buffered.
+     */
+    void flush() throws IOException {
+        if (current != null) {
+            try {
+                current.flush();
+            } catch (CollectionTerminatedException e) {
+                // the collector doesn't need the rest of the docs of that segment
+            } finally {
+                current = null;
+            }
+        }
+    }
+
+    @Override
+    public void preCollection() throws IOException {
+        in.preCollection();
+    }
+
+    @Override
+    public void postCollection() throws IOException {
+        flush();
+        in.postCollection();
+    }
+
+    @Override
+    public ScoreMode scoreMode() {
+        return in.scoreMode();
+    }
+
+    @Override
+    public String toString() {
+        return in.toString();
+    }
+
+    private static final class BatchingLeafBucketCollector extends LeafBucketCollector {
+
+        private final LeafBucketCollector in;
+        private final int[] docs = new int[BATCH_SIZE];
+        private int count;
+
+        BatchingLeafBucketCollector(LeafBucketCollector in) {
+            this.in = in;
+        }
+
+        @Override
+        public void setScorer(Scorable scorer) throws IOException {
+            in.setScorer(scorer);
+        }
+
+        @Override
+        public void collect(int doc, long owningBucketOrd) throws IOException {
+            assert owningBucketOrd == 0 : "only top level docs can be batched";
+            docs[count++] = doc;
+            if (count == docs.length) {
+                flush();
+            }
+        }
+
+        void flush() throws IOException {
+            if (count > 0) {
+                final int numDocs = count;
+                count = 0;
+                in.collect(docs, numDocs, 0);
+            }
+        }
+    }
+}
@@ -82,6 +82,13 @@ public abstract class LeafBucketCollector implements LeafCollector {
                     }
                 }
 
+                @Override
+                public void collect(int[] docs, int count, long bucket) throws IOException {
+                    for (LeafBucketCollector c : colls) {
+                        c.collect(docs, count, bucket);
+                    }
+                }
+
             };
         }
     }
@@ -115,6 +122,22 @@ public abstract class LeafBucketCollector implements LeafCollector {
      */
     public abstract void collect(int doc, long owningBucketOrd) throws IOException;
 
+    /**
+     * Collect the first {@code count} docs of {@code docs}, which are sorted
+     * in increasing order, in the bucket owned by {@code owningBucketOrd}.
+     * <p>
+     * This is the same as calling {@link #collect(int, long)} on each of the
+     * docs, which is what this method does by default. Aggregators that are
+     * often collected at the top level override it to read the doc values
+     * of the whole block in a tight loop, and to only load and store the
+     * state of their bucket once per block.
+     */
+    public void collect(int[] docs, int count, long owningBucketOrd) throws IOException {
+        for (int i = 0; i < count; i++) {
+            collect(docs[i], owningBucketOrd);
+        }
+    }
+
     @Override
     public final void collect(int doc) throws IOException {
         collect(doc, 0);
@@ -31,6 +31,8 @@
 
 package org.opensearch.search.aggregations;
 
+import java.io.IOException;
+
 import static org.opensearch.search.aggregations.MultiBucketConsumerService.MultiBucketConsumer;
 
 /**
@@ -41,6 +43,7 @@ public class SearchContextAggregations {
     private final AggregatorFactories factories;
     private final MultiBucketConsumer multiBucketConsumer;
     private Aggregator[] aggregators;
+    private BatchingBucketCollector batchingCollector;
 
     /**
      * Creates a new aggregation context with the parsed aggregator factories
@@ -75,6 +78,22 @@ public class SearchContextAggregations {
         return multiBucketConsumer;
     }
 
+    /**
+     * Registers the collector that batches the docs of the top level aggregators, if any.
+     */
+    void batchingCollector(BatchingBucketCollector batchingCollector) {
+        this.batchingCollector = batchingCollector;
+    }
+
+    /**
+     * Collects the docs that the top level aggregators were not handed yet, which must be done before they are post-collected.
+     */
+    void flushBatchedDocs() throws IOException {
+        if (batchingCollector != null) {
+            batchingCollector.flush();
+        }
+    }
+
     void resetBucketMultiConsumer() {
         multiBucketConsumer.reset();
     }
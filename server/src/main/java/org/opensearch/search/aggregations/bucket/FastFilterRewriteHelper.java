@@ -0,0 +1,219 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket;
+
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PointRangeQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.FutureArrays;
+import org.opensearch.common.Nullable;
+import org.opensearch.index.query.DateRangeIncludingNowQuery;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.support.ValuesSourceConfig;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Computes the doc counts of the buckets of a bucket aggregation directly from the points index of its field, instead of
+ * collecting the documents that match the query one by one and reading their doc values.
+ * <p>
+ * This is only possible for a top level aggregation without sub-aggregations, when the top level query either matches all
+ * documents or is a range query on the aggregated field, and on segments without deletions where the field is single-valued.
+ * The points of the segment are then visited once in the BKD tree: a cell whose bounds fall into the same bucket is counted
+ * as a whole, and only the values of the cells that cross a bucket boundary are decoded.
+ */
+public final class FastFilterRewriteHelper {
+
+    /**
+     * Receives the number of documents found for a bucket key. The same key may be reported several times for a segment.
+     */
+    @FunctionalInterface
+    public interface BucketCountConsumer {
+        void accept(long key, int count);
+    }
+
+    private final String field;
+    private final Function<byte[], Number> pointConverter;
+    // inclusive bounds of the top level range query, in the encoded space of the points, null if the query matches all documents
+    private final byte[] lowerPoint;
+    private final byte[] upperPoint;
+
+    private FastFilterRewriteHelper(String field, Function<byte[], Number> pointConverter, byte[] lowerPoint, byte[] upperPoint) {
+        this.field = field;
+        this.pointConverter = pointConverter;
+        this.lowerPoint = lowerPoint;
+        this.upperPoint = upperPoint;
+    }
+
+    /**
+     * Returns a helper if the buckets of the aggregation can be counted from the points of its field, or <code>null</code>
+     * if the documents have to be collected.
+     *
+     * @param context the search context of the aggregation
+     * @param parent the parent aggregator, the aggregation must be top level
+     * @param numSubAggregators the number of sub-aggregations, the documents must be collected if there is any
+     * @param config the config of the values source of the aggregation
+     */
+    @Nullable
+    public static FastFilterRewriteHelper create(SearchContext context, @Nullable Aggregator parent, int numSubAggregators,
+                                                 @Nullable ValuesSourceConfig config) {
+        if (parent != null || numSubAggregators > 0 || config == null || config.hasValues() == false) {
+            return null;
+        }
+        if (context.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER || context.minimumScore() != null) {
+            // the collection of the aggregations is restricted to a subset of the matching documents
+            return null;
+        }
+        final Function<byte[], Number> pointConverter = config.getPointReaderOrNull();
+        if (pointConverter == null) {
+            return null;
+        }
+        final String field = config.fieldContext().field();
+        final Query query = unwrap(context.query());
+        if (query == null || query.getClass() == MatchAllDocsQuery.class) {
+            return new FastFilterRewriteHelper(field, pointConverter, null, null);
+        }
+        if (query instanceof PointRangeQuery) {
+            final PointRangeQuery rangeQuery = (PointRangeQuery) query;
+            if (rangeQuery.getField().equals(field) && rangeQuery.getNumDims() == 1) {
+                return new FastFilterRewriteHelper(field, pointConverter, rangeQuery.getLowerPoint(), rangeQuery.getUpperPoint());
+            }
+        }
+        return null;
+    }
+
+    private static Query unwrap(Query query) {
+        while (true) {
+            if (query instanceof ConstantScoreQuery) {
+                query = ((ConstantScoreQuery) query).getQuery();
+            } else if (query instanceof BoostQuery) {
+                query = ((BoostQuery) query).getQuery();
+            } else if (query instanceof IndexOrDocValuesQuery) {
+                query = ((IndexOrDocValuesQuery) query).getIndexQuery();
+            } else if (query instanceof DateRangeIncludingNowQuery) {
+                query = ((DateRangeIncludingNowQuery) query).getQuery();
+            } else {
+                return query;
+            }
+        }
+    }
+
+    /**
+     * Counts the documents of the segment per bucket.
+     *
+     * @param ctx the segment
+     * @param keyFunction maps a value of the field to the key of its bucket. It must be monotonically non-decreasing, so that
+     *                    all the values between two values with the same key have this key too
+     * @param consumer receives the doc counts per key
+     * @return <code>true</code> if the documents of the segment were counted, <code>false</code> if the segment is not eligible,
+     *         in which case nothing was counted and its documents must be collected
+     */
+    public boolean tryCountBuckets(LeafReaderContext ctx, ToLongFunction<Number> keyFunction,
+                                   BucketCountConsumer consumer) throws IOException {
+        final LeafReader reader = ctx.reader();
+        if (reader.hasDeletions()) {
+            // points include deleted documents
+            return false;
+        }
+        final PointValues values = reader.getPointValues(field);
+        if (values == null || values.getNumIndexDimensions() != 1 || values.size() != values.getDocCount()) {
+            // nothing indexed for the field or a multi-valued field, whose documents are counted once per bucket
+            return false;
+        }
+        final BucketCountingVisitor visitor = new BucketCountingVisitor(values.getBytesPerDimension(), keyFunction, consumer);
+        values.intersect(visitor);
+        visitor.flush();
+        return true;
+    }
+
+    private class BucketCountingVisitor implements PointValues.IntersectVisitor {
+        private final int bytesPerDim;
+        private final ToLongFunction<Number> keyFunction;
+        private final BucketCountConsumer consumer;
+
+        // the key of the last cell that was found to be entirely in a single bucket, all the documents
+        // that are visited without their value belong to it
+        private long cellKey;
+        private long currentKey;
+        private int currentCount;
+
+        BucketCountingVisitor(int bytesPerDim, ToLongFunction<Number> keyFunction, BucketCountConsumer consumer) {
+            this.bytesPerDim = bytesPerDim;
+            this.keyFunction = keyFunction;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void visit(int docID) {
+            count(cellKey);
+        }
+
+        @Override
+        public void visit(int docID, byte[] packedValue) {
+            if (matchesQuery(packedValue)) {
+                count(key(packedValue));
+            }
+        }
+
+        @Override
+        public PointValues.Relation compare(byte[] minPackedValue, byte[] maxPackedValue) {
+            if (lowerPoint != null) {
+                if (FutureArrays.compareUnsigned(maxPackedValue, 0, bytesPerDim, lowerPoint, 0, bytesPerDim) < 0
+                    || FutureArrays.compareUnsigned(minPackedValue, 0, bytesPerDim, upperPoint, 0, bytesPerDim) > 0) {
+                    return PointValues.Relation.CELL_OUTSIDE_QUERY;
+                }
+                if (FutureArrays.compareUnsigned(minPackedValue, 0, bytesPerDim, lowerPoint, 0, bytesPerDim) < 0
+                    || FutureArrays.compareUnsigned(maxPackedValue, 0, bytesPerDim, upperPoint, 0, bytesPerDim) > 0) {
+                    return PointValues.Relation.CELL_CROSSES_QUERY;
+                }
+            }
+            final long minKey = key(minPackedValue);
+            if (minKey == key(maxPackedValue)) {
+                cellKey = minKey;
+                return PointValues.Relation.CELL_INSIDE_QUERY;
+            }
+            return PointValues.Relation.CELL_CROSSES_QUERY;
+        }
+
+        private boolean matchesQuery(byte[] packedValue) {
+            return lowerPoint == null
+                || (FutureArrays.compareUnsigned(packedValue, 0, bytesPerDim, lowerPoint, 0, bytesPerDim) >= 0
+                    && FutureArrays.compareUnsigned(packedValue, 0, bytesPerDim, upperPoint, 0, bytesPerDim) <= 0);
+        }
+
+        private long key(byte[] packedValue) {
+            return keyFunction.applyAsLong(pointConverter.apply(packedValue));
+        }
+
+        private void count(long key) {
+            // points are visited in ascending order so consecutive documents mostly share their key
+            if (currentCount > 0 && key != currentKey) {
+                flush();
+            }
+            currentKey = key;
+            currentCount++;
+        }
+
+        void flush() {
+            if (currentCount > 0) {
+                consumer.accept(currentKey, currentCount);
+                currentCount = 0;
+            }
+        }
+    }
+}
@@ -33,6 +33,7 @@ package org.opensearch.search.aggregations.bucket.histogram;
 
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.util.CollectionUtil;
 import org.opensearch.common.Nullable;
@@ -47,6 +48,7 @@ import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
+import org.opensearch.search.aggregations.bucket.FastFilterRewriteHelper;
 import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
@@ -81,6 +83,13 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
 
     private final LongKeyedBucketOrds bucketOrds;
 
+    /**
+     * Counts the buckets from the points of the field when the aggregation does not need to collect documents,
+     * <code>null</code> otherwise.
+     */
+    private final FastFilterRewriteHelper fastFilterRewriteHelper;
+    private int segmentsCountedFromPoints;
+
     DateHistogramAggregator(
         String name,
         AggregatorFactories factories,
@@ -112,6 +121,7 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         this.formatter = valuesSourceConfig.format();
 
         bucketOrds = LongKeyedBucketOrds.build(context.bigArrays(), cardinality);
+        fastFilterRewriteHelper = FastFilterRewriteHelper.create(context, parent, subAggregators.length, valuesSourceConfig);
     }
 
     @Override
@@ -127,6 +137,12 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         if (valuesSource == null) {
             return LeafBucketCollector.NO_OP_COLLECTOR;
         }
+        if (fastFilterRewriteHelper != null
+            && fastFilterRewriteHelper.tryCountBuckets(ctx, value -> preparedRounding.round(value.longValue()), this::countBucket)) {
+            segmentsCountedFromPoints++;
+            // the buckets of this segment are already counted
+            throw new CollectionTerminatedException();
+        }
         SortedNumericDocValues values = valuesSource.longValues(ctx);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -158,6 +174,17 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         };
     }
 
+    private void countBucket(long rounded, int docCount) {
+        if (hardBounds == null || hardBounds.contain(rounded)) {
+            // the aggregation is top level so the owning bucket is always 0
+            long bucketOrd = bucketOrds.add(0, rounded);
+            if (bucketOrd < 0) { // already seen
+                bucketOrd = -1 - bucketOrd;
+            }
+            incrementBucketDocCount(bucketOrd, docCount);
+        }
+    }
+
     @Override
     public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
         return buildAggregationsForVariableBuckets(owningBucketOrds, bucketOrds,
@@ -194,6 +221,9 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
     @Override
     public void collectDebugInfo(BiConsumer<String, Object> add) {
         add.accept("total_buckets", bucketOrds.size());
+        if (fastFilterRewriteHelper != null) {
+            add.accept("segments_counted_from_points", segmentsCountedFromPoints);
+        }
     }
 
     /**
@@ -34,6 +34,8 @@ package org.opensearch.search.aggregations.bucket.histogram;
 
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.ScoreMode;
+import org.opensearch.index.fielddata.FieldData;
+import org.opensearch.index.fielddata.NumericDoubleValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorFactories;
@@ -109,7 +111,13 @@ public class NumericHistogramAggregator extends AbstractHistogramAggregator {
         }
 
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
+        final NumericDoubleValues singleton = FieldData.unwrapSingleton(values);
         return new LeafBucketCollectorBase(sub, values) {
+            // the docs of a block that fall in a bucket, with their keys and the ords of their buckets
+            private int[] batchDocs = new int[0];
+            private long[] batchKeys = new long[0];
+            private long[] batchOrds = new long[0];
+
             @Override
             public void collect(int doc, long owningBucketOrd) throws IOException {
                 if (values.advanceExact(doc)) {
@@ -136,6 +144,39 @@ public class NumericHistogramAggregator extends AbstractHistogramAggregator {
                     }
                 }
             }
+
+            @Override
+            public void collect(int[] docs, int count, long owningBucketOrd) throws IOException {
+                if (singleton == null) {
+                    super.collect(docs, count, owningBucketOrd);
+                    return;
+                }
+                if (batchDocs.length < count) {
+                    batchDocs = new int[count];
+                    batchKeys = new long[count];
+                    batchOrds = new long[count];
+                }
+                int numKeys = 0;
+                for (int i = 0; i < count; i++) {
+                    if (singleton.advanceExact(docs[i])) {
+                        double key = Math.floor((singleton.doubleValue() - offset) / interval);
+                        if (hardBounds == null || hardBounds.contain(key * interval)) {
+                            batchDocs[numKeys] = docs[i];
+                            batchKeys[numKeys] = Double.doubleToLongBits(key);
+                            numKeys++;
+                        }
+                    }
+                }
+                bucketOrds.add(owningBucketOrd, batchKeys, numKeys, batchOrds);
+                for (int i = 0; i < numKeys; i++) {
+                    long bucketOrd = batchOrds[i];
+                    if (bucketOrd < 0) { // already seen
+                        collectExistingBucket(sub, batchDocs[i], -1 - bucketOrd);
+                    } else {
+                        collectBucket(sub, batchDocs[i], bucketOrd);
+                    }
+                }
+            }
         };
     }
 }
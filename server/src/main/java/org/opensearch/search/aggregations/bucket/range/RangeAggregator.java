@@ -32,7 +32,9 @@
 package org.opensearch.search.aggregations.bucket.range;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.ScoreMode;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.ParseField;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
@@ -54,7 +56,9 @@ import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.NonCollectingAggregator;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
+import org.opensearch.search.aggregations.bucket.FastFilterRewriteHelper;
 import org.opensearch.search.aggregations.support.ValuesSource;
+import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
@@ -62,6 +66,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 
 import static org.opensearch.common.xcontent.ConstructingObjectParser.optionalConstructorArg;
 
@@ -236,9 +241,30 @@ public class RangeAggregator extends BucketsAggregator {
 
     final double[] maxTo;
 
+    /**
+     * Counts the ranges from the points of the field when the aggregation does not need to collect documents,
+     * <code>null</code> otherwise.
+     */
+    private final FastFilterRewriteHelper fastFilterRewriteHelper;
+    private int segmentsCountedFromPoints;
+
+    public RangeAggregator(String name, AggregatorFactories factories, ValuesSourceConfig config,
+            InternalRange.Factory rangeFactory, Range[] ranges, boolean keyed, SearchContext context,
+            Aggregator parent, CardinalityUpperBound cardinality, Map<String, Object> metadata) throws IOException {
+        this(name, factories, (ValuesSource.Numeric) config.getValuesSource(), config.format(), rangeFactory, ranges, keyed, context,
+            parent, cardinality, metadata, config);
+    }
+
     public RangeAggregator(String name, AggregatorFactories factories, ValuesSource.Numeric valuesSource, DocValueFormat format,
             InternalRange.Factory rangeFactory, Range[] ranges, boolean keyed, SearchContext context,
             Aggregator parent, CardinalityUpperBound cardinality, Map<String, Object> metadata) throws IOException {
+        this(name, factories, valuesSource, format, rangeFactory, ranges, keyed, context, parent, cardinality, metadata, null);
+    }
+
+    private RangeAggregator(String name, AggregatorFactories factories, ValuesSource.Numeric valuesSource, DocValueFormat format,
+            InternalRange.Factory rangeFactory, Range[] ranges, boolean keyed, SearchContext context,
+            Aggregator parent, CardinalityUpperBound cardinality, Map<String, Object> metadata,
+            @Nullable ValuesSourceConfig config) throws IOException {
 
         super(name, factories, context, parent, cardinality.multiply(ranges.length), metadata);
         assert valuesSource != null;
@@ -255,6 +281,15 @@ public class RangeAggregator extends BucketsAggregator {
             maxTo[i] = Math.max(this.ranges[i].to,maxTo[i-1]);
         }
 
+        // a value must map to a single range to count the ranges from the points of the field
+        boolean overlap = false;
+        for (int i = 1; i < this.ranges.length; ++i) {
+            if (this.ranges[i].from < this.ranges[i - 1].to) {
+                overlap = true;
+                break;
+            }
+        }
+        fastFilterRewriteHelper = overlap ? null : FastFilterRewriteHelper.create(context, parent, subAggregators.length, config);
     }
 
     @Override
@@ -268,6 +303,12 @@ public class RangeAggregator extends BucketsAggregator {
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx,
             final LeafBucketCollector sub) throws IOException {
+        if (fastFilterRewriteHelper != null
+            && fastFilterRewriteHelper.tryCountBuckets(ctx, value -> slot(value.doubleValue()), this::countSlot)) {
+            // the ranges of this segment are already counted
+            segmentsCountedFromPoints++;
+            throw new CollectionTerminatedException();
+        }
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -332,6 +373,39 @@ public class RangeAggregator extends BucketsAggregator {
         };
     }
 
+    /**
+     * Maps a value to a slot, odd slots are the ranges and even slots the gaps around them: the value belongs to the
+     * range <code>(slot - 1) / 2</code> if the slot is odd. Slots are non-decreasing with the value, which is what
+     * {@link FastFilterRewriteHelper} needs, and require the ranges to be sorted and not to overlap.
+     */
+    private long slot(double value) {
+        if (Double.isNaN(value)) {
+            // NaN is sorted after all the other values and is not in any range
+            return Long.MAX_VALUE - 1;
+        }
+        // the number of ranges that start at or before the value
+        int lo = 0, hi = ranges.length;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (ranges[mid].from <= value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        if (lo > 0 && value < ranges[lo - 1].to) {
+            return 2L * (lo - 1) + 1;
+        }
+        return 2L * lo;
+    }
+
+    private void countSlot(long slot, int docCount) {
+        if ((slot & 1) == 1) {
+            // the aggregation is top level so the owning bucket is always 0
+            incrementBucketDocCount(subBucketOrdinal(0, (int) (slot >>> 1)), docCount);
+        }
+    }
+
     private long subBucketOrdinal(long owningBucketOrdinal, int rangeOrd) {
         return owningBucketOrdinal * ranges.length + rangeOrd;
     }
@@ -359,6 +433,13 @@ public class RangeAggregator extends BucketsAggregator {
         return rangeFactory.create(name, buckets, format, keyed, metadata());
     }
 
+    @Override
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        if (fastFilterRewriteHelper != null) {
+            add.accept("segments_counted_from_points", segmentsCountedFromPoints);
+        }
+    }
+
     public static class Unmapped<R extends RangeAggregator.Range> extends NonCollectingAggregator {
 
         private final R[] ranges;
@@ -37,6 +37,7 @@ import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SortedDocValues;
 import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.PriorityQueue;
@@ -47,6 +48,7 @@ import org.opensearch.common.util.IntArray;
 import org.opensearch.common.util.LongArray;
 import org.opensearch.common.util.LongHash;
 import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.index.codec.startree.StarTree;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.AggregationExecutionException;
 import org.opensearch.search.aggregations.Aggregator;
@@ -60,6 +62,7 @@ import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.bucket.terms.SignificanceLookup.BackgroundFrequencyForBytes;
 import org.opensearch.search.aggregations.bucket.terms.heuristic.SignificanceHeuristic;
+import org.opensearch.search.aggregations.metrics.StarTreeMetricsAggregator;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.internal.SearchContext;
 
@@ -87,6 +90,8 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
     protected final CollectionStrategy collectionStrategy;
     protected int segmentsWithSingleValuedOrds = 0;
     protected int segmentsWithMultiValuedOrds = 0;
+    protected int segmentsFromStarTree = 0;
+    private final String starTreeDimension;
 
     public interface GlobalOrdLookupFunction {
         BytesRef apply(long ord) throws IOException;
@@ -128,6 +133,7 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
                 return new DenseGlobalOrds();
             });
         }
+        this.starTreeDimension = starTreeDimension();
     }
 
     String descriptCollectionStrategy() {
@@ -138,6 +144,10 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
         SortedSetDocValues globalOrds = valuesSource.globalOrdinalsValues(ctx);
         collectionStrategy.globalOrdsReady(globalOrds);
+        if (collectFromStarTree(ctx)) {
+            // the buckets of all the docs of the segment have been pre-aggregated, we don't need to collect hits on this segment
+            throw new CollectionTerminatedException();
+        }
         SortedDocValues singleValues = DocValues.unwrapSingleton(globalOrds);
         if (singleValues != null) {
             segmentsWithSingleValuedOrds++;
@@ -205,6 +215,62 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
         });
     }
 
+    /**
+     * Returns the field of the values source if the buckets, and the metrics of all the sub-aggregators, can be read from the
+     * {@link StarTree} of a segment that has that field as a dimension, and null otherwise.
+     */
+    private String starTreeDimension() {
+        if (valuesSource.getClass() != ValuesSource.Bytes.WithOrdinals.FieldData.class
+            || resultStrategy instanceof StandardTermsResults == false) {
+            return null;
+        }
+        if (subAggregators.length > 0 && collectMode != SubAggCollectionMode.DEPTH_FIRST) {
+            // deferred sub-aggregators replay the docs of the surviving buckets, which the star tree doesn't have
+            return null;
+        }
+        for (Aggregator subAggregator : subAggregators) {
+            if (subAggregator instanceof StarTreeMetricsAggregator == false
+                || ((StarTreeMetricsAggregator) subAggregator).starTreeField() == null) {
+                return null;
+            }
+        }
+        return ((ValuesSource.Bytes.WithOrdinals.FieldData) valuesSource).fieldName();
+    }
+
+    /**
+     * Collects the buckets of the segment, and the metrics of the sub-aggregators, from the {@link StarTree} of the segment rather
+     * than from its docs, if it has one with the field as a dimension and all the metrics of the sub-aggregators.
+     *
+     * @return whether the segment was collected
+     */
+    protected final boolean collectFromStarTree(LeafReaderContext ctx) throws IOException {
+        final StarTree starTree = starTreeIfAvailable(ctx, starTreeDimension);
+        final StarTree.Dimension dimension = starTree == null ? null : starTree.dimension(starTreeDimension);
+        if (dimension == null) {
+            return false;
+        }
+        for (Aggregator subAggregator : subAggregators) {
+            if (starTree.metric(((StarTreeMetricsAggregator) subAggregator).starTreeField()) == null) {
+                return false;
+            }
+        }
+        segmentsFromStarTree++;
+        final LongUnaryOperator segmentToGlobalOrd = valuesSource.globalOrdinalsMapping(ctx);
+        for (int node = 0; node < dimension.size(); node++) {
+            final long globalOrd = segmentToGlobalOrd.applyAsLong(dimension.ord(node));
+            if (false == acceptedGlobalOrdinals.test(globalOrd)) {
+                continue;
+            }
+            final long bucketOrd = collectionStrategy.addGlobalOrd(0, globalOrd);
+            incrementBucketDocCount(bucketOrd, Math.toIntExact(dimension.docCount(node)));
+            for (Aggregator subAggregator : subAggregators) {
+                final StarTreeMetricsAggregator metrics = (StarTreeMetricsAggregator) subAggregator;
+                metrics.collectStarTreeStats(bucketOrd, dimension.metric(metrics.starTreeField(), node));
+            }
+        }
+        return true;
+    }
+
     @Override
     public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
         return resultStrategy.buildAggregations(owningBucketOrds);
@@ -223,6 +289,7 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
         add.accept("result_strategy", resultStrategy.describe());
         add.accept("segments_with_single_valued_ords", segmentsWithSingleValuedOrds);
         add.accept("segments_with_multi_valued_ords", segmentsWithMultiValuedOrds);
+        add.accept("segments_from_star_tree", segmentsFromStarTree);
         add.accept("has_filter", acceptedGlobalOrdinals != ALWAYS_TRUE);
     }
 
@@ -312,6 +379,11 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
         public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
             if (mapping != null) {
                 mapSegmentCountsToGlobalCounts(mapping);
+                mapping = null;
+            }
+            if (collectFromStarTree(ctx)) {
+                // the buckets of all the docs of the segment have been pre-aggregated, we don't need to collect hits on this segment
+                throw new CollectionTerminatedException();
             }
             final SortedSetDocValues segmentOrds = valuesSource.ordinalsValues(ctx);
             segmentDocCounts = context.bigArrays().grow(segmentDocCounts, 1 + segmentOrds.getValueCount());
@@ -414,6 +486,11 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
          * Convert a global ordinal into a bucket ordinal.
          */
         abstract long globalOrdToBucketOrd(long owningBucketOrd, long globalOrd);
+        /**
+         * Convert a global ordinal into a bucket ordinal, adding the bucket
+         * if it doesn't exist yet.
+         */
+        abstract long addGlobalOrd(long owningBucketOrd, long globalOrd);
         /**
          * Iterate all of the buckets. Implementations take into account
          * the {@link BucketCountThresholds}. In particular,
@@ -459,6 +536,12 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             return globalOrd;
         }
 
+        @Override
+        long addGlobalOrd(long owningBucketOrd, long globalOrd) {
+            assert owningBucketOrd == 0;
+            return globalOrd;
+        }
+
         @Override
         void forEach(long owningBucketOrd, BucketInfoConsumer consumer) throws IOException {
             assert owningBucketOrd == 0;
@@ -519,6 +602,12 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             return bucketOrds.find(owningBucketOrd, globalOrd);
         }
 
+        @Override
+        long addGlobalOrd(long owningBucketOrd, long globalOrd) {
+            long bucketOrd = bucketOrds.add(owningBucketOrd, globalOrd);
+            return bucketOrd < 0 ? -1 - bucketOrd : bucketOrd;
+        }
+
         @Override
         void forEach(long owningBucketOrd, BucketInfoConsumer consumer) throws IOException {
             if (bucketCountThresholds.getMinDocCount() == 0) {
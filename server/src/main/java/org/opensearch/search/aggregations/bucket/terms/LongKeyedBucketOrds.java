@@ -58,6 +58,17 @@ public abstract class LongKeyedBucketOrds implements Releasable {
      */
     public abstract long add(long owningBucketOrd, long value);
 
+    /**
+     * Add the first {@code count} {@code values} to {@code owningBucketOrd},
+     * and set the ord of each value in {@code bucketOrds}, or {@code -1-ord}
+     * if it was already present, like {@link #add(long, long)}.
+     */
+    public void add(long owningBucketOrd, long[] values, int count, long[] bucketOrds) {
+        for (int i = 0; i < count; i++) {
+            bucketOrds[i] = add(owningBucketOrd, values[i]);
+        }
+    }
+
     /**
      * Count the buckets in {@code owningBucketOrd}.
      * <p>
@@ -144,6 +155,14 @@ public abstract class LongKeyedBucketOrds implements Releasable {
             return ords.add(value);
         }
 
+        @Override
+        public void add(long owningBucketOrd, long[] values, int count, long[] bucketOrds) {
+            assert owningBucketOrd == 0;
+            for (int i = 0; i < count; i++) {
+                bucketOrds[i] = ords.add(values[i]);
+            }
+        }
+
         @Override
         public long find(long owningBucketOrd, long value) {
             assert owningBucketOrd == 0;
@@ -37,6 +37,7 @@ import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.DoubleArray;
 import org.opensearch.common.util.LongArray;
+import org.opensearch.index.codec.startree.StarTree;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
@@ -50,9 +51,10 @@ import org.opensearch.search.internal.SearchContext;
 import java.io.IOException;
 import java.util.Map;
 
-class AvgAggregator extends NumericMetricsAggregator.SingleValue {
+class AvgAggregator extends NumericMetricsAggregator.SingleValue implements StarTreeMetricsAggregator {
 
     final ValuesSource.Numeric valuesSource;
+    private final String starTreeField;
 
     LongArray counts;
     DoubleArray sums;
@@ -65,6 +67,7 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue {
         // TODO Stop expecting nulls here
         this.valuesSource = valuesSourceConfig.hasValues() ? (ValuesSource.Numeric) valuesSourceConfig.getValuesSource() : null;
         this.format = valuesSourceConfig.format();
+        this.starTreeField = StarTreeMetricsAggregator.starTreeField(valuesSourceConfig);
         if (valuesSource != null) {
             final BigArrays bigArrays = context.bigArrays();
             counts = bigArrays.newLongArray(1, true);
@@ -84,6 +87,7 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue {
         if (valuesSource == null) {
             return LeafBucketCollector.NO_OP_COLLECTOR;
         }
+        collectFromStarTree(starTreeIfAvailable(ctx, starTreeField));
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
@@ -117,6 +121,23 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue {
         };
     }
 
+    @Override
+    public String starTreeField() {
+        return starTreeField;
+    }
+
+    @Override
+    public void collectStarTreeStats(long bucket, StarTree.MetricStats stats) {
+        counts = context.bigArrays().grow(counts, bucket + 1);
+        sums = context.bigArrays().grow(sums, bucket + 1);
+        compensations = context.bigArrays().grow(compensations, bucket + 1);
+        counts.increment(bucket, stats.count());
+        final CompensatedSum kahanSummation = new CompensatedSum(sums.get(bucket), compensations.get(bucket));
+        kahanSummation.add(stats.sum());
+        sums.set(bucket, kahanSummation.value());
+        compensations.set(bucket, kahanSummation.delta());
+    }
+
     @Override
     public double metric(long owningBucketOrd) {
         if (valuesSource == null || owningBucketOrd >= sums.size()) {
@@ -41,6 +41,7 @@ import org.apache.lucene.util.FutureArrays;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.DoubleArray;
+import org.opensearch.index.codec.startree.StarTree;
 import org.opensearch.index.fielddata.NumericDoubleValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.DocValueFormat;
@@ -57,13 +58,14 @@ import java.io.IOException;
 import java.util.Map;
 import java.util.function.Function;
 
-class MaxAggregator extends NumericMetricsAggregator.SingleValue {
+class MaxAggregator extends NumericMetricsAggregator.SingleValue implements StarTreeMetricsAggregator {
 
     final ValuesSource.Numeric valuesSource;
     final DocValueFormat formatter;
 
     final String pointField;
     final Function<byte[], Number> pointConverter;
+    private final String starTreeField;
 
     DoubleArray maxes;
 
@@ -85,6 +87,7 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue {
         } else {
             pointField = null;
         }
+        this.starTreeField = StarTreeMetricsAggregator.starTreeField(config);
     }
 
     @Override
@@ -118,6 +121,7 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue {
                 throw new CollectionTerminatedException();
             }
         }
+        collectFromStarTree(starTreeIfAvailable(ctx, starTreeField));
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues allValues = valuesSource.doubleValues(ctx);
         final NumericDoubleValues values = MultiValueMode.MAX.select(allValues);
@@ -141,6 +145,21 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue {
         };
     }
 
+    @Override
+    public String starTreeField() {
+        return starTreeField;
+    }
+
+    @Override
+    public void collectStarTreeStats(long bucket, StarTree.MetricStats stats) {
+        if (bucket >= maxes.size()) {
+            long from = maxes.size();
+            maxes = context.bigArrays().grow(maxes, bucket + 1);
+            maxes.fill(from, maxes.size(), Double.NEGATIVE_INFINITY);
+        }
+        maxes.set(bucket, Math.max(maxes.get(bucket), stats.max()));
+    }
+
     @Override
     public double metric(long owningBucketOrd) {
         if (valuesSource == null || owningBucketOrd >= maxes.size()) {
@@ -40,6 +40,7 @@ import org.apache.lucene.util.Bits;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.DoubleArray;
+import org.opensearch.index.codec.startree.StarTree;
 import org.opensearch.index.fielddata.NumericDoubleValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.DocValueFormat;
@@ -56,7 +57,7 @@ import java.io.IOException;
 import java.util.Map;
 import java.util.function.Function;
 
-class MinAggregator extends NumericMetricsAggregator.SingleValue {
+class MinAggregator extends NumericMetricsAggregator.SingleValue implements StarTreeMetricsAggregator {
     private static final int MAX_BKD_LOOKUPS = 1024;
 
     final ValuesSource.Numeric valuesSource;
@@ -64,6 +65,7 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue {
 
     final String pointField;
     final Function<byte[], Number> pointConverter;
+    private final String starTreeField;
 
     DoubleArray mins;
 
@@ -86,6 +88,7 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue {
         } else {
             pointField = null;
         }
+        this.starTreeField = StarTreeMetricsAggregator.starTreeField(config);
     }
 
     @Override
@@ -118,6 +121,7 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue {
                 throw new CollectionTerminatedException();
             }
         }
+        collectFromStarTree(starTreeIfAvailable(ctx, starTreeField));
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues allValues = valuesSource.doubleValues(ctx);
         final NumericDoubleValues values = MultiValueMode.MIN.select(allValues);
@@ -141,6 +145,21 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue {
         };
     }
 
+    @Override
+    public String starTreeField() {
+        return starTreeField;
+    }
+
+    @Override
+    public void collectStarTreeStats(long bucket, StarTree.MetricStats stats) {
+        if (bucket >= mins.size()) {
+            long from = mins.size();
+            mins = context.bigArrays().grow(mins, bucket + 1);
+            mins.fill(from, mins.size(), Double.POSITIVE_INFINITY);
+        }
+        mins.set(bucket, Math.min(mins.get(bucket), stats.min()));
+    }
+
     @Override
     public double metric(long owningBucketOrd) {
         if (valuesSource == null || owningBucketOrd >= mins.size()) {
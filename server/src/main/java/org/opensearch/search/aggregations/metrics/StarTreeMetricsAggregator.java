@@ -0,0 +1,65 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.opensearch.common.Nullable;
+import org.opensearch.index.codec.startree.StarTree;
+import org.opensearch.search.aggregations.support.ValuesSource;
+import org.opensearch.search.aggregations.support.ValuesSourceConfig;
+
+/**
+ * A metrics aggregator that can collect the statistics that a {@link StarTree} pre-aggregated for the field that it aggregates,
+ * instead of the values of docs. It does so on its own when it is a top level aggregator, and a bucket aggregator that reads the
+ * same star tree can hand it the statistics of its buckets.
+ */
+public interface StarTreeMetricsAggregator {
+
+    /**
+     * The numeric field that this aggregator aggregates, or null if its values don't come straight from the doc values of a field.
+     */
+    @Nullable
+    String starTreeField();
+
+    /**
+     * Collects the statistics of the values of a group of docs in the given bucket.
+     */
+    void collectStarTreeStats(long bucket, StarTree.MetricStats stats);
+
+    /**
+     * Collects the statistics of the segment of the given star tree, if it has some for the field of this aggregator, and
+     * terminates the collection of the segment since all its docs are pre-aggregated.
+     *
+     * @param starTree the tree that {@link org.opensearch.search.aggregations.AggregatorBase#starTreeIfAvailable} returned for
+     *                 the field of this top level aggregator, or null
+     */
+    default void collectFromStarTree(@Nullable StarTree starTree) {
+        final StarTree.MetricStats stats = starTree == null ? null : starTree.metric(starTreeField());
+        if (stats != null) {
+            // there is no parent aggregator so the ordinal of the bucket is always 0
+            collectStarTreeStats(0, stats);
+            throw new CollectionTerminatedException();
+        }
+    }
+
+    /**
+     * Returns the field of the given config if the aggregator can read its statistics from a star tree, which requires that its
+     * values are the numeric doc values of the field, without a script or a missing value.
+     */
+    @Nullable
+    static String starTreeField(ValuesSourceConfig config) {
+        if (config.hasValues() == false || config.getValuesSource() instanceof ValuesSource.Numeric == false) {
+            return null;
+        }
+        if (config.fieldContext() == null || config.script() != null || config.missing() != null) {
+            return null;
+        }
+        return config.fieldContext().field();
+    }
+}
@@ -37,6 +37,9 @@ import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.DoubleArray;
 import org.opensearch.common.util.LongArray;
+import org.opensearch.index.codec.startree.StarTree;
+import org.opensearch.index.fielddata.FieldData;
+import org.opensearch.index.fielddata.NumericDoubleValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
@@ -50,10 +53,11 @@ import org.opensearch.search.internal.SearchContext;
 import java.io.IOException;
 import java.util.Map;
 
-class StatsAggregator extends NumericMetricsAggregator.MultiValue {
+class StatsAggregator extends NumericMetricsAggregator.MultiValue implements StarTreeMetricsAggregator {
 
     final ValuesSource.Numeric valuesSource;
     final DocValueFormat format;
+    private final String starTreeField;
 
     LongArray counts;
     DoubleArray sums;
@@ -82,6 +86,7 @@ class StatsAggregator extends NumericMetricsAggregator.MultiValue {
             maxes.fill(0, maxes.size(), Double.NEGATIVE_INFINITY);
         }
         this.format = valuesSourceConfig.format();
+        this.starTreeField = StarTreeMetricsAggregator.starTreeField(valuesSourceConfig);
     }
 
     @Override
@@ -95,24 +100,15 @@ class StatsAggregator extends NumericMetricsAggregator.MultiValue {
         if (valuesSource == null) {
             return LeafBucketCollector.NO_OP_COLLECTOR;
         }
-        final BigArrays bigArrays = context.bigArrays();
+        collectFromStarTree(starTreeIfAvailable(ctx, starTreeField));
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
+        final NumericDoubleValues singleton = FieldData.unwrapSingleton(values);
         final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
 
         return new LeafBucketCollectorBase(sub, values) {
             @Override
             public void collect(int doc, long bucket) throws IOException {
-                if (bucket >= counts.size()) {
-                    final long from = counts.size();
-                    final long overSize = BigArrays.overSize(bucket + 1);
-                    counts = bigArrays.resize(counts, overSize);
-                    sums = bigArrays.resize(sums, overSize);
-                    compensations = bigArrays.resize(compensations, overSize);
-                    mins = bigArrays.resize(mins, overSize);
-                    maxes = bigArrays.resize(maxes, overSize);
-                    mins.fill(from, overSize, Double.POSITIVE_INFINITY);
-                    maxes.fill(from, overSize, Double.NEGATIVE_INFINITY);
-                }
+                grow(bucket);
 
                 if (values.advanceExact(doc)) {
                     final int valuesCount = values.docValueCount();
@@ -137,9 +133,81 @@ class StatsAggregator extends NumericMetricsAggregator.MultiValue {
                     maxes.set(bucket, max);
                 }
             }
+
+            @Override
+            public void collect(int[] docs, int count, long bucket) throws IOException {
+                grow(bucket);
+
+                // the stats of the bucket are only loaded and stored once for the whole block
+                long valuesCount = 0;
+                double min = mins.get(bucket);
+                double max = maxes.get(bucket);
+                kahanSummation.reset(sums.get(bucket), compensations.get(bucket));
+                if (singleton != null) {
+                    for (int i = 0; i < count; i++) {
+                        if (singleton.advanceExact(docs[i])) {
+                            double value = singleton.doubleValue();
+                            valuesCount++;
+                            kahanSummation.add(value);
+                            min = Math.min(min, value);
+                            max = Math.max(max, value);
+                        }
+                    }
+                } else {
+                    for (int i = 0; i < count; i++) {
+                        if (values.advanceExact(docs[i])) {
+                            final int docValueCount = values.docValueCount();
+                            valuesCount += docValueCount;
+                            for (int j = 0; j < docValueCount; j++) {
+                                double value = values.nextValue();
+                                kahanSummation.add(value);
+                                min = Math.min(min, value);
+                                max = Math.max(max, value);
+                            }
+                        }
+                    }
+                }
+                counts.increment(bucket, valuesCount);
+                sums.set(bucket, kahanSummation.value());
+                compensations.set(bucket, kahanSummation.delta());
+                mins.set(bucket, min);
+                maxes.set(bucket, max);
+            }
         };
     }
 
+    private void grow(long bucket) {
+        if (bucket >= counts.size()) {
+            final BigArrays bigArrays = context.bigArrays();
+            final long from = counts.size();
+            final long overSize = BigArrays.overSize(bucket + 1);
+            counts = bigArrays.resize(counts, overSize);
+            sums = bigArrays.resize(sums, overSize);
+            compensations = bigArrays.resize(compensations, overSize);
+            mins = bigArrays.resize(mins, overSize);
+            maxes = bigArrays.resize(maxes, overSize);
+            mins.fill(from, overSize, Double.POSITIVE_INFINITY);
+            maxes.fill(from, overSize, Double.NEGATIVE_INFINITY);
+        }
+    }
+
+    @Override
+    public String starTreeField() {
+        return starTreeField;
+    }
+
+    @Override
+    public void collectStarTreeStats(long bucket, StarTree.MetricStats stats) {
+        grow(bucket);
+        counts.increment(bucket, stats.count());
+        final CompensatedSum kahanSummation = new CompensatedSum(sums.get(bucket), compensations.get(bucket));
+        kahanSummation.add(stats.sum());
+        sums.set(bucket, kahanSummation.value());
+        compensations.set(bucket, kahanSummation.delta());
+        mins.set(bucket, Math.min(mins.get(bucket), stats.min()));
+        maxes.set(bucket, Math.max(maxes.get(bucket), stats.max()));
+    }
+
     @Override
     public boolean hasMetric(String name) {
         try {
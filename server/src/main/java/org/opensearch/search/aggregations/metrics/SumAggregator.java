@@ -36,6 +36,9 @@ import org.apache.lucene.search.ScoreMode;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.DoubleArray;
+import org.opensearch.index.codec.startree.StarTree;
+import org.opensearch.index.fielddata.FieldData;
+import org.opensearch.index.fielddata.NumericDoubleValues;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
@@ -49,10 +52,11 @@ import org.opensearch.search.internal.SearchContext;
 import java.io.IOException;
 import java.util.Map;
 
-public class SumAggregator extends NumericMetricsAggregator.SingleValue {
+public class SumAggregator extends NumericMetricsAggregator.SingleValue implements StarTreeMetricsAggregator {
 
     private final ValuesSource.Numeric valuesSource;
     private final DocValueFormat format;
+    private final String starTreeField;
 
     private DoubleArray sums;
     private DoubleArray compensations;
@@ -68,6 +72,7 @@ public class SumAggregator extends NumericMetricsAggregator.SingleValue {
         // TODO: stop expecting nulls here
         this.valuesSource = valuesSourceConfig.hasValues() ? (ValuesSource.Numeric) valuesSourceConfig.getValuesSource() : null;
         this.format = valuesSourceConfig.format();
+        this.starTreeField = StarTreeMetricsAggregator.starTreeField(valuesSourceConfig);
         if (valuesSource != null) {
             sums = context.bigArrays().newDoubleArray(1, true);
             compensations = context.bigArrays().newDoubleArray(1, true);
@@ -85,8 +90,10 @@ public class SumAggregator extends NumericMetricsAggregator.SingleValue {
         if (valuesSource == null) {
             return LeafBucketCollector.NO_OP_COLLECTOR;
         }
+        collectFromStarTree(starTreeIfAvailable(ctx, starTreeField));
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
+        final NumericDoubleValues singleton = FieldData.unwrapSingleton(values);
         final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -111,9 +118,50 @@ public class SumAggregator extends NumericMetricsAggregator.SingleValue {
                     sums.set(bucket, kahanSummation.value());
                 }
             }
+
+            @Override
+            public void collect(int[] docs, int count, long bucket) throws IOException {
+                sums = bigArrays.grow(sums, bucket + 1);
+                compensations = bigArrays.grow(compensations, bucket + 1);
+
+                // the sum of the bucket is only loaded and stored once for the whole block
+                kahanSummation.reset(sums.get(bucket), compensations.get(bucket));
+                if (singleton != null) {
+                    for (int i = 0; i < count; i++) {
+                        if (singleton.advanceExact(docs[i])) {
+                            kahanSummation.add(singleton.doubleValue());
+                        }
+                    }
+                } else {
+                    for (int i = 0; i < count; i++) {
+                        if (values.advanceExact(docs[i])) {
+                            for (int j = 0, valuesCount = values.docValueCount(); j < valuesCount; j++) {
+                                kahanSummation.add(values.nextValue());
+                            }
+                        }
+                    }
+                }
+                compensations.set(bucket, kahanSummation.delta());
+                sums.set(bucket, kahanSummation.value());
+            }
         };
     }
 
+    @Override
+    public String starTreeField() {
+        return starTreeField;
+    }
+
+    @Override
+    public void collectStarTreeStats(long bucket, StarTree.MetricStats stats) {
+        sums = context.bigArrays().grow(sums, bucket + 1);
+        compensations = context.bigArrays().grow(compensations, bucket + 1);
+        final CompensatedSum kahanSummation = new CompensatedSum(sums.get(bucket), compensations.get(bucket));
+        kahanSummation.add(stats.sum());
+        compensations.set(bucket, kahanSummation.delta());
+        sums.set(bucket, kahanSummation.value());
+    }
+
     @Override
     public double metric(long owningBucketOrd) {
         if (valuesSource == null || owningBucketOrd >= sums.size()) {
@@ -37,6 +37,7 @@ import org.apache.lucene.search.ScoreMode;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.LongArray;
+import org.opensearch.index.codec.startree.StarTree;
 import org.opensearch.index.fielddata.MultiGeoPointValues;
 import org.opensearch.index.fielddata.SortedBinaryDocValues;
 import org.opensearch.search.aggregations.Aggregator;
@@ -56,9 +57,10 @@ import java.util.Map;
  * This aggregator works in a multi-bucket mode, that is, when serves as a sub-aggregator, a single aggregator instance aggregates the
  * counts for all buckets owned by the parent aggregator)
  */
-public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue {
+public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue implements StarTreeMetricsAggregator {
 
     final ValuesSource valuesSource;
+    private final String starTreeField;
 
     // a count per bucket
     LongArray counts;
@@ -72,6 +74,7 @@ public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue {
         super(name, aggregationContext, parent, metadata);
         // TODO: stop expecting nulls here
         this.valuesSource = valuesSourceConfig.hasValues() ? valuesSourceConfig.getValuesSource() : null;
+        this.starTreeField = StarTreeMetricsAggregator.starTreeField(valuesSourceConfig);
         if (valuesSource != null) {
             counts = context.bigArrays().newLongArray(1, true);
         }
@@ -83,6 +86,7 @@ public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue {
         if (valuesSource == null) {
             return LeafBucketCollector.NO_OP_COLLECTOR;
         }
+        collectFromStarTree(starTreeIfAvailable(ctx, starTreeField));
         final BigArrays bigArrays = context.bigArrays();
 
         if (valuesSource instanceof ValuesSource.Numeric) {
@@ -126,6 +130,17 @@ public class ValueCountAggregator extends NumericMetricsAggregator.SingleValue {
         };
     }
 
+    @Override
+    public String starTreeField() {
+        return starTreeField;
+    }
+
+    @Override
+    public void collectStarTreeStats(long bucket, StarTree.MetricStats stats) {
+        counts = context.bigArrays().grow(counts, bucket + 1);
+        counts.increment(bucket, stats.count());
+    }
+
     @Override
     public double metric(long owningBucketOrd) {
         return (valuesSource == null || owningBucketOrd >= counts.size()) ? 0 : counts.get(owningBucketOrd);
@@ -214,6 +214,13 @@ public abstract class ValuesSource {
                     this.indexFieldData = indexFieldData;
                 }
 
+                /**
+                 * The name of the field whose ordinals this values source reads.
+                 */
+                public String fieldName() {
+                    return indexFieldData.getFieldName();
+                }
+
                 @Override
                 public SortedBinaryDocValues bytesValues(LeafReaderContext context) {
                     final LeafOrdinalsFieldData atomicFieldData = indexFieldData.load(context);
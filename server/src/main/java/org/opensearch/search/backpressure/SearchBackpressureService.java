@@ -0,0 +1,323 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.common.component.AbstractLifecycleComponent;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.monitor.jvm.JvmStats;
+import org.opensearch.monitor.process.ProcessProbe;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Protects the node from the search shard tasks that use the most resources: when the node is in duress, that is its CPU or heap
+ * usage has been above a threshold for several successive checks, the search shard tasks whose CPU time or allocated heap are above
+ * a threshold are cancelled, the most expensive first. The queue of the {@code search} thread pool only limits the number of
+ * requests, so a few expensive aggregations can otherwise starve the other searches or push the heap toward the parent circuit breaker.
+ * <p>
+ * The heap of a task is the number of bytes that its threads allocated since it started, not the number of bytes it retains: a task
+ * that allocates a lot of short-lived garbage may be cancelled while retaining little, which is why the tasks are only cancelled when
+ * the node is in duress.
+ * <p>
+ * The usage of the tasks is only tracked when {@link TaskManager#TASK_RESOURCE_TRACKING_ENABLED_SETTING} is enabled, so no task is
+ * cancelled otherwise: the {@link Mode#ENFORCED} mode can't be configured while it is disabled.
+ * <p>
+ * Only the running tasks are cancelled: the new search requests are still admitted while the node is in duress, and are cancelled in
+ * turn once their usage exceeds the thresholds.
+ * <p>
+ * In the {@link Mode#MONITOR_ONLY} mode, the tasks that would be cancelled are only counted in the {@link SearchBackpressureStats},
+ * separately from the tasks that are cancelled.
+ */
+public class SearchBackpressureService extends AbstractLifecycleComponent {
+
+    private static final Logger logger = LogManager.getLogger(SearchBackpressureService.class);
+
+    public enum Mode {
+        DISABLED,
+        MONITOR_ONLY,
+        ENFORCED;
+
+        public String getName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        public static Mode fromName(String name) {
+            switch (name) {
+                case "disabled":
+                    return DISABLED;
+                case "monitor_only":
+                    return MONITOR_ONLY;
+                case "enforced":
+                    return ENFORCED;
+                default:
+                    throw new IllegalArgumentException("invalid search backpressure mode [" + name
+                        + "], must be one of [disabled, monitor_only, enforced]");
+            }
+        }
+    }
+
+    public static final Setting<Mode> MODE_SETTING = new Setting<>("search_backpressure.mode", Mode.MONITOR_ONLY.getName(),
+        Mode::fromName, new ModeValidator(), Property.Dynamic, Property.NodeScope);
+
+    /**
+     * Rejects the {@link Mode#ENFORCED} mode if the usage of the tasks isn't tracked, as no task would ever be cancelled.
+     */
+    private static final class ModeValidator implements Setting.Validator<Mode> {
+
+        @Override
+        public void validate(Mode value) {
+        }
+
+        @Override
+        public void validate(Mode value, Map<Setting<?>, Object> settings) {
+            if (value == Mode.ENFORCED && (Boolean) settings.get(TaskManager.TASK_RESOURCE_TRACKING_ENABLED_SETTING) == false) {
+                throw new IllegalArgumentException("search backpressure mode [" + value.getName() + "] requires ["
+                    + TaskManager.TASK_RESOURCE_TRACKING_ENABLED_SETTING.getKey() + "] to be enabled");
+            }
+        }
+
+        @Override
+        public Iterator<Setting<?>> settings() {
+            final List<Setting<?>> settings = Collections.singletonList(TaskManager.TASK_RESOURCE_TRACKING_ENABLED_SETTING);
+            return settings.iterator();
+        }
+    }
+
+    public static final Setting<TimeValue> INTERVAL_SETTING = Setting.timeSetting("search_backpressure.interval",
+        TimeValue.timeValueSeconds(1), TimeValue.timeValueMillis(1), Property.NodeScope);
+
+    public static final Setting<Integer> NUM_SUCCESSIVE_BREACHES_SETTING =
+        Setting.intSetting("search_backpressure.node_duress.num_successive_breaches", 3, 1, Property.Dynamic, Property.NodeScope);
+
+    public static final Setting<Double> CPU_THRESHOLD_SETTING =
+        Setting.doubleSetting("search_backpressure.node_duress.cpu_threshold", 0.9, 0.0, 1.0, Property.Dynamic, Property.NodeScope);
+
+    public static final Setting<Double> HEAP_THRESHOLD_SETTING =
+        Setting.doubleSetting("search_backpressure.node_duress.heap_threshold", 0.7, 0.0, 1.0, Property.Dynamic, Property.NodeScope);
+
+    public static final Setting<TimeValue> TASK_CPU_TIME_THRESHOLD_SETTING = Setting.timeSetting(
+        "search_backpressure.search_shard_task.cpu_time_threshold", TimeValue.timeValueSeconds(15), TimeValue.ZERO,
+        Property.Dynamic, Property.NodeScope);
+
+    /**
+     * The number of bytes that a search shard task may allocate while the node is in duress, as a fraction of the maximum heap.
+     */
+    public static final Setting<Double> TASK_HEAP_ALLOCATION_THRESHOLD_SETTING = Setting.doubleSetting(
+        "search_backpressure.search_shard_task.heap_allocation_threshold", 0.005, 0.0, 1.0, Property.Dynamic, Property.NodeScope);
+
+    public static final Setting<Integer> MAX_CANCELLATIONS_PER_INTERVAL_SETTING = Setting.intSetting(
+        "search_backpressure.search_shard_task.max_cancellations_per_interval", 10, 0, Property.Dynamic, Property.NodeScope);
+
+    private final ThreadPool threadPool;
+    private final TaskManager taskManager;
+    private final TimeValue interval;
+    private final DoubleSupplier cpuUsage;
+    private final DoubleSupplier heapUsage;
+    private final long heapMaxBytes;
+
+    private volatile Mode mode;
+    private volatile int numSuccessiveBreaches;
+    private volatile double cpuThreshold;
+    private volatile double heapThreshold;
+    private volatile TimeValue taskCpuTimeThreshold;
+    private volatile double taskHeapAllocationThreshold;
+    private volatile int maxCancellationsPerInterval;
+
+    private int cpuBreaches;
+    private int heapBreaches;
+    /**
+     * The ids of the tasks that were already counted as cancelled, which in the monitor only mode are still running.
+     */
+    private final Set<Long> cancelledTasks = new HashSet<>();
+    private boolean warnedTrackingDisabled;
+    private volatile boolean inDuress;
+    private final AtomicLong cancellationCount = new AtomicLong();
+    private final AtomicLong wouldBeCancellationCount = new AtomicLong();
+    private final AtomicLong limitReachedCount = new AtomicLong();
+    private final AtomicLong cpuTimeBreachCount = new AtomicLong();
+    private final AtomicLong heapAllocationBreachCount = new AtomicLong();
+
+    private volatile Scheduler.Cancellable scheduledFuture;
+
+    public SearchBackpressureService(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool, TaskManager taskManager) {
+        this(settings, clusterSettings, threadPool, taskManager,
+            () -> ProcessProbe.getInstance().getProcessCpuPercent() / 100.0,
+            () -> JvmStats.jvmStats().getMem().getHeapUsedPercent() / 100.0,
+            JvmStats.jvmStats().getMem().getHeapMax().getBytes());
+    }
+
+    SearchBackpressureService(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool, TaskManager taskManager,
+                              DoubleSupplier cpuUsage, DoubleSupplier heapUsage, long heapMaxBytes) {
+        this.threadPool = threadPool;
+        this.taskManager = taskManager;
+        this.interval = INTERVAL_SETTING.get(settings);
+        this.cpuUsage = cpuUsage;
+        this.heapUsage = heapUsage;
+        this.heapMaxBytes = heapMaxBytes;
+        this.mode = MODE_SETTING.get(settings);
+        this.numSuccessiveBreaches = NUM_SUCCESSIVE_BREACHES_SETTING.get(settings);
+        this.cpuThreshold = CPU_THRESHOLD_SETTING.get(settings);
+        this.heapThreshold = HEAP_THRESHOLD_SETTING.get(settings);
+        this.taskCpuTimeThreshold = TASK_CPU_TIME_THRESHOLD_SETTING.get(settings);
+        this.taskHeapAllocationThreshold = TASK_HEAP_ALLOCATION_THRESHOLD_SETTING.get(settings);
+        this.maxCancellationsPerInterval = MAX_CANCELLATIONS_PER_INTERVAL_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(MODE_SETTING, mode -> this.mode = mode);
+        clusterSettings.addSettingsUpdateConsumer(NUM_SUCCESSIVE_BREACHES_SETTING, value -> this.numSuccessiveBreaches = value);
+        clusterSettings.addSettingsUpdateConsumer(CPU_THRESHOLD_SETTING, value -> this.cpuThreshold = value);
+        clusterSettings.addSettingsUpdateConsumer(HEAP_THRESHOLD_SETTING, value -> this.heapThreshold = value);
+        clusterSettings.addSettingsUpdateConsumer(TASK_CPU_TIME_THRESHOLD_SETTING, value -> this.taskCpuTimeThreshold = value);
+        clusterSettings.addSettingsUpdateConsumer(TASK_HEAP_ALLOCATION_THRESHOLD_SETTING,
+            value -> this.taskHeapAllocationThreshold = value);
+        clusterSettings.addSettingsUpdateConsumer(MAX_CANCELLATIONS_PER_INTERVAL_SETTING,
+            value -> this.maxCancellationsPerInterval = value);
+    }
+
+    @Override
+    protected void doStart() {
+        scheduledFuture = threadPool.scheduleWithFixedDelay(() -> {
+            try {
+                doRun();
+            } catch (Exception e) {
+                logger.warn("failed to check the resource usage of search shard tasks", e);
+            }
+        }, interval, ThreadPool.Names.GENERIC);
+    }
+
+    @Override
+    protected void doStop() {
+        if (scheduledFuture != null) {
+            scheduledFuture.cancel();
+        }
+    }
+
+    @Override
+    protected void doClose() {
+    }
+
+    /**
+     * Checks whether the node is in duress and if so cancels the search shard tasks that use the most resources.
+     */
+    synchronized void doRun() {
+        final Mode mode = this.mode;
+        if (mode == Mode.DISABLED) {
+            cpuBreaches = heapBreaches = 0;
+            inDuress = false;
+            cancelledTasks.clear();
+            return;
+        }
+        if (mode == Mode.ENFORCED && taskManager.isResourceTrackingEnabled() == false) {
+            // the mode is validated when it is set, but the tracking may be disabled afterwards
+            if (warnedTrackingDisabled == false) {
+                logger.warn("search backpressure is [{}] but [{}] is disabled, no search shard task will be cancelled",
+                    mode.getName(), TaskManager.TASK_RESOURCE_TRACKING_ENABLED_SETTING.getKey());
+                warnedTrackingDisabled = true;
+            }
+        } else {
+            warnedTrackingDisabled = false;
+        }
+        cpuBreaches = cpuUsage.getAsDouble() >= cpuThreshold ? cpuBreaches + 1 : 0;
+        heapBreaches = heapUsage.getAsDouble() >= heapThreshold ? heapBreaches + 1 : 0;
+        inDuress = cpuBreaches >= numSuccessiveBreaches || heapBreaches >= numSuccessiveBreaches;
+        if (inDuress == false) {
+            return;
+        }
+
+        final long cpuTimeThresholdNanos = taskCpuTimeThreshold.nanos();
+        final long heapAllocationThresholdBytes = (long) (heapMaxBytes * taskHeapAllocationThreshold);
+        final List<TaskUsage> candidates = new ArrayList<>();
+        final Set<Long> runningTasks = new HashSet<>();
+        for (CancellableTask task : taskManager.getCancellableTasks().values()) {
+            runningTasks.add(task.getId());
+            if (task instanceof SearchShardTask && task.isCancelled() == false && cancelledTasks.contains(task.getId()) == false) {
+                final SearchShardTask searchShardTask = (SearchShardTask) task;
+                final TaskUsage usage = new TaskUsage(searchShardTask, searchShardTask.getCpuTimeNanos(),
+                    searchShardTask.getAllocatedBytes());
+                if (usage.cpuTimeNanos >= cpuTimeThresholdNanos || usage.allocatedBytes >= heapAllocationThresholdBytes) {
+                    candidates.add(usage);
+                }
+            }
+        }
+        cancelledTasks.retainAll(runningTasks);
+        if (candidates.isEmpty()) {
+            return;
+        }
+        // the heap is what takes the node down, so the tasks that allocated the most are cancelled first
+        candidates.sort(Comparator.comparingLong((TaskUsage usage) -> usage.allocatedBytes)
+            .thenComparingLong(usage -> usage.cpuTimeNanos).reversed());
+
+        final int maxCancellations = maxCancellationsPerInterval;
+        if (candidates.size() > maxCancellations) {
+            limitReachedCount.incrementAndGet();
+        }
+        for (TaskUsage usage : candidates.subList(0, Math.min(maxCancellations, candidates.size()))) {
+            final StringBuilder reason = new StringBuilder("resource usage of the task exceeded the search backpressure thresholds:");
+            if (usage.cpuTimeNanos >= cpuTimeThresholdNanos) {
+                cpuTimeBreachCount.incrementAndGet();
+                reason.append(" cpu time [").append(TimeValue.timeValueNanos(usage.cpuTimeNanos)).append("] >= [")
+                    .append(taskCpuTimeThreshold).append("]");
+            }
+            if (usage.allocatedBytes >= heapAllocationThresholdBytes) {
+                heapAllocationBreachCount.incrementAndGet();
+                reason.append(" heap allocations [").append(usage.allocatedBytes).append("b] >= [")
+                    .append(heapAllocationThresholdBytes).append("b]");
+            }
+            cancelledTasks.add(usage.task.getId());
+            if (mode == Mode.ENFORCED) {
+                cancellationCount.incrementAndGet();
+                logger.debug("cancelling task [{}] because the node is in duress, {}", usage.task.getId(), reason);
+                taskManager.cancel(usage.task, reason.toString(), () -> {});
+            } else {
+                wouldBeCancellationCount.incrementAndGet();
+                logger.debug("task [{}] would be cancelled because the node is in duress, {}", usage.task.getId(), reason);
+            }
+        }
+    }
+
+    public boolean isNodeInDuress() {
+        return inDuress;
+    }
+
+    public SearchBackpressureStats stats() {
+        return new SearchBackpressureStats(mode, inDuress, cancellationCount.get(), wouldBeCancellationCount.get(),
+            limitReachedCount.get(), cpuTimeBreachCount.get(), heapAllocationBreachCount.get());
+    }
+
+    private static final class TaskUsage {
+        private final SearchShardTask task;
+        private final long cpuTimeNanos;
+        private final long allocatedBytes;
+
+        private TaskUsage(SearchShardTask task, long cpuTimeNanos, long allocatedBytes) {
+            this.task = task;
+            this.cpuTimeNanos = cpuTimeNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+}
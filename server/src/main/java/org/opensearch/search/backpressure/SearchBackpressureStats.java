@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+
+/**
+ * The decisions of the {@link SearchBackpressureService} of a node.
+ */
+public class SearchBackpressureStats implements Writeable, ToXContentFragment {
+
+    private final SearchBackpressureService.Mode mode;
+    private final boolean nodeInDuress;
+    private final long cancellationCount;
+    private final long wouldBeCancellationCount;
+    private final long limitReachedCount;
+    private final long cpuTimeBreachCount;
+    private final long heapAllocationBreachCount;
+
+    public SearchBackpressureStats(SearchBackpressureService.Mode mode, boolean nodeInDuress, long cancellationCount,
+                                   long wouldBeCancellationCount, long limitReachedCount, long cpuTimeBreachCount,
+                                   long heapAllocationBreachCount) {
+        this.mode = mode;
+        this.nodeInDuress = nodeInDuress;
+        this.cancellationCount = cancellationCount;
+        this.wouldBeCancellationCount = wouldBeCancellationCount;
+        this.limitReachedCount = limitReachedCount;
+        this.cpuTimeBreachCount = cpuTimeBreachCount;
+        this.heapAllocationBreachCount = heapAllocationBreachCount;
+    }
+
+    public SearchBackpressureStats(StreamInput in) throws IOException {
+        mode = in.readEnum(SearchBackpressureService.Mode.class);
+        nodeInDuress = in.readBoolean();
+        cancellationCount = in.readVLong();
+        wouldBeCancellationCount = in.readVLong();
+        limitReachedCount = in.readVLong();
+        cpuTimeBreachCount = in.readVLong();
+        heapAllocationBreachCount = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeEnum(mode);
+        out.writeBoolean(nodeInDuress);
+        out.writeVLong(cancellationCount);
+        out.writeVLong(wouldBeCancellationCount);
+        out.writeVLong(limitReachedCount);
+        out.writeVLong(cpuTimeBreachCount);
+        out.writeVLong(heapAllocationBreachCount);
+    }
+
+    public SearchBackpressureService.Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Whether the node was in duress at the last check of its resource usage.
+     */
+    public boolean isNodeInDuress() {
+        return nodeInDuress;
+    }
+
+    /**
+     * The number of search shard tasks that were cancelled in the enforced mode.
+     */
+    public long getCancellationCount() {
+        return cancellationCount;
+    }
+
+    /**
+     * The number of search shard tasks that would have been cancelled in the monitor only mode, but were left running.
+     */
+    public long getWouldBeCancellationCount() {
+        return wouldBeCancellationCount;
+    }
+
+    /**
+     * The number of checks that found more tasks to cancel than the maximum number of cancellations per interval.
+     */
+    public long getLimitReachedCount() {
+        return limitReachedCount;
+    }
+
+    /**
+     * The number of cancelled, or would be cancelled, tasks whose CPU time was above the threshold.
+     */
+    public long getCpuTimeBreachCount() {
+        return cpuTimeBreachCount;
+    }
+
+    /**
+     * The number of cancelled, or would be cancelled, tasks whose heap allocations were above the threshold.
+     */
+    public long getHeapAllocationBreachCount() {
+        return heapAllocationBreachCount;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("search_backpressure");
+        builder.field("mode", mode.getName());
+        builder.field("node_in_duress", nodeInDuress);
+        builder.startObject("search_shard_task");
+        builder.field("cancellation_count", cancellationCount);
+        builder.field("would_be_cancellation_count", wouldBeCancellationCount);
+        builder.field("limit_reached_count", limitReachedCount);
+        builder.startObject("resource_breaches");
+        builder.field("cpu_time", cpuTimeBreachCount);
+        builder.field("heap_allocation", heapAllocationBreachCount);
+        builder.endObject();
+        builder.endObject();
+        return builder.endObject();
+    }
+}
@@ -42,6 +42,7 @@ import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.xcontent.ToXContentObject;
 import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.common.xcontent.support.StreamingXContentFilter;
 import org.opensearch.common.xcontent.support.XContentMapValues;
 import org.opensearch.rest.RestRequest;
 
@@ -66,6 +67,7 @@ public class FetchSourceContext implements Writeable, ToXContentObject {
     private final String[] includes;
     private final String[] excludes;
     private Function<Map<String, ?>, Map<String, Object>> filter;
+    private StreamingXContentFilter streamingFilter;
 
     public FetchSourceContext(boolean fetchSource, String[] includes, String[] excludes) {
         this.fetchSource = fetchSource;
@@ -247,4 +249,15 @@ public class FetchSourceContext implements Writeable, ToXContentObject {
         }
         return filter;
     }
+
+    /**
+     * Returns a filter that reads the source from a parser and writes the filtered source to a builder, without building the
+     * source map.
+     */
+    public StreamingXContentFilter getStreamingFilter() {
+        if (streamingFilter == null) {
+            streamingFilter = new StreamingXContentFilter(includes, excludes);
+        }
+        return streamingFilter;
+    }
 }
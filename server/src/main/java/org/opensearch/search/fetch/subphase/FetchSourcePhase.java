@@ -36,7 +36,11 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.opensearch.OpenSearchException;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.DeprecationHandler;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
 import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.fetch.FetchContext;
 import org.opensearch.search.fetch.FetchSubPhase;
@@ -90,6 +94,12 @@ public final class FetchSourcePhase implements FetchSubPhase {
             return;
         }
 
+        // If the source wasn't parsed yet, then filter its bytes rather than building its map.
+        if (nestedHit == false && source.source() == null) {
+            hitContext.hit().sourceRef(filterSourceBytes(fetchSourceContext, source.internalSourceRef()));
+            return;
+        }
+
         // Otherwise, filter the source and add it to the hit.
         Object value = source.filter(fetchSourceContext);
         if (nestedHit) {
@@ -117,6 +127,18 @@ public final class FetchSourcePhase implements FetchSubPhase {
         }
     }
 
+    private static BytesReference filterSourceBytes(FetchSourceContext fetchSourceContext, BytesReference sourceRef) {
+        try (XContentParser parser = XContentHelper.createParser(NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION, sourceRef)) {
+            BytesStreamOutput streamOutput = new BytesStreamOutput(Math.min(1024, sourceRef.length()));
+            XContentBuilder builder = new XContentBuilder(parser.contentType().xContent(), streamOutput);
+            fetchSourceContext.getStreamingFilter().filter(parser, builder);
+            return BytesReference.bytes(builder);
+        } catch (IOException e) {
+            throw new OpenSearchException("Error filtering source", e);
+        }
+    }
+
     private static boolean containsFilters(FetchSourceContext context) {
         return context.includes().length != 0 || context.excludes().length != 0;
     }
@@ -62,6 +62,7 @@ import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.CombinedBitSet;
 import org.apache.lucene.util.SparseFixedBitSet;
+import org.apache.lucene.util.ThreadInterruptedException;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.search.DocValueFormat;
@@ -80,6 +81,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Context-aware extension of {@link IndexSearcher}.
@@ -91,25 +96,45 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
      */
     private static int CHECK_CANCELLED_SCORER_INTERVAL = 1 << 11;
 
+    /**
+     * The maximum number of documents and segments of a slice when searching concurrently, these are the limits that
+     * Lucene uses for its default slicing.
+     */
+    private static final int MAX_DOCS_PER_SLICE = 250_000;
+    private static final int MAX_SEGMENTS_PER_SLICE = 5;
+
     private AggregatedDfs aggregatedDfs;
     private QueryProfiler profiler;
     private MutableQueryTimeout cancellable;
+    private final Executor executor;
 
     public ContextIndexSearcher(IndexReader reader, Similarity similarity,
                                 QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
                                 boolean wrapWithExitableDirectoryReader) throws IOException {
-        this(reader, similarity, queryCache, queryCachingPolicy, new MutableQueryTimeout(), wrapWithExitableDirectoryReader);
+        this(reader, similarity, queryCache, queryCachingPolicy, wrapWithExitableDirectoryReader, null);
+    }
+
+    /**
+     * Creates a searcher that searches slices of the reader's leaves concurrently on the provided executor when it is given a
+     * {@link CollectorManager}. A <code>null</code> executor disables concurrent search.
+     */
+    public ContextIndexSearcher(IndexReader reader, Similarity similarity,
+                                QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
+                                boolean wrapWithExitableDirectoryReader, Executor executor) throws IOException {
+        this(reader, similarity, queryCache, queryCachingPolicy, new MutableQueryTimeout(), wrapWithExitableDirectoryReader, executor);
     }
 
     private ContextIndexSearcher(IndexReader reader, Similarity similarity,
                                  QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
                                  MutableQueryTimeout cancellable,
-                                 boolean wrapWithExitableDirectoryReader) throws IOException {
-        super(wrapWithExitableDirectoryReader ? new ExitableDirectoryReader((DirectoryReader) reader, cancellable) : reader);
+                                 boolean wrapWithExitableDirectoryReader,
+                                 Executor executor) throws IOException {
+        super(wrapWithExitableDirectoryReader ? new ExitableDirectoryReader((DirectoryReader) reader, cancellable) : reader, executor);
         setSimilarity(similarity);
         setQueryCache(queryCache);
         setQueryCachingPolicy(queryCachingPolicy);
         this.cancellable = cancellable;
+        this.executor = executor;
     }
 
     public void setProfiler(QueryProfiler profiler) {
@@ -186,6 +211,105 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         }
     }
 
+    /**
+     * Returns true if this searcher executes {@link CollectorManager} based searches concurrently across slices of its leaves.
+     */
+    public boolean isConcurrentSearchEnabled() {
+        return executor != null;
+    }
+
+    /**
+     * Groups contiguous leaves into slices, unlike Lucene's default slicing that sorts leaves by size. Keeping the slices in
+     * leaf order means that merging their top docs breaks ties on the doc id, exactly like a sequential search does, so
+     * enabling concurrent search does not change which documents are returned.
+     */
+    @Override
+    protected LeafSlice[] slices(List<LeafReaderContext> leaves) {
+        final List<LeafSlice> slices = new ArrayList<>();
+        List<LeafReaderContext> group = new ArrayList<>();
+        long docsInGroup = 0;
+        for (LeafReaderContext leaf : leaves) {
+            group.add(leaf);
+            docsInGroup += leaf.reader().maxDoc();
+            if (group.size() >= MAX_SEGMENTS_PER_SLICE || docsInGroup >= MAX_DOCS_PER_SLICE) {
+                slices.add(new LeafSlice(group));
+                group = new ArrayList<>();
+                docsInGroup = 0;
+            }
+        }
+        if (group.isEmpty() == false) {
+            slices.add(new LeafSlice(group));
+        }
+        return slices.toArray(new LeafSlice[0]);
+    }
+
+    /**
+     * Searches the slices of the leaves concurrently like {@link IndexSearcher#search(Query, CollectorManager)}, but waits for
+     * all slices to complete before failing, so that the collectors created by the manager are no longer in use once this
+     * returns or throws. This allows callers to reduce what the collectors gathered before a slice timed out.
+     */
+    @Override
+    public <C extends Collector, T> T search(Query query, CollectorManager<C, T> collectorManager) throws IOException {
+        final LeafSlice[] leafSlices = getSlices();
+        if (executor == null || leafSlices.length <= 1) {
+            return super.search(query, collectorManager);
+        }
+        final List<C> collectors = new ArrayList<>(leafSlices.length);
+        ScoreMode scoreMode = null;
+        for (int i = 0; i < leafSlices.length; ++i) {
+            final C collector = collectorManager.newCollector();
+            collectors.add(collector);
+            if (scoreMode == null) {
+                scoreMode = collector.scoreMode();
+            } else if (scoreMode != collector.scoreMode()) {
+                throw new IllegalStateException("CollectorManager does not always produce collectors with the same score mode");
+            }
+        }
+        final Weight weight = createWeight(rewrite(query), scoreMode, 1);
+        final List<FutureTask<C>> tasks = new ArrayList<>(leafSlices.length);
+        for (int i = 0; i < leafSlices.length; ++i) {
+            final List<LeafReaderContext> leaves = Arrays.asList(leafSlices[i].leaves);
+            final C collector = collectors.get(i);
+            tasks.add(new FutureTask<>(() -> {
+                search(leaves, weight, collector);
+                return collector;
+            }));
+        }
+        // the calling thread searches the last slice rather than waiting idle
+        for (int i = 0; i < tasks.size() - 1; ++i) {
+            try {
+                executor.execute(tasks.get(i));
+            } catch (RejectedExecutionException e) {
+                tasks.get(i).run();
+            }
+        }
+        tasks.get(tasks.size() - 1).run();
+        Throwable failure = null;
+        for (FutureTask<C> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ThreadInterruptedException(e);
+            } catch (ExecutionException e) {
+                // timeouts, cancellations and I/O errors of slices surface to the caller exactly as with a sequential search
+                if (failure == null) {
+                    failure = e.getCause();
+                } else if (failure != e.getCause()) {
+                    failure.addSuppressed(e.getCause());
+                }
+            }
+        }
+        if (failure instanceof IOException) {
+            throw (IOException) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return collectorManager.reduce(collectors);
+    }
+
     public void search(List<LeafReaderContext> leaves, Weight weight, CollectorManager manager,
             QuerySearchResult result, DocValueFormat[] formats, TotalHits totalHits) throws IOException {
         final List<Collector> collectors = new ArrayList<>(leaves.size());
@@ -55,7 +55,9 @@ import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.util.FutureArrays;
@@ -87,10 +89,12 @@ import org.opensearch.threadpool.ThreadPool;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 
 import static org.opensearch.search.query.QueryCollectorContext.createEarlyTerminationCollectorContext;
@@ -98,6 +102,7 @@ import static org.opensearch.search.query.QueryCollectorContext.createFilteredCo
 import static org.opensearch.search.query.QueryCollectorContext.createMinScoreCollectorContext;
 import static org.opensearch.search.query.QueryCollectorContext.createMultiCollectorContext;
 import static org.opensearch.search.query.TopDocsCollectorContext.createTopDocsCollectorContext;
+import static org.opensearch.search.query.TopDocsCollectorContext.hasInfMaxScore;
 import static org.opensearch.search.query.TopDocsCollectorContext.shortcutTotalHitCount;
 
 
@@ -305,6 +310,8 @@ public class QueryPhase {
                 // if we are optimizing sort and there are no other collectors
                 if (sortAndFormatsForRewrittenNumericSort!=null && collectors.size()==0 && searchContext.getProfilers()==null) {
                     shouldRescore = searchWithCollectorManager(searchContext, searcher, query, leafSorter, timeoutSet);
+                } else if (canSearchConcurrently(searchContext, collectors)) {
+                    shouldRescore = searchConcurrently(searchContext, searcher, query, timeoutSet);
                 } else {
                     shouldRescore = searchWithCollector(searchContext, searcher, query, collectors, hasFilterCollector, timeoutSet);
                 }
@@ -372,6 +379,100 @@ public class QueryPhase {
     }
 
 
+    /**
+     * Returns true if the query can be executed concurrently across the segment slices of the shard. This is only the case when
+     * concurrent segment search is enabled on the index and the request only asks for top docs, since the other collectors
+     * (aggregations, post filters, collapsing, scrolls...) maintain state that cannot be shared between slices.
+     */
+    static boolean canSearchConcurrently(SearchContext searchContext, List<QueryCollectorContext> collectors) {
+        return searchContext.searcher().isConcurrentSearchEnabled()
+            && collectors.isEmpty()
+            && searchContext.size() > 0
+            && searchContext.scrollContext() == null
+            && searchContext.collapse() == null
+            && searchContext.rescore().isEmpty()
+            && searchContext.getProfilers() == null
+            && (searchContext.sort() == null || searchContext.trackScores() == false);
+    }
+
+    /*
+     * Concurrent search creates one top docs collector per slice of leaves through a shared collector manager, so that
+     * slices share the total hits threshold and the minimum competitive score, and merges their top docs when all slices
+     * are done. Total hits and max score are computed the same way as in the sequential {@link TopDocsCollectorContext}.
+     */
+    private static boolean searchConcurrently(SearchContext searchContext, ContextIndexSearcher searcher, Query query,
+            boolean timeoutSet) throws IOException {
+        final IndexReader reader = searcher.getIndexReader();
+        final int numHits = Math.min(searchContext.from() + searchContext.size(), Math.max(1, reader.numDocs()));
+        final SortAndFormats sortAndFormats = searchContext.sort();
+        final FieldDoc searchAfter = searchContext.searchAfter();
+
+        final int totalHitsThreshold;
+        final TotalHits totalHits;
+        if ((sortAndFormats == null || SortField.FIELD_SCORE.equals(sortAndFormats.sort.getSort()[0])) && hasInfMaxScore(query)) {
+            // disable max score optimization since we have a mandatory clause
+            // that doesn't track the maximum score
+            totalHitsThreshold = Integer.MAX_VALUE;
+            totalHits = null;
+        } else if (searchContext.trackTotalHitsUpTo() == SearchContext.TRACK_TOTAL_HITS_DISABLED) {
+            totalHitsThreshold = 1;
+            totalHits = new TotalHits(0, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO);
+        } else {
+            final int hitCount = shortcutTotalHitCount(reader, query);
+            if (hitCount == -1) {
+                totalHitsThreshold = searchContext.trackTotalHitsUpTo();
+                totalHits = null; // will be computed via the collectors
+            } else {
+                totalHitsThreshold = 1;
+                totalHits = new TotalHits(hitCount, TotalHits.Relation.EQUAL_TO); // don't compute hit counts via the collectors
+            }
+        }
+
+        final SliceCollectorsManager<? extends TopDocsCollector<?>, ? extends TopDocs> manager;
+        if (sortAndFormats == null) {
+            manager = new SliceCollectorsManager<>(TopScoreDocCollector.createSharedManager(numHits, searchAfter, totalHitsThreshold));
+        } else {
+            manager = new SliceCollectorsManager<>(
+                TopFieldCollector.createSharedManager(sortAndFormats.sort, numHits, searchAfter, totalHitsThreshold));
+        }
+
+        final QuerySearchResult queryResult = searchContext.queryResult();
+        TopDocs topDocs;
+        try {
+            topDocs = searcher.search(query, manager);
+        } catch (TimeExceededException e) {
+            assert timeoutSet : "TimeExceededException thrown even though timeout wasn't set";
+            if (searchContext.request().allowPartialSearchResults() == false) {
+                // Can't rethrow TimeExceededException because not serializable
+                throw new QueryPhaseExecutionException(searchContext.shardTarget(), "Time exceeded");
+            }
+            queryResult.searchTimedOut(true);
+            // all slices are done once the search returns, return the hits they collected before the timeout like a
+            // sequential search does
+            topDocs = manager.reduceCollected();
+        }
+        // Lucene sets shards indexes during merging of topDocs from different slices
+        // We need to reset shard index; OpenSearch will set shard index later during reduce stage
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+            scoreDoc.shardIndex = -1;
+        }
+        if (totalHits != null && queryResult.searchTimedOut() == false) {
+            if (topDocs instanceof TopFieldDocs) {
+                topDocs = new TopFieldDocs(totalHits, topDocs.scoreDocs, ((TopFieldDocs) topDocs).fields);
+            } else {
+                topDocs = new TopDocs(totalHits, topDocs.scoreDocs);
+            }
+        }
+        final float maxScore;
+        if (sortAndFormats == null && topDocs.scoreDocs.length > 0) {
+            maxScore = topDocs.scoreDocs[0].score;
+        } else {
+            maxScore = Float.NaN;
+        }
+        queryResult.topDocs(new TopDocsAndMaxScore(topDocs, maxScore), sortAndFormats == null ? null : sortAndFormats.formats);
+        return false; // rescoring is not supported with concurrent search
+    }
+
     /*
      * We use collectorManager during sort optimization, where
      * we have already checked that there are no other collectors, no filters,
@@ -656,4 +757,33 @@ public class QueryPhase {
     }
 
     private static class TimeExceededException extends RuntimeException {}
+
+    /**
+     * Keeps track of the collectors that a {@link CollectorManager} created for the slices of a concurrent search, so that what
+     * they collected can still be reduced when the search didn't complete.
+     */
+    private static final class SliceCollectorsManager<C extends Collector, T> implements CollectorManager<C, T> {
+        private final CollectorManager<C, T> delegate;
+        private final List<C> collectors = new CopyOnWriteArrayList<>();
+
+        SliceCollectorsManager(CollectorManager<C, T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public C newCollector() throws IOException {
+            final C collector = delegate.newCollector();
+            collectors.add(collector);
+            return collector;
+        }
+
+        @Override
+        public T reduce(Collection<C> collectors) throws IOException {
+            return delegate.reduce(collectors);
+        }
+
+        T reduceCollected() throws IOException {
+            return delegate.reduce(collectors);
+        }
+    }
 }
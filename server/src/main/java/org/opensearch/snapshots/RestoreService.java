@@ -58,6 +58,7 @@ import org.opensearch.cluster.block.ClusterBlocks;
 import org.opensearch.cluster.metadata.AliasMetadata;
 import org.opensearch.cluster.metadata.DataStream;
 import org.opensearch.cluster.metadata.DataStreamMetadata;
+import org.opensearch.cluster.metadata.IndexLongFieldRange;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.IndexTemplateMetadata;
 import org.opensearch.cluster.metadata.Metadata;
@@ -86,6 +87,7 @@ import org.opensearch.index.Index;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.snapshot.SnapshotDirectoryFactory;
 import org.opensearch.indices.ShardLimitValidator;
 import org.opensearch.repositories.IndexId;
 import org.opensearch.repositories.RepositoriesService;
@@ -324,6 +326,9 @@ public class RestoreService implements ClusterStateApplier {
                                 IndexMetadata snapshotIndexMetadata = metadata.index(index);
                                 snapshotIndexMetadata = updateIndexSettings(snapshotIndexMetadata,
                                     request.indexSettings(), request.ignoreIndexSettings());
+                                if (SnapshotDirectoryFactory.isSnapshotStore(snapshotIndexMetadata.getSettings())) {
+                                    snapshotIndexMetadata = mountIndex(snapshotIndexMetadata, recoverySource.index());
+                                }
                                 try {
                                     snapshotIndexMetadata = metadataIndexUpgradeService.upgradeIndexMetadata(snapshotIndexMetadata,
                                         minIndexCompatibilityVersion);
@@ -344,7 +349,8 @@ public class RestoreService implements ClusterStateApplier {
                                     createIndexService.validateIndexSettings(renamedIndexName, snapshotIndexMetadata.getSettings(), false);
                                     IndexMetadata.Builder indexMdBuilder = IndexMetadata.builder(snapshotIndexMetadata)
                                         .state(IndexMetadata.State.OPEN)
-                                        .index(renamedIndexName);
+                                        .index(renamedIndexName)
+                                        .timestampRange(IndexLongFieldRange.NO_SHARDS);
                                     indexMdBuilder.settings(Settings.builder()
                                         .put(snapshotIndexMetadata.getSettings())
                                         .put(IndexMetadata.SETTING_INDEX_UUID, UUIDs.randomBase64UUID()));
@@ -368,8 +374,9 @@ public class RestoreService implements ClusterStateApplier {
                                 } else {
                                     validateExistingIndex(currentIndexMetadata, snapshotIndexMetadata, renamedIndexName, partial);
                                     // Index exists and it's closed - open it in metadata and start recovery
-                                    IndexMetadata.Builder indexMdBuilder =
-                                        IndexMetadata.builder(snapshotIndexMetadata).state(IndexMetadata.State.OPEN);
+                                    IndexMetadata.Builder indexMdBuilder = IndexMetadata.builder(snapshotIndexMetadata)
+                                        .state(IndexMetadata.State.OPEN)
+                                        .timestampRange(IndexLongFieldRange.NO_SHARDS);
                                     indexMdBuilder.version(
                                         Math.max(snapshotIndexMetadata.getVersion(), 1 + currentIndexMetadata.getVersion()));
                                     indexMdBuilder.mappingVersion(
@@ -605,6 +612,24 @@ public class RestoreService implements ClusterStateApplier {
                         return builder.settings(settingsBuilder).build();
                     }
 
+                    /**
+                     * Mounts the index from the snapshot rather than restoring its files: the shards of the index read the files of
+                     * the snapshot from the repository when they're accessed, and the index is blocked for writes.
+                     */
+                    private IndexMetadata mountIndex(IndexMetadata indexMetadata, IndexId indexId) {
+                        try {
+                            SnapshotDirectoryFactory.blobStoreRepository(repositoriesService, snapshot.getRepository());
+                        } catch (IllegalArgumentException e) {
+                            throw new SnapshotRestoreException(snapshot, "cannot mount index [" + indexId.getName() + "]", e);
+                        }
+                        return IndexMetadata.builder(indexMetadata)
+                            .settings(Settings.builder()
+                                .put(indexMetadata.getSettings())
+                                .put(SnapshotDirectoryFactory.mountSettings(snapshot.getRepository(), snapshot.getSnapshotId(), indexId))
+                                .put(IndexMetadata.SETTING_BLOCKS_WRITE, true))
+                            .build();
+                    }
+
                     @Override
                     public void onFailure(String source, Exception e) {
                         logger.warn(() -> new ParameterizedMessage("[{}] failed to restore snapshot", snapshotId), e);
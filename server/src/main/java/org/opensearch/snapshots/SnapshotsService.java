@@ -93,6 +93,7 @@ import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.index.Index;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.snapshot.SnapshotDirectoryFactory;
 import org.opensearch.repositories.IndexId;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.repositories.Repository;
@@ -2094,6 +2095,13 @@ public class SnapshotsService extends AbstractLifecycleComponent implements Clus
                                 "cannot delete snapshot during a restore in progress in [" + restoreInProgress + "]");
                     }
                 }
+                // don't allow deleting the snapshots that indices are mounted from, since these indices read their files from the
+                // snapshots
+                final Set<String> mountedIndices = SnapshotDirectoryFactory.mountedIndices(currentState.metadata(), repoName, snapshotIds);
+                if (mountedIndices.isEmpty() == false) {
+                    throw new IllegalArgumentException("cannot delete snapshots " + snapshotIds + " of repository [" + repoName
+                        + "] that indices " + mountedIndices + " are mounted from");
+                }
                 final SnapshotsInProgress snapshots = currentState.custom(SnapshotsInProgress.TYPE, SnapshotsInProgress.EMPTY);
                 final Set<SnapshotId> activeCloneSources = snapshots.entries()
                     .stream()
@@ -36,11 +36,15 @@ package org.opensearch.tasks;
 import org.opensearch.action.ActionResponse;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.io.stream.NamedWriteable;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.ToXContentObject;
+import org.opensearch.monitor.jvm.ThreadResourceProbe;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Current task information
@@ -52,6 +56,19 @@ public class Task {
      */
     public static final String X_OPAQUE_ID = "X-Opaque-Id";
 
+    /**
+     * The transient header of the task that the work of the current thread is accounted to, see
+     * {@link TaskManager#taskExecutionStarted(Task)}.
+     */
+    public static final String TASK_TRANSIENT = "_task";
+
+    private static final ThreadResourceProbe PROBE = ThreadResourceProbe.getInstance();
+
+    /**
+     * The task whose resource usage the current thread is accounted to, so that a thread is never accounted to two tasks at once.
+     */
+    private static final ThreadLocal<Task> TRACKED_TASK = new ThreadLocal<>();
+
     private final long id;
 
     private final String type;
@@ -74,6 +91,23 @@ public class Task {
      */
     private final long startTimeNanos;
 
+    /**
+     * The CPU time and the heap allocated by the executions of the task that completed, and by its child tasks that completed on the same node.
+     */
+    private final AtomicLong completedCpuTimeNanos = new AtomicLong();
+    private final AtomicLong completedAllocatedBytes = new AtomicLong();
+
+    /**
+     * The CPU time and the allocated bytes of the threads that are running the task when they started to, by thread id.
+     */
+    private final Map<Long, long[]> runningThreads = ConcurrentCollections.newConcurrentMap();
+
+    /**
+     * Whether the resources of the task were tracked, which they are only if the resource tracking of the tasks is enabled, see
+     * {@link TaskManager#TASK_RESOURCE_TRACKING_ENABLED_SETTING}.
+     */
+    private volatile boolean resourceUsageTracked;
+
     public Task(long id, String type, String action, String description, TaskId parentTask, Map<String, String> headers) {
         this(id, type, action, description, parentTask, System.currentTimeMillis(), System.nanoTime(), headers);
     }
@@ -115,7 +149,8 @@ public class Task {
      */
     protected final TaskInfo taskInfo(String localNodeId, String description, Status status) {
         return new TaskInfo(new TaskId(localNodeId, getId()), getType(), getAction(), description, status, startTime,
-                System.nanoTime() - startTimeNanos, this instanceof CancellableTask, parentTask, headers);
+                System.nanoTime() - startTimeNanos, this instanceof CancellableTask, parentTask, headers,
+                resourceUsageTracked ? new TaskResourceStats(getCpuTimeNanos(), getAllocatedBytes()) : null);
     }
 
     /**
@@ -191,6 +226,72 @@ public class Task {
      */
     public interface Status extends ToXContentObject, NamedWriteable {}
 
+    /**
+     * Starts to account the CPU time and the heap that the current thread uses to the task, until the returned releasable is closed.
+     * This is a no-op if the thread is already accounted to a task, like the parent of this task when the child runs on its thread.
+     */
+    public Releasable trackResourceUsage() {
+        if (TRACKED_TASK.get() != null) {
+            return () -> {};
+        }
+        final long threadId = Thread.currentThread().getId();
+        TRACKED_TASK.set(this);
+        resourceUsageTracked = true;
+        runningThreads.put(threadId, measureCurrentThread());
+        return () -> {
+            final long[] end = measureCurrentThread();
+            final long[] start = runningThreads.remove(threadId);
+            TRACKED_TASK.remove();
+            completedCpuTimeNanos.addAndGet(usage(start[0], end[0]));
+            completedAllocatedBytes.addAndGet(usage(start[1], end[1]));
+        };
+    }
+
+    /**
+     * Adds the resources used by a child task that completed on the same node to this task.
+     */
+    void addLocalChildResourceUsage(Task child) {
+        if (child.resourceUsageTracked == false) {
+            return;
+        }
+        resourceUsageTracked = true;
+        completedCpuTimeNanos.addAndGet(child.getCpuTimeNanos());
+        completedAllocatedBytes.addAndGet(child.getAllocatedBytes());
+    }
+
+    /**
+     * Returns the CPU time used by the task so far, including the time of the executions that are still running and of its child
+     * tasks that completed on the same node.
+     */
+    public long getCpuTimeNanos() {
+        long cpuTimeNanos = completedCpuTimeNanos.get();
+        for (Map.Entry<Long, long[]> thread : runningThreads.entrySet()) {
+            cpuTimeNanos += usage(thread.getValue()[0], PROBE.getThreadCpuTime(thread.getKey()));
+        }
+        return cpuTimeNanos;
+    }
+
+    /**
+     * Returns the bytes allocated on the heap by the task so far, including the bytes of the executions that are still running and
+     * of its child tasks that completed on the same node. Allocated bytes are an upper bound of the heap that the task retains.
+     */
+    public long getAllocatedBytes() {
+        long allocatedBytes = completedAllocatedBytes.get();
+        for (Map.Entry<Long, long[]> thread : runningThreads.entrySet()) {
+            allocatedBytes += usage(thread.getValue()[1], PROBE.getThreadAllocatedBytes(thread.getKey()));
+        }
+        return allocatedBytes;
+    }
+
+    private static long[] measureCurrentThread() {
+        return new long[] { PROBE.getCurrentThreadCpuTime(), PROBE.getCurrentThreadAllocatedBytes() };
+    }
+
+    private static long usage(long start, long end) {
+        // the measurements are -1 when they aren't supported
+        return start < 0 || end < 0 ? 0 : Math.max(0, end - start);
+    }
+
     /**
      * Returns stored task header associated with the task
      */
@@ -33,11 +33,14 @@
 package org.opensearch.tasks;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.ParseField;
 import org.opensearch.common.Strings;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.VersionedNamedWriteable;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.ConstructingObjectParser;
@@ -85,8 +88,17 @@ public final class TaskInfo implements Writeable, ToXContentFragment {
 
     private final Map<String, String> headers;
 
+    @Nullable
+    private final TaskResourceStats resourceStats;
+
     public TaskInfo(TaskId taskId, String type, String action, String description, Task.Status status, long startTime,
                     long runningTimeNanos, boolean cancellable, TaskId parentTaskId, Map<String, String> headers) {
+        this(taskId, type, action, description, status, startTime, runningTimeNanos, cancellable, parentTaskId, headers, null);
+    }
+
+    public TaskInfo(TaskId taskId, String type, String action, String description, Task.Status status, long startTime,
+                    long runningTimeNanos, boolean cancellable, TaskId parentTaskId, Map<String, String> headers,
+                    @Nullable TaskResourceStats resourceStats) {
         this.taskId = taskId;
         this.type = type;
         this.action = action;
@@ -97,6 +109,7 @@ public final class TaskInfo implements Writeable, ToXContentFragment {
         this.cancellable = cancellable;
         this.parentTaskId = parentTaskId;
         this.headers = headers;
+        this.resourceStats = resourceStats;
     }
 
     /**
@@ -117,6 +130,11 @@ public final class TaskInfo implements Writeable, ToXContentFragment {
         } else {
             headers = Collections.emptyMap();
         }
+        if (in.getVersion().onOrAfter(Version.V_1_1_0)) {
+            resourceStats = in.readOptionalWriteable(TaskResourceStats::new);
+        } else {
+            resourceStats = null;
+        }
     }
 
     @Override
@@ -125,7 +143,13 @@ public final class TaskInfo implements Writeable, ToXContentFragment {
         out.writeString(type);
         out.writeString(action);
         out.writeOptionalString(description);
-        out.writeOptionalNamedWriteable(status);
+        if (status instanceof VersionedNamedWriteable
+            && out.getVersion().before(((VersionedNamedWriteable) status).getMinimalSupportedVersion())) {
+            // the node can't read this status
+            out.writeOptionalNamedWriteable(null);
+        } else {
+            out.writeOptionalNamedWriteable(status);
+        }
         out.writeLong(startTime);
         out.writeLong(runningTimeNanos);
         out.writeBoolean(cancellable);
@@ -133,6 +157,9 @@ public final class TaskInfo implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(LegacyESVersion.V_6_2_0)) {
             out.writeMap(headers, StreamOutput::writeString, StreamOutput::writeString);
         }
+        if (out.getVersion().onOrAfter(Version.V_1_1_0)) {
+            out.writeOptionalWriteable(resourceStats);
+        }
     }
 
     public TaskId getTaskId() {
@@ -198,6 +225,14 @@ public final class TaskInfo implements Writeable, ToXContentFragment {
         return headers;
     }
 
+    /**
+     * Returns the resources used by the task on its node, excluding its child tasks on other nodes, or null if they weren't tracked
+     */
+    @Nullable
+    public TaskResourceStats getResourceStats() {
+        return resourceStats;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.field("node", taskId.getNodeId());
@@ -224,6 +259,9 @@ public final class TaskInfo implements Writeable, ToXContentFragment {
             builder.field(attribute.getKey(), attribute.getValue());
         }
         builder.endObject();
+        if (resourceStats != null) {
+            builder.field("resource_stats", resourceStats, params);
+        }
         return builder;
     }
 
@@ -249,9 +287,10 @@ public final class TaskInfo implements Writeable, ToXContentFragment {
                     headers = Collections.emptyMap();
                 }
                 RawTaskStatus status = statusBytes == null ? null : new RawTaskStatus(statusBytes);
+                TaskResourceStats resourceStats = (TaskResourceStats) a[i++];
                 TaskId parentTaskId = parentTaskIdString == null ? TaskId.EMPTY_TASK_ID : new TaskId(parentTaskIdString);
                 return new TaskInfo(id, type, action, description, status, startTime, runningTimeNanos, cancellable, parentTaskId,
-                    headers);
+                    headers, resourceStats);
             });
     static {
         // Note for the future: this has to be backwards and forwards compatible with all changes to the task storage format
@@ -267,6 +306,7 @@ public final class TaskInfo implements Writeable, ToXContentFragment {
         PARSER.declareBoolean(constructorArg(), new ParseField("cancellable"));
         PARSER.declareString(optionalConstructorArg(), new ParseField("parent_task_id"));
         PARSER.declareObject(optionalConstructorArg(), (p, c) -> p.mapStrings(), new ParseField("headers"));
+        PARSER.declareObject(optionalConstructorArg(), TaskResourceStats.PARSER, new ParseField("resource_stats"));
     }
 
     @Override
@@ -290,11 +330,13 @@ public final class TaskInfo implements Writeable, ToXContentFragment {
                 && Objects.equals(parentTaskId, other.parentTaskId)
                 && Objects.equals(cancellable, other.cancellable)
                 && Objects.equals(status, other.status)
-                && Objects.equals(headers, other.headers);
+                && Objects.equals(headers, other.headers)
+                && Objects.equals(resourceStats, other.resourceStats);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(taskId, type, action, description, startTime, runningTimeNanos, parentTaskId, cancellable, status, headers);
+        return Objects.hash(taskId, type, action, description, startTime, runningTimeNanos, parentTaskId, cancellable, status, headers,
+            resourceStats);
     }
 }
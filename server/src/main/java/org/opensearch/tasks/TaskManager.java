@@ -50,6 +50,7 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
@@ -89,6 +90,13 @@ public class TaskManager implements ClusterStateApplier {
 
     private static final TimeValue WAIT_FOR_COMPLETION_POLL = timeValueMillis(100);
 
+    /**
+     * Whether the CPU time and the heap used by the tasks are tracked, see {@link #taskExecutionStarted(Task)}. Measuring the
+     * threads that run the tasks has a cost on every execution, so it is disabled by default.
+     */
+    public static final Setting<Boolean> TASK_RESOURCE_TRACKING_ENABLED_SETTING =
+        Setting.boolSetting("tasks.resource_tracking.enabled", false, Setting.Property.Dynamic, Setting.Property.NodeScope);
+
     /** Rest headers that are copied to the task */
     private final List<String> taskHeaders;
     private final ThreadPool threadPool;
@@ -110,10 +118,21 @@ public class TaskManager implements ClusterStateApplier {
     private final Map<TcpChannel, ChannelPendingTaskTracker> channelPendingTaskTrackers = ConcurrentCollections.newConcurrentMap();
     private final SetOnce<TaskCancellationService> cancellationService = new SetOnce<>();
 
+    private volatile boolean resourceTrackingEnabled;
+
     public TaskManager(Settings settings, ThreadPool threadPool, Set<String> taskHeaders) {
         this.threadPool = threadPool;
         this.taskHeaders = new ArrayList<>(taskHeaders);
         this.maxHeaderSize = SETTING_HTTP_MAX_HEADER_SIZE.get(settings);
+        this.resourceTrackingEnabled = TASK_RESOURCE_TRACKING_ENABLED_SETTING.get(settings);
+    }
+
+    public void setResourceTrackingEnabled(boolean resourceTrackingEnabled) {
+        this.resourceTrackingEnabled = resourceTrackingEnabled;
+    }
+
+    public boolean isResourceTrackingEnabled() {
+        return resourceTrackingEnabled;
     }
 
     public void setTaskResultsService(TaskResultsService taskResultsService) {
@@ -206,12 +225,58 @@ public class TaskManager implements ClusterStateApplier {
             CancellableTaskHolder holder = cancellableTasks.remove(task.getId());
             if (holder != null) {
                 holder.finish();
+                addResourceUsageToLocalParent(task);
                 return holder.getTask();
             } else {
                 return null;
             }
         } else {
-            return tasks.remove(task.getId());
+            final Task removedTask = tasks.remove(task.getId());
+            if (removedTask != null) {
+                addResourceUsageToLocalParent(removedTask);
+            }
+            return removedTask;
+        }
+    }
+
+    /**
+     * Starts to execute the task on the current thread. The task is put in the thread context so that the CPU time and the heap
+     * used by the current thread, and by the thread pools that the thread context is forked to, are accounted to the task. The
+     * returned context must be closed when the execution on the current thread completes. This is a no-op unless the resource
+     * tracking of the tasks is enabled.
+     */
+    public ThreadContext.StoredContext taskExecutionStarted(Task task) {
+        if (resourceTrackingEnabled == false) {
+            return () -> {};
+        }
+        final ThreadContext threadContext = threadPool.getThreadContext();
+        final ThreadContext.StoredContext storedContext = threadContext.newStoredContext(
+            true,
+            Collections.singletonList(Task.TASK_TRANSIENT)
+        );
+        threadContext.putTransient(Task.TASK_TRANSIENT, task);
+        final Releasable tracking = task.trackResourceUsage();
+        return () -> {
+            tracking.close();
+            storedContext.restore();
+        };
+    }
+
+    /**
+     * Adds the resources used by a completed task to its parent, if the parent runs on this node. The parents on other nodes don't
+     * include the resources of their remote children, which are reported by the nodes that the children ran on.
+     */
+    private void addResourceUsageToLocalParent(Task task) {
+        final TaskId parentTaskId = task.getParentTaskId();
+        if (parentTaskId.isSet() == false) {
+            return;
+        }
+        final DiscoveryNode localNode = lastDiscoveryNodes.getLocalNode();
+        if (localNode != null && localNode.getId().equals(parentTaskId.getNodeId())) {
+            final Task parent = getTask(parentTaskId.getId());
+            if (parent != null) {
+                parent.addLocalChildResourceUsage(task);
+            }
         }
     }
 
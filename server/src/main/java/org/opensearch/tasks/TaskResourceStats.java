@@ -0,0 +1,95 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.tasks;
+
+import org.opensearch.common.ParseField;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ConstructingObjectParser;
+import org.opensearch.common.xcontent.ToXContentObject;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import static org.opensearch.common.xcontent.ConstructingObjectParser.constructorArg;
+
+/**
+ * The resources used by a task on the node that it runs on, including the resources of its child tasks that completed on the same
+ * node, see {@link Task#getCpuTimeNanos()} and {@link Task#getAllocatedBytes()}. The resources of the child tasks that run on other
+ * nodes, like the shard level tasks of a search, are not included: they are reported by the child tasks, on the nodes that they ran
+ * on. The resources are only tracked if {@link TaskManager#TASK_RESOURCE_TRACKING_ENABLED_SETTING} is enabled.
+ */
+public final class TaskResourceStats implements Writeable, ToXContentObject {
+
+    private static final ParseField CPU_TIME_IN_NANOS = new ParseField("cpu_time_in_nanos");
+    private static final ParseField ALLOCATED_BYTES = new ParseField("allocated_in_bytes");
+
+    public static final ConstructingObjectParser<TaskResourceStats, Void> PARSER = new ConstructingObjectParser<>(
+        "task_resource_stats", true, a -> new TaskResourceStats((Long) a[0], (Long) a[1]));
+    static {
+        PARSER.declareLong(constructorArg(), CPU_TIME_IN_NANOS);
+        PARSER.declareLong(constructorArg(), ALLOCATED_BYTES);
+    }
+
+    private final long cpuTimeNanos;
+    private final long allocatedBytes;
+
+    public TaskResourceStats(long cpuTimeNanos, long allocatedBytes) {
+        this.cpuTimeNanos = cpuTimeNanos;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public TaskResourceStats(StreamInput in) throws IOException {
+        cpuTimeNanos = in.readVLong();
+        allocatedBytes = in.readVLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVLong(cpuTimeNanos);
+        out.writeVLong(allocatedBytes);
+    }
+
+    public long getCpuTimeNanos() {
+        return cpuTimeNanos;
+    }
+
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        if (builder.humanReadable()) {
+            builder.field("cpu_time", TimeValue.timeValueNanos(cpuTimeNanos).toString());
+        }
+        builder.field(CPU_TIME_IN_NANOS.getPreferredName(), cpuTimeNanos);
+        builder.humanReadableField(ALLOCATED_BYTES.getPreferredName(), "allocated", new ByteSizeValue(allocatedBytes));
+        return builder.endObject();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null || obj.getClass() != TaskResourceStats.class) {
+            return false;
+        }
+        TaskResourceStats other = (TaskResourceStats) obj;
+        return cpuTimeNanos == other.cpuTimeNanos && allocatedBytes == other.allocatedBytes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cpuTimeNanos, allocatedBytes);
+    }
+}
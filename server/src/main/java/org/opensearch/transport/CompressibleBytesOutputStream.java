@@ -33,7 +33,9 @@
 package org.opensearch.transport;
 
 import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.compress.Compressor;
 import org.opensearch.common.compress.CompressorFactory;
 import org.opensearch.common.io.Streams;
 import org.opensearch.common.io.stream.BytesStream;
@@ -63,10 +65,18 @@ final class CompressibleBytesOutputStream extends StreamOutput {
     private final boolean shouldCompress;
 
     CompressibleBytesOutputStream(BytesStream bytesStreamOutput, boolean shouldCompress) throws IOException {
+        this(bytesStreamOutput, shouldCompress ? CompressorFactory.COMPRESSOR : null);
+    }
+
+    /**
+     * Creates a stream that compresses its content with the given compressor, or that does not compress it if the compressor
+     * is <code>null</code>.
+     */
+    CompressibleBytesOutputStream(BytesStream bytesStreamOutput, @Nullable Compressor compressor) throws IOException {
         this.bytesStreamOutput = bytesStreamOutput;
-        this.shouldCompress = shouldCompress;
+        this.shouldCompress = compressor != null;
         if (shouldCompress) {
-            this.stream = CompressorFactory.COMPRESSOR.threadLocalOutputStream(Streams.flushOnCloseStream(bytesStreamOutput));
+            this.stream = compressor.threadLocalOutputStream(Streams.flushOnCloseStream(bytesStreamOutput));
         } else {
             this.stream = bytesStreamOutput;
         }
@@ -35,6 +35,7 @@ package org.opensearch.transport;
 import org.opensearch.LegacyESVersion;
 import org.opensearch.Version;
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.compress.Compressor;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.util.concurrent.ThreadContext;
 
@@ -57,6 +58,8 @@ public class Header {
     String actionName;
     Tuple<Map<String, String>, Map<String, Set<String>>> headers;
     Set<String> features;
+    // the compressor of the content, set once the start of the content of a compressed message was received
+    private Compressor compressor;
 
     Header(int networkMessageSize, long requestId, byte status, Version version) {
         this.networkMessageSize = networkMessageSize;
@@ -101,6 +104,19 @@ public class Header {
         return TransportStatus.isCompress(status);
     }
 
+    /**
+     * Returns the compressor the content of this message was compressed with, or <code>null</code> if it is not compressed
+     * or if no content was received yet.
+     */
+    Compressor getCompressor() {
+        return compressor;
+    }
+
+    void setCompressor(Compressor compressor) {
+        assert isCompressed();
+        this.compressor = compressor;
+    }
+
     public String getActionName() {
         return actionName;
     }
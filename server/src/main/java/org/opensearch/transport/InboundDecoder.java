@@ -35,6 +35,7 @@ package org.opensearch.transport;
 import org.opensearch.Version;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.compress.Compressor;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.util.PageCacheRecycler;
@@ -50,6 +51,7 @@ public class InboundDecoder implements Releasable {
 
     private final Version version;
     private final PageCacheRecycler recycler;
+    private Header compressedHeader;
     private TransportDecompressor decompressor;
     private int totalNetworkSize = -1;
     private int bytesConsumed = 0;
@@ -88,7 +90,7 @@ public class InboundDecoder implements Releasable {
                     Header header = readHeader(version, messageLength, reference);
                     bytesConsumed += headerBytesToRead;
                     if (header.isCompressed()) {
-                        decompressor = new TransportDecompressor(recycler);
+                        compressedHeader = header;
                     }
                     fragmentConsumer.accept(header);
 
@@ -99,9 +101,14 @@ public class InboundDecoder implements Releasable {
                 }
             }
         } else {
-            // There are a minimum number of bytes required to start decompression
-            if (decompressor != null && decompressor.canDecompress(reference.length()) == false) {
-                return 0;
+            if (compressedHeader != null && decompressor == null) {
+                // There are a minimum number of bytes required to know which compressor the content was compressed with
+                final Compressor compressor = TransportDecompressor.getCompressor(reference);
+                if (compressor == null) {
+                    return 0;
+                }
+                compressedHeader.setCompressor(compressor);
+                decompressor = TransportDecompressor.getDecompressor(recycler, compressor);
             }
             int bytesToConsume = Math.min(reference.length(), totalNetworkSize - bytesConsumed);
             bytesConsumed += bytesToConsume;
@@ -142,6 +149,7 @@ public class InboundDecoder implements Releasable {
     private void cleanDecodeState() {
         IOUtils.closeWhileHandlingException(decompressor);
         decompressor = null;
+        compressedHeader = null;
         totalNetworkSize = -1;
         bytesConsumed = 0;
     }
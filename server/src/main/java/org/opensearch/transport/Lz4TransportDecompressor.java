@@ -0,0 +1,190 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefIterator;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.compress.CompressorFactory;
+import org.opensearch.common.compress.Lz4Compressor;
+import org.opensearch.common.recycler.Recycler;
+import org.opensearch.common.util.PageCacheRecycler;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+
+/**
+ * Decompresses the content of transport messages that was compressed with the {@link Lz4Compressor}. The compressed bytes
+ * are buffered until a whole block is available, which is then decompressed into recycled pages.
+ */
+public class Lz4TransportDecompressor implements TransportDecompressor {
+
+    private final PageCacheRecycler recycler;
+    private final ArrayDeque<Recycler.V<byte[]>> pages;
+    private final ByteArrayDataInput compressedIn = new ByteArrayDataInput();
+    private int pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
+    private boolean hasSkippedHeader = false;
+    private boolean eos = false;
+
+    // the compressed bytes that have been received but not decompressed yet, because the block they belong to is incomplete
+    private byte[] pending = BytesRef.EMPTY_BYTES;
+    private int pendingLength = 0;
+    private byte[] uncompressed = BytesRef.EMPTY_BYTES;
+
+    public Lz4TransportDecompressor(PageCacheRecycler recycler) {
+        this.recycler = recycler;
+        this.pages = new ArrayDeque<>(4);
+    }
+
+    @Override
+    public int decompress(BytesReference bytesReference) throws IOException {
+        int bytesConsumed = 0;
+        if (hasSkippedHeader == false) {
+            final int headerLength = CompressorFactory.LZ4_COMPRESSOR.headerLength();
+            if (CompressorFactory.LZ4_COMPRESSOR.isCompressed(bytesReference) == false) {
+                throw new IllegalStateException("stream marked as compressed, but is missing the LZ4 header");
+            }
+            hasSkippedHeader = true;
+            bytesReference = bytesReference.slice(headerLength, bytesReference.length() - headerLength);
+            bytesConsumed += headerLength;
+        }
+
+        final BytesRefIterator refIterator = bytesReference.iterator();
+        BytesRef ref;
+        while (eos == false && (ref = refIterator.next()) != null) {
+            pending = ArrayUtil.grow(pending, pendingLength + ref.length);
+            System.arraycopy(ref.bytes, ref.offset, pending, pendingLength, ref.length);
+            pendingLength += ref.length;
+            bytesConsumed += ref.length;
+            // the bytes that follow the end of the stream are not part of it
+            bytesConsumed -= decompressBlocks();
+        }
+        return bytesConsumed;
+    }
+
+    /**
+     * Decompresses all the complete blocks of the pending bytes.
+     *
+     * @return the number of pending bytes after the end of the stream, if it was reached
+     */
+    private int decompressBlocks() throws IOException {
+        int offset = 0;
+        while (eos == false) {
+            final long uncompressedLengthAndSize = readVInt(pending, offset, pendingLength);
+            if (uncompressedLengthAndSize == -1) {
+                break;
+            }
+            final int uncompressedLength = (int) uncompressedLengthAndSize;
+            final int uncompressedLengthSize = (int) (uncompressedLengthAndSize >>> 32);
+            if (uncompressedLength == 0) {
+                offset += uncompressedLengthSize;
+                eos = true;
+                break;
+            }
+            final long compressedLengthAndSize = readVInt(pending, offset + uncompressedLengthSize, pendingLength);
+            if (compressedLengthAndSize == -1) {
+                break;
+            }
+            final int compressedLength = (int) compressedLengthAndSize;
+            final int blockStart = offset + uncompressedLengthSize + (int) (compressedLengthAndSize >>> 32);
+            Lz4Compressor.checkBlockLengths(uncompressedLength, compressedLength);
+            if (pendingLength - blockStart < compressedLength) {
+                break;
+            }
+            if (uncompressed.length < uncompressedLength) {
+                uncompressed = new byte[ArrayUtil.oversize(uncompressedLength, Byte.BYTES)];
+            }
+            compressedIn.reset(pending, blockStart, compressedLength);
+            Lz4Compressor.decompressBlock(compressedIn, uncompressedLength, uncompressed);
+            if (compressedIn.getPosition() != blockStart + compressedLength) {
+                throw new IOException("Corrupted LZ4 block: [" + (compressedIn.getPosition() - blockStart) + "] bytes were read out of ["
+                    + compressedLength + "]");
+            }
+            copyToPages(uncompressed, uncompressedLength);
+            offset = blockStart + compressedLength;
+        }
+        pendingLength -= offset;
+        System.arraycopy(pending, offset, pending, 0, pendingLength);
+        if (eos) {
+            final int remaining = pendingLength;
+            pendingLength = 0;
+            return remaining;
+        }
+        return 0;
+    }
+
+    private void copyToPages(byte[] bytes, int length) {
+        int offset = 0;
+        while (offset < length) {
+            if (pageOffset == PageCacheRecycler.BYTE_PAGE_SIZE) {
+                pages.add(recycler.bytePage(false));
+                pageOffset = 0;
+            }
+            final int toCopy = Math.min(length - offset, PageCacheRecycler.BYTE_PAGE_SIZE - pageOffset);
+            System.arraycopy(bytes, offset, pages.getLast().v(), pageOffset, toCopy);
+            pageOffset += toCopy;
+            offset += toCopy;
+        }
+    }
+
+    /**
+     * Reads a vInt from the given bytes, as written by {@link org.apache.lucene.store.DataOutput#writeVInt(int)}.
+     *
+     * @return the value in the lower 32 bits and its number of bytes in the upper 32 bits, or -1 if the bytes are incomplete
+     */
+    private static long readVInt(byte[] bytes, int offset, int limit) throws IOException {
+        int value = 0;
+        for (int i = 0; i < 5; i++) {
+            if (offset + i >= limit) {
+                return -1;
+            }
+            final byte b = bytes[offset + i];
+            value |= (b & 0x7F) << (7 * i);
+            if (b >= 0) {
+                return ((long) (i + 1) << 32) | (value & 0xFFFFFFFFL);
+            }
+        }
+        throw new IOException("Invalid vInt in LZ4 stream");
+    }
+
+    @Override
+    public boolean isEOS() {
+        return eos;
+    }
+
+    @Override
+    public ReleasableBytesReference pollDecompressedPage() {
+        if (pages.isEmpty()) {
+            return null;
+        } else if (pages.size() == 1) {
+            if (isEOS()) {
+                Recycler.V<byte[]> page = pages.pollFirst();
+                ReleasableBytesReference reference = new ReleasableBytesReference(new BytesArray(page.v(), 0, pageOffset), page);
+                pageOffset = 0;
+                return reference;
+            } else {
+                return null;
+            }
+        } else {
+            Recycler.V<byte[]> page = pages.pollFirst();
+            return new ReleasableBytesReference(new BytesArray(page.v()), page);
+        }
+    }
+
+    @Override
+    public void close() {
+        for (Recycler.V<byte[]> page : pages) {
+            page.close();
+        }
+    }
+}
@@ -40,7 +40,10 @@ import org.opensearch.action.ActionListener;
 import org.opensearch.action.NotifyOnceListener;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.compress.Compressor;
+import org.opensearch.common.compress.CompressorFactory;
 import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
@@ -94,9 +97,19 @@ final class OutboundHandler {
     void sendRequest(final DiscoveryNode node, final TcpChannel channel, final long requestId, final String action,
                      final TransportRequest request, final TransportRequestOptions options, final Version channelVersion,
                      final boolean compressRequest, final boolean isHandshake) throws IOException, TransportException {
+        sendRequest(node, channel, requestId, action, request, options, channelVersion,
+            compressRequest ? CompressorFactory.COMPRESSOR : null, isHandshake);
+    }
+
+    /**
+     * Sends the request to the given channel, compressed with the given compressor unless it is <code>null</code>.
+     */
+    void sendRequest(final DiscoveryNode node, final TcpChannel channel, final long requestId, final String action,
+                     final TransportRequest request, final TransportRequestOptions options, final Version channelVersion,
+                     final @Nullable Compressor compressor, final boolean isHandshake) throws IOException, TransportException {
         Version version = Version.min(this.version, channelVersion);
         OutboundMessage.Request message = new OutboundMessage.Request(threadPool.getThreadContext(), features, request, version, action,
-            requestId, isHandshake, compressRequest);
+            requestId, isHandshake, compressor);
         ActionListener<Void> listener = ActionListener.wrap(() ->
             messageListener.onRequestSent(node, requestId, action, request, options));
         sendMessage(channel, message, listener);
@@ -111,9 +124,19 @@ final class OutboundHandler {
     void sendResponse(final Version nodeVersion, final Set<String> features, final TcpChannel channel,
                       final long requestId, final String action, final TransportResponse response,
                       final boolean compress, final boolean isHandshake) throws IOException {
+        sendResponse(nodeVersion, features, channel, requestId, action, response, compress ? CompressorFactory.COMPRESSOR : null,
+            isHandshake);
+    }
+
+    /**
+     * Sends the response to the given channel, compressed with the given compressor unless it is <code>null</code>.
+     */
+    void sendResponse(final Version nodeVersion, final Set<String> features, final TcpChannel channel,
+                      final long requestId, final String action, final TransportResponse response,
+                      final @Nullable Compressor compressor, final boolean isHandshake) throws IOException {
         Version version = Version.min(this.version, nodeVersion);
         OutboundMessage.Response message = new OutboundMessage.Response(threadPool.getThreadContext(), features, response, version,
-            requestId, isHandshake, compress);
+            requestId, isHandshake, compressor);
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onResponseSent(requestId, action, response));
         sendMessage(channel, message, listener);
     }
@@ -127,7 +150,7 @@ final class OutboundHandler {
         TransportAddress address = new TransportAddress(channel.getLocalAddress());
         RemoteTransportException tx = new RemoteTransportException(nodeName, address, action, error);
         OutboundMessage.Response message = new OutboundMessage.Response(threadPool.getThreadContext(), features, tx, version, requestId,
-            false, false);
+            false, null);
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onResponseSent(requestId, action, error));
         sendMessage(channel, message, listener);
     }
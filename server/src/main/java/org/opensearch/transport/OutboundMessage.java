@@ -33,9 +33,12 @@ package org.opensearch.transport;
 
 import org.opensearch.LegacyESVersion;
 import org.opensearch.Version;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.bytes.CompositeBytesReference;
+import org.opensearch.common.compress.Compressor;
+import org.opensearch.common.compress.CompressorFactory;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -47,10 +50,13 @@ import java.util.Set;
 abstract class OutboundMessage extends NetworkMessage {
 
     private final Writeable message;
+    private final Compressor compressor;
 
-    OutboundMessage(ThreadContext threadContext, Version version, byte status, long requestId, Writeable message) {
+    OutboundMessage(ThreadContext threadContext, Version version, byte status, long requestId, Writeable message,
+                    @Nullable Compressor compressor) {
         super(threadContext, version, status, requestId);
         this.message = message;
+        this.compressor = compressor;
     }
 
     BytesReference serialize(BytesStreamOutput bytesStream) throws IOException {
@@ -68,7 +74,7 @@ abstract class OutboundMessage extends NetworkMessage {
         }
 
         try (CompressibleBytesOutputStream stream =
-                 new CompressibleBytesOutputStream(bytesStream, TransportStatus.isCompress(status))) {
+                 new CompressibleBytesOutputStream(bytesStream, TransportStatus.isCompress(status) ? compressor : null)) {
             stream.setVersion(version);
             stream.setFeatures(bytesStream.getFeatures());
 
@@ -121,7 +127,13 @@ abstract class OutboundMessage extends NetworkMessage {
 
         Request(ThreadContext threadContext, String[] features, Writeable message, Version version, String action, long requestId,
                 boolean isHandshake, boolean compress) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(threadContext, features, message, version, action, requestId, isHandshake,
+                compress ? CompressorFactory.COMPRESSOR : null);
+        }
+
+        Request(ThreadContext threadContext, String[] features, Writeable message, Version version, String action, long requestId,
+                boolean isHandshake, @Nullable Compressor compressor) {
+            super(threadContext, version, setStatus(compressor != null, isHandshake, message), requestId, message, compressor);
             this.features = features;
             this.action = action;
         }
@@ -155,7 +167,12 @@ abstract class OutboundMessage extends NetworkMessage {
 
         Response(ThreadContext threadContext, Set<String> features, Writeable message, Version version, long requestId,
                  boolean isHandshake, boolean compress) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(threadContext, features, message, version, requestId, isHandshake, compress ? CompressorFactory.COMPRESSOR : null);
+        }
+
+        Response(ThreadContext threadContext, Set<String> features, Writeable message, Version version, long requestId,
+                 boolean isHandshake, @Nullable Compressor compressor) {
+            super(threadContext, version, setStatus(compressor != null, isHandshake, message), requestId, message, compressor);
             this.features = features;
         }
 
@@ -33,6 +33,8 @@
 package org.opensearch.transport;
 
 import org.opensearch.Version;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.compress.Compressor;
 import org.opensearch.common.lease.Releasable;
 
 import java.io.IOException;
@@ -48,19 +50,19 @@ public final class TcpTransportChannel implements TransportChannel {
     private final long requestId;
     private final Version version;
     private final Set<String> features;
-    private final boolean compressResponse;
+    private final Compressor responseCompressor;
     private final boolean isHandshake;
     private final Releasable breakerRelease;
 
     TcpTransportChannel(OutboundHandler outboundHandler, TcpChannel channel, String action, long requestId, Version version,
-                        Set<String> features, boolean compressResponse, boolean isHandshake, Releasable breakerRelease) {
+                        Set<String> features, @Nullable Compressor responseCompressor, boolean isHandshake, Releasable breakerRelease) {
         this.version = version;
         this.features = features;
         this.channel = channel;
         this.outboundHandler = outboundHandler;
         this.action = action;
         this.requestId = requestId;
-        this.compressResponse = compressResponse;
+        this.responseCompressor = responseCompressor;
         this.isHandshake = isHandshake;
         this.breakerRelease = breakerRelease;
     }
@@ -73,7 +75,7 @@ public final class TcpTransportChannel implements TransportChannel {
     @Override
     public void sendResponse(TransportResponse response) throws IOException {
         try {
-            outboundHandler.sendResponse(version, features, channel, requestId, action, response, compressResponse, isHandshake);
+            outboundHandler.sendResponse(version, features, channel, requestId, action, response, responseCompressor, isHandshake);
         } finally {
             release(false);
         }
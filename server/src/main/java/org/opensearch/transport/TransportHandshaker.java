@@ -36,6 +36,7 @@ import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.compress.CompressorFactory;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
@@ -45,6 +46,8 @@ import org.opensearch.threadpool.ThreadPool;
 
 import java.io.EOFException;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -57,6 +60,8 @@ final class TransportHandshaker {
 
     static final String HANDSHAKE_ACTION_NAME = "internal:tcp/handshake";
     private final ConcurrentMap<Long, HandshakeResponseHandler> pendingHandshakes = new ConcurrentHashMap<>();
+    // the names of the compressors the remote node can decompress, by handshake channel, until the connection is opened
+    private final ConcurrentMap<TcpChannel, Set<String>> remoteCompressors = new ConcurrentHashMap<>();
     private final CounterMetric numHandshakes = new CounterMetric();
 
     private final Version version;
@@ -71,10 +76,12 @@ final class TransportHandshaker {
 
     void sendHandshake(long requestId, DiscoveryNode node, TcpChannel channel, TimeValue timeout, ActionListener<Version> listener) {
         numHandshakes.inc();
-        final HandshakeResponseHandler handler = new HandshakeResponseHandler(requestId, version, listener);
+        final HandshakeResponseHandler handler = new HandshakeResponseHandler(requestId, version, channel, listener);
         pendingHandshakes.put(requestId, handler);
-        channel.addCloseListener(ActionListener.wrap(
-            () -> handler.handleLocalException(new TransportException("handshake failed because connection reset"))));
+        channel.addCloseListener(ActionListener.wrap(() -> {
+            remoteCompressors.remove(channel);
+            handler.handleLocalException(new TransportException("handshake failed because connection reset"));
+        }));
         boolean success = false;
         try {
             // for the request we use the minCompatVersion since we don't know what's the version of the node we talk to
@@ -125,10 +132,24 @@ final class TransportHandshaker {
                 || stream.getVersion().equals(Version.fromId(5060099)))) {
             channel.sendResponse(new HandshakeResponse(LegacyESVersion.V_7_10_2));
         } else {
-            channel.sendResponse(new HandshakeResponse(this.version));
+            // only nodes that advertise the compressors they support expect the response to do the same
+            final Set<String> compressors = handshakeRequest.compressors.isEmpty()
+                ? Collections.emptySet()
+                : CompressorFactory.getCompressorNames();
+            channel.sendResponse(new HandshakeResponse(this.version, compressors));
         }
     }
 
+    /**
+     * Returns the names of the compressors that the node at the other end of the given channel can decompress, as received in
+     * the response to the handshake that was sent on this channel. This is empty if the remote node did not advertise them,
+     * in which case it only supports the default compressor.
+     */
+    Set<String> removeRemoteCompressors(TcpChannel channel) {
+        final Set<String> compressors = remoteCompressors.remove(channel);
+        return compressors == null ? Collections.emptySet() : compressors;
+    }
+
     TransportResponseHandler<HandshakeResponse> removeHandlerForHandshake(long requestId) {
         return pendingHandshakes.remove(requestId);
     }
@@ -145,12 +166,14 @@ final class TransportHandshaker {
 
         private final long requestId;
         private final Version currentVersion;
+        private final TcpChannel channel;
         private final ActionListener<Version> listener;
         private final AtomicBoolean isDone = new AtomicBoolean(false);
 
-        private HandshakeResponseHandler(long requestId, Version currentVersion, ActionListener<Version> listener) {
+        private HandshakeResponseHandler(long requestId, Version currentVersion, TcpChannel channel, ActionListener<Version> listener) {
             this.requestId = requestId;
             this.currentVersion = currentVersion;
+            this.channel = channel;
             this.listener = listener;
         }
 
@@ -167,6 +190,9 @@ final class TransportHandshaker {
                     listener.onFailure(new IllegalStateException("Received message from unsupported version: [" + version
                         + "] minimal compatible version is: [" + currentVersion.minimumCompatibilityVersion() + "]"));
                 } else {
+                    if (response.compressors.isEmpty() == false) {
+                        remoteCompressors.put(channel, response.compressors);
+                    }
                     listener.onResponse(version);
                 }
             }
@@ -194,9 +220,16 @@ final class TransportHandshaker {
     static final class HandshakeRequest extends TransportRequest {
 
         private final Version version;
+        // the names of the compressors the sender can decompress, empty for nodes that do not advertise them
+        private final Set<String> compressors;
 
         HandshakeRequest(Version version) {
+            this(version, CompressorFactory.getCompressorNames());
+        }
+
+        HandshakeRequest(Version version, Set<String> compressors) {
             this.version = version;
+            this.compressors = compressors;
         }
 
         HandshakeRequest(StreamInput streamInput) throws IOException {
@@ -209,9 +242,15 @@ final class TransportHandshaker {
             }
             if (remainingMessage == null) {
                 version = null;
+                compressors = Collections.emptySet();
             } else {
                 try (StreamInput messageStreamInput = remainingMessage.streamInput()) {
                     this.version = Version.readVersion(messageStreamInput);
+                    if (messageStreamInput.available() > 0) {
+                        this.compressors = messageStreamInput.readSet(StreamInput::readString);
+                    } else {
+                        this.compressors = Collections.emptySet();
+                    }
                 }
             }
         }
@@ -222,6 +261,8 @@ final class TransportHandshaker {
             assert version != null;
             try (BytesStreamOutput messageStreamOutput = new BytesStreamOutput(4)) {
                 Version.writeVersion(version, messageStreamOutput);
+                // nodes that do not know about compressors ignore the bytes that follow the version
+                messageStreamOutput.writeCollection(compressors, StreamOutput::writeString);
                 BytesReference reference = messageStreamOutput.bytes();
                 streamOutput.writeBytesReference(reference);
             }
@@ -231,25 +272,44 @@ final class TransportHandshaker {
     static final class HandshakeResponse extends TransportResponse {
 
         private final Version responseVersion;
+        // the names of the compressors the responding node can decompress, only sent if the request advertised them too
+        private final Set<String> compressors;
 
         HandshakeResponse(Version responseVersion) {
+            this(responseVersion, Collections.emptySet());
+        }
+
+        HandshakeResponse(Version responseVersion, Set<String> compressors) {
             this.responseVersion = responseVersion;
+            this.compressors = compressors;
         }
 
         private HandshakeResponse(StreamInput in) throws IOException {
             super(in);
             responseVersion = Version.readVersion(in);
+            if (in.available() > 0) {
+                compressors = in.readSet(StreamInput::readString);
+            } else {
+                compressors = Collections.emptySet();
+            }
         }
 
         @Override
         public void writeTo(StreamOutput out) throws IOException {
             assert responseVersion != null;
             Version.writeVersion(responseVersion, out);
+            if (compressors.isEmpty() == false) {
+                out.writeCollection(compressors, StreamOutput::writeString);
+            }
         }
 
         Version getResponseVersion() {
             return responseVersion;
         }
+
+        Set<String> getCompressors() {
+            return compressors;
+        }
     }
 
     @FunctionalInterface
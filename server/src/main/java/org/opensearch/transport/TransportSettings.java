@@ -32,6 +32,7 @@
 package org.opensearch.transport;
 
 import org.opensearch.action.admin.cluster.node.liveness.TransportLivenessAction;
+import org.opensearch.common.compress.CompressorFactory;
 import org.opensearch.common.network.NetworkService;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
@@ -79,6 +80,12 @@ public final class TransportSettings {
         boolSetting("transport.tcp.compress", false, Setting.Property.NodeScope, Setting.Property.Deprecated);
     public static final Setting<Boolean> TRANSPORT_COMPRESS =
         boolSetting("transport.compress", OLD_TRANSPORT_COMPRESS, Setting.Property.NodeScope);
+    // the compressor of compressed requests to the nodes that can decompress it, other nodes get deflate
+    public static final Setting<String> TRANSPORT_COMPRESSION_SCHEME =
+        new Setting<>("transport.compression_scheme", CompressorFactory.DEFLATE, s -> {
+            CompressorFactory.getCompressor(s);
+            return s;
+        }, Setting.Property.NodeScope);
     // the scheduled internal ping interval setting, defaults to disabled (-1)
     public static final Setting<TimeValue> PING_SCHEDULE =
         timeSetting("transport.ping_schedule", TimeValue.timeValueSeconds(-1), Setting.Property.NodeScope);
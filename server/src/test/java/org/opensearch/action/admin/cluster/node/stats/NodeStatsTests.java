@@ -39,6 +39,7 @@ import org.opensearch.discovery.DiscoveryStats;
 import org.opensearch.discovery.zen.PendingClusterStateStats;
 import org.opensearch.discovery.zen.PublishClusterStateStats;
 import org.opensearch.http.HttpStats;
+import org.opensearch.index.translog.TranslogGroupCommitStats;
 import org.opensearch.indices.breaker.AllCircuitBreakerStats;
 import org.opensearch.indices.breaker.CircuitBreakerStats;
 import org.opensearch.ingest.IngestStats;
@@ -50,6 +51,8 @@ import org.opensearch.node.AdaptiveSelectionStats;
 import org.opensearch.node.ResponseCollectorService;
 import org.opensearch.script.ScriptCacheStats;
 import org.opensearch.script.ScriptStats;
+import org.opensearch.search.backpressure.SearchBackpressureService;
+import org.opensearch.search.backpressure.SearchBackpressureStats;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.test.VersionUtils;
 import org.opensearch.threadpool.ThreadPoolStats;
@@ -354,6 +357,34 @@ public class NodeStatsTests extends OpenSearchTestCase {
                     assertEquals(limited, sum.getCompilationLimitTriggered());
                     assertEquals(compilations, sum.getCompilations());
                 }
+                TranslogGroupCommitStats translogGroupCommitStats = nodeStats.getTranslogGroupCommitStats();
+                TranslogGroupCommitStats deserializedTranslogGroupCommitStats = deserializedNodeStats.getTranslogGroupCommitStats();
+                if (translogGroupCommitStats == null) {
+                    assertNull(deserializedTranslogGroupCommitStats);
+                } else {
+                    assertEquals(translogGroupCommitStats.getBatches(), deserializedTranslogGroupCommitStats.getBatches());
+                    assertEquals(translogGroupCommitStats.getRequests(), deserializedTranslogGroupCommitStats.getRequests());
+                    assertEquals(translogGroupCommitStats.getFsyncs(), deserializedTranslogGroupCommitStats.getFsyncs());
+                    assertEquals(translogGroupCommitStats.getFsyncTime(), deserializedTranslogGroupCommitStats.getFsyncTime());
+                }
+                SearchBackpressureStats searchBackpressureStats = nodeStats.getSearchBackpressureStats();
+                SearchBackpressureStats deserializedSearchBackpressureStats = deserializedNodeStats.getSearchBackpressureStats();
+                if (searchBackpressureStats == null) {
+                    assertNull(deserializedSearchBackpressureStats);
+                } else {
+                    assertEquals(searchBackpressureStats.getMode(), deserializedSearchBackpressureStats.getMode());
+                    assertEquals(searchBackpressureStats.isNodeInDuress(), deserializedSearchBackpressureStats.isNodeInDuress());
+                    assertEquals(searchBackpressureStats.getCancellationCount(),
+                        deserializedSearchBackpressureStats.getCancellationCount());
+                    assertEquals(searchBackpressureStats.getWouldBeCancellationCount(),
+                        deserializedSearchBackpressureStats.getWouldBeCancellationCount());
+                    assertEquals(searchBackpressureStats.getLimitReachedCount(),
+                        deserializedSearchBackpressureStats.getLimitReachedCount());
+                    assertEquals(searchBackpressureStats.getCpuTimeBreachCount(),
+                        deserializedSearchBackpressureStats.getCpuTimeBreachCount());
+                    assertEquals(searchBackpressureStats.getHeapAllocationBreachCount(),
+                        deserializedSearchBackpressureStats.getHeapAllocationBreachCount());
+                }
             }
         }
     }
@@ -529,10 +560,15 @@ public class NodeStatsTests extends OpenSearchTestCase {
             adaptiveSelectionStats = new AdaptiveSelectionStats(nodeConnections, nodeStats);
         }
         ScriptCacheStats scriptCacheStats = scriptStats != null ? scriptStats.toScriptCacheStats() : null;
+        TranslogGroupCommitStats translogGroupCommitStats = frequently() ? new TranslogGroupCommitStats(randomNonNegativeLong(),
+            randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong()) : null;
+        SearchBackpressureStats searchBackpressureStats = frequently() ? new SearchBackpressureStats(
+            randomFrom(SearchBackpressureService.Mode.values()), randomBoolean(), randomNonNegativeLong(), randomNonNegativeLong(),
+            randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong()) : null;
         //TODO NodeIndicesStats are not tested here, way too complicated to create, also they need to be migrated to Writeable yet
         return new NodeStats(node, randomNonNegativeLong(), null, osStats, processStats, jvmStats, threadPoolStats,
                 fsInfo, transportStats, httpStats, allCircuitBreakerStats, scriptStats, discoveryStats,
-                ingestStats, adaptiveSelectionStats, scriptCacheStats, null);
+                ingestStats, adaptiveSelectionStats, scriptCacheStats, null, translogGroupCommitStats, searchBackpressureStats);
     }
 
     private IngestStats.Stats getPipelineStats(List<IngestStats.PipelineStat> pipelineStats, String id) {
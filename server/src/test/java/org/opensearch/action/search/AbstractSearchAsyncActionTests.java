@@ -50,6 +50,7 @@ import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.search.internal.ShardSearchContextId;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.tasks.Task;
 import org.opensearch.transport.Transport;
 
 import java.util.ArrayList;
@@ -114,7 +115,7 @@ public class AbstractSearchAsyncActionTests extends OpenSearchTestCase {
             }
 
             @Override
-            protected void executePhaseOnShard(final SearchShardIterator shardIt, final SearchShardTarget shard,
+            protected void executePhaseOnShard(final SearchShardIterator shardIt, final SearchShardTarget shard, final Task parentTask,
                                                final SearchActionListener<SearchPhaseResult> listener) {
             }
 
@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.network.NetworkModule;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.metrics.InternalMax;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+
+public class BackgroundSearchProgressListenerTests extends OpenSearchTestCase {
+
+    public void testCreateTask() {
+        SearchRequest searchRequest = new SearchRequest();
+        SearchTask task = searchRequest.createTask(1, "transport", SearchAction.NAME, TaskId.EMPTY_TASK_ID, Collections.emptyMap());
+        assertSame(SearchProgressListener.NOOP, task.getProgressListener());
+        assertThat(task.getStatus(), nullValue());
+
+        searchRequest.setShouldStoreResult(true);
+        task = searchRequest.createTask(1, "transport", SearchAction.NAME, TaskId.EMPTY_TASK_ID, Collections.emptyMap());
+        assertThat(task.getProgressListener(), instanceOf(BackgroundSearchProgressListener.class));
+        SearchTask.Status status = task.getStatus();
+        assertThat(status.getTotalShards(), equalTo(-1));
+        assertThat(status.getReducePhase(), equalTo(-1));
+        assertThat(status.getTotalHits(), nullValue());
+        assertThat(status.getAggregations(), nullValue());
+    }
+
+    public void testStatus() {
+        BackgroundSearchProgressListener listener = new BackgroundSearchProgressListener();
+        List<SearchShard> shards = new ArrayList<>();
+        int numShards = randomIntBetween(1, 10);
+        for (int i = 0; i < numShards; i++) {
+            shards.add(new SearchShard(null, new ShardId("index", "_na_", i)));
+        }
+        List<SearchShard> skippedShards = Collections.singletonList(new SearchShard(null, new ShardId("index", "_na_", numShards)));
+        listener.notifyListShards(shards, skippedShards, SearchResponse.Clusters.EMPTY, randomBoolean());
+
+        int numFailures = randomIntBetween(0, numShards - 1);
+        for (int i = 0; i < numShards; i++) {
+            if (i < numFailures) {
+                SearchShardTarget target = new SearchShardTarget("node", shards.get(i).getShardId(), null, null);
+                listener.notifyQueryFailure(i, target, new IllegalStateException());
+            } else {
+                listener.notifyQueryResult(i);
+            }
+        }
+
+        InternalAggregations aggs = InternalAggregations.from(
+            Collections.singletonList(new InternalMax("max", randomDouble(), DocValueFormat.RAW, null))
+        );
+        TotalHits totalHits = new TotalHits(randomNonNegativeLong(), TotalHits.Relation.EQUAL_TO);
+        listener.notifyPartialReduce(shards, totalHits, aggs, 2);
+        // an older partial reduce that completed last doesn't replace the latest one
+        listener.notifyPartialReduce(shards, new TotalHits(0, TotalHits.Relation.EQUAL_TO), InternalAggregations.EMPTY, 1);
+
+        SearchTask.Status status = listener.status();
+        assertThat(status.getTotalShards(), equalTo(numShards + 1));
+        assertThat(status.getSkippedShards(), equalTo(1));
+        assertThat(status.getSuccessfulShards(), equalTo(numShards - numFailures));
+        assertThat(status.getFailedShards(), equalTo(numFailures));
+        assertThat(status.getReducePhase(), equalTo(2));
+        assertThat(status.getTotalHits(), equalTo(totalHits));
+        assertThat(status.getAggregations(), equalTo(aggs));
+
+        // the final aggregations are in the response of the search
+        listener.notifyFinalReduce(shards, totalHits, aggs, 3);
+        status = listener.status();
+        assertThat(status.getReducePhase(), equalTo(3));
+        assertThat(status.getTotalHits(), equalTo(totalHits));
+        assertThat(status.getAggregations(), nullValue());
+    }
+
+    public void testStatusSerialization() throws IOException {
+        InternalAggregations aggs = randomBoolean() ? null : InternalAggregations.from(
+            Collections.singletonList(new InternalMax("max", randomDouble(), DocValueFormat.RAW, null))
+        );
+        TotalHits totalHits = randomBoolean() ? null : new TotalHits(randomNonNegativeLong(),
+            randomFrom(TotalHits.Relation.values()));
+        SearchTask.Status status = new SearchTask.Status(randomIntBetween(-1, 100), randomIntBetween(0, 100),
+            randomIntBetween(0, 100), randomIntBetween(0, 100), randomIntBetween(-1, 100), totalHits, aggs);
+        List<NamedWriteableRegistry.Entry> entries = new ArrayList<>(NetworkModule.getNamedWriteables());
+        entries.addAll(new SearchModule(Settings.EMPTY, false, Collections.emptyList()).getNamedWriteables());
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.writeNamedWriteable(status);
+            try (StreamInput in = new NamedWriteableAwareStreamInput(out.bytes().streamInput(), new NamedWriteableRegistry(entries))) {
+                assertThat(in.readNamedWriteable(Task.Status.class), equalTo(status));
+            }
+        }
+    }
+}
@@ -51,6 +51,7 @@ import org.opensearch.search.sort.MinAndMax;
 import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.search.sort.SortOrder;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.tasks.Task;
 import org.opensearch.transport.Transport;
 
 import java.io.IOException;
@@ -280,6 +281,7 @@ public class CanMatchPreFilterSearchPhaseTests extends OpenSearchTestCase {
                 protected void executePhaseOnShard(
                     final SearchShardIterator shardIt,
                     final SearchShardTarget shard,
+                    final Task parentTask,
                     final SearchActionListener<SearchPhaseResult> listener) {
                     if (randomBoolean()) {
                         listener.onResponse(new SearchPhaseResult() {});
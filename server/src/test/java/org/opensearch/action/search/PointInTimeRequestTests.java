@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.common.Strings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContent;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+
+public class PointInTimeRequestTests extends OpenSearchTestCase {
+
+    public void testOpenRequestSerialization() throws IOException {
+        final OpenPointInTimeRequest request = new OpenPointInTimeRequest(
+            generateRandomStringArray(5, 10, false, false),
+            IndicesOptions.fromOptions(randomBoolean(), randomBoolean(), randomBoolean(), randomBoolean()),
+            TimeValue.timeValueMinutes(randomIntBetween(1, 60)),
+            randomBoolean() ? null : randomAlphaOfLength(5),
+            randomBoolean() ? null : randomAlphaOfLength(5)
+        );
+        final OpenPointInTimeRequest copy = copyWriteable(request, writableRegistry(), OpenPointInTimeRequest::new);
+        assertArrayEquals(request.indices(), copy.indices());
+        assertThat(copy.indicesOptions(), equalTo(request.indicesOptions()));
+        assertThat(copy.keepAlive(), equalTo(request.keepAlive()));
+        assertThat(copy.routing(), equalTo(request.routing()));
+        assertThat(copy.preference(), equalTo(request.preference()));
+    }
+
+    public void testOpenRequestValidation() {
+        final OpenPointInTimeRequest valid = new OpenPointInTimeRequest(new String[] { "index" },
+            OpenPointInTimeRequest.DEFAULT_INDICES_OPTIONS, TimeValue.timeValueMinutes(1), null, null);
+        assertNull(valid.validate());
+
+        final OpenPointInTimeRequest invalid = new OpenPointInTimeRequest(new String[0],
+            OpenPointInTimeRequest.DEFAULT_INDICES_OPTIONS, null, null, null);
+        final ActionRequestValidationException e = invalid.validate();
+        assertNotNull(e);
+        assertThat(e.validationErrors(), contains("[index] is not specified", "[keep_alive] is not specified"));
+    }
+
+    public void testCloseRequestFromXContent() throws IOException {
+        final String id = randomAlphaOfLengthBetween(3, 20);
+        try (XContentParser parser = createParser(XContentFactory.jsonBuilder().startObject().field("id", id).endObject())) {
+            assertThat(ClosePointInTimeRequest.fromXContent(parser).getId(), equalTo(id));
+        }
+    }
+
+    public void testCloseRequestFromXContentWithUnknownParamThrowsException() throws IOException {
+        try (XContentParser parser = createParser(XContentFactory.jsonBuilder()
+                .startObject()
+                .field("id", "value")
+                .field("unknown", "keyword")
+                .endObject())) {
+            final Exception e = expectThrows(IllegalArgumentException.class, () -> ClosePointInTimeRequest.fromXContent(parser));
+            assertThat(e.getMessage(), startsWith("Unknown parameter [unknown]"));
+        }
+    }
+
+    public void testCloseRequestToXContent() throws IOException {
+        final ClosePointInTimeRequest request = new ClosePointInTimeRequest("POINT_IN_TIME_ID");
+        try (XContentBuilder builder = JsonXContent.contentBuilder()) {
+            request.toXContent(builder, ToXContent.EMPTY_PARAMS);
+            assertEquals("{\"id\":\"POINT_IN_TIME_ID\"}", Strings.toString(builder));
+        }
+    }
+
+    public void testCloseRequestValidation() {
+        assertNull(new ClosePointInTimeRequest("id").validate());
+        assertNotNull(new ClosePointInTimeRequest("").validate());
+    }
+}
@@ -43,6 +43,8 @@ import org.opensearch.cluster.routing.UnassignedInfo;
 import org.opensearch.common.Strings;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.Index;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.search.SearchPhaseResult;
@@ -50,7 +52,12 @@ import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.internal.AliasFilter;
 import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskManager;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.Transport;
 import org.opensearch.transport.TransportException;
 import org.opensearch.transport.TransportRequest;
@@ -67,6 +74,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -75,6 +83,7 @@ import static org.opensearch.common.util.concurrent.ConcurrentCollections.newCon
 import static org.opensearch.common.util.concurrent.ConcurrentCollections.newConcurrentSet;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
 
 public class SearchAsyncActionTests extends OpenSearchTestCase {
 
@@ -131,7 +140,7 @@ public class SearchAsyncActionTests extends OpenSearchTestCase {
                 SearchResponse.Clusters.EMPTY) {
 
                 @Override
-                protected void executePhaseOnShard(SearchShardIterator shardIt, SearchShardTarget shard,
+                protected void executePhaseOnShard(SearchShardIterator shardIt, SearchShardTarget shard, Task parentTask,
                                                    SearchActionListener<TestSearchPhaseResult> listener) {
                     seenShard.computeIfAbsent(shard.getShardId(), (i) -> {
                         numRequests.incrementAndGet(); // only count this once per replica
@@ -237,7 +246,7 @@ public class SearchAsyncActionTests extends OpenSearchTestCase {
                 SearchResponse.Clusters.EMPTY) {
 
                 @Override
-                protected void executePhaseOnShard(SearchShardIterator shardIt, SearchShardTarget shard,
+                protected void executePhaseOnShard(SearchShardIterator shardIt, SearchShardTarget shard, Task parentTask,
                                                    SearchActionListener<TestSearchPhaseResult> listener) {
                     seenShard.computeIfAbsent(shard.getShardId(), (i) -> {
                         numRequests.incrementAndGet(); // only count this once per shard copy
@@ -341,7 +350,7 @@ public class SearchAsyncActionTests extends OpenSearchTestCase {
             TestSearchResponse response = new TestSearchResponse();
 
             @Override
-            protected void executePhaseOnShard(SearchShardIterator shardIt, SearchShardTarget shard,
+            protected void executePhaseOnShard(SearchShardIterator shardIt, SearchShardTarget shard, Task parentTask,
                                                SearchActionListener<TestSearchPhaseResult> listener) {
                 assertTrue("shard: " + shard.getShardId() + " has been queried twice", response.queried.add(shard.getShardId()));
                 Transport.Connection connection = getConnection(null, shard.getNodeId());
@@ -452,7 +461,7 @@ public class SearchAsyncActionTests extends OpenSearchTestCase {
 
                 @Override
                 protected void executePhaseOnShard(SearchShardIterator shardIt,
-                                                   SearchShardTarget shard,
+                                                   SearchShardTarget shard, Task parentTask,
                                                    SearchActionListener<TestSearchPhaseResult> listener) {
                     assertTrue("shard: " + shard.getShardId() + " has been queried twice", response.queried.add(shard.getShardId()));
                     Transport.Connection connection = getConnection(null, shard.getNodeId());
@@ -551,7 +560,7 @@ public class SearchAsyncActionTests extends OpenSearchTestCase {
                 SearchResponse.Clusters.EMPTY) {
 
                 @Override
-                protected void executePhaseOnShard(SearchShardIterator shardIt, SearchShardTarget shard,
+                protected void executePhaseOnShard(SearchShardIterator shardIt, SearchShardTarget shard, Task parentTask,
                                                    SearchActionListener<TestSearchPhaseResult> listener) {
                     seenShard.computeIfAbsent(shard.getShardId(), (i) -> {
                         numRequests.incrementAndGet(); // only count this once per shard copy
@@ -593,6 +602,118 @@ public class SearchAsyncActionTests extends OpenSearchTestCase {
         assertThat(numFailReplicas.get(), greaterThanOrEqualTo(1));
     }
 
+    public void testHedgedRequests() throws InterruptedException {
+        SearchRequest request = new SearchRequest();
+        request.allowPartialSearchResults(true);
+        int numShards = randomIntBetween(1, request.getMaxConcurrentShardRequests());
+        CountDownLatch latch = new CountDownLatch(1);
+        ActionListener<SearchResponse> responseListener = ActionListener.wrap(response -> latch.countDown(),
+            (e) -> { throw new AssertionError("unexpected", e);});
+        DiscoveryNode primaryNode = new DiscoveryNode("node_1", buildNewFakeTransportAddress(), Version.CURRENT);
+        DiscoveryNode replicaNode = new DiscoveryNode("node_2", buildNewFakeTransportAddress(), Version.CURRENT);
+        GroupShardsIterator<SearchShardIterator> shardsIter = getShardsIter("idx",
+            new OriginalIndices(new String[]{"idx"}, SearchRequest.DEFAULT_INDICES_OPTIONS),
+            numShards, true, primaryNode, replicaNode);
+
+        AtomicInteger contextIdGenerator = new AtomicInteger(0);
+        Set<ShardSearchContextId> freedContexts = newConcurrentSet();
+        SearchTransportService transportService = new SearchTransportService(null, null) {
+            @Override
+            public void sendFreeContext(Transport.Connection connection, ShardSearchContextId contextId, OriginalIndices originalIndices) {
+                assertTrue(freedContexts.add(contextId));
+            }
+        };
+        Map<String, Transport.Connection> lookup = new HashMap<>();
+        lookup.put(primaryNode.getId(), new MockConnection(primaryNode));
+        lookup.put(replicaNode.getId(), new MockConnection(replicaNode));
+        Map<String, AliasFilter> aliasFilters = Collections.singletonMap("_na_", new AliasFilter(null, Strings.EMPTY_ARRAY));
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        Set<Task> cancelledTasks = newConcurrentSet();
+        TaskManager taskManager = new TaskManager(Settings.EMPTY, threadPool, Collections.emptySet()) {
+            @Override
+            public void cancelTaskAndDescendants(CancellableTask task, String reason, boolean waitForCompletion,
+                                                 ActionListener<Void> listener) {
+                assertTrue(cancelledTasks.add(task));
+                listener.onResponse(null);
+            }
+        };
+        SearchTask searchTask = new SearchTask(0, "n/a", "n/a", () -> "test", null, Collections.emptyMap());
+        ShardRequestHedging hedging = new ShardRequestHedging(TimeValue.ZERO, threadPool, taskManager, primaryNode);
+        Map<ShardId, Task> parentTasks = new ConcurrentHashMap<>();
+        Map<ShardId, SearchActionListener<TestSearchPhaseResult>> slowListeners = new ConcurrentHashMap<>();
+        AbstractSearchAsyncAction<TestSearchPhaseResult> asyncAction =
+            new AbstractSearchAsyncAction<TestSearchPhaseResult>(
+                "test",
+                logger,
+                transportService,
+                (cluster, node) -> lookup.get(node),
+                aliasFilters,
+                Collections.emptyMap(),
+                Collections.emptyMap(),
+                threadPool.generic(),
+                request,
+                responseListener,
+                shardsIter,
+                new TransportSearchAction.SearchTimeProvider(0, 0, () -> 0),
+                ClusterState.EMPTY_STATE,
+                searchTask,
+                new ArraySearchPhaseResults<>(shardsIter.size()),
+                request.getMaxConcurrentShardRequests(),
+                SearchResponse.Clusters.EMPTY,
+                hedging) {
+
+                @Override
+                protected boolean supportsHedging() {
+                    return true;
+                }
+
+                @Override
+                protected void executePhaseOnShard(SearchShardIterator shardIt, SearchShardTarget shard, Task parentTask,
+                                                   SearchActionListener<TestSearchPhaseResult> listener) {
+                    assertThat(parentTask, instanceOf(ShardRequestHedging.Attempt.class));
+                    assertEquals(searchTask.getId(), parentTask.getParentTaskId().getId());
+                    if (parentTasks.putIfAbsent(shard.getShardId(), parentTask) == null) {
+                        // the first copy doesn't respond until another copy responded
+                        slowListeners.put(shard.getShardId(), listener);
+                    } else {
+                        Transport.Connection connection = getConnection(null, shard.getNodeId());
+                        listener.onResponse(new TestSearchPhaseResult(
+                            new ShardSearchContextId(UUIDs.randomBase64UUID(), contextIdGenerator.incrementAndGet()),
+                            connection.getNode()));
+                    }
+                }
+
+                @Override
+                protected SearchPhase getNextPhase(SearchPhaseResults<TestSearchPhaseResult> results, SearchPhaseContext context) {
+                    return new SearchPhase("test") {
+                        @Override
+                        public void run() {
+                            responseListener.onResponse(new TestSearchResponse());
+                        }
+                    };
+                }
+            };
+        try {
+            asyncAction.start();
+            latch.await();
+            SearchResponse searchResponse = asyncAction.buildSearchResponse(null, asyncAction.buildShardFailures(), null, null);
+            assertEquals(numShards, searchResponse.getSuccessfulShards());
+            assertEquals(0, searchResponse.getFailedShards());
+            assertEquals(numShards, slowListeners.size());
+            assertEquals(new HashSet<>(parentTasks.values()), cancelledTasks);
+
+            // the results of the copies that lost the race are released
+            for (Map.Entry<ShardId, SearchActionListener<TestSearchPhaseResult>> entry : slowListeners.entrySet()) {
+                ShardSearchContextId contextId = new ShardSearchContextId(UUIDs.randomBase64UUID(), contextIdGenerator.incrementAndGet());
+                entry.getValue().onResponse(new TestSearchPhaseResult(contextId, primaryNode));
+                assertTrue(freedContexts.contains(contextId));
+            }
+            assertTrue(taskManager.getTasks().isEmpty());
+        } finally {
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        }
+    }
+
     static GroupShardsIterator<SearchShardIterator> getShardsIter(String index, OriginalIndices originalIndices, int numShards,
                                                      boolean doReplicas, DiscoveryNode primaryNode, DiscoveryNode replicaNode) {
         ArrayList<SearchShardIterator> list = new ArrayList<>();
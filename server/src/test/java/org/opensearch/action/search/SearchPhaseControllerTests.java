@@ -97,6 +97,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -108,6 +110,7 @@ import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.lessThan;
@@ -561,6 +564,88 @@ public class SearchPhaseControllerTests extends OpenSearchTestCase {
         assertNull(reduce.sortedTopDocs.collapseValues);
     }
 
+    public void testConsumerConcurrentPartialReduces() throws Exception {
+        int expectedNumResults = randomIntBetween(20, 200);
+        int bufferSize = randomIntBetween(2, 10);
+        int maxConcurrentPartialReduces = randomIntBetween(2, 8);
+
+        SearchRequest request = randomSearchRequest();
+        request.source(new SearchSourceBuilder().aggregation(AggregationBuilders.avg("foo")));
+        request.setBatchedReduceSize(bufferSize);
+        AtomicInteger lastReducePhase = new AtomicInteger();
+        AtomicInteger lastNumShards = new AtomicInteger();
+        SearchProgressListener progressListener = new SearchProgressListener() {
+            @Override
+            public void onPartialReduce(List<SearchShard> shards, TotalHits totalHits, InternalAggregations aggs, int reducePhase) {
+                // partial reduces are notified in order, and each one includes the shards of the previous ones
+                assertThat(reducePhase, greaterThan(lastReducePhase.getAndSet(reducePhase)));
+                assertThat(shards.size(), greaterThan(lastNumShards.getAndSet(shards.size())));
+            }
+        };
+        // the first partial reduces wait for each other, which only works out if they run concurrently
+        CountDownLatch partialReducesOverlap = new CountDownLatch(2);
+        AtomicInteger runningPartialReduces = new AtomicInteger();
+        AtomicInteger maxRunningPartialReduces = new AtomicInteger();
+        OpenSearchThreadPoolExecutor executor = OpenSearchExecutors.newFixed("test", maxConcurrentPartialReduces, 10,
+            OpenSearchExecutors.daemonThreadFactory("test"), threadPool.getThreadContext());
+        Executor overlappingExecutor = command -> executor.execute(() -> {
+            maxRunningPartialReduces.accumulateAndGet(runningPartialReduces.incrementAndGet(), Math::max);
+            try {
+                partialReducesOverlap.countDown();
+                partialReducesOverlap.await(10, TimeUnit.SECONDS);
+                command.run();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            } finally {
+                runningPartialReduces.decrementAndGet();
+            }
+        });
+        try {
+            QueryPhaseResultConsumer consumer = searchPhaseController.newSearchPhaseResults(overlappingExecutor,
+                new NoopCircuitBreaker(CircuitBreaker.REQUEST), progressListener,
+                request, expectedNumResults, maxConcurrentPartialReduces, exc  -> {});
+            AtomicInteger max = new AtomicInteger();
+            Thread[] threads = new Thread[expectedNumResults];
+            CountDownLatch latch = new CountDownLatch(expectedNumResults);
+            for (int i = 0; i < expectedNumResults; i++) {
+                int id = i;
+                threads[i] = new Thread(() -> {
+                    int number = randomIntBetween(1, 1000);
+                    max.updateAndGet(prev -> Math.max(prev, number));
+                    QuerySearchResult result = new QuerySearchResult(new ShardSearchContextId("", id),
+                        new SearchShardTarget("node", new ShardId("a", "b", id), null, OriginalIndices.NONE), null);
+                    result.topDocs(new TopDocsAndMaxScore(
+                        new TopDocs(new TotalHits(1, TotalHits.Relation.EQUAL_TO), new ScoreDoc[] {new ScoreDoc(0, number)}), number),
+                        new DocValueFormat[0]);
+                    InternalAggregations aggs = InternalAggregations.from(Collections.singletonList(new InternalMax("test",
+                        (double) number, DocValueFormat.RAW, Collections.emptyMap())));
+                    result.aggregations(aggs);
+                    result.setShardIndex(id);
+                    result.size(1);
+                    consumer.consumeResult(result, latch::countDown);
+                });
+                threads[i].start();
+            }
+            for (int i = 0; i < expectedNumResults; i++) {
+                threads[i].join();
+            }
+            latch.await();
+
+            SearchPhaseController.ReducedQueryPhase reduce = consumer.reduce();
+            InternalMax internalMax = (InternalMax) reduce.aggregations.asList().get(0);
+            assertEquals(max.get(), internalMax.getValue(), 0.0D);
+            assertEquals(1, reduce.sortedTopDocs.scoreDocs.length);
+            assertEquals(max.get(), reduce.maxScore, 0.0f);
+            assertEquals(expectedNumResults, reduce.totalHits.value);
+            assertEquals(max.get(), reduce.sortedTopDocs.scoreDocs[0].score, 0.0f);
+            assertThat(reduce.numReducePhases, greaterThanOrEqualTo(3));
+            assertThat(reduce.numReducePhases, greaterThan(lastReducePhase.get()));
+            assertThat(maxRunningPartialReduces.get(), greaterThanOrEqualTo(2));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     public void testConsumerOnlyAggs() throws Exception {
         int expectedNumResults = randomIntBetween(1, 100);
         int bufferSize = randomIntBetween(2, 200);
@@ -977,7 +1062,7 @@ public class SearchPhaseControllerTests extends OpenSearchTestCase {
         }
         QueryPhaseResultConsumer consumer = searchPhaseController.newSearchPhaseResults(fixedExecutor,
             circuitBreaker, SearchProgressListener.NOOP,
-            request, expectedNumResults, exc -> hasConsumedFailure.set(true));
+            request, expectedNumResults, randomIntBetween(1, 4), exc -> hasConsumedFailure.set(true));
         CountDownLatch latch = new CountDownLatch(expectedNumResults);
         Thread[] threads = new Thread[expectedNumResults];
         for (int i =  0; i < expectedNumResults; i++) {
@@ -66,6 +66,7 @@ import org.junit.Before;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 import static java.util.Collections.emptyList;
@@ -290,6 +291,17 @@ public class SearchResponseTests extends OpenSearchTestCase {
         }
     }
 
+    public void testToXContentChunks() throws IOException {
+        SearchResponse response = createTestItem();
+        XContentType xContentType = randomFrom(XContentType.values());
+        final ToXContent.Params params = new ToXContent.MapParams(singletonMap(RestSearchAction.TYPED_KEYS_PARAM, "true"));
+        XContentBuilder builder = XContentBuilder.builder(xContentType.xContent());
+        for (Iterator<ToXContent> chunks = response.toXContentChunks(); chunks.hasNext();) {
+            chunks.next().toXContent(builder, params);
+        }
+        assertEquals(XContentHelper.toXContent(response, xContentType, params, false), BytesReference.bytes(builder));
+    }
+
     public void testSerialization() throws IOException {
         SearchResponse searchResponse = createTestItem(false);
         SearchResponse deserialized = copyWriteable(searchResponse, namedWriteableRegistry, SearchResponse::new, Version.CURRENT);
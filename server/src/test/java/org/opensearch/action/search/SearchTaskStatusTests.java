@@ -0,0 +1,123 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.metrics.InternalMax;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.tasks.TaskInfo;
+import org.opensearch.test.AbstractWireSerializingTestCase;
+import org.opensearch.test.VersionUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+
+public class SearchTaskStatusTests extends AbstractWireSerializingTestCase<SearchTask.Status> {
+
+    @Override
+    protected NamedWriteableRegistry getNamedWriteableRegistry() {
+        final List<NamedWriteableRegistry.Entry> entries = new ArrayList<>(
+            new SearchModule(Settings.EMPTY, false, emptyList()).getNamedWriteables());
+        entries.add(new NamedWriteableRegistry.Entry(Task.Status.class, SearchTask.Status.NAME, SearchTask.Status::new));
+        return new NamedWriteableRegistry(entries);
+    }
+
+    @Override
+    protected SearchTask.Status createTestInstance() {
+        final int totalShards = randomIntBetween(-1, 100);
+        return new SearchTask.Status(
+            totalShards,
+            randomIntBetween(0, 10),
+            randomIntBetween(0, 100),
+            randomIntBetween(0, 10),
+            randomIntBetween(-1, 10),
+            randomBoolean() ? null : randomTotalHits(),
+            randomBoolean() ? null : randomAggregations()
+        );
+    }
+
+    private static TotalHits randomTotalHits() {
+        return new TotalHits(randomNonNegativeLong(), randomFrom(TotalHits.Relation.values()));
+    }
+
+    private static InternalAggregations randomAggregations() {
+        final List<InternalAggregation> aggregations = new ArrayList<>();
+        for (int i = randomIntBetween(0, 3); i > 0; i--) {
+            aggregations.add(new InternalMax(randomAlphaOfLength(5) + i, randomDouble(), DocValueFormat.RAW, Collections.emptyMap()));
+        }
+        return InternalAggregations.from(aggregations);
+    }
+
+    @Override
+    protected SearchTask.Status mutateInstance(SearchTask.Status instance) {
+        int totalShards = instance.getTotalShards();
+        int skippedShards = instance.getSkippedShards();
+        int successfulShards = instance.getSuccessfulShards();
+        int failedShards = instance.getFailedShards();
+        int reducePhase = instance.getReducePhase();
+        TotalHits totalHits = instance.getTotalHits();
+        InternalAggregations aggregations = instance.getAggregations();
+        switch (between(0, 6)) {
+            case 0:
+                totalShards++;
+                break;
+            case 1:
+                skippedShards++;
+                break;
+            case 2:
+                successfulShards++;
+                break;
+            case 3:
+                failedShards++;
+                break;
+            case 4:
+                reducePhase++;
+                break;
+            case 5:
+                totalHits = totalHits == null ? randomTotalHits() : null;
+                break;
+            case 6:
+                aggregations = aggregations == null ? randomAggregations() : null;
+                break;
+            default:
+                throw new AssertionError("Illegal randomisation branch");
+        }
+        return new SearchTask.Status(totalShards, skippedShards, successfulShards, failedShards, reducePhase, totalHits, aggregations);
+    }
+
+    @Override
+    protected Writeable.Reader<SearchTask.Status> instanceReader() {
+        return SearchTask.Status::new;
+    }
+
+    public void testNotSentToNodesBefore110() throws IOException {
+        final SearchTask.Status status = createTestInstance();
+        final TaskInfo taskInfo = new TaskInfo(new TaskId(randomAlphaOfLength(5), randomNonNegativeLong()), "transport",
+            SearchAction.NAME, null, status, randomNonNegativeLong(), randomNonNegativeLong(), true, TaskId.EMPTY_TASK_ID,
+            Collections.emptyMap());
+
+        final Version oldVersion = VersionUtils.randomVersionBetween(random(), Version.V_1_0_0,
+            VersionUtils.getPreviousVersion(Version.V_1_1_0));
+        assertNull(copyWriteable(taskInfo, getNamedWriteableRegistry(), TaskInfo::new, oldVersion).getStatus());
+        assertEquals(status, copyWriteable(taskInfo, getNamedWriteableRegistry(), TaskInfo::new, Version.V_1_1_0).getStatus());
+    }
+}
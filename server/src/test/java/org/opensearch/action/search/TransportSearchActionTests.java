@@ -57,6 +57,8 @@ import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.transport.TransportAddress;
 import org.opensearch.index.Index;
+import org.opensearch.index.mapper.DateFieldFormat;
+import org.opensearch.index.mapper.DateFieldMapper;
 import org.opensearch.index.query.InnerHitBuilder;
 import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
@@ -97,6 +99,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -106,6 +109,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 
 import static org.opensearch.test.InternalAggregationTestCase.emptyReduceContextBuilder;
 import static org.opensearch.test.hamcrest.OpenSearchAssertions.awaitLatch;
@@ -948,4 +952,53 @@ public class TransportSearchActionTests extends OpenSearchTestCase {
                 indices, randomIntBetween(127, 10000)));
         }
     }
+
+    public void testRequiredTimestampRange() {
+        final LongSupplier nowInMillis = () -> 1_600_000_000_000L;
+        final DateFieldMapper.DateFieldType timestamp = new DateFieldMapper.DateFieldType("@timestamp");
+        assertNull(TransportSearchAction.requiredTimestampRange(QueryBuilders.termQuery("field", "value"), timestamp, nowInMillis));
+        assertNull(TransportSearchAction.requiredTimestampRange(QueryBuilders.rangeQuery("other").gte("now"), timestamp, nowInMillis));
+        assertNull(TransportSearchAction.requiredTimestampRange(
+            QueryBuilders.boolQuery().should(QueryBuilders.rangeQuery("@timestamp").gte("now")), timestamp, nowInMillis));
+
+        assertArrayEquals(new long[] { 1_600_000_000_000L, Long.MAX_VALUE },
+            TransportSearchAction.requiredTimestampRange(QueryBuilders.rangeQuery("@timestamp").gte("now"), timestamp, nowInMillis));
+        assertArrayEquals(new long[] { Long.MIN_VALUE, 1_600_000_000_000L },
+            TransportSearchAction.requiredTimestampRange(QueryBuilders.rangeQuery("@timestamp").lt("now"), timestamp, nowInMillis));
+        assertArrayEquals(new long[] { 86_400_000L, 2 * 86_400_000L - 1 },
+            TransportSearchAction.requiredTimestampRange(QueryBuilders.rangeQuery("@timestamp").gte("1970-01-02").lte("1970-01-02||/d"),
+                timestamp, nowInMillis));
+        assertArrayEquals(new long[] { 5000L, 10_000L },
+            TransportSearchAction.requiredTimestampRange(QueryBuilders.constantScoreQuery(QueryBuilders.boolQuery()
+                    .must(QueryBuilders.rangeQuery("@timestamp").gte("1970-01-01T00:00:01.000Z"))
+                    .filter(QueryBuilders.boolQuery().filter(QueryBuilders.rangeQuery("@timestamp")
+                        .gt("1970-01-01T00:00:05.000Z").lte("1970-01-01T00:00:10.000Z")))),
+                timestamp, nowInMillis));
+        assertArrayEquals(new long[] { 5000L, Long.MAX_VALUE },
+            TransportSearchAction.requiredTimestampRange(QueryBuilders.rangeQuery("@timestamp").gte("5").format("epoch_second"),
+                timestamp, nowInMillis));
+
+        assertNull(TransportSearchAction.requiredTimestampRange(QueryBuilders.rangeQuery("@timestamp").gte("not a date"),
+            timestamp, nowInMillis));
+    }
+
+    public void testRequiredTimestampRangeUsesMappedFormat() {
+        final LongSupplier nowInMillis = () -> 1_600_000_000_000L;
+        // the bounds are parsed with the mapped format, not the default one that would read them as milliseconds
+        final DateFieldFormat epochSecond = new DateFieldFormat("epoch_second", Locale.ROOT, DateFieldMapper.Resolution.MILLISECONDS);
+        assertArrayEquals(new long[] { 1_600_000_000_000L, Long.MAX_VALUE },
+            TransportSearchAction.requiredTimestampRange(QueryBuilders.rangeQuery("@timestamp").gte(1_600_000_000L),
+                epochSecond.toFieldType("@timestamp"), nowInMillis));
+
+        // nanosecond bounds are rounded down to the millisecond, like the range of the shards
+        final DateFieldFormat nanos = new DateFieldFormat("strict_date_optional_time_nanos", Locale.ROOT,
+            DateFieldMapper.Resolution.NANOSECONDS);
+        assertArrayEquals(new long[] { 1000L, 2000L },
+            TransportSearchAction.requiredTimestampRange(QueryBuilders.rangeQuery("@timestamp")
+                    .gte("1970-01-01T00:00:01.000000001Z").lte("1970-01-01T00:00:02.000999999Z"),
+                nanos.toFieldType("@timestamp"), nowInMillis));
+        // and bounds that the resolution can't represent disable the pruning
+        assertNull(TransportSearchAction.requiredTimestampRange(QueryBuilders.rangeQuery("@timestamp").gte("1900-01-01"),
+            nanos.toFieldType("@timestamp"), nowInMillis));
+    }
 }
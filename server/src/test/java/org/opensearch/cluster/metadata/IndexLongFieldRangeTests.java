@@ -0,0 +1,127 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.metadata;
+
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.xcontent.ToXContent;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.index.mapper.DateFieldFormat;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.shard.ShardLongFieldRange;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+public class IndexLongFieldRangeTests extends OpenSearchTestCase {
+
+    public void testCompleteOnceAllShardsReported() {
+        final int numberOfShards = randomIntBetween(1, 10);
+        final List<Integer> shardIds = new ArrayList<>();
+        for (int i = 0; i < numberOfShards; i++) {
+            shardIds.add(i);
+        }
+        Collections.shuffle(shardIds, random());
+
+        IndexLongFieldRange range = IndexLongFieldRange.NO_SHARDS;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int shardId : shardIds) {
+            assertFalse(range.isComplete());
+            final long shardMin = randomLongBetween(0, 1000);
+            final long shardMax = randomLongBetween(shardMin, 2000);
+            min = Math.min(min, shardMin);
+            max = Math.max(max, shardMax);
+            range = range.extendWithShardRange(shardId, numberOfShards, ShardLongFieldRange.of(shardMin, shardMax));
+            // a shard reporting its range again, for instance after relocating, doesn't change it
+            assertSame(range, range.extendWithShardRange(shardId, numberOfShards, ShardLongFieldRange.of(shardMin, shardMax)));
+        }
+        assertTrue(range.isComplete());
+        assertEquals(min, range.getMin());
+        assertEquals(max, range.getMax());
+
+        assertTrue(range.intersects(min, max));
+        assertTrue(range.intersects(Long.MIN_VALUE, min));
+        assertTrue(range.intersects(max, Long.MAX_VALUE));
+        assertFalse(range.intersects(Long.MIN_VALUE, min - 1));
+        assertFalse(range.intersects(max + 1, Long.MAX_VALUE));
+    }
+
+    public void testEmptyShards() {
+        IndexLongFieldRange range = IndexLongFieldRange.NO_SHARDS;
+        range = range.extendWithShardRange(0, 2, ShardLongFieldRange.EMPTY);
+        range = range.extendWithShardRange(1, 2, ShardLongFieldRange.EMPTY);
+        assertEquals(IndexLongFieldRange.EMPTY, range);
+        assertFalse(range.intersects(Long.MIN_VALUE, Long.MAX_VALUE));
+
+        range = range.extendWithShardRange(1, 2, ShardLongFieldRange.UNKNOWN);
+        assertEquals(IndexLongFieldRange.UNKNOWN, range);
+        assertTrue(range.intersects(randomLong(), Long.MAX_VALUE));
+    }
+
+    public void testKeepsFormatOfShards() throws IOException {
+        final DateFieldFormat format = new DateFieldFormat("epoch_second", Locale.ROOT, DateFieldMapper.Resolution.MILLISECONDS);
+        final ShardLongFieldRange shardRange = ShardLongFieldRange.of(0L, 1000L, format);
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            shardRange.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                assertEquals(shardRange, ShardLongFieldRange.readFrom(in));
+            }
+        }
+        IndexLongFieldRange range = IndexLongFieldRange.NO_SHARDS.extendWithShardRange(0, 2, ShardLongFieldRange.EMPTY);
+        assertNull(range.getFormat());
+        range = range.extendWithShardRange(1, 2, shardRange);
+        assertEquals(format, range.getFormat());
+    }
+
+    public void testSerialization() throws IOException {
+        final IndexLongFieldRange range = randomRange();
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            range.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                assertEquals(range, IndexLongFieldRange.readFrom(in));
+            }
+        }
+    }
+
+    public void testXContent() throws IOException {
+        final IndexLongFieldRange range = randomRange();
+        final XContentBuilder builder = XContentFactory.jsonBuilder();
+        builder.startObject();
+        range.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        builder.endObject();
+        try (XContentParser parser = createParser(JsonXContent.jsonXContent, BytesReference.bytes(builder))) {
+            assertEquals(XContentParser.Token.START_OBJECT, parser.nextToken());
+            assertEquals(range, IndexLongFieldRange.fromXContent(parser));
+        }
+    }
+
+    private static IndexLongFieldRange randomRange() {
+        final int numberOfShards = randomIntBetween(1, 10);
+        final DateFieldFormat format = randomBoolean() ? null : new DateFieldFormat(randomFrom("epoch_second", "strict_date_optional_time"),
+            randomFrom(Locale.ROOT, Locale.GERMANY), randomFrom(DateFieldMapper.Resolution.values()));
+        IndexLongFieldRange range = IndexLongFieldRange.NO_SHARDS;
+        for (int shardId = 0; shardId < numberOfShards; shardId++) {
+            if (randomBoolean()) {
+                final long min = randomLong();
+                final long max = randomLongBetween(min, Long.MAX_VALUE);
+                range = range.extendWithShardRange(shardId, numberOfShards, ShardLongFieldRange.of(min, max, format));
+            }
+        }
+        return range;
+    }
+}
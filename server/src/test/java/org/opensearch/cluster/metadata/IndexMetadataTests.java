@@ -54,6 +54,7 @@ import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.shard.ShardLongFieldRange;
 import org.opensearch.indices.IndicesModule;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Before;
@@ -98,6 +99,9 @@ public class IndexMetadataTests extends OpenSearchTestCase {
         Map<String, String> customMap = new HashMap<>();
         customMap.put(randomAlphaOfLength(5), randomAlphaOfLength(10));
         customMap.put(randomAlphaOfLength(10), randomAlphaOfLength(15));
+        final long timestampMin = randomLong();
+        final IndexLongFieldRange timestampRange = IndexLongFieldRange.NO_SHARDS.extendWithShardRange(0, numShard,
+            ShardLongFieldRange.of(timestampMin, randomLongBetween(timestampMin, Long.MAX_VALUE)));
         IndexMetadata metadata = IndexMetadata.builder("foo")
             .settings(Settings.builder()
                 .put("index.version.created", 1)
@@ -109,6 +113,7 @@ public class IndexMetadataTests extends OpenSearchTestCase {
             .setRoutingNumShards(32)
             .system(system)
             .putCustom("my_custom", customMap)
+            .timestampRange(timestampRange)
             .putRolloverInfo(
                 new RolloverInfo(randomAlphaOfLength(5),
                     Arrays.asList(new MaxAgeCondition(TimeValue.timeValueMillis(randomNonNegativeLong())),
@@ -135,6 +140,7 @@ public class IndexMetadataTests extends OpenSearchTestCase {
         assertEquals(metadata.getRoutingFactor(), fromXContentMeta.getRoutingFactor());
         assertEquals(metadata.primaryTerm(0), fromXContentMeta.primaryTerm(0));
         assertEquals(metadata.isSystem(), fromXContentMeta.isSystem());
+        assertEquals(timestampRange, fromXContentMeta.getTimestampRange());
         ImmutableOpenMap.Builder<String, DiffableStringMap> expectedCustomBuilder = ImmutableOpenMap.builder();
         expectedCustomBuilder.put("my_custom", new DiffableStringMap(customMap));
         ImmutableOpenMap<String, DiffableStringMap> expectedCustom = expectedCustomBuilder.build();
@@ -159,6 +165,7 @@ public class IndexMetadataTests extends OpenSearchTestCase {
             assertEquals(deserialized.getCustomData(), expectedCustom);
             assertEquals(metadata.getCustomData(),  deserialized.getCustomData());
             assertEquals(metadata.isSystem(), deserialized.isSystem());
+            assertEquals(timestampRange, deserialized.getTimestampRange());
         }
     }
 
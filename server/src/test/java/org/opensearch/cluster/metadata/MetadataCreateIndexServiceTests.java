@@ -69,9 +69,11 @@ import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.env.Environment;
 import org.opensearch.index.Index;
 import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.IndexModule;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.store.snapshot.SnapshotDirectoryFactory;
 import org.opensearch.indices.InvalidAliasNameException;
 import org.opensearch.indices.InvalidIndexNameException;
 import org.opensearch.indices.ShardLimitValidator;
@@ -931,6 +933,22 @@ public class MetadataCreateIndexServiceTests extends OpenSearchTestCase {
         assertThat(targetRoutingNumberOfShards, is(6));
     }
 
+    public void testSnapshotStoreTypeRejected() {
+        request = new CreateIndexClusterStateUpdateRequest("create index", "test", "test");
+        final Settings storeTypeSettings = Settings.builder()
+            .put(IndexModule.INDEX_STORE_TYPE_SETTING.getKey(), SnapshotDirectoryFactory.STORE_TYPE)
+            .build();
+        final boolean fromTemplate = randomBoolean();
+        if (fromTemplate == false) {
+            request.settings(storeTypeSettings);
+        }
+        final IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> aggregateIndexSettings(ClusterState.EMPTY_STATE, request, fromTemplate ? storeTypeSettings : Settings.EMPTY,
+                null, Settings.EMPTY, IndexScopedSettings.DEFAULT_SCOPED_SETTINGS, randomShardLimitService(),
+                Collections.emptySet()));
+        assertThat(e.getMessage(), equalTo("store type [snapshot] can only be set when restoring a snapshot"));
+    }
+
     public void testSoftDeletesDisabledDeprecation() {
         request = new CreateIndexClusterStateUpdateRequest("create index", "test", "test");
         request.settings(Settings.builder().put(INDEX_SOFT_DELETES_SETTING.getKey(), false).build());
@@ -0,0 +1,280 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class TinyLfuCacheTests extends OpenSearchTestCase {
+
+    private static <K, V> CacheBuilder<K, V> builder() {
+        return CacheBuilder.builder();
+    }
+
+    private static <K, V> TinyLfuCache<K, V> build(CacheBuilder<K, V> builder) {
+        return (TinyLfuCache<K, V>) builder.build(ICache.EvictionPolicy.TINY_LFU);
+    }
+
+    public void testBuilder() {
+        assertThat(builder().build(ICache.EvictionPolicy.TINY_LFU), instanceOf(TinyLfuCache.class));
+        assertThat(builder().build(ICache.EvictionPolicy.LRU), instanceOf(Cache.class));
+        final TimeValue timeValue = TimeValue.parseTimeValue(randomPositiveTimeValue(), "");
+        assertEquals(timeValue.getNanos(), build(builder().setExpireAfterAccess(timeValue)).getExpireAfterAccessNanos());
+        assertEquals(timeValue.getNanos(), build(builder().setExpireAfterWrite(timeValue)).getExpireAfterWriteNanos());
+    }
+
+    public void testParseEvictionPolicy() {
+        for (ICache.EvictionPolicy policy : ICache.EvictionPolicy.values()) {
+            assertEquals(policy, ICache.EvictionPolicy.parse(policy.toString()));
+        }
+        expectThrows(IllegalArgumentException.class, () -> ICache.EvictionPolicy.parse("lfu"));
+    }
+
+    public void testPutGetInvalidate() {
+        final Map<Integer, RemovalNotification.RemovalReason> removals = new ConcurrentHashMap<>();
+        ICache<Integer, String> cache = TinyLfuCacheTests.<Integer, String>builder()
+            .removalListener(notification -> removals.put(notification.getKey(), notification.getRemovalReason()))
+            .build(ICache.EvictionPolicy.TINY_LFU);
+        int numberOfEntries = randomIntBetween(10, 1000);
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, Integer.toString(i));
+        }
+        cache.put(0, "replaced");
+        assertEquals("replaced", cache.get(0));
+        assertEquals(RemovalNotification.RemovalReason.REPLACED, removals.get(0));
+        cache.invalidate(1);
+        assertNull(cache.get(1));
+        assertEquals(RemovalNotification.RemovalReason.INVALIDATED, removals.get(1));
+        cache.invalidate(2, "not the value");
+        assertEquals("2", cache.get(2));
+        cache.invalidate(2, "2");
+        assertNull(cache.get(2));
+        cache.refresh();
+        assertEquals(numberOfEntries - 2, cache.count());
+        assertEquals(numberOfEntries - 2, cache.weight());
+        cache.invalidateAll();
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.weight());
+        assertEquals(numberOfEntries, removals.size());
+    }
+
+    // the entries that are accessed frequently must survive a scan of entries that are accessed once
+    public void testScanResistance() {
+        final int maximumWeight = 100;
+        final AtomicLong evictions = new AtomicLong();
+        ICache<Integer, Integer> cache = TinyLfuCacheTests.<Integer, Integer>builder()
+            .setMaximumWeight(maximumWeight)
+            .removalListener(notification -> evictions.incrementAndGet())
+            .build(ICache.EvictionPolicy.TINY_LFU);
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < maximumWeight; i++) {
+                if (cache.get(i) == null) {
+                    cache.put(i, i);
+                }
+            }
+        }
+        int numberOfScannedEntries = randomIntBetween(10, 50) * maximumWeight;
+        for (int i = 0; i < numberOfScannedEntries; i++) {
+            cache.put(maximumWeight + i, i);
+        }
+        cache.refresh();
+        int retained = 0;
+        for (int i = 0; i < maximumWeight; i++) {
+            if (cache.get(i) != null) {
+                retained++;
+            }
+        }
+        assertThat(retained, greaterThan(maximumWeight / 2));
+        assertEquals(maximumWeight, cache.count());
+        assertEquals(maximumWeight, cache.weight());
+        assertEquals(numberOfScannedEntries, evictions.get());
+        assertEquals(evictions.get(), cache.stats().getEvictions());
+        assertThat(cache.stats().getRejections(), greaterThan(0L));
+    }
+
+    public void testWeigher() {
+        ICache<Integer, String> cache = TinyLfuCacheTests.<Integer, String>builder()
+            .setMaximumWeight(1000)
+            .weigher((k, v) -> v.length())
+            .build(ICache.EvictionPolicy.TINY_LFU);
+        for (int i = 0; i < 500; i++) {
+            cache.put(i, randomAlphaOfLengthBetween(1, 20));
+        }
+        cache.refresh();
+        assertThat(cache.weight(), lessThanOrEqualTo(1000L));
+        long weight = 0;
+        for (String value : cache.values()) {
+            weight += value.length();
+        }
+        assertEquals(weight, cache.weight());
+    }
+
+    public void testExpireAfterAccess() {
+        final AtomicLong now = new AtomicLong();
+        ICache<Integer, Integer> cache = new TinyLfuCache<Integer, Integer>(-1, 10, -1, (k, v) -> 1, notification -> {}) {
+            @Override
+            protected long now() {
+                return now.get();
+            }
+        };
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, i);
+        }
+        now.set(5);
+        assertEquals(Integer.valueOf(0), cache.get(0));
+        now.set(12);
+        assertNull(cache.get(1));
+        cache.refresh();
+        assertEquals(1, cache.count());
+        assertEquals(Integer.valueOf(0), cache.get(0));
+    }
+
+    public void testStats() {
+        ICache<Integer, Integer> cache = TinyLfuCacheTests.<Integer, Integer>builder().build(ICache.EvictionPolicy.TINY_LFU);
+        int numberOfEntries = randomIntBetween(1, 100);
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, i);
+        }
+        long hits = 0;
+        long misses = 0;
+        for (int i = 0; i < 2 * numberOfEntries; i++) {
+            if (cache.get(randomIntBetween(-numberOfEntries, numberOfEntries - 1)) == null) {
+                misses++;
+            } else {
+                hits++;
+            }
+        }
+        assertEquals(hits, cache.stats().getHits());
+        assertEquals(misses, cache.stats().getMisses());
+    }
+
+    public void testIteratorRemove() {
+        ICache<Integer, Integer> cache = TinyLfuCacheTests.<Integer, Integer>builder().build(ICache.EvictionPolicy.TINY_LFU);
+        int numberOfEntries = randomIntBetween(1, 100);
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(i, i);
+        }
+        List<Integer> removed = new ArrayList<>();
+        for (Iterator<Integer> iterator = cache.keys().iterator(); iterator.hasNext(); ) {
+            Integer key = iterator.next();
+            if (key % 2 == 0) {
+                iterator.remove();
+                removed.add(key);
+            }
+        }
+        cache.refresh();
+        assertEquals(numberOfEntries - removed.size(), cache.count());
+        assertEquals(numberOfEntries - removed.size(), cache.weight());
+        for (Integer key : removed) {
+            assertNull(cache.get(key));
+        }
+    }
+
+    public void testComputeIfAbsentLoadsOnce() throws Exception {
+        ICache<Integer, Integer> cache = TinyLfuCacheTests.<Integer, Integer>builder().build(ICache.EvictionPolicy.TINY_LFU);
+        int numberOfThreads = randomIntBetween(2, 8);
+        int numberOfKeys = randomIntBetween(100, 1000);
+        AtomicInteger loads = new AtomicInteger();
+        CyclicBarrier barrier = new CyclicBarrier(numberOfThreads);
+        CountDownLatch latch = new CountDownLatch(numberOfThreads);
+        List<Throwable> failures = new ArrayList<>();
+        for (int i = 0; i < numberOfThreads; i++) {
+            new Thread(() -> {
+                try {
+                    barrier.await();
+                    for (int key = 0; key < numberOfKeys; key++) {
+                        assertEquals(Integer.valueOf(key), cache.computeIfAbsent(key, k -> {
+                            loads.incrementAndGet();
+                            return k;
+                        }));
+                    }
+                } catch (Exception | AssertionError e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            }).start();
+        }
+        latch.await();
+        assertTrue(failures.isEmpty());
+        assertEquals(numberOfKeys, loads.get());
+    }
+
+    public void testComputeIfAbsentThrows() {
+        ICache<Integer, Integer> cache = TinyLfuCacheTests.<Integer, Integer>builder().build(ICache.EvictionPolicy.TINY_LFU);
+        ExecutionException e = expectThrows(ExecutionException.class, () -> cache.computeIfAbsent(1, k -> {
+            throw new IllegalArgumentException("boom");
+        }));
+        assertThat(e.getCause(), instanceOf(IllegalArgumentException.class));
+        e = expectThrows(ExecutionException.class, () -> cache.computeIfAbsent(1, k -> null));
+        assertThat(e.getCause(), instanceOf(NullPointerException.class));
+        assertNull(cache.get(1));
+    }
+
+    // concurrent readers and writers must leave the cache consistent with the notifications it sent
+    public void testConcurrentAccess() throws Exception {
+        final int maximumWeight = randomIntBetween(10, 500);
+        final Map<Integer, AtomicInteger> liveEntries = new ConcurrentHashMap<>();
+        ICache<Integer, Integer> cache = TinyLfuCacheTests.<Integer, Integer>builder()
+            .setMaximumWeight(maximumWeight)
+            .removalListener(notification -> liveEntries.get(notification.getKey()).decrementAndGet())
+            .build(ICache.EvictionPolicy.TINY_LFU);
+        int numberOfThreads = randomIntBetween(2, 8);
+        CountDownLatch latch = new CountDownLatch(numberOfThreads);
+        List<Throwable> failures = new ArrayList<>();
+        for (int i = 0; i < numberOfThreads; i++) {
+            new Thread(() -> {
+                try {
+                    Random random = new Random(random().nextLong());
+                    for (int j = 0; j < 10000; j++) {
+                        int key = random.nextInt(4 * maximumWeight);
+                        if (random.nextInt(10) == 0) {
+                            cache.invalidate(key);
+                        } else {
+                            cache.computeIfAbsent(key, k -> {
+                                liveEntries.computeIfAbsent(k, ignored -> new AtomicInteger()).incrementAndGet();
+                                return k;
+                            });
+                        }
+                    }
+                } catch (Exception | AssertionError e) {
+                    synchronized (failures) {
+                        failures.add(e);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            }).start();
+        }
+        latch.await();
+        assertTrue(failures.isEmpty());
+        cache.refresh();
+        assertThat(cache.weight(), lessThanOrEqualTo((long) maximumWeight));
+        assertEquals(cache.count(), cache.weight());
+        assertEquals(cache.count(), liveEntries.values().stream().mapToInt(AtomicInteger::get).sum());
+    }
+}
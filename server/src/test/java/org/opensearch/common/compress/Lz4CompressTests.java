@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.compress;
+
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+
+import java.io.IOException;
+
+/**
+ * Runs the compression tests against the {@link Lz4Compressor}.
+ */
+public class Lz4CompressTests extends DeflateCompressTests {
+
+    @Override
+    protected Compressor newCompressor() {
+        return new Lz4Compressor();
+    }
+
+    public void testCompressAndDetect() throws IOException {
+        final byte[] bytes = new byte[randomIntBetween(0, 3 * Lz4Compressor.BLOCK_SIZE)];
+        for (int i = 0; i < bytes.length; i++) {
+            // a small alphabet so that the bytes are compressible
+            bytes[i] = (byte) randomIntBetween('a', 'e');
+        }
+        final BytesReference compressed = CompressorFactory.LZ4_COMPRESSOR.compress(new BytesArray(bytes));
+        assertSame(CompressorFactory.LZ4_COMPRESSOR, CompressorFactory.compressor(compressed));
+        assertFalse(CompressorFactory.COMPRESSOR.isCompressed(compressed));
+        assertEquals(new BytesArray(bytes), CompressorFactory.uncompress(compressed));
+    }
+
+    public void testGetCompressor() {
+        assertSame(CompressorFactory.COMPRESSOR, CompressorFactory.getCompressor(CompressorFactory.DEFLATE));
+        assertSame(CompressorFactory.LZ4_COMPRESSOR, CompressorFactory.getCompressor(CompressorFactory.LZ4));
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> CompressorFactory.getCompressor("snappy"));
+        assertEquals("unknown compressor [snappy], must be one of [deflate, lz4]", e.getMessage());
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.xcontent.support;
+
+import org.opensearch.common.Strings;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.xcontent.DeprecationHandler;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.common.xcontent.ToXContentObject;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.common.xcontent.XContentType;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+import static org.opensearch.common.xcontent.XContentHelper.convertToMap;
+import static org.opensearch.common.xcontent.XContentHelper.toXContent;
+
+public class StreamingXContentFilterTests extends AbstractFilteringTestCase {
+
+    @Override
+    protected void testFilter(Builder expected, Builder actual, Set<String> includes, Set<String> excludes) throws IOException {
+        final XContentType xContentType = randomFrom(XContentType.values());
+        final boolean humanReadable = randomBoolean();
+        final String[] sourceIncludes = includes == null ? Strings.EMPTY_ARRAY : includes.toArray(new String[0]);
+        final String[] sourceExcludes = excludes == null ? Strings.EMPTY_ARRAY : excludes.toArray(new String[0]);
+
+        ToXContentObject expectedToXContent = (builder, params) -> expected.apply(builder);
+        ToXContentObject actualToXContent = (builder, params) -> actual.apply(builder);
+        BytesReference source = toXContent(actualToXContent, xContentType, humanReadable);
+        assertEquals("Filtered source must be equal to the expected source",
+            convertToMap(toXContent(expectedToXContent, xContentType, humanReadable), true, xContentType).v2(),
+            convertToMap(filter(source, sourceIncludes, sourceExcludes), true, xContentType).v2());
+    }
+
+    @Override
+    public void testSimpleArrayOfObjectsExclusive() throws Exception {
+        // empty arrays are preserved, like with XContentMapValues
+        testFilter(SIMPLE_ARRAY_OF_OBJECTS_EXCLUSIVE, SAMPLE, emptySet(), singleton("authors"));
+    }
+
+    public void testSameAsMapFilter() throws IOException {
+        final XContentBuilder builder = XContentFactory.jsonBuilder().startObject()
+            .field("field", "value")
+            .field("object.dotted", "value")
+            .startObject("object")
+                .field("include", 1)
+                .field("exclude", 2)
+                .startObject("empty").endObject()
+                .startArray("array").value(1).startObject().field("include", 3).field("other", 4).endObject().endArray()
+            .endObject()
+            .startArray("array")
+                .startObject().field("exclude", "bar").endObject()
+                .startArray().value("nested").endArray()
+                .startArray().endArray()
+            .endArray()
+            .startArray("empty_array").endArray()
+            .endObject();
+        final BytesReference source = BytesReference.bytes(builder);
+        final Map<String, Object> sourceAsMap = XContentHelper.convertToMap(source, true, XContentType.JSON).v2();
+        final String[][] filters = new String[][] {
+            {},
+            {"object"},
+            {"object.include"},
+            {"object.*"},
+            {"obj*"},
+            {"array"},
+            {"array.exclude"},
+            {"*.include"},
+            {"object.array.include", "empty_array"},
+            {"object", "object.empty.include"}
+        };
+        for (String[] includes : filters) {
+            for (String[] excludes : filters) {
+                assertEquals("includes " + String.join(",", includes) + " excludes " + String.join(",", excludes),
+                    XContentMapValues.filter(sourceAsMap, includes, excludes),
+                    XContentHelper.convertToMap(filter(source, includes, excludes), true, XContentType.JSON).v2());
+            }
+        }
+    }
+
+    public void testKeepsFieldOrder() throws IOException {
+        final XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        final int numFields = randomIntBetween(2, 20);
+        final ArrayList<String> expected = new ArrayList<>();
+        for (int i = 0; i < numFields; i++) {
+            final String field = randomAlphaOfLength(5) + i;
+            builder.field(field, i);
+            if (i % 2 == 0) {
+                expected.add(field);
+            }
+        }
+        builder.endObject();
+        final BytesReference filtered = filter(BytesReference.bytes(builder), expected.toArray(new String[0]), Strings.EMPTY_ARRAY);
+        assertEquals(expected, new ArrayList<>(XContentHelper.convertToMap(filtered, true, XContentType.JSON).v2().keySet()));
+    }
+
+    private static BytesReference filter(BytesReference source, String[] includes, String[] excludes) throws IOException {
+        try (XContentParser parser = XContentHelper.createParser(NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION, source)) {
+            XContentBuilder builder = XContentBuilder.builder(parser.contentType().xContent());
+            new StreamingXContentFilter(includes, excludes).filter(parser, builder);
+            return BytesReference.bytes(builder);
+        }
+    }
+}
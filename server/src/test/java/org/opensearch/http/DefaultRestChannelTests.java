@@ -35,6 +35,7 @@ package org.opensearch.http;
 import org.opensearch.action.ActionListener;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
 import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
@@ -48,6 +49,8 @@ import org.opensearch.common.xcontent.XContentBuilder;
 import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.indices.breaker.NoneCircuitBreakerService;
 import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.ChunkedRestResponse;
+import org.opensearch.rest.ChunkedRestResponseBody;
 import org.opensearch.rest.RestChannel;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.RestResponse;
@@ -67,9 +70,11 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.not;
@@ -355,6 +360,96 @@ public class DefaultRestChannelTests extends OpenSearchTestCase {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    public void testChunkedResponse() throws IOException {
+        final List<byte[]> pieces = randomList(3, 10, () -> randomByteArrayOfLength(ChunkedRestResponseBody.CHUNK_SIZE_HINT / 2));
+        final AtomicReference<ChunkedRestResponseBody> chunkedBody = new AtomicReference<>();
+        final TestHttpRequest httpRequest = new TestHttpRequest(HttpRequest.HttpVersion.HTTP_1_1, RestRequest.Method.GET, "/") {
+            @Override
+            public HttpResponse createChunkedResponse(RestStatus status, ChunkedRestResponseBody content) {
+                assertTrue(chunkedBody.compareAndSet(null, content));
+                return new TestHttpResponse(status, null);
+            }
+        };
+        final RestRequest request = RestRequest.request(xContentRegistry(), httpRequest, httpChannel);
+        final DefaultRestChannel channel = new DefaultRestChannel(httpChannel, httpRequest, request, bigArrays,
+            HttpHandlingSettings.fromSettings(Settings.EMPTY), threadPool.getThreadContext(), CorsHandler.fromSettings(Settings.EMPTY),
+            null);
+        channel.sendResponse(new ChunkedRestResponse(RestStatus.OK, new TestChunkedBody(pieces)));
+
+        final ArgumentCaptor<TestHttpResponse> responseCaptor = ArgumentCaptor.forClass(TestHttpResponse.class);
+        final Class<ActionListener<Void>> listenerClass = (Class<ActionListener<Void>>) (Class) ActionListener.class;
+        final ArgumentCaptor<ActionListener<Void>> listenerCaptor = ArgumentCaptor.forClass(listenerClass);
+        verify(httpChannel).sendResponse(responseCaptor.capture(), listenerCaptor.capture());
+        final Map<String, List<String>> headers = responseCaptor.getValue().headers();
+        // the length of the content is unknown when its first chunk is sent
+        assertNull(headers.get(DefaultRestChannel.CONTENT_LENGTH));
+        assertEquals("application/octet-stream", headers.get(DefaultRestChannel.CONTENT_TYPE).get(0));
+
+        // the http layer encodes and writes the chunks, starting with the chunk that was encoded to pick the response
+        final ChunkedRestResponseBody body = chunkedBody.get();
+        assertNotNull(body);
+        try (BytesStreamOutput content = new BytesStreamOutput()) {
+            int numChunks = 0;
+            while (body.isDone() == false) {
+                try (ReleasableBytesReference chunk = body.encodeChunk(ChunkedRestResponseBody.CHUNK_SIZE_HINT, bigArrays)) {
+                    chunk.writeTo(content);
+                }
+                numChunks++;
+            }
+            assertThat(numChunks, greaterThan(1));
+            assertEquals(concat(pieces), content.bytes());
+        }
+        listenerCaptor.getValue().onResponse(null);
+        // OpenSearchTestCase#after will invoke ensureAllArraysAreReleased which will fail if a chunk was not released
+    }
+
+    public void testSmallChunkedResponseHasContentLength() {
+        final List<byte[]> pieces = randomList(1, 10, () -> randomByteArrayOfLength(between(0, 100)));
+        final TestHttpRequest httpRequest = new TestHttpRequest(HttpRequest.HttpVersion.HTTP_1_1, RestRequest.Method.GET, "/") {
+            @Override
+            public HttpResponse createChunkedResponse(RestStatus status, ChunkedRestResponseBody content) {
+                throw new AssertionError("a response that fits in a chunk must be sent at once");
+            }
+        };
+        final TestHttpResponse response = sendChunkedResponse(httpRequest, pieces);
+        assertEquals(concat(pieces), response.content());
+        assertEquals(Integer.toString(response.content().length()), response.headers().get(DefaultRestChannel.CONTENT_LENGTH).get(0));
+    }
+
+    public void testChunkedResponseWithoutChunkedEncoding() {
+        final List<byte[]> pieces = randomList(3, 10, () -> randomByteArrayOfLength(ChunkedRestResponseBody.CHUNK_SIZE_HINT / 2));
+        // the http implementation of the request can't send chunks, so the whole content is encoded at once
+        final TestHttpRequest httpRequest = new TestHttpRequest(HttpRequest.HttpVersion.HTTP_1_1, RestRequest.Method.GET, "/");
+        final TestHttpResponse response = sendChunkedResponse(httpRequest, pieces);
+        assertEquals(concat(pieces), response.content());
+        assertEquals(Integer.toString(response.content().length()), response.headers().get(DefaultRestChannel.CONTENT_LENGTH).get(0));
+    }
+
+    @SuppressWarnings("unchecked")
+    private TestHttpResponse sendChunkedResponse(TestHttpRequest httpRequest, List<byte[]> pieces) {
+        final RestRequest request = RestRequest.request(xContentRegistry(), httpRequest, httpChannel);
+        final DefaultRestChannel channel = new DefaultRestChannel(httpChannel, httpRequest, request, bigArrays,
+            HttpHandlingSettings.fromSettings(Settings.EMPTY), threadPool.getThreadContext(), CorsHandler.fromSettings(Settings.EMPTY),
+            null);
+        channel.sendResponse(new ChunkedRestResponse(RestStatus.OK, new TestChunkedBody(pieces)));
+
+        final ArgumentCaptor<TestHttpResponse> responseCaptor = ArgumentCaptor.forClass(TestHttpResponse.class);
+        final Class<ActionListener<Void>> listenerClass = (Class<ActionListener<Void>>) (Class) ActionListener.class;
+        final ArgumentCaptor<ActionListener<Void>> listenerCaptor = ArgumentCaptor.forClass(listenerClass);
+        verify(httpChannel).sendResponse(responseCaptor.capture(), listenerCaptor.capture());
+        final TestHttpResponse response = responseCaptor.getValue();
+        // the content is released with the response, so it is copied before
+        final TestHttpResponse copy = new TestHttpResponse(response.status(), new BytesArray(BytesReference.toBytes(response.content())));
+        response.headers().forEach((name, values) -> values.forEach(value -> copy.addHeader(name, value)));
+        listenerCaptor.getValue().onResponse(null);
+        return copy;
+    }
+
+    private static BytesReference concat(List<byte[]> pieces) {
+        return CompositeBytesReference.of(pieces.stream().map(BytesArray::new).toArray(BytesReference[]::new));
+    }
+
     private TestHttpResponse executeRequest(final Settings settings, final String host) {
         return executeRequest(settings, null, host);
     }
@@ -378,6 +473,38 @@ public class DefaultRestChannelTests extends OpenSearchTestCase {
         return responseCaptor.getValue();
     }
 
+    /**
+     * A body that encodes the given pieces of content one after another, into chunks of at least the size hint.
+     */
+    private static class TestChunkedBody implements ChunkedRestResponseBody {
+
+        private final List<byte[]> pieces;
+        private int nextPiece;
+
+        TestChunkedBody(List<byte[]> pieces) {
+            this.pieces = pieces;
+        }
+
+        @Override
+        public boolean isDone() {
+            return nextPiece == pieces.size();
+        }
+
+        @Override
+        public ReleasableBytesReference encodeChunk(int sizeHint, BigArrays bigArrays) throws IOException {
+            final ReleasableBytesStreamOutput chunk = new ReleasableBytesStreamOutput(bigArrays);
+            while (nextPiece < pieces.size() && chunk.size() < sizeHint) {
+                chunk.writeBytes(pieces.get(nextPiece++));
+            }
+            return new ReleasableBytesReference(chunk.bytes(), chunk);
+        }
+
+        @Override
+        public String getResponseContentTypeString() {
+            return "application/octet-stream";
+        }
+    }
+
     private static class TestRestResponse extends RestResponse {
 
         private final RestStatus status;
@@ -59,6 +59,7 @@ import org.opensearch.test.IndexSettingsModule;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Map;
 
 import static org.hamcrest.Matchers.instanceOf;
 
@@ -84,6 +85,18 @@ public class CodecTests extends OpenSearchTestCase {
         assertStoredFieldsFormatCompressionEquals(Lucene87StoredFieldsFormat.Mode.BEST_COMPRESSION, codec);
     }
 
+    public void testAdditionalCodecs() throws Exception {
+        Codec codec = new Lucene87Codec(Lucene87Codec.Mode.BEST_COMPRESSION);
+        CodecService codecService = createCodecService(Collections.singletonMap("Lucene87", codec));
+        assertSame(codec, codecService.codec("Lucene87"));
+        assertThat(codecService.codec("default"), instanceOf(PerFieldMappingPostingFormatCodec.class));
+        assertStoredFieldsFormatCompressionEquals(Lucene87StoredFieldsFormat.Mode.BEST_COMPRESSION, codecService.codec("Lucene87"));
+
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> createCodecService(Collections.singletonMap(CodecService.DEFAULT_CODEC, codec)));
+        assertEquals("codec [default] conflicts with a built-in codec", e.getMessage());
+    }
+
     private void assertDVCompressionEquals(Lucene80DocValuesFormat.Mode expected, Codec actual) throws Exception {
         Directory dir = newDirectory();
         IndexWriterConfig iwc = newIndexWriterConfig(null);
@@ -122,6 +135,10 @@ public class CodecTests extends OpenSearchTestCase {
     }
 
     private CodecService createCodecService() throws IOException {
+        return createCodecService(Collections.emptyMap());
+    }
+
+    private CodecService createCodecService(Map<String, Codec> additionalCodecs) throws IOException {
         Settings nodeSettings = Settings.builder()
                 .put(Environment.PATH_HOME_SETTING.getKey(), createTempDir())
                 .build();
@@ -131,7 +148,7 @@ public class CodecTests extends OpenSearchTestCase {
         MapperRegistry mapperRegistry = new MapperRegistry(Collections.emptyMap(), Collections.emptyMap(), MapperPlugin.NOOP_FIELD_FILTER);
         MapperService service = new MapperService(settings, indexAnalyzers, xContentRegistry(), similarityService, mapperRegistry,
                 () -> null, () -> false, null);
-        return new CodecService(service, LogManager.getLogger("test"));
+        return new CodecService(service, LogManager.getLogger("test"), additionalCodecs);
     }
 
 }
@@ -0,0 +1,320 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.startree;
+
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.lucene80.Lucene80DocValuesFormat;
+import org.apache.lucene.codecs.lucene87.Lucene87Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.NoopCircuitBreaker;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.set.Sets;
+import org.opensearch.indices.breaker.HierarchyCircuitBreakerService;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongToDoubleFunction;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class StarTreeDocValuesFormatTests extends OpenSearchTestCase {
+
+    private static final String DIMENSION = "dimension";
+    private static final String LONG_METRIC = "long_metric";
+    private static final String DOUBLE_METRIC = "double_metric";
+    private static final String OTHER = "other";
+
+    private static final Map<String, LongToDoubleFunction> DECODERS = new HashMap<>();
+    static {
+        DECODERS.put(LONG_METRIC, value -> value);
+        DECODERS.put(DOUBLE_METRIC, NumericUtils::sortableLongToDouble);
+    }
+
+    public void testStarTreeMatchesDocValues() throws IOException {
+        final DocValuesFormat starTreeFormat = new StarTreeDocValuesFormat(
+            new Lucene80DocValuesFormat(),
+            Sets.newHashSet(DIMENSION),
+            DECODERS::get
+        );
+        final IndexWriterConfig config = newIndexWriterConfig().setCodec(new Lucene87Codec() {
+            @Override
+            public DocValuesFormat getDocValuesFormatForField(String field) {
+                return OTHER.equals(field) ? super.getDocValuesFormatForField(field) : starTreeFormat;
+            }
+        });
+        try (Directory dir = newDirectory(); RandomIndexWriter w = new RandomIndexWriter(random(), dir, config)) {
+            final int numDocs = randomIntBetween(1, 500);
+            final int numValues = randomIntBetween(1, 20);
+            for (int i = 0; i < numDocs; i++) {
+                final Document doc = new Document();
+                for (int j = randomIntBetween(0, 2); j > 0; j--) {
+                    doc.add(new SortedSetDocValuesField(DIMENSION, new BytesRef("value" + randomIntBetween(0, numValues))));
+                }
+                for (int j = randomIntBetween(0, 3); j > 0; j--) {
+                    doc.add(new SortedNumericDocValuesField(LONG_METRIC, randomLongBetween(-1000, 1000)));
+                }
+                for (int j = randomIntBetween(0, 3); j > 0; j--) {
+                    doc.add(new SortedNumericDocValuesField(DOUBLE_METRIC, NumericUtils.doubleToSortableLong(randomDouble() * 100)));
+                }
+                doc.add(new SortedSetDocValuesField(OTHER, new BytesRef("value")));
+                w.addDocument(doc);
+            }
+            if (randomBoolean()) {
+                w.forceMerge(1);
+            }
+            try (DirectoryReader reader = w.getReader()) {
+                final StarTreeCache cache = new StarTreeCache(Long.MAX_VALUE, new NoopCircuitBreaker(CircuitBreaker.FIELDDATA));
+                for (LeafReaderContext ctx : reader.leaves()) {
+                    assertStarTree(cache, ctx.reader());
+                }
+            }
+            // the values that were spilled to build the trees were deleted
+            for (String file : dir.listAll()) {
+                assertFalse(file, file.endsWith(".tmp"));
+            }
+        }
+    }
+
+    public void testFilter() throws IOException {
+        final DocValuesFormat starTreeFormat = new StarTreeDocValuesFormat(
+            new Lucene80DocValuesFormat(),
+            Sets.newHashSet(DIMENSION, OTHER),
+            DECODERS::get
+        );
+        final IndexWriterConfig config = newIndexWriterConfig().setCodec(new Lucene87Codec() {
+            @Override
+            public DocValuesFormat getDocValuesFormatForField(String field) {
+                return starTreeFormat;
+            }
+        });
+        try (Directory dir = newDirectory(); RandomIndexWriter w = new RandomIndexWriter(random(), dir, config)) {
+            final int numDocs = randomIntBetween(1, 500);
+            for (int i = 0; i < numDocs; i++) {
+                final Document doc = new Document();
+                if (randomBoolean()) {
+                    doc.add(new SortedSetDocValuesField(DIMENSION, new BytesRef("value" + randomIntBetween(10, 30))));
+                }
+                doc.add(new SortedNumericDocValuesField(LONG_METRIC, randomLongBetween(-1000, 1000)));
+                doc.add(new SortedSetDocValuesField(OTHER, new BytesRef("value" + randomIntBetween(0, 2))));
+                doc.add(new SortedSetDocValuesField(OTHER, new BytesRef("value" + randomIntBetween(3, 5))));
+                w.addDocument(doc);
+            }
+            final BytesRef lower = randomBoolean() ? null : new BytesRef("value" + randomIntBetween(5, 35));
+            final BytesRef upper = randomBoolean() ? null : new BytesRef("value" + randomIntBetween(5, 35));
+            final boolean includeLower = randomBoolean();
+            final boolean includeUpper = randomBoolean();
+            try (DirectoryReader reader = w.getReader()) {
+                final StarTreeCache cache = new StarTreeCache(Long.MAX_VALUE, new NoopCircuitBreaker(CircuitBreaker.FIELDDATA));
+                for (LeafReaderContext ctx : reader.leaves()) {
+                    final StarTree starTree = StarTree.fromLeaf(cache, ctx.reader(), LONG_METRIC);
+                    assertNotNull(starTree);
+                    // docs have several values of the other dimension
+                    assertNull(starTree.filter(ctx.reader(), OTHER, lower, upper, includeLower, includeUpper));
+                    assertNull(starTree.filter(ctx.reader(), LONG_METRIC, lower, upper, includeLower, includeUpper));
+                    if (starTree.dimension(DIMENSION) == null) {
+                        // no doc of the segment has a value for the dimension
+                        assertNull(starTree.filter(ctx.reader(), DIMENSION, lower, upper, includeLower, includeUpper));
+                        continue;
+                    }
+
+                    final StarTree filtered = starTree.filter(ctx.reader(), DIMENSION, lower, upper, includeLower, includeUpper);
+                    assertNotNull(filtered);
+                    assertNull(filtered.dimension(OTHER));
+                    final StarTree.MetricStats expected = new StarTree.MetricStats();
+                    final Map<Long, Long> expectedDocCounts = new HashMap<>();
+                    final SortedSetDocValues ords = ctx.reader().getSortedSetDocValues(DIMENSION);
+                    final SortedNumericDocValues metricValues = ctx.reader().getSortedNumericDocValues(LONG_METRIC);
+                    for (int doc = 0; doc < ctx.reader().maxDoc(); doc++) {
+                        if (ords == null || ords.advanceExact(doc) == false) {
+                            continue;
+                        }
+                        final long ord = ords.nextOrd();
+                        final BytesRef value = ords.lookupOrd(ord);
+                        if (lower != null && (includeLower ? value.compareTo(lower) < 0 : value.compareTo(lower) <= 0)) {
+                            continue;
+                        }
+                        if (upper != null && (includeUpper ? value.compareTo(upper) > 0 : value.compareTo(upper) >= 0)) {
+                            continue;
+                        }
+                        assertTrue(metricValues.advanceExact(doc));
+                        expected.add(DECODERS.get(LONG_METRIC).applyAsDouble(metricValues.nextValue()));
+                        expectedDocCounts.merge(ord, 1L, Long::sum);
+                    }
+                    assertStats(expected, filtered.metric(LONG_METRIC));
+                    final StarTree.Dimension dimension = filtered.dimension(DIMENSION);
+                    assertThat(dimension.size(), equalTo(expectedDocCounts.size()));
+                    for (int node = 0; node < dimension.size(); node++) {
+                        assertThat(dimension.docCount(node), equalTo(expectedDocCounts.get(dimension.ord(node))));
+                    }
+                }
+            }
+        }
+    }
+
+    public void testCacheAccountsTreesAgainstBreaker() throws IOException {
+        final DocValuesFormat starTreeFormat = new StarTreeDocValuesFormat(
+            new Lucene80DocValuesFormat(),
+            Sets.newHashSet(DIMENSION),
+            DECODERS::get
+        );
+        final IndexWriterConfig config = newIndexWriterConfig().setCodec(new Lucene87Codec() {
+            @Override
+            public DocValuesFormat getDocValuesFormatForField(String field) {
+                return starTreeFormat;
+            }
+        });
+        try (Directory dir = newDirectory(); RandomIndexWriter w = new RandomIndexWriter(random(), dir, config)) {
+            final int numDocs = randomIntBetween(1, 100);
+            for (int i = 0; i < numDocs; i++) {
+                final Document doc = new Document();
+                doc.add(new SortedSetDocValuesField(DIMENSION, new BytesRef("value" + randomIntBetween(0, 10))));
+                doc.add(new SortedNumericDocValuesField(LONG_METRIC, randomLongBetween(-1000, 1000)));
+                w.addDocument(doc);
+            }
+            w.commit();
+
+            final CircuitBreaker breaker = newFieldDataBreaker("100mb");
+            final StarTreeCache cache = new StarTreeCache(Long.MAX_VALUE, breaker);
+            // a reader that doesn't share its segments with the writer, so that closing it closes their cores
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                long ramBytesUsed = 0;
+                for (LeafReaderContext ctx : reader.leaves()) {
+                    final StarTree starTree = StarTree.fromLeaf(cache, ctx.reader(), LONG_METRIC);
+                    assertNotNull(starTree);
+                    ramBytesUsed += starTree.ramBytesUsed();
+                }
+                assertEquals(ramBytesUsed, breaker.getUsed());
+                assertEquals(ramBytesUsed, cache.getMemorySizeInBytes());
+            }
+            // the trees are evicted once the cores of their segments are closed
+            assertEquals(0, breaker.getUsed());
+            assertEquals(0, cache.getMemorySizeInBytes());
+
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                // the trees that don't fit in the cache are still returned, but not retained
+                final StarTreeCache emptyCache = new StarTreeCache(0, breaker);
+                // the trees aren't loaded if the breaker trips
+                final StarTreeCache trippingCache = new StarTreeCache(Long.MAX_VALUE, newFieldDataBreaker("1b"));
+                for (LeafReaderContext ctx : reader.leaves()) {
+                    assertNotNull(StarTree.fromLeaf(emptyCache, ctx.reader(), LONG_METRIC));
+                    assertNull(StarTree.fromLeaf(trippingCache, ctx.reader(), LONG_METRIC));
+                }
+                assertEquals(0, emptyCache.getMemorySizeInBytes());
+                assertEquals(0, breaker.getUsed());
+
+                for (LeafReaderContext ctx : reader.leaves()) {
+                    assertNotNull(StarTree.fromLeaf(cache, ctx.reader(), LONG_METRIC));
+                }
+                assertThat(breaker.getUsed(), greaterThan(0L));
+                // closing the cache of a shard releases its trees
+                cache.close();
+                assertEquals(0, breaker.getUsed());
+            }
+        }
+    }
+
+    private static CircuitBreaker newFieldDataBreaker(String limit) {
+        final Settings settings = Settings.builder()
+            .put(HierarchyCircuitBreakerService.FIELDDATA_CIRCUIT_BREAKER_LIMIT_SETTING.getKey(), limit)
+            .put(HierarchyCircuitBreakerService.USE_REAL_MEMORY_USAGE_SETTING.getKey(), false)
+            .build();
+        return new HierarchyCircuitBreakerService(settings, Collections.emptyList(),
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)).getBreaker(CircuitBreaker.FIELDDATA);
+    }
+
+    private static void assertStarTree(StarTreeCache cache, LeafReader reader) throws IOException {
+        assertNull(StarTree.fromLeaf(cache, reader, OTHER));
+        assertNull(StarTree.fromLeaf(cache, reader, "missing"));
+        final StarTree starTree = StarTree.fromLeaf(cache, reader, DIMENSION);
+        assertNotNull(starTree);
+        assertSame(starTree, StarTree.fromLeaf(cache, reader, LONG_METRIC));
+        assertNull(starTree.metric(OTHER));
+        assertNull(starTree.dimension(LONG_METRIC));
+
+        // aggregates the doc values of the segment by brute force
+        final SortedSetDocValues dimensionValues = reader.getSortedSetDocValues(DIMENSION);
+        final Map<String, StarTree.MetricStats> expectedStarNode = new HashMap<>();
+        final Map<Long, Long> expectedDocCounts = new HashMap<>();
+        final Map<String, Map<Long, StarTree.MetricStats>> expectedNodes = new HashMap<>();
+        for (String metric : DECODERS.keySet()) {
+            expectedStarNode.put(metric, new StarTree.MetricStats());
+            expectedNodes.put(metric, new HashMap<>());
+            final SortedNumericDocValues metricValues = reader.getSortedNumericDocValues(metric);
+            final SortedSetDocValues ords = reader.getSortedSetDocValues(DIMENSION);
+            for (int doc = 0; doc < reader.maxDoc(); doc++) {
+                final double[] values;
+                if (metricValues != null && metricValues.advanceExact(doc)) {
+                    values = new double[metricValues.docValueCount()];
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = DECODERS.get(metric).applyAsDouble(metricValues.nextValue());
+                        expectedStarNode.get(metric).add(values[i]);
+                    }
+                } else {
+                    values = new double[0];
+                }
+                if (ords != null && ords.advanceExact(doc)) {
+                    for (long ord = ords.nextOrd(); ord != SortedSetDocValues.NO_MORE_ORDS; ord = ords.nextOrd()) {
+                        final StarTree.MetricStats stats = expectedNodes.get(metric).computeIfAbsent(ord, o -> new StarTree.MetricStats());
+                        for (double value : values) {
+                            stats.add(value);
+                        }
+                        if (metric.equals(LONG_METRIC)) {
+                            expectedDocCounts.merge(ord, 1L, Long::sum);
+                        }
+                    }
+                }
+            }
+        }
+
+        for (String metric : DECODERS.keySet()) {
+            assertStats(expectedStarNode.get(metric), starTree.metric(metric));
+        }
+        final StarTree.Dimension dimension = starTree.dimension(DIMENSION);
+        assertNotNull(dimension);
+        assertThat(dimension.size(), equalTo(expectedDocCounts.size()));
+        long previousOrd = -1;
+        for (int node = 0; node < dimension.size(); node++) {
+            final long ord = dimension.ord(node);
+            assertTrue("the nodes must be sorted by ordinal", ord > previousOrd);
+            previousOrd = ord;
+            assertTrue(ord < dimensionValues.getValueCount());
+            assertThat(dimension.docCount(node), equalTo(expectedDocCounts.get(ord)));
+            for (String metric : DECODERS.keySet()) {
+                assertStats(expectedNodes.get(metric).get(ord), dimension.metric(metric, node));
+            }
+            assertNull(dimension.metric(OTHER, node));
+        }
+    }
+
+    private static void assertStats(StarTree.MetricStats expected, StarTree.MetricStats actual) {
+        assertNotNull(actual);
+        assertThat(actual.count(), equalTo(expected.count()));
+        assertEquals(expected.sum(), actual.sum(), 1e-6);
+        assertThat(actual.min(), equalTo(expected.min()));
+        assertThat(actual.max(), equalTo(expected.max()));
+    }
+}
@@ -43,6 +43,7 @@ import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -459,6 +460,81 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
         }
     }
 
+    public void testPackedBasics() throws IOException {
+        LiveVersionMap map = new LiveVersionMap(true);
+        try (Releasable r = map.acquireLock(uid("test"))) {
+            Translog.Location tlogLoc = randomTranslogLocation();
+            map.putIndexUnderLock(uid("test"), new IndexVersionValue(tlogLoc, 1, 1, 1));
+            assertVersion(new IndexVersionValue(tlogLoc, 1, 1, 1), map.getUnderLock(uid("test")));
+            assertEquals(Collections.singletonMap(uid("test"), new IndexVersionValue(tlogLoc, 1, 1, 1)), map.getAllCurrent());
+            map.beforeRefresh();
+            assertVersion(new IndexVersionValue(tlogLoc, 1, 1, 1), map.getUnderLock(uid("test")));
+            map.afterRefresh(randomBoolean());
+            assertNull(map.getUnderLock(uid("test")));
+
+            map.putDeleteUnderLock(uid("test"), new DeleteVersionValue(2, 2, 1, 1));
+            assertEquals(new DeleteVersionValue(2, 2, 1, 1), map.getUnderLock(uid("test")));
+            assertTrue(map.getAllCurrent().isEmpty());
+            map.putIndexUnderLock(uid("test"), new IndexVersionValue(tlogLoc, 3, 3, 1));
+            assertVersion(new IndexVersionValue(tlogLoc, 3, 3, 1), map.getUnderLock(uid("test")));
+        }
+    }
+
+    public void testPackedRefreshingBytes() throws IOException {
+        LiveVersionMap map = new LiveVersionMap(true);
+        final long emptyRamBytesUsed = map.ramBytesUsedForRefresh();
+        for (int i = 0; i < 100; i++) {
+            try (Releasable r = map.acquireLock(uid(Integer.toString(i)))) {
+                map.putIndexUnderLock(uid(Integer.toString(i)), randomIndexVersionValue());
+            }
+        }
+        assertThat(map.ramBytesUsedForRefresh(), greaterThan(emptyRamBytesUsed));
+        map.beforeRefresh();
+        assertThat(map.getRefreshingBytes(), greaterThan(0L));
+        map.afterRefresh(true);
+        assertThat(map.getRefreshingBytes(), equalTo(0L));
+    }
+
+    public void testPackedRandomlyIndexDeleteAndRefresh() throws Exception {
+        final LiveVersionMap versionMap = new LiveVersionMap(true);
+        final List<BytesRef> uids = new ArrayList<>();
+        final int numUids = randomIntBetween(1, 10);
+        for (int i = 0; i < numUids; i++) {
+            uids.add(uid(Integer.toString(i)));
+        }
+        final Map<BytesRef, VersionValue> latestVersions = new HashMap<>();
+        final long versions = between(10, 1000);
+        for (long i = 0; i < versions; i++) {
+            if (randomBoolean()) {
+                versionMap.beforeRefresh();
+                versionMap.afterRefresh(randomBoolean());
+                latestVersions.values().removeIf(value -> value.isDelete() == false);
+            }
+            versionMap.enforceSafeAccess();
+            final BytesRef uid = randomFrom(uids);
+            try (Releasable ignore = versionMap.acquireLock(uid)) {
+                final VersionValue latestVersion;
+                if (randomBoolean()) {
+                    latestVersion = new DeleteVersionValue(randomNonNegativeLong(), randomLong(), randomLong(), randomLong());
+                    versionMap.putDeleteUnderLock(uid, (DeleteVersionValue) latestVersion);
+                } else {
+                    latestVersion = new IndexVersionValue(randomTranslogLocation(), randomNonNegativeLong(), randomLong(), randomLong());
+                    versionMap.maybePutIndexUnderLock(uid, (IndexVersionValue) latestVersion);
+                }
+                latestVersions.put(uid, latestVersion);
+            }
+            for (BytesRef other : uids) {
+                try (Releasable ignore = versionMap.acquireLock(other)) {
+                    assertVersion(latestVersions.get(other), versionMap.getUnderLock(other));
+                }
+            }
+        }
+    }
+
+    private static void assertVersion(VersionValue expected, VersionValue actual) {
+        PackedIndexVersionMapTests.assertVersion(expected, actual);
+    }
+
     IndexVersionValue randomIndexVersionValue() {
         return new IndexVersionValue(randomTranslogLocation(), randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong());
     }
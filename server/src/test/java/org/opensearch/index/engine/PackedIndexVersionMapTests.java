@@ -0,0 +1,118 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.TestUtil;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+public class PackedIndexVersionMapTests extends OpenSearchTestCase {
+
+    public void testPutGetRemove() {
+        final PackedIndexVersionMap map = new PackedIndexVersionMap(randomIntBetween(0, 100));
+        final Map<BytesRef, VersionValue> expected = new HashMap<>();
+        final List<BytesRef> uids = new ArrayList<>();
+        final int numUids = randomIntBetween(1, 2000);
+        for (int i = 0; i < numUids; i++) {
+            uids.add(new BytesRef(TestUtil.randomSimpleString(random(), 1, 30)));
+        }
+        final int numOps = randomIntBetween(1, 10000);
+        for (int i = 0; i < numOps; i++) {
+            final BytesRef uid = randomFrom(uids);
+            if (rarely()) {
+                map.remove(uid);
+                expected.remove(uid);
+            } else {
+                final IndexVersionValue value = randomIndexVersionValue();
+                map.put(uid, value);
+                expected.put(uid, value);
+            }
+            assertVersion(expected.get(uid), map.get(uid));
+        }
+        assertThat(map.size(), equalTo(expected.size()));
+        for (BytesRef uid : uids) {
+            assertVersion(expected.get(uid), map.get(uid));
+        }
+        assertThat(map.snapshot(), equalTo(expected));
+    }
+
+    public void testPutDoesNotKeepReferenceToUid() {
+        final PackedIndexVersionMap map = new PackedIndexVersionMap(0);
+        final byte[] bytes = new byte[] { 1, 2, 3, 4 };
+        final IndexVersionValue value = randomIndexVersionValue();
+        map.put(new BytesRef(bytes, 1, 2), value);
+        bytes[1] = 5;
+        assertVersion(value, map.get(new BytesRef(new byte[] { 2, 3 })));
+        assertNull(map.get(new BytesRef(new byte[] { 5, 3 })));
+    }
+
+    public void testRamBytesUsed() {
+        final PackedIndexVersionMap map = new PackedIndexVersionMap(0);
+        final long initialRamBytesUsed = map.ramBytesUsed();
+        long ramBytesUsed = initialRamBytesUsed;
+        final int numUids = randomIntBetween(1000, 5000);
+        for (int i = 0; i < numUids; i++) {
+            final BytesRef uid = new BytesRef(Integer.toString(i));
+            ramBytesUsed += map.put(uid, randomIndexVersionValue());
+            if (randomBoolean()) {
+                // updates and removals don't allocate
+                assertThat(map.put(uid, randomIndexVersionValue()), equalTo(0L));
+            }
+            if (rarely()) {
+                map.remove(uid);
+            }
+            assertThat(map.ramBytesUsed(), equalTo(ramBytesUsed));
+        }
+        assertThat(map.ramBytesUsed(), greaterThan(initialRamBytesUsed));
+    }
+
+    public void testValuesOutliveLaterLookups() {
+        final PackedIndexVersionMap map = new PackedIndexVersionMap(0);
+        final IndexVersionValue first = randomIndexVersionValue();
+        final IndexVersionValue second = randomIndexVersionValue();
+        map.put(new BytesRef("1"), first);
+        map.put(new BytesRef("2"), second);
+        final VersionValue firstValue = map.get(new BytesRef("1"));
+        final VersionValue secondValue = map.get(new BytesRef("2"));
+        assertNull(map.get(new BytesRef("3")));
+        map.put(new BytesRef("1"), randomIndexVersionValue());
+        // the values that were read are not affected by later lookups and updates
+        assertVersion(first, firstValue);
+        assertVersion(second, secondValue);
+    }
+
+    static void assertVersion(VersionValue expected, VersionValue actual) {
+        if (expected == null) {
+            assertNull(actual);
+        } else {
+            assertNotNull(actual);
+            assertEquals(expected.version, actual.version);
+            assertEquals(expected.seqNo, actual.seqNo);
+            assertEquals(expected.term, actual.term);
+            assertEquals(expected.isDelete(), actual.isDelete());
+            assertEquals(expected.getLocation(), actual.getLocation());
+        }
+    }
+
+    private IndexVersionValue randomIndexVersionValue() {
+        final Translog.Location location = randomBoolean()
+            ? null
+            : new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), randomInt());
+        return new IndexVersionValue(location, randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong());
+    }
+}
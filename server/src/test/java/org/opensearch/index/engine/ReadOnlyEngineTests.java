@@ -233,6 +233,33 @@ public class ReadOnlyEngineTests extends EngineTestCase {
         }
     }
 
+    public void testAcquireLatestSegmentInfos() throws IOException {
+        IOUtils.close(engine, store);
+        final AtomicLong globalCheckpoint = new AtomicLong(SequenceNumbers.NO_OPS_PERFORMED);
+        try (Store store = createStore()) {
+            EngineConfig config = config(defaultSettings, store, createTempDir(), newMergePolicy(), null, null, globalCheckpoint::get);
+            int numDocs = scaledRandomIntBetween(1, 10);
+            try (InternalEngine engine = createEngine(config)) {
+                for (int i = 0; i < numDocs; i++) {
+                    ParsedDocument doc = testParsedDocument(Integer.toString(i), null, testDocument(), new BytesArray("{}"), null);
+                    engine.index(new Engine.Index(newUid(doc), doc, i, primaryTerm.get(), 1, null, Engine.Operation.Origin.REPLICA,
+                        System.nanoTime(), -1, false, SequenceNumbers.UNASSIGNED_SEQ_NO, 0));
+                }
+                globalCheckpoint.set(engine.getPersistedLocalCheckpoint());
+                engine.syncTranslog();
+                engine.flush();
+            }
+            try (ReadOnlyEngine readOnlyEngine = new ReadOnlyEngine(config, null , new TranslogStats(), true, Function.identity(), true)) {
+                final int refCount = store.refCount();
+                try (Engine.SegmentInfosRef segmentInfosRef = readOnlyEngine.acquireLatestSegmentInfos()) {
+                    assertEquals(numDocs, segmentInfosRef.getSegmentInfos().totalMaxDoc());
+                    assertEquals(refCount + 1, store.refCount());
+                }
+                assertEquals(refCount, store.refCount());
+            }
+        }
+    }
+
     public void testRecoverFromTranslogAppliesNoOperations() throws IOException {
         IOUtils.close(engine, store);
         final AtomicLong globalCheckpoint = new AtomicLong(SequenceNumbers.NO_OPS_PERFORMED);
@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class ReplicaFileTrackerTests extends OpenSearchTestCase {
+
+    public void testDeletesFilesOnceUnreferenced() {
+        final List<String> deletedFiles = new ArrayList<>();
+        final ReplicaFileTracker fileTracker = new ReplicaFileTracker(deletedFiles::add);
+        final List<String> commitFiles = Arrays.asList("_0.cfe", "_0.cfs", "_0.si", "segments_1");
+        final List<String> readerFiles = Arrays.asList("_0.cfe", "_0.cfs", "_0.si", "_1.cfe", "_1.cfs", "_1.si");
+        fileTracker.incRef(commitFiles);
+        fileTracker.incRef(readerFiles);
+        assertEquals(2, fileTracker.refCount("_0.cfs"));
+        assertEquals(1, fileTracker.refCount("_1.cfs"));
+
+        fileTracker.decRef(readerFiles);
+        assertEquals(Arrays.asList("_1.cfe", "_1.cfs", "_1.si"), deletedFiles);
+        assertEquals(1, fileTracker.refCount("_0.cfs"));
+        assertEquals(0, fileTracker.refCount("_1.cfs"));
+
+        deletedFiles.clear();
+        fileTracker.decRef(commitFiles);
+        assertEquals(commitFiles, deletedFiles);
+    }
+
+    public void testKeepsFilesOnceClosed() {
+        final List<String> deletedFiles = new ArrayList<>();
+        final ReplicaFileTracker fileTracker = new ReplicaFileTracker(deletedFiles::add);
+        final List<String> files = Collections.singletonList("_0.cfs");
+        fileTracker.incRef(files);
+        fileTracker.close();
+        fileTracker.decRef(files);
+        assertEquals(0, fileTracker.refCount("_0.cfs"));
+        assertTrue(deletedFiles.isEmpty());
+    }
+
+    public void testRejectsUnreferencedFiles() {
+        final ReplicaFileTracker fileTracker = new ReplicaFileTracker(file -> fail("unexpected deletion of [" + file + "]"));
+        expectThrows(AssertionError.class, () -> fileTracker.decRef(Collections.singletonList("_0.cfs")));
+    }
+}
@@ -64,13 +64,17 @@ import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.lucene.search.Queries;
 import org.opensearch.index.fielddata.IndexFieldData.XFieldComparatorSource.Nested;
 import org.opensearch.index.fielddata.fieldcomparator.BytesRefFieldComparatorSource;
+import org.opensearch.index.fielddata.ordinals.GlobalOrdinalsBuilder;
 import org.opensearch.index.fielddata.ordinals.GlobalOrdinalsIndexFieldData;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.search.MultiValueMode;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
@@ -597,6 +601,27 @@ public abstract class AbstractStringFieldDataTestCase extends AbstractFieldDataI
         }
     }
 
+    public void testLoadSegmentsInParallel() throws Exception {
+        fillExtendedMvSet();
+        refreshReader();
+        IndexOrdinalsFieldData ifd = getForField("string", "value", hasDocValues());
+        ThreadPool threadPool = new TestThreadPool(getTestName());
+        try {
+            LeafOrdinalsFieldData[] segments = GlobalOrdinalsBuilder.loadSegments(topLevelReader, ifd, threadPool.generic());
+            assertThat(segments.length, equalTo(topLevelReader.leaves().size()));
+            for (int i = 0; i < segments.length; i++) {
+                LeafOrdinalsFieldData expected = ifd.load(topLevelReader.leaves().get(i));
+                if (hasDocValues() == false) {
+                    // the segments are cached, so building the global ordinals afterwards doesn't load them again
+                    assertThat(segments[i], sameInstance(expected));
+                }
+                assertThat(segments[i].getOrdinalsValues().getValueCount(), equalTo(expected.getOrdinalsValues().getValueCount()));
+            }
+        } finally {
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        }
+    }
+
     public void testGlobalOrdinalsGetRemovedOnceIndexReaderCloses() throws Exception {
         fillExtendedMvSet();
         refreshReader();
@@ -46,6 +46,7 @@ import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.SetOnce;
 import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.IndexService;
 import org.opensearch.index.fielddata.plain.SortedNumericIndexFieldData;
 import org.opensearch.index.fielddata.plain.SortedSetOrdinalsIndexFieldData;
@@ -72,6 +73,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 import static org.hamcrest.Matchers.containsString;
@@ -267,6 +269,55 @@ public class IndexFieldDataServiceTests extends OpenSearchSingleNodeTestCase {
         ifdService.clear();
     }
 
+    public void testGlobalOrdinalsFields() throws Exception {
+        final IndexService indexService = createIndex("test");
+        final IndicesService indicesService = getInstanceFromNode(IndicesService.class);
+        final AtomicLong relativeNanos = new AtomicLong();
+        final IndexFieldDataService ifdService = new IndexFieldDataService(indexService.getIndexSettings(),
+                indicesService.getIndicesFieldDataCache(), indicesService.getCircuitBreakerService(), indexService.mapperService(),
+                relativeNanos::get);
+        final TimeValue keepAlive = TimeValue.timeValueMinutes(10);
+
+        final BuilderContext ctx = new BuilderContext(indexService.getIndexSettings().getSettings(), new ContentPath(1));
+        final MappedFieldType mapper1
+            = new TextFieldMapper.Builder("s", createDefaultIndexAnalyzers()).fielddata(true).build(ctx).fieldType();
+        final IndexWriter writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(new KeywordAnalyzer()));
+        for (String value : new String[] { "foo", "bar" }) {
+            Document doc = new Document();
+            doc.add(new StringField("s", value, Store.NO));
+            writer.addDocument(doc);
+            writer.commit();
+        }
+        final DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("test", "_na_", 1));
+        assertEquals(2, reader.leaves().size());
+        final Supplier<SearchLookup> searchLookup = () -> {
+            throw new UnsupportedOperationException();
+        };
+        final IndexFieldData.Global<?> ifd = ifdService.getForField(mapper1, "test", searchLookup);
+        ifd.load(reader.leaves().get(0));
+        // only the fields that global ordinals were built for are recorded
+        assertEquals(Collections.emptySet(), ifdService.getGlobalOrdinalsFields(keepAlive));
+        ifd.loadGlobal(reader);
+        assertEquals(Collections.singleton("s"), ifdService.getGlobalOrdinalsFields(keepAlive));
+
+        // searches keep the field for another keep alive
+        relativeNanos.addAndGet(keepAlive.nanos());
+        ifdService.getForField(mapper1, "test", searchLookup);
+        relativeNanos.addAndGet(keepAlive.nanos());
+        assertEquals(Collections.singleton("s"), ifdService.getGlobalOrdinalsFields(keepAlive));
+
+        // warming doesn't, so the field expires once searches stop using it
+        ifdService.getForWarming(mapper1, "test", searchLookup);
+        relativeNanos.incrementAndGet();
+        assertEquals(Collections.emptySet(), ifdService.getGlobalOrdinalsFields(keepAlive));
+        // and isn't recorded again until its global ordinals are built again
+        ifdService.getForField(mapper1, "test", searchLookup);
+        assertEquals(Collections.emptySet(), ifdService.getGlobalOrdinalsFields(keepAlive));
+        reader.close();
+        writer.close();
+        ifdService.clear();
+    }
+
     public void testSetCacheListenerTwice() {
         final IndexService indexService = createIndex("test");
         final IndicesService indicesService = getInstanceFromNode(IndicesService.class);
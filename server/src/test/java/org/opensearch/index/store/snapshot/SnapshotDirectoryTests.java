@@ -0,0 +1,283 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.snapshot;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.blobstore.BlobPath;
+import org.opensearch.common.blobstore.fs.FsBlobStore;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.index.IndexModule;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo;
+import org.opensearch.index.store.Store;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.repositories.IndexId;
+import org.opensearch.snapshots.SnapshotId;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItemInArray;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+
+public class SnapshotDirectoryTests extends OpenSearchTestCase {
+
+    public void testSearchSnapshot() throws IOException {
+        try (Directory source = newDirectory()) {
+            final int numDocs = randomIntBetween(1, 500);
+            try (IndexWriter writer = new IndexWriter(source, newIndexWriterConfig())) {
+                for (int i = 0; i < numDocs; i++) {
+                    final Document doc = new Document();
+                    doc.add(new StringField("id", Integer.toString(i), Field.Store.YES));
+                    doc.add(new TextField("text", randomAlphaOfLengthBetween(1, 100), Field.Store.YES));
+                    writer.addDocument(doc);
+                }
+                writer.commit();
+            }
+
+            final BlobContainer blobContainer = newBlobContainer();
+            final ByteSizeValue partSize = randomBoolean() ? null : new ByteSizeValue(randomIntBetween(1, 4096));
+            final List<FileInfo> files = snapshot(source, blobContainer, partSize);
+            final int blockSize = randomIntBetween(16, 1024);
+            final long cacheSize = randomLongBetween(blockSize, 64L * blockSize);
+            final Path cachePath = createTempDir();
+            final BlockCache cache = new BlockCache(cachePath, cacheSize, blockSize);
+
+            try (Directory directory = newSnapshotDirectory(blobContainer, files, cache)) {
+                final String[] sourceFiles = Arrays.stream(source.listAll())
+                    .filter(file -> file.equals(IndexWriter.WRITE_LOCK_NAME) == false)
+                    .toArray(String[]::new);
+                assertThat(directory.listAll(), equalTo(sourceFiles));
+                for (String file : sourceFiles) {
+                    assertThat(directory.fileLength(file), equalTo(source.fileLength(file)));
+                    assertSameBytes(source, directory, file);
+                }
+                try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                    assertThat(reader.numDocs(), equalTo(numDocs));
+                    final IndexSearcher searcher = new IndexSearcher(reader);
+                    for (int i = 0; i < 10; i++) {
+                        final String id = Integer.toString(randomIntBetween(0, numDocs - 1));
+                        assertThat(searcher.count(new TermQuery(new Term("id", id))), equalTo(1));
+                    }
+                }
+            }
+            assertThat(cache.weight(), lessThanOrEqualTo(cacheSize));
+            try (Stream<Path> cachedBlocks = Files.list(cachePath)) {
+                assertThat(cachedBlocks.count(), equalTo((long) cache.count()));
+            }
+            cache.close();
+            assertCacheEmpty(cache, cachePath);
+        }
+    }
+
+    public void testFilesWrittenAfterMount() throws IOException {
+        final BlobContainer blobContainer = newBlobContainer();
+        final byte[] bytes = randomByteArrayOfLength(randomIntBetween(1, 1024));
+        final String snapshotFile = "_0.cfs";
+        final StoreFileMetadata metadata = new StoreFileMetadata(snapshotFile, bytes.length, "_na_", Version.LATEST);
+        final FileInfo fileInfo = new FileInfo("__" + UUIDs.randomBase64UUID(), metadata, null);
+        blobContainer.writeBlob(fileInfo.partName(0), new ByteArrayInputStream(bytes), bytes.length, true);
+        final BytesRef hash = new BytesRef(randomByteArrayOfLength(randomIntBetween(1, 32)));
+        final String virtualFile = "segments_1";
+        final FileInfo virtualFileInfo = new FileInfo("v__" + UUIDs.randomBase64UUID(),
+            new StoreFileMetadata(virtualFile, hash.length, "_na_", Version.LATEST, hash), null);
+        try (
+            BlockCache cache = new BlockCache(createTempDir(), 1024, 1024);
+            Directory directory = newSnapshotDirectory(blobContainer, Arrays.asList(fileInfo, virtualFileInfo), cache)
+        ) {
+            assertThat(directory.listAll(), arrayContaining(snapshotFile, virtualFile));
+            try (IndexInput in = directory.openInput(virtualFile, IOContext.DEFAULT)) {
+                final byte[] read = new byte[hash.length];
+                in.readBytes(read, 0, read.length);
+                assertThat(new BytesRef(read), equalTo(hash));
+            }
+            expectThrows(FileAlreadyExistsException.class, () -> directory.createOutput(snapshotFile, IOContext.DEFAULT));
+
+            try (IndexOutput out = directory.createOutput("segments_2", IOContext.DEFAULT)) {
+                out.writeInt(42);
+            }
+            directory.sync(Arrays.asList(snapshotFile, "segments_2"));
+            assertThat(directory.listAll(), arrayContaining(snapshotFile, virtualFile, "segments_2"));
+            assertThat(directory.fileLength("segments_2"), equalTo(4L));
+
+            // the files of the snapshot are hidden rather than deleted
+            directory.deleteFile(virtualFile);
+            assertThat(directory.listAll(), not(hasItemInArray(virtualFile)));
+            expectThrows(IOException.class, () -> directory.deleteFile(virtualFile));
+            expectThrows(IOException.class, () -> directory.openInput(virtualFile, IOContext.DEFAULT));
+            try (IndexOutput out = directory.createOutput(virtualFile, IOContext.DEFAULT)) {
+                out.writeInt(42);
+            }
+            assertThat(directory.fileLength(virtualFile), equalTo(4L));
+            assertTrue(blobContainer.blobExists(fileInfo.partName(0)));
+        }
+    }
+
+    public void testCacheEvictsBlocks() throws IOException {
+        final byte[] bytes = randomByteArrayOfLength(randomIntBetween(1, 1 << 16));
+        final int blockSize = randomIntBetween(16, 1024);
+        final Path cachePath = createTempDir();
+        final BlockCache cache = new BlockCache(cachePath, randomLongBetween(blockSize, 4L * blockSize), blockSize);
+        final BlockCache.BlobReader reader = (position, length, out) -> out.write(bytes, Math.toIntExact(position), length);
+
+        for (int i = 0; i < 100; i++) {
+            final int position = randomIntBetween(0, bytes.length - 1);
+            final ByteBuffer buffer = ByteBuffer.allocate(randomIntBetween(1, 2 * blockSize));
+            final int read = cache.read("blob", bytes.length, reader, position, buffer);
+            assertThat(read, equalTo(Math.min(buffer.capacity(), Math.min(blockSize - position % blockSize, bytes.length - position))));
+            assertThat(Arrays.copyOf(buffer.array(), read), equalTo(Arrays.copyOfRange(bytes, position, position + read)));
+            assertThat(cache.weight(), lessThanOrEqualTo(4L * blockSize));
+        }
+        try (Stream<Path> cachedBlocks = Files.list(cachePath)) {
+            assertThat(cachedBlocks.count(), equalTo((long) cache.count()));
+        }
+
+        // the files of the cached blocks are closed and deleted with the cache
+        cache.close();
+        assertCacheEmpty(cache, cachePath);
+
+        // the blocks of a previous run of the node are dropped
+        Files.write(cachePath.resolve(UUIDs.randomBase64UUID()), randomByteArrayOfLength(blockSize));
+        try (BlockCache other = new BlockCache(cachePath, blockSize, blockSize)) {
+            assertCacheEmpty(other, cachePath);
+        }
+        expectThrows(IllegalArgumentException.class, () -> new BlockCache(cachePath, blockSize - 1, blockSize));
+    }
+
+    private static void assertCacheEmpty(BlockCache cache, Path cachePath) throws IOException {
+        assertThat(cache.count(), equalTo(0));
+        try (Stream<Path> cachedBlocks = Files.list(cachePath)) {
+            assertThat(cachedBlocks.count(), equalTo(0L));
+        }
+    }
+
+    public void testMountedIndices() {
+        final SnapshotId snapshot = new SnapshotId("snapshot", UUIDs.randomBase64UUID());
+        final SnapshotId otherSnapshot = new SnapshotId("other-snapshot", UUIDs.randomBase64UUID());
+        final Metadata metadata = Metadata.builder()
+            .put(mountedIndex("mounted", "repo", snapshot), false)
+            .put(mountedIndex("other-mounted", "repo", otherSnapshot), false)
+            .put(mountedIndex("other-repo-mounted", "other-repo", snapshot), false)
+            .put(IndexMetadata.builder("local").settings(settings(org.opensearch.Version.CURRENT)).numberOfShards(1).numberOfReplicas(0))
+            .build();
+
+        assertThat(SnapshotDirectoryFactory.mountedIndices(metadata, "repo", null), contains("mounted", "other-mounted"));
+        assertThat(SnapshotDirectoryFactory.mountedIndices(metadata, "repo", Collections.singletonList(snapshot)), contains("mounted"));
+        assertThat(SnapshotDirectoryFactory.mountedIndices(metadata, "other-repo", null), contains("other-repo-mounted"));
+        assertThat(SnapshotDirectoryFactory.mountedIndices(metadata, "missing-repo", null), empty());
+        assertThat(SnapshotDirectoryFactory.mountedIndices(metadata, "repo", Collections.emptyList()), empty());
+    }
+
+    private static IndexMetadata mountedIndex(String name, String repository, SnapshotId snapshotId) {
+        return IndexMetadata.builder(name)
+            .settings(settings(org.opensearch.Version.CURRENT)
+                .put(IndexModule.INDEX_STORE_TYPE_SETTING.getKey(), SnapshotDirectoryFactory.STORE_TYPE)
+                .put(SnapshotDirectoryFactory.mountSettings(repository, snapshotId, new IndexId(name, UUIDs.randomBase64UUID()))))
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .build();
+    }
+
+    private BlobContainer newBlobContainer() throws IOException {
+        final FsBlobStore blobStore = new FsBlobStore(randomIntBetween(1, 8) * 1024, createTempDir(), false);
+        return blobStore.blobContainer(BlobPath.cleanPath().add("indices").add("0"));
+    }
+
+    private static SnapshotDirectory newSnapshotDirectory(BlobContainer blobContainer, List<FileInfo> files, BlockCache cache)
+        throws IOException {
+        final BlobStoreIndexShardSnapshot snapshot = new BlobStoreIndexShardSnapshot("snapshot", 0L, files, 0L, 0L, files.size(), 0L);
+        return new SnapshotDirectory(FSDirectory.open(createTempDir()), () -> Tuple.tuple(blobContainer, snapshot), cache);
+    }
+
+    /**
+     * Writes the files of the given directory to the given container the way a blob store repository snapshots them.
+     */
+    private static List<FileInfo> snapshot(Directory directory, BlobContainer blobContainer, ByteSizeValue partSize) throws IOException {
+        final List<FileInfo> files = new ArrayList<>();
+        for (String file : directory.listAll()) {
+            if (file.equals(IndexWriter.WRITE_LOCK_NAME)) {
+                continue;
+            }
+            final byte[] bytes = new byte[Math.toIntExact(directory.fileLength(file))];
+            final String checksum;
+            try (IndexInput in = directory.openInput(file, IOContext.READONCE)) {
+                in.readBytes(bytes, 0, bytes.length);
+                checksum = Store.digestToString(CodecUtil.retrieveChecksum(in));
+            }
+            final FileInfo fileInfo = new FileInfo("__" + UUIDs.randomBase64UUID(),
+                new StoreFileMetadata(file, bytes.length, checksum, Version.LATEST), partSize);
+            int offset = 0;
+            for (int part = 0; part < fileInfo.numberOfParts(); part++) {
+                final int length = Math.toIntExact(fileInfo.partBytes(part));
+                blobContainer.writeBlob(fileInfo.partName(part), new ByteArrayInputStream(bytes, offset, length), length, true);
+                offset += length;
+            }
+            files.add(fileInfo);
+        }
+        Collections.shuffle(files, random());
+        return files;
+    }
+
+    private static void assertSameBytes(Directory expected, Directory actual, String file) throws IOException {
+        try (
+            IndexInput expectedInput = expected.openInput(file, IOContext.DEFAULT);
+            IndexInput actualInput = actual.openInput(file, IOContext.DEFAULT)
+        ) {
+            assertThat(actualInput.length(), equalTo(expectedInput.length()));
+            for (int i = 0; i < 10 && expectedInput.length() > 0; i++) {
+                final long offset = randomLongBetween(0, expectedInput.length() - 1);
+                final long length = randomLongBetween(0, expectedInput.length() - offset);
+                final IndexInput expectedSlice = expectedInput.slice("slice", offset, length);
+                final IndexInput actualSlice = randomBoolean() ? actualInput.slice("slice", offset, length)
+                    : actualInput.clone().slice("slice", offset, length);
+                final byte[] expectedBytes = new byte[Math.toIntExact(length)];
+                final byte[] actualBytes = new byte[Math.toIntExact(length)];
+                expectedSlice.readBytes(expectedBytes, 0, expectedBytes.length);
+                actualSlice.readBytes(actualBytes, 0, actualBytes.length);
+                assertArrayEquals(expectedBytes, actualBytes);
+            }
+        }
+    }
+}
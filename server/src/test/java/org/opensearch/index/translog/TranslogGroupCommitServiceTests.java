@@ -0,0 +1,246 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class TranslogGroupCommitServiceTests extends OpenSearchTestCase {
+
+    private static class TestSyncTarget implements TranslogGroupCommitService.SyncTarget {
+        final AtomicInteger syncs = new AtomicInteger();
+        final AtomicReference<Translog.Location> syncedLocation = new AtomicReference<>(new Translog.Location(0, 0, 0));
+        volatile boolean fail;
+
+        @Override
+        public boolean ensureSynced(Stream<Translog.Location> locations) throws IOException {
+            if (fail) {
+                throw new IOException("simulated");
+            }
+            final Translog.Location max = locations.max(Translog.Location::compareTo).get();
+            if (max.compareTo(syncedLocation.get()) > 0) {
+                syncedLocation.set(max);
+                syncs.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private ThreadPool threadPool;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool(getTestName());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        try {
+            ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        } finally {
+            super.tearDown();
+        }
+    }
+
+    private TranslogGroupCommitService newService() {
+        return newService(Settings.EMPTY);
+    }
+
+    private TranslogGroupCommitService newService(Settings settings) {
+        return new TranslogGroupCommitService(settings, threadPool.getThreadContext(), threadPool.generic());
+    }
+
+    public void testSyncsAllTargets() throws Exception {
+        final TranslogGroupCommitService service = newService();
+        final Path dataPath = createTempDir();
+        final List<TestSyncTarget> targets = new ArrayList<>();
+        final int numberOfTargets = randomIntBetween(1, 10);
+        for (int i = 0; i < numberOfTargets; i++) {
+            targets.add(new TestSyncTarget());
+        }
+        final int numberOfThreads = randomIntBetween(2, 8);
+        final int numberOfSyncs = randomIntBetween(10, 200);
+        final CyclicBarrier barrier = new CyclicBarrier(numberOfThreads);
+        final CountDownLatch latch = new CountDownLatch(numberOfThreads * numberOfSyncs);
+        final List<Exception> failures = new ArrayList<>();
+        final AtomicInteger location = new AtomicInteger();
+        for (int i = 0; i < numberOfThreads; i++) {
+            new Thread(() -> {
+                try {
+                    barrier.await();
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+                for (int j = 0; j < numberOfSyncs; j++) {
+                    final TestSyncTarget target = randomFrom(targets);
+                    final Translog.Location toSync = new Translog.Location(0, location.incrementAndGet(), 1);
+                    service.sync(dataPath, target, toSync, e -> {
+                        if (e != null) {
+                            synchronized (failures) {
+                                failures.add(e);
+                            }
+                        } else if (target.syncedLocation.get().compareTo(toSync) < 0) {
+                            synchronized (failures) {
+                                failures.add(new IllegalStateException("location is not synced"));
+                            }
+                        }
+                        latch.countDown();
+                    });
+                }
+            }).start();
+        }
+        latch.await();
+        assertTrue(failures.toString(), failures.isEmpty());
+
+        final TranslogGroupCommitStats stats = service.stats();
+        assertEquals(numberOfThreads * numberOfSyncs, stats.getRequests());
+        assertThat(stats.getBatches(), greaterThan(0L));
+        assertThat(stats.getBatches(), lessThanOrEqualTo(stats.getRequests()));
+        assertEquals(targets.stream().mapToInt(target -> target.syncs.get()).sum(), stats.getFsyncs());
+        assertThat(stats.getFsyncTime().nanos(), greaterThanOrEqualTo(0L));
+    }
+
+    public void testFailureOnlyFailsItsTarget() throws Exception {
+        final TranslogGroupCommitService service = newService();
+        final Path dataPath = createTempDir();
+        final TestSyncTarget failingTarget = new TestSyncTarget();
+        failingTarget.fail = true;
+        final TestSyncTarget target = new TestSyncTarget();
+
+        // the writer of a first batch blocks, so that the next syncs are queued and written in a second batch
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch unblock = new CountDownLatch(1);
+        final TranslogGroupCommitService.SyncTarget blockingTarget = locations -> {
+            blocked.countDown();
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            return true;
+        };
+        final CountDownLatch notified = new CountDownLatch(3);
+        final Thread writer = new Thread(() -> service.sync(dataPath, blockingTarget, new Translog.Location(0, 1, 1),
+            e -> notified.countDown()));
+        writer.start();
+        blocked.await();
+
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        service.sync(dataPath, failingTarget, new Translog.Location(0, 1, 1), e -> {
+            failure.set(e);
+            notified.countDown();
+        });
+        final AtomicReference<Exception> success = new AtomicReference<>(new IllegalStateException("not notified"));
+        service.sync(dataPath, target, new Translog.Location(0, 1, 1), e -> {
+            success.set(e);
+            notified.countDown();
+        });
+        unblock.countDown();
+        notified.await();
+        writer.join();
+
+        assertEquals(2, service.stats().getBatches());
+        assertEquals(3, service.stats().getRequests());
+        assertThat(failure.get(), instanceOf(IOException.class));
+        assertNull(success.get());
+        assertEquals(1, target.syncs.get());
+
+        failingTarget.fail = false;
+        failure.set(null);
+        service.sync(dataPath, failingTarget, new Translog.Location(0, 1, 1), failure::set);
+        assertNull(failure.get());
+        assertEquals(1, failingTarget.syncs.get());
+        assertEquals(4, service.stats().getRequests());
+        assertEquals(3, service.stats().getFsyncs());
+    }
+
+    public void testSyncsTargetsOfBatchConcurrently() throws Exception {
+        final int numberOfTargets = randomIntBetween(2, 4);
+        final TranslogGroupCommitService service = newService(Settings.builder()
+            .put(TranslogGroupCommitService.TRANSLOG_GROUP_COMMIT_MAX_CONCURRENT_FSYNCS_SETTING.getKey(), numberOfTargets)
+            .build());
+        final Path dataPath = createTempDir();
+
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch unblock = new CountDownLatch(1);
+        final TranslogGroupCommitService.SyncTarget blockingTarget = locations -> {
+            blocked.countDown();
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            return true;
+        };
+        final CountDownLatch notified = new CountDownLatch(numberOfTargets + 1);
+        final Thread writer = new Thread(() -> service.sync(dataPath, blockingTarget, new Translog.Location(0, 1, 1),
+            e -> notified.countDown()));
+        writer.start();
+        blocked.await();
+
+        // the targets of the second batch can only be synced if they are all synced at the same time
+        final CyclicBarrier fsyncs = new CyclicBarrier(numberOfTargets);
+        final List<Exception> failures = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < numberOfTargets; i++) {
+            service.sync(dataPath, locations -> {
+                try {
+                    fsyncs.await(10, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IOException("the targets were not synced concurrently", e);
+                }
+                return true;
+            }, new Translog.Location(0, 1, 1), e -> {
+                if (e != null) {
+                    failures.add(e);
+                }
+                notified.countDown();
+            });
+        }
+        unblock.countDown();
+        notified.await();
+        writer.join();
+        assertTrue(failures.toString(), failures.isEmpty());
+        assertEquals(2, service.stats().getBatches());
+        assertEquals(numberOfTargets + 1, service.stats().getFsyncs());
+    }
+
+    public void testAlreadySyncedLocation() {
+        final TranslogGroupCommitService service = newService();
+        final Path dataPath = createTempDir();
+        final TestSyncTarget target = new TestSyncTarget();
+        final AtomicInteger notified = new AtomicInteger();
+        service.sync(dataPath, target, new Translog.Location(0, 10, 1), e -> notified.incrementAndGet());
+        service.sync(dataPath, target, new Translog.Location(0, 5, 1), e -> notified.incrementAndGet());
+        assertEquals(2, notified.get());
+        assertEquals(1, target.syncs.get());
+        assertEquals(2, service.stats().getBatches());
+        assertEquals(1, service.stats().getFsyncs());
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.UsageTrackingQueryCachingPolicy;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+public class CostAwareQueryCachingPolicyTests extends OpenSearchTestCase {
+
+    public void testUnmeasuredShapeIsCachedLikeUsageTracking() throws IOException {
+        final Query query = new TermQuery(new Term("field", "value"));
+        final UsageTrackingQueryCachingPolicy usageTracking = new UsageTrackingQueryCachingPolicy();
+        final CostAwareQueryCachingPolicy costAware = new CostAwareQueryCachingPolicy(q -> 1d);
+        for (int i = 0; i < 10; i++) {
+            usageTracking.onUse(query);
+            costAware.onUse(query);
+            assertEquals(usageTracking.shouldCache(query), costAware.shouldCache(query));
+        }
+    }
+
+    public void testCheapShapeNeedsMoreUses() throws IOException {
+        final Query query = new TermQuery(new Term("field", "value"));
+        final CostAwareQueryCachingPolicy policy = new CostAwareQueryCachingPolicy(q -> 0d);
+        // term queries are cached after 5 uses by default
+        final int minFrequency = 5 * CostAwareQueryCachingPolicy.MAX_FREQUENCY_FACTOR;
+        for (int i = 1; i < minFrequency; i++) {
+            policy.onUse(query);
+            assertFalse(policy.shouldCache(query));
+        }
+        policy.onUse(query);
+        assertTrue(policy.shouldCache(query));
+    }
+
+    public void testExpensiveShapeIsCachedSooner() throws IOException {
+        final Query query = new TermQuery(new Term("field", "value"));
+        final CostAwareQueryCachingPolicy policy = new CostAwareQueryCachingPolicy(q -> 10d);
+        assertFalse(policy.shouldCache(query));
+        policy.onUse(query);
+        assertTrue(policy.shouldCache(query));
+    }
+}
@@ -37,6 +37,8 @@ import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.ConstantScoreScorer;
 import org.apache.lucene.search.ConstantScoreWeight;
 import org.apache.lucene.search.DocIdSetIterator;
@@ -54,6 +56,7 @@ import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.index.cache.query.QueryCacheStats;
+import org.opensearch.index.cache.query.QueryShapeCacheStats;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -187,6 +190,51 @@ public class IndicesQueryCacheTests extends OpenSearchTestCase {
         cache.close(); // this triggers some assertions
     }
 
+    public void testStatsByQueryShape() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig());
+        w.addDocument(new Document());
+        DirectoryReader r = DirectoryReader.open(w);
+        w.close();
+        ShardId shard = new ShardId("index", "_na_", 0);
+        r = OpenSearchDirectoryReader.wrap(r, shard);
+        IndexSearcher s = new IndexSearcher(r);
+        s.setQueryCachingPolicy(alwaysCachePolicy());
+
+        Settings settings = Settings.builder()
+                .put(IndicesQueryCache.INDICES_CACHE_QUERY_COUNT_SETTING.getKey(), 10)
+                .put(IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING.getKey(), true)
+                .build();
+        IndicesQueryCache cache = new IndicesQueryCache(settings);
+        s.setQueryCache(cache);
+
+        assertTrue(cache.getStats(shard).getShapes().isEmpty());
+
+        assertEquals(1, s.count(new DummyQuery(0)));
+        assertEquals(1, s.count(new DummyQuery(0)));
+        assertEquals(1, s.count(new DummyQuery(1)));
+
+        QueryShapeCacheStats shapeStats = cache.getStats(shard).getShapes().get("DummyQuery");
+        assertNotNull(shapeStats);
+        assertEquals(1L, shapeStats.getHitCount());
+        assertEquals(2L, shapeStats.getMissCount());
+        assertEquals(2L, shapeStats.getCacheCount());
+        assertTrue(shapeStats.getCachedSize().getBytes() > 0);
+        // not enough measurements of the shape yet
+        assertEquals(1d, cache.relativeCachingBenefit(new DummyQuery(0)), 0d);
+
+        IOUtils.close(r, dir);
+        cache.onClose(shard);
+        cache.close();
+    }
+
+    public void testQueryShape() {
+        assertEquals("DummyQuery", IndicesQueryCache.queryShape(new DummyQuery(0)));
+        assertEquals("DummyQuery", IndicesQueryCache.queryShape(new ConstantScoreQuery(new DummyQuery(0))));
+        assertEquals("DummyQuery", IndicesQueryCache.queryShape(new BoostQuery(new ConstantScoreQuery(new DummyQuery(0)), 2f)));
+        assertEquals("MatchAllDocsQuery", IndicesQueryCache.queryShape(new MatchAllDocsQuery()));
+    }
+
     public void testTwoShards() throws IOException {
         Directory dir1 = newDirectory();
         IndexWriter w1 = new IndexWriter(dir1, newIndexWriterConfig());
@@ -64,6 +64,8 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static org.hamcrest.Matchers.containsString;
+
 public class IndicesRequestCacheTests extends OpenSearchTestCase {
 
     public void testBasicOperationsCache() throws Exception {
@@ -287,6 +289,98 @@ public class IndicesRequestCacheTests extends OpenSearchTestCase {
         IOUtils.close(reader, secondReader, thirdReader, writer, dir, cache);
     }
 
+    public void testOffHeapTier() throws Exception {
+        final ByteSizeValue size;
+        {
+            IndicesRequestCache cache = new IndicesRequestCache(Settings.EMPTY);
+            ShardRequestCache requestCacheStats = new ShardRequestCache();
+            Directory dir = newDirectory();
+            IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+            writer.addDocument(newDoc(0, "foo"));
+            DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer),
+                new ShardId("foo", "bar", 1));
+            BytesReference termBytes = XContentHelper.toXContent(new TermQueryBuilder("id", "0"), XContentType.JSON, false);
+            cache.getOrCompute(new TestEntity(requestCacheStats, new AtomicBoolean(true)), new Loader(reader, 0), reader, termBytes);
+            size = requestCacheStats.stats().getMemorySize();
+            IOUtils.close(reader, writer, dir, cache);
+        }
+        // the heap tier only holds one entry
+        IndicesRequestCache cache = new IndicesRequestCache(Settings.builder()
+            .put(IndicesRequestCache.INDICES_CACHE_QUERY_SIZE.getKey(), size.getBytes() + 1 + "b")
+            .put(IndicesRequestCache.INDICES_CACHE_QUERY_OFF_HEAP_SIZE.getKey(), "1mb")
+            .build());
+        AtomicBoolean indexShard = new AtomicBoolean(true);
+        ShardRequestCache requestCacheStats = new ShardRequestCache();
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+
+        writer.addDocument(newDoc(0, "foo"));
+        DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer),
+            new ShardId("foo", "bar", 1));
+        TermQueryBuilder termQuery = new TermQueryBuilder("id", "0");
+        BytesReference termBytes = XContentHelper.toXContent(termQuery, XContentType.JSON, false);
+        TestEntity entity = new TestEntity(requestCacheStats, indexShard);
+
+        writer.updateDocument(new Term("id", "0"), newDoc(0, "bar"));
+        DirectoryReader secondReader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer),
+            new ShardId("foo", "bar", 1));
+        TestEntity secondEntity = new TestEntity(requestCacheStats, indexShard);
+
+        BytesReference value1 = cache.getOrCompute(entity, new Loader(reader, 0), reader, termBytes);
+        assertEquals("foo", value1.streamInput().readString());
+        BytesReference value2 = cache.getOrCompute(secondEntity, new Loader(secondReader, 0), secondReader, termBytes);
+        assertEquals("bar", value2.streamInput().readString());
+        assertEquals(1, cache.count());
+        assertEquals(1, cache.offHeapCount());
+        assertEquals(1, requestCacheStats.stats().getEvictions());
+        assertEquals(1, requestCacheStats.stats().getOffHeapCount());
+        assertEquals(value1.length(), requestCacheStats.stats().getOffHeapSizeInBytes());
+        assertEquals(0, requestCacheStats.stats().getOffHeapEvictions());
+
+        // the evicted entry is moved back to the heap, and the other entry off-heap
+        Loader loader = new Loader(reader, 0);
+        value1 = cache.getOrCompute(entity, loader, reader, termBytes);
+        assertEquals("foo", value1.streamInput().readString());
+        assertTrue(loader.loadedFromCache);
+        assertEquals(1, cache.count());
+        assertEquals(1, cache.offHeapCount());
+        assertEquals(1, requestCacheStats.stats().getHitCount());
+        assertEquals(2, requestCacheStats.stats().getMissCount());
+        assertEquals(size, requestCacheStats.stats().getMemorySize());
+
+        Loader secondLoader = new Loader(secondReader, 0);
+        value2 = cache.getOrCompute(secondEntity, secondLoader, secondReader, termBytes);
+        assertEquals("bar", value2.streamInput().readString());
+        assertTrue(secondLoader.loadedFromCache);
+        assertEquals(2, requestCacheStats.stats().getHitCount());
+
+        // clearing the entity also clears its entries of the off-heap tier
+        cache.clear(entity);
+        assertEquals(0, cache.count());
+        assertEquals(0, cache.offHeapCount());
+        assertEquals(0, requestCacheStats.stats().getOffHeapCount());
+        assertEquals(0, requestCacheStats.stats().getOffHeapSizeInBytes());
+        IOUtils.close(reader, secondReader, writer, dir, cache);
+    }
+
+    public void testOffHeapSizeLimitedByDirectMemory() {
+        final ByteSizeValue directMemoryMax = new ByteSizeValue(randomLongBetween(1 << 20, 1L << 40));
+        IndicesRequestCache.validateOffHeapSize(new ByteSizeValue(directMemoryMax.getBytes() / 2), directMemoryMax);
+        // the JVM doesn't expose its maximum direct memory
+        IndicesRequestCache.validateOffHeapSize(new ByteSizeValue(directMemoryMax.getBytes()), new ByteSizeValue(0));
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> IndicesRequestCache.validateOffHeapSize(
+            new ByteSizeValue(directMemoryMax.getBytes() / 2 + 1), directMemoryMax));
+        assertThat(e.getMessage(), containsString("must be at most half of the maximum direct memory of the JVM"));
+    }
+
+    public void testOffHeapTierWithExpire() {
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> new IndicesRequestCache(Settings.builder()
+            .put(IndicesRequestCache.INDICES_CACHE_QUERY_OFF_HEAP_SIZE.getKey(), "1mb")
+            .put(IndicesRequestCache.INDICES_CACHE_QUERY_EXPIRE.getKey(), "1m")
+            .build()));
+        assertEquals("[indices.requests.cache.off_heap.size] can't be used with [indices.requests.cache.expire]", e.getMessage());
+    }
+
     public void testClearAllEntityIdentity() throws Exception {
         IndicesRequestCache cache = new IndicesRequestCache(Settings.EMPTY);
         AtomicBoolean indexShard =  new AtomicBoolean(true);
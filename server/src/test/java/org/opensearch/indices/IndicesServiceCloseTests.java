@@ -299,6 +299,12 @@ public class IndicesServiceCloseTests extends OpenSearchTestCase {
 
             @Override
             public void onRemoval(RemovalNotification<Key, BytesReference> notification) {}
+
+            @Override
+            public void onOffHeapCached(Key key, int length) {}
+
+            @Override
+            public void onOffHeapRemoval(Key key, int length, boolean evicted) {}
         };
         cache.getOrCompute(cacheEntity, () -> new BytesArray("bar"), searcher.getDirectoryReader(), new BytesArray("foo"));
         assertEquals(1L, cache.count());
@@ -0,0 +1,251 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class OffHeapCacheTierTests extends OpenSearchTestCase {
+
+    private static BytesReference randomValue(int maxLength) {
+        final BytesReference value = new BytesArray(randomByteArrayOfLength(randomIntBetween(0, maxLength)));
+        if (value.length() > 1 && randomBoolean()) {
+            final int split = randomIntBetween(1, value.length() - 1);
+            return CompositeBytesReference.of(value.slice(0, split), value.slice(split, value.length() - split));
+        }
+        return value;
+    }
+
+    private static <K> OffHeapCacheTier<K> newTier(long capacityInBytes) {
+        return new OffHeapCacheTier<>(capacityInBytes, new OffHeapCacheTier.Listener<K>() {
+            @Override
+            public void onStored(K key, int length) {}
+
+            @Override
+            public void onRemoved(K key, int length, boolean evicted) {}
+        });
+    }
+
+    public void testPutTake() throws IOException {
+        try (OffHeapCacheTier<Integer> tier = newTier(1 << 20)) {
+            final Map<Integer, BytesReference> values = new HashMap<>();
+            long sizeInBytes = 0;
+            for (int i = 0; i < 50; i++) {
+                final BytesReference value = randomValue(3 * OffHeapCacheTier.PAGE_SIZE);
+                tier.put(i, value);
+                values.put(i, value);
+                sizeInBytes += value.length();
+            }
+            assertEquals(values.size(), tier.count());
+            assertEquals(sizeInBytes, tier.sizeInBytes());
+            for (Map.Entry<Integer, BytesReference> entry : values.entrySet()) {
+                assertEquals(entry.getValue(), tier.take(entry.getKey()));
+                assertNull(tier.take(entry.getKey()));
+            }
+            assertEquals(0, tier.count());
+            assertEquals(0, tier.sizeInBytes());
+            assertEquals(0, tier.evictions());
+        }
+    }
+
+    public void testReplace() throws IOException {
+        try (OffHeapCacheTier<Integer> tier = newTier(1 << 20)) {
+            tier.put(0, new BytesArray("foo"));
+            tier.put(0, new BytesArray("barbaz"));
+            assertEquals(1, tier.count());
+            assertEquals(6, tier.sizeInBytes());
+            assertEquals(new BytesArray("barbaz"), tier.take(0));
+        }
+    }
+
+    public void testEvictsLeastRecentlyUsed() throws IOException {
+        final int numPages = randomIntBetween(4, 20);
+        try (OffHeapCacheTier<Integer> tier = newTier(numPages * OffHeapCacheTier.PAGE_SIZE)) {
+            // each value uses one page
+            for (int i = 0; i < numPages; i++) {
+                tier.put(i, new BytesArray(randomByteArrayOfLength(randomIntBetween(1, OffHeapCacheTier.PAGE_SIZE))));
+            }
+            assertEquals(numPages, tier.count());
+            final BytesReference value = new BytesArray(randomByteArrayOfLength(OffHeapCacheTier.PAGE_SIZE + 1));
+            tier.put(numPages, value);
+            assertEquals(numPages - 1, tier.count());
+            assertEquals(2, tier.evictions());
+            assertNull(tier.take(0));
+            assertNull(tier.take(1));
+            assertNotNull(tier.take(2));
+            assertEquals(value, tier.take(numPages));
+        }
+    }
+
+    public void testValueLargerThanCapacity() throws IOException {
+        try (OffHeapCacheTier<Integer> tier = newTier(OffHeapCacheTier.PAGE_SIZE)) {
+            tier.put(0, new BytesArray("foo"));
+            tier.put(1, new BytesArray(randomByteArrayOfLength(OffHeapCacheTier.PAGE_SIZE + 1)));
+            assertEquals(1, tier.count());
+            assertEquals(new BytesArray("foo"), tier.take(0));
+        }
+    }
+
+    public void testRemove() throws IOException {
+        try (OffHeapCacheTier<Integer> tier = newTier(1 << 20)) {
+            final int numberOfEntries = randomIntBetween(1, 100);
+            for (int i = 0; i < numberOfEntries; i++) {
+                tier.put(i, randomValue(100));
+            }
+            tier.remove(0);
+            assertNull(tier.take(0));
+            tier.removeIf(key -> key % 2 == 1);
+            assertEquals((numberOfEntries - 1) / 2, tier.count());
+            for (int i = 1; i < numberOfEntries; i++) {
+                assertEquals(i % 2 == 0, tier.take(i) != null);
+            }
+            assertEquals(0, tier.sizeInBytes());
+        }
+    }
+
+    public void testRandomOperations() throws IOException {
+        final long capacity = randomIntBetween(1, 64) * OffHeapCacheTier.PAGE_SIZE;
+        try (OffHeapCacheTier<Integer> tier = newTier(capacity)) {
+            final Map<Integer, BytesReference> values = new HashMap<>();
+            for (int i = 0; i < 1000; i++) {
+                final int key = randomIntBetween(0, 100);
+                if (randomBoolean()) {
+                    final BytesReference value = randomValue(2 * OffHeapCacheTier.PAGE_SIZE);
+                    tier.put(key, value);
+                    values.put(key, value);
+                } else {
+                    final BytesReference value = tier.take(key);
+                    if (value != null) {
+                        assertEquals(values.get(key), value);
+                    }
+                    values.remove(key);
+                }
+                assertThat(tier.sizeInBytes(), lessThanOrEqualTo(capacity));
+            }
+        }
+    }
+
+    public void testClose() throws IOException {
+        OffHeapCacheTier<Integer> tier = newTier(1 << 20);
+        tier.put(0, new BytesArray("foo"));
+        tier.close();
+        assertEquals(0, tier.count());
+        tier.put(0, new BytesArray("foo"));
+        assertNull(tier.take(0));
+    }
+
+    public void testCapacityTooSmall() {
+        expectThrows(IllegalArgumentException.class, () -> newTier(randomIntBetween(0, OffHeapCacheTier.PAGE_SIZE - 1)));
+    }
+
+    public void testNumberOfStripes() {
+        try (OffHeapCacheTier<Integer> tier = newTier(1 << 20)) {
+            assertEquals(1, tier.numberOfStripes());
+        }
+        try (OffHeapCacheTier<Integer> tier = newTier(16 << 20)) {
+            assertEquals(16, tier.numberOfStripes());
+        }
+        try (OffHeapCacheTier<Integer> tier = newTier(1L << 30)) {
+            assertEquals(16, tier.numberOfStripes());
+        }
+    }
+
+    public void testNotifiesListener() throws IOException {
+        final Map<Integer, Integer> stored = new HashMap<>();
+        final Set<Integer> evicted = new HashSet<>();
+        final int numberOfStripes = randomIntBetween(1, 4);
+        final int pagesPerStripe = randomIntBetween(2, 8);
+        final long capacity = (long) numberOfStripes * pagesPerStripe * OffHeapCacheTier.PAGE_SIZE;
+        final OffHeapCacheTier<Integer> tier = new OffHeapCacheTier<>(capacity, numberOfStripes, new OffHeapCacheTier.Listener<Integer>() {
+            @Override
+            public void onStored(Integer key, int length) {
+                assertNull(stored.put(key, length));
+            }
+
+            @Override
+            public void onRemoved(Integer key, int length, boolean isEvicted) {
+                assertEquals(stored.remove(key), Integer.valueOf(length));
+                if (isEvicted) {
+                    evicted.add(key);
+                }
+            }
+        });
+        assertEquals(numberOfStripes, tier.numberOfStripes());
+        for (int i = 0; i < 100; i++) {
+            final int key = randomIntBetween(0, 20);
+            switch (randomIntBetween(0, 3)) {
+                case 0:
+                case 1:
+                    tier.put(key, randomValue(OffHeapCacheTier.PAGE_SIZE * 2));
+                    break;
+                case 2:
+                    tier.take(key);
+                    break;
+                default:
+                    tier.remove(key);
+                    break;
+            }
+            assertEquals(stored.size(), tier.count());
+            assertEquals(stored.values().stream().mapToLong(Integer::longValue).sum(), tier.sizeInBytes());
+        }
+        assertEquals(evicted.isEmpty(), tier.evictions() == 0);
+        tier.close();
+        assertTrue(stored.isEmpty());
+    }
+
+    public void testConcurrentOperations() throws Exception {
+        try (OffHeapCacheTier<Integer> tier = new OffHeapCacheTier<>(4 << 20, 4, new OffHeapCacheTier.Listener<Integer>() {
+            @Override
+            public void onStored(Integer key, int length) {}
+
+            @Override
+            public void onRemoved(Integer key, int length, boolean evicted) {}
+        })) {
+            final Thread[] threads = new Thread[randomIntBetween(2, 8)];
+            final CyclicBarrier barrier = new CyclicBarrier(threads.length);
+            for (int t = 0; t < threads.length; t++) {
+                final int thread = t;
+                threads[t] = new Thread(() -> {
+                    try {
+                        barrier.await();
+                        for (int i = 0; i < 1000; i++) {
+                            // every thread uses its own keys, so that it can check the values it takes
+                            final int key = thread * 1000 + i % 50;
+                            final BytesReference value = new BytesArray(Integer.toString(key));
+                            tier.put(key, value);
+                            final BytesReference taken = tier.take(key);
+                            if (taken != null) {
+                                assertEquals(value, taken);
+                            }
+                        }
+                    } catch (Exception e) {
+                        throw new AssertionError(e);
+                    }
+                });
+                threads[t].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertEquals(0, tier.count());
+            assertEquals(0, tier.sizeInBytes());
+        }
+    }
+}
@@ -51,12 +51,14 @@ import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.IndexShardState;
 import org.opensearch.index.shard.PrimaryReplicaSyncer.ResyncTask;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.shard.ShardLongFieldRange;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.cluster.IndicesClusterStateService.AllocatedIndex;
 import org.opensearch.indices.cluster.IndicesClusterStateService.AllocatedIndices;
 import org.opensearch.indices.cluster.IndicesClusterStateService.Shard;
 import org.opensearch.indices.recovery.PeerRecoveryTargetService;
 import org.opensearch.indices.recovery.RecoveryState;
+import org.opensearch.indices.replication.checkpoint.SegmentReplicationCheckpointPublisher;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Before;
@@ -250,6 +252,7 @@ public abstract class AbstractIndicesClusterStateServiceTestCase extends OpenSea
                 final Consumer<IndexShard.ShardFailure> onShardFailure,
                 final Consumer<ShardId> globalCheckpointSyncer,
                 final RetentionLeaseSyncer retentionLeaseSyncer,
+                final SegmentReplicationCheckpointPublisher checkpointPublisher,
                 final DiscoveryNode targetNode,
                 final DiscoveryNode sourceNode) throws IOException {
             failRandomly();
@@ -366,6 +369,11 @@ public abstract class AbstractIndicesClusterStateServiceTestCase extends OpenSea
             return recoveryState;
         }
 
+        @Override
+        public ShardLongFieldRange getTimestampRange() {
+            return ShardLongFieldRange.UNKNOWN;
+        }
+
         @Override
         public void updateShardState(ShardRouting shardRouting,
                                      long newPrimaryTerm,
@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.action.admin.indices.forcemerge.ForceMergeRequest;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexService;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardTestCase;
+import org.opensearch.index.store.Store;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.recovery.RecoverySettings;
+import org.opensearch.indices.replication.common.ReplicationType;
+import org.opensearch.test.NodeRoles;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SegmentReplicationSourceServiceTests extends IndexShardTestCase {
+
+    static final Settings SEGMENT_REPLICATION = Settings.builder()
+        .put(IndexMetadata.SETTING_REPLICATION_TYPE, ReplicationType.SEGMENT.toString())
+        .build();
+
+    private static SegmentReplicationSourceService newSourceService(IndexShard primary) {
+        return newSourceService(primary, mock(TransportService.class));
+    }
+
+    static SegmentReplicationSourceService newSourceService(IndexShard primary, TransportService transportService) {
+        final IndicesService indicesService = mock(IndicesService.class);
+        final IndexService indexService = mock(IndexService.class);
+        when(indicesService.indexServiceSafe(primary.shardId().getIndex())).thenReturn(indexService);
+        when(indexService.getShard(primary.shardId().id())).thenReturn(primary);
+        final ClusterService clusterService = mock(ClusterService.class);
+        when(clusterService.getSettings()).thenReturn(NodeRoles.dataNode());
+        return new SegmentReplicationSourceService(transportService, indicesService, clusterService,
+            new RecoverySettings(Settings.EMPTY, new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)));
+    }
+
+    public void testServesSegmentsUntilReleased() throws IOException {
+        final IndexShard primary = newStartedShard(true, SEGMENT_REPLICATION);
+        final SegmentReplicationSourceService sourceService = newSourceService(primary);
+        final int numBatches = randomIntBetween(2, 4);
+        for (int batch = 0; batch < numBatches; batch++) {
+            final int numDocs = randomIntBetween(1, 10);
+            for (int i = 0; i < numDocs; i++) {
+                indexDoc(primary, "_doc", batch + "-" + i);
+            }
+            primary.refresh("test");
+        }
+
+        final String allocationId = randomAlphaOfLength(10);
+        final CheckpointInfoResponse checkpointInfo = sourceService.getCheckpointInfo(
+            new CheckpointInfoRequest(primary.shardId(), allocationId, getFakeDiscoNode("target")));
+        assertEquals(primary.getLatestReplicationCheckpoint(), checkpointInfo.getCheckpoint());
+        assertEquals(1, sourceService.numberOfOngoingCopies());
+        final Store.MetadataSnapshot snapshot = checkpointInfo.getSnapshot();
+        assertNotEquals(0, snapshot.size());
+
+        // merging the segments away doesn't delete the files that are being copied
+        primary.forceMerge(new ForceMergeRequest().maxNumSegments(1).flush(true));
+        for (StoreFileMetadata file : snapshot) {
+            final SegmentFileChunkResponse chunk = sourceService.getFileChunk(
+                new SegmentFileChunkRequest(primary.shardId(), allocationId, file.name(), 0, (int) file.length()));
+            final BytesRef content = chunk.content().toBytesRef();
+            assertEquals(file.length(), content.length);
+            final String checksum = Store.digestToString(CodecUtil.retrieveChecksum(
+                new ByteArrayIndexInput(file.name(), content.bytes, content.offset, content.length)));
+            assertEquals(file.checksum(), checksum);
+        }
+
+        sourceService.releaseCheckpoint(new ReleaseCheckpointRequest(primary.shardId(), allocationId));
+        assertEquals(0, sourceService.numberOfOngoingCopies());
+        final Set<String> files = new HashSet<>(Arrays.asList(primary.store().directory().listAll()));
+        for (StoreFileMetadata file : snapshot) {
+            assertThat(files, not(hasItem(file.name())));
+        }
+        closeShards(primary);
+    }
+
+    public void testRejectsInvalidChunks() throws IOException {
+        final IndexShard primary = newStartedShard(true, SEGMENT_REPLICATION);
+        final SegmentReplicationSourceService sourceService = newSourceService(primary);
+        indexDoc(primary, "_doc", "1");
+        primary.refresh("test");
+
+        final String allocationId = randomAlphaOfLength(10);
+        IllegalStateException notCopying = expectThrows(IllegalStateException.class, () -> sourceService.getFileChunk(
+            new SegmentFileChunkRequest(primary.shardId(), allocationId, "_0.si", 0, 1)));
+        assertThat(notCopying.getMessage(), containsString("no segments are being copied"));
+
+        final CheckpointInfoResponse checkpointInfo = sourceService.getCheckpointInfo(
+            new CheckpointInfoRequest(primary.shardId(), allocationId, getFakeDiscoNode("target")));
+        final StoreFileMetadata file = checkpointInfo.getSnapshot().iterator().next();
+        IllegalArgumentException unknownFile = expectThrows(IllegalArgumentException.class, () -> sourceService.getFileChunk(
+            new SegmentFileChunkRequest(primary.shardId(), allocationId, "unknown", 0, 1)));
+        assertThat(unknownFile.getMessage(), containsString("is not part of the copied segments"));
+        IllegalArgumentException outOfRange = expectThrows(IllegalArgumentException.class, () -> sourceService.getFileChunk(
+            new SegmentFileChunkRequest(primary.shardId(), allocationId, file.name(), file.length(), 1)));
+        assertThat(outOfRange.getMessage(), containsString("invalid chunk"));
+
+        // the copies of a closed shard are released
+        sourceService.beforeIndexShardClosed(primary.shardId(), primary, primary.indexSettings().getSettings());
+        assertEquals(0, sourceService.numberOfOngoingCopies());
+        closeShards(primary);
+    }
+
+    public void testOnlyServesActivePrimaries() throws IOException {
+        final IndexShard replica = newShard(false, SEGMENT_REPLICATION);
+        final SegmentReplicationSourceService sourceService = newSourceService(replica);
+        IllegalStateException e = expectThrows(IllegalStateException.class, () -> sourceService.getCheckpointInfo(
+            new CheckpointInfoRequest(replica.shardId(), randomAlphaOfLength(10), getFakeDiscoNode("target"))));
+        assertThat(e.getMessage(), containsString("is not an active primary"));
+        assertEquals(0, sourceService.numberOfOngoingCopies());
+        closeShards(replica);
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.apache.lucene.index.FilterDirectoryReader;
+import org.apache.lucene.index.StandardDirectoryReader;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexOutput;
+import org.opensearch.Version;
+import org.opensearch.action.admin.indices.flush.FlushRequest;
+import org.opensearch.action.admin.indices.forcemerge.ForceMergeRequest;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.ShardRoutingState;
+import org.opensearch.cluster.routing.TestShardRouting;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardTestCase;
+import org.opensearch.index.store.Store;
+import org.opensearch.indices.recovery.RecoverySettings;
+import org.opensearch.test.ClusterServiceUtils;
+import org.opensearch.test.transport.MockTransport;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.opensearch.indices.replication.SegmentReplicationSourceServiceTests.SEGMENT_REPLICATION;
+
+public class SegmentReplicationTargetServiceTests extends IndexShardTestCase {
+
+    private ClusterService clusterService;
+    private TransportService transportService;
+
+    @Override
+    public void tearDown() throws Exception {
+        try {
+            IOUtils.close(transportService, clusterService);
+        } finally {
+            super.tearDown();
+        }
+    }
+
+    /**
+     * Creates the target service of the replica, whose primary serves its segments on the same node so that the transport
+     * service handles the requests of the copies locally.
+     */
+    private SegmentReplicationTargetService newTargetService(IndexShard primary) {
+        final DiscoveryNode localNode = new DiscoveryNode("local", buildNewFakeTransportAddress(), Version.CURRENT);
+        clusterService = ClusterServiceUtils.createClusterService(threadPool, localNode);
+        ClusterServiceUtils.setState(clusterService, ClusterState.builder(clusterService.state())
+            .routingTable(RoutingTable.builder()
+                .add(IndexRoutingTable.builder(primary.shardId().getIndex())
+                    .addIndexShard(new IndexShardRoutingTable.Builder(primary.shardId())
+                        .addShard(TestShardRouting.newShardRouting(primary.shardId(), localNode.getId(), true, ShardRoutingState.STARTED))
+                        .build()))
+                .build()));
+        transportService = new MockTransport().createTransportService(Settings.EMPTY, threadPool,
+            TransportService.NOOP_TRANSPORT_INTERCEPTOR, boundAddress -> localNode, null, Collections.emptySet());
+        transportService.start();
+        transportService.acceptIncomingRequests();
+        SegmentReplicationSourceServiceTests.newSourceService(primary, transportService);
+        return new SegmentReplicationTargetService(threadPool, transportService, clusterService,
+            new RecoverySettings(Settings.EMPTY, new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)));
+    }
+
+    private static void replicate(SegmentReplicationTargetService targetService, IndexShard primary, IndexShard replica)
+        throws Exception {
+        targetService.onNewCheckpoint(primary.getLatestReplicationCheckpoint(), replica);
+        assertBusy(() -> assertEquals(primary.getLatestReplicationCheckpoint(), replica.getLatestReplicationCheckpoint()));
+        assertEquals(getShardDocUIDs(primary), getShardDocUIDs(replica));
+    }
+
+    private static Collection<String> segmentFiles(Engine.Searcher searcher) throws IOException {
+        return ((StandardDirectoryReader) FilterDirectoryReader.unwrap(searcher.getDirectoryReader())).getSegmentInfos().files(false);
+    }
+
+    public void testCopiesSegmentsOfPrimary() throws Exception {
+        final IndexShard primary = newStartedShard(true, SEGMENT_REPLICATION);
+        final IndexShard replica = newShard(false, SEGMENT_REPLICATION);
+        recoverReplica(replica, primary, true);
+        final SegmentReplicationTargetService targetService = newTargetService(primary);
+
+        int docId = 0;
+        final int rounds = randomIntBetween(2, 5);
+        for (int round = 0; round < rounds; round++) {
+            final int numDocs = randomIntBetween(1, 20);
+            for (int i = 0; i < numDocs; i++) {
+                indexDoc(primary, "_doc", Integer.toString(docId++));
+            }
+            if (randomBoolean()) {
+                deleteDoc(primary, "_doc", Integer.toString(randomIntBetween(0, docId - 1)));
+            }
+            primary.refresh("test");
+            if (randomBoolean()) {
+                primary.flush(new FlushRequest().force(true));
+            }
+            replicate(targetService, primary, replica);
+        }
+        closeShards(primary, replica);
+    }
+
+    public void testKeepsFilesOfOpenReaders() throws Exception {
+        final IndexShard primary = newStartedShard(true, SEGMENT_REPLICATION);
+        final IndexShard replica = newShard(false, SEGMENT_REPLICATION);
+        recoverReplica(replica, primary, true);
+        final SegmentReplicationTargetService targetService = newTargetService(primary);
+        for (int batch = 0; batch < 3; batch++) {
+            indexDoc(primary, "_doc", Integer.toString(batch));
+            primary.refresh("test");
+        }
+        replicate(targetService, primary, replica);
+
+        final Engine.Searcher searcher = replica.acquireSearcher("test");
+        final Collection<String> searchedFiles;
+        try {
+            searchedFiles = segmentFiles(searcher);
+            // the segments that are being searched are merged away and the merged segment is committed
+            primary.forceMerge(new ForceMergeRequest().maxNumSegments(1).flush(true));
+            replicate(targetService, primary, replica);
+
+            final Set<String> files = new HashSet<>(Arrays.asList(replica.store().directory().listAll()));
+            assertTrue(files.containsAll(searchedFiles));
+            for (int i = 0; i < searcher.getIndexReader().maxDoc(); i++) {
+                assertNotNull(searcher.doc(i));
+            }
+        } finally {
+            searcher.close();
+        }
+
+        final Collection<String> latestFiles;
+        try (Engine.Searcher latest = replica.acquireSearcher("test")) {
+            latestFiles = segmentFiles(latest);
+        }
+        final Set<String> files = new HashSet<>(Arrays.asList(replica.store().directory().listAll()));
+        for (String file : searchedFiles) {
+            if (latestFiles.contains(file) == false) {
+                assertThat(files, not(hasItem(file)));
+            }
+        }
+        closeShards(primary, replica);
+    }
+
+    public void testFailsReplicaWithDivergedFiles() throws Exception {
+        final IndexShard primary = newStartedShard(true, SEGMENT_REPLICATION);
+        final IndexShard replica = newShard(false, SEGMENT_REPLICATION);
+        recoverReplica(replica, primary, true);
+        final SegmentReplicationTargetService targetService = newTargetService(primary);
+        indexDoc(primary, "_doc", "1");
+        primary.refresh("test");
+
+        // a file with the name of a file of the primary but another content, as if another primary had written it
+        final List<String> missingFiles = new ArrayList<>();
+        try (Engine.SegmentInfosRef segmentInfosRef = primary.acquireLatestSegmentInfos()) {
+            final Set<String> localFiles = new HashSet<>(Arrays.asList(replica.store().directory().listAll()));
+            for (String file : segmentInfosRef.getSegmentInfos().files(false)) {
+                if (localFiles.contains(file) == false) {
+                    missingFiles.add(file);
+                }
+            }
+        }
+        final String divergedFile = randomFrom(missingFiles);
+        final byte[] content = randomByteArrayOfLength(randomIntBetween(1, 100));
+        final Store store = replica.store();
+        try (IndexOutput output = store.directory().createOutput(divergedFile, IOContext.DEFAULT)) {
+            output.writeBytes(content, content.length);
+        }
+
+        allowShardFailures();
+        final AtomicReference<IndexShard.ShardFailure> shardFailure = new AtomicReference<>();
+        replica.addShardFailureCallback(shardFailure::set);
+        targetService.onNewCheckpoint(primary.getLatestReplicationCheckpoint(), replica);
+        assertBusy(() -> assertNotNull(shardFailure.get()));
+        assertThat(shardFailure.get().cause, instanceOf(SegmentReplicationTargetService.DivergedFilesException.class));
+        // the local file is not replaced
+        assertEquals(content.length, store.directory().fileLength(divergedFile));
+
+        closeShards(primary);
+        IOUtils.close(() -> replica.close("test", false), store);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication.checkpoint;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class ReplicationCheckpointTests extends OpenSearchTestCase {
+
+    public void testSerialization() throws IOException {
+        final ReplicationCheckpoint checkpoint = new ReplicationCheckpoint(new ShardId("index", "_na_", randomIntBetween(0, 5)),
+            randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(), randomLongBetween(-1, Long.MAX_VALUE));
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            checkpoint.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                assertThat(new ReplicationCheckpoint(in), equalTo(checkpoint));
+            }
+        }
+    }
+
+    public void testIsAheadOf() {
+        final ShardId shardId = new ShardId("index", "_na_", 0);
+        final long primaryTerm = randomLongBetween(1, 100);
+        final long version = randomLongBetween(1, 100);
+        final ReplicationCheckpoint checkpoint = new ReplicationCheckpoint(shardId, primaryTerm, 2, version, 10);
+
+        assertTrue(checkpoint.isAheadOf(null));
+        assertTrue(checkpoint.isAheadOf(ReplicationCheckpoint.empty(shardId)));
+        assertTrue(checkpoint.isAheadOf(new ReplicationCheckpoint(shardId, primaryTerm, 2, version - 1, 5)));
+        assertTrue(checkpoint.isAheadOf(new ReplicationCheckpoint(shardId, primaryTerm - 1, 3, version + 1, 20)));
+        assertFalse(checkpoint.isAheadOf(checkpoint));
+        assertFalse(checkpoint.isAheadOf(new ReplicationCheckpoint(shardId, primaryTerm, 2, version + 1, 20)));
+        assertFalse(checkpoint.isAheadOf(new ReplicationCheckpoint(shardId, primaryTerm + 1, 1, version - 1, 5)));
+    }
+}
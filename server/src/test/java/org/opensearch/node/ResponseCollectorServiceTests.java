@@ -49,7 +49,9 @@ import org.junit.Before;
 
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 
@@ -150,4 +152,23 @@ public class ResponseCollectorServiceTests extends OpenSearchTestCase {
         assertTrue(nodeStats.containsKey("node1"));
         assertFalse(nodeStats.containsKey("node2"));
     }
+
+    public void testResponseTimePercentile() {
+        for (int i = 1; i < ResponseCollectorService.RESPONSE_TIME_WINDOW; i++) {
+            collector.addResponseTime(TimeUnit.MILLISECONDS.toNanos(i));
+            assertFalse(collector.getResponseTimePercentile(50).isPresent());
+        }
+        collector.addResponseTime(TimeUnit.MILLISECONDS.toNanos(ResponseCollectorService.RESPONSE_TIME_WINDOW));
+        final double median = TimeUnit.MILLISECONDS.toNanos(ResponseCollectorService.RESPONSE_TIME_WINDOW / 2);
+        assertThat((double) collector.getResponseTimePercentile(50).getAsLong(), closeTo(median, median / 50));
+
+        // the percentiles only change once the next window is complete
+        for (int i = 1; i < ResponseCollectorService.RESPONSE_TIME_WINDOW; i++) {
+            collector.addResponseTime(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        assertThat((double) collector.getResponseTimePercentile(50).getAsLong(), closeTo(median, median / 50));
+        collector.addResponseTime(TimeUnit.MILLISECONDS.toNanos(10));
+        final double tenMillis = TimeUnit.MILLISECONDS.toNanos(10);
+        assertThat((double) collector.getResponseTimePercentile(99).getAsLong(), closeTo(tenMillis, tenMillis / 50));
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.store.Directory;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class BatchingBucketCollectorTests extends OpenSearchTestCase {
+
+    /**
+     * Records the docs that it collects, and the sizes of the blocks it is handed, until it has collected {@code terminateAfter} docs.
+     */
+    private static class RecordingBucketCollector extends BucketCollector {
+
+        private final int terminateAfter;
+        private final List<Integer> docs = new ArrayList<>();
+        private final List<Integer> blockSizes = new ArrayList<>();
+        private boolean postCollected;
+
+        RecordingBucketCollector(int terminateAfter) {
+            this.terminateAfter = terminateAfter;
+        }
+
+        @Override
+        public LeafBucketCollector getLeafCollector(LeafReaderContext context) throws IOException {
+            if (docs.size() >= terminateAfter) {
+                throw new CollectionTerminatedException();
+            }
+            return new LeafBucketCollector() {
+                @Override
+                public void collect(int doc, long bucket) throws IOException {
+                    if (docs.size() >= terminateAfter) {
+                        throw new CollectionTerminatedException();
+                    }
+                    assertThat(bucket, equalTo(0L));
+                    docs.add(context.docBase + doc);
+                }
+
+                @Override
+                public void collect(int[] blockDocs, int count, long bucket) throws IOException {
+                    blockSizes.add(count);
+                    super.collect(blockDocs, count, bucket);
+                }
+            };
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+
+        @Override
+        public void preCollection() {}
+
+        @Override
+        public void postCollection() {
+            postCollected = true;
+        }
+    }
+
+    public void testCollectsAllDocsInBlocks() throws IOException {
+        try (Directory dir = newDirectory()) {
+            final int numDocs = randomIntBetween(1, 1000);
+            try (IndexReader reader = indexDocs(dir, numDocs)) {
+                final IndexSearcher searcher = newSearcher(reader);
+                final RecordingBucketCollector recordingCollector = new RecordingBucketCollector(Integer.MAX_VALUE);
+                final BatchingBucketCollector collector = new BatchingBucketCollector(recordingCollector);
+                collector.preCollection();
+                searcher.search(new MatchAllDocsQuery(), collector);
+                collector.postCollection();
+
+                assertTrue(recordingCollector.postCollected);
+                // the docs of each segment are collected before the next segment, in order
+                assertThat(recordingCollector.docs.size(), equalTo(numDocs));
+                for (int i = 0; i < numDocs; i++) {
+                    assertThat(recordingCollector.docs.get(i), equalTo(i));
+                }
+                assertThat(recordingCollector.blockSizes.size(), greaterThan(0));
+                for (int blockSize : recordingCollector.blockSizes) {
+                    assertThat(blockSize, greaterThan(0));
+                    assertThat(blockSize, lessThanOrEqualTo(BatchingBucketCollector.BATCH_SIZE));
+                }
+            }
+        }
+    }
+
+    public void testCollectionTerminatedExceptionHandling() throws IOException {
+        try (Directory dir = newDirectory()) {
+            final int numDocs = randomIntBetween(1, 1000);
+            try (IndexReader reader = indexDocs(dir, numDocs)) {
+                final IndexSearcher searcher = newSearcher(reader);
+                final int terminateAfter = randomIntBetween(0, numDocs + 10);
+                final RecordingBucketCollector recordingCollector = new RecordingBucketCollector(terminateAfter);
+                final BatchingBucketCollector collector = new BatchingBucketCollector(recordingCollector);
+                collector.preCollection();
+                searcher.search(new MatchAllDocsQuery(), collector);
+                collector.postCollection();
+
+                assertTrue(recordingCollector.postCollected);
+                assertThat(recordingCollector.docs.size(), equalTo(Math.min(terminateAfter, numDocs)));
+            }
+        }
+    }
+
+    private static IndexReader indexDocs(Directory dir, int numDocs) throws IOException {
+        try (RandomIndexWriter w = new RandomIndexWriter(random(), dir)) {
+            for (int i = 0; i < numDocs; ++i) {
+                w.addDocument(new Document());
+            }
+            return w.getReader();
+        }
+    }
+}
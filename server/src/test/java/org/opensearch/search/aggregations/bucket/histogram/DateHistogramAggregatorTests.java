@@ -38,6 +38,7 @@ import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.search.DocValuesFieldExistsQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
@@ -46,6 +47,7 @@ import org.apache.lucene.store.Directory;
 import org.opensearch.common.time.DateFormatters;
 import org.opensearch.index.mapper.DateFieldMapper;
 import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.bucket.terms.StringTerms;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
@@ -55,11 +57,14 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import static java.util.stream.Collectors.toList;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 
 public class DateHistogramAggregatorTests extends DateHistogramAggregatorTestCase {
     /**
@@ -153,6 +158,61 @@ public class DateHistogramAggregatorTests extends DateHistogramAggregatorTestCas
         );
     }
 
+    public void testCountFromPoints() throws IOException {
+        DateFieldMapper.DateFieldType fieldType = aggregableDateFieldType(false, true);
+        long start = asLong("2020-01-01T00:00:00");
+        long end = asLong("2020-01-08T00:00:00");
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                int numDocs = randomIntBetween(100, 1000);
+                for (int i = 0; i < numDocs; i++) {
+                    long instant = randomLongBetween(start, end);
+                    Document document = new Document();
+                    document.add(new SortedNumericDocValuesField(AGGREGABLE_DATE, instant));
+                    document.add(new LongPoint(AGGREGABLE_DATE, instant));
+                    indexWriter.addDocument(document);
+                }
+            }
+
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = newSearcher(indexReader, true, true);
+                DateHistogramAggregationBuilder aggregationBuilder = new DateHistogramAggregationBuilder("_name")
+                    .field(AGGREGABLE_DATE)
+                    .fixedInterval(new DateHistogramInterval(randomFrom("1h", "3h", "1d")));
+                long from = randomLongBetween(start, end);
+                long to = randomLongBetween(from, end);
+                // the first query of each pair allows counting from the points, the second one requires collecting the documents
+                Query[][] queries = new Query[][] {
+                    { new MatchAllDocsQuery(), new DocValuesFieldExistsQuery(AGGREGABLE_DATE) },
+                    { LongPoint.newRangeQuery(AGGREGABLE_DATE, from, to),
+                        SortedNumericDocValuesField.newSlowRangeQuery(AGGREGABLE_DATE, from, to) }
+                };
+                for (Query[] pair : queries) {
+                    InternalDateHistogram fromPoints = searchAndReduce(indexSearcher, pair[0], aggregationBuilder, fieldType);
+                    InternalDateHistogram collected = searchAndReduce(indexSearcher, pair[1], aggregationBuilder, fieldType);
+                    assertEquals(collected.getBuckets().size(), fromPoints.getBuckets().size());
+                    for (int i = 0; i < collected.getBuckets().size(); i++) {
+                        assertEquals(collected.getBuckets().get(i).getKey(), fromPoints.getBuckets().get(i).getKey());
+                        assertEquals(collected.getBuckets().get(i).getDocCount(), fromPoints.getBuckets().get(i).getDocCount());
+                    }
+                }
+
+                // the slow path produces the same buckets, make sure that the buckets were actually counted from the points
+                IndexSearcher unwrappedSearcher = new IndexSearcher(indexReader);
+                for (Query query : new Query[] { new MatchAllDocsQuery(), LongPoint.newRangeQuery(AGGREGABLE_DATE, from, to) }) {
+                    Aggregator aggregator =
+                        createAggregator(query, aggregationBuilder, unwrappedSearcher, createIndexSettings(), fieldType);
+                    aggregator.preCollection();
+                    unwrappedSearcher.search(query, aggregator);
+                    aggregator.postCollection();
+                    Map<String, Object> debug = new HashMap<>();
+                    aggregator.collectDebugInfo(debug::put);
+                    assertThat((Integer) debug.get("segments_counted_from_points"), greaterThan(0));
+                }
+            }
+        }
+    }
+
     public void testAsSubAgg() throws IOException {
         AggregationBuilder builder = new TermsAggregationBuilder("k1").field("k1").subAggregation(
             new DateHistogramAggregationBuilder("dh").field(AGGREGABLE_DATE).calendarInterval(DateHistogramInterval.YEAR));
@@ -32,12 +32,14 @@
 
 package org.opensearch.search.aggregations.bucket.range;
 
+import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.document.SortedSetDocValuesField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.search.DocValuesFieldExistsQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
@@ -48,19 +50,25 @@ import org.opensearch.index.mapper.DateFieldMapper;
 import org.opensearch.index.mapper.KeywordFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.AggregatorTestCase;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import static java.util.Collections.singleton;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 
 public class RangeAggregatorTests extends AggregatorTestCase {
 
@@ -308,6 +316,69 @@ public class RangeAggregatorTests extends AggregatorTestCase {
         });
     }
 
+    public void testCountFromPoints() throws IOException {
+        MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType(NUMBER_FIELD_NAME, NumberFieldMapper.NumberType.LONG);
+        RangeAggregationBuilder aggregationBuilder = new RangeAggregationBuilder("test_range_agg")
+            .field(NUMBER_FIELD_NAME)
+            .addUnboundedTo(10d)
+            .addRange(10d, 100d)
+            .addRange(250d, 500.5d)
+            .addUnboundedFrom(900d);
+        int numDocs = randomIntBetween(100, 1000);
+        long[] values = new long[numDocs];
+        for (int i = 0; i < numDocs; i++) {
+            values[i] = randomLongBetween(-100, 1100);
+        }
+        CheckedConsumer<RandomIndexWriter, IOException> buildIndex = iw -> {
+            for (long value : values) {
+                iw.addDocument(Arrays.asList(new SortedNumericDocValuesField(NUMBER_FIELD_NAME, value),
+                    new LongPoint(NUMBER_FIELD_NAME, value)));
+            }
+        };
+        long from = randomLongBetween(-100, 1100);
+        long to = randomLongBetween(from, 1100);
+        // the first query of each pair allows counting from the points, the second one requires collecting the documents
+        Query[][] queries = new Query[][] {
+            { new MatchAllDocsQuery(), new DocValuesFieldExistsQuery(NUMBER_FIELD_NAME) },
+            { LongPoint.newRangeQuery(NUMBER_FIELD_NAME, from, to),
+                SortedNumericDocValuesField.newSlowRangeQuery(NUMBER_FIELD_NAME, from, to) }
+        };
+        for (Query[] pair : queries) {
+            testCase(aggregationBuilder, pair[1], buildIndex, collected -> {
+                try {
+                    testCase(aggregationBuilder, pair[0], buildIndex, fromPoints -> {
+                        assertEquals(collected.getBuckets().size(), fromPoints.getBuckets().size());
+                        for (int i = 0; i < collected.getBuckets().size(); i++) {
+                            assertEquals(collected.getBuckets().get(i).getKey(), fromPoints.getBuckets().get(i).getKey());
+                            assertEquals(collected.getBuckets().get(i).getDocCount(), fromPoints.getBuckets().get(i).getDocCount());
+                        }
+                    }, fieldType);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, fieldType);
+        }
+
+        // the slow path produces the same ranges, make sure that the ranges were actually counted from the points
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                buildIndex.accept(indexWriter);
+            }
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                IndexSearcher indexSearcher = new IndexSearcher(indexReader);
+                for (Query query : new Query[] { new MatchAllDocsQuery(), LongPoint.newRangeQuery(NUMBER_FIELD_NAME, from, to) }) {
+                    Aggregator aggregator = createAggregator(query, aggregationBuilder, indexSearcher, createIndexSettings(), fieldType);
+                    aggregator.preCollection();
+                    indexSearcher.search(query, aggregator);
+                    aggregator.postCollection();
+                    Map<String, Object> debug = new HashMap<>();
+                    aggregator.collectDebugInfo(debug::put);
+                    assertThat((Integer) debug.get("segments_counted_from_points"), greaterThan(0));
+                }
+            }
+        }
+    }
+
     private void testCase(Query query,
                           CheckedConsumer<RandomIndexWriter, IOException> buildIndex,
                           Consumer<InternalRange<? extends InternalRange.Bucket, ? extends InternalRange>> verify) throws IOException {
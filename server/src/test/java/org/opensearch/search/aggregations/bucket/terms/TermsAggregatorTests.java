@@ -31,6 +31,9 @@
 
 package org.opensearch.search.aggregations.bucket.terms;
 
+import org.apache.lucene.codecs.DocValuesFormat;
+import org.apache.lucene.codecs.lucene80.Lucene80DocValuesFormat;
+import org.apache.lucene.codecs.lucene87.Lucene87Codec;
 import org.apache.lucene.document.BinaryDocValuesField;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
@@ -45,9 +48,13 @@ import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.DocValuesFieldExistsQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TermRangeQuery;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.BytesRef;
@@ -59,6 +66,8 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.text.Text;
 import org.opensearch.common.util.MockBigArrays;
 import org.opensearch.common.util.MockPageCacheRecycler;
+import org.opensearch.common.util.set.Sets;
+import org.opensearch.index.codec.startree.StarTreeDocValuesFormat;
 import org.opensearch.index.mapper.DocumentMapper;
 import org.opensearch.index.mapper.GeoPointFieldMapper;
 import org.opensearch.index.mapper.IdFieldMapper;
@@ -100,6 +109,10 @@ import org.opensearch.search.aggregations.bucket.global.InternalGlobal;
 import org.opensearch.search.aggregations.bucket.nested.InternalNested;
 import org.opensearch.search.aggregations.bucket.nested.NestedAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.InternalTopHits;
+import org.opensearch.search.aggregations.metrics.Max;
+import org.opensearch.search.aggregations.metrics.MaxAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.Sum;
+import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.TopHitsAggregationBuilder;
 import org.opensearch.search.aggregations.pipeline.BucketScriptPipelineAggregationBuilder;
 import org.opensearch.search.aggregations.pipeline.PipelineAggregator.PipelineTree;
@@ -123,6 +136,7 @@ import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
@@ -866,6 +880,94 @@ public class TermsAggregatorTests extends AggregatorTestCase {
         }
     }
 
+    public void testStarTree() throws Exception {
+        assertStarTree(new MatchAllDocsQuery(), value -> true);
+    }
+
+    public void testStarTreeWithRangeQuery() throws Exception {
+        final BytesRef lower = randomBoolean() ? null : new BytesRef("value" + randomIntBetween(0, 10));
+        final BytesRef upper = randomBoolean() ? null : new BytesRef("value" + randomIntBetween(0, 10));
+        final boolean includeLower = randomBoolean();
+        final boolean includeUpper = randomBoolean();
+        assertStarTree(new TermRangeQuery("string", lower, upper, includeLower, includeUpper), value -> {
+            final BytesRef bytes = new BytesRef(value);
+            if (lower != null && (includeLower ? bytes.compareTo(lower) < 0 : bytes.compareTo(lower) <= 0)) {
+                return false;
+            }
+            return upper == null || (includeUpper ? bytes.compareTo(upper) <= 0 : bytes.compareTo(upper) < 0);
+        });
+    }
+
+    public void testStarTreeWithTermQuery() throws Exception {
+        final String term = "value" + randomIntBetween(0, 10);
+        assertStarTree(new TermQuery(new Term("string", term)), term::equals);
+    }
+
+    /**
+     * Indexes docs with a star tree and checks that a terms aggregation on its dimension, and a top level metric aggregation,
+     * return the statistics of the docs that match the given query.
+     */
+    private void assertStarTree(Query query, Predicate<String> matches) throws Exception {
+        final DocValuesFormat starTreeFormat = new StarTreeDocValuesFormat(
+            new Lucene80DocValuesFormat(),
+            Sets.newHashSet("string"),
+            field -> field.equals("number") ? value -> value : null
+        );
+        final Lucene87Codec codec = new Lucene87Codec() {
+            @Override
+            public DocValuesFormat getDocValuesFormatForField(String field) {
+                return starTreeFormat;
+            }
+        };
+        try (Directory directory = newDirectory()) {
+            final Map<String, Long> expectedDocCounts = new HashMap<>();
+            final Map<String, Long> expectedSums = new HashMap<>();
+            final Map<String, Long> expectedMaxes = new HashMap<>();
+            long expectedSum = 0;
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory, newIndexWriterConfig().setCodec(codec))) {
+                final int numDocs = randomIntBetween(1, 200);
+                for (int i = 0; i < numDocs; i++) {
+                    final Document document = new Document();
+                    final long number = randomLongBetween(-100, 100);
+                    document.add(new SortedNumericDocValuesField("number", number));
+                    final String value = "value" + randomIntBetween(0, 10);
+                    document.add(new SortedSetDocValuesField("string", new BytesRef(value)));
+                    document.add(new StringField("string", value, Field.Store.NO));
+                    if (matches.test(value)) {
+                        expectedDocCounts.merge(value, 1L, Long::sum);
+                        expectedSums.merge(value, number, Long::sum);
+                        expectedMaxes.merge(value, number, Math::max);
+                        expectedSum += number;
+                    }
+                    indexWriter.addDocument(document);
+                }
+            }
+            try (IndexReader indexReader = maybeWrapReaderEs(DirectoryReader.open(directory))) {
+                IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name")
+                    .userValueTypeHint(ValueType.STRING)
+                    .field("string")
+                    .size(Math.max(1, expectedDocCounts.size()))
+                    .collectMode(randomFrom(Aggregator.SubAggCollectionMode.values()))
+                    .subAggregation(new SumAggregationBuilder("sum").field("number"))
+                    .subAggregation(new MaxAggregationBuilder("max").field("number"));
+                MappedFieldType fieldType1 = new KeywordFieldMapper.KeywordFieldType("string");
+                MappedFieldType fieldType2 = new NumberFieldMapper.NumberFieldType("number", NumberFieldMapper.NumberType.LONG);
+                Terms result = searchAndReduce(indexSearcher, query, aggregationBuilder, fieldType1, fieldType2);
+                assertEquals(expectedDocCounts.size(), result.getBuckets().size());
+                for (Terms.Bucket bucket : result.getBuckets()) {
+                    String key = bucket.getKeyAsString();
+                    assertEquals((long) expectedDocCounts.get(key), bucket.getDocCount());
+                    assertEquals(expectedSums.get(key).doubleValue(), ((Sum) bucket.getAggregations().get("sum")).getValue(), 0d);
+                    assertEquals(expectedMaxes.get(key).doubleValue(), ((Max) bucket.getAggregations().get("max")).getValue(), 0d);
+                }
+
+                Sum sum = searchAndReduce(indexSearcher, query, new SumAggregationBuilder("sum").field("number"), fieldType1, fieldType2);
+                assertEquals((double) expectedSum, sum.getValue(), 0d);
+            }
+        }
+    }
+
     public void testEmpty() throws Exception {
         try (Directory directory = newDirectory()) {
             try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
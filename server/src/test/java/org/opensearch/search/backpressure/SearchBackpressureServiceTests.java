@@ -0,0 +1,196 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.backpressure;
+
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.monitor.jvm.ThreadResourceProbe;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SearchBackpressureServiceTests extends OpenSearchTestCase {
+
+    private static final long HEAP_MAX_BYTES = 1L << 30;
+
+    private final Map<Long, CancellableTask> tasks = new HashMap<>();
+    private final AtomicReference<Double> heapUsage = new AtomicReference<>(0.0);
+    private TaskManager taskManager;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        taskManager = mock(TaskManager.class);
+        when(taskManager.getCancellableTasks()).thenAnswer(invocation -> Collections.unmodifiableMap(new HashMap<>(tasks)));
+        when(taskManager.isResourceTrackingEnabled()).thenReturn(true);
+    }
+
+    private SearchBackpressureService createService(Settings settings) {
+        final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        return new SearchBackpressureService(settings, clusterSettings, mock(ThreadPool.class), taskManager, () -> 0.0,
+            heapUsage::get, HEAP_MAX_BYTES);
+    }
+
+    private SearchShardTask addTask(long cpuTimeNanos, long allocatedBytes) {
+        final SearchShardTask task = new SearchShardTask(tasks.size(), "transport", "indices:data/read/search[phase/query]", "",
+            null, Collections.emptyMap()) {
+            @Override
+            public long getCpuTimeNanos() {
+                return cpuTimeNanos;
+            }
+
+            @Override
+            public long getAllocatedBytes() {
+                return allocatedBytes;
+            }
+        };
+        tasks.put(task.getId(), task);
+        return task;
+    }
+
+    public void testCancelsOnlyWhenInDuressForSuccessiveChecks() {
+        final SearchBackpressureService service = createService(Settings.builder()
+            .put(SearchBackpressureService.MODE_SETTING.getKey(), "enforced")
+            .put(TaskManager.TASK_RESOURCE_TRACKING_ENABLED_SETTING.getKey(), true)
+            .put(SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING.getKey(), 3)
+            .build());
+        final SearchShardTask heavy = addTask(0, HEAP_MAX_BYTES / 10);
+        addTask(0, 1024);
+
+        service.doRun();
+        assertFalse(service.isNodeInDuress());
+
+        heapUsage.set(0.9);
+        service.doRun();
+        service.doRun();
+        assertFalse(service.isNodeInDuress());
+        verify(taskManager, never()).cancel(any(), anyString(), any());
+
+        service.doRun();
+        assertTrue(service.isNodeInDuress());
+        verify(taskManager, times(1)).cancel(eq(heavy), anyString(), any());
+        verify(taskManager, times(1)).cancel(any(), anyString(), any());
+
+        final SearchBackpressureStats stats = service.stats();
+        assertTrue(stats.isNodeInDuress());
+        assertEquals(1, stats.getCancellationCount());
+        assertEquals(0, stats.getWouldBeCancellationCount());
+        assertEquals(1, stats.getHeapAllocationBreachCount());
+        assertEquals(0, stats.getCpuTimeBreachCount());
+        assertEquals(0, stats.getLimitReachedCount());
+
+        heapUsage.set(0.1);
+        service.doRun();
+        assertFalse(service.isNodeInDuress());
+    }
+
+    public void testCancelsTheMostExpensiveTasksFirst() {
+        final SearchBackpressureService service = createService(Settings.builder()
+            .put(SearchBackpressureService.MODE_SETTING.getKey(), "enforced")
+            .put(TaskManager.TASK_RESOURCE_TRACKING_ENABLED_SETTING.getKey(), true)
+            .put(SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING.getKey(), 1)
+            .put(SearchBackpressureService.MAX_CANCELLATIONS_PER_INTERVAL_SETTING.getKey(), 1)
+            .put(SearchBackpressureService.TASK_CPU_TIME_THRESHOLD_SETTING.getKey(), "1s")
+            .build());
+        addTask(2_000_000_000L, HEAP_MAX_BYTES / 100);
+        final SearchShardTask heaviest = addTask(0, HEAP_MAX_BYTES / 10);
+
+        heapUsage.set(0.9);
+        service.doRun();
+        verify(taskManager, times(1)).cancel(eq(heaviest), anyString(), any());
+        verify(taskManager, times(1)).cancel(any(), anyString(), any());
+        assertEquals(1, service.stats().getLimitReachedCount());
+    }
+
+    public void testMonitorOnlyCountsTasksOnce() {
+        final SearchBackpressureService service = createService(Settings.builder()
+            .put(SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING.getKey(), 1)
+            .build());
+        addTask(0, HEAP_MAX_BYTES / 10);
+
+        heapUsage.set(0.9);
+        service.doRun();
+        service.doRun();
+        verify(taskManager, never()).cancel(any(), anyString(), any());
+        final SearchBackpressureStats stats = service.stats();
+        assertEquals(SearchBackpressureService.Mode.MONITOR_ONLY, stats.getMode());
+        assertEquals(0, stats.getCancellationCount());
+        assertEquals(1, stats.getWouldBeCancellationCount());
+    }
+
+    public void testEnforcedRequiresResourceTracking() {
+        final IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> createService(Settings.builder()
+            .put(SearchBackpressureService.MODE_SETTING.getKey(), "enforced")
+            .build()));
+        assertEquals("search backpressure mode [enforced] requires [tasks.resource_tracking.enabled] to be enabled", e.getMessage());
+
+        final ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        new SearchBackpressureService(Settings.EMPTY, clusterSettings, mock(ThreadPool.class), taskManager, () -> 0.0,
+            heapUsage::get, HEAP_MAX_BYTES);
+        expectThrows(IllegalArgumentException.class, () -> clusterSettings.applySettings(Settings.builder()
+            .put(SearchBackpressureService.MODE_SETTING.getKey(), "enforced")
+            .build()));
+    }
+
+    public void testDisabled() {
+        final SearchBackpressureService service = createService(Settings.builder()
+            .put(SearchBackpressureService.MODE_SETTING.getKey(), "disabled")
+            .put(SearchBackpressureService.NUM_SUCCESSIVE_BREACHES_SETTING.getKey(), 1)
+            .build());
+        addTask(0, HEAP_MAX_BYTES / 10);
+
+        heapUsage.set(0.9);
+        service.doRun();
+        assertFalse(service.isNodeInDuress());
+        assertEquals(0, service.stats().getCancellationCount());
+        assertEquals(0, service.stats().getWouldBeCancellationCount());
+    }
+
+    public void testSearchShardTaskTracksCpuTime() {
+        final ThreadResourceProbe probe = ThreadResourceProbe.getInstance();
+        final long threadId = Thread.currentThread().getId();
+        assumeTrue("thread CPU time isn't supported", probe.getThreadCpuTime(threadId) >= 0);
+        final SearchShardTask task = new SearchShardTask(1, "transport", "indices:data/read/search[phase/query]", "", null,
+            Collections.emptyMap());
+        assertEquals(0, task.getCpuTimeNanos());
+        final long minCpuTimeNanos = 10_000_000L;
+        try (Releasable ignored = task.trackResourceUsage()) {
+            // tracking the same thread twice is a no-op
+            task.trackResourceUsage().close();
+            final long start = probe.getThreadCpuTime(threadId);
+            while (probe.getThreadCpuTime(threadId) - start < minCpuTimeNanos) {
+                // burn CPU
+            }
+            // the usage of the running thread is included
+            assertThat(task.getCpuTimeNanos(), greaterThanOrEqualTo(minCpuTimeNanos));
+        }
+        final long cpuTimeNanos = task.getCpuTimeNanos();
+        assertThat(cpuTimeNanos, greaterThanOrEqualTo(minCpuTimeNanos));
+        // the thread no longer accounts to the task
+        assertEquals(cpuTimeNanos, task.getCpuTimeNanos());
+    }
+}
@@ -80,6 +80,17 @@ public class FetchSourcePhaseTests extends OpenSearchTestCase {
         assertEquals(Collections.singletonMap("field1","value"), hitContext.hit().getSourceAsMap());
     }
 
+    public void testFilteringDoesNotParseSourceAsMap() throws IOException {
+        XContentBuilder source = XContentFactory.jsonBuilder().startObject()
+            .field("field1", "value")
+            .startObject("object").field("field2", "value2").field("field3", "value3").endObject()
+            .endObject();
+        HitContext hitContext = hitExecuteMultiple(source, true, new String[]{"object.*"}, new String[]{"object.field3"});
+        assertEquals(Collections.singletonMap("object", Collections.singletonMap("field2", "value2")),
+            hitContext.hit().getSourceAsMap());
+        assertNull(hitContext.sourceLookup().source());
+    }
+
     public void testMultipleFiltering() throws IOException {
         XContentBuilder source = XContentFactory.jsonBuilder().startObject()
             .field("field", "value")
@@ -92,6 +92,7 @@ import org.apache.lucene.util.bkd.BKDReader;
 import org.apache.lucene.util.bkd.BKDWriter;
 import org.opensearch.action.search.SearchShardTask;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.mapper.DateFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
@@ -105,21 +106,26 @@ import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.internal.ContextIndexSearcher;
 import org.opensearch.search.internal.ScrollContext;
 import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.search.sort.SortAndFormats;
 import org.opensearch.tasks.TaskCancelledException;
 import org.opensearch.test.TestSearchContext;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.opensearch.search.query.QueryPhase.pointsHaveDuplicateData;
 import static org.opensearch.search.query.TopDocsCollectorContext.hasInfMaxScore;
 import static org.hamcrest.Matchers.anyOf;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -952,6 +958,117 @@ public class QueryPhaseTests extends IndexShardTestCase {
         dir.close();
     }
 
+    public void testConcurrentSegmentSearch() throws Exception {
+        Directory dir = newDirectory();
+        IndexWriterConfig iwc = newIndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE);
+        IndexWriter w = new IndexWriter(dir, iwc);
+        final int numDocs = randomIntBetween(100, 200);
+        for (int i = 0; i < numDocs; i++) {
+            Document doc = new Document();
+            doc.add(new TextField("title", i % 3 == 0 ? "foo bar" : "foo", Store.NO));
+            doc.add(new NumericDocValuesField("rank", randomIntBetween(0, 1000)));
+            w.addDocument(doc);
+            if (i % 5 == 0) {
+                // create enough segments to get several slices
+                w.commit();
+            }
+        }
+        w.close();
+
+        IndexReader reader = DirectoryReader.open(dir);
+        ContextIndexSearcher concurrentSearcher = new ContextIndexSearcher(reader, IndexSearcher.getDefaultSimilarity(),
+            IndexSearcher.getDefaultQueryCache(), IndexSearcher.getDefaultQueryCachingPolicy(), true,
+            threadPool.executor(ThreadPool.Names.INDEX_SEARCHER));
+        assertTrue(concurrentSearcher.isConcurrentSearchEnabled());
+        assertThat(concurrentSearcher.getSlices().length, greaterThanOrEqualTo(2));
+
+        Query query = new TermQuery(new Term("title", "foo"));
+        for (SortAndFormats sort : new SortAndFormats[] {
+            null, new SortAndFormats(new Sort(new SortField("rank", SortField.Type.LONG)), new DocValueFormat[] { DocValueFormat.RAW }) }) {
+            TestSearchContext sequential = new TestSearchContext(null, indexShard, newContextSearcher(reader));
+            TestSearchContext concurrent = new TestSearchContext(null, indexShard, concurrentSearcher);
+            for (TestSearchContext context : new TestSearchContext[] { sequential, concurrent }) {
+                context.parsedQuery(new ParsedQuery(query));
+                context.setTask(new SearchShardTask(123L, "", "", "", null, Collections.emptyMap()));
+                context.setSize(10);
+                context.trackTotalHitsUpTo(SearchContext.TRACK_TOTAL_HITS_ACCURATE);
+                if (sort != null) {
+                    context.sort(sort);
+                }
+                assertFalse(QueryPhase.executeInternal(context));
+            }
+            assertTrue(QueryPhase.canSearchConcurrently(concurrent, Collections.emptyList()));
+            TopDocs expected = sequential.queryResult().topDocs().topDocs;
+            TopDocs actual = concurrent.queryResult().topDocs().topDocs;
+            assertEquals(numDocs, actual.totalHits.value);
+            assertEquals(expected.totalHits, actual.totalHits);
+            assertEquals(expected.scoreDocs.length, actual.scoreDocs.length);
+            for (int i = 0; i < expected.scoreDocs.length; i++) {
+                assertEquals(expected.scoreDocs[i].doc, actual.scoreDocs[i].doc);
+                assertEquals(expected.scoreDocs[i].score, actual.scoreDocs[i].score, 0f);
+                assertEquals(-1, actual.scoreDocs[i].shardIndex);
+            }
+        }
+
+        TestSearchContext countOnly = new TestSearchContext(null, indexShard, concurrentSearcher);
+        countOnly.setSize(0);
+        assertFalse(QueryPhase.canSearchConcurrently(countOnly, Collections.emptyList()));
+
+        reader.close();
+        dir.close();
+    }
+
+    public void testConcurrentSegmentSearchTimeoutKeepsPartialHits() throws Exception {
+        Directory dir = newDirectory();
+        IndexWriterConfig iwc = newIndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE);
+        IndexWriter w = new IndexWriter(dir, iwc);
+        final int numDocs = randomIntBetween(100, 200);
+        for (int i = 0; i < numDocs; i++) {
+            Document doc = new Document();
+            doc.add(new TextField("title", "foo", Store.NO));
+            w.addDocument(doc);
+            if (i % 5 == 0) {
+                w.commit();
+            }
+        }
+        w.close();
+
+        IndexReader reader = DirectoryReader.open(dir);
+        // the slices run one after the other on the calling thread, so the first leaf is always searched before the timeout
+        ContextIndexSearcher searcher = new ContextIndexSearcher(reader, IndexSearcher.getDefaultSimilarity(),
+            IndexSearcher.getDefaultQueryCache(), IndexSearcher.getDefaultQueryCachingPolicy(), false, Runnable::run);
+        assertThat(searcher.getSlices().length, greaterThanOrEqualTo(2));
+        final ShardSearchRequest request = mock(ShardSearchRequest.class);
+        when(request.allowPartialSearchResults()).thenReturn(true);
+        final AtomicInteger clockReads = new AtomicInteger();
+        TestSearchContext context = new TestSearchContext(null, indexShard, searcher) {
+            @Override
+            public ShardSearchRequest request() {
+                return request;
+            }
+
+            @Override
+            public long getRelativeTimeInMillis() {
+                return clockReads.incrementAndGet() > 8 ? 1000L : 0L;
+            }
+        };
+        context.parsedQuery(new ParsedQuery(new TermQuery(new Term("title", "foo"))));
+        context.setTask(new SearchShardTask(123L, "", "", "", null, Collections.emptyMap()));
+        context.setSize(10);
+        context.timeout(TimeValue.timeValueMillis(1));
+        assertTrue(QueryPhase.canSearchConcurrently(context, Collections.emptyList()));
+        QueryPhase.executeInternal(context);
+
+        assertTrue(context.queryResult().searchTimedOut());
+        // the hits of the leaves that were searched before the timeout are kept, like with a sequential search
+        TopDocs topDocs = context.queryResult().topDocs().topDocs;
+        assertThat(topDocs.scoreDocs.length, greaterThan(0));
+        assertThat(topDocs.totalHits.value, lessThan((long) numDocs));
+
+        reader.close();
+        dir.close();
+    }
+
     public void testCancellationDuringPreprocess() throws IOException {
         try (Directory dir = newDirectory();
              RandomIndexWriter w = new RandomIndexWriter(random(), dir, newIndexWriterConfig())) {
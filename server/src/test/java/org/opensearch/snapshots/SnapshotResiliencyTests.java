@@ -183,6 +183,9 @@ import org.opensearch.indices.mapper.MapperRegistry;
 import org.opensearch.indices.recovery.PeerRecoverySourceService;
 import org.opensearch.indices.recovery.PeerRecoveryTargetService;
 import org.opensearch.indices.recovery.RecoverySettings;
+import org.opensearch.indices.replication.SegmentReplicationSourceService;
+import org.opensearch.indices.replication.SegmentReplicationTargetService;
+import org.opensearch.indices.replication.checkpoint.SegmentReplicationCheckpointPublisher;
 import org.opensearch.ingest.IngestService;
 import org.opensearch.monitor.StatusInfo;
 import org.opensearch.node.ResponseCollectorService;
@@ -1583,7 +1586,10 @@ public class SnapshotResiliencyTests extends OpenSearchTestCase {
                         threadPool,
                         shardStateAction,
                         actionFilters),
-                    RetentionLeaseSyncer.EMPTY);
+                    RetentionLeaseSyncer.EMPTY,
+                    new SegmentReplicationSourceService(transportService, indicesService, clusterService, recoverySettings),
+                    new SegmentReplicationTargetService(threadPool, transportService, clusterService, recoverySettings),
+                    SegmentReplicationCheckpointPublisher.EMPTY);
             Map<ActionType, TransportAction> actions = new HashMap<>();
                 final ShardLimitValidator shardLimitValidator = new ShardLimitValidator(settings, clusterService);
                 final MetadataCreateIndexService metadataCreateIndexService = new MetadataCreateIndexService(settings, clusterService,
@@ -82,43 +82,46 @@ public class TaskInfoTests extends AbstractSerializingTestCase<TaskInfo> {
 
     @Override
     protected TaskInfo mutateInstance(TaskInfo info) {
-        switch (between(0, 9)) {
+        switch (between(0, 10)) {
             case 0:
                 TaskId taskId = new TaskId(info.getTaskId().getNodeId() + randomAlphaOfLength(5), info.getTaskId().getId());
                 return new TaskInfo(taskId, info.getType(), info.getAction(), info.getDescription(), info.getStatus(),
-                    info.getStartTime(), info.getRunningTimeNanos(), info.isCancellable(), info.getParentTaskId(), info.getHeaders());
+                    info.getStartTime(), info.getRunningTimeNanos(), info.isCancellable(), info.getParentTaskId(), info.getHeaders(),
+                    info.getResourceStats());
             case 1:
                 return new TaskInfo(info.getTaskId(), info.getType() + randomAlphaOfLength(5), info.getAction(), info.getDescription(),
                     info.getStatus(), info.getStartTime(), info.getRunningTimeNanos(), info.isCancellable(), info.getParentTaskId(),
-                    info.getHeaders());
+                    info.getHeaders(), info.getResourceStats());
             case 2:
                 return new TaskInfo(info.getTaskId(), info.getType(), info.getAction() + randomAlphaOfLength(5), info.getDescription(),
                     info.getStatus(), info.getStartTime(), info.getRunningTimeNanos(), info.isCancellable(), info.getParentTaskId(),
-                    info.getHeaders());
+                    info.getHeaders(), info.getResourceStats());
             case 3:
                 return new TaskInfo(info.getTaskId(), info.getType(), info.getAction(), info.getDescription() + randomAlphaOfLength(5),
                     info.getStatus(), info.getStartTime(), info.getRunningTimeNanos(), info.isCancellable(), info.getParentTaskId(),
-                    info.getHeaders());
+                    info.getHeaders(), info.getResourceStats());
             case 4:
                 Task.Status newStatus = randomValueOtherThan(info.getStatus(), TaskInfoTests::randomRawTaskStatus);
                 return new TaskInfo(info.getTaskId(), info.getType(), info.getAction(), info.getDescription(), newStatus,
-                    info.getStartTime(), info.getRunningTimeNanos(), info.isCancellable(), info.getParentTaskId(), info.getHeaders());
+                    info.getStartTime(), info.getRunningTimeNanos(), info.isCancellable(), info.getParentTaskId(), info.getHeaders(),
+                    info.getResourceStats());
             case 5:
                 return new TaskInfo(info.getTaskId(), info.getType(), info.getAction(), info.getDescription(), info.getStatus(),
                     info.getStartTime() + between(1, 100), info.getRunningTimeNanos(), info.isCancellable(), info.getParentTaskId(),
-                    info.getHeaders());
+                    info.getHeaders(), info.getResourceStats());
             case 6:
                 return new TaskInfo(info.getTaskId(), info.getType(), info.getAction(), info.getDescription(), info.getStatus(),
                     info.getStartTime(), info.getRunningTimeNanos() + between(1, 100), info.isCancellable(), info.getParentTaskId(),
-                    info.getHeaders());
+                    info.getHeaders(), info.getResourceStats());
             case 7:
                 return new TaskInfo(info.getTaskId(), info.getType(), info.getAction(), info.getDescription(), info.getStatus(),
                     info.getStartTime(), info.getRunningTimeNanos(), info.isCancellable() == false, info.getParentTaskId(),
-                    info.getHeaders());
+                    info.getHeaders(), info.getResourceStats());
             case 8:
                 TaskId parentId = new TaskId(info.getParentTaskId().getNodeId() + randomAlphaOfLength(5), info.getParentTaskId().getId());
                 return new TaskInfo(info.getTaskId(), info.getType(), info.getAction(), info.getDescription(), info.getStatus(),
-                    info.getStartTime(), info.getRunningTimeNanos(), info.isCancellable(), parentId, info.getHeaders());
+                    info.getStartTime(), info.getRunningTimeNanos(), info.isCancellable(), parentId, info.getHeaders(),
+                    info.getResourceStats());
             case 9:
                 Map<String, String> headers = info.getHeaders();
                 if (headers == null) {
@@ -128,7 +131,13 @@ public class TaskInfoTests extends AbstractSerializingTestCase<TaskInfo> {
                 }
                 headers.put(randomAlphaOfLength(15), randomAlphaOfLength(15));
                 return new TaskInfo(info.getTaskId(), info.getType(), info.getAction(), info.getDescription(), info.getStatus(),
-                    info.getStartTime(), info.getRunningTimeNanos(), info.isCancellable(), info.getParentTaskId(), headers);
+                    info.getStartTime(), info.getRunningTimeNanos(), info.isCancellable(), info.getParentTaskId(), headers,
+                    info.getResourceStats());
+            case 10:
+                TaskResourceStats resourceStats = randomValueOtherThan(info.getResourceStats(), TaskInfoTests::randomResourceStats);
+                return new TaskInfo(info.getTaskId(), info.getType(), info.getAction(), info.getDescription(), info.getStatus(),
+                    info.getStartTime(), info.getRunningTimeNanos(), info.isCancellable(), info.getParentTaskId(), info.getHeaders(),
+                    resourceStats);
             default:
                 throw new IllegalStateException();
         }
@@ -147,7 +156,13 @@ public class TaskInfoTests extends AbstractSerializingTestCase<TaskInfo> {
         Map<String, String> headers = randomBoolean() ?
                 Collections.emptyMap() :
                 Collections.singletonMap(randomAlphaOfLength(5), randomAlphaOfLength(5));
-        return new TaskInfo(taskId, type, action, description, status, startTime, runningTimeNanos, cancellable, parentTaskId, headers);
+        TaskResourceStats resourceStats = randomBoolean() ? randomResourceStats() : null;
+        return new TaskInfo(taskId, type, action, description, status, startTime, runningTimeNanos, cancellable, parentTaskId, headers,
+            resourceStats);
+    }
+
+    private static TaskResourceStats randomResourceStats() {
+        return new TaskResourceStats(randomNonNegativeLong(), randomNonNegativeLong());
     }
 
     private static TaskId randomTaskId() {
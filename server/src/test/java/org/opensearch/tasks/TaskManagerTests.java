@@ -32,13 +32,21 @@
 
 package org.opensearch.tasks;
 
+import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
 import org.opensearch.action.admin.cluster.node.tasks.TransportTasksActionTests;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.monitor.jvm.ThreadResourceProbe;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.TestThreadPool;
 import org.opensearch.threadpool.ThreadPool;
@@ -57,15 +65,24 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Phaser;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.in;
 import static org.mockito.Mockito.mock;
 
 public class TaskManagerTests extends OpenSearchTestCase {
+    private static final ThreadResourceProbe PROBE = ThreadResourceProbe.getInstance();
+
+    private static final Settings RESOURCE_TRACKING_ENABLED = Settings.builder()
+        .put(TaskManager.TASK_RESOURCE_TRACKING_ENABLED_SETTING.getKey(), true)
+        .build();
+
     private ThreadPool threadPool;
 
     @Before
@@ -182,6 +199,67 @@ public class TaskManagerTests extends OpenSearchTestCase {
         assertThat(taskManager.numberOfChannelPendingTaskTrackers(), equalTo(0));
     }
 
+    public void testResourceUsageIsTrackedAcrossThreads() throws Exception {
+        assumeTrue("allocated bytes aren't supported", PROBE.getCurrentThreadAllocatedBytes() >= 0);
+        final TaskManager taskManager = new TaskManager(RESOURCE_TRACKING_ENABLED, threadPool, Collections.emptySet());
+        final Task task = taskManager.register("transport", "test", new TransportRequest() {});
+        final AtomicReference<byte[]> allocated = new AtomicReference<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        try (ThreadContext.StoredContext ignored = taskManager.taskExecutionStarted(task)) {
+            assertSame(task, threadPool.getThreadContext().getTransient(Task.TASK_TRANSIENT));
+            threadPool.generic().execute(() -> {
+                allocated.set(new byte[1 << 20]);
+                latch.countDown();
+            });
+        }
+        assertNull(threadPool.getThreadContext().getTransient(Task.TASK_TRANSIENT));
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertBusy(() -> assertThat(task.getAllocatedBytes(), greaterThanOrEqualTo((long) allocated.get().length)));
+        taskManager.unregister(task);
+    }
+
+    public void testChildResourceUsageIsAddedToLocalParent() {
+        assumeTrue("allocated bytes aren't supported", PROBE.getCurrentThreadAllocatedBytes() >= 0);
+        final TaskManager taskManager = new TaskManager(RESOURCE_TRACKING_ENABLED, threadPool, Collections.emptySet());
+        final DiscoveryNode localNode = new DiscoveryNode("node", buildNewFakeTransportAddress(), Version.CURRENT);
+        final ClusterState clusterState = ClusterState.builder(new ClusterName("test"))
+            .nodes(DiscoveryNodes.builder().add(localNode).localNodeId(localNode.getId()))
+            .build();
+        taskManager.applyClusterState(new ClusterChangedEvent("test", clusterState, ClusterState.EMPTY_STATE));
+
+        final Task parent = taskManager.register("transport", "parent", new TransportRequest() {});
+        final TransportRequest childRequest = new TransportRequest() {};
+        childRequest.setParentTask(localNode.getId(), parent.getId());
+        final Task child = taskManager.register("transport", "child", childRequest);
+        final byte[] allocated;
+        try (ThreadContext.StoredContext ignored = taskManager.taskExecutionStarted(child)) {
+            allocated = new byte[1 << 20];
+        }
+        final long childAllocatedBytes = child.getAllocatedBytes();
+        assertThat(childAllocatedBytes, greaterThanOrEqualTo((long) allocated.length));
+        assertThat(parent.getAllocatedBytes(), equalTo(0L));
+
+        taskManager.unregister(child);
+        assertThat(parent.getAllocatedBytes(), equalTo(childAllocatedBytes));
+        taskManager.unregister(parent);
+    }
+
+    public void testResourceUsageIsNotTrackedWhenDisabled() {
+        final TaskManager taskManager = new TaskManager(Settings.EMPTY, threadPool, Collections.emptySet());
+        final Task task = taskManager.register("transport", "test", new TransportRequest() {});
+        try (ThreadContext.StoredContext ignored = taskManager.taskExecutionStarted(task)) {
+            assertNull(threadPool.getThreadContext().getTransient(Task.TASK_TRANSIENT));
+        }
+        assertNull(task.taskInfo("node", false).getResourceStats());
+
+        taskManager.setResourceTrackingEnabled(true);
+        try (ThreadContext.StoredContext ignored = taskManager.taskExecutionStarted(task)) {
+            assertSame(task, threadPool.getThreadContext().getTransient(Task.TASK_TRANSIENT));
+        }
+        assertNotNull(task.taskInfo("node", false).getResourceStats());
+        taskManager.unregister(task);
+    }
+
     static class CancellableRequest extends TransportRequest {
         private final String requestId;
 
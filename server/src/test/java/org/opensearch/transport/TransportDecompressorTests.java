@@ -32,6 +32,7 @@
 
 package org.opensearch.transport;
 
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.bytes.CompositeBytesReference;
 import org.opensearch.common.bytes.ReleasableBytesReference;
@@ -48,6 +49,8 @@ import org.opensearch.test.OpenSearchTestCase;
 import java.io.IOException;
 import java.io.OutputStream;
 
+import static org.hamcrest.Matchers.startsWith;
+
 public class TransportDecompressorTests extends OpenSearchTestCase {
 
     public void testSimpleCompression() throws IOException {
@@ -59,7 +62,7 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
 
             BytesReference bytes = output.bytes();
 
-            TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
+            TransportDecompressor decompressor = new DeflateTransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
             int bytesConsumed = decompressor.decompress(bytes);
             assertEquals(bytes.length(), bytesConsumed);
             assertTrue(decompressor.isEOS());
@@ -81,7 +84,7 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
 
             BytesReference bytes = output.bytes();
 
-            TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
+            TransportDecompressor decompressor = new DeflateTransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
             int bytesConsumed = decompressor.decompress(bytes);
             assertEquals(bytes.length(), bytesConsumed);
             assertTrue(decompressor.isEOS());
@@ -110,7 +113,7 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
 
             BytesReference bytes = output.bytes();
 
-            TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
+            TransportDecompressor decompressor = new DeflateTransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
 
             int split1 = (int) (bytes.length() * 0.3);
             int split2 = (int) (bytes.length() * 0.65);
@@ -142,4 +145,51 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
         }
     }
 
+    public void testIncrementalLz4Compression() throws IOException {
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            final int numInts = randomIntBetween(1, 50000);
+            try (StreamOutput lz4Stream = new OutputStreamStreamOutput(
+                    CompressorFactory.LZ4_COMPRESSOR.threadLocalOutputStream(Streams.flushOnCloseStream(output)))) {
+                for (int i = 0; i < numInts; ++i) {
+                    lz4Stream.writeInt(i);
+                }
+            }
+
+            BytesReference bytes = output.bytes();
+            assertSame(CompressorFactory.LZ4_COMPRESSOR, TransportDecompressor.getCompressor(bytes));
+
+            TransportDecompressor decompressor = TransportDecompressor.getDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE,
+                CompressorFactory.LZ4_COMPRESSOR);
+            int offset = 0;
+            while (offset < bytes.length()) {
+                // the header is always available before decompression starts
+                final int minLength = offset == 0 ? CompressorFactory.LZ4_COMPRESSOR.headerLength() : 1;
+                final int length = randomIntBetween(Math.min(minLength, bytes.length() - offset), Math.min(bytes.length() - offset, 4096));
+                assertFalse(decompressor.isEOS());
+                assertEquals(length, decompressor.decompress(bytes.slice(offset, length)));
+                offset += length;
+            }
+            assertTrue(decompressor.isEOS());
+
+            BytesStreamOutput decompressed = new BytesStreamOutput();
+            ReleasableBytesReference reference;
+            while ((reference = decompressor.pollDecompressedPage()) != null) {
+                reference.writeTo(decompressed);
+                reference.close();
+            }
+            assertEquals(4 * numInts, decompressed.size());
+            StreamInput streamInput = decompressed.bytes().streamInput();
+            for (int i = 0; i < numInts; ++i) {
+                assertEquals(i, streamInput.readInt());
+            }
+            decompressor.close();
+        }
+    }
+
+    public void testUnknownCompressor() {
+        BytesReference bytes = new BytesArray(new byte[] { 'N', 'O', 'P', 'E', 0, 0 });
+        IllegalStateException e = expectThrows(IllegalStateException.class, () -> TransportDecompressor.getCompressor(bytes));
+        assertThat(e.getMessage(), startsWith("stream marked as compressed, but no compressor found"));
+        assertNull(TransportDecompressor.getCompressor(bytes.slice(0, 3)));
+    }
 }
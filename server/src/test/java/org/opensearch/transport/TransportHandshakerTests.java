@@ -34,8 +34,10 @@ package org.opensearch.transport;
 import org.opensearch.Version;
 import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.compress.CompressorFactory;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.tasks.TaskId;
 import org.opensearch.test.OpenSearchTestCase;
@@ -98,6 +100,37 @@ public class TransportHandshakerTests extends OpenSearchTestCase {
 
         assertTrue(versionFuture.isDone());
         assertEquals(Version.CURRENT, versionFuture.actionGet());
+        assertEquals(CompressorFactory.getCompressorNames(), handshaker.removeRemoteCompressors(this.channel));
+        assertEquals(Collections.emptySet(), handshaker.removeRemoteCompressors(this.channel));
+    }
+
+    public void testHandshakeWithoutCompressors() throws IOException {
+        PlainActionFuture<Version> versionFuture = PlainActionFuture.newFuture();
+        long reqId = randomLongBetween(1, 10);
+        handshaker.sendHandshake(reqId, node, channel, new TimeValue(30, TimeUnit.SECONDS), versionFuture);
+
+        // a request from a node that does not advertise the compressors it supports
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        TaskId.EMPTY_TASK_ID.writeTo(bytesStreamOutput);
+        try (BytesStreamOutput internalMessage = new BytesStreamOutput()) {
+            Version.writeVersion(Version.CURRENT, internalMessage);
+            bytesStreamOutput.writeBytesReference(internalMessage.bytes());
+        }
+        final PlainActionFuture<TransportResponse> responseFuture = PlainActionFuture.newFuture();
+        handshaker.handleHandshake(new TestTransportChannel(responseFuture), reqId, bytesStreamOutput.bytes().streamInput());
+
+        TransportHandshaker.HandshakeResponse response = (TransportHandshaker.HandshakeResponse) responseFuture.actionGet();
+        assertEquals(Collections.emptySet(), response.getCompressors());
+        // the response must be readable by such a node, which only expects the version
+        BytesStreamOutput responseBytes = new BytesStreamOutput();
+        response.writeTo(responseBytes);
+        StreamInput responseInput = responseBytes.bytes().streamInput();
+        assertEquals(Version.CURRENT, Version.readVersion(responseInput));
+        assertEquals(0, responseInput.available());
+
+        handshaker.removeHandlerForHandshake(reqId).handleResponse(response);
+        assertEquals(Version.CURRENT, versionFuture.actionGet());
+        assertEquals(Collections.emptySet(), handshaker.removeRemoteCompressors(channel));
     }
 
     public void testHandshakeRequestFutureVersionsCompatibility() throws IOException {
@@ -116,6 +149,7 @@ public class TransportHandshakerTests extends OpenSearchTestCase {
         TaskId.EMPTY_TASK_ID.writeTo(futureHandshake);
         try (BytesStreamOutput internalMessage = new BytesStreamOutput()) {
             Version.writeVersion(Version.CURRENT, internalMessage);
+            internalMessage.writeCollection(CompressorFactory.getCompressorNames(), StreamOutput::writeString);
             lengthCheckingHandshake.writeBytesReference(internalMessage.bytes());
             internalMessage.write(new byte[1024]);
             futureHandshake.writeBytesReference(internalMessage.bytes());
@@ -124,7 +158,7 @@ public class TransportHandshakerTests extends OpenSearchTestCase {
         // We check that the handshake we serialize for this test equals the actual request.
         // Otherwise, we need to update the test.
         assertEquals(currentHandshakeBytes.bytes().length(), lengthCheckingHandshake.bytes().length());
-        assertEquals(1031, futureHandshakeStream.available());
+        assertEquals(1044, futureHandshakeStream.available());
         final PlainActionFuture<TransportResponse> responseFuture = PlainActionFuture.newFuture();
         final TestTransportChannel channel = new TestTransportChannel(responseFuture);
         handshaker.handleHandshake(channel, reqId, futureHandshakeStream);
@@ -90,6 +90,7 @@ import org.opensearch.indices.recovery.RecoverySourceHandler;
 import org.opensearch.indices.recovery.RecoveryState;
 import org.opensearch.indices.recovery.RecoveryTarget;
 import org.opensearch.indices.recovery.StartRecoveryRequest;
+import org.opensearch.indices.replication.checkpoint.SegmentReplicationCheckpointPublisher;
 import org.opensearch.repositories.IndexId;
 import org.opensearch.repositories.Repository;
 import org.opensearch.repositories.blobstore.OpenSearchBlobStoreRepositoryIntegTestCase;
@@ -403,6 +404,7 @@ public abstract class IndexShardTestCase extends OpenSearchTestCase {
                     mapperService,
                     similarityService,
                     engineFactory,
+                    null,
                     indexEventListener,
                     indexReaderWrapper,
                     threadPool,
@@ -412,6 +414,8 @@ public abstract class IndexShardTestCase extends OpenSearchTestCase {
                     Arrays.asList(listeners),
                     globalCheckpointSyncer,
                     retentionLeaseSyncer,
+                    SegmentReplicationCheckpointPublisher.EMPTY,
+                    null,
                     breakerService);
             indexShard.addShardFailureCallback(DEFAULT_SHARD_FAILURE_HANDLER);
             success = true;
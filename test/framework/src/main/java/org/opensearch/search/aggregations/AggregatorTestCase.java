@@ -64,6 +64,7 @@ import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.CheckedConsumer;
 import org.opensearch.common.TriFunction;
 import org.opensearch.common.breaker.CircuitBreaker;
+import org.opensearch.common.breaker.NoopCircuitBreaker;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
@@ -84,6 +85,7 @@ import org.opensearch.index.analysis.NamedAnalyzer;
 import org.opensearch.index.cache.bitset.BitsetFilterCache;
 import org.opensearch.index.cache.bitset.BitsetFilterCache.Listener;
 import org.opensearch.index.cache.query.DisabledQueryCache;
+import org.opensearch.index.codec.startree.StarTreeCache;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.IndexFieldDataCache;
 import org.opensearch.index.fielddata.IndexFieldDataService;
@@ -312,6 +314,7 @@ public abstract class AggregatorTestCase extends OpenSearchTestCase {
         when(searchContext.bitsetFilterCache()).thenReturn(new BitsetFilterCache(indexSettings, mock(Listener.class)));
         IndexShard indexShard = mock(IndexShard.class);
         when(indexShard.shardId()).thenReturn(new ShardId("test", "test", 0));
+        when(indexShard.starTreeCache()).thenReturn(new StarTreeCache(Long.MAX_VALUE, new NoopCircuitBreaker(CircuitBreaker.FIELDDATA)));
         when(searchContext.indexShard()).thenReturn(indexShard);
         when(searchContext.aggregations())
             .thenReturn(new SearchContextAggregations(AggregatorFactories.EMPTY, bucketConsumer));
@@ -477,8 +480,13 @@ public abstract class AggregatorTestCase extends OpenSearchTestCase {
             }
         } else {
             root.preCollection();
-            searcher.search(rewritten, root);
-            root.postCollection();
+            BucketCollector collector = root;
+            if (root.scoreMode().needsScores() == false && randomBoolean()) {
+                // hand the docs to the aggregator in blocks, like the aggregation phase does
+                collector = new BatchingBucketCollector(root);
+            }
+            searcher.search(rewritten, collector);
+            collector.postCollection();
             aggs.add(root.buildTopLevel());
         }
 